@@ -0,0 +1,151 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+// 20261017 [cg]:	Measure the scene's embers and spotlight, not Things.
+//
+//******************************************************************************
+// Notes:
+//
+// Builds a scene like View.initScene() from the homework06 node classes
+// (skycan, spotlight, logs, and an emitter of embers) and runs its per-frame
+// loop of update, step the embers, enable lights, render through a
+// RenderQueue, draw the embers, and disable lights against a CountingGL.
+// After warming up, measures the bytes the thread allocates per frame with
+// ThreadMXBean.getThreadAllocatedBytes(), which should be zero.
+//
+// The text overlay in View.drawMode() isn't part of the loop. It formats
+// strings every frame.
+//
+// Usage: AnimationAllocation [embers per second] [frames]
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import java.lang.management.ManagementFactory;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.util.texture.Texture;
+import edu.ou.cs.cg.assignment.homework06.View;
+import edu.ou.cs.cg.utilities.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>AnimationAllocation</CODE> class measures allocation in the
+ * homework06 animation loop.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class AnimationAllocation
+{
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv)
+	{
+		float	rate = ((argv.length > 0) ? Float.parseFloat(argv[0]) : 600.0f);
+		int	frames = ((argv.length > 1) ? Integer.parseInt(argv[1]) : 10000);
+
+		com.sun.management.ThreadMXBean	bean =
+			(com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+
+		if (!bean.isThreadAllocatedMemorySupported())
+		{
+			System.out.println("  Allocation measurement not supported");
+			return;
+		}
+
+		bean.setThreadAllocatedMemoryEnabled(true);
+
+		CountingGL		counter = new CountingGL();
+		GL2				gl = counter.getGL();
+		ParticleSystem	embers = new ParticleSystem(100000);	// As in View
+		Node			root = createScene(embers, rate);
+		RenderQueue		queue = new RenderQueue();
+		long			id = Thread.currentThread().getId();
+
+		Node.setCulling(false);		// A CountingGL has no real matrices
+
+		for (int pass=0; pass<3; pass++)			// Warm up twice
+		{
+			long	b0 = bean.getThreadAllocatedBytes(id);
+
+			for (int f=0; f<frames; f++)
+			{
+				root.update(gl);
+				embers.step();
+				root.enable(gl);
+				queue.render(gl, root);
+				embers.draw(gl);
+				root.disable(gl);
+			}
+
+			long	b1 = bean.getThreadAllocatedBytes(id);
+
+			// The bean itself allocates a little per call
+			long	b2 = bean.getThreadAllocatedBytes(id);
+			long	bytes = (b1 - b0) - (b2 - b1);
+
+			System.out.printf("  pass %d: %8.2f bytes/frame over %d frames, " +
+							  "%d nodes, %d embers %s%n", pass,
+							  bytes / (double)frames, frames, queue.getCount(),
+							  embers.getCount(),
+							  ((pass < 2) ? "(warmup)" :
+							   Check.status(bytes <= 0)));
+		}
+
+		Check.exit();
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	// The stage, logs, and emitter like View.initScene().
+	private static Node	createScene(ParticleSystem embers, float rate)
+	{
+		Texture[]	textures = new Texture[5];			// Wrap made-up ids
+
+		for (int i=0; i<textures.length; i++)
+			textures[i] = new Texture(i + 1, GL.GL_TEXTURE_2D,
+									  64, 64, 64, 64, false);
+
+		Node	root = new Node();
+
+		root.add(new View.Skycan(textures));
+		root.add(new View.Spotlight());
+
+		float[][]	emits = new float[][]
+		{
+			{ 0.8f, 0.6f, 0.0f, 1.0f },
+			{ 0.4f, 1.0f, 0.4f, 1.0f },
+			{ 0.3f, 0.3f, 1.0f, 1.0f },
+		};
+
+		for (int i=0; i<emits.length; i++)
+		{
+			View.Log	log = new View.Log(textures, 4 + 6 * i, emits[i]);
+
+			log.pushTransform(new Transform.Scale(0.12f, 0.5f, 0.11f));
+			log.pushTransform(new Transform.Rotate(1.0f, 1.0f, 0.0f, 70.0f));
+			log.pushTransform(new Transform.Translate(-0.1f * i, 0.45f, 0.0f));
+			root.add(log);
+		}
+
+		Emitter	emitter = new Emitter(embers, rate);
+
+		emitter.setRadius(0.2f);
+		emitter.pushTransform(new Transform.Translate(0.0f, 0.4f, 0.4f));
+		root.add(emitter);
+
+		return root;
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,190 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Packs the homework06 images into a TextureAtlas and reports its size, how
+// much of it the images cover, and the time to pack it and build its
+// mipmaps. Checks that the regions lie inside the atlas without overlapping.
+//
+// Then draws a skycan and many logs through a RenderQueue against a
+// CountingGL, once with a texture per image and once with the atlas
+// regions, and compares the texture binds per frame.
+//
+// Usage: AtlasPacking [logs] [frames]
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import java.net.URL;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.util.texture.*;
+import edu.ou.cs.cg.assignment.homework06.View;
+import edu.ou.cs.cg.utilities.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>AtlasPacking</CODE> class benchmarks a TextureAtlas.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class AtlasPacking
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final String[]		FILENAMES =
+	{
+		"mountain-walls.jpg",
+		"moon-ceiling.jpg",
+		"rock-floor.jpg",
+		"log-ends.jpg",
+		"log-side.jpg",
+	};
+
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv) throws Exception
+	{
+		int	logs = ((argv.length > 0) ? Integer.parseInt(argv[0]) : 1000);
+		int	frames = ((argv.length > 1) ? Integer.parseInt(argv[1]) : 100);
+
+		TextureData[]	images = new TextureData[FILENAMES.length];
+
+		for (int i=0; i<images.length; i++)
+		{
+			URL	url = View.class.getResource("images/" + FILENAMES[i]);
+
+			images[i] = TextureIO.newTextureData(null, url, GL.GL_RGB,
+												 GL.GL_RGB, false,
+												 TextureIO.JPG);
+		}
+
+		CountingGL		counter = new CountingGL();
+		GL2				gl = counter.getGL();
+		Texture			texture = new Texture(gl, images[3]);
+		TextureAtlas	atlas = new TextureAtlas(texture, images.length);
+
+		atlas.pack(images);								// Warmup
+
+		long		t0 = System.nanoTime();
+		TextureData	data = atlas.pack(images);
+		long		t1 = System.nanoTime();
+
+		atlas.update(gl, data);
+
+		long	pixels = 0;
+
+		for (TextureData image : images)
+			pixels += (long)image.getWidth() * image.getHeight();
+
+		System.out.printf("  atlas %dx%d  %d levels  %.1f%% covered  " +
+						  "(%.1f MB of images in %.1f MB)  pack %.1f ms  %s%n",
+						  atlas.getWidth(), atlas.getHeight(),
+						  data.getMipmapData().length,
+						  100.0f * atlas.getEfficiency(), pixels * 3 / 1.0e6,
+						  atlas.getWidth() * (long)atlas.getHeight() * 3 / 1.0e6,
+						  (t1 - t0) / 1.0e6, Check.status(check(atlas)));
+
+		// Binds with a texture per image, then with the atlas regions
+		Texture[]	separate = new Texture[images.length];
+
+		for (int i=0; i<separate.length; i++)
+			separate[i] = new Texture(100 + i, GL.GL_TEXTURE_2D,
+									  64, 64, 64, 64, false);
+
+		run("separate", counter, createScene(separate, logs), frames);
+		run("atlas", counter, createScene(atlas.getRegions(), logs), frames);
+		Check.exit();
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	// Regions must be inside the atlas and apart from each other.
+	private static boolean	check(TextureAtlas atlas)
+	{
+		int	n = atlas.getCount();
+
+		for (int i=0; i<n; i++)
+		{
+			TextureCoords	a = atlas.getRegion(i).getImageTexCoords();
+
+			if ((Math.min(a.left(), a.right()) < 0.0f) ||
+				(Math.max(a.left(), a.right()) > 1.0f) ||
+				(Math.min(a.bottom(), a.top()) < 0.0f) ||
+				(Math.max(a.bottom(), a.top()) > 1.0f))
+				return false;
+
+			for (int j=0; j<i; j++)
+			{
+				TextureCoords	b = atlas.getRegion(j).getImageTexCoords();
+
+				if (overlap(a.left(), a.right(), b.left(), b.right()) &&
+					overlap(a.bottom(), a.top(), b.bottom(), b.top()))
+					return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean	overlap(float a0, float a1, float b0, float b1)
+	{
+		return ((Math.max(a0, a1) > Math.min(b0, b1)) &&
+				(Math.max(b0, b1) > Math.min(a0, a1)));
+	}
+
+	private static Node	createScene(Texture[] textures, int logs)
+	{
+		Node	root = new Node();
+		int		side = (int)Math.ceil(Math.sqrt(logs));
+
+		root.add(new View.Skycan(textures));
+
+		for (int i=0; i<logs; i++)
+		{
+			View.Log	log = new View.Log(textures, 16, null);
+
+			log.pushTransform(new Transform.Scale(0.1f, 0.4f, 0.1f));
+			log.pushTransform(new Transform.Translate(i % side, 0.3f,
+													  i / side));
+			root.add(log);
+		}
+
+		return root;
+	}
+
+	private static void	run(String label, CountingGL counter, Node root,
+							int frames)
+	{
+		RenderQueue	queue = new RenderQueue();
+
+		Node.setCulling(false);		// A CountingGL has no real matrices
+		queue.render(counter.getGL(), root);			// Warmup
+		counter.reset();
+
+		for (int f=0; f<frames; f++)
+			queue.render(counter.getGL(), root);
+
+		System.out.printf("  %-8s  %6d binds/frame for %d nodes, " +
+						  "%d texture changes%n", label,
+						  counter.getCount("glBindTexture") / frames,
+						  queue.getCount(), queue.getTextureChanges());
+	}
+}
+
+//******************************************************************************
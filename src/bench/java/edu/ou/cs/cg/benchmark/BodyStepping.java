@@ -0,0 +1,173 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Times a ReflectionEngine stepping many bodies inside a regular hexagon,
+// with one thread and with one per processor, and reports body-steps per
+// millisecond. Before timing, checks that one body follows the same path as
+// the point in an offscreen reflect2 View, and that the two thread counts
+// give the same positions to the bit.
+//
+// Usage: BodyStepping [max bodies] [steps]
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import java.awt.geom.Point2D;
+import edu.ou.cs.cg.application.reflect2.View;
+import edu.ou.cs.cg.utilities.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>BodyStepping</CODE> class benchmarks a ReflectionEngine.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class BodyStepping
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final long		SEED = 1L;
+	private static final double	SPEED = Math.sqrt(2.0) / 120.0;	// reflect2
+	private static final int		CHECKS = 10000;		// Steps checked
+
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv)
+	{
+		int	max = ((argv.length > 0) ? Integer.parseInt(argv[0]) : 1000000);
+		int	steps = ((argv.length > 1) ? Integer.parseInt(argv[1]) : 200);
+		int	threads = Runtime.getRuntime().availableProcessors();
+
+		PackedPolygon	hexagon = createHexagon();
+
+		checkPath(hexagon);
+		checkThreads(hexagon, Math.min(max, 100000), Math.max(2, threads));
+
+		for (int pass=0; pass<2; pass++)			// First pass is warmup
+		{
+			System.out.println((pass == 0) ? "Warmup:" : "Measured:");
+
+			for (int n=1000; n<=max; n*=10)
+			{
+				run(hexagon, n, steps, 1);
+
+				if (threads > 1)
+					run(hexagon, n, steps, threads);
+			}
+		}
+
+		System.exit(0);							// Stop SoftwareDrawable pools
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static PackedPolygon	createHexagon()
+	{
+		double[]	xs = new double[6];
+		double[]	ys = new double[6];
+
+		for (int i=0; i<6; i++)
+		{
+			xs[i] = Math.cos(i * Math.PI / 3.0);
+			ys[i] = Math.sin(i * Math.PI / 3.0);
+		}
+
+		return new PackedPolygon(xs, ys);
+	}
+
+	// One body against the reflect2 View's point, with its starting vector.
+	private static void	checkPath(PackedPolygon hexagon)
+	{
+		View				view = new View(new SoftwareDrawable(64, 64, 1));
+		ReflectionEngine	engine = new ReflectionEngine(hexagon, 1);
+		Point2D.Double		q = new Point2D.Double(0.1, 0.2);
+
+		engine.reset(1, SEED, SPEED);
+		engine.setBody(0, q.x, q.y, 1.0 / View.DEFAULT_FRAMES_PER_SECOND,
+					   1.0 / View.DEFAULT_FRAMES_PER_SECOND);
+
+		for (int i=0; i<CHECKS; i++)
+		{
+			view.updatePointWithReflection(hexagon, q);
+			engine.step();
+
+			if ((q.x != engine.getX(0)) || (q.y != engine.getY(0)))
+				throw new IllegalStateException("Path differs at step " + i);
+
+			if ((i & 1023) == 1023)
+				view.clearAllTrace();
+		}
+
+		engine.dispose();
+		System.out.println("Checked " + CHECKS + " steps against reflect2");
+	}
+
+	// The same bodies stepped with one thread and with several.
+	private static void	checkThreads(PackedPolygon hexagon, int n,
+									 int threads)
+	{
+		ReflectionEngine	e1 = new ReflectionEngine(hexagon, 1);
+		ReflectionEngine	e2 = new ReflectionEngine(hexagon, threads);
+
+		e1.reset(n, SEED, SPEED);
+		e2.reset(n, SEED, SPEED);
+
+		for (int i=0; i<100; i++)
+		{
+			e1.step();
+			e2.step();
+		}
+
+		for (int i=0; i<n; i++)
+			if ((Double.doubleToLongBits(e1.getX(i)) !=
+				 Double.doubleToLongBits(e2.getX(i))) ||
+				(Double.doubleToLongBits(e1.getY(i)) !=
+				 Double.doubleToLongBits(e2.getY(i))))
+				throw new IllegalStateException("Threads differ at body " + i);
+
+		e1.dispose();
+		e2.dispose();
+		System.out.println("Checked " + n + " bodies with 1 and " + threads +
+						   " threads");
+	}
+
+	private static void	run(PackedPolygon hexagon, int n, int steps,
+							int threads)
+	{
+		ReflectionEngine	engine = new ReflectionEngine(hexagon, threads);
+
+		engine.reset(n, SEED, SPEED);
+
+		long	t0 = System.nanoTime();
+
+		for (int i=0; i<steps; i++)
+			engine.step();
+
+		long	t1 = System.nanoTime();
+		double	ms = (t1 - t0) / 1.0e6;
+
+		System.out.printf("  %8d bodies %2d threads %10.3f ms/step " +
+						  "%12.0f body-steps/ms%n", n, threads, ms / steps,
+						  (double)n * steps / ms);
+
+		engine.dispose();
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,306 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Scatters logs over the xz plane, then casts rays through random pixels of
+// a perspective camera and looks up random points, with a BoundsHierarchy
+// and by testing every node. Checks that both find the same hits, including
+// after moving some logs and refitting, and reports the time per query. Logs
+// are moved different numbers of times before the build too, so that a
+// refit that mixes up their versions misses some of the later moves.
+//
+// Usage: BoundsPicking [nodes] [queries]
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import java.util.*;
+import edu.ou.cs.cg.utilities.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>BoundsPicking</CODE> class benchmarks BoundsHierarchy queries.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class BoundsPicking
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final Random	RANDOM = new Random(17);
+
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv)
+	{
+		int	n = ((argv.length > 0) ? Integer.parseInt(argv[0]) : 40000);
+		int	q = ((argv.length > 1) ? Integer.parseInt(argv[1]) : 2000);
+
+		List<Log>	logs = new ArrayList<Log>();
+		Node		root = createScene(n, logs);
+		float		side = (float)Math.sqrt(n);
+
+		BoundsHierarchy	bvh = new BoundsHierarchy();
+
+		// Move logs up to three times each before building, so that their
+		// versions differ and refit() has to match them up after split()
+		// reorders them. Building brings the versions up to date.
+		for (int k=0; k<3; k++)
+		{
+			for (int i=0; i<logs.size(); i++)
+				if (RANDOM.nextInt(3) > k)
+					move(logs.get(i), side);
+
+			bvh.build(root);
+		}
+
+		long	t0 = System.nanoTime();
+
+		bvh.build(root);
+
+		long	t1 = System.nanoTime();
+
+		System.out.printf("  build %d nodes  %8.3f ms%n", bvh.getCount(),
+						  (t1 - t0) / 1.0e6);
+
+		float[][]	rays = createRays(q, side);
+
+		for (int pass=0; pass<2; pass++)			// First pass is warmup
+			run(pass == 1, bvh, logs, rays, side);
+
+		// Move one log in a hundred and refit
+		for (int i=0; i<logs.size(); i+=100)
+			move(logs.get(i), side);
+
+		long	t2 = System.nanoTime();
+		int		changed = bvh.refit();
+		long	t3 = System.nanoTime();
+
+		int		expected = (logs.size() + 99) / 100;
+
+		System.out.printf("  refit %d moved   %8.3f ms %s%n", changed,
+						  (t3 - t2) / 1.0e6,
+						  Check.status(changed == expected, "of " + expected));
+
+		run(true, bvh, logs, rays, side);
+		Check.exit();
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	// Logs at random spots, each lying on its side at a random angle.
+	private static Node	createScene(int n, List<Log> logs)
+	{
+		Node	root = new Node();
+		float	side = (float)Math.sqrt(n);
+
+		for (int i=0; i<n; i++)
+		{
+			Log	log = new Log();
+
+			log.pushTransform(new Transform.Scale(0.1f, 0.4f, 0.1f));
+			log.pushTransform(new Transform.Rotate(0.0f, 0.0f, 1.0f, 90.0f));
+			log.pushTransform(new Transform.Rotate(0.0f, 1.0f, 0.0f,
+												   360.0f * RANDOM.nextFloat()));
+			log.pushTransform(new Transform.Translate(
+				side * RANDOM.nextFloat(), 0.3f, side * RANDOM.nextFloat()));
+
+			root.add(log);
+			logs.add(log);
+		}
+
+		return root;
+	}
+
+	// Puts a log somewhere else, at the same angle.
+	private static void	move(Log log, float side)
+	{
+		log.popTransform();
+		log.pushTransform(new Transform.Translate(
+			side * RANDOM.nextFloat(), 0.3f, side * RANDOM.nextFloat()));
+	}
+
+	// Rays through random pixels of a 640x480 view from above one corner,
+	// each as origin x, y, z then direction x, y, z.
+	private static float[][]	createRays(int q, float side)
+	{
+		float[]	projection = new float[16];
+		float[]	modelview = new float[16];
+		float[]	m = new float[16];
+		int[]	viewport = new int[] { 0, 0, 640, 480 };
+		float[]	near = new float[3];
+		float[]	far = new float[3];
+
+		Matrix.perspective(projection, 45.0f, 640.0f / 480.0f, 0.1f, 500.0f);
+		Matrix.lookAt(modelview, -2.0f, 6.0f, -2.0f,
+					  side * 0.5f, 0.0f, side * 0.5f, 0.0f, 1.0f, 0.0f);
+		Matrix.multiply(projection, modelview, m);
+		Matrix.invert(m, m);
+
+		float[][]	rays = new float[q][6];
+
+		for (int i=0; i<q; i++)
+		{
+			float	x = 640.0f * RANDOM.nextFloat();
+			float	y = 480.0f * RANDOM.nextFloat();
+
+			Matrix.unproject(m, viewport, x, y, 0.0f, near);
+			Matrix.unproject(m, viewport, x, y, 1.0f, far);
+
+			for (int c=0; c<3; c++)
+			{
+				rays[i][c] = near[c];
+				rays[i][3 + c] = far[c] - near[c];
+			}
+		}
+
+		return rays;
+	}
+
+	private static void	run(boolean report, BoundsHierarchy bvh,
+							List<Log> logs, float[][] rays, float side)
+	{
+		float[]	o = new float[3];
+		float[]	d = new float[3];
+		float[]	hits = new float[rays.length];
+		int		found = 0;
+		int		mismatches = 0;
+
+		long	t0 = System.nanoTime();
+
+		for (int i=0; i<rays.length; i++)
+		{
+			split(rays[i], o, d);
+
+			if (bvh.raycast(o, d) != null)
+				found++;
+
+			hits[i] = bvh.getDistance();
+		}
+
+		long	t1 = System.nanoTime();
+
+		for (int i=0; i<rays.length; i++)
+		{
+			split(rays[i], o, d);
+
+			if (Math.abs(brute(logs, o, d) - hits[i]) > 1.0e-6f)
+				mismatches++;
+		}
+
+		long	t2 = System.nanoTime();
+
+		// Point queries at log height
+		int			points = rays.length;
+		List<Node>	out = new ArrayList<Node>();
+		int			inside = 0;
+		float[]		box = new float[6];
+
+		long	t3 = System.nanoTime();
+
+		for (int i=0; i<points; i++)
+		{
+			out.clear();
+			bvh.query(side * (i % 97) / 97.0f, 0.3f,
+					  side * (i % 89) / 89.0f, out);
+			inside += out.size();
+		}
+
+		long	t4 = System.nanoTime();
+
+		for (int i=0; i<points; i++)
+		{
+			float	x = side * (i % 97) / 97.0f;
+			float	z = side * (i % 89) / 89.0f;
+
+			for (Log log : logs)
+			{
+				log.getOwnBounds(box);
+
+				if ((box[0] <= x) && (x <= box[3]) && (box[1] <= 0.3f) &&
+					(0.3f <= box[4]) && (box[2] <= z) && (z <= box[5]))
+					inside--;
+			}
+		}
+
+		long	t5 = System.nanoTime();
+
+		if (!report)
+			return;
+
+		System.out.printf("  raycast  bvh %8.2f us  brute %8.2f us  " +
+						  "%d/%d hit %s%n", (t1 - t0) / 1.0e3 / rays.length,
+						  (t2 - t1) / 1.0e3 / rays.length, found, rays.length,
+						  Check.status(mismatches == 0, "" + mismatches));
+		System.out.printf("  query    bvh %8.2f us  brute %8.2f us  %s%n",
+						  (t4 - t3) / 1.0e3 / points,
+						  (t5 - t4) / 1.0e3 / points,
+						  Check.status(inside == 0, "" + inside));
+	}
+
+	private static void	split(float[] ray, float[] o, float[] d)
+	{
+		System.arraycopy(ray, 0, o, 0, 3);
+		System.arraycopy(ray, 3, d, 0, 3);
+	}
+
+	// Nearest box entry distance in front of the origin, testing every node.
+	private static float	brute(List<Log> logs, float[] o, float[] d)
+	{
+		float[]	box = new float[6];
+		float	best = Float.POSITIVE_INFINITY;
+
+		for (Log log : logs)
+		{
+			log.getOwnBounds(box);
+
+			float	tmin = Float.NEGATIVE_INFINITY;
+			float	tmax = Float.POSITIVE_INFINITY;
+
+			for (int c=0; c<3; c++)
+			{
+				float	inv = 1.0f / d[c];
+				float	t0 = (box[c] - o[c]) * inv;
+				float	t1 = (box[3 + c] - o[c]) * inv;
+
+				tmin = Math.max(tmin, Math.min(t0, t1));
+				tmax = Math.min(tmax, Math.max(t0, t1));
+			}
+
+			if ((tmax >= tmin) && (tmin >= 0.0f) && (tmin < best))
+				best = tmin;
+		}
+
+		return best;
+	}
+
+	//**********************************************************************
+	// Private Inner Classes
+	//**********************************************************************
+
+	// Has the bounds of a homework06 log. Never drawn here.
+	private static final class Log extends Node
+	{
+		public Log()
+		{
+			setBounds(new float[] { -1.0f, -1.0f, -1.0f, 1.0f, 1.0f, 1.0f });
+		}
+	}
+}
+
+//******************************************************************************
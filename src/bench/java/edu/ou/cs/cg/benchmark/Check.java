@@ -0,0 +1,74 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Counts the checks that benchmarks print as "ok" or "FAILED" before or while
+// timing. A benchmark calls exit() at the end of main(), which exits with
+// status 1 if any check failed, so that scripts and the Gradle build notice.
+// Checks that can't go on after failing throw an exception instead.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>Check</CODE> class makes failed benchmark checks fail the run.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class Check
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static int		failures;
+
+	//**********************************************************************
+	// Public Class Methods
+	//**********************************************************************
+
+	// Returns "ok" if the check passed, otherwise "FAILED", and counts it.
+	public static String	status(boolean ok)
+	{
+		return status(ok, null);
+	}
+
+	// Like status(boolean), adding what was found to "FAILED" if given.
+	public static String	status(boolean ok, String found)
+	{
+		if (ok)
+			return "ok";
+
+		failures++;
+
+		return ((found == null) ? "FAILED" : "FAILED " + found);
+	}
+
+	public static int		getFailures()
+	{
+		return failures;
+	}
+
+	// Exits with status 1 if any check has failed, otherwise returns.
+	public static void	exit()
+	{
+		if (failures == 0)
+			return;
+
+		System.out.println(failures + " check(s) FAILED");
+		System.exit(1);
+	}
+}
+
+//******************************************************************************
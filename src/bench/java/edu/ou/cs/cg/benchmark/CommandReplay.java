@@ -0,0 +1,224 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Records one frame of a homework06 scene (the camera, lights, then the
+// nodes, drawn without culling) with a RecordingGL and prints its call
+// histogram. Checks that replaying the buffer into a second RecordingGL
+// records the same calls in the same bytes, and that replaying it into a
+// SoftwareGL draws the same image as drawing the scene into one directly.
+// Then compares drawing the scene each frame with replaying the buffer, both
+// into a CountingGL.
+//
+// A RecordingGL reports no functions as available, so meshes record in
+// immediate mode, without buffer objects whose names it can't give out. A
+// CountingGL reports all of them, so drawing into it uses buffers and makes
+// far fewer calls. Replays also resend the material and light values that
+// Lighting skips as redundant when drawing into the same GL again.
+//
+// Usage: CommandReplay [things] [frames]
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import java.awt.image.BufferedImage;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.util.texture.Texture;
+import edu.ou.cs.cg.assignment.homework06.View;
+import edu.ou.cs.cg.utilities.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>CommandReplay</CODE> class benchmarks replaying recorded GL
+ * calls.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class CommandReplay
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int		W = 320;			// Image size
+	private static final int		H = 240;
+
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv)
+	{
+		int	things = ((argv.length > 0) ? Integer.parseInt(argv[0]) : 50);
+		int	frames = ((argv.length > 1) ? Integer.parseInt(argv[1]) : 2000);
+
+		Node	root = createScene(things);
+
+		Node.setCulling(false);		// A CountingGL has no real matrices
+
+		RecordingGL	recorder = new RecordingGL();
+
+		draw(root, recorder);
+
+		CommandBuffer	buffer = recorder.getBuffer();
+		RecordingGL		copy = new RecordingGL();
+
+		buffer.replay(copy);
+
+		System.out.print(buffer.report());
+		System.out.printf("  %d calls not recorded%n",
+						  recorder.getSkippedCount());
+		System.out.println("  Replayed into a RecordingGL: " +
+						   Check.status((copy.getBuffer().size() ==
+										 buffer.size()) &&
+										(copy.getBuffer().getByteCount() ==
+										 buffer.getByteCount())));
+
+		checkImage(root, buffer);
+
+		for (int pass=0; pass<2; pass++)			// First pass is warmup
+		{
+			System.out.println((pass == 0) ? "Warmup:" : "Measured:");
+			run("draw  ", root, null, frames);
+			run("replay", root, buffer, frames);
+		}
+
+		Check.exit();
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	// One frame of the homework06 loop, without updating, from the View's
+	// starting camera.
+	private static void	draw(Node root, GL2 gl)
+	{
+		float[]	projection = new float[16];
+		float[]	camera = new float[16];
+
+		Matrix.perspective(projection, 45.0f, (float)W / H, 0.1f, 50.0f);
+		Matrix.lookAt(camera, 2.0f, 1.0f, 2.0f,
+					  0.0f, 0.5f, 0.0f, 0.0f, 1.0f, 0.0f);
+
+		gl.glClearColor(0.0f, 0.0f, 0.0f, 0.0f);
+		gl.glClear(GL.GL_COLOR_BUFFER_BIT | GL.GL_DEPTH_BUFFER_BIT);
+		gl.glEnable(GL.GL_DEPTH_TEST);
+
+		gl.glMatrixMode(GL2.GL_PROJECTION);
+		gl.glLoadMatrixf(projection, 0);
+		gl.glMatrixMode(GL2.GL_MODELVIEW);
+		gl.glLoadMatrixf(camera, 0);
+
+		root.enable(gl);
+		root.render(gl);
+		root.disable(gl);
+	}
+
+	// Draws the scene into one SoftwareGL and replays the buffer into
+	// another. Node.render() reads back the modelview matrix while recording,
+	// so the images only match if the RecordingGL tracked it.
+	private static void	checkImage(Node root, CommandBuffer buffer)
+	{
+		SoftwareGL	direct = new SoftwareGL(W, H, 1);
+		SoftwareGL	replayed = new SoftwareGL(W, H, 1);
+
+		draw(root, direct);
+		buffer.replay(replayed);
+
+		BufferedImage	a = direct.getImage();
+		BufferedImage	b = replayed.getImage();
+		int				drawn = 0;
+		int				differ = 0;
+
+		for (int y=0; y<H; y++)
+		{
+			for (int x=0; x<W; x++)
+			{
+				if ((a.getRGB(x, y) & 0xFFFFFF) != 0)
+					drawn++;
+
+				if (a.getRGB(x, y) != b.getRGB(x, y))
+					differ++;
+			}
+		}
+
+		direct.dispose();
+		replayed.dispose();
+
+		System.out.printf("  Replayed into a SoftwareGL: %d of %d pixels " +
+						  "drawn, %d differ %s%n", drawn, W * H, differ,
+						  Check.status((drawn > 0) && (differ == 0)));
+	}
+
+	private static void	run(String label, Node root, CommandBuffer buffer,
+							int frames)
+	{
+		CountingGL	counter = new CountingGL();
+		GL2			gl = counter.getGL();
+		long			t0 = System.nanoTime();
+
+		for (int i=0; i<frames; i++)
+		{
+			if (buffer != null)
+				buffer.replay(gl);
+			else
+				draw(root, gl);
+		}
+
+		long	t1 = System.nanoTime();
+
+		System.out.printf("  %s %10.3f ms/frame %10d GL calls/frame%n", label,
+						  (t1 - t0) / 1.0e6 / frames,
+						  counter.getTotal() / frames);
+	}
+
+	// The stage and logs like View.initScene(), plus many things.
+	private static Node	createScene(int things)
+	{
+		Texture[]	textures = new Texture[5];			// Wrap made-up ids
+
+		for (int i=0; i<textures.length; i++)
+			textures[i] = new Texture(i + 1, GL.GL_TEXTURE_2D,
+									  64, 64, 64, 64, false);
+
+		Node	root = new Node();
+
+		root.add(new View.Skycan(textures));
+		root.add(new View.Spotlight());
+
+		float[][]	emits = new float[][]
+		{
+			{ 0.8f, 0.6f, 0.0f, 1.0f },
+			{ 0.4f, 1.0f, 0.4f, 1.0f },
+			{ 0.3f, 0.3f, 1.0f, 1.0f },
+		};
+
+		for (int i=0; i<emits.length; i++)
+		{
+			View.Log	log = new View.Log(textures, 4 + 6 * i, emits[i]);
+
+			log.pushTransform(new Transform.Scale(0.12f, 0.5f, 0.11f));
+			log.pushTransform(new Transform.Rotate(1.0f, 1.0f, 0.0f, 70.0f));
+			log.pushTransform(new Transform.Translate(-0.1f * i, 0.45f, 0.0f));
+			root.add(log);
+		}
+
+		for (int i=0; i<things; i++)
+			root.add(new View.Thing(0.5f, 0.05f));
+
+		return root;
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,183 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// A stand-in for GL2 that doesn't need an OpenGL context. Every call is
+// counted and otherwise ignored. Counting doesn't allocate. All functions
+// report as available, so code takes its buffered paths. Texture and buffer
+// names are handed out in sequence, since JOGL's Texture rejects a zero name.
+// Shaders and programs get names too, and always compile and link.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import java.util.*;
+import com.jogamp.opengl.GL2;
+import edu.ou.cs.cg.utilities.GL2Stub;
+
+//******************************************************************************
+
+/**
+ * The <CODE>CountingGL</CODE> class counts the calls made on it.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class CountingGL extends GL2Stub
+{
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private final int[]	counts;		// Calls by method id
+	private long			total;		// Calls of all methods
+	private int			names;		// Last object name handed out
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	public CountingGL()
+	{
+		counts = new int[METHOD_COUNT];
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public GL2		getGL()
+	{
+		return this;
+	}
+
+	public long	getTotal()
+	{
+		return total;
+	}
+
+	// Calls of all methods with the given name, regardless of parameters.
+	public int		getCount(String name)
+	{
+		int	n = 0;
+
+		for (int id=0; id<METHOD_COUNT; id++)
+			if (getSignature(id).startsWith(name + "("))
+				n += counts[id];
+
+		return n;
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	public void	reset()
+	{
+		Arrays.fill(counts, 0);
+		total = 0;
+	}
+
+	// Lists the counts from most to least called.
+	public String	report()
+	{
+		List<Integer>	ids = new ArrayList<Integer>();
+
+		for (int id=0; id<METHOD_COUNT; id++)
+			if (counts[id] > 0)
+				ids.add(id);
+
+		Collections.sort(ids, new Comparator<Integer>()
+			{
+				public int	compare(Integer a, Integer b)
+				{
+					return Integer.compare(counts[b], counts[a]);
+				}
+			});
+
+		StringBuilder	sb = new StringBuilder();
+
+		for (int id : ids)
+			sb.append(String.format("%10d  %s%n", counts[id], getSignature(id)));
+
+		return sb.toString();
+	}
+
+	//**********************************************************************
+	// Override Methods (GL2Stub)
+	//**********************************************************************
+
+	protected boolean	call(int id)
+	{
+		counts[id]++;
+		total++;
+
+		return false;
+	}
+
+	//**********************************************************************
+	// Override Methods (GL2)
+	//**********************************************************************
+
+	public boolean	isFunctionAvailable(String name)
+	{
+		return true;
+	}
+
+	public boolean	isExtensionAvailable(String name)
+	{
+		return true;
+	}
+
+	public void	glGenTextures(int n, int[] textures, int offset)
+	{
+		super.glGenTextures(n, textures, offset);
+
+		for (int i=0; i<n; i++)
+			textures[offset + i] = ++names;
+	}
+
+	public void	glGenBuffers(int n, int[] buffers, int offset)
+	{
+		super.glGenBuffers(n, buffers, offset);
+
+		for (int i=0; i<n; i++)
+			buffers[offset + i] = ++names;
+	}
+
+	public int		glCreateShader(int type)
+	{
+		super.glCreateShader(type);
+
+		return ++names;
+	}
+
+	public int		glCreateProgram()
+	{
+		super.glCreateProgram();
+
+		return ++names;
+	}
+
+	public void	glGetShaderiv(int shader, int pname, int[] params, int offset)
+	{
+		super.glGetShaderiv(shader, pname, params, offset);
+		params[offset] = 1;					// Compiled, and any log is empty
+	}
+
+	public void	glGetProgramiv(int program, int pname, int[] params,
+							   int offset)
+	{
+		super.glGetProgramiv(program, pname, params, offset);
+		params[offset] = 1;					// Linked
+	}
+}
+
+//******************************************************************************
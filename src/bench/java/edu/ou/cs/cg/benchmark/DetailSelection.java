@@ -0,0 +1,202 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Draws a forest of 64-sided logs against a CountingGL with the camera at
+// one corner and reports the triangles per frame with levels of detail
+// against the triangles with every log at full detail, and the time per
+// frame. Then jitters the camera back and forth a little across a level
+// limit of one log to count how often it switches levels, and sets a
+// triangle budget on the forest to see how many frames the budget takes to
+// settle.
+//
+// Usage: DetailSelection [logs] [frames]
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.util.texture.Texture;
+import edu.ou.cs.cg.assignment.homework06.View;
+import edu.ou.cs.cg.utilities.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>DetailSelection</CODE> class benchmarks LevelOfDetail.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class DetailSelection
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int		SIDES = 64;
+	private static final int		HEIGHT = 720;		// Viewport, pixels
+
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv)
+	{
+		int	logs = ((argv.length > 0) ? Integer.parseInt(argv[0]) : 20000);
+		int	frames = ((argv.length > 1) ? Integer.parseInt(argv[1]) : 50);
+
+		CountingGL	counter = new CountingGL();
+		GL2			gl = counter.getGL();
+		Texture[]	textures = new Texture[5];
+
+		for (int i=0; i<textures.length; i++)
+			textures[i] = new Texture(100 + i, GL.GL_TEXTURE_2D,
+									  64, 64, 64, 64, false);
+
+		Node.setCulling(false);		// A CountingGL has no real matrices
+
+		CylinderCache	cylinders = new CylinderCache(16);
+		Node			root = new Node();
+		int				side = (int)Math.ceil(Math.sqrt(logs));
+
+		for (int i=0; i<logs; i++)
+		{
+			View.Log	log = new View.Log(cylinders, textures, SIDES,
+											 null);
+
+			log.pushTransform(new Transform.Scale(0.1f, 0.4f, 0.1f));
+			log.pushTransform(new Transform.Translate(i % side, 0.4f,
+													  i / side));
+			root.add(log);
+		}
+
+		float[]		projection = new float[16];
+		float[]		camera = new float[16];
+		RenderQueue	queue = new RenderQueue();
+
+		Matrix.perspective(projection, 45.0f, 16.0f / 9.0f, 0.1f, 500.0f);
+		Matrix.lookAt(camera, -2.0f, 3.0f, -2.0f, side, 0.0f, side,
+					  0.0f, 1.0f, 0.0f);
+
+		// Forest, with and without levels of detail
+		long	full = (long)logs * getTriangleCount(gl, cylinders, SIDES);
+
+		for (int f=0; f<5; f++)							// Warmup
+			frame(gl, queue, root, projection, camera);
+
+		long	t0 = System.nanoTime();
+
+		for (int f=0; f<frames; f++)
+			frame(gl, queue, root, projection, camera);
+
+		long	t1 = System.nanoTime();
+
+		LevelOfDetail.setView(projection, camera, HEIGHT);
+
+		long	tris = LevelOfDetail.getTriangleCount();
+
+		System.out.printf("  forest    %8d triangles/frame, %d at full " +
+						  "detail (%.1f%%)  %.3f ms/frame%n", tris, full,
+						  100.0 * tris / full, (t1 - t0) / 1.0e6 / frames);
+
+		// One log, with the camera jittering 3% around a level limit
+		Node		single = new Node();
+		View.Log	log = new View.Log(cylinders, textures, SIDES,
+										 null);
+
+		single.add(log);
+
+		float	limit = (float)(SIDES / 2 * LevelOfDetail.EDGE / Math.PI);
+		float	r = (float)Math.sqrt(3.0);				// Unit cube sphere
+		float	at = 2.0f * r * 0.5f * projection[5] * HEIGHT / limit;
+		int		switches = 0;
+		int		crossings = 0;					// Without hysteresis
+		int		last = -1;
+
+		for (int f=0; f<1000; f++)
+		{
+			float	d = at * (1.0f + 0.03f * (float)Math.sin(f * 0.7));
+
+			if ((f > 0) && (Math.sin(f * 0.7) * Math.sin((f - 1) * 0.7) < 0.0))
+				crossings++;
+
+			Matrix.lookAt(camera, 0.0f, 0.0f, d, 0.0f, 0.0f, 0.0f,
+						  0.0f, 1.0f, 0.0f);
+			frame(gl, queue, single, projection, camera);
+
+			if ((last >= 0) && (log.getSlices() != last))
+				switches++;
+
+			last = log.getSlices();
+		}
+
+		System.out.printf("  jitter    %d level switches in 1000 frames, " +
+						  "%d without hysteresis (%d slices)%n", switches,
+						  crossings, last);
+
+		// Forest again, with a budget halfway down to all coarsest levels
+		long	floor = (long)logs * getTriangleCount(gl, cylinders,
+													  LevelOfDetail.MIN_SLICES);
+		long	budget = (tris + floor) / 2;
+		int		settled = -1;
+
+		Matrix.lookAt(camera, -2.0f, 3.0f, -2.0f, side, 0.0f, side,
+					  0.0f, 1.0f, 0.0f);
+		LevelOfDetail.setBudget(budget);
+
+		for (int f=0; f<100; f++)
+		{
+			frame(gl, queue, root, projection, camera);
+
+			if ((settled < 0) && (f > 0) &&
+				(LevelOfDetail.getTriangleCount() <= budget))
+				settled = f;
+		}
+
+		LevelOfDetail.setView(projection, camera, HEIGHT);
+
+		System.out.printf("  budget    %8d triangles/frame for a budget of " +
+						  "%d, within it after %d frames (detail %.2f)%n",
+						  LevelOfDetail.getTriangleCount(), budget, settled,
+						  LevelOfDetail.getBias());
+
+		LevelOfDetail.setBudget(Long.MAX_VALUE);
+
+		root.dispose(gl);
+		single.dispose(gl);
+		cylinders.clear(gl);
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static int	getTriangleCount(GL2 gl, CylinderCache cylinders,
+										 int slices)
+	{
+		Cylinder	cylinder = cylinders.acquire(slices, -1.0f, 1.0f);
+		int			n = cylinder.getTriangleCount();
+
+		cylinders.release(gl, cylinder);
+
+		return n;
+	}
+
+	private static void	frame(GL2 gl, RenderQueue queue, Node root,
+								  float[] projection, float[] camera)
+	{
+		LevelOfDetail.setView(projection, camera, HEIGHT);
+		queue.render(gl, root);
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,266 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Times a ReflectionEngine stepping 10k and 100k discs that collide inside a
+// regular hexagon, against the same bodies as points that don't. Disc radii
+// shrink with the count, as in reflect2, so about a tenth of the hexagon is
+// covered. Reports body-steps per millisecond and contacts per step.
+//
+// Before timing, checks one contact pass against testing every pair, which
+// is also timed once for the smaller count. Pairs are resolved in the same
+// order, so velocities should be the same to the bit. Also checks that
+// energy is conserved over many steps, and that one thread and several give
+// the same positions to the bit.
+//
+// Usage: DiscCollisions [steps]
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import edu.ou.cs.cg.utilities.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>DiscCollisions</CODE> class benchmarks collisions between many
+ * discs.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class DiscCollisions
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final long		SEED = 1L;
+	private static final double	SPEED = Math.sqrt(2.0) / 120.0;	// reflect2
+	private static final int[]		COUNTS = { 10000, 100000 };
+
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv)
+	{
+		int	steps = ((argv.length > 0) ? Integer.parseInt(argv[0]) : 200);
+		int	threads = Runtime.getRuntime().availableProcessors();
+
+		PackedPolygon	hexagon = createHexagon();
+
+		checkPairs(hexagon, COUNTS[0]);
+		checkThreads(hexagon, COUNTS[1], Math.max(2, threads));
+
+		for (int pass=0; pass<2; pass++)			// First pass is warmup
+		{
+			System.out.println((pass == 0) ? "Warmup:" : "Measured:");
+
+			for (int n : COUNTS)
+			{
+				run(hexagon, n, steps, threads, false);
+				run(hexagon, n, steps, threads, true);
+			}
+		}
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static PackedPolygon	createHexagon()
+	{
+		double[]	xs = new double[6];
+		double[]	ys = new double[6];
+
+		for (int i=0; i<6; i++)
+		{
+			xs[i] = Math.cos(i * Math.PI / 3.0);
+			ys[i] = Math.sin(i * Math.PI / 3.0);
+		}
+
+		return new PackedPolygon(xs, ys);
+	}
+
+	// The radius reflect2 gives n discs.
+	private static double	getRadius(int n)
+	{
+		return 0.3 / Math.sqrt(n);
+	}
+
+	private static ReflectionEngine	createEngine(PackedPolygon hexagon, int n,
+												 int threads, boolean discs)
+	{
+		ReflectionEngine	engine = new ReflectionEngine(hexagon, threads);
+
+		engine.reset(n, SEED, SPEED);
+		engine.setRadius(discs ? getRadius(n) : 0.0);
+
+		return engine;
+	}
+
+	// One contact pass, against testing every pair of discs.
+	private static void	checkPairs(PackedPolygon hexagon, int n)
+	{
+		ReflectionEngine	engine = createEngine(hexagon, n, 1, true);
+
+		for (int i=0; i<20; i++)					// Let some contacts happen
+			engine.step();
+
+		double[]	x = new double[n];
+		double[]	y = new double[n];
+		double[]	dx = new double[n];
+		double[]	dy = new double[n];
+
+		for (int i=0; i<n; i++)
+		{
+			x[i] = engine.getX(i);
+			y[i] = engine.getY(i);
+			dx[i] = engine.getDX(i);
+			dy[i] = engine.getDY(i);
+		}
+
+		double	r = getRadius(n);
+		double	d2 = 4.0 * r * r;
+		long	pairs = 0L;
+		long	t0 = System.nanoTime();
+
+		for (int i=0; i<n; i++)
+		{
+			int	touches = 0;
+
+			for (int j=i+1; (j<n) && (touches<8); j++)	// As MAX_TOUCH
+			{
+				double	ex = x[j] - x[i];
+				double	ey = y[j] - y[i];
+
+				if (ex * ex + ey * ey >= d2)
+					continue;
+
+				touches++;
+
+				double	e = Math.sqrt(ex * ex + ey * ey);
+
+				if (e == 0.0)
+					continue;
+
+				double	nx = ex / e;
+				double	ny = ey / e;
+				double	a = (dx[i] - dx[j]) * nx + (dy[i] - dy[j]) * ny;
+
+				if (a > 0.0)
+				{
+					dx[i] -= a * nx;
+					dy[i] -= a * ny;
+					dx[j] += a * nx;
+					dy[j] += a * ny;
+					pairs++;
+				}
+			}
+		}
+
+		long	t1 = System.nanoTime();
+
+		engine.collide();
+
+		long	t2 = System.nanoTime();
+
+		for (int i=0; i<n; i++)
+			if ((dx[i] != engine.getDX(i)) || (dy[i] != engine.getDY(i)))
+				throw new IllegalStateException("Velocity differs at body " + i);
+
+		if (pairs != engine.getContacts())
+			throw new IllegalStateException("Contacts differ: " + pairs +
+											" vs " + engine.getContacts());
+
+		double	e0 = getEnergy(engine, n);
+
+		for (int i=0; i<1000; i++)
+			engine.step();
+
+		double	e1 = getEnergy(engine, n);
+
+		if (Math.abs(e1 - e0) > 1.0e-9 * e0)
+			throw new IllegalStateException("Energy went from " + e0 +
+											" to " + e1);
+
+		System.out.printf("Checked %d discs: %d contacts, all pairs %.3f ms, " +
+						  "grid %.3f ms%n", n, pairs, (t1 - t0) / 1.0e6,
+						  (t2 - t1) / 1.0e6);
+
+		engine.dispose();
+	}
+
+	// Twice the kinetic energy, per unit mass.
+	private static double	getEnergy(ReflectionEngine engine, int n)
+	{
+		double	e = 0.0;
+
+		for (int i=0; i<n; i++)
+			e += engine.getDX(i) * engine.getDX(i) +
+				engine.getDY(i) * engine.getDY(i);
+
+		return e;
+	}
+
+	// The same discs stepped with one thread and with several.
+	private static void	checkThreads(PackedPolygon hexagon, int n,
+									 int threads)
+	{
+		ReflectionEngine	e1 = createEngine(hexagon, n, 1, true);
+		ReflectionEngine	e2 = createEngine(hexagon, n, threads, true);
+
+		for (int i=0; i<100; i++)
+		{
+			e1.step();
+			e2.step();
+		}
+
+		for (int i=0; i<n; i++)
+			if ((Double.doubleToLongBits(e1.getX(i)) !=
+				 Double.doubleToLongBits(e2.getX(i))) ||
+				(Double.doubleToLongBits(e1.getY(i)) !=
+				 Double.doubleToLongBits(e2.getY(i))))
+				throw new IllegalStateException("Threads differ at body " + i);
+
+		e1.dispose();
+		e2.dispose();
+		System.out.println("Checked " + n + " discs with 1 and " + threads +
+						   " threads");
+	}
+
+	private static void	run(PackedPolygon hexagon, int n, int steps,
+							int threads, boolean discs)
+	{
+		ReflectionEngine	engine = createEngine(hexagon, n, threads, discs);
+		long				contacts = 0L;
+		long				t0 = System.nanoTime();
+
+		for (int i=0; i<steps; i++)
+		{
+			engine.step();
+			contacts += engine.getContacts();
+		}
+
+		long	t1 = System.nanoTime();
+		double	ms = (t1 - t0) / 1.0e6;
+
+		System.out.printf("  %7d %s %2d threads %8.3f ms/step " +
+						  "%10.0f body-steps/ms %8.1f contacts/step%n",
+						  n, (discs ? "discs " : "points"), threads,
+						  ms / steps, (double)n * steps / ms,
+						  (double)contacts / steps);
+
+		engine.dispose();
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,184 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Lays out a large outdoor scene of logs in square groups on the xz plane,
+// with a camera in the middle looking along the diagonal, and draws it with
+// and without culling against the camera's frustum. Checks that every log
+// whose center is in the frustum was drawn. The frustum is supplied directly,
+// since a CountingGL has no real matrices.
+//
+// Usage: FrustumCulling [groups per side] [logs per group side] [frames]
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import java.util.*;
+import com.jogamp.opengl.GL2;
+import edu.ou.cs.cg.utilities.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>FrustumCulling</CODE> class benchmarks view-frustum culling.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class FrustumCulling
+{
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv)
+	{
+		int	g = ((argv.length > 0) ? Integer.parseInt(argv[0]) : 20);
+		int	k = ((argv.length > 1) ? Integer.parseInt(argv[1]) : 10);
+		int	frames = ((argv.length > 2) ? Integer.parseInt(argv[2]) : 50);
+
+		List<Log>	logs = new ArrayList<Log>();
+		Node		root = createScene(g, k, logs);
+
+		float[]	projection = new float[16];
+		float[]	modelview = new float[16];
+		Frustum	frustum = new Frustum();
+
+		Matrix.perspective(projection, 45.0f, 4.0f / 3.0f, 0.1f, 50.0f);
+		Matrix.lookAt(modelview, 0.0f, 1.0f, 0.0f,
+					  10.0f, 0.5f, 10.0f, 0.0f, 1.0f, 0.0f);
+		frustum.set(projection, modelview);
+
+		for (int pass=0; pass<2; pass++)			// First pass is warmup
+		{
+			System.out.println((pass == 0) ? "Warmup:" : "Measured:");
+			run("unculled", root, frames, null);
+			run("culled  ", root, frames, frustum);
+		}
+
+		check(root, logs, frustum);
+		Check.exit();
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	// Groups of k * k logs, one unit apart, in a g * g grid centered on the
+	// origin.
+	private static Node	createScene(int g, int k, List<Log> logs)
+	{
+		Node	root = new Node();
+		float	offset = -0.5f * g * k;
+
+		for (int gi=0; gi<g; gi++)
+		{
+			for (int gj=0; gj<g; gj++)
+			{
+				Node	group = new Node();
+
+				group.pushTransform(new Transform.Translate(
+					offset + gi * k, 0.0f, offset + gj * k));
+
+				for (int i=0; i<k; i++)
+				{
+					for (int j=0; j<k; j++)
+					{
+						Log	log = new Log();
+
+						log.pushTransform(new Transform.Scale(0.1f, 0.4f, 0.1f));
+						log.pushTransform(new Transform.Rotate(0.0f, 0.0f, 1.0f,
+															   80.0f));
+						log.pushTransform(new Transform.Translate(i, 0.1f, j));
+
+						group.add(log);
+						logs.add(log);
+					}
+				}
+
+				root.add(group);
+			}
+		}
+
+		return root;
+	}
+
+	private static void	run(String label, Node root, int frames,
+							Frustum frustum)
+	{
+		CountingGL	counter = new CountingGL();
+		GL2			gl = counter.getGL();
+
+		long	t0 = System.nanoTime();
+
+		for (int f=0; f<frames; f++)
+			root.render(gl, frustum);
+
+		long	t1 = System.nanoTime();
+
+		System.out.printf("  %s %8.3f ms/frame %9d GL calls/frame " +
+						  "%6d drawn %6d culled%n", label,
+						  (t1 - t0) / 1.0e6 / frames, counter.getTotal() / frames,
+						  root.getVisibleCount(), root.getCulledCount());
+	}
+
+	// Every log with its center in the frustum must have been drawn.
+	private static void	check(Node root, List<Log> logs, Frustum frustum)
+	{
+		float[]	m = new float[16];
+		float[]	p = new float[3];
+		int		missed = 0;
+
+		for (Log log : logs)
+			log.drawn = false;
+
+		root.render(new CountingGL().getGL(), frustum);
+
+		for (Log log : logs)
+		{
+			log.getWorldMatrix(m);
+			Matrix.transformPoint(m, new float[3], p);
+
+			if (frustum.contains(p[0], p[1], p[2]) && !log.drawn)
+				missed++;
+		}
+
+		System.out.println("  " + Check.status(missed == 0, missed +
+													" visible logs culled"));
+	}
+
+	//**********************************************************************
+	// Private Inner Classes
+	//**********************************************************************
+
+	// Draws the edges of a cylinder, with bounds like the homework06 logs.
+	private static final class Log extends Node
+	{
+		private static final Cylinder	CYLINDER = new Cylinder(8, -1.0f, 1.0f);
+
+		private boolean	drawn;		// Since the last check
+
+		public Log()
+		{
+			float[]	box = new float[6];
+
+			CYLINDER.getBounds(box);
+			setBounds(box);
+		}
+
+		protected void	depict(GL2 gl)
+		{
+			CYLINDER.edge(gl);
+			drawn = true;
+		}
+	}
+}
+
+//******************************************************************************
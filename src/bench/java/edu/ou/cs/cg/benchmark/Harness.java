@@ -0,0 +1,514 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// A small microbenchmark harness in the manner of JMH, without the
+// dependency. Each Benchmark times one operation, run() in average time
+// mode. An iteration calls run() in batches for a fixed time and reports
+// microseconds per call. Batches grow until one takes at least BATCH_NANOS,
+// so reading the clock doesn't weigh on short operations. Warmup iterations
+// let the JIT compile run() before the measured ones.
+//
+// Values returned by run() are summed into a field that is read after the
+// iteration, so the JIT can't drop the work as unused. Benchmarks that build
+// objects should keep the last one in a field for the same reason.
+//
+// Each benchmark runs in its own forked JVMs by default, with the same class
+// path and JVM arguments, so the profile one collects doesn't shape the code
+// compiled for the next. The fork is the suite's main() with -f 0 and the
+// benchmark's name, and reports iteration scores on lines starting with RAW.
+//
+// Options, named as in JMH:
+//
+//   -wi n		warmup iterations (5)
+//   -i n		measurement iterations (5)
+//   -r ms		time per iteration (1000)
+//   -f n		forks per benchmark, 0 to run in this JVM (1)
+//   -rf file	write results as JMH-style JSON
+//   regex		only run benchmarks whose names contain a match
+//
+// Scores are the mean over all measured iterations of all forks, with a
+// 99.9% confidence interval from Student's t distribution, as JMH reports.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.regex.Pattern;
+
+//******************************************************************************
+
+/**
+ * The <CODE>Harness</CODE> class runs microbenchmarks and reports their
+ * scores.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class Harness
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final long		BATCH_NANOS = 100000L;	// Min batch time
+	private static final String	RAW = "RAW ";			// Fork output
+
+	// Two-sided 99.9% quantiles of Student's t, by degrees of freedom
+	private static final double[]	T999 =
+	{
+		Double.NaN, 636.619, 31.599, 12.924, 8.610, 6.869, 5.959, 5.408,
+		5.041, 4.781, 4.587, 4.437, 4.318, 4.221, 4.140, 4.073, 4.015,
+		3.965, 3.922, 3.883, 3.850, 3.819, 3.792, 3.768, 3.745, 3.725,
+		3.707, 3.690, 3.674, 3.659, 3.646,
+	};
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private final Class<?>			suite;		// Whose main() forks run
+	private int					warmups = 5;
+	private int					iterations = 5;
+	private long					millis = 1000L;
+	private int					forks = 1;
+	private File					output;		// JSON results, or null
+	private Pattern				pattern;	// Names to run, or null
+
+	private volatile double		sink;		// Consumes run() results
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// Parses the options above, for benchmarks whose main() is in suite.
+	public Harness(Class<?> suite, String[] argv)
+	{
+		this.suite = suite;
+
+		for (int i=0; i<argv.length; i++)
+		{
+			String	arg = argv[i];
+
+			if ("-wi".equals(arg))
+				warmups = Integer.parseInt(argv[++i]);
+			else if ("-i".equals(arg))
+				iterations = Integer.parseInt(argv[++i]);
+			else if ("-r".equals(arg))
+				millis = Long.parseLong(argv[++i]);
+			else if ("-f".equals(arg))
+				forks = Integer.parseInt(argv[++i]);
+			else if ("-rf".equals(arg))
+				output = new File(argv[++i]);
+			else if (arg.startsWith("-"))
+				throw new IllegalArgumentException("Unknown option " + arg);
+			else
+				pattern = Pattern.compile(arg);
+		}
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Runs the benchmarks that match, prints a summary, and writes the JSON
+	// results if asked to.
+	public void	run(List<Benchmark> benchmarks)
+		throws IOException, InterruptedException
+	{
+		List<Benchmark>	ran = new ArrayList<Benchmark>();
+		List<double[][]>	raws = new ArrayList<double[][]>();
+
+		for (Benchmark b : benchmarks)
+		{
+			String	name = getName(b);
+
+			if ((pattern != null) && !pattern.matcher(name).find())
+				continue;
+
+			System.out.println("# Benchmark: " + name);
+
+			double[][]	raw = new double[Math.max(1, forks)][];
+
+			for (int f=0; f<raw.length; f++)
+			{
+				if (forks > 0)
+					System.out.println("# Fork: " + (f + 1) + " of " + forks);
+
+				raw[f] = ((forks > 0) ? fork(b) : measure(b));
+			}
+
+			ran.add(b);
+			raws.add(raw);
+		}
+
+		if (Boolean.getBoolean("harness.fork"))	// The parent summarizes
+			return;
+
+		System.out.println();
+		System.out.printf("%-50s %5s %12s   %-10s %s%n", "Benchmark", "Cnt",
+						  "Score", "Error", "Units");
+
+		for (int i=0; i<ran.size(); i++)
+		{
+			double[]	all = flatten(raws.get(i));
+
+			System.out.printf("%-50s %5d %12.3f \u00b1 %10.3f %s%n",
+							  ran.get(i).getName(), all.length, mean(all),
+							  getError(all), "us/op");
+		}
+
+		if (output != null)
+			writeJSON(ran, raws);
+	}
+
+	//**********************************************************************
+	// Private Methods (Running)
+	//**********************************************************************
+
+	private String	getName(Benchmark b)
+	{
+		return suite.getName() + "." + b.getName();
+	}
+
+	// Runs the iterations in this JVM. Returns the measured scores.
+	private double[]	measure(Benchmark b)
+	{
+		boolean	fork = Boolean.getBoolean("harness.fork");
+		double[]	scores = new double[iterations];
+
+		b.setup();
+
+		for (int i=0; i<warmups + iterations; i++)
+		{
+			double	score = iterate(b);
+			boolean	warmup = (i < warmups);
+
+			System.out.printf("%s %d: %.3f us/op%n",
+							  (warmup ? "# Warmup Iteration" : "Iteration"),
+							  (warmup ? i + 1 : i - warmups + 1), score);
+
+			if (!warmup)
+			{
+				scores[i - warmups] = score;
+
+				if (fork)
+					System.out.println(RAW + score);
+			}
+		}
+
+		b.teardown();
+
+		return scores;
+	}
+
+	// Calls run() for the iteration time. Returns microseconds per call.
+	private double	iterate(Benchmark b)
+	{
+		long	limit = millis * 1000000L;
+		long	batch = 1L;
+		long	calls = 0L;
+		long	elapsed = 0L;
+		double	sum = 0.0;
+
+		while (elapsed < limit)
+		{
+			long	t0 = System.nanoTime();
+
+			for (long i=0; i<batch; i++)
+				sum += b.run();
+
+			long	t = System.nanoTime() - t0;
+
+			elapsed += t;
+			calls += batch;
+
+			if (t < BATCH_NANOS)
+				batch *= 2;
+		}
+
+		sink = sum;								// Keep the work
+
+		return elapsed / 1000.0 / calls;
+	}
+
+	// Runs the iterations in a new JVM, echoing its output. Returns the
+	// measured scores.
+	private double[]	fork(Benchmark b)
+		throws IOException, InterruptedException
+	{
+		List<String>	command = new ArrayList<String>();
+
+		command.add(new File(new File(System.getProperty("java.home"), "bin"),
+							 "java").getPath());
+		command.addAll(ManagementFactory.getRuntimeMXBean()
+					   .getInputArguments());
+		command.add("-Dharness.fork=true");
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add(suite.getName());
+		command.add("-wi");
+		command.add(Integer.toString(warmups));
+		command.add("-i");
+		command.add(Integer.toString(iterations));
+		command.add("-r");
+		command.add(Long.toString(millis));
+		command.add("-f");
+		command.add("0");
+		command.add("^" + Pattern.quote(getName(b)) + "$");
+
+		Process			process = new ProcessBuilder(command)
+			.redirectErrorStream(true).start();
+		BufferedReader	in = new BufferedReader(
+			new InputStreamReader(process.getInputStream(), "UTF-8"));
+		double[]		scores = new double[iterations];
+		int				n = 0;
+
+		for (String line = in.readLine(); line != null; line = in.readLine())
+		{
+			if (line.startsWith(RAW) && (n < scores.length))
+				scores[n++] = Double.parseDouble(line.substring(RAW.length()));
+			else if (!line.startsWith("# Benchmark:"))
+				System.out.println(line);
+		}
+
+		in.close();
+
+		int	status = process.waitFor();
+
+		if ((status != 0) || (n < scores.length))
+			throw new IOException("Fork of " + b.getName() + " failed (" +
+								  status + ")");
+
+		return scores;
+	}
+
+	//**********************************************************************
+	// Private Methods (Results)
+	//**********************************************************************
+
+	// Writes results in the format of JMH's -rf json, so tools that read
+	// those can read these.
+	private void	writeJSON(List<Benchmark> ran, List<double[][]> raws)
+		throws IOException
+	{
+		StringBuilder	sb = new StringBuilder();
+		String			jvmArgs = toJSON(ManagementFactory.getRuntimeMXBean()
+										 .getInputArguments());
+
+		sb.append("[\n");
+
+		for (int i=0; i<ran.size(); i++)
+		{
+			double[][]	raw = raws.get(i);
+			double[]	all = flatten(raw);
+			double		score = mean(all);
+			double		error = getError(all);
+
+			sb.append("    {\n");
+			sb.append("        \"benchmark\" : ")
+				.append(toJSON(getName(ran.get(i)))).append(",\n");
+			sb.append("        \"mode\" : \"avgt\",\n");
+			sb.append("        \"threads\" : 1,\n");
+			sb.append("        \"forks\" : ").append(forks).append(",\n");
+			sb.append("        \"jvm\" : ").append(toJSON(new File(new File(
+				System.getProperty("java.home"), "bin"), "java").getPath()))
+				.append(",\n");
+			sb.append("        \"jvmArgs\" : ").append(jvmArgs).append(",\n");
+			sb.append("        \"jdkVersion\" : ")
+				.append(toJSON(System.getProperty("java.version")))
+				.append(",\n");
+			sb.append("        \"vmName\" : ")
+				.append(toJSON(System.getProperty("java.vm.name")))
+				.append(",\n");
+			sb.append("        \"vmVersion\" : ")
+				.append(toJSON(System.getProperty("java.vm.version")))
+				.append(",\n");
+			sb.append("        \"warmupIterations\" : ").append(warmups)
+				.append(",\n");
+			sb.append("        \"warmupTime\" : \"").append(millis)
+				.append(" ms\",\n");
+			sb.append("        \"measurementIterations\" : ")
+				.append(iterations).append(",\n");
+			sb.append("        \"measurementTime\" : \"").append(millis)
+				.append(" ms\",\n");
+			sb.append("        \"primaryMetric\" : {\n");
+			sb.append("            \"score\" : ").append(toJSON(score))
+				.append(",\n");
+			sb.append("            \"scoreError\" : ").append(toJSON(error))
+				.append(",\n");
+			sb.append("            \"scoreConfidence\" : [ ")
+				.append(toJSON(score - error)).append(", ")
+				.append(toJSON(score + error)).append(" ],\n");
+			sb.append("            \"scoreUnit\" : \"us/op\",\n");
+			sb.append("            \"rawData\" : [\n");
+
+			for (int f=0; f<raw.length; f++)
+			{
+				sb.append("                [ ");
+
+				for (int j=0; j<raw[f].length; j++)
+					sb.append((j > 0) ? ", " : "").append(toJSON(raw[f][j]));
+
+				sb.append((f < raw.length - 1) ? " ],\n" : " ]\n");
+			}
+
+			sb.append("            ]\n");
+			sb.append("        },\n");
+			sb.append("        \"secondaryMetrics\" : {\n");
+			sb.append("        }\n");
+			sb.append((i < ran.size() - 1) ? "    },\n" : "    }\n");
+		}
+
+		sb.append("]\n");
+
+		File	dir = output.getAbsoluteFile().getParentFile();
+
+		if (dir != null)
+			dir.mkdirs();
+
+		Writer	out = new OutputStreamWriter(new FileOutputStream(output),
+											 "UTF-8");
+
+		try
+		{
+			out.write(sb.toString());
+		}
+		finally
+		{
+			out.close();
+		}
+
+		System.out.println("Results written to " + output);
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static double[]	flatten(double[][] raw)
+	{
+		int	n = 0;
+
+		for (double[] scores : raw)
+			n += scores.length;
+
+		double[]	all = new double[n];
+		int		k = 0;
+
+		for (double[] scores : raw)
+			for (double score : scores)
+				all[k++] = score;
+
+		return all;
+	}
+
+	private static double	mean(double[] x)
+	{
+		double	sum = 0.0;
+
+		for (double v : x)
+			sum += v;
+
+		return sum / x.length;
+	}
+
+	// Half the width of the 99.9% confidence interval of the mean.
+	private static double	getError(double[] x)
+	{
+		int	n = x.length;
+
+		if (n < 2)
+			return Double.NaN;
+
+		double	m = mean(x);
+		double	ss = 0.0;
+
+		for (double v : x)
+			ss += (v - m) * (v - m);
+
+		double	t = ((n - 1 < T999.length) ? T999[n - 1] : 3.291);
+
+		return t * Math.sqrt(ss / (n - 1) / n);
+	}
+
+	// JMH writes numbers JSON can't hold as strings.
+	private static String	toJSON(double v)
+	{
+		return ((Double.isNaN(v) || Double.isInfinite(v)) ?
+				"\"" + v + "\"" : Double.toString(v));
+	}
+
+	private static String	toJSON(String s)
+	{
+		StringBuilder	sb = new StringBuilder("\"");
+
+		for (int i=0; i<s.length(); i++)
+		{
+			char	c = s.charAt(i);
+
+			if ((c == '"') || (c == '\\'))
+				sb.append('\\').append(c);
+			else if (c < ' ')
+				sb.append(String.format("\\u%04x", (int)c));
+			else
+				sb.append(c);
+		}
+
+		return sb.append('"').toString();
+	}
+
+	private static String	toJSON(List<String> list)
+	{
+		StringBuilder	sb = new StringBuilder("[");
+
+		for (int i=0; i<list.size(); i++)
+			sb.append((i > 0) ? ", " : " ").append(toJSON(list.get(i)));
+
+		return sb.append(" ]").toString();
+	}
+
+	//**********************************************************************
+	// Public Inner Classes
+	//**********************************************************************
+
+	// One operation to time. run() should return a value computed from its
+	// work, or 0.0 if it keeps its result in a field.
+	public static abstract class Benchmark
+	{
+		private final String	name;
+
+		public Benchmark(String name)
+		{
+			this.name = name;
+		}
+
+		public final String	getName()
+		{
+			return name;
+		}
+
+		// Called once before the warmup iterations.
+		public void	setup()
+		{
+		}
+
+		// Called once after the measurement iterations.
+		public void	teardown()
+		{
+		}
+
+		public abstract double	run();
+	}
+}
+
+//******************************************************************************
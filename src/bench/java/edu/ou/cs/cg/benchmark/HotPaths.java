@@ -0,0 +1,392 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+// 20261017 [cg]:	Reflected off a PackedPolygon.
+//
+//******************************************************************************
+// Notes:
+//
+// Microbenchmarks of the code that runs every frame in the apps, for
+// tracking regressions from one release to the next. Runs with Harness, so
+// takes its options, such as -rf to write JSON results. The Gradle task
+// benchmark runs them all and writes build/reports/benchmarks/<version>.json.
+//
+// Nodes draw to a CountingGL, so the times include a counted call for each
+// GL call. Gasket and Lorenz draw their points in private methods, which are
+// called through reflection once per operation, with the point count fixed.
+// They draw to a SummingGL, which adds up their colors and vertices, since
+// the JIT drops math whose only use is arguments that a CountingGL ignores.
+// The reflect2 View is made offscreen, without a canvas.
+//
+// Usage: HotPaths [-wi n] [-i n] [-r ms] [-f n] [-rf file] [regex]
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import java.awt.geom.Point2D;
+import java.lang.reflect.*;
+import java.util.*;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.util.texture.Texture;
+import edu.ou.cs.cg.assignment.homework06.View;
+import edu.ou.cs.cg.example.Gasket;
+import edu.ou.cs.cg.example.Lorenz;
+import edu.ou.cs.cg.utilities.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>HotPaths</CODE> class benchmarks per-frame code in the apps.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class HotPaths
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int		POINTS = 10000;		// Per Gasket/Lorenz op
+	private static final int		THINGS = 50;		// In the node scene
+	private static final int		TRACE = 1024;		// Reflections kept
+
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv)
+		throws Exception
+	{
+		List<Harness.Benchmark>	benchmarks =
+			new ArrayList<Harness.Benchmark>();
+
+		benchmarks.add(new CylinderConstruction());
+		benchmarks.add(new NodeUpdate());
+		benchmarks.add(new NodeRender());
+		benchmarks.add(new PointReflection());
+		benchmarks.add(new PolygonContains());
+		benchmarks.add(new ChaosGame());
+		benchmarks.add(new LorenzIntegration());
+
+		new Harness(HotPaths.class, argv).run(benchmarks);
+
+		System.exit(0);							// Stop SoftwareDrawable pools
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	// The stage and logs like View.initScene(), plus glowing things, as in
+	// AnimationAllocation.
+	private static Node	createScene()
+	{
+		Texture[]	textures = new Texture[5];			// Wrap made-up ids
+
+		for (int i=0; i<textures.length; i++)
+			textures[i] = new Texture(i + 1, GL.GL_TEXTURE_2D,
+									  64, 64, 64, 64, false);
+
+		Node	root = new Node();
+
+		root.add(new View.Skycan(textures));
+		root.add(new View.Spotlight());
+
+		float[][]	emits = new float[][]
+		{
+			{ 0.8f, 0.6f, 0.0f, 1.0f },
+			{ 0.4f, 1.0f, 0.4f, 1.0f },
+			{ 0.3f, 0.3f, 1.0f, 1.0f },
+		};
+
+		for (int i=0; i<emits.length; i++)
+		{
+			View.Log	log = new View.Log(textures, 4 + 6 * i, emits[i]);
+
+			log.pushTransform(new Transform.Scale(0.12f, 0.5f, 0.11f));
+			log.pushTransform(new Transform.Rotate(1.0f, 1.0f, 0.0f, 70.0f));
+			log.pushTransform(new Transform.Translate(-0.1f * i, 0.45f, 0.0f));
+			root.add(log);
+		}
+
+		for (int i=0; i<THINGS; i++)
+			root.add(new View.Thing(0.5f, 0.05f));
+
+		return root;
+	}
+
+	// Returns a private drawing method of an example, with its point count
+	// set to POINTS.
+	private static Method	getDrawer(Object example, String name)
+	{
+		try
+		{
+			Field	m = example.getClass().getDeclaredField("m");
+			Method	method = example.getClass().getDeclaredMethod(name,
+																  GL2.class);
+
+			m.setAccessible(true);
+			m.setInt(example, POINTS);
+			method.setAccessible(true);
+
+			return method;
+		}
+		catch (ReflectiveOperationException ex)
+		{
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static void	invoke(Method method, Object example, GL2 gl)
+	{
+		try
+		{
+			method.invoke(example, gl);
+		}
+		catch (ReflectiveOperationException ex)
+		{
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	//**********************************************************************
+	// Private Inner Classes
+	//**********************************************************************
+
+	// A Cylinder with as many slices as the nearest homework06 logs.
+	private static final class CylinderConstruction extends Harness.Benchmark
+	{
+		private Cylinder	last;
+
+		public CylinderConstruction()
+		{
+			super("cylinderConstruction");
+		}
+
+		public double	run()
+		{
+			last = new Cylinder(32, -1.0f, 1.0f);
+
+			return 0.0;
+		}
+	}
+
+	// One Node.update() of the scene.
+	private static final class NodeUpdate extends Harness.Benchmark
+	{
+		private GL2	gl;
+		private Node	root;
+
+		public NodeUpdate()
+		{
+			super("nodeUpdate");
+		}
+
+		public void	setup()
+		{
+			gl = new CountingGL().getGL();
+			root = createScene();
+		}
+
+		public double	run()
+		{
+			root.update(gl);
+
+			return 0.0;
+		}
+	}
+
+	// One Node.render() of the scene, with its lights, without culling.
+	private static final class NodeRender extends Harness.Benchmark
+	{
+		private GL2	gl;
+		private Node	root;
+
+		public NodeRender()
+		{
+			super("nodeRender");
+		}
+
+		public void	setup()
+		{
+			gl = new CountingGL().getGL();
+			root = createScene();
+			Node.setCulling(false);		// A CountingGL has no real matrices
+		}
+
+		public double	run()
+		{
+			root.enable(gl);
+			root.render(gl);
+			root.disable(gl);
+
+			return 0.0;
+		}
+
+		public void	teardown()
+		{
+			Node.setCulling(true);
+		}
+	}
+
+	// One step of the reflect2 point inside a regular hexagon.
+	private static final class PointReflection extends Harness.Benchmark
+	{
+		private edu.ou.cs.cg.application.reflect2.View	view;
+		private PackedPolygon							polygon;
+		private Point2D.Double							q;
+		private int									n;
+
+		public PointReflection()
+		{
+			super("reflect2UpdatePointWithReflection");
+		}
+
+		public void	setup()
+		{
+			view = new edu.ou.cs.cg.application.reflect2.View(
+				new SoftwareDrawable(64, 64, 1));
+			q = new Point2D.Double(0.1, 0.2);
+
+			double[]	xs = new double[6];
+			double[]	ys = new double[6];
+
+			for (int i=0; i<6; i++)
+			{
+				xs[i] = Math.cos(i * Math.PI / 3.0);
+				ys[i] = Math.sin(i * Math.PI / 3.0);
+			}
+
+			polygon = new PackedPolygon(xs, ys);
+		}
+
+		public double	run()
+		{
+			view.updatePointWithReflection(polygon, q);
+
+			if (++n == TRACE)					// As the View prunes
+			{
+				view.clearAllTrace();
+				n = 0;
+			}
+
+			return q.x;
+		}
+	}
+
+	// Whether a point is inside the reflect2 default polygon.
+	private static final class PolygonContains extends Harness.Benchmark
+	{
+		private edu.ou.cs.cg.application.reflect2.View	view;
+		private Point2D.Double[]						points;
+		private int									i;
+
+		public PolygonContains()
+		{
+			super("reflect2Contains");
+		}
+
+		public void	setup()
+		{
+			Random	random = new Random(1);
+
+			view = new edu.ou.cs.cg.application.reflect2.View(
+				new SoftwareDrawable(64, 64, 1));
+			points = new Point2D.Double[1024];
+
+			for (int j=0; j<points.length; j++)
+				points[j] = new Point2D.Double(random.nextDouble() * 2.4 - 1.2,
+											   random.nextDouble() * 2.4 - 1.2);
+		}
+
+		public double	run()
+		{
+			i = (i + 1) & (points.length - 1);
+
+			return (view.currentPolygonContains(points[i]) ? 1.0 : 0.0);
+		}
+	}
+
+	// POINTS iterations of Gasket's chaos game.
+	private static final class ChaosGame extends Harness.Benchmark
+	{
+		private SummingGL	gl;
+		private Gasket		gasket;
+		private Method		method;
+
+		public ChaosGame()
+		{
+			super("gasketChaosGame");
+		}
+
+		public void	setup()
+		{
+			gl = new SummingGL();
+			gasket = new Gasket(new String[0]);
+			method = getDrawer(gasket, "drawSierpinskiTriangle");
+		}
+
+		public double	run()
+		{
+			invoke(method, gasket, gl);
+
+			return gl.getSum();
+		}
+	}
+
+	// POINTS steps of Lorenz's Euler integration.
+	private static final class LorenzIntegration extends Harness.Benchmark
+	{
+		private SummingGL	gl;
+		private Lorenz		lorenz;
+		private Method		method;
+
+		public LorenzIntegration()
+		{
+			super("lorenzIntegration");
+		}
+
+		public void	setup()
+		{
+			gl = new SummingGL();
+			lorenz = new Lorenz(new String[0]);
+			method = getDrawer(lorenz, "drawLorenzAttractor");
+		}
+
+		public double	run()
+		{
+			invoke(method, lorenz, gl);
+
+			return gl.getSum();
+		}
+	}
+
+	// Adds up the values passed to the calls Gasket and Lorenz make per point.
+	private static final class SummingGL extends GL2Stub
+	{
+		private double	sum;
+
+		public double	getSum()
+		{
+			return sum;
+		}
+
+		public void	glColor3f(float r, float g, float b)
+		{
+			sum += r + g + b;
+		}
+
+		public void	glVertex2d(double x, double y)
+		{
+			sum += x + y;
+		}
+	}
+}
+
+//******************************************************************************
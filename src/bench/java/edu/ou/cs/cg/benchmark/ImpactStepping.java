@@ -0,0 +1,188 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Times fast-forwarding bodies inside a regular hexagon through an hour of
+// reflect2 frames, from one impact to the next with an ImpactEngine, and
+// estimates the same with the fixed steps of a ReflectionEngine, from a
+// shorter run. Reports bounces per millisecond and the speedup.
+//
+// Before timing, checks that one body follows the same path both ways, to
+// within roundoff, and that bodies sent into a corner, off a corner by less
+// than the tolerance, and into it at an angle come back out inside, with the
+// first one coming straight back.
+//
+// Usage: ImpactStepping [max bodies] [hours]
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import edu.ou.cs.cg.utilities.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>ImpactStepping</CODE> class benchmarks an ImpactEngine.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class ImpactStepping
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final long		SEED = 1L;
+	private static final double	FPS = 120.0;		// reflect2
+	private static final double	SPEED = Math.sqrt(2.0) / FPS;
+	private static final int		CHECKS = 100000;	// Frames checked
+	private static final double	TOLERANCE = 1.0e-9;	// Path difference
+	private static final int		STEPS = 1000;		// Fixed steps timed
+
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv)
+	{
+		int		max = ((argv.length > 0) ? Integer.parseInt(argv[0]) : 1000);
+		double	hours = ((argv.length > 1) ?
+						 Double.parseDouble(argv[1]) : 1.0);
+
+		PackedPolygon	hexagon = createHexagon();
+
+		checkPath(hexagon);
+		checkCorners(hexagon);
+
+		for (int pass=0; pass<2; pass++)			// First pass is warmup
+		{
+			System.out.println((pass == 0) ? "Warmup:" : "Measured:");
+
+			for (int n=1; n<=max; n*=10)
+				run(hexagon, n, hours);
+		}
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static PackedPolygon	createHexagon()
+	{
+		double[]	xs = new double[6];
+		double[]	ys = new double[6];
+
+		for (int i=0; i<6; i++)
+		{
+			xs[i] = Math.cos(i * Math.PI / 3.0);
+			ys[i] = Math.sin(i * Math.PI / 3.0);
+		}
+
+		return new PackedPolygon(xs, ys);
+	}
+
+	// One body stepped both ways, from the reflect2 View's starting point.
+	private static void	checkPath(PackedPolygon hexagon)
+	{
+		ReflectionEngine	fixed = new ReflectionEngine(hexagon, 1);
+		ImpactEngine		events = new ImpactEngine(hexagon);
+		double				worst = 0.0;
+
+		fixed.reset(1, SEED, SPEED);
+		fixed.setBody(0, 0.1, 0.2, 1.0 / FPS, 1.0 / FPS);
+		events.reset(1, SEED, SPEED);
+		events.setBody(0, 0.1, 0.2, 1.0 / FPS, 1.0 / FPS);
+
+		for (int i=0; i<CHECKS; i++)
+		{
+			fixed.step();
+			events.advance(1.0);
+
+			double	d = Math.max(Math.abs(fixed.getX(0) - events.getX(0)),
+								 Math.abs(fixed.getY(0) - events.getY(0)));
+
+			if (!(d <= TOLERANCE))
+				throw new IllegalStateException("Paths differ by " + d +
+												" at frame " + i);
+
+			worst = Math.max(worst, d);
+		}
+
+		fixed.dispose();
+		System.out.printf("Checked %d frames against fixed steps: %d bounces, " +
+						  "worst difference %.3g%n", CHECKS, events.getBounces(),
+						  worst);
+	}
+
+	// Bodies sent into the corner at (1, 0), just off it, and into it at an
+	// angle.
+	private static void	checkCorners(PackedPolygon hexagon)
+	{
+		ImpactEngine	events = new ImpactEngine(hexagon);
+		double			sx = hexagon.getX(0) + 0.5;
+		double			sy = hexagon.getY(0) + 0.2;
+		double			ss = Math.sqrt(sx * sx + sy * sy);
+
+		events.reset(3, SEED, SPEED);
+		events.setBody(0, 0.0, 0.0, SPEED, 0.0);
+		events.setBody(1, 0.0, 1.0e-12, SPEED, 0.0);
+		events.setBody(2, -0.5, -0.2, SPEED * sx / ss, SPEED * sy / ss);
+
+		events.advance(2.0 * FPS);					// One impact each
+
+		if ((events.getCorners() != 3) ||
+			(Math.abs(events.getDX(0) + SPEED) > 1.0e-12 * SPEED) ||
+			(Math.abs(events.getDY(0)) > 1.0e-12 * SPEED))
+			throw new IllegalStateException("Corner not handled: " +
+											events.getCorners() + " corners, " +
+											events.getDX(0) + ", " +
+											events.getDY(0));
+
+		for (int i=0; i<3; i++)
+			if (!hexagon.contains(events.getX(i), events.getY(i)))
+				throw new IllegalStateException("Body " + i + " escaped");
+
+		System.out.println("Checked " + events.getCorners() + " corners in " +
+						   events.getBounces() + " bounces");
+	}
+
+	private static void	run(PackedPolygon hexagon, int n, double hours)
+	{
+		double				frames = hours * 3600.0 * FPS;
+		ImpactEngine		events = new ImpactEngine(hexagon);
+		ReflectionEngine	fixed = new ReflectionEngine(hexagon, 1);
+
+		events.reset(n, SEED, SPEED);
+		fixed.reset(n, SEED, SPEED);
+
+		long	t0 = System.nanoTime();
+
+		events.advance(frames);
+
+		long	t1 = System.nanoTime();
+
+		for (int i=0; i<STEPS; i++)
+			fixed.step();
+
+		long	t2 = System.nanoTime();
+		double	ms = (t1 - t0) / 1.0e6;
+		double	estimate = (t2 - t1) / 1.0e6 * frames / STEPS;
+
+		System.out.printf("  %6d bodies %.1f h: %10d bounces %10.3f ms " +
+						  "%10.0f bounces/ms, fixed steps ~%10.1f ms " +
+						  "(%.0fx)%n", n, hours, events.getBounces(), ms,
+						  events.getBounces() / ms, estimate, estimate / ms);
+
+		fixed.dispose();
+	}
+}
+
+//******************************************************************************
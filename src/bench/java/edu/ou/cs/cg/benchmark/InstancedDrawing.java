@@ -0,0 +1,157 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Draws a forest of logs against a CountingGL three ways: a Log node per log
+// through a RenderQueue, one InstancedCylinders node with instancing turned
+// off (a loop over the logs), and the same node instanced. Reports the GL
+// calls and the time per frame. The time is the CPU cost of issuing the
+// calls, which is what instancing saves; the GPU work is about the same.
+//
+// Usage: InstancedDrawing [logs] [frames]
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.util.texture.Texture;
+import edu.ou.cs.cg.assignment.homework06.View;
+import edu.ou.cs.cg.utilities.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>InstancedDrawing</CODE> class benchmarks InstancedCylinders.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class InstancedDrawing
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int		SIDES = 16;
+
+	// A few glow colors, shared so the queue can group by material
+	private static final float[][]	EMITS =
+	{
+		{ 0.0f, 0.0f, 0.0f, 1.0f },
+		{ 0.2f, 0.1f, 0.0f, 1.0f },
+		{ 0.0f, 0.1f, 0.05f, 1.0f },
+	};
+
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv)
+	{
+		int	logs = ((argv.length > 0) ? Integer.parseInt(argv[0]) : 20000);
+		int	frames = ((argv.length > 1) ? Integer.parseInt(argv[1]) : 50);
+
+		CountingGL	counter = new CountingGL();
+		Texture[]	textures = new Texture[5];
+
+		for (int i=0; i<textures.length; i++)
+			textures[i] = new Texture(100 + i, GL.GL_TEXTURE_2D,
+									  64, 64, 64, 64, false);
+
+		Node.setCulling(false);		// A CountingGL has no real matrices
+
+		CylinderCache	cylinders = new CylinderCache(16);
+
+		// A Log node per log
+		Node	nodes = new Node();
+
+		for (int i=0; i<logs; i++)
+		{
+			View.Log	log = new View.Log(cylinders, textures, SIDES,
+											   getEmit(i));
+
+			log.pushTransform(new Transform.Scale(0.1f, 0.4f, 0.1f));
+			log.pushTransform(new Transform.Rotate(i, 0.0f, 1.0f, 0.0f));
+			log.pushTransform(getPlace(i, logs));
+			nodes.add(log);
+		}
+
+		// One node for all of them
+		Node				group = new Node();
+		InstancedCylinders	forest = new InstancedCylinders(textures,
+			cylinders, cylinders.acquire(SIDES, -1.0f, 1.0f), 4, 3, 3);
+
+		for (int i=0; i<logs; i++)
+			forest.add(getEmit(i),
+					   new Transform.Scale(0.1f, 0.4f, 0.1f),
+					   new Transform.Rotate(i, 0.0f, 1.0f, 0.0f),
+					   getPlace(i, logs));
+
+		group.add(forest);
+
+		InstancedCylinders.setInstancing(false);
+		run("nodes", counter, nodes, frames);
+		run("loop", counter, group, frames);
+		InstancedCylinders.setInstancing(true);
+		run("instanced", counter, group, frames);
+
+		System.out.printf("  %d logs, %d instanced draws/frame%n", logs,
+						  counter.getCount("glDrawElementsInstanced") /
+						  frames);
+
+		nodes.dispose(counter.getGL());
+		group.dispose(counter.getGL());
+		cylinders.clear(counter.getGL());
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static float[]	getEmit(int i)
+	{
+		return EMITS[i % EMITS.length];
+	}
+
+	private static Transform	getPlace(int i, int logs)
+	{
+		int	side = (int)Math.ceil(Math.sqrt(logs));
+
+		return new Transform.Translate(i % side, 0.4f, i / side);
+	}
+
+	private static void	run(String label, CountingGL counter, Node root,
+							int frames)
+	{
+		GL2			gl = counter.getGL();
+		RenderQueue	queue = new RenderQueue();
+
+		Lighting.invalidate(gl);
+
+		for (int f=0; f<5; f++)							// Warmup
+			queue.render(gl, root);
+
+		counter.reset();
+
+		long	t0 = System.nanoTime();
+
+		for (int f=0; f<frames; f++)
+			queue.render(gl, root);
+
+		long	t1 = System.nanoTime();
+
+		System.out.printf("  %-10s %9d calls/frame  %8.3f ms/frame%n", label,
+						  counter.getTotal() / frames,
+						  (t1 - t0) / 1.0e6 / frames);
+	}
+}
+
+//******************************************************************************
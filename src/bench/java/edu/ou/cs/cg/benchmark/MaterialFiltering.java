@@ -0,0 +1,102 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Sets materials and lights the way homework06 does each frame (one light,
+// then a material per log, with only a few distinct emission colors) with
+// Lighting filtering off and on. Checks that the calls counted by a
+// CountingGL match what Lighting reports as issued.
+//
+// Usage: MaterialFiltering [logs] [frames]
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import com.jogamp.opengl.GL2;
+import edu.ou.cs.cg.utilities.Lighting;
+
+//******************************************************************************
+
+/**
+ * The <CODE>MaterialFiltering</CODE> class measures redundant state
+ * filtering in Lighting.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class MaterialFiltering
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final float[][]	EMITS = new float[][]
+	{
+		{ 0.8f, 0.6f, 0.0f, 1.0f },
+		{ 0.4f, 1.0f, 0.4f, 1.0f },
+		{ 0.3f, 0.3f, 1.0f, 1.0f },
+	};
+
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv)
+	{
+		int	n = ((argv.length > 0) ? Integer.parseInt(argv[0]) : 1000);
+		int	frames = ((argv.length > 1) ? Integer.parseInt(argv[1]) : 100);
+
+		run("unfiltered", n, frames, false);
+		run("filtered  ", n, frames, true);
+		Check.exit();
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static void	run(String label, int n, int frames,
+							boolean filtering)
+	{
+		CountingGL	counter = new CountingGL();
+		GL2			gl = counter.getGL();
+
+		float[]	lp = new float[] { 0.0f, 0.0f, 0.0f, 1.0f };
+		float[]	li = new float[] { 0.85f, 0.75f, 0.0f, 0.5f };
+		float[]	ld = new float[] { 0.0f, 1.0f, 0.0f, 1.0f };
+		float[]	lc = new float[] { 15.0f };
+		float[]	le = new float[] { 2.0f };
+
+		Lighting.setFiltering(filtering);
+		Lighting.invalidate(gl);
+		Lighting.resetCounts();
+
+		// Logs are sorted by color, as siblings of one kind often are
+		for (int f=0; f<frames; f++)
+		{
+			Lighting.setLight(gl, GL2.GL_LIGHT0, lp, li, ld, lc, le);
+
+			for (int i=0; i<n; i++)
+				Lighting.setMaterial(gl, null, null, null, null,
+									 EMITS[i * EMITS.length / n]);
+		}
+
+		long	sent = counter.getCount("glMaterialfv") +
+					   counter.getCount("glLightfv");
+		long	issued = Lighting.getIssuedCount();
+		long	skipped = Lighting.getSkippedCount();
+
+		System.out.printf("  %s issued %8d/frame skipped %8d/frame %s%n",
+						  label, issued / frames, skipped / frames,
+						  Check.status(sent == issued, "sent " + sent));
+	}
+}
+
+//******************************************************************************
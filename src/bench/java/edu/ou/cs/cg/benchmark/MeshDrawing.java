@@ -0,0 +1,97 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Compares drawing textured Cylinders in immediate mode with drawing them
+// from vertex buffer objects. Runs headless against a CountingGL, so the
+// times include stand-in overhead for every call made.
+//
+// Usage: MeshDrawing [slices] [logs] [frames]
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.util.texture.Texture;
+import edu.ou.cs.cg.utilities.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>MeshDrawing</CODE> class benchmarks Cylinder drawing.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class MeshDrawing
+{
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv)
+	{
+		int	slices = ((argv.length > 0) ? Integer.parseInt(argv[0]) : 64);
+		int	n = ((argv.length > 1) ? Integer.parseInt(argv[1]) : 100);
+		int	frames = ((argv.length > 2) ? Integer.parseInt(argv[2]) : 200);
+
+		Cylinder[]	logs = new Cylinder[n];
+
+		for (int i=0; i<n; i++)
+			logs[i] = new Cylinder(slices, -1.0f, 1.0f);
+
+		Texture	side = new Texture(1, GL.GL_TEXTURE_2D, 256, 256, 256, 256,
+								   false);
+		Texture	ends = new Texture(2, GL.GL_TEXTURE_2D, 256, 256, 256, 256,
+								   false);
+
+		for (int pass=0; pass<2; pass++)			// First pass is warmup
+		{
+			System.out.println((pass == 0) ? "Warmup:" : "Measured:");
+
+			Mesh.setBuffered(false);
+			run("immediate", logs, side, ends, frames);
+
+			Mesh.setBuffered(true);
+			run("buffered ", logs, side, ends, frames);
+		}
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static void	run(String label, Cylinder[] logs, Texture side,
+							Texture ends, int frames)
+	{
+		CountingGL	counter = new CountingGL();
+		GL2			gl = counter.getGL();
+		long			t0 = System.nanoTime();
+
+		for (int i=0; i<frames; i++)
+		{
+			for (Cylinder log : logs)
+			{
+				log.fill(gl, side);
+				log.fillFoot(gl, ends);
+				log.fillHead(gl, ends);
+			}
+		}
+
+		long	t1 = System.nanoTime();
+
+		System.out.printf("  %s %10.3f ms/frame %10d GL calls/frame%n", label,
+						  (t1 - t0) / 1.0e6 / frames,
+						  counter.getTotal() / frames);
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,158 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Copies the homework06 images to a temporary directory and loads each one
+// three ways: decoding the JPEG alone (as before mipmaps), through a
+// MipmapCache with no cache file yet (decode, filter, and write), and
+// through it again (map the cache file). Checks that the mapped levels match
+// the ones built, and that uploading a texture to a CountingGL specifies
+// every level. The temporary directory is deleted afterward.
+//
+// Usage: MipmapCaching [repeats]
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import java.io.*;
+import java.net.URL;
+import java.nio.*;
+import java.nio.file.*;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.util.texture.*;
+import edu.ou.cs.cg.assignment.homework06.View;
+import edu.ou.cs.cg.utilities.MipmapCache;
+
+//******************************************************************************
+
+/**
+ * The <CODE>MipmapCaching</CODE> class benchmarks the MipmapCache.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class MipmapCaching
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final String[]		FILENAMES =
+	{
+		"mountain-walls.jpg",
+		"moon-ceiling.jpg",
+		"rock-floor.jpg",
+		"log-ends.jpg",
+		"log-side.jpg",
+	};
+
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv) throws Exception
+	{
+		int	repeats = ((argv.length > 0) ? Integer.parseInt(argv[0]) : 3);
+
+		Path	dir = Files.createTempDirectory("mipmaps");
+
+		try
+		{
+			for (String name : FILENAMES)
+			{
+				try (InputStream in = View.class.getResourceAsStream(
+						 "images/" + name))
+				{
+					Files.copy(in, dir.resolve(name));
+				}
+			}
+
+			for (String name : FILENAMES)
+				run(dir.resolve(name).toUri().toURL(), name, repeats);
+		}
+		finally
+		{
+			for (File file : dir.toFile().listFiles())
+				file.delete();
+
+			Files.delete(dir);
+		}
+
+		Check.exit();
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static void	run(URL url, String name, int repeats)
+		throws Exception
+	{
+		File	cache = new File(new File(url.toURI()).getPath() +
+								 MipmapCache.SUFFIX);
+
+		// Best of several runs each, since the first decode warms up
+		long	decode = Long.MAX_VALUE;
+		long	cold = Long.MAX_VALUE;
+		long	warm = Long.MAX_VALUE;
+
+		TextureData	built = null;
+		TextureData	mapped = null;
+
+		for (int i=0; i<repeats; i++)
+		{
+			long	t0 = System.nanoTime();
+
+			TextureIO.newTextureData(null, url, GL.GL_RGB, GL.GL_RGB, false,
+									 TextureIO.JPG);
+
+			long	t1 = System.nanoTime();
+
+			cache.delete();
+			built = MipmapCache.load(null, url, TextureIO.JPG);
+
+			long	t2 = System.nanoTime();
+
+			mapped = MipmapCache.load(null, url, TextureIO.JPG);
+
+			long	t3 = System.nanoTime();
+
+			decode = Math.min(decode, t1 - t0);
+			cold = Math.min(cold, t2 - t1);
+			warm = Math.min(warm, t3 - t2);
+		}
+
+		Buffer[]	a = built.getMipmapData();
+		Buffer[]	b = mapped.getMipmapData();
+		boolean	same = (b != null) && (a.length == b.length);
+
+		for (int i=0; same && (i<a.length); i++)
+			same = ((ByteBuffer)a[i]).duplicate().rewind().equals(
+					((ByteBuffer)b[i]).duplicate().rewind());
+
+		// Upload to count the levels specified
+		CountingGL	counter = new CountingGL();
+		GL2			gl = counter.getGL();
+
+		new Texture(gl, mapped);
+
+		int	uploads = counter.getCount("glTexImage2D");
+
+		System.out.printf("  %-18s %4dx%-4d %2d levels  decode %7.2f ms  " +
+						  "cold %7.2f ms  mapped %6.3f ms  %7d KB  %s%n",
+						  name, mapped.getWidth(), mapped.getHeight(),
+						  a.length, decode / 1.0e6, cold / 1.0e6,
+						  warm / 1.0e6, cache.length() / 1024,
+						  Check.status(same && (uploads == a.length)));
+	}
+}
+
+//******************************************************************************
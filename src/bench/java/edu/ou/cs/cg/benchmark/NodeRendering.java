@@ -0,0 +1,102 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+// 20261017 [cg]:	Turned off culling.
+//
+//******************************************************************************
+// Notes:
+//
+// Compares Node.renderDirect(), which replays every transform each frame,
+// with Node.render(), which loads cached matrices. Runs headless against a
+// CountingGL, so the times include proxy overhead for every call made.
+//
+// Usage: NodeRendering [nodes] [frames]
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import com.jogamp.opengl.GL2;
+import edu.ou.cs.cg.utilities.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>NodeRendering</CODE> class benchmarks scene graph rendering.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class NodeRendering
+{
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv)
+	{
+		int	n = ((argv.length > 0) ? Integer.parseInt(argv[0]) : 5000);
+		int	frames = ((argv.length > 1) ? Integer.parseInt(argv[1]) : 200);
+
+		Node	root = createScene(n);
+
+		Node.setCulling(false);		// A CountingGL has no real matrices
+
+		for (int pass=0; pass<2; pass++)			// First pass is warmup
+		{
+			System.out.println((pass == 0) ? "Warmup:" : "Measured:");
+			run("renderDirect", root, frames, false);
+			run("render      ", root, frames, true);
+		}
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	// Static logs like the ones in homework06, each with three transforms.
+	private static Node	createScene(int n)
+	{
+		Node	root = new Node();
+
+		for (int i=0; i<n; i++)
+		{
+			Node	node = new Node();
+
+			node.pushTransform(new Transform.Scale(0.12f, 0.5f, 0.11f));
+			node.pushTransform(new Transform.Rotate(1.0f, 1.0f, 0.0f, 70.0f));
+			node.pushTransform(new Transform.Translate(i * 0.01f, 0.4f, 0.0f));
+
+			root.add(node);
+		}
+
+		return root;
+	}
+
+	private static void	run(String label, Node root, int frames,
+							boolean cached)
+	{
+		CountingGL	counter = new CountingGL();
+		GL2			gl = counter.getGL();
+		long			t0 = System.nanoTime();
+
+		for (int i=0; i<frames; i++)
+		{
+			if (cached)
+				root.render(gl);
+			else
+				root.renderDirect(gl);
+		}
+
+		long	t1 = System.nanoTime();
+
+		System.out.printf("  %s %10.3f ms/frame %10d GL calls/frame%n", label,
+						  (t1 - t0) / 1.0e6 / frames,
+						  counter.getTotal() / frames);
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,137 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+// 20261017 [cg]:	Check that emitters wait for the first render.
+//
+//******************************************************************************
+// Notes:
+//
+// Fills a ParticleSystem from emitters in a scene graph until it holds about
+// the requested number of embers, then times the per-frame work of updating
+// the emitters, stepping the simulation, and drawing against a CountingGL,
+// which packs and streams every particle. Reports the time per frame, the GL
+// calls per frame, and the bytes the thread allocates per frame, which
+// should be zero. First checks that emitters updated before any render, when
+// they have no world matrix yet, spawn nothing.
+//
+// Usage: ParticleSimulation [particles] [frames]
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import java.lang.management.ManagementFactory;
+import com.jogamp.opengl.GL2;
+import edu.ou.cs.cg.utilities.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>ParticleSimulation</CODE> class benchmarks a ParticleSystem.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class ParticleSimulation
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int		EMITTERS = 8;
+	private static final float		LIFE = 1.5f;		// Emitter default
+
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv)
+	{
+		int	n = ((argv.length > 0) ? Integer.parseInt(argv[0]) : 100000);
+		int	frames = ((argv.length > 1) ? Integer.parseInt(argv[1]) : 1000);
+
+		com.sun.management.ThreadMXBean	bean =
+			(com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+
+		if (bean.isThreadAllocatedMemorySupported())
+			bean.setThreadAllocatedMemoryEnabled(true);
+
+		CountingGL		counter = new CountingGL();
+		GL2				gl = counter.getGL();
+		ParticleSystem	system = new ParticleSystem(n + n / 4);
+		Node			root = new Node();
+		long			id = Thread.currentThread().getId();
+
+		// Enough emitters, spread around a ring, to keep n embers alive
+		for (int i=0; i<EMITTERS; i++)
+		{
+			Emitter	emitter = new Emitter(system, n / LIFE / EMITTERS);
+			double	a = 2.0 * Math.PI * i / EMITTERS;
+
+			emitter.pushTransform(new Transform.Translate(
+				(float)Math.cos(a), 0.0f, (float)Math.sin(a)));
+			root.add(emitter);
+		}
+
+		Node.setCulling(false);		// A CountingGL has no real matrices
+
+		for (int f=0; f<10; f++)					// Would spawn at the origin
+			root.update(gl);
+
+		System.out.printf("  before render: %d particles %s%n",
+						  system.getCount(),
+						  Check.status(system.getCount() == 0));
+
+		root.render(gl);				// Emitters need world matrices
+
+		for (int f=0; f<(int)(2.0f * LIFE / system.getTimeStep()); f++)
+		{
+			root.update(gl);
+			system.step();
+		}
+
+		for (int pass=0; pass<3; pass++)			// Warm up twice
+		{
+			long	calls = counter.getTotal();
+			long	b0 = bean.getThreadAllocatedBytes(id);
+			long	t0 = System.nanoTime();
+			long	step = 0;
+
+			for (int f=0; f<frames; f++)
+			{
+				root.update(gl);
+
+				long	s0 = System.nanoTime();
+
+				system.step();
+				step += System.nanoTime() - s0;
+
+				system.draw(gl);
+			}
+
+			long	t1 = System.nanoTime();
+			long	b1 = bean.getThreadAllocatedBytes(id);
+
+			// The bean itself allocates a little per call
+			long	b2 = bean.getThreadAllocatedBytes(id);
+			long	bytes = (b1 - b0) - (b2 - b1);
+
+			System.out.printf("  pass %d: %7d particles  %7.3f ms/frame " +
+							  "(step %7.3f)  %d calls/frame  %8.2f " +
+							  "bytes/frame %s%n", pass, system.getCount(),
+							  (t1 - t0) / 1.0e6 / frames,
+							  step / 1.0e6 / frames,
+							  (counter.getTotal() - calls) / frames,
+							  bytes / (double)frames,
+							  ((pass < 2) ? "(warmup)" :
+							   Check.status(bytes <= 0)));
+		}
+
+		Check.exit();
+	}
+}
+
+//******************************************************************************
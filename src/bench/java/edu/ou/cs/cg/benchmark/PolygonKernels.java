@@ -0,0 +1,427 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Compares the containment and reflection code in the reflect apps on
+// regular polygons of 10 to 10,000 sides, as it was with vertices in a Deque
+// that it rotated through, and as it is with a PackedPolygon. Runs with
+// Harness, so takes its options, such as -rf to write JSON results.
+//
+// The Deque versions are copies of the code the apps had, without the
+// tracing. A reflect operation is one step of 0.05 units, reflecting off
+// as many sides as it reaches. Before timing, checks that both versions move
+// a point along the same path to the bit, and agree on containment.
+//
+// Usage: PolygonKernels [-wi n] [-i n] [-r ms] [-f n] [-rf file] [regex]
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import java.awt.geom.Point2D;
+import java.util.*;
+import edu.ou.cs.cg.utilities.PackedPolygon;
+
+//******************************************************************************
+
+/**
+ * The <CODE>PolygonKernels</CODE> class benchmarks polygon containment and
+ * reflection.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class PolygonKernels
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int[]		SIDES = { 10, 100, 1000, 10000 };
+	private static final int		POINTS = 1024;		// Containment tests
+	private static final int		STEPS = 10000;		// Path check length
+	private static final double	SPEED = 0.05;		// Per reflect step
+
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv)
+		throws Exception
+	{
+		List<Harness.Benchmark>	benchmarks =
+			new ArrayList<Harness.Benchmark>();
+
+		for (int sides : SIDES)
+		{
+			check(sides);
+			benchmarks.add(new Contains(sides, false));
+			benchmarks.add(new Contains(sides, true));
+			benchmarks.add(new Reflect(sides, false));
+			benchmarks.add(new Reflect(sides, true));
+		}
+
+		new Harness(PolygonKernels.class, argv).run(benchmarks);
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	// Moves a point for STEPS steps with both versions, and tests containment
+	// of random points, failing if they differ at all.
+	private static void	check(int sides)
+	{
+		Deque<Point2D.Double>	deque = createDeque(sides);
+		PackedPolygon			packed = createPacked(sides);
+		Point2D.Double			q1 = new Point2D.Double(0.1, 0.2);
+		Point2D.Double			q2 = new Point2D.Double(0.1, 0.2);
+		double[]				v1 = createVelocity();
+		double[]				v2 = createVelocity();
+
+		for (int i=0; i<STEPS; i++)
+		{
+			reflect(deque, q1, v1);
+			reflect(packed, q2, v2);
+
+			if ((Double.doubleToLongBits(q1.x) !=
+				 Double.doubleToLongBits(q2.x)) ||
+				(Double.doubleToLongBits(q1.y) !=
+				 Double.doubleToLongBits(q2.y)))
+				throw new IllegalStateException("Paths differ at step " + i +
+												" with " + sides + " sides");
+		}
+
+		for (Point2D.Double p : createPoints())
+			if (contains(deque, p) != packed.contains(p))
+				throw new IllegalStateException("Containment differs at " + p +
+												" with " + sides + " sides");
+
+		System.out.println("# Checked " + sides + " sides: same path to " +
+						   q1.x + ", " + q1.y);
+	}
+
+	// A regular N-gon, as in the apps' createPolygon().
+	private static Deque<Point2D.Double>	createDeque(int sides)
+	{
+		Deque<Point2D.Double>	polygon = new ArrayDeque<Point2D.Double>(sides);
+		double					inv = 2.0 * Math.PI / sides;
+
+		for (int i=0; i<sides; i++)
+		{
+			double	theta = i * inv;
+
+			polygon.add(new Point2D.Double(Math.cos(theta), Math.sin(theta)));
+		}
+
+		return polygon;
+	}
+
+	private static PackedPolygon	createPacked(int sides)
+	{
+		double[]	xs = new double[sides];
+		double[]	ys = new double[sides];
+		double		inv = 2.0 * Math.PI / sides;
+
+		for (int i=0; i<sides; i++)
+		{
+			double	theta = i * inv;
+
+			xs[i] = Math.cos(theta);
+			ys[i] = Math.sin(theta);
+		}
+
+		return new PackedPolygon(xs, ys);
+	}
+
+	// A reference vector of length SPEED that doesn't retrace its path soon.
+	private static double[]	createVelocity()
+	{
+		return new double[] { SPEED * 0.8, SPEED * 0.6 };
+	}
+
+	// Random points in and around the unit circle.
+	private static Point2D.Double[]	createPoints()
+	{
+		Random				random = new Random(1);
+		Point2D.Double[]	points = new Point2D.Double[POINTS];
+
+		for (int j=0; j<points.length; j++)
+			points[j] = new Point2D.Double(random.nextDouble() * 2.4 - 1.2,
+										   random.nextDouble() * 2.4 - 1.2);
+
+		return points;
+	}
+
+	//**********************************************************************
+	// Private Class Methods (Deque)
+	//**********************************************************************
+
+	// The apps' updatePointWithReflection() with vertices in a Deque, with a
+	// velocity factor of 1.0. The reflected reference vector is "returned" in
+	// v, with q.
+	private static void	reflect(Deque<Point2D.Double> polygon,
+									Point2D.Double q, double[] v)
+	{
+		double		ddx = v[0];
+		double		ddy = v[1];
+
+		while (true)
+		{
+			int				sides = polygon.size();
+
+			for (int i=0; i<sides; i++)
+			{
+				Point2D.Double	p1 = polygon.peekFirst();
+
+				if ((p1.x == q.x) && (p1.y == q.y))
+				{
+					v[0] = -v[0];
+					v[1] = -v[1];
+					ddx = -ddx;
+					ddy = -ddy;
+				}
+
+				polygon.offerLast(polygon.pollFirst());
+			}
+
+			Point2D.Double		pp1 = null;
+			Point2D.Double		pp2 = null;
+			double				tmin = Double.MAX_VALUE;
+			Point2D.Double		p1 = polygon.peekLast();
+
+			for (int i=0; i<sides; i++)
+			{
+				Point2D.Double	p2 = polygon.peekFirst();
+				double			vdx = p2.x - p1.x;
+				double			vdy = p2.y - p1.y;
+				double			ndx = -vdy;
+				double			ndy = vdx;
+				double			wdx = p1.x - q.x;
+				double			wdy = p1.y - q.y;
+				double			dnw = dot(ndx, ndy, 0.0, wdx, wdy, 0.0);
+
+				if (dnw < 0.0)
+				{
+					double	dnv = dot(ndx, ndy, 0.0, ddx, ddy, 0.0);
+					double	thit = ((dnv != 0.0) ? (dnw / dnv) : 0.0);
+
+					if ((0.0 < thit) && (thit < tmin))
+					{
+						pp1 = p1;
+						pp2 = p2;
+						tmin = thit;
+					}
+				}
+
+				p1 = p2;
+				polygon.offerLast(polygon.pollFirst());
+			}
+
+			if (tmin > 1.0)
+			{
+				q.x += ddx;
+				q.y += ddy;
+				break;
+			}
+			else
+			{
+				q.x += ddx * tmin;
+				q.y += ddy * tmin;
+
+				double		vdx = pp2.x - pp1.x;
+				double		vdy = pp2.y - pp1.y;
+				double		ndx = -vdy;
+				double		ndy = vdx;
+				double		nn = Math.sqrt(ndx * ndx + ndy * ndy);
+
+				ndx = ndx / nn;
+				ndy = ndy / nn;
+
+				double		dot = dot(ddx, ddy, 0.0, ndx, ndy, 0.0);
+				double		vreflectedx = ddx - 2.0 * dot * ndx;
+				double		vreflectedy = ddy - 2.0 * dot * ndy;
+
+				ddx = vreflectedx * (1.0 - tmin);
+				ddy = vreflectedy * (1.0 - tmin);
+
+				double		dot2 = dot(v[0], v[1], 0.0, ndx, ndy, 0.0);
+
+				v[0] -= 2.0 * dot2 * ndx;
+				v[1] -= 2.0 * dot2 * ndy;
+			}
+		}
+	}
+
+	// The apps' contains() with vertices in a Deque.
+	private static boolean	contains(Deque<Point2D.Double> polygon,
+									 Point2D.Double q)
+	{
+		int			sides = polygon.size();
+		boolean		contains = true;
+		Point2D.Double	p1 = polygon.peekLast();
+
+		for (int i=0; i<sides; i++)
+		{
+			Point2D.Double	p2 = polygon.peekFirst();
+			double			vdx = p2.x - p1.x;
+			double			vdy = p2.y - p1.y;
+			double			ndx = -vdy;
+			double			ndy = vdx;
+			double			wdx = q.x - p1.x;
+			double			wdy = q.y - p1.y;
+
+			if (!(dot(wdx, wdy, 0.0, ndx, ndy, 0.0) > 0.0))
+				contains = false;
+
+			polygon.offerLast(polygon.pollFirst());
+			p1 = p2;
+		}
+
+		return contains;
+	}
+
+	private static double	dot(double vx, double vy, double vz,
+								double wx, double wy, double wz)
+	{
+		return (vx * wx + vy * wy + vz * wz);
+	}
+
+	//**********************************************************************
+	// Private Class Methods (PackedPolygon)
+	//**********************************************************************
+
+	// The apps' updatePointWithReflection() with a PackedPolygon.
+	private static void	reflect(PackedPolygon polygon,
+									Point2D.Double q, double[] v)
+	{
+		double		ddx = v[0];
+		double		ddy = v[1];
+
+		while (true)
+		{
+			if (polygon.isVertex(q.x, q.y))
+			{
+				v[0] = -v[0];
+				v[1] = -v[1];
+				ddx = -ddx;
+				ddy = -ddy;
+			}
+
+			int		side = polygon.getFirstSide(q.x, q.y, ddx, ddy);
+			double	tmin = ((side < 0) ? Double.MAX_VALUE :
+							polygon.getTime(side, q.x, q.y, ddx, ddy));
+
+			if (tmin > 1.0)
+			{
+				q.x += ddx;
+				q.y += ddy;
+				break;
+			}
+			else
+			{
+				q.x += ddx * tmin;
+				q.y += ddy * tmin;
+
+				double		ndx = polygon.getNormalX(side);
+				double		ndy = polygon.getNormalY(side);
+				double		dot = dot(ddx, ddy, 0.0, ndx, ndy, 0.0);
+				double		vreflectedx = ddx - 2.0 * dot * ndx;
+				double		vreflectedy = ddy - 2.0 * dot * ndy;
+
+				ddx = vreflectedx * (1.0 - tmin);
+				ddy = vreflectedy * (1.0 - tmin);
+
+				double		dot2 = dot(v[0], v[1], 0.0, ndx, ndy, 0.0);
+
+				v[0] -= 2.0 * dot2 * ndx;
+				v[1] -= 2.0 * dot2 * ndy;
+			}
+		}
+	}
+
+	//**********************************************************************
+	// Private Inner Classes
+	//**********************************************************************
+
+	// Whether one of POINTS random points is inside the polygon.
+	private static final class Contains extends Harness.Benchmark
+	{
+		private final int					sides;
+		private final boolean				packed;
+		private Deque<Point2D.Double>		deque;
+		private PackedPolygon				polygon;
+		private Point2D.Double[]			points;
+		private int						i;
+
+		public Contains(int sides, boolean packed)
+		{
+			super((packed ? "packed" : "deque") + "Contains" + sides);
+
+			this.sides = sides;
+			this.packed = packed;
+		}
+
+		public void	setup()
+		{
+			deque = createDeque(sides);
+			polygon = createPacked(sides);
+			points = createPoints();
+		}
+
+		public double	run()
+		{
+			i = (i + 1) & (points.length - 1);
+
+			if (packed)
+				return (polygon.contains(points[i]) ? 1.0 : 0.0);
+			else
+				return (contains(deque, points[i]) ? 1.0 : 0.0);
+		}
+	}
+
+	// One step of a point reflecting around inside the polygon.
+	private static final class Reflect extends Harness.Benchmark
+	{
+		private final int					sides;
+		private final boolean				packed;
+		private Deque<Point2D.Double>		deque;
+		private PackedPolygon				polygon;
+		private Point2D.Double				q;
+		private double[]					v;
+
+		public Reflect(int sides, boolean packed)
+		{
+			super((packed ? "packed" : "deque") + "Reflect" + sides);
+
+			this.sides = sides;
+			this.packed = packed;
+		}
+
+		public void	setup()
+		{
+			deque = createDeque(sides);
+			polygon = createPacked(sides);
+			q = new Point2D.Double(0.1, 0.2);
+			v = createVelocity();
+		}
+
+		public double	run()
+		{
+			if (packed)
+				reflect(polygon, q, v);
+			else
+				reflect(deque, q, v);
+
+			return q.x;
+		}
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,181 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+// 20261017 [cg]:	Turned off culling.
+// 20261017 [cg]:	Bind through TextureBinding, and check the queue's binds.
+//
+//******************************************************************************
+// Notes:
+//
+// Builds a scene whose siblings alternate between two textures and three
+// emission colors, then draws it with Node.render() and with a RenderQueue.
+// Counts the texture binds and material calls actually sent to a CountingGL,
+// with Lighting filtering on, alongside the key changes the queue reports.
+// Nodes bind through TextureBinding like the shapes do, so the queue should
+// send at most one bind per texture key change, plus the first, and count
+// the binds it sends correctly.
+//
+// Usage: RenderSorting [nodes] [frames]
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.util.texture.Texture;
+import edu.ou.cs.cg.utilities.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>RenderSorting</CODE> class measures state changes saved by
+ * drawing a scene graph through a RenderQueue.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class RenderSorting
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final float[][]	EMITS = new float[][]
+	{
+		{ 0.8f, 0.6f, 0.0f, 1.0f },
+		{ 0.4f, 1.0f, 0.4f, 1.0f },
+		{ 0.3f, 0.3f, 1.0f, 1.0f },
+	};
+
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv)
+	{
+		int	n = ((argv.length > 0) ? Integer.parseInt(argv[0]) : 5000);
+		int	frames = ((argv.length > 1) ? Integer.parseInt(argv[1]) : 100);
+
+		Texture[]	textures = new Texture[]		// Wrap made-up texture ids
+		{
+			new Texture(1, GL.GL_TEXTURE_2D, 64, 64, 64, 64, false),
+			new Texture(2, GL.GL_TEXTURE_2D, 64, 64, 64, 64, false),
+		};
+
+		Node	root = createScene(n, textures);
+
+		Node.setCulling(false);		// A CountingGL has no real matrices
+
+		Lighting.setFiltering(true);
+
+		for (int pass=0; pass<2; pass++)			// First pass is warmup
+		{
+			System.out.println((pass == 0) ? "Warmup:" : "Measured:");
+			run("render     ", root, frames, null);
+			run("RenderQueue", root, frames, new RenderQueue());
+		}
+
+		Check.exit();
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static Node	createScene(int n, Texture[] textures)
+	{
+		Node	root = new Node();
+
+		for (int i=0; i<n; i++)
+		{
+			Node	node = new Item(textures[i % textures.length],
+									EMITS[i % EMITS.length]);
+
+			node.pushTransform(new Transform.Translate(i * 0.01f, 0.4f, 0.0f));
+			root.add(node);
+		}
+
+		return root;
+	}
+
+	private static void	run(String label, Node root, int frames,
+							RenderQueue queue)
+	{
+		CountingGL	counter = new CountingGL();
+		GL2			gl = counter.getGL();
+
+		Lighting.invalidate(gl);
+
+		long	t0 = System.nanoTime();
+
+		for (int f=0; f<frames; f++)
+		{
+			if (queue != null)
+				queue.render(gl, root);
+			else
+				root.render(gl);
+		}
+
+		long	t1 = System.nanoTime();
+		long	binds = counter.getCount("glBindTexture");
+
+		System.out.printf("  %s binds %6d/frame materials %6d/frame " +
+						  "%8.3f ms/frame%n", label, binds / frames,
+						  counter.getCount("glMaterialfv") / frames,
+						  (t1 - t0) / 1.0e6 / frames);
+
+		if (queue != null)
+			System.out.printf("  %s key changes: texture %d -> %d, " +
+							  "material %d -> %d, binds %s%n", label,
+							  queue.getUnsortedTextureChanges(),
+							  queue.getTextureChanges(),
+							  queue.getUnsortedMaterialChanges(),
+							  queue.getMaterialChanges(),
+							  Check.status((queue.getBindCount() ==
+											binds / frames) &&
+										   (queue.getBindCount() <=
+											queue.getTextureChanges() + 1),
+										   "" + queue.getBindCount()));
+	}
+
+	//**********************************************************************
+	// Private Inner Classes
+	//**********************************************************************
+
+	// Binds its texture through TextureBinding, as the shapes do, and sets
+	// its emission through Lighting.
+	private static final class Item extends Node
+	{
+		private final Texture	texture;
+		private final float[]	emit;
+
+		public Item(Texture texture, float[] emit)
+		{
+			this.texture = texture;
+			this.emit = emit;
+		}
+
+		protected void	depict(GL2 gl)
+		{
+			TextureBinding.bind(gl, texture);
+
+			Lighting.setMaterial(gl, null, null, null, null, emit);
+		}
+
+		protected Texture	getTextureKey()
+		{
+			return texture;
+		}
+
+		protected float[]	getMaterialKey()
+		{
+			return emit;
+		}
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,315 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+// 20261017 [cg]:	Fail when images differ or lack parts of the scene.
+//
+//******************************************************************************
+// Notes:
+//
+// Renders a lit, textured forest of logs on a checkered ground, with a ring
+// of smooth points and a wireframe box, on a SoftwareDrawable. Draws the
+// same frames with one thread and with one per processor (at least two),
+// checks that the images match pixel for pixel, and reports the time per
+// frame of each. Also checks that the image isn't blank, by counting pixels
+// of the clear color, the unlit ring, and the wireframe box, which should
+// all be there, and lit pixels, which should be most of the rest. Optionally
+// writes the last frame to a PNG file to look at.
+//
+// Usage: SoftwareRendering [width] [height] [frames] [file.png]
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import javax.imageio.ImageIO;
+import com.jogamp.opengl.*;
+import com.jogamp.opengl.glu.GLU;
+import com.jogamp.opengl.util.texture.Texture;
+import edu.ou.cs.cg.assignment.homework06.View;
+import edu.ou.cs.cg.utilities.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>SoftwareRendering</CODE> class benchmarks SoftwareGL.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class SoftwareRendering
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int		LOGS = 400;
+	private static final int		SIDES = 32;
+
+	private static final float[]	LIGHT_POSITION = { 2.0f, 6.0f, 3.0f, 1.0f };
+	private static final float[]	LIGHT_COLOR = { 1.0f, 0.9f, 0.7f, 1.0f };
+
+	// Colors drawn exactly, as in Scene.display()
+	private static final int		CLEAR = rgb(0.05f, 0.05f, 0.15f);
+	private static final int		RING = rgb(1.0f, 0.8f, 0.2f);
+	private static final int		WIRE = rgb(0.6f, 0.9f, 1.0f);
+
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv) throws IOException
+	{
+		int	w = ((argv.length > 0) ? Integer.parseInt(argv[0]) : 1280);
+		int	h = ((argv.length > 1) ? Integer.parseInt(argv[1]) : 720);
+		int	frames = ((argv.length > 2) ? Integer.parseInt(argv[2]) : 20);
+		int	threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+		Node.setCulling(false);
+
+		SoftwareDrawable	serial = new SoftwareDrawable(w, h, 1);
+		SoftwareDrawable	parallel = new SoftwareDrawable(w, h, threads);
+
+		double	ts = run("1 thread", serial, frames);
+		double	tp = run(threads + " threads", parallel, frames);
+
+		int[]	a = serial.getImage().getRGB(0, 0, w, h, null, 0, w);
+		int[]	b = parallel.getImage().getRGB(0, 0, w, h, null, 0, w);
+
+		System.out.printf("  %dx%d, %d logs: images match %s, %.2fx " +
+						  "speedup%n", w, h, LOGS,
+						  Check.status(Arrays.equals(a, b)), ts / tp);
+
+		int	clear = count(a, CLEAR);
+		int	ring = count(a, RING);
+		int	wire = count(a, WIRE);
+		int	lit = a.length - clear - ring - wire;
+
+		System.out.printf("  pixels: %d clear, %d ring, %d wire, %d lit %s%n",
+						  clear, ring, wire, lit,
+						  Check.status((clear > 0) && (ring > 0) &&
+									   (wire > 0) && (lit > a.length / 4)));
+
+		if (argv.length > 3)
+			ImageIO.write(parallel.getImage(), "png", new File(argv[3]));
+
+		serial.destroy();
+		parallel.destroy();
+
+		Check.exit();
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static double	run(String label, SoftwareDrawable drawable,
+								int frames)
+	{
+		drawable.addGLEventListener(new Scene());
+		drawable.display();									// Warmup
+		drawable.display();
+
+		long	t0 = System.nanoTime();
+
+		for (int f=0; f<frames; f++)
+			drawable.display();
+
+		long	t1 = System.nanoTime();
+		double	ms = (t1 - t0) / 1.0e6 / frames;
+
+		System.out.printf("  %-10s %8.2f ms/frame%n", label, ms);
+
+		return ms;
+	}
+
+	// The number of pixels of exactly the given color.
+	private static int	count(int[] pixels, int c)
+	{
+		int	n = 0;
+
+		for (int p : pixels)
+			if ((p & 0xFFFFFF) == c)
+				n++;
+
+		return n;
+	}
+
+	// The 8-bit RGB of a color, as SoftwareGL rounds it.
+	private static int	rgb(float r, float g, float b)
+	{
+		return ((Math.round(r * 255.0f) << 16) |
+				(Math.round(g * 255.0f) << 8) | Math.round(b * 255.0f));
+	}
+
+	// A checkerboard of two colors, as a texture.
+	private static Texture	checker(GL2 gl, int size, int c0, int c1)
+	{
+		int[]		id = new int[1];
+		ByteBuffer	pixels = ByteBuffer.allocate(size * size * 3);
+
+		for (int y=0; y<size; y++)
+			for (int x=0; x<size; x++)
+			{
+				int	c = ((((x / 8) + (y / 8)) & 1) == 0) ? c0 : c1;
+
+				pixels.put((byte)(c >> 16));
+				pixels.put((byte)(c >> 8));
+				pixels.put((byte)c);
+			}
+
+		pixels.flip();
+
+		gl.glGenTextures(1, id, 0);
+		gl.glBindTexture(GL.GL_TEXTURE_2D, id[0]);
+		gl.glPixelStorei(GL.GL_UNPACK_ALIGNMENT, 1);
+		gl.glTexImage2D(GL.GL_TEXTURE_2D, 0, GL.GL_RGB, size, size, 0,
+						GL.GL_RGB, GL.GL_UNSIGNED_BYTE, pixels);
+		gl.glTexParameteri(GL.GL_TEXTURE_2D, GL.GL_TEXTURE_MAG_FILTER,
+						   GL.GL_LINEAR);
+
+		return new Texture(id[0], GL.GL_TEXTURE_2D, size, size, size, size,
+						   false);
+	}
+
+	//**********************************************************************
+	// Private Inner Classes
+	//**********************************************************************
+
+	// The scene, drawn as a View would draw it.
+	private static final class Scene implements GLEventListener
+	{
+		private Node		root;
+		private Texture		ground;
+		private RenderQueue	queue;
+		private int			frame;
+		private int			w;
+		private int			h;
+
+		public void	init(GLAutoDrawable drawable)
+		{
+			GL2			gl = drawable.getGL().getGL2();
+			Texture[]	bark = new Texture[5];
+
+			for (int i=0; i<bark.length; i++)
+				bark[i] = checker(gl, 64, 0x6B4A2B + i * 0x080400, 0x3A2614);
+
+			ground = checker(gl, 128, 0x3C6E2A, 0x2C5220);
+			root = new Node();
+			queue = new RenderQueue();
+
+			int	side = (int)Math.ceil(Math.sqrt(LOGS));
+
+			for (int i=0; i<LOGS; i++)
+			{
+				View.Log	log = new View.Log(bark, SIDES, null);
+
+				log.pushTransform(new Transform.Scale(0.1f, 0.4f, 0.1f));
+				log.pushTransform(new Transform.Rotate(i * 37.0f,
+													   0.0f, 1.0f, 0.0f));
+				log.pushTransform(new Transform.Translate(
+					(i % side) * 0.5f - side * 0.25f, 0.4f,
+					(i / side) * 0.5f - side * 0.25f));
+				root.add(log);
+			}
+
+			gl.glEnable(GL.GL_DEPTH_TEST);
+			gl.glEnable(GL2.GL_LIGHTING);
+			gl.glEnable(GL2.GL_NORMALIZE);
+			gl.glEnable(GL2.GL_LIGHT0);
+			gl.glShadeModel(GL2.GL_SMOOTH);
+			Lighting.invalidate(gl);
+		}
+
+		public void	dispose(GLAutoDrawable drawable)
+		{
+		}
+
+		public void	reshape(GLAutoDrawable drawable, int x, int y,
+							int w, int h)
+		{
+			this.w = w;
+			this.h = h;
+		}
+
+		public void	display(GLAutoDrawable drawable)
+		{
+			GL2	gl = drawable.getGL().getGL2();
+			GLU	glu = GLU.createGLU();
+
+			gl.glClearColor(0.05f, 0.05f, 0.15f, 1.0f);
+			gl.glClear(GL.GL_COLOR_BUFFER_BIT | GL.GL_DEPTH_BUFFER_BIT);
+
+			gl.glMatrixMode(GL2.GL_PROJECTION);
+			gl.glLoadIdentity();
+			glu.gluPerspective(45.0f, (float)w / (float)h, 0.1f, 50.0f);
+
+			gl.glMatrixMode(GL2.GL_MODELVIEW);
+			gl.glLoadIdentity();
+			glu.gluLookAt(8.0, 4.0, 8.0, 0.0, 0.0, 0.0, 0.0, 1.0, 0.0);
+			gl.glRotatef(frame++ * 2.0f, 0.0f, 1.0f, 0.0f);
+
+			gl.glLightfv(GL2.GL_LIGHT0, GL2.GL_POSITION, LIGHT_POSITION, 0);
+			gl.glLightfv(GL2.GL_LIGHT0, GL2.GL_DIFFUSE, LIGHT_COLOR, 0);
+
+			// Ground
+			Lighting.setMaterial(gl, null, null, null, null, null);
+			gl.glEnable(GL.GL_TEXTURE_2D);
+			ground.bind(gl);
+			gl.glTexEnvi(GL2.GL_TEXTURE_ENV, GL2.GL_TEXTURE_ENV_MODE,
+						 GL2.GL_MODULATE);
+			gl.glBegin(GL2.GL_QUADS);
+			gl.glNormal3f(0.0f, 1.0f, 0.0f);
+			gl.glTexCoord2f(0.0f, 0.0f);
+			gl.glVertex3f(-6.0f, 0.0f, -6.0f);
+			gl.glTexCoord2f(0.0f, 4.0f);
+			gl.glVertex3f(-6.0f, 0.0f, 6.0f);
+			gl.glTexCoord2f(4.0f, 4.0f);
+			gl.glVertex3f(6.0f, 0.0f, 6.0f);
+			gl.glTexCoord2f(4.0f, 0.0f);
+			gl.glVertex3f(6.0f, 0.0f, -6.0f);
+			gl.glEnd();
+			gl.glDisable(GL.GL_TEXTURE_2D);
+
+			// Logs
+			queue.render(gl, root);
+
+			// Unlit ring of points and a wireframe box
+			gl.glDisable(GL2.GL_LIGHTING);
+			gl.glEnable(GL2.GL_POINT_SMOOTH);
+			gl.glPointSize(6.0f);
+			gl.glColor3f(1.0f, 0.8f, 0.2f);
+			gl.glBegin(GL.GL_POINTS);
+
+			for (int i=0; i<64; i++)
+			{
+				double	a = 2.0 * Math.PI * i / 64;
+
+				gl.glVertex3d(7.0 * Math.cos(a), 1.5, 7.0 * Math.sin(a));
+			}
+
+			gl.glEnd();
+			gl.glDisable(GL2.GL_POINT_SMOOTH);
+
+			gl.glLineWidth(2.0f);
+			gl.glColor3f(0.6f, 0.9f, 1.0f);
+			gl.glBegin(GL.GL_LINE_LOOP);
+			gl.glVertex3f(-6.0f, 3.0f, -6.0f);
+			gl.glVertex3f(-6.0f, 3.0f, 6.0f);
+			gl.glVertex3f(6.0f, 3.0f, 6.0f);
+			gl.glVertex3f(6.0f, 3.0f, -6.0f);
+			gl.glEnd();
+			gl.glEnable(GL2.GL_LIGHTING);
+
+			gl.glFlush();
+		}
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,138 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Measures the time to the first frame when a View starts up with the
+// homework06 images, repeated to make 5 and 50 textures. Loading serially,
+// as View.initTextures() used to, every image is decoded and uploaded before
+// the first frame. With a TextureLoader, the first frame only waits for the
+// placeholders, and the images are decoded in parallel and uploaded between
+// frames. Also reports when the last image arrives.
+//
+// Uploads go to a CountingGL, so the times are mostly decoding.
+//
+// Usage: TextureStartup [threads]
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import java.net.URL;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.util.texture.*;
+import edu.ou.cs.cg.assignment.homework06.View;
+import edu.ou.cs.cg.utilities.TextureLoader;
+
+//******************************************************************************
+
+/**
+ * The <CODE>TextureStartup</CODE> class benchmarks texture loading at
+ * startup.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class TextureStartup
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final String[]		FILENAMES =
+	{
+		"mountain-walls.jpg",
+		"moon-ceiling.jpg",
+		"rock-floor.jpg",
+		"log-ends.jpg",
+		"log-side.jpg",
+	};
+
+	private static final int[]			COUNTS = { 5, 50 };
+
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv) throws Exception
+	{
+		int	threads = ((argv.length > 0) ? Integer.parseInt(argv[0]) :
+					   Runtime.getRuntime().availableProcessors());
+
+		GL2	gl = new CountingGL().getGL();
+
+		System.out.printf("  %d decoding threads%n", threads);
+
+		run(false, gl, threads, FILENAMES.length);	// Warmup
+
+		for (int n : COUNTS)
+			run(true, gl, threads, n);
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static void	run(boolean report, GL2 gl, int threads, int n)
+		throws Exception
+	{
+		URL[]	urls = new URL[n];
+
+		for (int i=0; i<n; i++)
+			urls[i] = View.class.getResource("images/" +
+											 FILENAMES[i % FILENAMES.length]);
+
+		// Serial, like TextureIO.newTexture() for each image in turn
+		long	t0 = System.nanoTime();
+
+		for (int i=0; i<n; i++)
+		{
+			TextureData	data = TextureIO.newTextureData(null, urls[i],
+														GL.GL_RGB, GL.GL_RGB,
+														false, TextureIO.JPG);
+
+			new Texture(gl, data);
+			data.flush();
+		}
+
+		long	t1 = System.nanoTime();
+
+		// Placeholders first, then upload between frames until done
+		TextureLoader	loader = new TextureLoader(null, threads);
+
+		long	t2 = System.nanoTime();
+
+		for (int i=0; i<n; i++)
+			loader.load(gl, urls[i], TextureIO.JPG);
+
+		long	t3 = System.nanoTime();
+		int		frames = 0;
+
+		while (!loader.isDone())
+		{
+			loader.upload(gl);
+			frames++;
+			Thread.sleep(1);					// Stands in for drawing
+		}
+
+		long	t4 = System.nanoTime();
+
+		loader.dispose();
+
+		if (!report)
+			return;
+
+		System.out.printf("  %2d images  first frame: serial %8.1f ms  " +
+						  "loader %6.1f ms  (all loaded %8.1f ms, %d frames)%n",
+						  n, (t1 - t0) / 1.0e6, (t3 - t2) / 1.0e6,
+						  (t4 - t2) / 1.0e6, frames);
+	}
+}
+
+//******************************************************************************
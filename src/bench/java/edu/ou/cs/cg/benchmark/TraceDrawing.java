@@ -0,0 +1,216 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Times a frame of keeping and drawing a long faded trail, as reflect2 did
+// with points in a Deque, and as it does with a TraceBuffer, against a
+// CountingGL. Each frame adds a few points along a spiral, drops the oldest
+// to keep the trail at its length, and draws it. Reports the time per frame,
+// the GL calls per frame, and the bytes the thread allocates per frame,
+// which should be zero for the TraceBuffer.
+//
+// The Deque version is a copy of the code reflect2 had, drawing each segment
+// as a quad with its own emission color. Calls to a CountingGL cost next to
+// nothing, so its time leaves out the driver, which sees seven calls per
+// point, against a handful per frame for the TraceBuffer. Before timing,
+// checks that both versions hold the same points.
+//
+// Usage: TraceDrawing [points] [frames]
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import java.awt.geom.Point2D;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import edu.ou.cs.cg.utilities.TraceBuffer;
+
+//******************************************************************************
+
+/**
+ * The <CODE>TraceDrawing</CODE> class benchmarks keeping and drawing
+ * trails.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class TraceDrawing
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int		ADDS = 3;			// Points per frame
+	private static final float[]	EMIT_NONE = { 0.0f, 0.0f, 0.0f, 1.0f };
+
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv)
+	{
+		int	n = ((argv.length > 0) ? Integer.parseInt(argv[0]) : 100000);
+		int	frames = ((argv.length > 1) ? Integer.parseInt(argv[1]) : 200);
+
+		com.sun.management.ThreadMXBean	bean =
+			(com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+
+		if (bean.isThreadAllocatedMemorySupported())
+			bean.setThreadAllocatedMemoryEnabled(true);
+
+		CountingGL				counter = new CountingGL();
+		GL2						gl = counter.getGL();
+		Deque<Point2D.Double>	deque = new ArrayDeque<Point2D.Double>();
+		TraceBuffer				ring = new TraceBuffer(n);
+		long					id = Thread.currentThread().getId();
+		int[]					td = new int[1];		// Spiral parameters
+		int[]					tr = new int[1];
+
+		for (int i=0; i<n; i++)
+		{
+			add(deque, td, n);
+			add(ring, tr, n);
+		}
+
+		check(deque, ring);
+
+		for (int pass=0; pass<6; pass++)			// Warm up twice each
+		{
+			boolean	packed = ((pass & 1) == 1);
+			long	calls = counter.getTotal();
+			long	b0 = bean.getThreadAllocatedBytes(id);
+			long	t0 = System.nanoTime();
+
+			for (int f=0; f<frames; f++)
+			{
+				if (packed)
+				{
+					for (int i=0; i<ADDS; i++)
+						add(ring, tr, n);
+
+					ring.draw(gl, 1.0f, 1.0f, 1.0f, true);
+				}
+				else
+				{
+					for (int i=0; i<ADDS; i++)
+						add(deque, td, n);
+
+					drawTracingGradient(gl, deque);
+				}
+			}
+
+			long	t1 = System.nanoTime();
+			long	b1 = bean.getThreadAllocatedBytes(id);
+
+			// The bean itself allocates a little per call
+			long	b2 = bean.getThreadAllocatedBytes(id);
+			long	bytes = (b1 - b0) - (b2 - b1);
+
+			System.out.printf("  pass %d: %s %7d points  %8.3f ms/frame  " +
+							  "%7d calls/frame  %12.2f bytes/frame %s%n",
+							  pass, (packed ? "ring " : "deque"), ring.size(),
+							  (t1 - t0) / 1.0e6 / frames,
+							  (counter.getTotal() - calls) / frames,
+							  bytes / (double)frames,
+							  ((pass < 4) ? "(warmup)" :
+							   (packed ? Check.status(bytes <= 0) : "")));
+		}
+
+		check(deque, ring);
+		Check.exit();
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	// The point on a spiral at t[0], which is then advanced.
+	private static double	getX(int[] t)
+	{
+		return 0.9 * (t[0] % 10000) / 10000.0 * Math.cos(t[0] * 0.01);
+	}
+
+	private static double	getY(int[] t)
+	{
+		return 0.9 * (t[0] % 10000) / 10000.0 * Math.sin(t[0] * 0.01);
+	}
+
+	// Adds the next point, keeping at most n, as reflect2 did.
+	private static void	add(Deque<Point2D.Double> deque, int[] t, int n)
+	{
+		deque.offerLast(new Point2D.Double(getX(t), getY(t)));
+		t[0]++;
+
+		while (deque.size() > n)
+			deque.removeFirst();
+	}
+
+	// Adds the next point, keeping at most n, as reflect2 does.
+	private static void	add(TraceBuffer ring, int[] t, int n)
+	{
+		ring.add(getX(t), getY(t));
+		t[0]++;
+		ring.trim(n);
+	}
+
+	private static void	check(Deque<Point2D.Double> deque, TraceBuffer ring)
+	{
+		int	i = 0;
+
+		if (deque.size() != ring.size())
+			throw new IllegalStateException("Sizes differ: " + deque.size() +
+											" vs " + ring.size());
+
+		for (Point2D.Double p : deque)
+		{
+			if ((p.x != ring.getX(i)) || (p.y != ring.getY(i)))
+				throw new IllegalStateException("Points differ at " + i);
+
+			i++;
+		}
+
+		System.out.println("# Checked " + i + " points");
+	}
+
+	// The drawTracingGradient() that reflect2 had.
+	private static void	drawTracingGradient(GL2 gl,
+											Deque<Point2D.Double> tracing)
+	{
+		Point2D.Double	p1 = null;
+		int				n = tracing.size() - 1;			// Segments in trace
+		float			d = 1.0f / n;					// Fraction per segment
+
+		for (Point2D.Double p2 : tracing)
+		{
+			if (p1 != null)
+			{
+				float		cc = 1.0f - (d * --n);
+				float[]		emit = new float[] { cc, cc, cc, 0.0f };
+
+				gl.glMaterialfv(GL.GL_FRONT, GL2.GL_EMISSION, emit, 0);
+
+				gl.glBegin(GL2.GL_POLYGON);
+				gl.glVertex3d(p1.x, p1.y, 0.05);
+				gl.glVertex3d(p1.x, p1.y, 0.00);
+				gl.glVertex3d(p2.x, p2.y, 0.00);
+				gl.glVertex3d(p2.x, p2.y, 0.05);
+				gl.glEnd();
+			}
+
+			p1 = p2;
+		}
+
+		gl.glMaterialfv(GL.GL_FRONT, GL2.GL_EMISSION, EMIT_NONE, 0);
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,149 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Checks that every Transform's inverse undoes its forward matrix, including
+// a general Shear, then times composing, inverting, and applying transform
+// sequences on the CPU. No OpenGL context is needed.
+//
+// Usage: TransformMath [iterations]
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.benchmark;
+
+//import java.lang.*;
+import java.util.*;
+import edu.ou.cs.cg.utilities.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>TransformMath</CODE> class checks and benchmarks Transform math.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class TransformMath
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final float		EPSILON = 1.0e-4f;
+
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv)
+	{
+		int	n = ((argv.length > 0) ? Integer.parseInt(argv[0]) : 2000000);
+
+		List<Transform>	ts = new ArrayList<Transform>();
+
+		ts.add(new Transform.Translate(0.2f, 0.6f, 1.2f));
+		ts.add(new Transform.Rotate(1.0f, 1.0f, 0.0f, 70.0f));
+		ts.add(new Transform.Shear(0.3f, 0.1f, -0.2f, 0.4f, 0.05f, -0.15f));
+		ts.add(new Transform.Scale(0.05f, 0.7f, 0.07f));
+
+		check(ts);
+		time(ts, n);
+		Check.exit();
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static void	check(List<Transform> ts)
+	{
+		float[]	f = new float[16];
+		float[]	i = new float[16];
+		float[]	p = new float[16];
+
+		for (Transform t : ts)
+		{
+			t.getForward(f);
+			t.getInverse(i);
+			Matrix.multiply(f, i, p);
+			report(t.getClass().getSimpleName(), p);
+		}
+
+		Transform.composeForward(ts, f, p);
+		Transform.composeInverse(ts, i, p);
+		Matrix.multiply(f, i, p);
+		report("Sequence", p);
+
+		Transform.composeForward(ts, f, p);
+		Matrix.invert(f, i);
+		Matrix.multiply(i, f, p);
+		report("Matrix.invert", p);
+	}
+
+	private static void	report(String label, float[] m)
+	{
+		float[]	e = new float[16];
+		float	err = 0.0f;
+
+		Matrix.identity(e);
+
+		for (int k=0; k<16; k++)
+			err = Math.max(err, Math.abs(m[k] - e[k]));
+
+		System.out.printf("  %-14s max |F*I - 1| = %.2e %s%n", label, err,
+						  Check.status(err < EPSILON));
+	}
+
+	private static void	time(List<Transform> ts, int n)
+	{
+		float[]	m = new float[16];
+		float[]	temp = new float[16];
+		float[]	p = new float[] { 1.0f, 2.0f, 3.0f };
+		float[]	q = new float[3];
+		float		sum = 0.0f;
+
+		for (int pass=0; pass<2; pass++)			// First pass is warmup
+		{
+			long	t0 = System.nanoTime();
+
+			for (int k=0; k<n; k++)
+				Transform.composeForward(ts, m, temp);
+
+			long	t1 = System.nanoTime();
+
+			for (int k=0; k<n; k++)
+				Matrix.invert(m, temp);
+
+			long	t2 = System.nanoTime();
+
+			for (int k=0; k<n; k++)
+			{
+				Matrix.transformPoint(m, p, q);
+				sum += q[0];
+			}
+
+			long	t3 = System.nanoTime();
+
+			if (pass == 1)
+			{
+				System.out.printf("  compose(4)     %8.1f ns%n",
+								  (t1 - t0) / (double)n);
+				System.out.printf("  invert         %8.1f ns%n",
+								  (t2 - t1) / (double)n);
+				System.out.printf("  transformPoint %8.1f ns%n",
+								  (t3 - t2) / (double)n);
+			}
+		}
+
+		if (Float.isNaN(sum))						// Keep the loop alive
+			System.out.println();
+	}
+}
+
+//******************************************************************************
@@ -9,6 +9,8 @@
 // 20190203 [weaver]:	Updated to JOGL 2.3.2 and cleaned up.
 // 20190227 [weaver]:	Updated to use model and asynchronous event handling.
 // 20190318 [weaver]:	Modified for homework04.
+// 20261017 [cg]:		Kept polygons packed in arrays, without rotating them.
+// 20261017 [cg]:		Don't print exact corners from the animation loop.
 //
 //******************************************************************************
 // Notes:
@@ -27,6 +29,7 @@ import com.jogamp.opengl.awt.GLJPanel;
 import com.jogamp.opengl.glu.*;
 import com.jogamp.opengl.util.FPSAnimator;
 import com.jogamp.opengl.util.awt.TextRenderer;
+import edu.ou.cs.cg.utilities.PackedPolygon;
 import edu.ou.cs.cg.utilities.Utilities;
 import com.jogamp.opengl.util.gl2.GLUT;
 
@@ -77,8 +80,8 @@ public final class View
 	private final KeyHandler			keyHandler;
 	private final MouseHandler			mouseHandler;
 
-	private final Deque<Point2D.Double>			special;
-	private final ArrayList<Deque<Point2D.Double>>	regions;
+	private final PackedPolygon					special;
+	private final ArrayList<PackedPolygon>			regions;
 
 	private final Deque<Point2D.Double>			tracing;
 	private final Deque<Point2D.Double>			bounces;
@@ -103,7 +106,7 @@ public final class View
 
 		// Initialize container polygons
 		special = createSpecialPolygon();					// For N = 2
-		regions = new ArrayList<Deque<Point2D.Double>>();	// For MIN to MAX
+		regions = new ArrayList<PackedPolygon>();			// For MIN to MAX
 
 		for (int i=MIN_SIDES; i<=MAX_SIDES; i++)
 			regions.add(createPolygon(i));
@@ -191,7 +194,7 @@ public final class View
 	{
 		counter++;									// Advance animation counter
 
-		Deque<Point2D.Double>	polygon = getCurrentPolygon();
+		PackedPolygon			polygon = getCurrentPolygon();
 		Point2D.Double			q = model.getObject();
 
 		updatePointWithReflection(polygon, q);
@@ -424,7 +427,7 @@ public final class View
 	// Fills and edges the polygon that is surrounding the moving object.
 	private void	drawContainer(GL2 gl)
 	{
-		Deque<Point2D.Double>	polygon = getCurrentPolygon();
+		PackedPolygon	polygon = getCurrentPolygon();
 
 		//gl.glMaterialfv(GL.GL_FRONT, GL2.GL_EMISSION, EMIT_LIGHT_BLUE, 0);
 		gl.glMaterialfv(GL.GL_FRONT_AND_BACK, GL2.GL_EMISSION, EMIT_NONE, 0);
@@ -523,69 +526,68 @@ public final class View
 	//**********************************************************************
 
 	// Custom polygon for the sides=2 case. Irregular but convex.
-	private Deque<Point2D.Double>	createSpecialPolygon()
+	private PackedPolygon	createSpecialPolygon()
 	{
-		Deque<Point2D.Double>	polygon = new ArrayDeque<Point2D.Double>(10);
-
-		polygon.add(new Point2D.Double( 1.00, -0.86));
-		polygon.add(new Point2D.Double( 1.00, -0.24));
-		polygon.add(new Point2D.Double( 0.48,  0.90));
-		polygon.add(new Point2D.Double( 0.05,  1.00));
-		polygon.add(new Point2D.Double(-0.34,  0.87));
-
-		polygon.add(new Point2D.Double(-0.86,  0.40));
-		polygon.add(new Point2D.Double(-1.00,  0.04));
-		polygon.add(new Point2D.Double(-0.93, -0.42));
-		polygon.add(new Point2D.Double(-0.53, -0.84));
-		polygon.add(new Point2D.Double( 0.71, -1.00));
+		double[]	xs = new double[]
+		{
+			 1.00,  1.00,  0.48,  0.05, -0.34,
+			-0.86, -1.00, -0.93, -0.53,  0.71,
+		};
+		double[]	ys = new double[]
+		{
+			-0.86, -0.24,  0.90,  1.00,  0.87,
+			 0.40,  0.04, -0.42, -0.84, -1.00,
+		};
 
-		return polygon;
+		return new PackedPolygon(xs, ys);
 	}
 
 	// Creates a regular N-gon with points stored in counterclockwise order.
 	// The polygon is centered at the origin with first vertex at (1.0, 0.0).
-	private Deque<Point2D.Double>	createPolygon(int sides)
+	private PackedPolygon	createPolygon(int sides)
 	{
-		Deque<Point2D.Double>	polygon = new ArrayDeque<Point2D.Double>(sides);
-		double					inv = 2.0 * Math.PI / sides;
+		double[]	xs = new double[sides];
+		double[]	ys = new double[sides];
+		double		inv = 2.0 * Math.PI / sides;
 
 		for (int i=0; i<sides; i++)
 		{
 			double	theta = i * inv;
 
-			polygon.add(new Point2D.Double(Math.cos(theta), Math.sin(theta)));
+			xs[i] = Math.cos(theta);
+			ys[i] = Math.sin(theta);
 		}
 
-		return polygon;
+		return new PackedPolygon(xs, ys);
 	}
 
 	// Draws the sides of the specified polygon.
-	private void	edgePolygon(GL2 gl, Deque<Point2D.Double> polygon)
+	private void	edgePolygon(GL2 gl, PackedPolygon polygon)
 	{
 		for (int i=0; i<5; i++)
 		{
 			gl.glBegin(GL2.GL_LINE_LOOP);
 
-			for (Point2D.Double p : polygon)
-				gl.glVertex3d(p.x, p.y, 0.02 * i);
+			for (int j=0; j<polygon.size(); j++)
+				gl.glVertex3d(polygon.getX(j), polygon.getY(j), 0.02 * i);
 
 			gl.glEnd();
 		}
 	}
 
 	// Draws the interior of the specified polygon.
-	private void	fillPolygon(GL2 gl, Deque<Point2D.Double> polygon)
+	private void	fillPolygon(GL2 gl, PackedPolygon polygon)
 	{
 		gl.glBegin(GL2.GL_POLYGON);
 
-		for (Point2D.Double p : polygon)
-			gl.glVertex3d(p.x, p.y, 0.0);
+		for (int j=0; j<polygon.size(); j++)
+			gl.glVertex3d(polygon.getX(j), polygon.getY(j), 0.0);
 
 		gl.glEnd();
 	}
 
 	// Get the polygon that is currently containing the moving object.
-	private Deque<Point2D.Double>	getCurrentPolygon()
+	private PackedPolygon	getCurrentPolygon()
 	{
 		int	sides = model.getNumber();
 
@@ -600,7 +602,7 @@ public final class View
 	// Special method for privileged use by the Model class ONLY.
 	public boolean	currentPolygonContains(Point2D.Double q)
 	{
-		return contains(getCurrentPolygon(), q);
+		return getCurrentPolygon().contains(q);
 	}
 
 	//**********************************************************************
@@ -610,7 +612,7 @@ public final class View
 	// Updates the x and y coordinates of point q. Adds a vector to the provided
 	// point, reflecting as needed off the sides of the provided polygon to
 	// determine the new coordinates. The new coordinates are "returned" in q.
-	public void	updatePointWithReflection(Deque<Point2D.Double> polygon,
+	public void	updatePointWithReflection(PackedPolygon polygon,
 											  Point2D.Double q)
 	{
 		// Scale the reference vector by the current velocity factor.
@@ -621,88 +623,29 @@ public final class View
 		// Consume the scaled vector through reflections until nothing is left.
 		while (true)
 		{
-			int				sides = polygon.size();
-
 			// Crude workaround for very rare (in practice) "corner" cases.
 			// Unfortunately, even this doesn't resolve all edge cases!
-			for (int i=0; i<sides; i++)
+			// If the point is *exactly* on a corner/vertex...
+			if (polygon.isVertex(q.x, q.y))
 			{
-				// Test each corner/vertex.
-				Point2D.Double	p1 = polygon.peekFirst();
-
-				// If the point is *exactly* on a corner/vertex...
-				if ((p1.x == q.x) && (p1.y == q.y))
-				{
-					// ...reverse instead of reflect the reference vector...
-					dx = -dx;
-					dy = -dy;
-
-					// ...and the scaled vector too...
-					ddx = -ddx;
-					ddy = -ddy;
-
-					// ...and remember to freak out. Just a little. :)
-					System.out.println("***WARNING: EXACT CORNER!!!***");
-				}
-
-				polygon.offerLast(polygon.pollFirst());
+				// ...reverse instead of reflect the reference vector...
+				dx = -dx;
+				dy = -dy;
+
+				// ...and the scaled vector too. Don't print anything, since
+				// this runs in the animation loop.
+				ddx = -ddx;
+				ddy = -ddy;
 			}
 
-			// Calculate which side the point will reach first. These variables
-			// store that side's vertices and the parametric time to hit it.
-			Point2D.Double		pp1 = null;
-			Point2D.Double		pp2 = null;
-			double				tmin = Double.MAX_VALUE;
-
-			// Go around the polygon counterclockwise, taking vertices pairwise.
-			Point2D.Double		p1 = polygon.peekLast();	// First in pair
-
-			for (int i=0; i<sides; i++)
-			{
-				Point2D.Double	p2 = polygon.peekFirst();	// Second in pair
-
-				// Calculate the CCW (inward-pointing) perp vector for the pair.
-				double			vdx = p2.x - p1.x;		// Calc side vector
-				double			vdy = p2.y - p1.y;		// from p1 to p2
-				double			ndx = -vdy;			// Calc perp vector:
-				double			ndy = vdx;				// negate y and swap
-
-				// See page 175 and the slide on "Intersection of a Line through
-				// a Line". (Note: R and v on the slide are named q and w here.)
-				double			wdx = p1.x - q.x;		// Calc test vector
-				double			wdy = p1.y - q.y;		// from q to p1
-
-				// Calculate the top part of the t_hit equation.
-				double			dnw = dot(ndx, ndy, 0.0, wdx, wdy, 0.0);
-
-				// Check if q is strictly on the inside of the polygon. The dot
-				// product will be 0 if q is on a side, or slightly positive if
-				// it is beyond it (which can happen due to roundoff error). See
-				// Figure 4.37 and the dot products below it on page 176.
-				if (dnw < 0.0)
-				{
-					// Calculate the bottom part of the t_hit equation.
-					double	dnv = dot(ndx, ndy, 0.0, ddx, ddy, 0.0);
-
-					// If the dot project is zero, the direction of motion is
-					// parallel to the side. Disqualify it as a hit candidate
-					// (even if the point is exactly ON the side).
-					double	thit = ((dnv != 0.0) ? (dnw / dnv) : 0.0);
-
-					// Remember the side with the smallest positive t_hit.
-					// It's the side that the point will reach first.
-					if ((0.0 < thit) && (thit < tmin))
-					{
-						pp1 = p1;
-						pp2 = p2;
-						tmin = thit;
-					}
-				}
-
-				// Promote the second vertex to be the first, and advance CCW.
-				p1 = p2;
-				polygon.offerLast(polygon.pollFirst());
-			}
+			// Calculate which side the point will reach first, and the
+			// parametric time to hit it. See page 175 and the slide on
+			// "Intersection of a Line through a Line". Sides that the point is
+			// on or slightly beyond (due to roundoff error), and sides parallel
+			// to the direction of motion, are never hit.
+			int		side = polygon.getFirstSide(q.x, q.y, ddx, ddy);
+			double	tmin = ((side < 0) ? Double.MAX_VALUE :
+							polygon.getTime(side, q.x, q.y, ddx, ddy));
 
 			if (tmin > 1.0)	// If the smallest positive t_hit is over 1.0,
 			{					// the point won't reach the closest side in
@@ -721,17 +664,9 @@ public final class View
 				tracing.offerLast(new Point2D.Double(q.x, q.y));
 				bounces.offerLast(new Point2D.Double(q.x, q.y));
 
-				// Calculate the CCW (inward-pointing) perp vector for the side.
-				double		vdx = pp2.x - pp1.x;	// Calc side vector
-				double		vdy = pp2.y - pp1.y;	// from p1 to p2
-				double		ndx = -vdy;			// Calc perp vector:
-				double		ndy = vdx;				// negate y and swap
-
 				// Need a NORMALIZED perp vector for the reflection calculation.
-				double		nn = Math.sqrt(ndx * ndx + ndy * ndy);
-
-				ndx = ndx / nn;	// Divide each coordinate by the length to
-				ndy = ndy / nn;	// make a UNIT vector normal to the side.
+				double		ndx = polygon.getNormalX(side);
+				double		ndy = polygon.getNormalY(side);
 
 				// Calculate v_reflected. See pages 148-149 and the slide on
 				// "Reflecting Trajectories". (Note: P and v on the slide are
@@ -765,50 +700,6 @@ public final class View
 	{
 		return (vx * wx + vy * wy + vz * wz);
 	}
-
-	// Determines if point q is to the left of line p1->p2. If strict is false,
-	// points exactly on the line are considered to be left of it.
-	private boolean	isLeft(Point2D.Double p1, Point2D.Double p2,
-							   Point2D.Double q, boolean strict)
-	{
-		// Calculate the CCW (inward-pointing) perp vector for the side.
-		double		vdx = p2.x - p1.x;		// Calc side vector
-		double		vdy = p2.y - p1.y;		// from p1 to p2
-		double		ndx = -vdy;			// Calc perp vector:
-		double		ndy = vdx;				// negate y and swap
-
-		// See the dot product on the slide on "Testing Containment in 2D".
-		double		wdx = q.x - p1.x;		// Calculate test vector
-		double		wdy = q.y - p1.y;		// from p1 to q
-		double		dot = dot(wdx, wdy, 0.0, ndx, ndy, 0.0);
-
-		// If strict, disallow cases of points exactly along the side's line.
-		return (strict ? (dot > 0.0) : (dot >= 0.0));
-	}
-
-	// Determines if point q is inside a polygon. The polygon must be convex
-	// with points stored in counterclockwise order. Points exactly on any side
-	// of the polygon are considered to be outside of it.
-	private boolean	contains(Deque<Point2D.Double> polygon,
-								 Point2D.Double q)
-	{
-		int			sides = polygon.size();
-		boolean		contains = true;
-		Point2D.Double	p1 = polygon.peekLast();
-
-		for (int i=0; i<sides; i++)
-		{
-			Point2D.Double	p2 = polygon.peekFirst();
-
-			if (!isLeft(p1, p2, q, true))
-				contains = false;
-
-			polygon.offerLast(polygon.pollFirst());	// Cycle around polygon
-			p1 = p2;
-		}
-
-		return contains;
-	}
 }
 
 //******************************************************************************
@@ -8,6 +8,9 @@
 // 20160225 [weaver]:	Original file.
 // 20190227 [weaver]:	Updated to use model and asynchronous event handling.
 // 20190318 [weaver]:	Modified for homework04.
+// 20261017 [cg]:		Added keys to change the number of bodies.
+// 20261017 [cg]:		Added a key to toggle collisions between bodies.
+// 20261017 [cg]:		Added keys for stepping between impacts.
 //
 //******************************************************************************
 // Notes:
@@ -64,6 +67,7 @@ public final class KeyHandler extends KeyAdapter
 		int		number = model.getNumber();
 		double		factor = model.getFactor();
 		int		fps = model.getFPS();
+		int		bodies = model.getBodies();
 
 		switch (e.getKeyCode())
 		{
@@ -95,9 +99,29 @@ public final class KeyHandler extends KeyAdapter
 				model.setFPS(Math.min(fps + 1, View.DEFAULT_FRAMES_PER_SECOND));
 				break;
 
+			case KeyEvent.VK_B:	// Decrease bodies by 10x, to none below 1000
+				model.setBodies((bodies > 1000) ? bodies / 10 : 0);
+				break;
+
+			case KeyEvent.VK_N:	// Increase bodies by 10x, from 1000 if none
+				model.setBodies((bodies > 0) ? bodies * 10 : 1000);
+				break;
+
 			case KeyEvent.VK_G:	// Toggle gradient in tracer
 				model.toggleGradient();
 				return;
+
+			case KeyEvent.VK_D:	// Toggle collisions between bodies
+				model.toggleDiscs();
+				return;
+
+			case KeyEvent.VK_E:	// Toggle stepping between impacts
+				model.toggleEvents();
+				return;
+
+			case KeyEvent.VK_F:	// Fast-forward an hour
+				model.fastForward(3600.0 * View.DEFAULT_FRAMES_PER_SECOND);
+				return;
 		}
 	}
 }
@@ -7,6 +7,9 @@
 //
 // 20190227 [weaver]:	Original file.
 // 20190318 [weaver]:	Modified for homework04.
+// 20261017 [cg]:		Added a number of bouncing bodies.
+// 20261017 [cg]:		Added a toggle for collisions between bodies.
+// 20261017 [cg]:		Added stepping between impacts, and fast-forwarding.
 //
 //******************************************************************************
 //
@@ -61,6 +64,9 @@ public final class Model
 	private double						factor;	// Speed multiplier
 	private int						fps;	// Target frames per second
 	private boolean					gradient;	// Draw tracer with gradient
+	private int						bodies;	// Bouncing bodies, 0=none
+	private boolean					discs;	// Bodies collide as discs
+	private boolean					events;	// Step between impacts
 
 	//**********************************************************************
 	// Constructors and Finalizer
@@ -77,6 +83,9 @@ public final class Model
 		factor = 1.0;
 		fps = 60;
 		gradient = false;
+		bodies = 0;
+		discs = false;
+		events = false;
 	}
 
 	//**********************************************************************
@@ -116,6 +125,21 @@ public final class Model
 		return gradient;
 	}
 
+	public int	getBodies()
+	{
+		return bodies;
+	}
+
+	public boolean	getDiscs()
+	{
+		return discs;
+	}
+
+	public boolean	getEvents()
+	{
+		return events;
+	}
+
 	//**********************************************************************
 	// Public Methods (Modify Variables)
 	//**********************************************************************
@@ -208,6 +232,15 @@ public final class Model
 		});;
 	}
 
+	public void	setBodies(int v)
+	{
+		view.getCanvas().invoke(false, new BasicUpdater() {
+			public void	update(GL2 gl) {
+				bodies = Math.min(Math.max(v, 0), View.MAX_BODIES);
+			}
+		});;
+	}
+
 	public void	toggleGradient()
 	{
 		view.getCanvas().invoke(false, new BasicUpdater() {
@@ -217,6 +250,34 @@ public final class Model
 		});;
 	}
 
+	public void	toggleDiscs()
+	{
+		view.getCanvas().invoke(false, new BasicUpdater() {
+			public void	update(GL2 gl) {
+				discs = !discs;
+			}
+		});;
+	}
+
+	public void	toggleEvents()
+	{
+		view.getCanvas().invoke(false, new BasicUpdater() {
+			public void	update(GL2 gl) {
+				events = !events;
+			}
+		});;
+	}
+
+	// Moves the object ahead by a number of frames at once, between impacts.
+	public void	fastForward(double frames)
+	{
+		view.getCanvas().invoke(false, new BasicUpdater() {
+			public void	update(GL2 gl) {
+				view.fastForward(frames);
+			}
+		});;
+	}
+
 	//**********************************************************************
 	// Inner Classes
 	//**********************************************************************
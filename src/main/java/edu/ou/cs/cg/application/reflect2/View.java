@@ -11,17 +11,24 @@
 // 20190318 [weaver]:	Modified for homework04.
 // 20210319 [weaver]:	Added FPS setting and gradient toggling features.
 // 20210320 [weaver]:	Added basic keyboard instructions to drawMode().
+// 20261017 [cg]:		Added an offscreen constructor for benchmarks.
+// 20261017 [cg]:		Kept polygons packed in arrays, without rotating them.
+// 20261017 [cg]:		Added many bodies bouncing on a thread of their own.
+// 20261017 [cg]:		Added collisions between bodies as discs.
+// 20261017 [cg]:		Kept tracing and bounces in ring buffers of points.
+// 20261017 [cg]:		Added stepping between impacts, with corner handling.
+// 20261017 [cg]:		Shut down the engine's threads when disposed.
 //
 //******************************************************************************
 // Notes:
 //
-// The tracing and bounces lists don't quite work as intended. There can be a
-// variable number of tracer points per frame update. Pruning the lists, and
+// The tracing and bounces buffers don't quite work as intended. There can be a
+// variable number of tracer points per frame update. Pruning the buffers, and
 // looping over them to draw the tracer and bounces, would need to be done per
 // frame update rather than per tracer point. This is needed to show the
 // gradient correctly, i.e. one gradient step per frame update (one velocity
 // addition). One fix would be done to store (counter, point) pairs rather than
-// simple (point) values in the lists.
+// simple (point) values in the buffers.
 //
 //******************************************************************************
 
@@ -37,6 +44,10 @@ import com.jogamp.opengl.awt.GLJPanel;
 import com.jogamp.opengl.glu.*;
 import com.jogamp.opengl.util.FPSAnimator;
 import com.jogamp.opengl.util.awt.TextRenderer;
+import edu.ou.cs.cg.utilities.ImpactEngine;
+import edu.ou.cs.cg.utilities.PackedPolygon;
+import edu.ou.cs.cg.utilities.ReflectionEngine;
+import edu.ou.cs.cg.utilities.TraceBuffer;
 import edu.ou.cs.cg.utilities.Utilities;
 import com.jogamp.opengl.util.gl2.GLUT;
 
@@ -58,6 +69,13 @@ public final class View
 	public static final int			DEFAULT_FRAMES_PER_SECOND = 120;
 	private static final DecimalFormat	FORMAT = new DecimalFormat("0.000");
 
+	private static final long			SEED = 1L;		// For bodies
+	private static final double		SPEED = Math.sqrt(2.0) /
+		DEFAULT_FRAMES_PER_SECOND;						// Like dx, dy
+	private static final double		COVER = 0.3;	// Disc radius * sqrt(n)
+	private static final int			MAX_TRACE =
+		DEFAULT_FRAMES_PER_SECOND + 1;					// Points in trails
+
 	//**********************************************************************
 	// Public Class Members
 	//**********************************************************************
@@ -67,13 +85,14 @@ public final class View
 
 	public static final int			MIN_SIDES = 3;
 	public static final int			MAX_SIDES = 12;
+	public static final int			MAX_BODIES = 1000000;
 
 	//**********************************************************************
 	// Private Members
 	//**********************************************************************
 
 	// State (internal) variables
-	private final GLJPanel				canvas;
+	private final GLJPanel				canvas;		// Null if offscreen
 	private int						w;			// Canvas width
 	private int						h;			// Canvas height
 
@@ -87,11 +106,14 @@ public final class View
 	private final KeyHandler			keyHandler;
 	private final MouseHandler			mouseHandler;
 
-	private final Deque<Point2D.Double>			special;
-	private final ArrayList<Deque<Point2D.Double>>	regions;
+	private final PackedPolygon					special;
+	private final ArrayList<PackedPolygon>			regions;
+
+	private final TraceBuffer					tracing;
+	private final TraceBuffer					bounces;
 
-	private final Deque<Point2D.Double>			tracing;
-	private final Deque<Point2D.Double>			bounces;
+	private final ReflectionEngine				engine;		// Many bodies
+	private final ImpactEngine					impacts;	// The object
 
 	private double					dx = 1.0 / DEFAULT_FRAMES_PER_SECOND;
 	private double					dy = 1.0 / DEFAULT_FRAMES_PER_SECOND;
@@ -101,25 +123,52 @@ public final class View
 	//**********************************************************************
 
 	public View(GLJPanel canvas)
+	{
+		this(canvas, canvas);
+	}
+
+	// Runs without interaction or an animator, so the reflection code can be
+	// driven directly, as in benchmarks. The model can't be changed, since it
+	// updates through the canvas.
+	public View(GLAutoDrawable drawable)
+	{
+		this(null, drawable);
+	}
+
+	private View(GLJPanel canvas, GLAutoDrawable drawable)
 	{
 		this.canvas = canvas;
 
 		// Initialize rendering
 		counter = 0;
-		canvas.addGLEventListener(this);
+		drawable.addGLEventListener(this);
 
 		// Initialize model (scene data and parameter manager)
 		model = new Model(this);
 
 		// Initialize container polygons
 		special = createSpecialPolygon();					// For N = 2
-		regions = new ArrayList<Deque<Point2D.Double>>();	// For MIN to MAX
+		regions = new ArrayList<PackedPolygon>();			// For MIN to MAX
 
 		for (int i=MIN_SIDES; i<=MAX_SIDES; i++)
 			regions.add(createPolygon(i));
 
-		tracing = new ArrayDeque<Point2D.Double>();
-		bounces = new ArrayDeque<Point2D.Double>();
+		tracing = new TraceBuffer(MAX_TRACE);
+		bounces = new TraceBuffer(MAX_TRACE);
+
+		impacts = new ImpactEngine(special);
+		impacts.reset(1, SEED, SPEED);
+
+		engine = new ReflectionEngine(special,
+									  Runtime.getRuntime().availableProcessors());
+
+		if (canvas == null)					// Offscreen
+		{
+			keyHandler = null;
+			mouseHandler = null;
+			animator = null;
+			return;
+		}
 
 		// Initialize controller (interaction handlers)
 		keyHandler = new KeyHandler(this, model);
@@ -159,6 +208,24 @@ public final class View
 		bounces.clear();
 	}
 
+	// Moves the object ahead by a number of frames at the current speed,
+	// from one impact to the next, whether or not it steps that way.
+	public void	fastForward(double frames)
+	{
+		Point2D.Double	q = model.getObject();
+
+		syncImpacts(getCurrentPolygon(), q);
+		impacts.advance(frames * model.getFactor());
+
+		q.x = impacts.getX(0);
+		q.y = impacts.getY(0);
+		dx = impacts.getDX(0);
+		dy = impacts.getDY(0);
+
+		model.setObjectInSceneCoordinatesAlt(q);
+		clearAllTrace();
+	}
+
 	public void	updateAnimator()
 	{
 		// This will throw non-fatal ConcurrentModificationExceptions from
@@ -186,7 +253,11 @@ public final class View
 
 	public void	dispose(GLAutoDrawable drawable)
 	{
+		GL2	gl = drawable.getGL().getGL2();
+
 		renderer = null;
+		tracing.dispose(gl);
+		engine.dispose();
 	}
 
 	public void	display(GLAutoDrawable drawable)
@@ -211,19 +282,43 @@ public final class View
 	{
 		counter++;									// Advance animation counter
 
-		Deque<Point2D.Double>	polygon = getCurrentPolygon();
+		PackedPolygon			polygon = getCurrentPolygon();
 		Point2D.Double			q = model.getObject();
 
-		updatePointWithReflection(polygon, q);
+		if (model.getEvents())
+			updatePointWithImpacts(polygon, q);
+		else
+			updatePointWithReflection(polygon, q);
+
 		model.setObjectInSceneCoordinatesAlt(new Point2D.Double(q.x, q.y));
 
 		int	limit = model.getFPS() + 1;
 
-		while (tracing.size() > limit)
-			tracing.removeFirst();
+		tracing.trim(limit);
+		bounces.trim(limit);
+
+		// The bodies step on the engine's thread. Only pass changes along.
+		int	n = model.getBodies();
+
+		if (engine.getPolygon() != polygon)
+			engine.setPolygon(polygon);
 
-		while (bounces.size() > limit)
-			bounces.removeFirst();
+		engine.setFactor(model.getFactor());
+
+		if (engine.getCount() != n)
+			engine.reset(n, SEED, SPEED);
+
+		// Shrink discs as they multiply, to cover about a tenth of the area.
+		double	radius = ((model.getDiscs() && (n > 0)) ?
+						  COVER / Math.sqrt(n) : 0.0);
+
+		if (engine.getRadius() != radius)
+			engine.setRadius(radius);
+
+		if (n > 0)
+			engine.start(DEFAULT_FRAMES_PER_SECOND);
+		else
+			engine.stop();
 	}
 
 	private void	render(GLAutoDrawable drawable)
@@ -379,8 +474,22 @@ public final class View
 		String		sg = ("[g]   Show gradient (currently " +
 							(model.getGradient() ? "on" : "off") + ")");
 
+		String		sb = ("[b|n] Bodies = " + model.getBodies());
+		String		sd = ("[d]   Collide bodies as discs (currently " +
+							(model.getDiscs() ? "on" : "off") + ")");
+
 		renderer.draw(sr, 2, 58);
 		renderer.draw(sg, 2, 72);
+		renderer.draw(sb, 2, 86);
+		renderer.draw(sd, 2, 100);
+
+		String		se = ("[e]   Step between impacts (currently " +
+							(model.getEvents() ? "on" : "off") + ")");
+		String		sk = ("[f]   Fast-forward an hour (" +
+							impacts.getBounces() + " bounces so far)");
+
+		renderer.draw(se, 2, 114);
+		renderer.draw(sk, 2, 128);
 
 		renderer.endRendering();
 	}
@@ -397,6 +506,7 @@ public final class View
 
 		drawBounces(gl);					// Object-side bounces
 		drawObject(gl);					// The moving object
+		drawBodies(gl);					// Many more moving objects
 		//drawCursor(gl);					// Cursor around the mouse point
 	}
 
@@ -458,7 +568,7 @@ public final class View
 	// Fills and edges the polygon that is surrounding the moving object.
 	private void	drawContainer(GL2 gl)
 	{
-		Deque<Point2D.Double>	polygon = getCurrentPolygon();
+		PackedPolygon	polygon = getCurrentPolygon();
 
 		//gl.glMaterialfv(GL.GL_FRONT, GL2.GL_EMISSION, EMIT_LIGHT_BLUE, 0);
 		gl.glMaterialfv(GL.GL_FRONT_AND_BACK, GL2.GL_EMISSION, EMIT_NONE, 0);
@@ -512,70 +622,56 @@ public final class View
 		gl.glMaterialfv(GL.GL_FRONT, GL2.GL_EMISSION, EMIT_NONE, 0);
 	}
 
-	private void	drawTracing(GL2 gl)
+	// Draw the newest snapshot of the bodies as points, in one call.
+	private void	drawBodies(GL2 gl)
 	{
-		gl.glMaterialfv(GL.GL_FRONT, GL2.GL_EMISSION, EMIT_PALE_YELLOW, 0);
+		ReflectionEngine.Snapshot	snapshot = engine.getSnapshot();
 
-		Point2D.Double	p1 = null;
+		if (snapshot.getCount() == 0)
+			return;
 
-		for (Point2D.Double p2 : tracing)
-		{
-			if (p1 != null)
-			{
-				gl.glBegin(GL2.GL_POLYGON);
-				gl.glVertex3d(p1.x, p1.y, 0.05);
-				gl.glVertex3d(p1.x, p1.y, 0.00);
-				gl.glVertex3d(p2.x, p2.y, 0.00);
-				gl.glVertex3d(p2.x, p2.y, 0.05);
-				gl.glEnd();
-			}
+		gl.glMaterialfv(GL.GL_FRONT, GL2.GL_EMISSION, EMIT_YELLOW, 0);
 
-			p1 = p2;
-		}
+		gl.glPushMatrix();
+		gl.glTranslated(0.0, 0.0, 0.01);
+		gl.glPointSize(2.0f);
+
+		gl.glEnableClientState(GL2.GL_VERTEX_ARRAY);
+		gl.glVertexPointer(2, GL.GL_FLOAT, 0, snapshot.getBuffer());
+		gl.glDrawArrays(GL.GL_POINTS, 0, snapshot.getCount());
+		gl.glDisableClientState(GL2.GL_VERTEX_ARRAY);
+
+		gl.glPointSize(1.0f);
+		gl.glPopMatrix();
 
 		gl.glMaterialfv(GL.GL_FRONT, GL2.GL_EMISSION, EMIT_NONE, 0);
 	}
 
-	private void	drawTracingGradient(GL2 gl)
+	// Draw the trace as one line strip, along the tops of the old walls.
+	private void	drawTracing(GL2 gl)
 	{
-		Point2D.Double	p1 = null;
-		int				n = tracing.size() - 1;			// Segments in trace
-		float			d = 1.0f / n;					// Fraction per segment
-
-		for (Point2D.Double p2 : tracing)
-		{
-			if (p1 != null)
-			{
-				float		cc = 1.0f - (d * --n);
-				float[]		emit = new float[] { cc, cc, cc, 0.0f };
-
-				gl.glMaterialfv(GL.GL_FRONT, GL2.GL_EMISSION, emit, 0);
-
-				gl.glBegin(GL2.GL_POLYGON);
-				gl.glVertex3d(p1.x, p1.y, 0.05);
-				gl.glVertex3d(p1.x, p1.y, 0.00);
-				gl.glVertex3d(p2.x, p2.y, 0.00);
-				gl.glVertex3d(p2.x, p2.y, 0.05);
-				gl.glEnd();
-				//System.out.print('.');
-			}
-
-			p1 = p2;
-		}
-
-		//System.out.println(" " + (tracing.size() - 1));
+		gl.glPushMatrix();
+		gl.glTranslated(0.0, 0.0, 0.05);
+		tracing.draw(gl, 1.0f, 1.0f, 0.8f, false);		// Pale yellow
+		gl.glPopMatrix();
+	}
 
-		gl.glMaterialfv(GL.GL_FRONT, GL2.GL_EMISSION, EMIT_NONE, 0);
+	private void	drawTracingGradient(GL2 gl)
+	{
+		gl.glPushMatrix();
+		gl.glTranslated(0.0, 0.0, 0.05);
+		tracing.draw(gl, 1.0f, 1.0f, 1.0f, true);		// Fade from white
+		gl.glPopMatrix();
 	}
 
 	private void	drawBounces(GL2 gl)
 	{
 		gl.glMaterialfv(GL.GL_FRONT, GL2.GL_EMISSION, EMIT_RED, 0);
 
-		for (Point2D.Double p : bounces)
+		for (int i=0; i<bounces.size(); i++)
 		{
 			gl.glPushMatrix();
-			gl.glTranslated(p.x, p.y, 0.05);
+			gl.glTranslated(bounces.getX(i), bounces.getY(i), 0.05);
 			gl.glScaled(0.02, 0.02, 0.1);
 			MYGLUT.glutSolidCube(1.0f);
 			gl.glPopMatrix();
@@ -589,69 +685,68 @@ public final class View
 	//**********************************************************************
 
 	// Custom polygon for the sides=2 case. Irregular but convex.
-	private Deque<Point2D.Double>	createSpecialPolygon()
+	private PackedPolygon	createSpecialPolygon()
 	{
-		Deque<Point2D.Double>	polygon = new ArrayDeque<Point2D.Double>(10);
-
-		polygon.add(new Point2D.Double( 1.00, -0.86));
-		polygon.add(new Point2D.Double( 1.00, -0.24));
-		polygon.add(new Point2D.Double( 0.48,  0.90));
-		polygon.add(new Point2D.Double( 0.05,  1.00));
-		polygon.add(new Point2D.Double(-0.34,  0.87));
-
-		polygon.add(new Point2D.Double(-0.86,  0.40));
-		polygon.add(new Point2D.Double(-1.00,  0.04));
-		polygon.add(new Point2D.Double(-0.93, -0.42));
-		polygon.add(new Point2D.Double(-0.53, -0.84));
-		polygon.add(new Point2D.Double( 0.71, -1.00));
+		double[]	xs = new double[]
+		{
+			 1.00,  1.00,  0.48,  0.05, -0.34,
+			-0.86, -1.00, -0.93, -0.53,  0.71,
+		};
+		double[]	ys = new double[]
+		{
+			-0.86, -0.24,  0.90,  1.00,  0.87,
+			 0.40,  0.04, -0.42, -0.84, -1.00,
+		};
 
-		return polygon;
+		return new PackedPolygon(xs, ys);
 	}
 
 	// Creates a regular N-gon with points stored in counterclockwise order.
 	// The polygon is centered at the origin with first vertex at (1.0, 0.0).
-	private Deque<Point2D.Double>	createPolygon(int sides)
+	private PackedPolygon	createPolygon(int sides)
 	{
-		Deque<Point2D.Double>	polygon = new ArrayDeque<Point2D.Double>(sides);
-		double					inv = 2.0 * Math.PI / sides;
+		double[]	xs = new double[sides];
+		double[]	ys = new double[sides];
+		double		inv = 2.0 * Math.PI / sides;
 
 		for (int i=0; i<sides; i++)
 		{
 			double	theta = i * inv;
 
-			polygon.add(new Point2D.Double(Math.cos(theta), Math.sin(theta)));
+			xs[i] = Math.cos(theta);
+			ys[i] = Math.sin(theta);
 		}
 
-		return polygon;
+		return new PackedPolygon(xs, ys);
 	}
 
 	// Draws the sides of the specified polygon.
-	private void	edgePolygon(GL2 gl, Deque<Point2D.Double> polygon)
+	private void	edgePolygon(GL2 gl, PackedPolygon polygon)
 	{
 		for (int i=0; i<5; i++)
 		{
 			gl.glBegin(GL2.GL_LINE_LOOP);
 
-			for (Point2D.Double p : polygon)
-				gl.glVertex3d(p.x, p.y, 0.02 * i);
+			for (int j=0; j<polygon.size(); j++)
+				gl.glVertex3d(polygon.getX(j), polygon.getY(j), 0.02 * i);
 
 			gl.glEnd();
 		}
 	}
 
 	// Draws the interior of the specified polygon.
-	private void	fillPolygon(GL2 gl, Deque<Point2D.Double> polygon)
+	private void	fillPolygon(GL2 gl, PackedPolygon polygon)
 	{
 		gl.glBegin(GL2.GL_POLYGON);
 
-		for (Point2D.Double p : polygon)
-			gl.glVertex3d(p.x, p.y, 0.0);
+		for (int j=0; j<polygon.size(); j++)
+			gl.glVertex3d(polygon.getX(j), polygon.getY(j), 0.0);
 
 		gl.glEnd();
 	}
 
 	// Get the polygon that is currently containing the moving object.
-	private Deque<Point2D.Double>	getCurrentPolygon()
+	private PackedPolygon	getCurrentPolygon()
 	{
 		int	sides = model.getNumber();
 
@@ -666,7 +761,7 @@ public final class View
 	// Special method for privileged use by the Model class ONLY.
 	public boolean	currentPolygonContains(Point2D.Double q)
 	{
-		return contains(getCurrentPolygon(), q);
+		return getCurrentPolygon().contains(q);
 	}
 
 	//**********************************************************************
@@ -676,7 +771,7 @@ public final class View
 	// Updates the x and y coordinates of point q. Adds a vector to the provided
 	// point, reflecting as needed off the sides of the provided polygon to
 	// determine the new coordinates. The new coordinates are "returned" in q.
-	public void	updatePointWithReflection(Deque<Point2D.Double> polygon,
+	public void	updatePointWithReflection(PackedPolygon polygon,
 											  Point2D.Double q)
 	{
 		// Scale the reference vector by the current velocity factor.
@@ -687,94 +782,35 @@ public final class View
 		// Consume the scaled vector through reflections until nothing is left.
 		while (true)
 		{
-			int				sides = polygon.size();
-
 			// Crude workaround for very rare (in practice) "corner" cases.
 			// Unfortunately, even this doesn't resolve all edge cases!
-			for (int i=0; i<sides; i++)
+			// If the point is *exactly* on a corner/vertex...
+			if (polygon.isVertex(q.x, q.y))
 			{
-				// Test each corner/vertex.
-				Point2D.Double	p1 = polygon.peekFirst();
-
-				// If the point is *exactly* on a corner/vertex...
-				if ((p1.x == q.x) && (p1.y == q.y))
-				{
-					// ...reverse instead of reflect the reference vector...
-					dx = -dx;
-					dy = -dy;
-
-					// ...and the scaled vector too...
-					ddx = -ddx;
-					ddy = -ddy;
-
-					// ...and remember to freak out. Just a little. :)
-					System.out.println("***WARNING: EXACT CORNER!!!***");
-				}
-
-				polygon.offerLast(polygon.pollFirst());
+				// ...reverse instead of reflect the reference vector...
+				dx = -dx;
+				dy = -dy;
+
+				// ...and the scaled vector too. Stepping between impacts
+				// does the same within a tolerance, and handles the rest.
+				ddx = -ddx;
+				ddy = -ddy;
 			}
 
-			// Calculate which side the point will reach first. These variables
-			// store that side's vertices and the parametric time to hit it.
-			Point2D.Double		pp1 = null;
-			Point2D.Double		pp2 = null;
-			double				tmin = Double.MAX_VALUE;
-
-			// Go around the polygon counterclockwise, taking vertices pairwise.
-			Point2D.Double		p1 = polygon.peekLast();	// First in pair
-
-			for (int i=0; i<sides; i++)
-			{
-				Point2D.Double	p2 = polygon.peekFirst();	// Second in pair
-
-				// Calculate the CCW (inward-pointing) perp vector for the pair.
-				double			vdx = p2.x - p1.x;		// Calc side vector
-				double			vdy = p2.y - p1.y;		// from p1 to p2
-				double			ndx = -vdy;			// Calc perp vector:
-				double			ndy = vdx;				// negate y and swap
-
-				// See page 175 and the slide on "Intersection of a Line through
-				// a Line". (Note: R and v on the slide are named q and w here.)
-				double			wdx = p1.x - q.x;		// Calc test vector
-				double			wdy = p1.y - q.y;		// from q to p1
-
-				// Calculate the top part of the t_hit equation.
-				double			dnw = dot(ndx, ndy, 0.0, wdx, wdy, 0.0);
-
-				// Check if q is strictly on the inside of the polygon. The dot
-				// product will be 0 if q is on a side, or slightly positive if
-				// it is beyond it (which can happen due to roundoff error). See
-				// Figure 4.37 and the dot products below it on page 176.
-				if (dnw < 0.0)
-				{
-					// Calculate the bottom part of the t_hit equation.
-					double	dnv = dot(ndx, ndy, 0.0, ddx, ddy, 0.0);
-
-					// If the dot project is zero, the direction of motion is
-					// parallel to the side. Disqualify it as a hit candidate
-					// (even if the point is exactly ON the side).
-					double	thit = ((dnv != 0.0) ? (dnw / dnv) : 0.0);
-
-					// Remember the side with the smallest positive t_hit.
-					// It's the side that the point will reach first.
-					if ((0.0 < thit) && (thit < tmin))
-					{
-						pp1 = p1;
-						pp2 = p2;
-						tmin = thit;
-					}
-				}
-
-				// Promote the second vertex to be the first, and advance CCW.
-				p1 = p2;
-				polygon.offerLast(polygon.pollFirst());
-			}
+			// Calculate which side the point will reach first, and the
+			// parametric time to hit it. See page 175 and the slide on
+			// "Intersection of a Line through a Line". Sides that the point is
+			// on or slightly beyond (due to roundoff error), and sides parallel
+			// to the direction of motion, are never hit.
+			int		side = polygon.getFirstSide(q.x, q.y, ddx, ddy);
+			double	tmin = ((side < 0) ? Double.MAX_VALUE :
+							polygon.getTime(side, q.x, q.y, ddx, ddy));
 
 			if (tmin > 1.0)	// If the smallest positive t_hit is over 1.0,
 			{					// the point won't reach the closest side in
 				q.x += ddx;	// this update. Simply add the velocity vector
 				q.y += ddy;	// to translate the point to its new position.
-				tracing.offerLast(new Point2D.Double(q.x, q.y));
+				tracing.add(q.x, q.y);
 
 				break;			// Now escape from this infinite-seeming loop!
 			}
@@ -784,20 +820,12 @@ public final class View
 				// Translate the point to the reflection point along the side.
 				q.x += ddx * tmin;
 				q.y += ddy * tmin;
-				tracing.offerLast(new Point2D.Double(q.x, q.y));
-				bounces.offerLast(new Point2D.Double(q.x, q.y));
-
-				// Calculate the CCW (inward-pointing) perp vector for the side.
-				double		vdx = pp2.x - pp1.x;	// Calc side vector
-				double		vdy = pp2.y - pp1.y;	// from p1 to p2
-				double		ndx = -vdy;			// Calc perp vector:
-				double		ndy = vdx;				// negate y and swap
+				tracing.add(q.x, q.y);
+				bounces.add(q.x, q.y);
 
 				// Need a NORMALIZED perp vector for the reflection calculation.
-				double		nn = Math.sqrt(ndx * ndx + ndy * ndy);
-
-				ndx = ndx / nn;	// Divide each coordinate by the length to
-				ndy = ndy / nn;	// make a UNIT vector normal to the side.
+				double		ndx = polygon.getNormalX(side);
+				double		ndy = polygon.getNormalY(side);
 
 				// Calculate v_reflected. See pages 148-149 and the slide on
 				// "Reflecting Trajectories". (Note: P and v on the slide are
@@ -821,59 +849,55 @@ public final class View
 		}
 	}
 
-	//**********************************************************************
-	// Private Methods (Vectors)
-	//**********************************************************************
-
-	// This might be a method to calculate a dot product. Sure seems like it.
-	private double		dot(double vx, double vy, double vz,
-							double wx, double wy, double wz)
+	// Updates point q like updatePointWithReflection(), but by moving from one
+	// impact to the next, with times worked out ahead. Each impact is traced
+	// at its exact point. The new coordinates are "returned" in q.
+	public void	updatePointWithImpacts(PackedPolygon polygon,
+										   Point2D.Double q)
 	{
-		return (vx * wx + vy * wy + vz * wz);
-	}
+		syncImpacts(polygon, q);
 
-	// Determines if point q is to the left of line p1->p2. If strict is false,
-	// points exactly on the line are considered to be left of it.
-	private boolean	isLeft(Point2D.Double p1, Point2D.Double p2,
-							   Point2D.Double q, boolean strict)
-	{
-		// Calculate the CCW (inward-pointing) perp vector for the side.
-		double		vdx = p2.x - p1.x;		// Calc side vector
-		double		vdy = p2.y - p1.y;		// from p1 to p2
-		double		ndx = -vdy;			// Calc perp vector:
-		double		ndy = vdx;				// negate y and swap
+		double		end = impacts.getTime() + model.getFactor();
+
+		while (impacts.getNextTime() <= end)
+		{
+			impacts.next();
+			tracing.add(impacts.getX(0), impacts.getY(0));
+			bounces.add(impacts.getX(0), impacts.getY(0));
+		}
+
+		impacts.advanceTo(end);
 
-		// See the dot product on the slide on "Testing Containment in 2D".
-		double		wdx = q.x - p1.x;		// Calculate test vector
-		double		wdy = q.y - p1.y;		// from p1 to q
-		double		dot = dot(wdx, wdy, 0.0, ndx, ndy, 0.0);
+		q.x = impacts.getX(0);
+		q.y = impacts.getY(0);
+		tracing.add(q.x, q.y);
 
-		// If strict, disallow cases of points exactly along the side's line.
-		return (strict ? (dot > 0.0) : (dot >= 0.0));
+		// Keep the reference vector current, for switching back.
+		dx = impacts.getDX(0);
+		dy = impacts.getDY(0);
 	}
 
-	// Determines if point q is inside a polygon. The polygon must be convex
-	// with points stored in counterclockwise order. Points exactly on any side
-	// of the polygon are considered to be outside of it.
-	private boolean	contains(Deque<Point2D.Double> polygon,
-								 Point2D.Double q)
+	// Starts the impact engine's body over from q with the reference vector,
+	// if the polygon, the point, or the vector changed since it last moved.
+	private void	syncImpacts(PackedPolygon polygon, Point2D.Double q)
 	{
-		int			sides = polygon.size();
-		boolean		contains = true;
-		Point2D.Double	p1 = polygon.peekLast();
+		if (impacts.getPolygon() != polygon)
+			impacts.setPolygon(polygon);
 
-		for (int i=0; i<sides; i++)
-		{
-			Point2D.Double	p2 = polygon.peekFirst();
-
-			if (!isLeft(p1, p2, q, true))
-				contains = false;
+		if ((impacts.getX(0) != q.x) || (impacts.getY(0) != q.y) ||
+			(impacts.getDX(0) != dx) || (impacts.getDY(0) != dy))
+			impacts.setBody(0, q.x, q.y, dx, dy);
+	}
 
-			polygon.offerLast(polygon.pollFirst());	// Cycle around polygon
-			p1 = p2;
-		}
+	//**********************************************************************
+	// Private Methods (Vectors)
+	//**********************************************************************
 
-		return contains;
+	// This might be a method to calculate a dot product. Sure seems like it.
+	private double		dot(double vx, double vy, double vz,
+							double wx, double wy, double wz)
+	{
+		return (vx * wx + vy * wy + vz * wz);
 	}
 }
 
@@ -8,6 +8,7 @@
 // 20160425 [weaver]:	Original file.
 // 20190129 [weaver]:	Updated to JOGL 2.3.2 and cleaned up.
 // 20190203 [weaver]:	Additional cleanup and more extensive comments.
+// 20261017 [cg]:		Decode textures in parallel with a TextureLoader.
 //
 //******************************************************************************
 // Notes:
@@ -102,6 +103,7 @@ public final class View
 	private final MouseHandler			mouseHandler;
 
 	private Texture[]					textures;		// Loaded from FILENAMES
+	private TextureLoader				loader;			// Decodes textures
 	private Cylinder					skycan;		// Cylinder+ground+sky
 
 	// Temp variable; turns off to omit sky in down view
@@ -171,6 +173,8 @@ public final class View
 	public void	dispose(GLAutoDrawable drawable)
 	{
 		renderer = null;
+
+		loader.dispose();
 	}
 
 	// Called to initiate rendering of each frame into the GLCanvas.
@@ -225,40 +229,23 @@ public final class View
 	}
 
 	// Load image files as textures into instances of JOGL's Texture class.
+	// The textures start out as placeholders. The loader decodes the files on
+	// worker threads in parallel and uploads them before later frames.
 	// www.khronos.org/registry/OpenGL-Refpages/es2.0/xhtml/glTexParameter.xml
 	private void	initTextures(GLAutoDrawable drawable)
 	{
 		GL2	gl = drawable.getGL().getGL2();
 
+		loader = new TextureLoader(drawable);
 		textures = new Texture[FILENAMES.length];
 
 		for (int i=0; i<FILENAMES.length; i++)
 		{
-			try
-			{
-				URL	url = View.class.getResource(RSRC + FILENAMES[i]);
-
-				if (url != null)
-				{
-					// Create the texture from the JPEG file at the URL.
-					textures[i] = TextureIO.newTexture(url, false,
-													   TextureIO.JPG);
-
-					textures[i].setTexParameteri(gl, GL2.GL_TEXTURE_MIN_FILTER,
-												 GL2.GL_LINEAR);
-					textures[i].setTexParameteri(gl, GL2.GL_TEXTURE_MAG_FILTER,
-												 GL2.GL_LINEAR);
-					textures[i].setTexParameteri(gl, GL2.GL_TEXTURE_WRAP_S,
-												 GL2.GL_CLAMP_TO_EDGE);
-					textures[i].setTexParameteri(gl, GL2.GL_TEXTURE_WRAP_T,
-												 GL2.GL_CLAMP_TO_EDGE);
-				}
-			}
-			catch (Exception ex)
-			{
-				ex.printStackTrace();
-				System.exit(1);			// Bail if image file is missing
-			}
+			URL	url = View.class.getResource(RSRC + FILENAMES[i]);
+
+			// Create the texture from the JPEG file at the URL.
+			if (url != null)
+				textures[i] = loader.load(gl, url, TextureIO.JPG);
 		}
 	}
 
@@ -7,6 +7,7 @@
 //
 // 20190227 [weaver]:	Original file.
 // 20190318 [weaver]:	Modified for homework04.
+// 20261017 [cg]:		Added node selection by mouse click.
 //
 //******************************************************************************
 //
@@ -199,6 +200,19 @@ keys change the rate by +0.1 and -0.1 (by +0.01 and -0.01 when the <shift> key i
 	}
 
 
+	//**********************************************************************
+	// Public Methods (Special)
+	//**********************************************************************
+
+	public void	selectNodeInViewCoordinates(Point q)
+	{
+		view.getCanvas().invoke(false, new BasicUpdater() {
+			public void	update(GL2 gl) {
+				view.selectNodeInViewCoordinates(q.x, q.y);
+			}
+		});;
+	}
+
 	//**********************************************************************
 	// Inner Classes
 	//**********************************************************************
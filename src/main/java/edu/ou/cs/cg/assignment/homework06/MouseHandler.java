@@ -8,6 +8,7 @@
 // 20160225 [weaver]:	Original file.
 // 20190227 [weaver]:	Updated to use model and asynchronous event handling.
 // 20190318 [weaver]:	Modified for homework04.
+// 20261017 [cg]:		Select nodes by mouse click.
 //
 //******************************************************************************
 // Notes:
@@ -61,6 +62,7 @@ public final class MouseHandler extends MouseAdapter
 
 	public void		mouseClicked(MouseEvent e)
 	{
+		model.selectNodeInViewCoordinates(e.getPoint());
 	}
 
 	public void		mouseEntered(MouseEvent e)
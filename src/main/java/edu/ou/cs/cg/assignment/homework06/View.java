@@ -11,6 +11,21 @@
 // 20200416 [weaver]:	Extensive modifications and additions for HW06.
 // 20210416 [weaver]:	More cleanup and comments.
 // 20220416 [weaver]:	Modified to incorporate Transforms and updates to Node.
+// 20261017 [cg]:		Shared Cylinders between nodes with a CylinderCache.
+// 20261017 [cg]:		Draw the scene graph through a state-sorted RenderQueue.
+// 20261017 [cg]:		Set node bounds for culling and show culled counts.
+// 20261017 [cg]:		Pick nodes by mouse click with a BoundsHierarchy.
+// 20261017 [cg]:		Animate Thing and Spotlight without allocating.
+// 20261017 [cg]:		Replaced the example Thing with pooled ember particles.
+// 20261017 [cg]:		Decode textures in parallel with a TextureLoader.
+// 20261017 [cg]:		Pack textures into an atlas to bind once per node.
+// 20261017 [cg]:		Draw the path stones as InstancedCylinders.
+// 20261017 [cg]:		Pick Log slices by screen size and show triangles.
+// 20261017 [cg]:		Added an offscreen constructor for FrameRecorder.
+// 20261017 [cg]:		Don't divide by a zero scene rotation rate.
+// 20261017 [cg]:		Record and show frame costs with FrameMetrics.
+// 20261017 [cg]:		Release nodes' Cylinders when disposing the scene.
+// 20261017 [cg]:		Removed the unused stone class and no-op stone turns.
 //
 //******************************************************************************
 // Notes:
@@ -66,6 +81,12 @@ public final class View
 	public static final GLUT			MYGLUT = new GLUT();
 	public static final Random			RANDOM = new Random();
 
+	// Shares Cylinders between nodes with the same slices and extents
+	public static final CylinderCache	CYLINDERS = new CylinderCache(16);
+
+	// Shared by all Things, in place of glutSolidSphere(1.0, 8, 8)
+	public static final Sphere			SPHERE = new Sphere(8, 8);
+
 	//**********************************************************************
 	// Private Class Members
 	//**********************************************************************
@@ -97,7 +118,7 @@ public final class View
 	//**********************************************************************
 
 	// State (internal) variables
-	private final GLJPanel				canvas;
+	private final GLJPanel				canvas;		// Null if offscreen
 	private int						w;			// Canvas width
 	private int						h;			// Canvas height
 
@@ -112,25 +133,66 @@ public final class View
 	private final MouseHandler			mouseHandler;
 
 	private Texture[]					textures;	// Loaded from FILENAMES
+	private TextureLoader				loader;		// Decodes textures
 	private Node						root;		// Root node of scene graph
+	private final RenderQueue			queue;		// Sorts nodes by state
+
+	// Picking, with CPU copies of the camera set up in updatePipeline()
+	private final BoundsHierarchy		picker;		// Over node bounds
+	private final float[]				projection;
+	private final float[]				camera;		// Modelview for scene
+	private final float[]				inverse;	// Of projection * camera
+	private final float[]				spin;		// Scene rotation
+	private Node						selected;	// Last picked node
+
+	private final ParticleSystem		embers;		// Sparks from the fire
 
-	// TODO: Add members to represent your particle systems
+	private final FrameMetrics		metrics;	// Costs of recent frames
+	private long						issued;		// Lighting calls so far
 
 	//**********************************************************************
 	// Constructors and Finalizer
 	//**********************************************************************
 
 	public View(GLJPanel canvas)
+	{
+		this(canvas, canvas);
+	}
+
+	// Draws into an offscreen drawable, without interaction or an animator,
+	// for recording. Each display() of the drawable draws the next frame.
+	public View(GLAutoDrawable drawable)
+	{
+		this(null, drawable);
+	}
+
+	private View(GLJPanel canvas, GLAutoDrawable drawable)
 	{
 		this.canvas = canvas;
 
 		// Initialize rendering
 		k = 0;
-		canvas.addGLEventListener(this);
+		queue = new RenderQueue();
+		picker = new BoundsHierarchy();
+		projection = new float[16];
+		camera = new float[16];
+		inverse = new float[16];
+		spin = new float[16];
+		embers = new ParticleSystem(100000);
+		metrics = new FrameMetrics(1024);
+		drawable.addGLEventListener(this);
 
 		// Initialize model (scene data and parameter manager)
 		model = new Model(this);
 
+		if (canvas == null)					// Offscreen
+		{
+			keyHandler = null;
+			mouseHandler = null;
+			animator = null;
+			return;
+		}
+
 		// Initialize controller (interaction handlers)
 		keyHandler = new KeyHandler(this, model);
 		mouseHandler = new MouseHandler(this, model);
@@ -169,12 +231,17 @@ public final class View
 		w = drawable.getSurfaceWidth();
 		h = drawable.getSurfaceHeight();
 
-		renderer = new TextRenderer(new Font("Monospaced", Font.PLAIN, 12),
-									true, true);
+		// TextRenderer needs a GLProfile, which a SoftwareDrawable lacks
+		if (drawable.getGLProfile() != null)
+			renderer = new TextRenderer(new Font("Monospaced", Font.PLAIN, 12),
+										true, true);
 
 		initPipeline(drawable);
 		initTextures(drawable);
 
+		if (canvas == null)					// Record real images from the start
+			loader.finish(drawable.getGL().getGL2());
+
 		root = new Node();
 
 		initScene(drawable);
@@ -191,11 +258,21 @@ public final class View
 	// Called to initiate rendering of each frame into the GLCanvas.
 	public void	display(GLAutoDrawable drawable)
 	{
+		metrics.begin();
 		updatePipeline(drawable);
 
 		update(drawable);
+		metrics.updated();
 		render(drawable);
 
+		// Count binds, material and light changes, and draws as GL calls
+		long	lights = Lighting.getIssuedCount();
+
+		metrics.rendered(queue.getCount(), queue.getCulledCount(),
+						 (lights - issued) + queue.getTextureChanges() +
+						 queue.getCount(), LevelOfDetail.getTriangleCount());
+		issued = lights;
+
 		GL2	gl = drawable.getGL().getGL2();
 
 		gl.glFlush();							// Finish and display
@@ -235,41 +312,22 @@ public final class View
 	}
 
 	// Load image files as textures into instances of JOGL's Texture class.
+	// The textures are regions of one atlas texture, so each node binds only
+	// once to draw all its parts. The atlas starts out as a placeholder. The
+	// loader decodes the files on worker threads in parallel, then packs and
+	// uploads them before later frames.
 	// www.khronos.org/registry/OpenGL-Refpages/es2.0/xhtml/glTexParameter.xml
 	private void	initTextures(GLAutoDrawable drawable)
 	{
 		GL2	gl = drawable.getGL().getGL2();
-
-		textures = new Texture[FILENAMES.length];
+		URL[]	urls = new URL[FILENAMES.length];
 
 		for (int i=0; i<FILENAMES.length; i++)
-		{
-			try
-			{
-				URL	url = View.class.getResource(RSRC + FILENAMES[i]);
-
-				if (url != null)
-				{
-					// Create the texture from the JPEG file at the URL.
-					textures[i] = TextureIO.newTexture(url, false,
-													   TextureIO.JPG);
-
-					textures[i].setTexParameteri(gl, GL2.GL_TEXTURE_MIN_FILTER,
-												 GL2.GL_LINEAR);
-					textures[i].setTexParameteri(gl, GL2.GL_TEXTURE_MAG_FILTER,
-												 GL2.GL_LINEAR);
-					textures[i].setTexParameteri(gl, GL2.GL_TEXTURE_WRAP_S,
-												 GL2.GL_CLAMP_TO_EDGE);
-					textures[i].setTexParameteri(gl, GL2.GL_TEXTURE_WRAP_T,
-												 GL2.GL_CLAMP_TO_EDGE);
-				}
-			}
-			catch (Exception ex)
-			{
-				ex.printStackTrace();
-				System.exit(1);		// Bail if any image file is missing!
-			}
-		}
+			urls[i] = View.class.getResource(RSRC + FILENAMES[i]);
+
+		// Create the textures from the JPEG files at the URLs.
+		loader = new TextureLoader(drawable);
+		textures = loader.loadAtlas(gl, urls, TextureIO.JPG);
 	}
 
 	// www.khronos.org/registry/OpenGL-Refpages/gl2.1/xhtml/glMaterial.xml
@@ -329,9 +387,21 @@ public final class View
 
 		// Apply the current viewing angle to the rotation amount for
 		// the entire scene. rotates the scene by a fixed 30 degrees.
-		gl.glRotated(k / model.getScene_rotation_rate(), model.getScene_rotation_amount(),
+		// A rate of zero (the default) means no rotation, rather than NaN
+		double	rate = model.getScene_rotation_rate();
+		double	angle = ((rate != 0.0) ? k / rate : 0.0);
+
+		gl.glRotated(angle, model.getScene_rotation_amount(),
 				1.0, 0.0);
 
+		// Keep the same matrices on the CPU for picking without readback
+		Matrix.perspective(projection, 45.0f, aspect, 0.1f, 50.0f);
+		Matrix.lookAt(camera, (float)distance, 1.0f, (float)distance,
+					  0.0f, (float)focal, 0.0f, 0.0f, 1.0f, 0.0f);
+		Matrix.rotation(spin, (float)angle,
+						(float)model.getScene_rotation_amount(), 1.0f, 0.0f);
+		Matrix.multiply(camera, spin, camera);
+
 
 		// Note: The user sets the *rate* of angular change. As the animation
 		// runs, the scene should revolve around the fire at the current rate.
@@ -393,12 +463,14 @@ public final class View
 		root.add(log3);
 
 
-		// Create an example thing, make it a light, and add it to the scene.
-		Thing	thing = new Thing(0.5f, 0.05f);				
+		// Add an emitter that throws embers up out of the fire. The embers
+		// are simulated and drawn together by the particle system.
+		Emitter	emitter = new Emitter(embers, 600.0f);
 
-		thing.setLight(GL2.GL_LIGHT1);
+		emitter.setRadius(0.2f);
+		emitter.pushTransform(new Transform.Translate(0.0f, 0.4f, 0.4f));
 
-		root.add(thing);
+		root.add(emitter);
 
 
 		// TODO: Create other objects and add them to the scene graph
@@ -473,53 +545,84 @@ public final class View
 
 		root.add(seatlog3);
 
-		//add path of stones
+		//add path of stones, drawn as instances of one cylinder per size
+
+		InstancedCylinders	stones64 = new InstancedCylinders(textures,
+			CYLINDERS, CYLINDERS.acquire(64, -1.0f, 1.0f), 4, 3, 3);
+		InstancedCylinders	stones32 = new InstancedCylinders(textures,
+			CYLINDERS, CYLINDERS.acquire(32, -1.0f, 1.0f), 4, 3, 3);
 
 		float[]	emit07 = new float[] { 0.0f, 1.0f, 0.5f, 0.5f }; //teal
-		stone	stone1 = new stone(textures, 64, emit07);
 
-		stone1.pushTransform(new Transform.Scale(0.12f, 0.03f, 0.12f));
-		// Rotate it 70 degrees around xy to be angled around and tilted upward
-		stone1.pushTransform(new Transform.Rotate(1.0f, 0.0f, 1.0f, 0.0f));
-		// Translate it upward to lay on trunk log (y) and near center (xz).
-		stone1.pushTransform(new Transform.Translate(-1.0f, -0.02f, 1.67f));
-		root.add(stone1);
+		// Scale, then translate, as pushed
+		stones64.add(emit07,
+					 new Transform.Scale(0.12f, 0.03f, 0.12f),
+					 new Transform.Translate(-1.0f, -0.02f, 1.67f));
 
 		float[]	emit08 = new float[] { 0.0f, 1.0f, 0.5f, 0.5f }; //teal
-		stone	stone2 = new stone(textures, 64, emit08);
 
-		stone2.pushTransform(new Transform.Scale(0.10f, 0.03f, 0.05f));
-		// Rotate it 70 degrees around xy to be angled around and tilted upward
-		stone2.pushTransform(new Transform.Rotate(1.0f, 0.0f, 1.0f, 0.0f));
-		// Translate it upward to lay on trunk log (y) and near center (xz).
-		stone2.pushTransform(new Transform.Translate(-1.30f, -0.02f, 2.5f));
-		root.add(stone2);
+		stones64.add(emit08,
+					 new Transform.Scale(0.10f, 0.03f, 0.05f),
+					 new Transform.Translate(-1.30f, -0.02f, 2.5f));
 
 		float[]	emit09 = new float[] { 0.0f, 1.0f, 0.5f, 0.5f }; //teal
-		stone	stone3 = new stone(textures, 32, emit09);
-
-		stone3.pushTransform(new Transform.Scale(0.09f, 0.03f, 0.09f));
-		// Rotate it 70 degrees around xy to be angled around and tilted upward
-		stone3.pushTransform(new Transform.Rotate(1.0f, 0.0f, 1.0f, 0.0f));
-		// Translate it upward to lay on trunk log (y) and near center (xz).
-		stone3.pushTransform(new Transform.Translate(-1.60f, -0.02f, 1.67f));
-		root.add(stone3);
 
+		stones32.add(emit09,
+					 new Transform.Scale(0.09f, 0.03f, 0.09f),
+					 new Transform.Translate(-1.60f, -0.02f, 1.67f));
 
 		float[]	emit10 = new float[] { 0.0f, 1.0f, 0.5f, 0.5f }; //teal
-		stone	stone4 = new stone(textures, 32, emit10);
 
-		stone4.pushTransform(new Transform.Scale(0.09f, 0.03f, 0.09f));
-		// Rotate it 70 degrees around xy to be angled around and tilted upward
-		stone4.pushTransform(new Transform.Rotate(1.0f, 0.0f, 1.0f, 0.0f));
-		// Translate it upward to lay on trunk log (y) and near center (xz).
-		stone4.pushTransform(new Transform.Translate(-1.60f, -0.02f, 2.67f));
-		root.add(stone4);
+		stones32.add(emit10,
+					 new Transform.Scale(0.09f, 0.03f, 0.09f),
+					 new Transform.Translate(-1.60f, -0.02f, 2.67f));
+
+		root.add(stones64);
+		root.add(stones32);
+
+	}
+
+	// Selects the node drawn nearest the camera under view point (x, y), with
+	// y down from the top of the canvas, or none. Mouse clicks trigger this
+	// method. Called on OpenGL thread from Model.selectNodeInViewCoordinates.
+	public void	selectNodeInViewCoordinates(int x, int y)
+	{
+		if (picker.getCount() == 0)
+			picker.build(root);
+		else
+			picker.refit();
+
+		float[]	m = new float[16];
+		int[]	viewport = new int[] { 0, 0, w, h };
+		float[]	near = new float[3];
+		float[]	far = new float[3];
+
+		Matrix.multiply(projection, camera, m);
 
+		if (!Matrix.invert(m, inverse))
+		{
+			selected = null;
+			return;
+		}
+
+		Matrix.unproject(inverse, viewport, x, h - y, 0.0f, near);
+		Matrix.unproject(inverse, viewport, x, h - y, 1.0f, far);
+
+		for (int i=0; i<3; i++)
+			far[i] -= near[i];
+
+		selected = picker.raycast(near, far);
 	}
 
 	public void	disposeScene(GLAutoDrawable drawable)
 	{
+		GL2	gl = drawable.getGL().getGL2();
+
+		root.dispose(gl);
+		CYLINDERS.clear(gl);
+		SPHERE.dispose(gl);
+		embers.dispose(gl);
+		loader.dispose();
 	}
 
 	//**********************************************************************
@@ -533,9 +636,8 @@ public final class View
 
 		GL2	gl = drawable.getGL().getGL2();
 
-		root.update(gl);
-
-		// TODO: Update the object/nodes in your particle systems
+		root.update(gl);				// Emitters spawn embers here
+		embers.step();					// Move and age the embers
 	}
 
 	// Render the scene model and display the current animation frame.
@@ -543,13 +645,15 @@ public final class View
 	{
 		GL2	gl = drawable.getGL().getGL2();
 
+		LevelOfDetail.setView(projection, camera, h);	// Pick log slices
+
 		root.enable(gl);				// Turn on lights in scene graph
 
 		// TODO: Enable any light sources in your particle systems
 
-		root.render(gl);				// Draw the scene graph
+		queue.render(gl, root);		// Draw the scene graph, sorted by state
 
-		// TODO: Draw the object/nodes in your particle systems
+		embers.draw(gl);				// Draw embers after opaque geometry
 
 		root.disable(gl);				// Turn off lights in scene graph
 
@@ -562,6 +666,9 @@ public final class View
 	// along the lefthand side of the canvas.
 	private void	drawMode(GLAutoDrawable drawable)
 	{
+		if (renderer == null)
+			return;
+
 		renderer.beginRendering(w, h);
 
 		// Draw all text in white
@@ -572,6 +679,16 @@ public final class View
 		String	sfoo = FORMAT.format(new Double(model.getFoo()));
 
 		renderer.draw("Foo     = " + sfoo, 2, h - 12);
+		renderer.draw("Nodes   = " + queue.getCount() + " drawn, " +
+					  queue.getCulledCount() + " culled", 2, h - 24);
+		renderer.draw("Picked  = " + ((selected == null) ? "nothing" :
+					  selected.getClass().getSimpleName()), 2, h - 36);
+		renderer.draw("Embers  = " + embers.getCount(), 2, h - 48);
+		renderer.draw("Tris    = " + LevelOfDetail.getTriangleCount() +
+					  " (detail " + FORMAT.format(LevelOfDetail.getBias()) +
+					  ")", 2, h - 60);
+
+		metrics.draw(renderer, 2, h - 84, 240);	// Costs of recent frames
 
 		renderer.endRendering();
 	}
@@ -601,6 +718,16 @@ public final class View
 		return n;
 	}
 
+	// Returns the bounds of a cylinder, for nodes that draw it.
+	private static float[]	boundsOf(Cylinder cylinder)
+	{
+		float[]	box = new float[6];
+
+		cylinder.getBounds(box);
+
+		return box;
+	}
+
 	//**********************************************************************
 	// Inner Classes (Skycan Node)
 	//**********************************************************************
@@ -615,33 +742,56 @@ public final class View
 		private final float[]	diff = new float[] { 0.6f, 0.6f, 0.6f, 1.0f };
 		private final float[]	spec = new float[] { 1.0f, 1.0f, 1.0f, 1.0f };
 
-		private final Cylinder	skycan;	// Cylinder + ground + sky
+		private final CylinderCache	cache;		// Where skycan came from
+		private final Cylinder		skycan;	// Cylinder + ground + sky
 
 		//**************************************************************
 		// Constructors and Finalizer
 		//**************************************************************
 
 		public Skycan(Texture[] textures)
+		{
+			this(CYLINDERS, textures);
+		}
+
+		public Skycan(CylinderCache cache, Texture[] textures)
 		{
 			super(textures);
 
+			this.cache = cache;
+
 			// Scale horizontally (in x and z) but not vertically (in y).
 			pushTransform(new Transform.Scale(4.0f, 1.0f, 4.0f));
 
-			skycan = new Cylinder(32, 0.0f, 2.0f);
+			skycan = cache.acquire(32, 0.0f, 2.0f);
+			setBounds(boundsOf(skycan));
 		}
 
 		//**************************************************************
 		// Override Methods (Node)
 		//**************************************************************
 
+		protected void	release(GL2 gl)
+		{
+			cache.release(gl, skycan);
+		}
+
 		protected void	depict(GL2 gl)
 		{
 			Lighting.setMaterial(gl, ambi, diff, spec, null, null);
 
-			skycan.fill(gl, 	getTexture(0));	// Around the cylinder
-			skycan.fillFoot(gl, getTexture(2));	// Bottom end of the cylinder
-			skycan.fillHead(gl, getTexture(1));	// Top end of the cylinder
+			// Around the cylinder, then the bottom and top ends
+			skycan.fillAll(gl, getTexture(0), getTexture(2), getTexture(1));
+		}
+
+		protected Texture	getTextureKey()
+		{
+			return getTexture(0);
+		}
+
+		protected float[]	getMaterialKey()
+		{
+			return diff;
 		}
 	}
 
@@ -660,6 +810,13 @@ public final class View
 		private float	sdr;		// Running red intensity
 		private float	sdg;		// Running green intensity
 
+		// Light parameters, updated in place each frame
+		private final float[]	lp1 = new float[] { 0.0f, 0.0f, 0.0f, 1.0f };
+		private final float[]	li1 = new float[] { 0.0f, 0.0f, 0.0f, 0.5f };
+		private final float[]	ld1 = new float[] { 0.0f, 1.0f, 0.0f, 1.0f };
+		private final float[]	lc1 = new float[] { 15.0f };
+		private final float[]	le1 = new float[] { 2f };
+
 		//**************************************************************
 		// Constructors and Finalizer
 		//**************************************************************
@@ -690,11 +847,10 @@ public final class View
 
 			// Add variable ruddy yellow spotlight pointing up from origin
 			// Position, Intensity, Direction, Cutoff, Exponent
-			float[]	lp1 = new float[] { 0.0f, 0.0f, 0.0f, 1.0f };
-			float[]	li1 = new float[] {  sdr,  sdg, 0.0f, 0.5f };
-			float[]	ld1 = new float[] {  sdx, 1.0f,  sdz, 1.0f };
-			float[]	lc1 = new float[] { 15.0f };
-			float[]	le1 = new float[] { 2f };
+			li1[0] = sdr;
+			li1[1] = sdg;
+			ld1[0] = sdx;
+			ld1[2] = sdz;
 
 			Lighting.setLight(gl, GL2.GL_LIGHT0, lp1, li1, ld1, lc1, le1);
 		}
@@ -714,9 +870,8 @@ public final class View
 	// objects for your scene as needed.
 
 	// Provides some basic functionality. Adapt to meet all of your Log needs!
-
-
-	public static final class stone extends Node {
+	public static final class Log extends Node
+	{
 		//**************************************************************
 		// Private Members
 		//**************************************************************
@@ -724,63 +879,47 @@ public final class View
 		private final int		sides;			// Allow logs to look jagged
 		private final float[]	emit;			// Allow logs to glow dimly
 
-		private final Cylinder	cylinder;		// Geometry for the log
+		private final CylinderCache	cache;		// Where cylinders came from
+		private final Cylinder[]		cylinders;	// Finest to coarsest
+		private final LevelOfDetail	lod;		// Picks by screen size
 
 		//**************************************************************
 		// Constructors and Finalizer
 		//**************************************************************
 
-		public stone(Texture[] textures, int sides, float[] emit)
+		public Log(Texture[] textures, int sides, float[] emit)
+		{
+			this(CYLINDERS, textures, sides, emit);
+		}
+
+		public Log(CylinderCache cache, Texture[] textures, int sides,
+				   float[] emit)
 		{
 			super(textures);
 
+			this.cache = cache;
 			this.sides = sides;
 			this.emit = emit;
 
-			cylinder = new Cylinder(sides, -1.0f, 1.0f);
-		}
+			int[]	levels = LevelOfDetail.levels(sides);
 
-		protected void	change(GL2 gl)
-		{
-			// The log just sits there, unchanging. Nothing to do...yet?
-		}
+			cylinders = new Cylinder[levels.length];
 
-		protected void	depict(GL2 gl)
-		{
-			Lighting.setMaterial(gl, null, null, null, null, emit);
+			for (int i=0; i<levels.length; i++)
+				cylinders[i] = cache.acquire(levels[i], -1.0f, 1.0f);
 
-			cylinder.fill(gl, 	  getTexture(4));	// Around sides
-			cylinder.fillFoot(gl, getTexture(3));	// Bottom end
-			cylinder.fillHead(gl, getTexture(3));	// Top end
+			lod = new LevelOfDetail(levels);
+			setBounds(boundsOf(cylinders[0]));
 		}
 
-	}
-
-
-
-	public static final class Log extends Node
-	{
 		//**************************************************************
-		// Private Members
+		// Getters and Setters
 		//**************************************************************
 
-		private final int		sides;			// Allow logs to look jagged
-		private final float[]	emit;			// Allow logs to glow dimly
-
-		private final Cylinder	cylinder;		// Geometry for the log
-
-		//**************************************************************
-		// Constructors and Finalizer
-		//**************************************************************
-
-		public Log(Texture[] textures, int sides, float[] emit)
+		// Slices in the level of detail drawn last.
+		public int		getSlices()
 		{
-			super(textures);
-
-			this.sides = sides;
-			this.emit = emit;
-
-			cylinder = new Cylinder(sides, -1.0f, 1.0f);
+			return cylinders[lod.getLevel()].getSlices();
 		}
 
 		//**************************************************************
@@ -792,13 +931,31 @@ public final class View
 			// The log just sits there, unchanging. Nothing to do...yet?
 		}
 
+		protected void	release(GL2 gl)
+		{
+			for (Cylinder cylinder : cylinders)
+				cache.release(gl, cylinder);
+		}
+
 		protected void	depict(GL2 gl)
 		{
+			Cylinder	cylinder = cylinders[lod.select(this)];
+
+			LevelOfDetail.count(cylinder.getTriangleCount());
 			Lighting.setMaterial(gl, null, null, null, null, emit);
 
-			cylinder.fill(gl, 	  getTexture(4));	// Around sides
-			cylinder.fillFoot(gl, getTexture(3));	// Bottom end
-			cylinder.fillHead(gl, getTexture(3));	// Top end
+			// Around sides, then the bottom and top ends
+			cylinder.fillAll(gl, getTexture(4), getTexture(3), getTexture(3));
+		}
+
+		protected Texture	getTextureKey()
+		{
+			return getTexture(4);
+		}
+
+		protected float[]	getMaterialKey()
+		{
+			return emit;
 		}
 	}
 
@@ -819,6 +976,12 @@ public final class View
 		private float	sf;		// Current uniform shrinking factor of the thing
 		private float	b;		// Emission and diffuse light brightness scalar
 
+		// Transforms and colors, updated in place each frame
+		private final Transform.Scale		shrink;		// By sf
+		private final Transform.Translate	drift;		// By dx, dy, dz
+		private final float[]				emit = new float[4];
+		private final float[]				lightColor = new float[4];
+
 		//**************************************************************
 		// Constructors and Finalizer
 		//**************************************************************
@@ -836,10 +999,16 @@ public final class View
 
 			// Scale and translate the thing to its baseline size and position.
 			// Scale and translate it by the initial shrink and drift factors
+			shrink = new Transform.Scale(sf, sf, sf);
+			drift = new Transform.Translate(dx, dy, dz);
+
 			pushTransform(new Transform.Scale(scale, scale, scale));
-			pushTransform(new Transform.Scale(sf, sf, sf));
+			pushTransform(shrink);
 			pushTransform(new Transform.Translate(0.0f, start, 0.0f));
-			pushTransform(new Transform.Translate(dx, dy, dz));
+			pushTransform(drift);
+
+			// The sphere drawn in depict() has radius 1.
+			setBounds(new float[] { -1.0f, -1.0f, -1.0f, 1.0f, 1.0f, 1.0f });
 		}
 
 		//**************************************************************
@@ -848,12 +1017,6 @@ public final class View
 
 		protected void	change(GL2 gl)
 		{
-			// Remove the old transforms.
-			popTransform();
-			popTransform();
-			popTransform();
-			popTransform();
-
 			// Randomly drifts position (variation translation amounts).
 			dx += 0.006f * (RANDOM.nextFloat() - 0.5f);		// Nudge x
 			dy += 0.003f + 0.002f * RANDOM.nextFloat();		// Nudge y
@@ -866,13 +1029,11 @@ public final class View
 			if (dy > 2.0f)
 				dy = 0.0f;
 
-			// Scale and translate the thing to its baseline size and position.
 			// Scale and translate it by the current shrink and drift factors.
-			// Add the new transforms.
-			pushTransform(new Transform.Scale(scale, scale, scale));
-			pushTransform(new Transform.Scale(sf, sf, sf));
-			pushTransform(new Transform.Translate(0.0f, start, 0.0f));
-			pushTransform(new Transform.Translate(dx, dy, dz));
+			// The baseline size and position transforms stay the same.
+			shrink.set(sf, sf, sf);
+			drift.set(dx, dy, dz);
+			transformChanged();
 
 			// Randomly generates new brightness scalar.
 			b = 0.5f + 0.05f * RANDOM.nextFloat();
@@ -880,17 +1041,21 @@ public final class View
 
 		protected void	depict(GL2 gl)
 		{
-			float[]	emit =
-				new float[] { 1.0f * b, 0.8f * b, 0.3f * b, 1.0f };
+			emit[0] = 1.0f * b;
+			emit[1] = 0.8f * b;
+			emit[2] = 0.3f * b;
+			emit[3] = 1.0f;
 
 			Lighting.setMaterial(gl, null, null, null, null, emit);
-			MYGLUT.glutSolidSphere(1.0, 8, 8);
+			SPHERE.fill(gl, 1.0f);
 		}
 
 		protected void	enableLighting(GL2 gl)
 		{
-			float[]	lightColor =
-				new float[] { 1.0f * b, 0.5f * b, 0.2f * b, 1.0f };
+			lightColor[0] = 1.0f * b;
+			lightColor[1] = 0.5f * b;
+			lightColor[2] = 0.2f * b;
+			lightColor[3] = 1.0f;
 
 			enableLightDiffuse(gl, lightColor, dx, dy, dz);
 		}
@@ -0,0 +1,569 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// A bounding volume hierarchy over the world boxes of the nodes in a scene
+// graph that draw something (see Node.getOwnBounds()), for picking on the
+// CPU instead of reading matrices back from OpenGL.
+//
+// The tree is built top down, splitting each box at the median item center
+// along its longest axis, and stored flat: the left child of tree node i is
+// i + 1, and the right child index is stored. Children always come after
+// their parent, so a reverse sweep visits children before parents.
+//
+// refit() keeps the tree shape and only recalculates the boxes of items whose
+// world matrix or bounds have changed, then the boxes above them. That stays
+// correct as things move, but queries slow down if they move far from where
+// they were at build(). Call build() again then. refit() calls it itself when
+// the number of nodes under the root has changed.
+//
+// Queries don't allocate. Not thread-safe; use from the OpenGL thread, where
+// the scene graph is updated and rendered.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.util.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>BoundsHierarchy</CODE> class answers ray and point queries
+ * against the nodes of a scene graph.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class BoundsHierarchy
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int		LEAF_SIZE = 4;		// Most items per leaf
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private Node					root;
+	private int					total;		// Nodes under root at build
+
+	// Items, in leaf order
+	private Node[]					items;
+	private float[]				itemBoxes;	// 6 floats per item
+	private int[]					versions;	// Node versions at refit
+	private int					count;
+
+	// Tree nodes
+	private float[]				boxes;		// 6 floats per tree node
+	private int[]					start;		// First item of a leaf
+	private int[]					size;		// Items in a leaf, 0 if inner
+	private int[]					right;		// Right child of inner node
+	private boolean[]				moved;		// Box changed in this refit
+	private int					nodes;
+
+	// Query scratch
+	private final int[]			stack;
+	private final float[]			hit;		// Entry and exit distances
+	private float					distance;	// Of the last raycast() hit
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	public BoundsHierarchy()
+	{
+		items = new Node[0];
+		itemBoxes = new float[0];
+		versions = new int[0];
+
+		boxes = new float[0];
+		start = new int[0];
+		size = new int[0];
+		right = new int[0];
+		moved = new boolean[0];
+
+		stack = new int[64];
+		hit = new float[2];
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	// Number of nodes with bounds in the tree.
+	public int		getCount()
+	{
+		return count;
+	}
+
+	// Distance along the ray to the box of the last raycast() hit, in units
+	// of the direction's length.
+	public float	getDistance()
+	{
+		return distance;
+	}
+
+	//**********************************************************************
+	// Public Methods (Building)
+	//**********************************************************************
+
+	// Builds the tree over every node under root that has bounds, bringing
+	// their world matrices up to date first.
+	public void	build(Node root)
+	{
+		this.root = root;
+
+		root.prepare(null, false);
+		total = root.getSize();
+
+		List<Node>	list = new ArrayList<Node>();
+		float[]		box = new float[6];
+
+		gather(root, list, box);
+
+		count = list.size();
+		items = list.toArray(new Node[count]);
+		itemBoxes = new float[count * 6];
+		versions = new int[count];
+
+		for (int i=0; i<count; i++)
+		{
+			items[i].getOwnBounds(box);
+			System.arraycopy(box, 0, itemBoxes, i * 6, 6);
+			versions[i] = items[i].getVersion();
+		}
+
+		int	capacity = Math.max(1, 2 * count);
+
+		boxes = new float[capacity * 6];
+		start = new int[capacity];
+		size = new int[capacity];
+		right = new int[capacity];
+		moved = new boolean[capacity];
+		nodes = 0;
+
+		if (count > 0)
+			split(0, count, new float[count]);
+	}
+
+	// Brings the boxes up to date with the scene graph. Returns the number of
+	// items whose boxes changed.
+	public int	refit()
+	{
+		if (root == null)
+			return 0;
+
+		root.prepare(null, false);
+
+		if (root.getSize() != total)
+		{
+			build(root);
+			return count;
+		}
+
+		float[]	box = new float[6];
+		int		changed = 0;
+
+		for (int t=nodes-1; t>=0; t--)
+		{
+			moved[t] = false;
+
+			if (size[t] > 0)						// Leaf
+			{
+				for (int i=start[t]; i<start[t]+size[t]; i++)
+				{
+					int	v = items[i].getVersion();
+
+					if (v == versions[i])
+						continue;
+
+					versions[i] = v;
+
+					if (!items[i].getOwnBounds(box))
+						empty(box);
+
+					System.arraycopy(box, 0, itemBoxes, i * 6, 6);
+					moved[t] = true;
+					changed++;
+				}
+
+				if (moved[t])
+					fitLeaf(t);
+			}
+			else if (moved[t + 1] || moved[right[t]])
+			{
+				fitInner(t);
+				moved[t] = true;
+			}
+		}
+
+		return changed;
+	}
+
+	//**********************************************************************
+	// Public Methods (Queries)
+	//**********************************************************************
+
+	// Returns the node whose box is hit first by the ray from origin along
+	// direction, or null if none. Boxes behind or around the origin, like a
+	// skybox around the camera, don't count. See getDistance() for how far
+	// along the ray the hit is.
+	public Node	raycast(float[] origin, float[] direction)
+	{
+		Node	best = null;
+		float	near = Float.POSITIVE_INFINITY;
+		int		top = 0;
+
+		if (nodes == 0)
+			return null;
+
+		float	ix = 1.0f / direction[0];		// Infinite for 0 is fine
+		float	iy = 1.0f / direction[1];
+		float	iz = 1.0f / direction[2];
+
+		stack[top++] = 0;
+
+		while (top > 0)
+		{
+			int	t = stack[--top];
+
+			if (!slab(boxes, t * 6, origin, ix, iy, iz) ||
+				(Math.max(hit[0], 0.0f) > near))
+				continue;
+
+			if (size[t] > 0)
+			{
+				for (int i=start[t]; i<start[t]+size[t]; i++)
+				{
+					if (slab(itemBoxes, i * 6, origin, ix, iy, iz) &&
+						(hit[0] >= 0.0f) && (hit[0] < near))
+					{
+						near = hit[0];
+						best = items[i];
+					}
+				}
+			}
+			else
+			{
+				top = push(top, right[t]);
+				top = push(top, t + 1);
+			}
+		}
+
+		distance = near;
+
+		return best;
+	}
+
+	// Returns the node with the smallest box containing (x, y, z), or null
+	// if none. In 2D scenes, the smallest box is usually the one on top.
+	public Node	pick(float x, float y, float z)
+	{
+		Node	best = null;
+		float	least = Float.POSITIVE_INFINITY;
+		int		top = 0;
+
+		if (nodes == 0)
+			return null;
+
+		stack[top++] = 0;
+
+		while (top > 0)
+		{
+			int	t = stack[--top];
+
+			if (!contains(boxes, t * 6, x, y, z))
+				continue;
+
+			if (size[t] > 0)
+			{
+				for (int i=start[t]; i<start[t]+size[t]; i++)
+				{
+					if (!contains(itemBoxes, i * 6, x, y, z))
+						continue;
+
+					int		k = i * 6;
+					float	v = (itemBoxes[k + 3] - itemBoxes[k]) *
+								(itemBoxes[k + 4] - itemBoxes[k + 1]) *
+								(itemBoxes[k + 5] - itemBoxes[k + 2]);
+
+					if (v < least)
+					{
+						least = v;
+						best = items[i];
+					}
+				}
+			}
+			else
+			{
+				top = push(top, right[t]);
+				top = push(top, t + 1);
+			}
+		}
+
+		return best;
+	}
+
+	// Adds every node whose box contains (x, y, z) to out. Returns the number
+	// of nodes added.
+	public int	query(float x, float y, float z, Collection<Node> out)
+	{
+		int	n = 0;
+		int	top = 0;
+
+		if (nodes == 0)
+			return 0;
+
+		stack[top++] = 0;
+
+		while (top > 0)
+		{
+			int	t = stack[--top];
+
+			if (!contains(boxes, t * 6, x, y, z))
+				continue;
+
+			if (size[t] > 0)
+			{
+				for (int i=start[t]; i<start[t]+size[t]; i++)
+				{
+					if (contains(itemBoxes, i * 6, x, y, z))
+					{
+						out.add(items[i]);
+						n++;
+					}
+				}
+			}
+			else
+			{
+				top = push(top, right[t]);
+				top = push(top, t + 1);
+			}
+		}
+
+		return n;
+	}
+
+	//**********************************************************************
+	// Private Methods (Building)
+	//**********************************************************************
+
+	private static void	gather(Node node, List<Node> list, float[] box)
+	{
+		if (node.getOwnBounds(box))
+			list.add(node);
+
+		for (int i=0; i<node.getChildCount(); i++)
+			gather(node.get(i), list, box);
+	}
+
+	// Builds the subtree over items [lo, hi) and returns its index.
+	private int	split(int lo, int hi, float[] keys)
+	{
+		int	t = nodes++;
+
+		start[t] = lo;
+		size[t] = hi - lo;
+		fitLeaf(t);
+
+		if (hi - lo <= LEAF_SIZE)
+			return t;
+
+		// Split along the longest axis of the box
+		int	k = t * 6;
+		int	axis = 0;
+
+		for (int a=1; a<3; a++)
+			if (boxes[k + 3 + a] - boxes[k + a] >
+				boxes[k + 3 + axis] - boxes[k + axis])
+				axis = a;
+
+		int	mid = (lo + hi) >>> 1;
+
+		select(lo, hi - 1, mid, axis, keys);
+
+		size[t] = 0;
+		split(lo, mid, keys);
+		right[t] = split(mid, hi, keys);
+
+		return t;
+	}
+
+	// Partially sorts items [lo, hi] by center along axis, so the item at k
+	// is in its sorted place (quickselect).
+	private void	select(int lo, int hi, int k, int axis, float[] keys)
+	{
+		for (int i=lo; i<=hi; i++)
+			keys[i] = itemBoxes[i * 6 + axis] + itemBoxes[i * 6 + 3 + axis];
+
+		while (lo < hi)
+		{
+			float	pivot = keys[(lo + hi) >>> 1];
+			int		i = lo;
+			int		j = hi;
+
+			while (i <= j)
+			{
+				while (keys[i] < pivot)
+					i++;
+
+				while (keys[j] > pivot)
+					j--;
+
+				if (i <= j)
+					swap(i++, j--, keys);
+			}
+
+			if (k <= j)
+				hi = j;
+			else if (k >= i)
+				lo = i;
+			else
+				break;
+		}
+	}
+
+	private void	swap(int i, int j, float[] keys)
+	{
+		Node	n = items[i];
+
+		items[i] = items[j];
+		items[j] = n;
+
+		int		v = versions[i];
+
+		versions[i] = versions[j];
+		versions[j] = v;
+
+		float	f = keys[i];
+
+		keys[i] = keys[j];
+		keys[j] = f;
+
+		for (int c=0; c<6; c++)
+		{
+			f = itemBoxes[i * 6 + c];
+			itemBoxes[i * 6 + c] = itemBoxes[j * 6 + c];
+			itemBoxes[j * 6 + c] = f;
+		}
+	}
+
+	// Sets the box of tree node t to the union of its items' boxes.
+	private void	fitLeaf(int t)
+	{
+		int	k = t * 6;
+
+		empty(boxes, k);
+
+		for (int i=start[t]; i<start[t]+size[t]; i++)
+			union(boxes, k, itemBoxes, i * 6);
+	}
+
+	// Sets the box of tree node t to the union of its children's boxes.
+	private void	fitInner(int t)
+	{
+		int	k = t * 6;
+
+		empty(boxes, k);
+		union(boxes, k, boxes, (t + 1) * 6);
+		union(boxes, k, boxes, right[t] * 6);
+	}
+
+	//**********************************************************************
+	// Private Methods (Queries)
+	//**********************************************************************
+
+	private int	push(int top, int t)
+	{
+		if (top == stack.length)	// Can't happen with median splits
+			throw new IllegalStateException("BoundsHierarchy too deep");
+
+		stack[top] = t;
+
+		return top + 1;
+	}
+
+	// Intersects the ray with the box at a[k], given the inverse direction.
+	// Sets hit to the entry and exit distances and returns true if any of
+	// the box is at or in front of the origin. Entry is negative if the box
+	// is around the origin.
+	private boolean	slab(float[] a, int k, float[] o,
+						 float ix, float iy, float iz)
+	{
+		if (a[k] > a[k + 3])						// Empty
+			return false;
+
+		float	t0 = (a[k] - o[0]) * ix, t1 = (a[k + 3] - o[0]) * ix;
+		float	tmin = Math.min(t0, t1), tmax = Math.max(t0, t1);
+
+		t0 = (a[k + 1] - o[1]) * iy;
+		t1 = (a[k + 4] - o[1]) * iy;
+		tmin = max(tmin, Math.min(t0, t1));
+		tmax = min(tmax, Math.max(t0, t1));
+
+		t0 = (a[k + 2] - o[2]) * iz;
+		t1 = (a[k + 5] - o[2]) * iz;
+		tmin = max(tmin, Math.min(t0, t1));
+		tmax = min(tmax, Math.max(t0, t1));
+
+		hit[0] = tmin;
+		hit[1] = tmax;
+
+		return ((tmax >= tmin) && (tmax >= 0.0f));
+	}
+
+	// Like Math.max() and min(), but NaN (from 0 * infinity, when the ray is
+	// in the plane of a box side) loses instead of winning.
+	private static float	max(float a, float b)
+	{
+		return ((a >= b) || (b != b)) ? a : b;
+	}
+
+	private static float	min(float a, float b)
+	{
+		return ((a <= b) || (b != b)) ? a : b;
+	}
+
+	private static boolean	contains(float[] a, int k,
+									 float x, float y, float z)
+	{
+		return ((a[k]     <= x) && (x <= a[k + 3]) &&
+				(a[k + 1] <= y) && (y <= a[k + 4]) &&
+				(a[k + 2] <= z) && (z <= a[k + 5]));
+	}
+
+	//**********************************************************************
+	// Private Class Methods (Boxes)
+	//**********************************************************************
+
+	private static void	empty(float[] box)
+	{
+		empty(box, 0);
+	}
+
+	private static void	empty(float[] a, int k)
+	{
+		a[k] = a[k + 1] = a[k + 2] = Float.POSITIVE_INFINITY;
+		a[k + 3] = a[k + 4] = a[k + 5] = Float.NEGATIVE_INFINITY;
+	}
+
+	private static void	union(float[] a, int k, float[] b, int j)
+	{
+		for (int c=0; c<3; c++)
+		{
+			a[k + c] = Math.min(a[k + c], b[j + c]);
+			a[k + 3 + c] = Math.max(a[k + 3 + c], b[j + 3 + c]);
+		}
+	}
+}
+
+//******************************************************************************
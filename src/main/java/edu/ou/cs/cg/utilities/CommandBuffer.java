@@ -0,0 +1,465 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// A sequence of GL2 calls, recorded by a RecordingGL, that can be replayed
+// into any GL2 later, such as a real context. Calls are stored compactly:
+// the GL2Stub method id as a short, then the arguments, with primitives
+// written in place. Arrays, buffers, strings, and other objects go in a side
+// table, and are written as their index in it.
+//
+// Arrays and buffers are copied when recorded, so the buffer holds the values
+// as of recording, like an OpenGL display list. Buffers are copied from their
+// position to their limit into direct buffers, so pointer calls such as
+// glVertexPointer() work when replayed.
+//
+// Only calls that change state or draw are recorded: those that return
+// nothing, except the glGet, glGen, and glRead families, which fill arrays
+// with answers a recording can't give. Code that depends on answers, such as
+// texture names, should get them from a real GL before recording.
+//
+// The first replay() decodes the calls into methods and argument arrays, and
+// later ones reuse them, so replaying doesn't allocate. That suits capturing
+// static drawing once, such as a Node's depict(), and replaying it each
+// frame. Recording more calls after a replay discards the decoded calls.
+// The calls immediate mode makes most, such as glVertex3f(), are made
+// directly. The rest go through reflection, which takes several times as
+// long per call.
+//
+// The buffer also counts its calls by method, for a histogram with report().
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.lang.reflect.*;
+import java.nio.*;
+import java.util.*;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>CommandBuffer</CODE> class stores GL2 calls for replay.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class CommandBuffer
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final Method[]		METHODS;	// By GL2Stub id
+	private static final Class<?>[][]	TYPES;		// Parameter types
+	private static final boolean[]		RECORDABLE;
+	private static final int[]			DIRECT;		// Case in replay()
+
+	// Methods that replay() calls directly, by their DIRECT case
+	private static final String[]		DIRECTS =
+	{
+		null,
+		"glBegin(int)",
+		"glEnd()",
+		"glVertex2d(double,double)",
+		"glVertex2f(float,float)",
+		"glVertex3d(double,double,double)",
+		"glVertex3f(float,float,float)",
+		"glNormal3f(float,float,float)",
+		"glTexCoord2f(float,float)",
+		"glColor3f(float,float,float)",
+		"glColor4f(float,float,float,float)",
+		"glLoadMatrixf([F,int)",
+		"glMaterialfv(int,int,[F,int)",
+		"glLightfv(int,int,[F,int)",
+		"glBindTexture(int,int)",
+		"glEnable(int)",
+		"glDisable(int)",
+	};
+
+	static
+	{
+		List<Method>	methods = GL2StubGenerator.getMethods();
+
+		if (methods.size() != GL2Stub.METHOD_COUNT)
+			throw new IllegalStateException("GL2Stub doesn't match this " +
+											"JOGL. Run GL2StubGenerator.");
+
+		METHODS = methods.toArray(new Method[methods.size()]);
+		TYPES = new Class<?>[METHODS.length][];
+		RECORDABLE = new boolean[METHODS.length];
+		DIRECT = new int[METHODS.length];
+
+		List<String>	directs = Arrays.asList(DIRECTS);
+
+		for (int id=0; id<METHODS.length; id++)
+		{
+			String	name = METHODS[id].getName();
+
+			TYPES[id] = METHODS[id].getParameterTypes();
+			RECORDABLE[id] = ((METHODS[id].getReturnType() == Void.TYPE) &&
+							  !name.startsWith("glGet") &&
+							  !name.startsWith("glGen") &&
+							  !name.startsWith("glRead"));
+			DIRECT[id] = Math.max(0, directs.indexOf(GL2Stub.getSignature(id)));
+		}
+	}
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private ByteBuffer				bytes;		// Encoded calls
+	private final List<Object>		objects;	// Non-primitive arguments
+	private final int[]			counts;		// Calls by method id
+	private int					size;		// Calls recorded
+
+	private int[]					ids;		// Decoded, or null
+	private Object[][]				args;		// Decoded, or null
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	public CommandBuffer()
+	{
+		bytes = ByteBuffer.allocate(1024);
+		objects = new ArrayList<Object>();
+		counts = new int[METHODS.length];
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	// Number of calls recorded.
+	public int		size()
+	{
+		return size;
+	}
+
+	// Bytes used by the encoded calls, not counting the side table.
+	public int		getByteCount()
+	{
+		return bytes.position();
+	}
+
+	// Number of arrays, buffers, and other objects in the side table.
+	public int		getObjectCount()
+	{
+		return objects.size();
+	}
+
+	// Calls of all methods with the given name, regardless of parameters.
+	public int		getCount(String name)
+	{
+		int	n = 0;
+
+		for (int id=0; id<METHODS.length; id++)
+			if (METHODS[id].getName().equals(name))
+				n += counts[id];
+
+		return n;
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Appends a call of the GL2Stub method id with the boxed arguments.
+	public void	add(int id, Object[] a)
+	{
+		Class<?>[]	types = TYPES[id];
+
+		ensure(2 + 8 * types.length);
+		bytes.putShort((short)id);
+
+		for (int i=0; i<types.length; i++)
+			put(types[i], a[i]);
+
+		counts[id]++;
+		size++;
+		ids = null;
+		args = null;
+	}
+
+	public void	clear()
+	{
+		bytes.clear();
+		objects.clear();
+		Arrays.fill(counts, 0);
+		size = 0;
+		ids = null;
+		args = null;
+	}
+
+	// Makes the recorded calls on gl, in order.
+	public void	replay(GL2 gl)
+	{
+		if (ids == null)
+			decode();
+
+		try
+		{
+			for (int i=0; i<size; i++)
+				replay(gl, ids[i], args[i]);
+		}
+		catch (InvocationTargetException ex)
+		{
+			if (ex.getCause() instanceof RuntimeException)
+				throw (RuntimeException)ex.getCause();
+
+			throw new GLException(ex.getCause());
+		}
+		catch (IllegalAccessException ex)
+		{
+			throw new GLException(ex);
+		}
+	}
+
+	// Lists the counts from most to least called, with the size.
+	public String	report()
+	{
+		List<Integer>	order = new ArrayList<Integer>();
+
+		for (int id=0; id<METHODS.length; id++)
+			if (counts[id] > 0)
+				order.add(id);
+
+		Collections.sort(order, new Comparator<Integer>()
+			{
+				public int	compare(Integer a, Integer b)
+				{
+					return Integer.compare(counts[b], counts[a]);
+				}
+			});
+
+		StringBuilder	sb = new StringBuilder();
+
+		for (int id : order)
+			sb.append(String.format("%10d  %s%n", counts[id],
+									GL2Stub.getSignature(id)));
+
+		sb.append(String.format("%10d  calls in %d bytes and %d objects%n",
+								size, bytes.position(), objects.size()));
+
+		return sb.toString();
+	}
+
+	//**********************************************************************
+	// Public Class Methods
+	//**********************************************************************
+
+	// Whether calls of the GL2Stub method id are recorded.
+	public static boolean	isRecordable(int id)
+	{
+		return RECORDABLE[id];
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	private void	ensure(int n)
+	{
+		if (bytes.remaining() >= n)
+			return;
+
+		ByteBuffer	b = ByteBuffer.allocate(Math.max(bytes.capacity() * 2,
+													 bytes.position() + n));
+
+		bytes.flip();
+		b.put(bytes);
+		bytes = b;
+	}
+
+	private void	put(Class<?> type, Object v)
+	{
+		if (type == Integer.TYPE)
+			bytes.putInt((Integer)v);
+		else if (type == Float.TYPE)
+			bytes.putFloat((Float)v);
+		else if (type == Double.TYPE)
+			bytes.putDouble((Double)v);
+		else if (type == Long.TYPE)
+			bytes.putLong((Long)v);
+		else if (type == Short.TYPE)
+			bytes.putShort((Short)v);
+		else if (type == Byte.TYPE)
+			bytes.put((Byte)v);
+		else if (type == Boolean.TYPE)
+			bytes.put((byte)(((Boolean)v) ? 1 : 0));
+		else if (type == Character.TYPE)
+			bytes.putChar((Character)v);
+		else
+		{
+			bytes.putInt(objects.size());
+			objects.add(copy(v));
+		}
+	}
+
+	private Object	get(ByteBuffer in, Class<?> type)
+	{
+		if (type == Integer.TYPE)
+			return in.getInt();
+		else if (type == Float.TYPE)
+			return in.getFloat();
+		else if (type == Double.TYPE)
+			return in.getDouble();
+		else if (type == Long.TYPE)
+			return in.getLong();
+		else if (type == Short.TYPE)
+			return in.getShort();
+		else if (type == Byte.TYPE)
+			return in.get();
+		else if (type == Boolean.TYPE)
+			return (in.get() != 0);
+		else if (type == Character.TYPE)
+			return in.getChar();
+		else
+			return objects.get(in.getInt());
+	}
+
+	private void	decode()
+	{
+		ByteBuffer	in = bytes.duplicate();
+
+		in.flip();
+		ids = new int[size];
+		args = new Object[size][];
+
+		for (int i=0; i<size; i++)
+		{
+			int			id = in.getShort();
+			Class<?>[]	types = TYPES[id];
+			Object[]	a = new Object[types.length];
+
+			for (int j=0; j<types.length; j++)
+				a[j] = get(in, types[j]);
+
+			ids[i] = id;
+			args[i] = a;
+		}
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static void	replay(GL2 gl, int id, Object[] a)
+		throws InvocationTargetException, IllegalAccessException
+	{
+		switch (DIRECT[id])
+		{
+			case 1:
+				gl.glBegin((Integer)a[0]);
+				break;
+			case 2:
+				gl.glEnd();
+				break;
+			case 3:
+				gl.glVertex2d((Double)a[0], (Double)a[1]);
+				break;
+			case 4:
+				gl.glVertex2f((Float)a[0], (Float)a[1]);
+				break;
+			case 5:
+				gl.glVertex3d((Double)a[0], (Double)a[1], (Double)a[2]);
+				break;
+			case 6:
+				gl.glVertex3f((Float)a[0], (Float)a[1], (Float)a[2]);
+				break;
+			case 7:
+				gl.glNormal3f((Float)a[0], (Float)a[1], (Float)a[2]);
+				break;
+			case 8:
+				gl.glTexCoord2f((Float)a[0], (Float)a[1]);
+				break;
+			case 9:
+				gl.glColor3f((Float)a[0], (Float)a[1], (Float)a[2]);
+				break;
+			case 10:
+				gl.glColor4f((Float)a[0], (Float)a[1], (Float)a[2],
+							 (Float)a[3]);
+				break;
+			case 11:
+				gl.glLoadMatrixf((float[])a[0], (Integer)a[1]);
+				break;
+			case 12:
+				gl.glMaterialfv((Integer)a[0], (Integer)a[1], (float[])a[2],
+								(Integer)a[3]);
+				break;
+			case 13:
+				gl.glLightfv((Integer)a[0], (Integer)a[1], (float[])a[2],
+							 (Integer)a[3]);
+				break;
+			case 14:
+				gl.glBindTexture((Integer)a[0], (Integer)a[1]);
+				break;
+			case 15:
+				gl.glEnable((Integer)a[0]);
+				break;
+			case 16:
+				gl.glDisable((Integer)a[0]);
+				break;
+			default:
+				METHODS[id].invoke(gl, a);
+		}
+	}
+
+	// A copy of an array or buffer argument, or the argument itself.
+	private static Object	copy(Object v)
+	{
+		if (v instanceof float[])
+			return ((float[])v).clone();
+		else if (v instanceof int[])
+			return ((int[])v).clone();
+		else if (v instanceof double[])
+			return ((double[])v).clone();
+		else if (v instanceof byte[])
+			return ((byte[])v).clone();
+		else if (v instanceof short[])
+			return ((short[])v).clone();
+		else if (v instanceof long[])
+			return ((long[])v).clone();
+		else if (v instanceof Object[])
+			return ((Object[])v).clone();
+		else if (v instanceof Buffer)
+			return copy((Buffer)v);
+		else
+			return v;
+	}
+
+	private static Buffer	copy(Buffer v)
+	{
+		if (v instanceof ByteBuffer)
+			return Buffers.copyByteBuffer((ByteBuffer)v);
+		else if (v instanceof FloatBuffer)
+			return Buffers.copyFloatBuffer((FloatBuffer)v);
+		else if (v instanceof IntBuffer)
+			return Buffers.copyIntBuffer((IntBuffer)v);
+		else if (v instanceof ShortBuffer)
+			return Buffers.copyShortBuffer((ShortBuffer)v);
+		else if (v instanceof DoubleBuffer)
+		{
+			DoubleBuffer	b = Buffers.newDirectDoubleBuffer(v.remaining());
+
+			b.put(((DoubleBuffer)v).duplicate());
+			b.rewind();
+
+			return b;
+		}
+		else
+			return v;
+	}
+}
+
+//******************************************************************************
@@ -6,6 +6,9 @@
 // Major Modification History:
 //
 // 20190424 [weaver]:	Original file.
+// 20261017 [cg]:		Draw from vertex buffer objects when available.
+// 20261017 [cg]:		Added getBounds().
+// 20261017 [cg]:		Bind textures through TextureBinding.
 //
 //******************************************************************************
 // Notes:
@@ -15,6 +18,7 @@
 package edu.ou.cs.cg.utilities;
 
 //import java.lang.*;
+import java.util.Arrays;
 import com.jogamp.opengl.GL2;
 import com.jogamp.opengl.math.Quaternion;
 import com.jogamp.opengl.util.texture.*;
@@ -41,6 +45,10 @@ import com.jogamp.opengl.util.texture.*;
  * be better to start from a duplicate of Cylinder to implement your new
  * mesh.<P>
  *
+ * When vertex buffer objects are available, the cube is packed into Meshes
+ * on first use and drawn from them. Otherwise each vertex is sent in
+ * immediate mode.<P>
+ *
  * @author  Chris Weaver
  * @version %I%, %G%
  */
@@ -90,11 +98,168 @@ public final class Cube
 		{ 1, 5 }, { 6, 2 }, { 3, 7 }, { 4, 0 },
 	};
 
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	// Buffered meshes, built on first use
+	private static Mesh			solid;		// All faces
+	private static Mesh			lines;		// All edges
+	private static final Mesh[]	sides = new Mesh[FACES.length];
+
 	//**********************************************************************
 	// Public Class Methods
 	//**********************************************************************
 
+	// Set box to the bounds of the unit cube (see Matrix for the layout).
+	public static void	getBounds(float[] box)
+	{
+		box[0] = box[1] = box[2] = -0.5f;
+		box[3] = box[4] = box[5] = 0.5f;
+	}
+
 	public static void	fill(GL2 gl)
+	{
+		if (!Mesh.isAvailable(gl))
+		{
+			fillImmediate(gl);
+			return;
+		}
+
+		if (solid == null)
+			solid = createFaces(0, FACES.length, null);
+
+		solid.draw(gl);
+	}
+
+	public static void	edge(GL2 gl)
+	{
+		if (!Mesh.isAvailable(gl))
+		{
+			edgeImmediate(gl);
+			return;
+		}
+
+		if (lines == null)
+			lines = createLines();
+
+		lines.draw(gl);
+	}
+
+	public static void	fillFace(GL2 gl, int face, Texture texture)
+	{
+		if (!Mesh.isAvailable(gl))
+		{
+			fillFaceImmediate(gl, face, texture);
+			return;
+		}
+
+		TextureCoords	coords = texture.getImageTexCoords();
+
+		if ((sides[face] == null) || !sides[face].matches(coords))
+		{
+			if (sides[face] != null)
+				sides[face].dispose(gl);
+
+			sides[face] = createFaces(face, face + 1, coords);
+		}
+
+		texture.enable(gl);
+		TextureBinding.bind(gl, texture);
+		sides[face].draw(gl);
+		texture.disable(gl);
+	}
+
+	// Release any vertex buffer objects. Meshes are rebuilt if drawn later.
+	public static void	dispose(GL2 gl)
+	{
+		if (solid != null)
+			solid.dispose(gl);
+
+		if (lines != null)
+			lines.dispose(gl);
+
+		for (int i=0; i<sides.length; i++)
+			if (sides[i] != null)
+				sides[i].dispose(gl);
+
+		solid = null;
+		lines = null;
+		Arrays.fill(sides, null);
+	}
+
+	//**********************************************************************
+	// Private Class Methods (Buffered Meshes)
+	//**********************************************************************
+
+	// Faces first to last-1, two triangles each. Texture coordinates are the
+	// same as fillFaceImmediate() if coords isn't null.
+	private static Mesh	createFaces(int first, int last, TextureCoords coords)
+	{
+		int		n = last - first;
+		float[]	data = new float[n * 4 * Mesh.STRIDE];
+		int[]		index = new int[n * 6];
+
+		for (int i=0; i<n; i++)
+		{
+			Quaternion	fn = NORMALS[first + i];
+
+			// Corners go top left, bottom left, bottom right, top right
+			for (int j=0; j<4; j++)
+			{
+				Quaternion	v = VERTICES[FACES[first + i][j]];
+				float		s = 0.0f;
+				float		t = 0.0f;
+
+				if (coords != null)
+				{
+					s = ((j < 2) ? coords.left() : coords.right());
+					t = (((j == 0) || (j == 3)) ? coords.top() :
+						 coords.bottom());
+				}
+
+				Mesh.put(data, i * 4 + j, v.getX(), v.getY(), v.getZ(),
+						 fn.getX(), fn.getY(), fn.getZ(), s, t);
+			}
+
+			index[i * 6 + 0] = i * 4 + 0;
+			index[i * 6 + 1] = i * 4 + 1;
+			index[i * 6 + 2] = i * 4 + 2;
+			index[i * 6 + 3] = i * 4 + 0;
+			index[i * 6 + 4] = i * 4 + 2;
+			index[i * 6 + 5] = i * 4 + 3;
+		}
+
+		return new Mesh(GL2.GL_TRIANGLES, data, index, coords);
+	}
+
+	private static Mesh	createLines()
+	{
+		float[]	data = new float[VERTICES.length * Mesh.STRIDE];
+		int[]		index = new int[EDGES.length * 2];
+
+		for (int i=0; i<VERTICES.length; i++)
+		{
+			Quaternion	v = VERTICES[i];
+
+			Mesh.put(data, i, v.getX(), v.getY(), v.getZ(),
+					 0.0f, 0.0f, 0.0f, 0.0f, 0.0f);
+		}
+
+		for (int i=0; i<EDGES.length; i++)
+		{
+			index[i * 2 + 0] = EDGES[i][0];
+			index[i * 2 + 1] = EDGES[i][1];
+		}
+
+		return new Mesh(GL2.GL_LINES, data, index, null);
+	}
+
+	//**********************************************************************
+	// Private Class Methods (Immediate Mode)
+	//**********************************************************************
+
+	private static void	fillImmediate(GL2 gl)
 	{
 		for (int i=0; i<FACES.length; i++)
 		{
@@ -114,7 +279,7 @@ public final class Cube
 		}
 	}
 
-	public static void	edge(GL2 gl)
+	private static void	edgeImmediate(GL2 gl)
 	{
 		gl.glBegin(GL2.GL_LINES);
 
@@ -130,10 +295,11 @@ public final class Cube
 		gl.glEnd();
 	}
 
-	public static void	fillFace(GL2 gl, int face, Texture texture)
+	private static void	fillFaceImmediate(GL2 gl, int face,
+										  Texture texture)
 	{
 		texture.enable(gl);
-		texture.bind(gl);
+		TextureBinding.bind(gl, texture);
 
 		TextureCoords	coords = texture.getImageTexCoords();
 		float			cl = coords.left();
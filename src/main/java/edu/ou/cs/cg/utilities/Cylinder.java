@@ -7,6 +7,12 @@
 //
 // 20190424 [weaver]:	Original file.
 // 20200410 [weaver]:	Changed name from Horizon to Cylinder.
+// 20261017 [cg]:		Draw from vertex buffer objects when available.
+// 20261017 [cg]:		Added getBounds().
+// 20261017 [cg]:		Added fillAll() to bind atlas regions only once.
+// 20261017 [cg]:		Added fillInstanced().
+// 20261017 [cg]:		Added getTriangleCount().
+// 20261017 [cg]:		Bind textures through TextureBinding.
 //
 //******************************************************************************
 // Notes:
@@ -41,6 +47,10 @@ import com.jogamp.opengl.util.texture.*;
  * Note: HW06 doesn't require edge drawing. If you choose Option A, you don't
  * need to populate the edge array in your mesh class.<P>
  *
+ * When vertex buffer objects are available, each part of the cylinder is
+ * packed into a Mesh on first use and drawn from it. Otherwise each vertex is
+ * sent in immediate mode.<P>
+ *
  * @author  Chris Weaver
  * @version %I%, %G%
  */
@@ -60,6 +70,12 @@ public final class Cylinder
 	private final Quaternion[]		normals;	// Face normal vectors
 	private final int[][]			edges;		// Edge[segment#][start|end]
 
+	// Buffered meshes, built on first use
+	private Mesh					side;		// Quads around the sides
+	private Mesh					foot;		// Polygon at ymin
+	private Mesh					head;		// Polygon at ymax
+	private Mesh					lines;		// Edge segments
+
 	//**********************************************************************
 	// Constructors and Finalizer
 	//**********************************************************************
@@ -83,6 +99,42 @@ public final class Cylinder
 		this(4, 0.0f, 1.0f);
 	}
 
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public int		getSlices()
+	{
+		return slices;
+	}
+
+	public float	getYMin()
+	{
+		return ymin;
+	}
+
+	public float	getYMax()
+	{
+		return ymax;
+	}
+
+	// Triangles drawn by fillAll(): two per side quad plus a fan per end.
+	public int		getTriangleCount()
+	{
+		return 2 * slices + 2 * (slices - 2);
+	}
+
+	// Set box to the bounds of the cylinder (see Matrix for the layout).
+	public void	getBounds(float[] box)
+	{
+		box[0] = -1.0f;
+		box[1] = Math.min(ymin, ymax);
+		box[2] = -1.0f;
+		box[3] = 1.0f;
+		box[4] = Math.max(ymin, ymax);
+		box[5] = 1.0f;
+	}
+
 	//**********************************************************************
 	// Private Methods
 	//**********************************************************************
@@ -153,9 +205,263 @@ public final class Cylinder
 	//**********************************************************************
 
 	public void	fill(GL2 gl, Texture texture)
+	{
+		if (!Mesh.isAvailable(gl))
+		{
+			fillImmediate(gl, texture);
+			return;
+		}
+
+		updateSide(gl, texture.getImageTexCoords());
+
+		texture.enable(gl);
+		TextureBinding.bind(gl, texture);
+		side.draw(gl);
+		texture.disable(gl);
+	}
+
+	public void	edge(GL2 gl)
+	{
+		if (!Mesh.isAvailable(gl))
+		{
+			edgeImmediate(gl);
+			return;
+		}
+
+		if (lines == null)
+			lines = createLines();
+
+		lines.draw(gl);
+	}
+
+	public void	fillFoot(GL2 gl, Texture texture)
+	{
+		if (!Mesh.isAvailable(gl))
+		{
+			fillEndImmediate(gl, texture, 0, 1.0f);
+			return;
+		}
+
+		updateFoot(gl, texture.getImageTexCoords());
+
+		texture.enable(gl);
+		TextureBinding.bind(gl, texture);
+		foot.draw(gl);
+		texture.disable(gl);
+	}
+
+	public void	fillHead(GL2 gl, Texture texture)
+	{
+		if (!Mesh.isAvailable(gl))
+		{
+			fillEndImmediate(gl, texture, 1, -1.0f);
+			return;
+		}
+
+		updateHead(gl, texture.getImageTexCoords());
+
+		texture.enable(gl);
+		TextureBinding.bind(gl, texture);
+		head.draw(gl);
+		texture.disable(gl);
+	}
+
+	// Fills the sides and both ends. When all three textures are in the same
+	// OpenGL texture, as regions of a TextureAtlas are, it's bound only once.
+	public void	fillAll(GL2 gl, Texture around, Texture bottom, Texture top)
+	{
+		int	name = around.getTextureObject();
+
+		if (!Mesh.isAvailable(gl) || (bottom.getTextureObject() != name) ||
+			(top.getTextureObject() != name))
+		{
+			fill(gl, around);
+			fillFoot(gl, bottom);
+			fillHead(gl, top);
+			return;
+		}
+
+		updateSide(gl, around.getImageTexCoords());
+		updateFoot(gl, bottom.getImageTexCoords());
+		updateHead(gl, top.getImageTexCoords());
+
+		around.enable(gl);
+		TextureBinding.bind(gl, around);
+		side.draw(gl);
+		foot.draw(gl);
+		head.draw(gl);
+		around.disable(gl);
+	}
+
+	// Like fillAll(), but draws count instances of each part. The caller sets
+	// up the per-instance attributes and a program that reads them. Needs
+	// vertex buffer objects; see Mesh.isAvailable().
+	public void	fillInstanced(GL2 gl, Texture around, Texture bottom,
+								  Texture top, int count)
+	{
+		updateSide(gl, around.getImageTexCoords());
+		updateFoot(gl, bottom.getImageTexCoords());
+		updateHead(gl, top.getImageTexCoords());
+
+		around.enable(gl);
+		TextureBinding.bind(gl, around);
+		side.drawInstanced(gl, count);
+
+		if (bottom.getTextureObject() != around.getTextureObject())
+			TextureBinding.bind(gl, bottom);
+
+		foot.drawInstanced(gl, count);
+
+		if (top.getTextureObject() != bottom.getTextureObject())
+			TextureBinding.bind(gl, top);
+
+		head.drawInstanced(gl, count);
+		around.disable(gl);
+	}
+
+	// Release any vertex buffer objects. Meshes are rebuilt if drawn later.
+	public void	dispose(GL2 gl)
+	{
+		side = replace(gl, side, null);
+		foot = replace(gl, foot, null);
+		head = replace(gl, head, null);
+		lines = replace(gl, lines, null);
+	}
+
+	//**********************************************************************
+	// Private Methods (Buffered Meshes)
+	//**********************************************************************
+
+	// Rebuild each part's mesh when its texture coordinates change.
+
+	private void	updateSide(GL2 gl, TextureCoords coords)
+	{
+		if ((side == null) || !side.matches(coords))
+			side = replace(gl, side, createSide(coords));
+	}
+
+	private void	updateFoot(GL2 gl, TextureCoords coords)
+	{
+		if ((foot == null) || !foot.matches(coords))
+			foot = replace(gl, foot, createEnd(coords, 0, 1.0f));
+	}
+
+	private void	updateHead(GL2 gl, TextureCoords coords)
+	{
+		if ((head == null) || !head.matches(coords))
+			head = replace(gl, head, createEnd(coords, 1, -1.0f));
+	}
+
+	private static Mesh	replace(GL2 gl, Mesh old, Mesh mesh)
+	{
+		if (old != null)
+			old.dispose(gl);
+
+		return mesh;
+	}
+
+	// Same vertices, normals, and texture coordinates as fillImmediate(), as
+	// two triangles per quad.
+	private Mesh	createSide(TextureCoords coords)
+	{
+		float		cr = coords.right();
+		float		cb = coords.bottom();
+		float		ct = coords.top();
+		float		step = (cr - coords.left()) / slices;
+
+		float[]	data = new float[slices * 4 * Mesh.STRIDE];
+		int[]		index = new int[slices * 6];
+
+		for (int i=0; i<slices; i++)
+		{
+			Quaternion	n = normals[i];
+			float		nx = n.getX(), ny = n.getY(), nz = n.getZ();
+			float		fcl = cr - (i + 1) * step;
+			float		fcr = cr - (i + 0) * step;
+
+			// Corners go top left, bottom left, bottom right, top right
+			for (int j=0; j<4; j++)
+			{
+				Quaternion	v = vertices[faces[i][j]];
+				float		s = ((j < 2) ? fcl : fcr);
+				float		t = (((j == 0) || (j == 3)) ? ct : cb);
+
+				Mesh.put(data, i * 4 + j, v.getX(), v.getY(), v.getZ(),
+						 nx, ny, nz, s, t);
+			}
+
+			index[i * 6 + 0] = i * 4 + 0;
+			index[i * 6 + 1] = i * 4 + 1;
+			index[i * 6 + 2] = i * 4 + 2;
+			index[i * 6 + 3] = i * 4 + 0;
+			index[i * 6 + 4] = i * 4 + 2;
+			index[i * 6 + 5] = i * 4 + 3;
+		}
+
+		return new Mesh(GL2.GL_TRIANGLES, data, index, coords);
+	}
+
+	// Same as fillEndImmediate(), with the polygon split into a triangle fan.
+	private Mesh	createEnd(TextureCoords coords, int parity, float ynormal)
+	{
+		float		cl = coords.left();
+		float		cb = coords.bottom();
+		float		winv = coords.right() - cl;
+		float		hinv = coords.top() - cb;
+
+		float[]	data = new float[slices * Mesh.STRIDE];
+		int[]		index = new int[Math.max(0, slices - 2) * 3];
+
+		for (int i=0; i<slices; i++)
+		{
+			Quaternion	v = vertices[(i * 2) + parity];
+			float		cx = cl + 0.5f * (v.getX() + 1.0f) * winv;
+			float		cz = cb + 0.5f * (v.getZ() + 1.0f) * hinv;
+
+			Mesh.put(data, i, v.getX(), v.getY(), v.getZ(),
+					 0.0f, ynormal, 0.0f, cx, cz);
+		}
+
+		for (int i=1; i<slices-1; i++)
+		{
+			index[(i - 1) * 3 + 0] = 0;
+			index[(i - 1) * 3 + 1] = i;
+			index[(i - 1) * 3 + 2] = i + 1;
+		}
+
+		return new Mesh(GL2.GL_TRIANGLES, data, index, coords);
+	}
+
+	private Mesh	createLines()
+	{
+		float[]	data = new float[vertices.length * Mesh.STRIDE];
+		int[]		index = new int[edges.length * 2];
+
+		for (int i=0; i<vertices.length; i++)
+		{
+			Quaternion	v = vertices[i];
+
+			Mesh.put(data, i, v.getX(), v.getY(), v.getZ(),
+					 0.0f, 0.0f, 0.0f, 0.0f, 0.0f);
+		}
+
+		for (int i=0; i<edges.length; i++)
+		{
+			index[i * 2 + 0] = edges[i][0];
+			index[i * 2 + 1] = edges[i][1];
+		}
+
+		return new Mesh(GL2.GL_LINES, data, index, null);
+	}
+
+	//**********************************************************************
+	// Private Methods (Immediate Mode)
+	//**********************************************************************
+
+	private void	fillImmediate(GL2 gl, Texture texture)
 	{
 		texture.enable(gl);
-		texture.bind(gl);
+		TextureBinding.bind(gl, texture);
 
 		TextureCoords	coords = texture.getImageTexCoords();
 		float			cl = coords.left();
@@ -201,7 +507,7 @@ public final class Cylinder
 		texture.disable(gl);
 	}
 
-	public void	edge(GL2 gl)
+	private void	edgeImmediate(GL2 gl)
 	{
 		gl.glBegin(GL2.GL_LINES);
 
@@ -217,24 +523,11 @@ public final class Cylinder
 		gl.glEnd();
 	}
 
-	public void	fillFoot(GL2 gl, Texture texture)
-	{
-		fillEnd(gl, texture, 0, 1.0f);
-	}
-
-	public void	fillHead(GL2 gl, Texture texture)
-	{
-		fillEnd(gl, texture, 1, -1.0f);
-	}
-
-	//**********************************************************************
-	// Private Methods
-	//**********************************************************************
-
-	private void	fillEnd(GL2 gl, Texture texture, int parity, float ynormal)
+	private void	fillEndImmediate(GL2 gl, Texture texture, int parity,
+									 float ynormal)
 	{
 		texture.enable(gl);
-		texture.bind(gl);
+		TextureBinding.bind(gl, texture);
 
 		TextureCoords	coords = texture.getImageTexCoords();
 		float			cl = coords.left();
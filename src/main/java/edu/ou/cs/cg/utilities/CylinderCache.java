@@ -0,0 +1,227 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Cylinders are immutable once built, so nodes that ask for the same number
+// of slices and the same extents can share one instance, including its
+// vertex arrays and any vertex buffer objects it has uploaded. Call acquire()
+// instead of new Cylinder() and release() when the node is done with it.
+//
+// A Cylinder released by every node that acquired it stays in the cache as
+// idle, in case it is acquired again soon. When there are more idle Cylinders
+// than the limit, the one idle longest is disposed and forgotten.
+//
+// Not thread-safe. Use from the OpenGL thread, like the Cylinders themselves.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.util.*;
+import com.jogamp.opengl.GL2;
+
+//******************************************************************************
+
+/**
+ * The <CODE>CylinderCache</CODE> class shares identical Cylinders between
+ * the nodes of a scene, with reference counting.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class CylinderCache
+{
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private final int					limit;	// Most idle cylinders kept
+	private final Map<Key, Entry>		entries;	// All cached cylinders
+	private final LinkedHashSet<Key>	idle;		// Unused, oldest first
+
+	private int						hits;		// Acquired from the cache
+	private int						misses;		// Built on acquire
+	private int						evictions;	// Disposed when idle
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	public CylinderCache(int limit)
+	{
+		this.limit = limit;
+
+		entries = new HashMap<Key, Entry>();
+		idle = new LinkedHashSet<Key>();
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public int		getHits()
+	{
+		return hits;
+	}
+
+	public int		getMisses()
+	{
+		return misses;
+	}
+
+	public int		getEvictions()
+	{
+		return evictions;
+	}
+
+	// Number of distinct cylinders in the cache, in use or idle.
+	public int		size()
+	{
+		return entries.size();
+	}
+
+	// Number of nodes currently holding the cylinder, or 0 if it isn't cached.
+	public int		getReferences(Cylinder cylinder)
+	{
+		Entry	e = entries.get(new Key(cylinder));
+
+		return (((e != null) && (e.cylinder == cylinder)) ? e.refs : 0);
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Returns the cached cylinder with these parameters, building it first
+	// if there isn't one.
+	public Cylinder	acquire(int slices, float ymin, float ymax)
+	{
+		Key	key = new Key(slices, ymin, ymax);
+		Entry	e = entries.get(key);
+
+		if (e == null)
+		{
+			e = new Entry(new Cylinder(slices, ymin, ymax));
+			entries.put(key, e);
+			misses++;
+		}
+		else
+		{
+			idle.remove(key);
+			hits++;
+		}
+
+		e.refs++;
+
+		return e.cylinder;
+	}
+
+	// Gives back a cylinder from acquire(). Cylinders that weren't acquired
+	// from this cache, or were already fully released, are ignored.
+	public void	release(GL2 gl, Cylinder cylinder)
+	{
+		Key	key = new Key(cylinder);
+		Entry	e = entries.get(key);
+
+		if ((e == null) || (e.cylinder != cylinder) || (e.refs == 0))
+			return;
+
+		if (--e.refs > 0)
+			return;
+
+		idle.add(key);
+
+		while (idle.size() > limit)
+		{
+			Iterator<Key>	it = idle.iterator();
+			Key			eldest = it.next();
+
+			it.remove();
+			entries.remove(eldest).cylinder.dispose(gl);
+			evictions++;
+		}
+	}
+
+	// Disposes and forgets every cylinder, whether in use or not.
+	public void	clear(GL2 gl)
+	{
+		for (Entry e : entries.values())
+			e.cylinder.dispose(gl);
+
+		entries.clear();
+		idle.clear();
+	}
+
+	public String	toString()
+	{
+		return ("CylinderCache[size=" + entries.size() + ", idle=" +
+				idle.size() + ", hits=" + hits + ", misses=" + misses +
+				", evictions=" + evictions + "]");
+	}
+
+	//**********************************************************************
+	// Private Inner Classes
+	//**********************************************************************
+
+	private static final class Key
+	{
+		private final int		slices;
+		private final float	ymin;
+		private final float	ymax;
+
+		public Key(int slices, float ymin, float ymax)
+		{
+			this.slices = slices;
+			this.ymin = ymin;
+			this.ymax = ymax;
+		}
+
+		public Key(Cylinder cylinder)
+		{
+			this(cylinder.getSlices(), cylinder.getYMin(), cylinder.getYMax());
+		}
+
+		public boolean	equals(Object o)
+		{
+			if (!(o instanceof Key))
+				return false;
+
+			Key	k = (Key)o;
+
+			return ((slices == k.slices) &&
+					(Float.floatToIntBits(ymin) ==
+					 Float.floatToIntBits(k.ymin)) &&
+					(Float.floatToIntBits(ymax) ==
+					 Float.floatToIntBits(k.ymax)));
+		}
+
+		public int		hashCode()
+		{
+			int	h = slices;
+
+			h = 31 * h + Float.floatToIntBits(ymin);
+			h = 31 * h + Float.floatToIntBits(ymax);
+
+			return h;
+		}
+	}
+
+	private static final class Entry
+	{
+		private final Cylinder	cylinder;
+		private int			refs;		// Number of unreleased acquires
+
+		public Entry(Cylinder cylinder)
+		{
+			this.cylinder = cylinder;
+		}
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,156 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+// 20261017 [cg]:	Don't emit before the first render sets the world matrix.
+//
+//******************************************************************************
+// Notes:
+//
+// An emitter is a scene graph node that spawns particles into a shared
+// ParticleSystem from its origin, in world coordinates. Attach it under the
+// node it should follow. It spawns in change(), during Node.update(), using
+// the world matrix from the last render, so it trails a moving parent by one
+// frame. Before the first render there is no world matrix yet, so it emits
+// nothing rather than spawning at the origin. It draws nothing itself.
+//
+// Particles leave within a disc of the given radius around the origin (in
+// the emitter's xz plane), mostly upward (along world y) at the given speed,
+// with a random horizontal spread. Colors vary randomly between two colors.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import com.jogamp.opengl.GL2;
+
+//******************************************************************************
+
+/**
+ * The <CODE>Emitter</CODE> class is a Node that spawns particles.<P>
+ *
+ * @version %I%, %G%
+ */
+public class Emitter extends Node
+{
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private final ParticleSystem	system;
+
+	private float					rate;		// Particles per second
+	private float					radius;		// Of the spawning disc
+	private float					speed;		// Initial upward speed
+	private float					spread;		// Horizontal speed range
+	private float					life;		// Mean seconds alive
+	private final float[]			hot;		// Color range, rgb
+	private final float[]			cool;
+
+	private float					owed;		// Fraction of a particle
+	private final float[]			matrix;		// World, scratch
+	private final float[]			point;		// Spawn point, scratch
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	public Emitter(ParticleSystem system, float rate)
+	{
+		this.system = system;
+		this.rate = rate;
+
+		radius = 0.1f;
+		speed = 0.5f;
+		spread = 0.2f;
+		life = 1.5f;
+		hot = new float[] { 1.0f, 0.8f, 0.3f };
+		cool = new float[] { 0.9f, 0.2f, 0.0f };
+
+		matrix = new float[16];
+		point = new float[3];
+
+		setEmptyBounds();
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public void	setRate(float rate)
+	{
+		this.rate = rate;
+	}
+
+	public void	setRadius(float radius)
+	{
+		this.radius = radius;
+	}
+
+	public void	setVelocity(float speed, float spread)
+	{
+		this.speed = speed;
+		this.spread = spread;
+	}
+
+	public void	setLife(float life)
+	{
+		this.life = life;
+	}
+
+	public void	setColors(float[] hot, float[] cool)
+	{
+		System.arraycopy(hot, 0, this.hot, 0, 3);
+		System.arraycopy(cool, 0, this.cool, 0, 3);
+	}
+
+	//**********************************************************************
+	// Override Methods (Node)
+	//**********************************************************************
+
+	protected void	change(GL2 gl)
+	{
+		if (!isPlaced())						// Not rendered yet
+			return;
+
+		owed += rate * system.getTimeStep();
+
+		int	n = (int)owed;
+
+		owed -= n;
+
+		if (n == 0)
+			return;
+
+		getWorldMatrix(matrix);
+
+		for (int i=0; i<n; i++)
+		{
+			float	a = (float)(2.0 * Math.PI) * system.random();
+			float	d = radius * (float)Math.sqrt(system.random());
+
+			point[0] = d * (float)Math.cos(a);
+			point[1] = 0.0f;
+			point[2] = d * (float)Math.sin(a);
+
+			Matrix.transformPoint(matrix, point, point);
+
+			float	t = system.random();
+
+			if (!system.emit(point[0], point[1], point[2],
+							 spread * (system.random() - 0.5f),
+							 speed * (0.5f + system.random()),
+							 spread * (system.random() - 0.5f),
+							 life * (0.5f + system.random()),
+							 hot[0] + t * (cool[0] - hot[0]),
+							 hot[1] + t * (cool[1] - hot[1]),
+							 hot[2] + t * (cool[2] - hot[2])))
+				break;
+		}
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,549 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+// 20261017 [cg]:	Kept frame slots in an AtomicLongArray, so lap checks hold.
+//
+//******************************************************************************
+// Notes:
+//
+// Records what each frame of a View cost, for finding hitches. Call begin()
+// at the start of display(), updated() after update(), and rendered() after
+// render() with the counts the view knows about. Each frame then records:
+//
+//   FRAME		time since the previous frame began (ns)
+//   UPDATE		time in update() (ns)
+//   RENDER		time in render() (ns)
+//   DRAWS		nodes drawn
+//   CULLED		nodes culled
+//   CALLS		GL state and draw calls, as counted by the view
+//   TRIANGLES	triangles drawn
+//   ALLOCATED	bytes allocated by the GL thread during the frame
+//   GCS		garbage collections since the previous frame
+//   GC_TIME		time spent in them (ns, to the millisecond)
+//
+// Frames go into a ring buffer of the last capacity frames. The GL thread is
+// the only writer. It fills the next slot, then publishes it by advancing a
+// count with a release store, so readers on any thread can copy recent
+// frames with snapshot() without locking. A reader that is lapped by the
+// writer while copying drops the frames that were overwritten. The slots are
+// an AtomicLongArray, so the reader's copies can't move after its second
+// read of the count, and a frame it keeps is never torn.
+//
+// draw() shows the recent frames with a TextRenderer: averages, percentiles,
+// and a histogram of frame times. It doesn't allocate apart from the strings
+// it draws.
+//
+// When the JVM has Flight Recorder and a recording is running, each frame
+// is also committed as an edu.ou.cs.cg.Frame event with the same values,
+// spanning update() and render(). Give the event a threshold in the
+// recording settings to keep only the slow frames. The event type is made
+// with jdk.jfr.EventFactory through reflection, so the code still builds for
+// Java 8, and does nothing on JVMs without it.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.lang.management.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import com.jogamp.opengl.util.awt.TextRenderer;
+
+//******************************************************************************
+
+/**
+ * The <CODE>FrameMetrics</CODE> class records per-frame costs in a ring
+ * buffer and shows them as an overlay.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class FrameMetrics
+{
+	//**********************************************************************
+	// Public Class Members
+	//**********************************************************************
+
+	// Fields of each frame record
+	public static final int		FRAME = 0;
+	public static final int		UPDATE = 1;
+	public static final int		RENDER = 2;
+	public static final int		DRAWS = 3;
+	public static final int		CULLED = 4;
+	public static final int		CALLS = 5;
+	public static final int		TRIANGLES = 6;
+	public static final int		ALLOCATED = 7;
+	public static final int		GCS = 8;
+	public static final int		GC_TIME = 9;
+	public static final int		FIELDS = 10;
+
+	// Upper limits of the histogram buckets, in milliseconds
+	public static final int[]		BUCKETS = { 8, 17, 25, 33, 50, 100 };
+
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int		BAR = 30;			// Histogram width, chars
+	private static final int		LINE = 12;			// Pixels per text line
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private final int						capacity;	// Power of two
+	private final AtomicLongArray			slots;		// FIELDS per frame
+	private final AtomicLong				published;	// Frames written
+
+	// Sources of allocation and garbage collection counts
+	private final com.sun.management.ThreadMXBean	threads;
+	private final List<GarbageCollectorMXBean>		collectors;
+
+	// The frame being recorded
+	private final long[]					current;
+	private long							began;		// nanoTime()
+	private long							updated;
+	private long							allocated;	// At begin()
+	private long							gcs;		// At last publish
+	private long							gcTime;
+	private Object							event;		// Or null
+
+	// Scratch for draw()
+	private long[]							recent;
+	private final long[]					sorted;
+	private final long[]					sum;
+	private final int[]					histogram;
+	private final StringBuilder			text;
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// Keeps the last capacity frames, rounded up to a power of two.
+	public FrameMetrics(int capacity)
+	{
+		this.capacity = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+
+		slots = new AtomicLongArray(this.capacity * FIELDS);
+		published = new AtomicLong();
+
+		ThreadMXBean	bean = ManagementFactory.getThreadMXBean();
+
+		threads = (((bean instanceof com.sun.management.ThreadMXBean) &&
+					((com.sun.management.ThreadMXBean)bean)
+					.isThreadAllocatedMemorySupported()) ?
+				   (com.sun.management.ThreadMXBean)bean : null);
+		collectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+		current = new long[FIELDS];
+		gcs = getCollections();
+		gcTime = getCollectionTime();
+
+		recent = new long[0];
+		sorted = new long[this.capacity];
+		sum = new long[FIELDS];
+		histogram = new int[BUCKETS.length + 1];
+		text = new StringBuilder();
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public int		getCapacity()
+	{
+		return capacity;
+	}
+
+	// Number of frames recorded so far, including any no longer kept.
+	public long	getFrameCount()
+	{
+		return published.get();
+	}
+
+	//**********************************************************************
+	// Public Methods (Recording, GL thread)
+	//**********************************************************************
+
+	// Starts a frame. Call first thing in display().
+	public void	begin()
+	{
+		long	now = System.nanoTime();
+
+		current[FRAME] = ((began != 0L) ? now - began : 0L);
+		began = now;
+		updated = now;
+		allocated = getAllocated();
+		event = Events.begin();
+	}
+
+	// Marks the end of update() and the start of render().
+	public void	updated()
+	{
+		updated = System.nanoTime();
+	}
+
+	// Ends and publishes the frame, with the view's counts for it.
+	public void	rendered(int draws, int culled, long calls, long triangles)
+	{
+		long	now = System.nanoTime();
+		long	n = getCollections();
+		long	t = getCollectionTime();
+
+		current[UPDATE] = updated - began;
+		current[RENDER] = now - updated;
+		current[DRAWS] = draws;
+		current[CULLED] = culled;
+		current[CALLS] = calls;
+		current[TRIANGLES] = triangles;
+		current[ALLOCATED] = Math.max(0L, getAllocated() - allocated);
+		current[GCS] = n - gcs;
+		current[GC_TIME] = (t - gcTime) * 1000000L;
+		gcs = n;
+		gcTime = t;
+
+		long	frame = published.get();
+		int		k = (int)(frame & (capacity - 1)) * FIELDS;
+
+		for (int j=0; j<FIELDS; j++)
+			slots.set(k + j, current[j]);
+
+		published.lazySet(frame + 1);			// Release the slot to readers
+
+		Events.commit(event, current);
+		event = null;
+	}
+
+	//**********************************************************************
+	// Public Methods (Reading, any thread)
+	//**********************************************************************
+
+	// Copies up to the last n frames into out, FIELDS values each, oldest
+	// first. Returns the number of frames copied.
+	public int		snapshot(long[] out, int n)
+	{
+		long	end = published.get();
+		long	start = Math.max(0L, end - Math.min(n, capacity));
+
+		for (long f=start; f<end; f++)
+		{
+			int	k = (int)(f & (capacity - 1)) * FIELDS;
+			int	o = (int)(f - start) * FIELDS;
+
+			for (int j=0; j<FIELDS; j++)
+				out[o + j] = slots.get(k + j);
+		}
+
+		// Frames the writer may have overwritten during the copy are gone.
+		// The volatile reads above stay before this one.
+		long	valid = published.get() - capacity + 1;
+
+		if (valid <= start)
+			return (int)(end - start);
+
+		if (valid >= end)
+			return 0;
+
+		int	drop = (int)(valid - start);
+
+		System.arraycopy(out, drop * FIELDS, out, 0,
+						 (int)(end - valid) * FIELDS);
+
+		return (int)(end - valid);
+	}
+
+	// Draws a summary of the last n frames, from (x, y) down. Call between
+	// beginRendering() and endRendering().
+	public void	draw(TextRenderer renderer, int x, int y, int n)
+	{
+		n = Math.min(n, capacity);
+
+		if (recent.length < n * FIELDS)
+			recent = new long[n * FIELDS];
+
+		int	m = snapshot(recent, n);
+
+		if (m == 0)
+			return;
+
+		long	max = 0L;
+
+		Arrays.fill(sum, 0L);
+		Arrays.fill(histogram, 0);
+
+		for (int i=0; i<m; i++)
+		{
+			int		k = i * FIELDS;
+			long	frame = recent[k + FRAME];
+
+			for (int j=0; j<FIELDS; j++)
+				sum[j] += recent[k + j];
+
+			sorted[i] = frame;
+			max = Math.max(max, frame);
+			histogram[getBucket(frame)]++;
+		}
+
+		Arrays.sort(sorted, 0, m);
+
+		text.setLength(0);
+		text.append("Frame   ");
+		appendMillis(sum[FRAME] / m);
+		text.append(" ms  p50 ");
+		appendMillis(sorted[m / 2]);
+		text.append("  p99 ");
+		appendMillis(sorted[Math.min(m - 1, (int)(m * 0.99))]);
+		text.append("  max ");
+		appendMillis(max);
+		renderer.draw(text, x, y);
+
+		text.setLength(0);
+		text.append("Update  ");
+		appendMillis(sum[UPDATE] / m);
+		text.append(" ms  render ");
+		appendMillis(sum[RENDER] / m);
+		text.append(" ms");
+		renderer.draw(text, x, y - LINE);
+
+		text.setLength(0);
+		text.append("Draws   ").append(sum[DRAWS] / m)
+			.append(" (").append(sum[CULLED] / m).append(" culled)  calls ")
+			.append(sum[CALLS] / m).append("  tris ")
+			.append(sum[TRIANGLES] / m);
+		renderer.draw(text, x, y - 2 * LINE);
+
+		text.setLength(0);
+		text.append("Alloc   ").append(sum[ALLOCATED] / m / 1024)
+			.append(" KB/frame  GC ").append(sum[GCS]).append(" (")
+			.append(sum[GC_TIME] / 1000000L).append(" ms) in ").append(m)
+			.append(" frames");
+		renderer.draw(text, x, y - 3 * LINE);
+
+		int	most = 1;
+
+		for (int count : histogram)
+			most = Math.max(most, count);
+
+		for (int b=0; b<histogram.length; b++)
+		{
+			text.setLength(0);
+			text.append((b < BUCKETS.length) ? "<" : ">=");
+			text.append((b < BUCKETS.length) ? BUCKETS[b] :
+						BUCKETS[BUCKETS.length - 1]);
+
+			while (text.length() < 5)
+				text.append(' ');
+
+			text.append("ms |");
+
+			int	bar = (histogram[b] * BAR + most - 1) / most;
+
+			for (int i=0; i<BAR; i++)
+				text.append((i < bar) ? '#' : ' ');
+
+			text.append("| ").append(histogram[b]);
+			renderer.draw(text, x, y - (5 + b) * LINE);
+		}
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	private long	getAllocated()
+	{
+		return ((threads != null) ?
+				threads.getThreadAllocatedBytes(Thread.currentThread().getId()) :
+				0L);
+	}
+
+	private long	getCollections()
+	{
+		long	n = 0L;
+
+		for (GarbageCollectorMXBean collector : collectors)
+			n += Math.max(0L, collector.getCollectionCount());
+
+		return n;
+	}
+
+	private long	getCollectionTime()
+	{
+		long	t = 0L;
+
+		for (GarbageCollectorMXBean collector : collectors)
+			t += Math.max(0L, collector.getCollectionTime());
+
+		return t;
+	}
+
+	// Appends nanoseconds as milliseconds with two decimals.
+	private void	appendMillis(long ns)
+	{
+		long	cs = (ns + 5000L) / 10000L;			// Hundredths of a ms
+
+		text.append(cs / 100).append('.');
+
+		if (cs % 100 < 10)
+			text.append('0');
+
+		text.append(cs % 100);
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static int	getBucket(long ns)
+	{
+		for (int b=0; b<BUCKETS.length; b++)
+			if (ns < BUCKETS[b] * 1000000L)
+				return b;
+
+		return BUCKETS.length;
+	}
+
+	//**********************************************************************
+	// Private Inner Classes
+	//**********************************************************************
+
+	// The Flight Recorder event type, if the JVM has one, through
+	// reflection. Events are only made while a recording enables them.
+	private static final class Events
+	{
+		private static final String[]	NAMES =
+		{
+			"frameTime", "updateTime", "renderTime", "draws", "culled",
+			"glCalls", "triangles", "allocated", "gcCount", "gcTime",
+		};
+
+		private static final Object	factory;
+		private static final Object	type;
+		private static final Method	newEvent;
+		private static final Method	isEnabled;
+		private static final Method	begin;
+		private static final Method	end;
+		private static final Method	set;
+		private static final Method	commit;
+
+		static
+		{
+			Object	f = null, t = null;
+			Method	ne = null, ie = null, b = null, e = null, s = null;
+			Method	c = null;
+
+			try
+			{
+				Class<?>	factoryClass = Class.forName("jdk.jfr.EventFactory");
+				Class<?>	eventClass = Class.forName("jdk.jfr.Event");
+				Class<?>	typeClass = Class.forName("jdk.jfr.EventType");
+
+				List<Object>	annotations = new ArrayList<Object>();
+				List<Object>	fields = new ArrayList<Object>();
+
+				annotations.add(annotation("Name", "edu.ou.cs.cg.Frame"));
+				annotations.add(annotation("Label", "Frame"));
+				annotations.add(annotation("Category",
+										   new String[] { "Course Apps" }));
+				annotations.add(annotation("Description",
+										   "Costs of one View display()"));
+
+				for (int i=0; i<NAMES.length; i++)
+				{
+					List<Object>	a = new ArrayList<Object>();
+
+					if ((i <= RENDER) || (i == GC_TIME))
+						a.add(annotation("Timespan", "NANOSECONDS"));
+					else if (i == ALLOCATED)
+						a.add(annotation("DataAmount", "BYTES"));
+
+					fields.add(Class.forName("jdk.jfr.ValueDescriptor")
+							   .getConstructor(Class.class, String.class,
+											   List.class)
+							   .newInstance(long.class, NAMES[i], a));
+				}
+
+				f = factoryClass.getMethod("create", List.class, List.class)
+					.invoke(null, annotations, fields);
+				t = factoryClass.getMethod("getEventType").invoke(f);
+				ne = factoryClass.getMethod("newEvent");
+				ie = typeClass.getMethod("isEnabled");
+				b = eventClass.getMethod("begin");
+				e = eventClass.getMethod("end");
+				s = eventClass.getMethod("set", int.class, Object.class);
+				c = eventClass.getMethod("commit");
+			}
+			catch (ReflectiveOperationException | RuntimeException |
+				   LinkageError ex)
+			{
+				f = null;								// No Flight Recorder
+			}
+
+			factory = f;
+			type = t;
+			newEvent = ne;
+			isEnabled = ie;
+			begin = b;
+			end = e;
+			set = s;
+			commit = c;
+		}
+
+		// A begun event if a recording wants them, or null.
+		public static Object	begin()
+		{
+			if (factory == null)
+				return null;
+
+			try
+			{
+				if (!(Boolean)isEnabled.invoke(type))
+					return null;
+
+				Object	event = newEvent.invoke(factory);
+
+				begin.invoke(event);
+
+				return event;
+			}
+			catch (ReflectiveOperationException ex)
+			{
+				return null;
+			}
+		}
+
+		public static void	commit(Object event, long[] values)
+		{
+			if (event == null)
+				return;
+
+			try
+			{
+				end.invoke(event);
+
+				for (int i=0; i<FIELDS; i++)
+					set.invoke(event, i, values[i]);
+
+				commit.invoke(event);
+			}
+			catch (ReflectiveOperationException ex)
+			{
+			}
+		}
+
+		private static Object	annotation(String name, Object value)
+			throws ReflectiveOperationException
+		{
+			return Class.forName("jdk.jfr.AnnotationElement")
+				.getConstructor(Class.class, Object.class)
+				.newInstance(Class.forName("jdk.jfr." + name), value);
+		}
+	}
+}
+
+//******************************************************************************
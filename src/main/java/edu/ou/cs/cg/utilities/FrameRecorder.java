@@ -0,0 +1,550 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+// 20261017 [cg]:	Accept -software anywhere, not just after the size.
+//
+//******************************************************************************
+// Notes:
+//
+// Records the frames of a drawable as a numbered sequence of PNG files, as
+// fast as they can be drawn and encoded rather than in real time. Add the
+// recorder to a drawable after the listeners that draw, then call display()
+// once per frame. Each display() reads back the frame and hands it to a pool
+// of encoder threads, so drawing the next frame overlaps encoding the last
+// few. The number of frames in flight is bounded; when the encoders fall
+// behind, display() waits for one to free a buffer. Frame buffers are reused,
+// and each encoder reuses its own compression and output buffers, so a long
+// recording doesn't churn the heap.
+//
+// The encoder writes RGB PNGs with the Sub filter at a fast compression
+// level, and writes each file with a single NIO channel write.
+//
+// The course apps animate by frame rather than by clock, so recording N
+// frames covers N / 60 seconds of the scene at their usual 60 frames per
+// second, however long it takes to record.
+//
+// createDrawable() makes an offscreen drawable from the GL driver if there is
+// one, and a SoftwareDrawable otherwise. main() records an app this way:
+//
+//   FrameRecorder <class> <frames> <directory> [width] [height] [-software]
+//
+// The class is a GLEventListener with a constructor that takes a
+// GLAutoDrawable and adds itself to it (like homework06.View), or that takes
+// the String[] arguments (like the example apps). Apps that draw text with a
+// TextRenderer need the GL driver.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.io.*;
+import java.lang.reflect.Constructor;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.*;
+import com.jogamp.opengl.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>FrameRecorder</CODE> class writes the frames of a drawable to
+ * PNG files on encoder threads.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class FrameRecorder
+	implements GLEventListener
+{
+	//**********************************************************************
+	// Public Class Members
+	//**********************************************************************
+
+	public static final int		FRAMES_PER_SECOND = 60;	// Of the apps
+
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final byte[]	SIGNATURE =
+	{
+		(byte)0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n',
+	};
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private final Path							directory;
+	private final String						prefix;
+	private final ExecutorService				pool;
+	private final ThreadLocal<Encoder>			encoders;
+	private final BlockingQueue<IntBuffer>		free;		// Frame buffers
+	private final AtomicReference<IOException>	failure;	// First one
+
+	private int								frame;		// Next to read
+	private int								w;
+	private int								h;
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// Writes frames to prefix000000.png and so on in the directory, which
+	// is created if needed, with one encoder thread per processor.
+	public FrameRecorder(File directory, String prefix) throws IOException
+	{
+		this(directory, prefix, Runtime.getRuntime().availableProcessors());
+	}
+
+	public FrameRecorder(File directory, String prefix, int threads)
+		throws IOException
+	{
+		this.directory = Files.createDirectories(directory.toPath());
+		this.prefix = prefix;
+
+		threads = Math.max(1, threads);
+		pool = Executors.newFixedThreadPool(threads, new ThreadFactory()
+			{
+				public Thread	newThread(Runnable r)
+				{
+					Thread	thread = new Thread(r, "FrameRecorder");
+
+					thread.setDaemon(true);
+
+					return thread;
+				}
+			});
+
+		encoders = new ThreadLocal<Encoder>()
+			{
+				protected Encoder	initialValue()
+				{
+					return new Encoder();
+				}
+			};
+
+		// One frame encoding per thread, plus one being drawn, plus one
+		// ready to go
+		free = new ArrayBlockingQueue<IntBuffer>(threads + 2);
+
+		for (int i=0; i<threads + 2; i++)
+			free.add(IntBuffer.allocate(0));
+
+		failure = new AtomicReference<IOException>();
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	// Number of frames read back so far.
+	public int		getFrameCount()
+	{
+		return frame;
+	}
+
+	public File	getFile(int frame)
+	{
+		return directory.resolve(String.format("%s%06d.png", prefix,
+											   frame)).toFile();
+	}
+
+	//**********************************************************************
+	// Override Methods (GLEventListener)
+	//**********************************************************************
+
+	public void	init(GLAutoDrawable drawable)
+	{
+		w = drawable.getSurfaceWidth();
+		h = drawable.getSurfaceHeight();
+	}
+
+	public void	dispose(GLAutoDrawable drawable)
+	{
+	}
+
+	public void	reshape(GLAutoDrawable drawable, int x, int y, int w, int h)
+	{
+		this.w = w;
+		this.h = h;
+	}
+
+	// Reads back the frame just drawn and queues it for encoding.
+	public void	display(GLAutoDrawable drawable)
+	{
+		GL			gl = drawable.getGL();
+		IntBuffer	pixels = take();
+
+		if (pixels.capacity() < w * h)
+			pixels = IntBuffer.allocate(w * h);
+
+		pixels.clear();
+		gl.glPixelStorei(GL.GL_PACK_ALIGNMENT, 4);
+		gl.glReadPixels(0, 0, w, h, GL.GL_BGRA,
+						GL2.GL_UNSIGNED_INT_8_8_8_8_REV, pixels);
+
+		pool.execute(new Frame(pixels, frame++, w, h));
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Displays the drawable for the given number of frames.
+	public void	record(GLAutoDrawable drawable, int frames)
+		throws IOException
+	{
+		for (int i=0; i<frames; i++)
+		{
+			drawable.display();
+
+			if (failure.get() != null)
+				break;
+		}
+
+		flush();
+	}
+
+	// Waits for the frames read back so far to be written. Throws the first
+	// error from writing any of them.
+	public void	flush() throws IOException
+	{
+		int			n = free.remainingCapacity() + free.size();
+		IntBuffer[]	all = new IntBuffer[n];
+
+		for (int i=0; i<n; i++)				// Every buffer is back...
+			all[i] = take();
+
+		for (int i=0; i<n; i++)				// ...so every frame is written
+			free.add(all[i]);
+
+		IOException	ex = failure.getAndSet(null);
+
+		if (ex != null)
+			throw ex;
+	}
+
+	// Writes what's left and stops the encoders.
+	public void	dispose() throws IOException
+	{
+		try
+		{
+			flush();
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	//**********************************************************************
+	// Public Class Methods
+	//**********************************************************************
+
+	// An offscreen drawable of the given size from the GL driver, or a
+	// SoftwareDrawable with one thread per processor if there isn't one.
+	public static GLAutoDrawable	createDrawable(int width, int height)
+	{
+		try
+		{
+			GLProfile		profile = GLProfile.getDefault();
+			GLCapabilities	capabilities = new GLCapabilities(profile);
+
+			capabilities.setOnscreen(false);
+			capabilities.setFBO(true);
+
+			GLAutoDrawable	drawable = GLDrawableFactory.getFactory(profile)
+				.createOffscreenAutoDrawable(null, capabilities, null,
+											 width, height);
+
+			drawable.display();				// Create the context now
+
+			return drawable;
+		}
+		catch (GLException | LinkageError ex)
+		{
+			System.err.println("No GL driver, drawing in software: " + ex);
+		}
+
+		return new SoftwareDrawable(width, height,
+									Runtime.getRuntime().availableProcessors());
+	}
+
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv) throws Exception
+	{
+		List<String>	args = new ArrayList<String>();
+		boolean		software = false;
+
+		for (String arg : argv)						// Flags go anywhere
+		{
+			if (arg.equals("-software"))
+				software = true;
+			else
+				args.add(arg);
+		}
+
+		if (args.size() < 3)
+		{
+			System.err.println("Usage: FrameRecorder <class> <frames> " +
+							   "<directory> [width] [height] [-software]");
+			System.exit(1);
+		}
+
+		int		frames = Integer.parseInt(args.get(1));
+		int		w = ((args.size() > 3) ? Integer.parseInt(args.get(3)) : 960);
+		int		h = ((args.size() > 4) ? Integer.parseInt(args.get(4)) : 540);
+
+		GLAutoDrawable	drawable = (software ?
+			new SoftwareDrawable(w, h, Runtime.getRuntime()
+								 .availableProcessors()) :
+			createDrawable(w, h));
+		Class<?>		type = Class.forName(args.get(0));
+
+		try
+		{
+			Constructor<?>	c = type.getConstructor(GLAutoDrawable.class);
+
+			c.newInstance(drawable);				// Adds itself
+		}
+		catch (NoSuchMethodException ex)
+		{
+			Constructor<?>	c = type.getConstructor(String[].class);
+
+			drawable.addGLEventListener(
+				(GLEventListener)c.newInstance((Object)new String[0]));
+		}
+
+		FrameRecorder	recorder = new FrameRecorder(new File(args.get(2)),
+													 "frame");
+
+		drawable.addGLEventListener(recorder);
+
+		long	t0 = System.nanoTime();
+
+		recorder.record(drawable, frames);
+		recorder.dispose();
+
+		double	s = (System.nanoTime() - t0) / 1.0e9;
+
+		System.out.printf("Recorded %d frames (%.1f s of scene) in %.1f s, " +
+						  "%.1f frames/s%n", frames,
+						  frames / (double)FRAMES_PER_SECOND, s, frames / s);
+
+		drawable.destroy();
+		System.exit(0);
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	// Waits for a free frame buffer.
+	private IntBuffer	take()
+	{
+		try
+		{
+			return free.take();
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+
+			throw new IllegalStateException("Interrupted while recording");
+		}
+	}
+
+	//**********************************************************************
+	// Private Inner Classes
+	//**********************************************************************
+
+	// Encodes and writes one frame, then gives its buffer back.
+	private final class Frame implements Runnable
+	{
+		private final IntBuffer	pixels;
+		private final int			index;
+		private final int			w;
+		private final int			h;
+
+		public Frame(IntBuffer pixels, int index, int w, int h)
+		{
+			this.pixels = pixels;
+			this.index = index;
+			this.w = w;
+			this.h = h;
+		}
+
+		public void	run()
+		{
+			try
+			{
+				ByteBuffer	png = encoders.get().encode(pixels.array(), w, h);
+
+				try (FileChannel channel = FileChannel.open(
+						getFile(index).toPath(), StandardOpenOption.CREATE,
+						StandardOpenOption.WRITE,
+						StandardOpenOption.TRUNCATE_EXISTING))
+				{
+					while (png.hasRemaining())
+						channel.write(png);
+				}
+			}
+			catch (IOException ex)
+			{
+				failure.compareAndSet(null, ex);
+			}
+			finally
+			{
+				free.add(pixels);
+			}
+		}
+	}
+
+	// PNG encoding state for one thread.
+	private static final class Encoder
+	{
+		private final Deflater		deflater;
+		private final CRC32		crc;
+		private final Bytes		file;		// Whole PNG
+		private final Bytes		data;		// Compressed pixels
+		private byte[]				row;		// Filtered, with filter byte
+		private byte[]				chunk;		// Deflater output
+
+		public Encoder()
+		{
+			deflater = new Deflater(Deflater.BEST_SPEED);
+			crc = new CRC32();
+			file = new Bytes();
+			data = new Bytes();
+			row = new byte[0];
+			chunk = new byte[1 << 16];
+		}
+
+		// Encodes ARGB pixels, bottom row first, as an RGB PNG. The result
+		// is valid until the next call.
+		public ByteBuffer	encode(int[] argb, int w, int h)
+		{
+			if (row.length < 1 + 3 * w)
+				row = new byte[1 + 3 * w];
+
+			deflater.reset();
+			data.reset();
+			row[0] = 1;								// Sub filter
+
+			for (int y=h-1; y>=0; y--)				// PNGs go top down
+			{
+				int	p = y * w;
+				int	r0 = 0, g0 = 0, b0 = 0;
+
+				for (int x=0, k=1; x<w; x++, k+=3)
+				{
+					int	c = argb[p + x];
+					int	r = (c >> 16) & 0xFF;
+					int	g = (c >> 8) & 0xFF;
+					int	b = c & 0xFF;
+
+					row[k] = (byte)(r - r0);
+					row[k + 1] = (byte)(g - g0);
+					row[k + 2] = (byte)(b - b0);
+					r0 = r;
+					g0 = g;
+					b0 = b;
+				}
+
+				deflate(row, 1 + 3 * w);
+			}
+
+			deflater.finish();
+
+			while (!deflater.finished())
+				data.write(chunk, 0, deflater.deflate(chunk));
+
+			file.reset();
+			file.write(SIGNATURE, 0, SIGNATURE.length);
+
+			Bytes	header = new Bytes(13);
+
+			header.writeInt(w);
+			header.writeInt(h);
+			header.write(8);						// Bits per channel
+			header.write(2);						// RGB
+			header.write(0);						// Deflate
+			header.write(0);						// Adaptive filters
+			header.write(0);						// Not interlaced
+
+			writeChunk("IHDR", header);
+			writeChunk("IDAT", data);
+			writeChunk("IEND", new Bytes(0));
+
+			return file.wrap();
+		}
+
+		private void	deflate(byte[] b, int n)
+		{
+			deflater.setInput(b, 0, n);
+
+			while (!deflater.needsInput())
+				data.write(chunk, 0, deflater.deflate(chunk));
+		}
+
+		private void	writeChunk(String type, Bytes body)
+		{
+			byte[]	t = type.getBytes(StandardCharsets.US_ASCII);
+
+			crc.reset();
+			crc.update(t, 0, 4);
+			crc.update(body.array(), 0, body.size());
+
+			file.writeInt(body.size());
+			file.write(t, 0, 4);
+			file.write(body.array(), 0, body.size());
+			file.writeInt((int)crc.getValue());
+		}
+	}
+
+	// A byte array stream that exposes its array, to write without copying.
+	private static final class Bytes extends ByteArrayOutputStream
+	{
+		public Bytes()
+		{
+			super(1 << 16);
+		}
+
+		public Bytes(int size)
+		{
+			super(size);
+		}
+
+		public byte[]	array()
+		{
+			return buf;
+		}
+
+		public ByteBuffer	wrap()
+		{
+			return ByteBuffer.wrap(buf, 0, count);
+		}
+
+		public void	writeInt(int v)
+		{
+			write(v >>> 24);
+			write(v >>> 16);
+			write(v >>> 8);
+			write(v);
+		}
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,170 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// The six planes are extracted from projection * modelview as sums and
+// differences of its rows (Gribb and Hartmann, "Fast Extraction of Viewing
+// Frustum Planes from the World-View-Projection Matrix", 2001). They are in
+// the coordinate system the modelview matrix maps from, with normals pointing
+// into the frustum, and are normalized so that distances are true distances.
+//
+// Boxes are tested against each plane at the corner farthest along the
+// plane's normal, which can report a box as intersecting when it is just
+// outside near a frustum corner. That errs on the side of drawing.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import com.jogamp.opengl.GL2;
+
+//******************************************************************************
+
+/**
+ * The <CODE>Frustum</CODE> class tests bounds against the viewing volume.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class Frustum
+{
+	//**********************************************************************
+	// Public Class Members
+	//**********************************************************************
+
+	public static final int		OUTSIDE = -1;
+	public static final int		INTERSECTS = 0;
+	public static final int		INSIDE = 1;
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private final float[]			planes;		// a, b, c, d for 6 planes
+	private final float[]			clip;		// projection * modelview
+	private final float[]			projection;	// Scratch for set(gl)
+	private final float[]			modelview;	// Scratch for set(gl)
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	public Frustum()
+	{
+		planes = new float[24];
+		clip = new float[16];
+		projection = new float[16];
+		modelview = new float[16];
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	// Set the frustum from the current projection and modelview matrices.
+	public void	set(GL2 gl)
+	{
+		gl.glGetFloatv(GL2.GL_PROJECTION_MATRIX, projection, 0);
+		gl.glGetFloatv(GL2.GL_MODELVIEW_MATRIX, modelview, 0);
+
+		set(projection, modelview);
+	}
+
+	// Set the frustum from projection and modelview matrices.
+	public void	set(float[] projection, float[] modelview)
+	{
+		Matrix.multiply(projection, modelview, clip);
+
+		// Row r of clip is clip[r], clip[4 + r], clip[8 + r], clip[12 + r]
+		plane(0, 3,  1.0f, 0);			// Left:	row 3 + row 0
+		plane(1, 3, -1.0f, 0);			// Right:	row 3 - row 0
+		plane(2, 3,  1.0f, 1);			// Bottom:	row 3 + row 1
+		plane(3, 3, -1.0f, 1);			// Top:		row 3 - row 1
+		plane(4, 3,  1.0f, 2);			// Near:	row 3 + row 2
+		plane(5, 3, -1.0f, 2);			// Far:		row 3 - row 2
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Returns OUTSIDE, INTERSECTS, or INSIDE for a box (see Matrix). Empty
+	// boxes are OUTSIDE.
+	public int		classify(float[] box)
+	{
+		if ((box[0] > box[3]) || (box[1] > box[4]) || (box[2] > box[5]))
+			return OUTSIDE;
+
+		int	result = INSIDE;
+
+		for (int i=0; i<24; i+=4)
+		{
+			float	a = planes[i], b = planes[i + 1], c = planes[i + 2];
+			float	d = planes[i + 3];
+
+			// Distance of the corner farthest along the normal
+			float	far = a * ((a > 0.0f) ? box[3] : box[0]) +
+						  b * ((b > 0.0f) ? box[4] : box[1]) +
+						  c * ((c > 0.0f) ? box[5] : box[2]) + d;
+
+			if (far < 0.0f)
+				return OUTSIDE;
+
+			// Distance of the corner nearest along the normal
+			float	near = a * ((a > 0.0f) ? box[0] : box[3]) +
+						   b * ((b > 0.0f) ? box[1] : box[4]) +
+						   c * ((c > 0.0f) ? box[2] : box[5]) + d;
+
+			if (near < 0.0f)
+				result = INTERSECTS;
+		}
+
+		return result;
+	}
+
+	// Returns true if the point (x, y, z) is inside or on the frustum.
+	public boolean	contains(float x, float y, float z)
+	{
+		for (int i=0; i<24; i+=4)
+			if (planes[i] * x + planes[i + 1] * y + planes[i + 2] * z +
+				planes[i + 3] < 0.0f)
+				return false;
+
+		return true;
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	// Set plane k to row r plus sign times row s of clip, normalized.
+	private void	plane(int k, int r, float sign, int s)
+	{
+		float	a = clip[r]      + sign * clip[s];
+		float	b = clip[4 + r]  + sign * clip[4 + s];
+		float	c = clip[8 + r]  + sign * clip[8 + s];
+		float	d = clip[12 + r] + sign * clip[12 + s];
+		float	n = (float)Math.sqrt(a * a + b * b + c * c);
+
+		if (n > 0.0f)
+		{
+			a /= n;
+			b /= n;
+			c /= n;
+			d /= n;
+		}
+
+		planes[k * 4 + 0] = a;
+		planes[k * 4 + 1] = b;
+		planes[k * 4 + 2] = c;
+		planes[k * 4 + 3] = d;
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,7415 @@
+//******************************************************************************
+// GENERATED by GL2StubGenerator. Do not edit.
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+import com.jogamp.opengl.*;
+
+/**
+ * The <CODE>GL2Stub</CODE> class implements GL2 without an OpenGL context.
+ * Every method calls call(id). If that returns true, the arguments are
+ * passed to invoke(id, args) and its result is returned. Otherwise the
+ * method returns zero, false, null, or this stub (for getGL2() and the
+ * like). The default call() returns false, so nothing is allocated.<P>
+ */
+@SuppressWarnings("deprecation")
+public class GL2Stub
+	implements GL2
+{
+	public static final int	METHOD_COUNT = 2457;
+
+	private static final String[]	SIGNATURES =
+	{
+		"getBoundBuffer(int)",
+		"getBoundFramebuffer(int)",
+		"getBufferStorage(int)",
+		"getContext()",
+		"getDefaultDrawFramebuffer()",
+		"getDefaultReadBuffer()",
+		"getDefaultReadFramebuffer()",
+		"getDownstreamGL()",
+		"getExtension(java.lang.String)",
+		"getGL()",
+		"getGL2()",
+		"getGL2ES1()",
+		"getGL2ES2()",
+		"getGL2ES3()",
+		"getGL2GL3()",
+		"getGL3()",
+		"getGL3ES3()",
+		"getGL3bc()",
+		"getGL4()",
+		"getGL4ES3()",
+		"getGL4bc()",
+		"getGLES1()",
+		"getGLES2()",
+		"getGLES3()",
+		"getGLProfile()",
+		"getMaxRenderbufferSamples()",
+		"getPlatformGLExtensions()",
+		"getRootGL()",
+		"getSwapInterval()",
+		"glAccum(int,float)",
+		"glActiveShaderProgram(int,int)",
+		"glActiveStencilFaceEXT(int)",
+		"glActiveTexture(int)",
+		"glAlphaFunc(int,float)",
+		"glApplyFramebufferAttachmentCMAAINTEL()",
+		"glApplyTextureEXT(int)",
+		"glAreTexturesResident(int,[I,int,[B,int)",
+		"glAreTexturesResident(int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+		"glArrayElement(int)",
+		"glAttachObjectARB(long,long)",
+		"glAttachShader(int,int)",
+		"glBegin(int)",
+		"glBeginConditionalRender(int,int)",
+		"glBeginConditionalRenderNVX(int)",
+		"glBeginOcclusionQueryNV(int)",
+		"glBeginPerfMonitorAMD(int)",
+		"glBeginPerfQueryINTEL(int)",
+		"glBeginQuery(int,int)",
+		"glBeginQueryIndexed(int,int,int)",
+		"glBeginTransformFeedback(int)",
+		"glBeginVertexShaderEXT()",
+		"glBeginVideoCaptureNV(int)",
+		"glBindAttribLocation(int,int,java.lang.String)",
+		"glBindBuffer(int,int)",
+		"glBindBufferBase(int,int,int)",
+		"glBindBufferRange(int,int,int,long,long)",
+		"glBindFragDataLocation(int,int,java.lang.String)",
+		"glBindFramebuffer(int,int)",
+		"glBindImageTexture(int,int,int,boolean,int,int,int)",
+		"glBindLightParameterEXT(int,int)",
+		"glBindMaterialParameterEXT(int,int)",
+		"glBindMultiTextureEXT(int,int,int)",
+		"glBindParameterEXT(int)",
+		"glBindProgramARB(int,int)",
+		"glBindProgramPipeline(int)",
+		"glBindRenderbuffer(int,int)",
+		"glBindTexGenParameterEXT(int,int,int)",
+		"glBindTexture(int,int)",
+		"glBindTextureUnitParameterEXT(int,int)",
+		"glBindTransformFeedback(int,int)",
+		"glBindTransformFeedbackNV(int,int)",
+		"glBindVertexArray(int)",
+		"glBindVertexShaderEXT(int)",
+		"glBindVideoCaptureStreamBufferNV(int,int,int,long)",
+		"glBindVideoCaptureStreamTextureNV(int,int,int,int,int)",
+		"glBitmap(int,int,float,float,float,float,[B,int)",
+		"glBitmap(int,int,float,float,float,float,java.nio.ByteBuffer)",
+		"glBitmap(int,int,float,float,float,float,long)",
+		"glBlendBarrier()",
+		"glBlendColor(float,float,float,float)",
+		"glBlendEquation(int)",
+		"glBlendEquationIndexedAMD(int,int)",
+		"glBlendEquationSeparate(int,int)",
+		"glBlendEquationSeparateIndexedAMD(int,int,int)",
+		"glBlendEquationSeparatei(int,int,int)",
+		"glBlendEquationi(int,int)",
+		"glBlendFunc(int,int)",
+		"glBlendFuncIndexedAMD(int,int,int)",
+		"glBlendFuncSeparate(int,int,int,int)",
+		"glBlendFuncSeparateIndexedAMD(int,int,int,int,int)",
+		"glBlendFuncSeparatei(int,int,int,int,int)",
+		"glBlendFunci(int,int,int)",
+		"glBlitFramebuffer(int,int,int,int,int,int,int,int,int,int)",
+		"glBufferAddressRangeNV(int,int,long,long)",
+		"glBufferData(int,long,java.nio.Buffer,int)",
+		"glBufferPageCommitmentARB(int,long,long,boolean)",
+		"glBufferParameteri(int,int,int)",
+		"glBufferSubData(int,long,long,java.nio.Buffer)",
+		"glCallCommandListNV(int)",
+		"glCallList(int)",
+		"glCallLists(int,int,java.nio.Buffer)",
+		"glCheckFramebufferStatus(int)",
+		"glCheckNamedFramebufferStatusEXT(int,int)",
+		"glClampColor(int,int)",
+		"glClear(int)",
+		"glClearAccum(float,float,float,float)",
+		"glClearBufferData(int,int,int,int,java.nio.Buffer)",
+		"glClearBufferSubData(int,int,long,long,int,int,java.nio.Buffer)",
+		"glClearBufferfi(int,int,float,int)",
+		"glClearBufferfv(int,int,[F,int)",
+		"glClearBufferfv(int,int,java.nio.FloatBuffer)",
+		"glClearBufferiv(int,int,[I,int)",
+		"glClearBufferiv(int,int,java.nio.IntBuffer)",
+		"glClearBufferuiv(int,int,[I,int)",
+		"glClearBufferuiv(int,int,java.nio.IntBuffer)",
+		"glClearColor(float,float,float,float)",
+		"glClearColorIi(int,int,int,int)",
+		"glClearColorIui(int,int,int,int)",
+		"glClearDepth(double)",
+		"glClearDepthf(float)",
+		"glClearIndex(float)",
+		"glClearNamedBufferData(int,int,int,int,java.nio.Buffer)",
+		"glClearNamedBufferSubData(int,int,long,long,int,int,java.nio.Buffer)",
+		"glClearStencil(int)",
+		"glClientActiveTexture(int)",
+		"glClientAttribDefaultEXT(int)",
+		"glClipPlane(int,[D,int)",
+		"glClipPlane(int,java.nio.DoubleBuffer)",
+		"glClipPlanef(int,[F,int)",
+		"glClipPlanef(int,java.nio.FloatBuffer)",
+		"glColor3b(byte,byte,byte)",
+		"glColor3bv([B,int)",
+		"glColor3bv(java.nio.ByteBuffer)",
+		"glColor3d(double,double,double)",
+		"glColor3dv([D,int)",
+		"glColor3dv(java.nio.DoubleBuffer)",
+		"glColor3f(float,float,float)",
+		"glColor3fv([F,int)",
+		"glColor3fv(java.nio.FloatBuffer)",
+		"glColor3h(short,short,short)",
+		"glColor3hv([S,int)",
+		"glColor3hv(java.nio.ShortBuffer)",
+		"glColor3i(int,int,int)",
+		"glColor3iv([I,int)",
+		"glColor3iv(java.nio.IntBuffer)",
+		"glColor3s(short,short,short)",
+		"glColor3sv([S,int)",
+		"glColor3sv(java.nio.ShortBuffer)",
+		"glColor3ub(byte,byte,byte)",
+		"glColor3ubv([B,int)",
+		"glColor3ubv(java.nio.ByteBuffer)",
+		"glColor3ui(int,int,int)",
+		"glColor3uiv([I,int)",
+		"glColor3uiv(java.nio.IntBuffer)",
+		"glColor3us(short,short,short)",
+		"glColor3usv([S,int)",
+		"glColor3usv(java.nio.ShortBuffer)",
+		"glColor4b(byte,byte,byte,byte)",
+		"glColor4bv([B,int)",
+		"glColor4bv(java.nio.ByteBuffer)",
+		"glColor4d(double,double,double,double)",
+		"glColor4dv([D,int)",
+		"glColor4dv(java.nio.DoubleBuffer)",
+		"glColor4f(float,float,float,float)",
+		"glColor4fv([F,int)",
+		"glColor4fv(java.nio.FloatBuffer)",
+		"glColor4h(short,short,short,short)",
+		"glColor4hv([S,int)",
+		"glColor4hv(java.nio.ShortBuffer)",
+		"glColor4i(int,int,int,int)",
+		"glColor4iv([I,int)",
+		"glColor4iv(java.nio.IntBuffer)",
+		"glColor4s(short,short,short,short)",
+		"glColor4sv([S,int)",
+		"glColor4sv(java.nio.ShortBuffer)",
+		"glColor4ub(byte,byte,byte,byte)",
+		"glColor4ubv([B,int)",
+		"glColor4ubv(java.nio.ByteBuffer)",
+		"glColor4ui(int,int,int,int)",
+		"glColor4uiv([I,int)",
+		"glColor4uiv(java.nio.IntBuffer)",
+		"glColor4us(short,short,short,short)",
+		"glColor4usv([S,int)",
+		"glColor4usv(java.nio.ShortBuffer)",
+		"glColorFormatNV(int,int,int)",
+		"glColorMask(boolean,boolean,boolean,boolean)",
+		"glColorMaskIndexed(int,boolean,boolean,boolean,boolean)",
+		"glColorMaski(int,boolean,boolean,boolean,boolean)",
+		"glColorMaterial(int,int)",
+		"glColorPointer(com.jogamp.opengl.GLArrayData)",
+		"glColorPointer(int,int,int,java.nio.Buffer)",
+		"glColorPointer(int,int,int,long)",
+		"glColorSubTable(int,int,int,int,int,java.nio.Buffer)",
+		"glColorSubTable(int,int,int,int,int,long)",
+		"glColorTable(int,int,int,int,int,java.nio.Buffer)",
+		"glColorTable(int,int,int,int,int,long)",
+		"glColorTableParameterfv(int,int,[F,int)",
+		"glColorTableParameterfv(int,int,java.nio.FloatBuffer)",
+		"glColorTableParameteriv(int,int,[I,int)",
+		"glColorTableParameteriv(int,int,java.nio.IntBuffer)",
+		"glCommandListSegmentsNV(int,int)",
+		"glCompileCommandListNV(int)",
+		"glCompileShader(int)",
+		"glCompileShaderARB(long)",
+		"glCompressedMultiTexImage1DEXT(int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glCompressedMultiTexImage2DEXT(int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glCompressedMultiTexImage3DEXT(int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glCompressedMultiTexSubImage1DEXT(int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glCompressedMultiTexSubImage2DEXT(int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glCompressedMultiTexSubImage3DEXT(int,int,int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glCompressedTexImage1D(int,int,int,int,int,int,java.nio.Buffer)",
+		"glCompressedTexImage1D(int,int,int,int,int,int,long)",
+		"glCompressedTexImage2D(int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glCompressedTexImage2D(int,int,int,int,int,int,int,long)",
+		"glCompressedTexImage3D(int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glCompressedTexImage3D(int,int,int,int,int,int,int,int,long)",
+		"glCompressedTexSubImage1D(int,int,int,int,int,int,java.nio.Buffer)",
+		"glCompressedTexSubImage1D(int,int,int,int,int,int,long)",
+		"glCompressedTexSubImage2D(int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glCompressedTexSubImage2D(int,int,int,int,int,int,int,int,long)",
+		"glCompressedTexSubImage3D(int,int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glCompressedTexSubImage3D(int,int,int,int,int,int,int,int,int,int,long)",
+		"glCompressedTextureImage1DEXT(int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glCompressedTextureImage2DEXT(int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glCompressedTextureImage3DEXT(int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glCompressedTextureSubImage1DEXT(int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glCompressedTextureSubImage2DEXT(int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glCompressedTextureSubImage3DEXT(int,int,int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glConservativeRasterParameterfNV(int,float)",
+		"glConvolutionFilter1D(int,int,int,int,int,java.nio.Buffer)",
+		"glConvolutionFilter1D(int,int,int,int,int,long)",
+		"glConvolutionFilter2D(int,int,int,int,int,int,java.nio.Buffer)",
+		"glConvolutionFilter2D(int,int,int,int,int,int,long)",
+		"glConvolutionParameterf(int,int,float)",
+		"glConvolutionParameterfv(int,int,[F,int)",
+		"glConvolutionParameterfv(int,int,java.nio.FloatBuffer)",
+		"glConvolutionParameteri(int,int,int)",
+		"glConvolutionParameteriv(int,int,[I,int)",
+		"glConvolutionParameteriv(int,int,java.nio.IntBuffer)",
+		"glCopyBufferSubData(int,int,long,long,long)",
+		"glCopyColorSubTable(int,int,int,int,int)",
+		"glCopyColorTable(int,int,int,int,int)",
+		"glCopyConvolutionFilter1D(int,int,int,int,int)",
+		"glCopyConvolutionFilter2D(int,int,int,int,int,int)",
+		"glCopyImageSubData(int,int,int,int,int,int,int,int,int,int,int,int,int,int,int)",
+		"glCopyImageSubDataNV(int,int,int,int,int,int,int,int,int,int,int,int,int,int,int)",
+		"glCopyMultiTexImage1DEXT(int,int,int,int,int,int,int,int)",
+		"glCopyMultiTexImage2DEXT(int,int,int,int,int,int,int,int,int)",
+		"glCopyMultiTexSubImage1DEXT(int,int,int,int,int,int,int)",
+		"glCopyMultiTexSubImage2DEXT(int,int,int,int,int,int,int,int,int)",
+		"glCopyMultiTexSubImage3DEXT(int,int,int,int,int,int,int,int,int,int)",
+		"glCopyPixels(int,int,int,int,int)",
+		"glCopyTexImage1D(int,int,int,int,int,int,int)",
+		"glCopyTexImage2D(int,int,int,int,int,int,int,int)",
+		"glCopyTexSubImage1D(int,int,int,int,int,int)",
+		"glCopyTexSubImage2D(int,int,int,int,int,int,int,int)",
+		"glCopyTexSubImage3D(int,int,int,int,int,int,int,int,int)",
+		"glCopyTextureImage1DEXT(int,int,int,int,int,int,int,int)",
+		"glCopyTextureImage2DEXT(int,int,int,int,int,int,int,int,int)",
+		"glCopyTextureSubImage1DEXT(int,int,int,int,int,int,int)",
+		"glCopyTextureSubImage2DEXT(int,int,int,int,int,int,int,int,int)",
+		"glCopyTextureSubImage3DEXT(int,int,int,int,int,int,int,int,int,int)",
+		"glCoverageModulationNV(int)",
+		"glCoverageModulationTableNV(int,[F,int)",
+		"glCoverageModulationTableNV(int,java.nio.FloatBuffer)",
+		"glCreateCommandListsNV(int,[I,int)",
+		"glCreateCommandListsNV(int,java.nio.IntBuffer)",
+		"glCreatePerfQueryINTEL(int,[I,int)",
+		"glCreatePerfQueryINTEL(int,java.nio.IntBuffer)",
+		"glCreateProgram()",
+		"glCreateProgramObjectARB()",
+		"glCreateShader(int)",
+		"glCreateShaderObjectARB(int)",
+		"glCreateShaderProgramv(int,int,[Ljava.lang.String;)",
+		"glCreateStatesNV(int,[I,int)",
+		"glCreateStatesNV(int,java.nio.IntBuffer)",
+		"glCullFace(int)",
+		"glCullParameterdvEXT(int,[D,int)",
+		"glCullParameterdvEXT(int,java.nio.DoubleBuffer)",
+		"glCullParameterfvEXT(int,[F,int)",
+		"glCullParameterfvEXT(int,java.nio.FloatBuffer)",
+		"glCurrentPaletteMatrixARB(int)",
+		"glDebugMessageControl(int,int,int,int,[I,int,boolean)",
+		"glDebugMessageControl(int,int,int,int,java.nio.IntBuffer,boolean)",
+		"glDebugMessageEnableAMD(int,int,int,[I,int,boolean)",
+		"glDebugMessageEnableAMD(int,int,int,java.nio.IntBuffer,boolean)",
+		"glDebugMessageInsert(int,int,int,int,int,java.lang.String)",
+		"glDebugMessageInsertAMD(int,int,int,int,java.lang.String)",
+		"glDeleteBuffers(int,[I,int)",
+		"glDeleteBuffers(int,java.nio.IntBuffer)",
+		"glDeleteCommandListsNV(int,[I,int)",
+		"glDeleteCommandListsNV(int,java.nio.IntBuffer)",
+		"glDeleteFramebuffers(int,[I,int)",
+		"glDeleteFramebuffers(int,java.nio.IntBuffer)",
+		"glDeleteLists(int,int)",
+		"glDeleteNamesAMD(int,int,[I,int)",
+		"glDeleteNamesAMD(int,int,java.nio.IntBuffer)",
+		"glDeleteObjectARB(long)",
+		"glDeleteOcclusionQueriesNV(int,[I,int)",
+		"glDeleteOcclusionQueriesNV(int,java.nio.IntBuffer)",
+		"glDeletePerfMonitorsAMD(int,[I,int)",
+		"glDeletePerfMonitorsAMD(int,java.nio.IntBuffer)",
+		"glDeletePerfQueryINTEL(int)",
+		"glDeleteProgram(int)",
+		"glDeleteProgramPipelines(int,[I,int)",
+		"glDeleteProgramPipelines(int,java.nio.IntBuffer)",
+		"glDeleteProgramsARB(int,[I,int)",
+		"glDeleteProgramsARB(int,java.nio.IntBuffer)",
+		"glDeleteQueries(int,[I,int)",
+		"glDeleteQueries(int,java.nio.IntBuffer)",
+		"glDeleteRenderbuffers(int,[I,int)",
+		"glDeleteRenderbuffers(int,java.nio.IntBuffer)",
+		"glDeleteShader(int)",
+		"glDeleteStatesNV(int,[I,int)",
+		"glDeleteStatesNV(int,java.nio.IntBuffer)",
+		"glDeleteTextures(int,[I,int)",
+		"glDeleteTextures(int,java.nio.IntBuffer)",
+		"glDeleteTransformFeedbacks(int,[I,int)",
+		"glDeleteTransformFeedbacks(int,java.nio.IntBuffer)",
+		"glDeleteTransformFeedbacksNV(int,[I,int)",
+		"glDeleteTransformFeedbacksNV(int,java.nio.IntBuffer)",
+		"glDeleteVertexArrays(int,[I,int)",
+		"glDeleteVertexArrays(int,java.nio.IntBuffer)",
+		"glDeleteVertexShaderEXT(int)",
+		"glDepthBoundsEXT(double,double)",
+		"glDepthFunc(int)",
+		"glDepthMask(boolean)",
+		"glDepthRange(double,double)",
+		"glDepthRangef(float,float)",
+		"glDetachObjectARB(long,long)",
+		"glDetachShader(int,int)",
+		"glDisable(int)",
+		"glDisableClientState(int)",
+		"glDisableClientStateIndexedEXT(int,int)",
+		"glDisableClientStateiEXT(int,int)",
+		"glDisableIndexed(int,int)",
+		"glDisableVariantClientStateEXT(int)",
+		"glDisableVertexArrayAttribEXT(int,int)",
+		"glDisableVertexArrayEXT(int,int)",
+		"glDisableVertexAttribAPPLE(int,int)",
+		"glDisableVertexAttribArray(int)",
+		"glDisableVertexAttribArrayARB(int)",
+		"glDisablei(int,int)",
+		"glDrawArrays(int,int,int)",
+		"glDrawArraysInstanced(int,int,int,int)",
+		"glDrawArraysInstancedBaseInstance(int,int,int,int,int)",
+		"glDrawBuffer(int)",
+		"glDrawBuffers(int,[I,int)",
+		"glDrawBuffers(int,java.nio.IntBuffer)",
+		"glDrawBuffersATI(int,[I,int)",
+		"glDrawBuffersATI(int,java.nio.IntBuffer)",
+		"glDrawCommandsAddressNV(int,[J,int,[I,int,int)",
+		"glDrawCommandsAddressNV(int,java.nio.LongBuffer,java.nio.IntBuffer,int)",
+		"glDrawCommandsNV(int,int,com.jogamp.common.nio.PointerBuffer,[I,int,int)",
+		"glDrawCommandsNV(int,int,com.jogamp.common.nio.PointerBuffer,java.nio.IntBuffer,int)",
+		"glDrawCommandsStatesAddressNV([J,int,[I,int,[I,int,[I,int,int)",
+		"glDrawCommandsStatesAddressNV(java.nio.LongBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,int)",
+		"glDrawCommandsStatesNV(int,com.jogamp.common.nio.PointerBuffer,[I,int,[I,int,[I,int,int)",
+		"glDrawCommandsStatesNV(int,com.jogamp.common.nio.PointerBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,int)",
+		"glDrawElements(int,int,int,java.nio.Buffer)",
+		"glDrawElements(int,int,int,long)",
+		"glDrawElementsInstanced(int,int,int,java.nio.Buffer,int)",
+		"glDrawElementsInstanced(int,int,int,long,int)",
+		"glDrawElementsInstancedBaseInstance(int,int,int,long,int,int)",
+		"glDrawElementsInstancedBaseVertexBaseInstance(int,int,int,long,int,int,int)",
+		"glDrawPixels(int,int,int,int,java.nio.Buffer)",
+		"glDrawPixels(int,int,int,int,long)",
+		"glDrawRangeElements(int,int,int,int,int,java.nio.Buffer)",
+		"glDrawRangeElements(int,int,int,int,int,long)",
+		"glDrawTextureNV(int,int,float,float,float,float,float,float,float,float,float)",
+		"glDrawTransformFeedback(int,int)",
+		"glDrawTransformFeedbackNV(int,int)",
+		"glDrawTransformFeedbackStream(int,int,int)",
+		"glEdgeFlag(boolean)",
+		"glEdgeFlagFormatNV(int)",
+		"glEdgeFlagPointer(int,java.nio.Buffer)",
+		"glEdgeFlagPointer(int,long)",
+		"glEdgeFlagv([B,int)",
+		"glEdgeFlagv(java.nio.ByteBuffer)",
+		"glEnable(int)",
+		"glEnableClientState(int)",
+		"glEnableClientStateIndexedEXT(int,int)",
+		"glEnableClientStateiEXT(int,int)",
+		"glEnableIndexed(int,int)",
+		"glEnableVariantClientStateEXT(int)",
+		"glEnableVertexArrayAttribEXT(int,int)",
+		"glEnableVertexArrayEXT(int,int)",
+		"glEnableVertexAttribAPPLE(int,int)",
+		"glEnableVertexAttribArray(int)",
+		"glEnableVertexAttribArrayARB(int)",
+		"glEnablei(int,int)",
+		"glEnd()",
+		"glEndConditionalRender()",
+		"glEndConditionalRenderNVX()",
+		"glEndList()",
+		"glEndOcclusionQueryNV()",
+		"glEndPerfMonitorAMD(int)",
+		"glEndPerfQueryINTEL(int)",
+		"glEndQuery(int)",
+		"glEndQueryIndexed(int,int)",
+		"glEndTransformFeedback()",
+		"glEndVertexShaderEXT()",
+		"glEndVideoCaptureNV(int)",
+		"glEvalCoord1d(double)",
+		"glEvalCoord1dv([D,int)",
+		"glEvalCoord1dv(java.nio.DoubleBuffer)",
+		"glEvalCoord1f(float)",
+		"glEvalCoord1fv([F,int)",
+		"glEvalCoord1fv(java.nio.FloatBuffer)",
+		"glEvalCoord2d(double,double)",
+		"glEvalCoord2dv([D,int)",
+		"glEvalCoord2dv(java.nio.DoubleBuffer)",
+		"glEvalCoord2f(float,float)",
+		"glEvalCoord2fv([F,int)",
+		"glEvalCoord2fv(java.nio.FloatBuffer)",
+		"glEvalMapsNV(int,int)",
+		"glEvalMesh1(int,int,int)",
+		"glEvalMesh2(int,int,int,int,int)",
+		"glEvalPoint1(int)",
+		"glEvalPoint2(int,int)",
+		"glExtractComponentEXT(int,int,int)",
+		"glFeedbackBuffer(int,int,java.nio.FloatBuffer)",
+		"glFinish()",
+		"glFinishTextureSUNX()",
+		"glFlush()",
+		"glFlushMappedBufferRange(int,long,long)",
+		"glFlushMappedNamedBufferRangeEXT(int,long,long)",
+		"glFlushPixelDataRangeNV(int)",
+		"glFlushVertexArrayRangeAPPLE(int,java.nio.Buffer)",
+		"glFogCoordFormatNV(int,int)",
+		"glFogCoordPointer(int,int,java.nio.Buffer)",
+		"glFogCoordPointer(int,int,long)",
+		"glFogCoordd(double)",
+		"glFogCoorddv([D,int)",
+		"glFogCoorddv(java.nio.DoubleBuffer)",
+		"glFogCoordf(float)",
+		"glFogCoordfv([F,int)",
+		"glFogCoordfv(java.nio.FloatBuffer)",
+		"glFogCoordh(short)",
+		"glFogCoordhv([S,int)",
+		"glFogCoordhv(java.nio.ShortBuffer)",
+		"glFogf(int,float)",
+		"glFogfv(int,[F,int)",
+		"glFogfv(int,java.nio.FloatBuffer)",
+		"glFogi(int,int)",
+		"glFogiv(int,[I,int)",
+		"glFogiv(int,java.nio.IntBuffer)",
+		"glFragmentCoverageColorNV(int)",
+		"glFrameTerminatorGREMEDY()",
+		"glFramebufferDrawBufferEXT(int,int)",
+		"glFramebufferDrawBuffersEXT(int,int,[I,int)",
+		"glFramebufferDrawBuffersEXT(int,int,java.nio.IntBuffer)",
+		"glFramebufferParameteri(int,int,int)",
+		"glFramebufferReadBufferEXT(int,int)",
+		"glFramebufferRenderbuffer(int,int,int,int)",
+		"glFramebufferSampleLocationsfvNV(int,int,int,[F,int)",
+		"glFramebufferSampleLocationsfvNV(int,int,int,java.nio.FloatBuffer)",
+		"glFramebufferTexture1D(int,int,int,int,int)",
+		"glFramebufferTexture2D(int,int,int,int,int)",
+		"glFramebufferTexture3D(int,int,int,int,int,int)",
+		"glFramebufferTextureEXT(int,int,int,int)",
+		"glFramebufferTextureFaceEXT(int,int,int,int,int)",
+		"glFramebufferTextureLayer(int,int,int,int,int)",
+		"glFramebufferTextureMultiviewOVR(int,int,int,int,int,int)",
+		"glFrontFace(int)",
+		"glFrustum(double,double,double,double,double,double)",
+		"glFrustumf(float,float,float,float,float,float)",
+		"glGenBuffers(int,[I,int)",
+		"glGenBuffers(int,java.nio.IntBuffer)",
+		"glGenFramebuffers(int,[I,int)",
+		"glGenFramebuffers(int,java.nio.IntBuffer)",
+		"glGenLists(int)",
+		"glGenNamesAMD(int,int,[I,int)",
+		"glGenNamesAMD(int,int,java.nio.IntBuffer)",
+		"glGenOcclusionQueriesNV(int,[I,int)",
+		"glGenOcclusionQueriesNV(int,java.nio.IntBuffer)",
+		"glGenPerfMonitorsAMD(int,[I,int)",
+		"glGenPerfMonitorsAMD(int,java.nio.IntBuffer)",
+		"glGenProgramPipelines(int,[I,int)",
+		"glGenProgramPipelines(int,java.nio.IntBuffer)",
+		"glGenProgramsARB(int,[I,int)",
+		"glGenProgramsARB(int,java.nio.IntBuffer)",
+		"glGenQueries(int,[I,int)",
+		"glGenQueries(int,java.nio.IntBuffer)",
+		"glGenRenderbuffers(int,[I,int)",
+		"glGenRenderbuffers(int,java.nio.IntBuffer)",
+		"glGenSymbolsEXT(int,int,int,int)",
+		"glGenTextures(int,[I,int)",
+		"glGenTextures(int,java.nio.IntBuffer)",
+		"glGenTransformFeedbacks(int,[I,int)",
+		"glGenTransformFeedbacks(int,java.nio.IntBuffer)",
+		"glGenTransformFeedbacksNV(int,[I,int)",
+		"glGenTransformFeedbacksNV(int,java.nio.IntBuffer)",
+		"glGenVertexArrays(int,[I,int)",
+		"glGenVertexArrays(int,java.nio.IntBuffer)",
+		"glGenVertexShadersEXT(int)",
+		"glGenerateMipmap(int)",
+		"glGenerateMultiTexMipmapEXT(int,int)",
+		"glGenerateTextureMipmapEXT(int,int)",
+		"glGetActiveAtomicCounterBufferiv(int,int,int,[I,int)",
+		"glGetActiveAtomicCounterBufferiv(int,int,int,java.nio.IntBuffer)",
+		"glGetActiveAttrib(int,int,int,[I,int,[I,int,[I,int,[B,int)",
+		"glGetActiveAttrib(int,int,int,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.ByteBuffer)",
+		"glGetActiveUniform(int,int,int,[I,int,[I,int,[I,int,[B,int)",
+		"glGetActiveUniform(int,int,int,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.ByteBuffer)",
+		"glGetActiveUniformARB(long,int,int,[I,int,[I,int,[I,int,[B,int)",
+		"glGetActiveUniformARB(long,int,int,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.ByteBuffer)",
+		"glGetActiveUniformBlockName(int,int,int,[I,int,[B,int)",
+		"glGetActiveUniformBlockName(int,int,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+		"glGetActiveUniformBlockiv(int,int,int,[I,int)",
+		"glGetActiveUniformBlockiv(int,int,int,java.nio.IntBuffer)",
+		"glGetActiveUniformName(int,int,int,[I,int,[B,int)",
+		"glGetActiveUniformName(int,int,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+		"glGetActiveUniformsiv(int,int,[I,int,int,[I,int)",
+		"glGetActiveUniformsiv(int,int,java.nio.IntBuffer,int,java.nio.IntBuffer)",
+		"glGetAttachedObjectsARB(long,int,[I,int,[J,int)",
+		"glGetAttachedObjectsARB(long,int,java.nio.IntBuffer,java.nio.LongBuffer)",
+		"glGetAttachedShaders(int,int,[I,int,[I,int)",
+		"glGetAttachedShaders(int,int,java.nio.IntBuffer,java.nio.IntBuffer)",
+		"glGetAttribLocation(int,java.lang.String)",
+		"glGetBooleanIndexedv(int,int,[B,int)",
+		"glGetBooleanIndexedv(int,int,java.nio.ByteBuffer)",
+		"glGetBooleani_v(int,int,[B,int)",
+		"glGetBooleani_v(int,int,java.nio.ByteBuffer)",
+		"glGetBooleanv(int,[B,int)",
+		"glGetBooleanv(int,java.nio.ByteBuffer)",
+		"glGetBufferParameteriv(int,int,[I,int)",
+		"glGetBufferParameteriv(int,int,java.nio.IntBuffer)",
+		"glGetBufferParameterui64vNV(int,int,[J,int)",
+		"glGetBufferParameterui64vNV(int,int,java.nio.LongBuffer)",
+		"glGetBufferSubData(int,long,long,java.nio.Buffer)",
+		"glGetClipPlane(int,[D,int)",
+		"glGetClipPlane(int,java.nio.DoubleBuffer)",
+		"glGetClipPlanef(int,[F,int)",
+		"glGetClipPlanef(int,java.nio.FloatBuffer)",
+		"glGetColorTable(int,int,int,java.nio.Buffer)",
+		"glGetColorTable(int,int,int,long)",
+		"glGetColorTableParameterfv(int,int,[F,int)",
+		"glGetColorTableParameterfv(int,int,java.nio.FloatBuffer)",
+		"glGetColorTableParameteriv(int,int,[I,int)",
+		"glGetColorTableParameteriv(int,int,java.nio.IntBuffer)",
+		"glGetCommandHeaderNV(int,int)",
+		"glGetCompressedMultiTexImageEXT(int,int,int,java.nio.Buffer)",
+		"glGetCompressedTexImage(int,int,java.nio.Buffer)",
+		"glGetCompressedTexImage(int,int,long)",
+		"glGetCompressedTextureImageEXT(int,int,int,java.nio.Buffer)",
+		"glGetConvolutionFilter(int,int,int,java.nio.Buffer)",
+		"glGetConvolutionFilter(int,int,int,long)",
+		"glGetConvolutionParameterfv(int,int,[F,int)",
+		"glGetConvolutionParameterfv(int,int,java.nio.FloatBuffer)",
+		"glGetConvolutionParameteriv(int,int,[I,int)",
+		"glGetConvolutionParameteriv(int,int,java.nio.IntBuffer)",
+		"glGetCoverageModulationTableNV(int,[F,int)",
+		"glGetCoverageModulationTableNV(int,java.nio.FloatBuffer)",
+		"glGetDebugMessageLog(int,int,[I,int,[I,int,[I,int,[I,int,[I,int,[B,int)",
+		"glGetDebugMessageLog(int,int,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.ByteBuffer)",
+		"glGetDebugMessageLogAMD(int,int,[I,int,[I,int,[I,int,[I,int,[B,int)",
+		"glGetDebugMessageLogAMD(int,int,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.ByteBuffer)",
+		"glGetDoubleIndexedvEXT(int,int,[D,int)",
+		"glGetDoubleIndexedvEXT(int,int,java.nio.DoubleBuffer)",
+		"glGetDoublei_vEXT(int,int,[D,int)",
+		"glGetDoublei_vEXT(int,int,java.nio.DoubleBuffer)",
+		"glGetDoublev(int,[D,int)",
+		"glGetDoublev(int,java.nio.DoubleBuffer)",
+		"glGetError()",
+		"glGetFirstPerfQueryIdINTEL([I,int)",
+		"glGetFirstPerfQueryIdINTEL(java.nio.IntBuffer)",
+		"glGetFloatIndexedvEXT(int,int,[F,int)",
+		"glGetFloatIndexedvEXT(int,int,java.nio.FloatBuffer)",
+		"glGetFloati_vEXT(int,int,[F,int)",
+		"glGetFloati_vEXT(int,int,java.nio.FloatBuffer)",
+		"glGetFloatv(int,[F,int)",
+		"glGetFloatv(int,java.nio.FloatBuffer)",
+		"glGetFragDataLocation(int,java.lang.String)",
+		"glGetFramebufferAttachmentParameteriv(int,int,int,[I,int)",
+		"glGetFramebufferAttachmentParameteriv(int,int,int,java.nio.IntBuffer)",
+		"glGetFramebufferParameteriv(int,int,[I,int)",
+		"glGetFramebufferParameteriv(int,int,java.nio.IntBuffer)",
+		"glGetFramebufferParameterivEXT(int,int,[I,int)",
+		"glGetFramebufferParameterivEXT(int,int,java.nio.IntBuffer)",
+		"glGetGraphicsResetStatus()",
+		"glGetHandleARB(int)",
+		"glGetHistogram(int,boolean,int,int,java.nio.Buffer)",
+		"glGetHistogram(int,boolean,int,int,long)",
+		"glGetHistogramParameterfv(int,int,[F,int)",
+		"glGetHistogramParameterfv(int,int,java.nio.FloatBuffer)",
+		"glGetHistogramParameteriv(int,int,[I,int)",
+		"glGetHistogramParameteriv(int,int,java.nio.IntBuffer)",
+		"glGetInfoLogARB(long,int,[I,int,[B,int)",
+		"glGetInfoLogARB(long,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+		"glGetIntegerIndexedv(int,int,[I,int)",
+		"glGetIntegerIndexedv(int,int,java.nio.IntBuffer)",
+		"glGetIntegeri_v(int,int,[I,int)",
+		"glGetIntegeri_v(int,int,java.nio.IntBuffer)",
+		"glGetIntegerui64i_vNV(int,int,[J,int)",
+		"glGetIntegerui64i_vNV(int,int,java.nio.LongBuffer)",
+		"glGetIntegerui64vNV(int,[J,int)",
+		"glGetIntegerui64vNV(int,java.nio.LongBuffer)",
+		"glGetIntegerv(int,[I,int)",
+		"glGetIntegerv(int,java.nio.IntBuffer)",
+		"glGetInternalformati64v(int,int,int,int,[J,int)",
+		"glGetInternalformati64v(int,int,int,int,java.nio.LongBuffer)",
+		"glGetInternalformativ(int,int,int,int,[I,int)",
+		"glGetInternalformativ(int,int,int,int,java.nio.IntBuffer)",
+		"glGetInvariantBooleanvEXT(int,int,[B,int)",
+		"glGetInvariantBooleanvEXT(int,int,java.nio.ByteBuffer)",
+		"glGetInvariantFloatvEXT(int,int,[F,int)",
+		"glGetInvariantFloatvEXT(int,int,java.nio.FloatBuffer)",
+		"glGetInvariantIntegervEXT(int,int,[I,int)",
+		"glGetInvariantIntegervEXT(int,int,java.nio.IntBuffer)",
+		"glGetLightfv(int,int,[F,int)",
+		"glGetLightfv(int,int,java.nio.FloatBuffer)",
+		"glGetLightiv(int,int,[I,int)",
+		"glGetLightiv(int,int,java.nio.IntBuffer)",
+		"glGetLocalConstantBooleanvEXT(int,int,[B,int)",
+		"glGetLocalConstantBooleanvEXT(int,int,java.nio.ByteBuffer)",
+		"glGetLocalConstantFloatvEXT(int,int,[F,int)",
+		"glGetLocalConstantFloatvEXT(int,int,java.nio.FloatBuffer)",
+		"glGetLocalConstantIntegervEXT(int,int,[I,int)",
+		"glGetLocalConstantIntegervEXT(int,int,java.nio.IntBuffer)",
+		"glGetMapAttribParameterfvNV(int,int,int,[F,int)",
+		"glGetMapAttribParameterfvNV(int,int,int,java.nio.FloatBuffer)",
+		"glGetMapAttribParameterivNV(int,int,int,[I,int)",
+		"glGetMapAttribParameterivNV(int,int,int,java.nio.IntBuffer)",
+		"glGetMapControlPointsNV(int,int,int,int,int,boolean,java.nio.Buffer)",
+		"glGetMapParameterfvNV(int,int,[F,int)",
+		"glGetMapParameterfvNV(int,int,java.nio.FloatBuffer)",
+		"glGetMapParameterivNV(int,int,[I,int)",
+		"glGetMapParameterivNV(int,int,java.nio.IntBuffer)",
+		"glGetMapdv(int,int,[D,int)",
+		"glGetMapdv(int,int,java.nio.DoubleBuffer)",
+		"glGetMapfv(int,int,[F,int)",
+		"glGetMapfv(int,int,java.nio.FloatBuffer)",
+		"glGetMapiv(int,int,[I,int)",
+		"glGetMapiv(int,int,java.nio.IntBuffer)",
+		"glGetMaterialfv(int,int,[F,int)",
+		"glGetMaterialfv(int,int,java.nio.FloatBuffer)",
+		"glGetMaterialiv(int,int,[I,int)",
+		"glGetMaterialiv(int,int,java.nio.IntBuffer)",
+		"glGetMinmax(int,boolean,int,int,java.nio.Buffer)",
+		"glGetMinmax(int,boolean,int,int,long)",
+		"glGetMinmaxParameterfv(int,int,[F,int)",
+		"glGetMinmaxParameterfv(int,int,java.nio.FloatBuffer)",
+		"glGetMinmaxParameteriv(int,int,[I,int)",
+		"glGetMinmaxParameteriv(int,int,java.nio.IntBuffer)",
+		"glGetMultiTexEnvfvEXT(int,int,int,[F,int)",
+		"glGetMultiTexEnvfvEXT(int,int,int,java.nio.FloatBuffer)",
+		"glGetMultiTexEnvivEXT(int,int,int,[I,int)",
+		"glGetMultiTexEnvivEXT(int,int,int,java.nio.IntBuffer)",
+		"glGetMultiTexGendvEXT(int,int,int,[D,int)",
+		"glGetMultiTexGendvEXT(int,int,int,java.nio.DoubleBuffer)",
+		"glGetMultiTexGenfvEXT(int,int,int,[F,int)",
+		"glGetMultiTexGenfvEXT(int,int,int,java.nio.FloatBuffer)",
+		"glGetMultiTexGenivEXT(int,int,int,[I,int)",
+		"glGetMultiTexGenivEXT(int,int,int,java.nio.IntBuffer)",
+		"glGetMultiTexImageEXT(int,int,int,int,int,java.nio.Buffer)",
+		"glGetMultiTexLevelParameterfvEXT(int,int,int,int,[F,int)",
+		"glGetMultiTexLevelParameterfvEXT(int,int,int,int,java.nio.FloatBuffer)",
+		"glGetMultiTexLevelParameterivEXT(int,int,int,int,[I,int)",
+		"glGetMultiTexLevelParameterivEXT(int,int,int,int,java.nio.IntBuffer)",
+		"glGetMultiTexParameterIivEXT(int,int,int,[I,int)",
+		"glGetMultiTexParameterIivEXT(int,int,int,java.nio.IntBuffer)",
+		"glGetMultiTexParameterIuivEXT(int,int,int,[I,int)",
+		"glGetMultiTexParameterIuivEXT(int,int,int,java.nio.IntBuffer)",
+		"glGetMultiTexParameterfvEXT(int,int,int,[F,int)",
+		"glGetMultiTexParameterfvEXT(int,int,int,java.nio.FloatBuffer)",
+		"glGetMultiTexParameterivEXT(int,int,int,[I,int)",
+		"glGetMultiTexParameterivEXT(int,int,int,java.nio.IntBuffer)",
+		"glGetMultisamplefv(int,int,[F,int)",
+		"glGetMultisamplefv(int,int,java.nio.FloatBuffer)",
+		"glGetMultisamplefvNV(int,int,[F,int)",
+		"glGetMultisamplefvNV(int,int,java.nio.FloatBuffer)",
+		"glGetNamedBufferParameterivEXT(int,int,[I,int)",
+		"glGetNamedBufferParameterivEXT(int,int,java.nio.IntBuffer)",
+		"glGetNamedBufferParameterui64vNV(int,int,[J,int)",
+		"glGetNamedBufferParameterui64vNV(int,int,java.nio.LongBuffer)",
+		"glGetNamedBufferSubDataEXT(int,long,long,java.nio.Buffer)",
+		"glGetNamedFramebufferAttachmentParameterivEXT(int,int,int,[I,int)",
+		"glGetNamedFramebufferAttachmentParameterivEXT(int,int,int,java.nio.IntBuffer)",
+		"glGetNamedFramebufferParameteriv(int,int,[I,int)",
+		"glGetNamedFramebufferParameteriv(int,int,java.nio.IntBuffer)",
+		"glGetNamedProgramLocalParameterIivEXT(int,int,int,[I,int)",
+		"glGetNamedProgramLocalParameterIivEXT(int,int,int,java.nio.IntBuffer)",
+		"glGetNamedProgramLocalParameterIuivEXT(int,int,int,[I,int)",
+		"glGetNamedProgramLocalParameterIuivEXT(int,int,int,java.nio.IntBuffer)",
+		"glGetNamedProgramLocalParameterdvEXT(int,int,int,[D,int)",
+		"glGetNamedProgramLocalParameterdvEXT(int,int,int,java.nio.DoubleBuffer)",
+		"glGetNamedProgramLocalParameterfvEXT(int,int,int,[F,int)",
+		"glGetNamedProgramLocalParameterfvEXT(int,int,int,java.nio.FloatBuffer)",
+		"glGetNamedProgramStringEXT(int,int,int,java.nio.Buffer)",
+		"glGetNamedProgramivEXT(int,int,int,[I,int)",
+		"glGetNamedProgramivEXT(int,int,int,java.nio.IntBuffer)",
+		"glGetNamedRenderbufferParameterivEXT(int,int,[I,int)",
+		"glGetNamedRenderbufferParameterivEXT(int,int,java.nio.IntBuffer)",
+		"glGetNextPerfQueryIdINTEL(int,[I,int)",
+		"glGetNextPerfQueryIdINTEL(int,java.nio.IntBuffer)",
+		"glGetObjectLabel(int,int,int,[I,int,[B,int)",
+		"glGetObjectLabel(int,int,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+		"glGetObjectParameterfvARB(long,int,[F,int)",
+		"glGetObjectParameterfvARB(long,int,java.nio.FloatBuffer)",
+		"glGetObjectParameterivAPPLE(int,int,int,[I,int)",
+		"glGetObjectParameterivAPPLE(int,int,int,java.nio.IntBuffer)",
+		"glGetObjectParameterivARB(long,int,[I,int)",
+		"glGetObjectParameterivARB(long,int,java.nio.IntBuffer)",
+		"glGetObjectPtrLabel(java.nio.Buffer,int,[I,int,[B,int)",
+		"glGetObjectPtrLabel(java.nio.Buffer,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+		"glGetOcclusionQueryivNV(int,int,[I,int)",
+		"glGetOcclusionQueryivNV(int,int,java.nio.IntBuffer)",
+		"glGetOcclusionQueryuivNV(int,int,[I,int)",
+		"glGetOcclusionQueryuivNV(int,int,java.nio.IntBuffer)",
+		"glGetPerfCounterInfoINTEL(int,int,int,[B,int,int,[B,int,[I,int,[I,int,[I,int,[I,int,[J,int)",
+		"glGetPerfCounterInfoINTEL(int,int,int,java.nio.ByteBuffer,int,java.nio.ByteBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.LongBuffer)",
+		"glGetPerfMonitorCounterDataAMD(int,int,int,[I,int,[I,int)",
+		"glGetPerfMonitorCounterDataAMD(int,int,int,java.nio.IntBuffer,java.nio.IntBuffer)",
+		"glGetPerfMonitorCounterInfoAMD(int,int,int,java.nio.Buffer)",
+		"glGetPerfMonitorCounterStringAMD(int,int,int,[I,int,[B,int)",
+		"glGetPerfMonitorCounterStringAMD(int,int,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+		"glGetPerfMonitorCountersAMD(int,[I,int,[I,int,int,[I,int)",
+		"glGetPerfMonitorCountersAMD(int,java.nio.IntBuffer,java.nio.IntBuffer,int,java.nio.IntBuffer)",
+		"glGetPerfMonitorGroupStringAMD(int,int,[I,int,[B,int)",
+		"glGetPerfMonitorGroupStringAMD(int,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+		"glGetPerfMonitorGroupsAMD([I,int,int,[I,int)",
+		"glGetPerfMonitorGroupsAMD(java.nio.IntBuffer,int,java.nio.IntBuffer)",
+		"glGetPerfQueryDataINTEL(int,int,int,java.nio.Buffer,[I,int)",
+		"glGetPerfQueryDataINTEL(int,int,int,java.nio.Buffer,java.nio.IntBuffer)",
+		"glGetPerfQueryIdByNameINTEL([B,int,[I,int)",
+		"glGetPerfQueryIdByNameINTEL(java.nio.ByteBuffer,java.nio.IntBuffer)",
+		"glGetPerfQueryInfoINTEL(int,int,[B,int,[I,int,[I,int,[I,int,[I,int)",
+		"glGetPerfQueryInfoINTEL(int,int,java.nio.ByteBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer)",
+		"glGetPixelMapfv(int,[F,int)",
+		"glGetPixelMapfv(int,java.nio.FloatBuffer)",
+		"glGetPixelMapfv(int,long)",
+		"glGetPixelMapuiv(int,[I,int)",
+		"glGetPixelMapuiv(int,java.nio.IntBuffer)",
+		"glGetPixelMapuiv(int,long)",
+		"glGetPixelMapusv(int,[S,int)",
+		"glGetPixelMapusv(int,java.nio.ShortBuffer)",
+		"glGetPixelMapusv(int,long)",
+		"glGetPixelTransformParameterfvEXT(int,int,[F,int)",
+		"glGetPixelTransformParameterfvEXT(int,int,java.nio.FloatBuffer)",
+		"glGetPixelTransformParameterivEXT(int,int,[I,int)",
+		"glGetPixelTransformParameterivEXT(int,int,java.nio.IntBuffer)",
+		"glGetPointeri_vEXT(int,int,com.jogamp.common.nio.PointerBuffer)",
+		"glGetPolygonStipple([B,int)",
+		"glGetPolygonStipple(java.nio.ByteBuffer)",
+		"glGetPolygonStipple(long)",
+		"glGetProgramBinary(int,int,[I,int,[I,int,java.nio.Buffer)",
+		"glGetProgramBinary(int,int,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.Buffer)",
+		"glGetProgramEnvParameterIivNV(int,int,[I,int)",
+		"glGetProgramEnvParameterIivNV(int,int,java.nio.IntBuffer)",
+		"glGetProgramEnvParameterIuivNV(int,int,[I,int)",
+		"glGetProgramEnvParameterIuivNV(int,int,java.nio.IntBuffer)",
+		"glGetProgramEnvParameterdvARB(int,int,[D,int)",
+		"glGetProgramEnvParameterdvARB(int,int,java.nio.DoubleBuffer)",
+		"glGetProgramEnvParameterfvARB(int,int,[F,int)",
+		"glGetProgramEnvParameterfvARB(int,int,java.nio.FloatBuffer)",
+		"glGetProgramInfoLog(int,int,[I,int,[B,int)",
+		"glGetProgramInfoLog(int,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+		"glGetProgramLocalParameterIivNV(int,int,[I,int)",
+		"glGetProgramLocalParameterIivNV(int,int,java.nio.IntBuffer)",
+		"glGetProgramLocalParameterIuivNV(int,int,[I,int)",
+		"glGetProgramLocalParameterIuivNV(int,int,java.nio.IntBuffer)",
+		"glGetProgramLocalParameterdvARB(int,int,[D,int)",
+		"glGetProgramLocalParameterdvARB(int,int,java.nio.DoubleBuffer)",
+		"glGetProgramLocalParameterfvARB(int,int,[F,int)",
+		"glGetProgramLocalParameterfvARB(int,int,java.nio.FloatBuffer)",
+		"glGetProgramPipelineInfoLog(int,int,[I,int,[B,int)",
+		"glGetProgramPipelineInfoLog(int,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+		"glGetProgramPipelineiv(int,int,[I,int)",
+		"glGetProgramPipelineiv(int,int,java.nio.IntBuffer)",
+		"glGetProgramStringARB(int,int,java.nio.Buffer)",
+		"glGetProgramSubroutineParameteruivNV(int,int,[I,int)",
+		"glGetProgramSubroutineParameteruivNV(int,int,java.nio.IntBuffer)",
+		"glGetProgramiv(int,int,[I,int)",
+		"glGetProgramiv(int,int,java.nio.IntBuffer)",
+		"glGetProgramivARB(int,int,[I,int)",
+		"glGetProgramivARB(int,int,java.nio.IntBuffer)",
+		"glGetQueryIndexediv(int,int,int,[I,int)",
+		"glGetQueryIndexediv(int,int,int,java.nio.IntBuffer)",
+		"glGetQueryObjecti64v(int,int,[J,int)",
+		"glGetQueryObjecti64v(int,int,java.nio.LongBuffer)",
+		"glGetQueryObjecti64vEXT(int,int,[J,int)",
+		"glGetQueryObjecti64vEXT(int,int,java.nio.LongBuffer)",
+		"glGetQueryObjectiv(int,int,[I,int)",
+		"glGetQueryObjectiv(int,int,java.nio.IntBuffer)",
+		"glGetQueryObjectui64v(int,int,[J,int)",
+		"glGetQueryObjectui64v(int,int,java.nio.LongBuffer)",
+		"glGetQueryObjectui64vEXT(int,int,[J,int)",
+		"glGetQueryObjectui64vEXT(int,int,java.nio.LongBuffer)",
+		"glGetQueryObjectuiv(int,int,[I,int)",
+		"glGetQueryObjectuiv(int,int,java.nio.IntBuffer)",
+		"glGetQueryiv(int,int,[I,int)",
+		"glGetQueryiv(int,int,java.nio.IntBuffer)",
+		"glGetRenderbufferParameteriv(int,int,[I,int)",
+		"glGetRenderbufferParameteriv(int,int,java.nio.IntBuffer)",
+		"glGetSamplerParameterIiv(int,int,[I,int)",
+		"glGetSamplerParameterIiv(int,int,java.nio.IntBuffer)",
+		"glGetSamplerParameterIuiv(int,int,[I,int)",
+		"glGetSamplerParameterIuiv(int,int,java.nio.IntBuffer)",
+		"glGetSeparableFilter(int,int,int,java.nio.Buffer,java.nio.Buffer,java.nio.Buffer)",
+		"glGetSeparableFilter(int,int,int,long,long,long)",
+		"glGetShaderInfoLog(int,int,[I,int,[B,int)",
+		"glGetShaderInfoLog(int,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+		"glGetShaderPrecisionFormat(int,int,[I,int,[I,int)",
+		"glGetShaderPrecisionFormat(int,int,java.nio.IntBuffer,java.nio.IntBuffer)",
+		"glGetShaderSource(int,int,[I,int,[B,int)",
+		"glGetShaderSource(int,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+		"glGetShaderSourceARB(long,int,[I,int,[B,int)",
+		"glGetShaderSourceARB(long,int,java.nio.IntBuffer,java.nio.ByteBuffer)",
+		"glGetShaderiv(int,int,[I,int)",
+		"glGetShaderiv(int,int,java.nio.IntBuffer)",
+		"glGetStageIndexNV(int)",
+		"glGetString(int)",
+		"glGetStringi(int,int)",
+		"glGetTexEnvfv(int,int,[F,int)",
+		"glGetTexEnvfv(int,int,java.nio.FloatBuffer)",
+		"glGetTexEnviv(int,int,[I,int)",
+		"glGetTexEnviv(int,int,java.nio.IntBuffer)",
+		"glGetTexGendv(int,int,[D,int)",
+		"glGetTexGendv(int,int,java.nio.DoubleBuffer)",
+		"glGetTexGenfv(int,int,[F,int)",
+		"glGetTexGenfv(int,int,java.nio.FloatBuffer)",
+		"glGetTexGeniv(int,int,[I,int)",
+		"glGetTexGeniv(int,int,java.nio.IntBuffer)",
+		"glGetTexImage(int,int,int,int,java.nio.Buffer)",
+		"glGetTexImage(int,int,int,int,long)",
+		"glGetTexLevelParameterfv(int,int,int,[F,int)",
+		"glGetTexLevelParameterfv(int,int,int,java.nio.FloatBuffer)",
+		"glGetTexLevelParameteriv(int,int,int,[I,int)",
+		"glGetTexLevelParameteriv(int,int,int,java.nio.IntBuffer)",
+		"glGetTexParameterIiv(int,int,[I,int)",
+		"glGetTexParameterIiv(int,int,java.nio.IntBuffer)",
+		"glGetTexParameterIuiv(int,int,[I,int)",
+		"glGetTexParameterIuiv(int,int,java.nio.IntBuffer)",
+		"glGetTexParameterfv(int,int,[F,int)",
+		"glGetTexParameterfv(int,int,java.nio.FloatBuffer)",
+		"glGetTexParameteriv(int,int,[I,int)",
+		"glGetTexParameteriv(int,int,java.nio.IntBuffer)",
+		"glGetTextureImageEXT(int,int,int,int,int,java.nio.Buffer)",
+		"glGetTextureLevelParameterfvEXT(int,int,int,int,[F,int)",
+		"glGetTextureLevelParameterfvEXT(int,int,int,int,java.nio.FloatBuffer)",
+		"glGetTextureLevelParameterivEXT(int,int,int,int,[I,int)",
+		"glGetTextureLevelParameterivEXT(int,int,int,int,java.nio.IntBuffer)",
+		"glGetTextureParameterIivEXT(int,int,int,[I,int)",
+		"glGetTextureParameterIivEXT(int,int,int,java.nio.IntBuffer)",
+		"glGetTextureParameterIuivEXT(int,int,int,[I,int)",
+		"glGetTextureParameterIuivEXT(int,int,int,java.nio.IntBuffer)",
+		"glGetTextureParameterfvEXT(int,int,int,[F,int)",
+		"glGetTextureParameterfvEXT(int,int,int,java.nio.FloatBuffer)",
+		"glGetTextureParameterivEXT(int,int,int,[I,int)",
+		"glGetTextureParameterivEXT(int,int,int,java.nio.IntBuffer)",
+		"glGetTransformFeedbackVarying(int,int,int,[I,int,[I,int,[I,int,[B,int)",
+		"glGetTransformFeedbackVarying(int,int,int,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.ByteBuffer)",
+		"glGetUniformBlockIndex(int,java.lang.String)",
+		"glGetUniformBufferSizeEXT(int,int)",
+		"glGetUniformIndices(int,int,[Ljava.lang.String;,[I,int)",
+		"glGetUniformIndices(int,int,[Ljava.lang.String;,java.nio.IntBuffer)",
+		"glGetUniformLocation(int,java.lang.String)",
+		"glGetUniformLocationARB(long,java.lang.String)",
+		"glGetUniformOffsetEXT(int,int)",
+		"glGetUniformfv(int,int,[F,int)",
+		"glGetUniformfv(int,int,java.nio.FloatBuffer)",
+		"glGetUniformfvARB(long,int,[F,int)",
+		"glGetUniformfvARB(long,int,java.nio.FloatBuffer)",
+		"glGetUniformi64vNV(int,int,[J,int)",
+		"glGetUniformi64vNV(int,int,java.nio.LongBuffer)",
+		"glGetUniformiv(int,int,[I,int)",
+		"glGetUniformiv(int,int,java.nio.IntBuffer)",
+		"glGetUniformivARB(long,int,[I,int)",
+		"glGetUniformivARB(long,int,java.nio.IntBuffer)",
+		"glGetUniformui64vNV(int,int,[J,int)",
+		"glGetUniformui64vNV(int,int,java.nio.LongBuffer)",
+		"glGetUniformuiv(int,int,[I,int)",
+		"glGetUniformuiv(int,int,java.nio.IntBuffer)",
+		"glGetVariantBooleanvEXT(int,int,[B,int)",
+		"glGetVariantBooleanvEXT(int,int,java.nio.ByteBuffer)",
+		"glGetVariantFloatvEXT(int,int,[F,int)",
+		"glGetVariantFloatvEXT(int,int,java.nio.FloatBuffer)",
+		"glGetVariantIntegervEXT(int,int,[I,int)",
+		"glGetVariantIntegervEXT(int,int,java.nio.IntBuffer)",
+		"glGetVertexArrayIntegeri_vEXT(int,int,int,[I,int)",
+		"glGetVertexArrayIntegeri_vEXT(int,int,int,java.nio.IntBuffer)",
+		"glGetVertexArrayIntegervEXT(int,int,[I,int)",
+		"glGetVertexArrayIntegervEXT(int,int,java.nio.IntBuffer)",
+		"glGetVertexArrayPointeri_vEXT(int,int,int,com.jogamp.common.nio.PointerBuffer)",
+		"glGetVertexArrayPointervEXT(int,int,com.jogamp.common.nio.PointerBuffer)",
+		"glGetVertexAttribIiv(int,int,[I,int)",
+		"glGetVertexAttribIiv(int,int,java.nio.IntBuffer)",
+		"glGetVertexAttribIivEXT(int,int,[I,int)",
+		"glGetVertexAttribIivEXT(int,int,java.nio.IntBuffer)",
+		"glGetVertexAttribIuiv(int,int,[I,int)",
+		"glGetVertexAttribIuiv(int,int,java.nio.IntBuffer)",
+		"glGetVertexAttribIuivEXT(int,int,[I,int)",
+		"glGetVertexAttribIuivEXT(int,int,java.nio.IntBuffer)",
+		"glGetVertexAttribLdv(int,int,[D,int)",
+		"glGetVertexAttribLdv(int,int,java.nio.DoubleBuffer)",
+		"glGetVertexAttribLi64vNV(int,int,[J,int)",
+		"glGetVertexAttribLi64vNV(int,int,java.nio.LongBuffer)",
+		"glGetVertexAttribLui64vNV(int,int,[J,int)",
+		"glGetVertexAttribLui64vNV(int,int,java.nio.LongBuffer)",
+		"glGetVertexAttribdv(int,int,[D,int)",
+		"glGetVertexAttribdv(int,int,java.nio.DoubleBuffer)",
+		"glGetVertexAttribdvARB(int,int,[D,int)",
+		"glGetVertexAttribdvARB(int,int,java.nio.DoubleBuffer)",
+		"glGetVertexAttribfv(int,int,[F,int)",
+		"glGetVertexAttribfv(int,int,java.nio.FloatBuffer)",
+		"glGetVertexAttribfvARB(int,int,[F,int)",
+		"glGetVertexAttribfvARB(int,int,java.nio.FloatBuffer)",
+		"glGetVertexAttribiv(int,int,[I,int)",
+		"glGetVertexAttribiv(int,int,java.nio.IntBuffer)",
+		"glGetVertexAttribivARB(int,int,[I,int)",
+		"glGetVertexAttribivARB(int,int,java.nio.IntBuffer)",
+		"glGetVideoCaptureStreamdvNV(int,int,int,[D,int)",
+		"glGetVideoCaptureStreamdvNV(int,int,int,java.nio.DoubleBuffer)",
+		"glGetVideoCaptureStreamfvNV(int,int,int,[F,int)",
+		"glGetVideoCaptureStreamfvNV(int,int,int,java.nio.FloatBuffer)",
+		"glGetVideoCaptureStreamivNV(int,int,int,[I,int)",
+		"glGetVideoCaptureStreamivNV(int,int,int,java.nio.IntBuffer)",
+		"glGetVideoCaptureivNV(int,int,[I,int)",
+		"glGetVideoCaptureivNV(int,int,java.nio.IntBuffer)",
+		"glGetnColorTable(int,int,int,int,java.nio.Buffer)",
+		"glGetnCompressedTexImage(int,int,int,java.nio.Buffer)",
+		"glGetnConvolutionFilter(int,int,int,int,java.nio.Buffer)",
+		"glGetnHistogram(int,boolean,int,int,int,java.nio.Buffer)",
+		"glGetnMapdv(int,int,int,[D,int)",
+		"glGetnMapdv(int,int,int,java.nio.DoubleBuffer)",
+		"glGetnMapfv(int,int,int,[F,int)",
+		"glGetnMapfv(int,int,int,java.nio.FloatBuffer)",
+		"glGetnMapiv(int,int,int,[I,int)",
+		"glGetnMapiv(int,int,int,java.nio.IntBuffer)",
+		"glGetnMinmax(int,boolean,int,int,int,java.nio.Buffer)",
+		"glGetnPixelMapfv(int,int,[F,int)",
+		"glGetnPixelMapfv(int,int,java.nio.FloatBuffer)",
+		"glGetnPixelMapuiv(int,int,[I,int)",
+		"glGetnPixelMapuiv(int,int,java.nio.IntBuffer)",
+		"glGetnPixelMapusv(int,int,[S,int)",
+		"glGetnPixelMapusv(int,int,java.nio.ShortBuffer)",
+		"glGetnPolygonStipple(int,[B,int)",
+		"glGetnPolygonStipple(int,java.nio.ByteBuffer)",
+		"glGetnSeparableFilter(int,int,int,int,java.nio.Buffer,int,java.nio.Buffer,java.nio.Buffer)",
+		"glGetnTexImage(int,int,int,int,int,java.nio.Buffer)",
+		"glGetnUniformdv(int,int,int,[D,int)",
+		"glGetnUniformdv(int,int,int,java.nio.DoubleBuffer)",
+		"glGetnUniformfv(int,int,int,[F,int)",
+		"glGetnUniformfv(int,int,int,java.nio.FloatBuffer)",
+		"glGetnUniformiv(int,int,int,[I,int)",
+		"glGetnUniformiv(int,int,int,java.nio.IntBuffer)",
+		"glGetnUniformuiv(int,int,int,[I,int)",
+		"glGetnUniformuiv(int,int,int,java.nio.IntBuffer)",
+		"glHint(int,int)",
+		"glHistogram(int,int,int,boolean)",
+		"glImportSyncEXT(int,long,int)",
+		"glIndexFormatNV(int,int)",
+		"glIndexFuncEXT(int,float)",
+		"glIndexMask(int)",
+		"glIndexMaterialEXT(int,int)",
+		"glIndexPointer(int,int,java.nio.Buffer)",
+		"glIndexd(double)",
+		"glIndexdv([D,int)",
+		"glIndexdv(java.nio.DoubleBuffer)",
+		"glIndexf(float)",
+		"glIndexfv([F,int)",
+		"glIndexfv(java.nio.FloatBuffer)",
+		"glIndexi(int)",
+		"glIndexiv([I,int)",
+		"glIndexiv(java.nio.IntBuffer)",
+		"glIndexs(short)",
+		"glIndexsv([S,int)",
+		"glIndexsv(java.nio.ShortBuffer)",
+		"glIndexub(byte)",
+		"glIndexubv([B,int)",
+		"glIndexubv(java.nio.ByteBuffer)",
+		"glInitNames()",
+		"glInsertComponentEXT(int,int,int)",
+		"glInterleavedArrays(int,int,java.nio.Buffer)",
+		"glInterleavedArrays(int,int,long)",
+		"glInvalidateBufferData(int)",
+		"glInvalidateBufferSubData(int,long,long)",
+		"glInvalidateFramebuffer(int,int,[I,int)",
+		"glInvalidateFramebuffer(int,int,java.nio.IntBuffer)",
+		"glInvalidateSubFramebuffer(int,int,[I,int,int,int,int,int)",
+		"glInvalidateSubFramebuffer(int,int,java.nio.IntBuffer,int,int,int,int)",
+		"glInvalidateTexImage(int,int)",
+		"glInvalidateTexSubImage(int,int,int,int,int,int,int,int)",
+		"glIsBuffer(int)",
+		"glIsBufferResidentNV(int)",
+		"glIsCommandListNV(int)",
+		"glIsEnabled(int)",
+		"glIsEnabledIndexed(int,int)",
+		"glIsEnabledi(int,int)",
+		"glIsFramebuffer(int)",
+		"glIsList(int)",
+		"glIsNameAMD(int,int)",
+		"glIsNamedBufferResidentNV(int)",
+		"glIsOcclusionQueryNV(int)",
+		"glIsProgram(int)",
+		"glIsProgramARB(int)",
+		"glIsProgramPipeline(int)",
+		"glIsQuery(int)",
+		"glIsRenderbuffer(int)",
+		"glIsShader(int)",
+		"glIsStateNV(int)",
+		"glIsTexture(int)",
+		"glIsTransformFeedback(int)",
+		"glIsTransformFeedbackNV(int)",
+		"glIsVariantEnabledEXT(int,int)",
+		"glIsVertexArray(int)",
+		"glIsVertexAttribEnabledAPPLE(int,int)",
+		"glLightModelf(int,float)",
+		"glLightModelfv(int,[F,int)",
+		"glLightModelfv(int,java.nio.FloatBuffer)",
+		"glLightModeli(int,int)",
+		"glLightModeliv(int,[I,int)",
+		"glLightModeliv(int,java.nio.IntBuffer)",
+		"glLightf(int,int,float)",
+		"glLightfv(int,int,[F,int)",
+		"glLightfv(int,int,java.nio.FloatBuffer)",
+		"glLighti(int,int,int)",
+		"glLightiv(int,int,[I,int)",
+		"glLightiv(int,int,java.nio.IntBuffer)",
+		"glLineStipple(int,short)",
+		"glLineWidth(float)",
+		"glLinkProgram(int)",
+		"glLinkProgramARB(long)",
+		"glListBase(int)",
+		"glListDrawCommandsStatesClientNV(int,int,com.jogamp.common.nio.PointerBuffer,[I,int,[I,int,[I,int,int)",
+		"glListDrawCommandsStatesClientNV(int,int,com.jogamp.common.nio.PointerBuffer,java.nio.IntBuffer,java.nio.IntBuffer,java.nio.IntBuffer,int)",
+		"glLoadIdentity()",
+		"glLoadMatrixd([D,int)",
+		"glLoadMatrixd(java.nio.DoubleBuffer)",
+		"glLoadMatrixf([F,int)",
+		"glLoadMatrixf(java.nio.FloatBuffer)",
+		"glLoadName(int)",
+		"glLoadTransposeMatrixd([D,int)",
+		"glLoadTransposeMatrixd(java.nio.DoubleBuffer)",
+		"glLoadTransposeMatrixf([F,int)",
+		"glLoadTransposeMatrixf(java.nio.FloatBuffer)",
+		"glLockArraysEXT(int,int)",
+		"glLogicOp(int)",
+		"glMakeBufferNonResidentNV(int)",
+		"glMakeBufferResidentNV(int,int)",
+		"glMakeNamedBufferNonResidentNV(int)",
+		"glMakeNamedBufferResidentNV(int,int)",
+		"glMap1d(int,double,double,int,int,[D,int)",
+		"glMap1d(int,double,double,int,int,java.nio.DoubleBuffer)",
+		"glMap1f(int,float,float,int,int,[F,int)",
+		"glMap1f(int,float,float,int,int,java.nio.FloatBuffer)",
+		"glMap2d(int,double,double,int,int,double,double,int,int,[D,int)",
+		"glMap2d(int,double,double,int,int,double,double,int,int,java.nio.DoubleBuffer)",
+		"glMap2f(int,float,float,int,int,float,float,int,int,[F,int)",
+		"glMap2f(int,float,float,int,int,float,float,int,int,java.nio.FloatBuffer)",
+		"glMapBuffer(int,int)",
+		"glMapBufferRange(int,long,long,int)",
+		"glMapControlPointsNV(int,int,int,int,int,int,int,boolean,java.nio.Buffer)",
+		"glMapGrid1d(int,double,double)",
+		"glMapGrid1f(int,float,float)",
+		"glMapGrid2d(int,double,double,int,double,double)",
+		"glMapGrid2f(int,float,float,int,float,float)",
+		"glMapNamedBufferEXT(int,int)",
+		"glMapNamedBufferRangeEXT(int,long,long,int)",
+		"glMapParameterfvNV(int,int,[F,int)",
+		"glMapParameterfvNV(int,int,java.nio.FloatBuffer)",
+		"glMapParameterivNV(int,int,[I,int)",
+		"glMapParameterivNV(int,int,java.nio.IntBuffer)",
+		"glMapTexture2DINTEL(int,int,int,[I,int,[I,int)",
+		"glMapTexture2DINTEL(int,int,int,java.nio.IntBuffer,java.nio.IntBuffer)",
+		"glMapVertexAttrib1dAPPLE(int,int,double,double,int,int,[D,int)",
+		"glMapVertexAttrib1dAPPLE(int,int,double,double,int,int,java.nio.DoubleBuffer)",
+		"glMapVertexAttrib1fAPPLE(int,int,float,float,int,int,[F,int)",
+		"glMapVertexAttrib1fAPPLE(int,int,float,float,int,int,java.nio.FloatBuffer)",
+		"glMapVertexAttrib2dAPPLE(int,int,double,double,int,int,double,double,int,int,[D,int)",
+		"glMapVertexAttrib2dAPPLE(int,int,double,double,int,int,double,double,int,int,java.nio.DoubleBuffer)",
+		"glMapVertexAttrib2fAPPLE(int,int,float,float,int,int,float,float,int,int,[F,int)",
+		"glMapVertexAttrib2fAPPLE(int,int,float,float,int,int,float,float,int,int,java.nio.FloatBuffer)",
+		"glMaterialf(int,int,float)",
+		"glMaterialfv(int,int,[F,int)",
+		"glMaterialfv(int,int,java.nio.FloatBuffer)",
+		"glMateriali(int,int,int)",
+		"glMaterialiv(int,int,[I,int)",
+		"glMaterialiv(int,int,java.nio.IntBuffer)",
+		"glMatrixFrustumEXT(int,double,double,double,double,double,double)",
+		"glMatrixIndexPointerARB(int,int,int,java.nio.Buffer)",
+		"glMatrixIndexPointerARB(int,int,int,long)",
+		"glMatrixIndexubvARB(int,[B,int)",
+		"glMatrixIndexubvARB(int,java.nio.ByteBuffer)",
+		"glMatrixIndexuivARB(int,[I,int)",
+		"glMatrixIndexuivARB(int,java.nio.IntBuffer)",
+		"glMatrixIndexusvARB(int,[S,int)",
+		"glMatrixIndexusvARB(int,java.nio.ShortBuffer)",
+		"glMatrixLoadIdentityEXT(int)",
+		"glMatrixLoadTransposedEXT(int,[D,int)",
+		"glMatrixLoadTransposedEXT(int,java.nio.DoubleBuffer)",
+		"glMatrixLoadTransposefEXT(int,[F,int)",
+		"glMatrixLoadTransposefEXT(int,java.nio.FloatBuffer)",
+		"glMatrixLoaddEXT(int,[D,int)",
+		"glMatrixLoaddEXT(int,java.nio.DoubleBuffer)",
+		"glMatrixLoadfEXT(int,[F,int)",
+		"glMatrixLoadfEXT(int,java.nio.FloatBuffer)",
+		"glMatrixMode(int)",
+		"glMatrixMultTransposedEXT(int,[D,int)",
+		"glMatrixMultTransposedEXT(int,java.nio.DoubleBuffer)",
+		"glMatrixMultTransposefEXT(int,[F,int)",
+		"glMatrixMultTransposefEXT(int,java.nio.FloatBuffer)",
+		"glMatrixMultdEXT(int,[D,int)",
+		"glMatrixMultdEXT(int,java.nio.DoubleBuffer)",
+		"glMatrixMultfEXT(int,[F,int)",
+		"glMatrixMultfEXT(int,java.nio.FloatBuffer)",
+		"glMatrixOrthoEXT(int,double,double,double,double,double,double)",
+		"glMatrixPopEXT(int)",
+		"glMatrixPushEXT(int)",
+		"glMatrixRotatedEXT(int,double,double,double,double)",
+		"glMatrixRotatefEXT(int,float,float,float,float)",
+		"glMatrixScaledEXT(int,double,double,double)",
+		"glMatrixScalefEXT(int,float,float,float)",
+		"glMatrixTranslatedEXT(int,double,double,double)",
+		"glMatrixTranslatefEXT(int,float,float,float)",
+		"glMemoryBarrier(int)",
+		"glMinSampleShading(float)",
+		"glMinmax(int,int,boolean)",
+		"glMultMatrixd([D,int)",
+		"glMultMatrixd(java.nio.DoubleBuffer)",
+		"glMultMatrixf([F,int)",
+		"glMultMatrixf(java.nio.FloatBuffer)",
+		"glMultTransposeMatrixd([D,int)",
+		"glMultTransposeMatrixd(java.nio.DoubleBuffer)",
+		"glMultTransposeMatrixf([F,int)",
+		"glMultTransposeMatrixf(java.nio.FloatBuffer)",
+		"glMultiDrawArrays(int,[I,int,[I,int,int)",
+		"glMultiDrawArrays(int,java.nio.IntBuffer,java.nio.IntBuffer,int)",
+		"glMultiDrawArraysIndirectAMD(int,java.nio.Buffer,int,int)",
+		"glMultiDrawArraysIndirectBindlessCountNV(int,java.nio.Buffer,int,int,int,int)",
+		"glMultiDrawArraysIndirectBindlessNV(int,java.nio.Buffer,int,int,int)",
+		"glMultiDrawElements(int,java.nio.IntBuffer,int,com.jogamp.common.nio.PointerBuffer,int)",
+		"glMultiDrawElementsIndirectAMD(int,int,java.nio.Buffer,int,int)",
+		"glMultiDrawElementsIndirectBindlessCountNV(int,int,java.nio.Buffer,int,int,int,int)",
+		"glMultiDrawElementsIndirectBindlessNV(int,int,java.nio.Buffer,int,int,int)",
+		"glMultiTexBufferEXT(int,int,int,int)",
+		"glMultiTexCoord1bOES(int,byte)",
+		"glMultiTexCoord1bvOES(int,[B,int)",
+		"glMultiTexCoord1bvOES(int,java.nio.ByteBuffer)",
+		"glMultiTexCoord1d(int,double)",
+		"glMultiTexCoord1dv(int,[D,int)",
+		"glMultiTexCoord1dv(int,java.nio.DoubleBuffer)",
+		"glMultiTexCoord1f(int,float)",
+		"glMultiTexCoord1fv(int,[F,int)",
+		"glMultiTexCoord1fv(int,java.nio.FloatBuffer)",
+		"glMultiTexCoord1h(int,short)",
+		"glMultiTexCoord1hv(int,[S,int)",
+		"glMultiTexCoord1hv(int,java.nio.ShortBuffer)",
+		"glMultiTexCoord1i(int,int)",
+		"glMultiTexCoord1iv(int,[I,int)",
+		"glMultiTexCoord1iv(int,java.nio.IntBuffer)",
+		"glMultiTexCoord1s(int,short)",
+		"glMultiTexCoord1sv(int,[S,int)",
+		"glMultiTexCoord1sv(int,java.nio.ShortBuffer)",
+		"glMultiTexCoord2bOES(int,byte,byte)",
+		"glMultiTexCoord2bvOES(int,[B,int)",
+		"glMultiTexCoord2bvOES(int,java.nio.ByteBuffer)",
+		"glMultiTexCoord2d(int,double,double)",
+		"glMultiTexCoord2dv(int,[D,int)",
+		"glMultiTexCoord2dv(int,java.nio.DoubleBuffer)",
+		"glMultiTexCoord2f(int,float,float)",
+		"glMultiTexCoord2fv(int,[F,int)",
+		"glMultiTexCoord2fv(int,java.nio.FloatBuffer)",
+		"glMultiTexCoord2h(int,short,short)",
+		"glMultiTexCoord2hv(int,[S,int)",
+		"glMultiTexCoord2hv(int,java.nio.ShortBuffer)",
+		"glMultiTexCoord2i(int,int,int)",
+		"glMultiTexCoord2iv(int,[I,int)",
+		"glMultiTexCoord2iv(int,java.nio.IntBuffer)",
+		"glMultiTexCoord2s(int,short,short)",
+		"glMultiTexCoord2sv(int,[S,int)",
+		"glMultiTexCoord2sv(int,java.nio.ShortBuffer)",
+		"glMultiTexCoord3bOES(int,byte,byte,byte)",
+		"glMultiTexCoord3bvOES(int,[B,int)",
+		"glMultiTexCoord3bvOES(int,java.nio.ByteBuffer)",
+		"glMultiTexCoord3d(int,double,double,double)",
+		"glMultiTexCoord3dv(int,[D,int)",
+		"glMultiTexCoord3dv(int,java.nio.DoubleBuffer)",
+		"glMultiTexCoord3f(int,float,float,float)",
+		"glMultiTexCoord3fv(int,[F,int)",
+		"glMultiTexCoord3fv(int,java.nio.FloatBuffer)",
+		"glMultiTexCoord3h(int,short,short,short)",
+		"glMultiTexCoord3hv(int,[S,int)",
+		"glMultiTexCoord3hv(int,java.nio.ShortBuffer)",
+		"glMultiTexCoord3i(int,int,int,int)",
+		"glMultiTexCoord3iv(int,[I,int)",
+		"glMultiTexCoord3iv(int,java.nio.IntBuffer)",
+		"glMultiTexCoord3s(int,short,short,short)",
+		"glMultiTexCoord3sv(int,[S,int)",
+		"glMultiTexCoord3sv(int,java.nio.ShortBuffer)",
+		"glMultiTexCoord4bOES(int,byte,byte,byte,byte)",
+		"glMultiTexCoord4bvOES(int,[B,int)",
+		"glMultiTexCoord4bvOES(int,java.nio.ByteBuffer)",
+		"glMultiTexCoord4d(int,double,double,double,double)",
+		"glMultiTexCoord4dv(int,[D,int)",
+		"glMultiTexCoord4dv(int,java.nio.DoubleBuffer)",
+		"glMultiTexCoord4f(int,float,float,float,float)",
+		"glMultiTexCoord4fv(int,[F,int)",
+		"glMultiTexCoord4fv(int,java.nio.FloatBuffer)",
+		"glMultiTexCoord4h(int,short,short,short,short)",
+		"glMultiTexCoord4hv(int,[S,int)",
+		"glMultiTexCoord4hv(int,java.nio.ShortBuffer)",
+		"glMultiTexCoord4i(int,int,int,int,int)",
+		"glMultiTexCoord4iv(int,[I,int)",
+		"glMultiTexCoord4iv(int,java.nio.IntBuffer)",
+		"glMultiTexCoord4s(int,short,short,short,short)",
+		"glMultiTexCoord4sv(int,[S,int)",
+		"glMultiTexCoord4sv(int,java.nio.ShortBuffer)",
+		"glMultiTexCoordPointerEXT(int,int,int,int,java.nio.Buffer)",
+		"glMultiTexEnvfEXT(int,int,int,float)",
+		"glMultiTexEnvfvEXT(int,int,int,[F,int)",
+		"glMultiTexEnvfvEXT(int,int,int,java.nio.FloatBuffer)",
+		"glMultiTexEnviEXT(int,int,int,int)",
+		"glMultiTexEnvivEXT(int,int,int,[I,int)",
+		"glMultiTexEnvivEXT(int,int,int,java.nio.IntBuffer)",
+		"glMultiTexGendEXT(int,int,int,double)",
+		"glMultiTexGendvEXT(int,int,int,[D,int)",
+		"glMultiTexGendvEXT(int,int,int,java.nio.DoubleBuffer)",
+		"glMultiTexGenfEXT(int,int,int,float)",
+		"glMultiTexGenfvEXT(int,int,int,[F,int)",
+		"glMultiTexGenfvEXT(int,int,int,java.nio.FloatBuffer)",
+		"glMultiTexGeniEXT(int,int,int,int)",
+		"glMultiTexGenivEXT(int,int,int,[I,int)",
+		"glMultiTexGenivEXT(int,int,int,java.nio.IntBuffer)",
+		"glMultiTexImage1DEXT(int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glMultiTexImage2DEXT(int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glMultiTexImage3DEXT(int,int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glMultiTexParameterIivEXT(int,int,int,[I,int)",
+		"glMultiTexParameterIivEXT(int,int,int,java.nio.IntBuffer)",
+		"glMultiTexParameterIuivEXT(int,int,int,[I,int)",
+		"glMultiTexParameterIuivEXT(int,int,int,java.nio.IntBuffer)",
+		"glMultiTexParameterfEXT(int,int,int,float)",
+		"glMultiTexParameterfvEXT(int,int,int,[F,int)",
+		"glMultiTexParameterfvEXT(int,int,int,java.nio.FloatBuffer)",
+		"glMultiTexParameteriEXT(int,int,int,int)",
+		"glMultiTexParameterivEXT(int,int,int,[I,int)",
+		"glMultiTexParameterivEXT(int,int,int,java.nio.IntBuffer)",
+		"glMultiTexRenderbufferEXT(int,int,int)",
+		"glMultiTexSubImage1DEXT(int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glMultiTexSubImage2DEXT(int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glMultiTexSubImage3DEXT(int,int,int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glNamedBufferDataEXT(int,long,java.nio.Buffer,int)",
+		"glNamedBufferPageCommitmentARB(int,long,long,boolean)",
+		"glNamedBufferPageCommitmentEXT(int,long,long,boolean)",
+		"glNamedBufferStorageEXT(int,long,java.nio.Buffer,int)",
+		"glNamedBufferSubDataEXT(int,long,long,java.nio.Buffer)",
+		"glNamedCopyBufferSubDataEXT(int,int,long,long,long)",
+		"glNamedFramebufferParameteri(int,int,int)",
+		"glNamedFramebufferRenderbufferEXT(int,int,int,int)",
+		"glNamedFramebufferSampleLocationsfvNV(int,int,int,[F,int)",
+		"glNamedFramebufferSampleLocationsfvNV(int,int,int,java.nio.FloatBuffer)",
+		"glNamedFramebufferTexture1DEXT(int,int,int,int,int)",
+		"glNamedFramebufferTexture2DEXT(int,int,int,int,int)",
+		"glNamedFramebufferTexture3DEXT(int,int,int,int,int,int)",
+		"glNamedFramebufferTextureEXT(int,int,int,int)",
+		"glNamedFramebufferTextureFaceEXT(int,int,int,int,int)",
+		"glNamedFramebufferTextureLayerEXT(int,int,int,int,int)",
+		"glNamedProgramLocalParameter4dEXT(int,int,int,double,double,double,double)",
+		"glNamedProgramLocalParameter4dvEXT(int,int,int,[D,int)",
+		"glNamedProgramLocalParameter4dvEXT(int,int,int,java.nio.DoubleBuffer)",
+		"glNamedProgramLocalParameter4fEXT(int,int,int,float,float,float,float)",
+		"glNamedProgramLocalParameter4fvEXT(int,int,int,[F,int)",
+		"glNamedProgramLocalParameter4fvEXT(int,int,int,java.nio.FloatBuffer)",
+		"glNamedProgramLocalParameterI4iEXT(int,int,int,int,int,int,int)",
+		"glNamedProgramLocalParameterI4ivEXT(int,int,int,[I,int)",
+		"glNamedProgramLocalParameterI4ivEXT(int,int,int,java.nio.IntBuffer)",
+		"glNamedProgramLocalParameterI4uiEXT(int,int,int,int,int,int,int)",
+		"glNamedProgramLocalParameterI4uivEXT(int,int,int,[I,int)",
+		"glNamedProgramLocalParameterI4uivEXT(int,int,int,java.nio.IntBuffer)",
+		"glNamedProgramLocalParameters4fvEXT(int,int,int,int,[F,int)",
+		"glNamedProgramLocalParameters4fvEXT(int,int,int,int,java.nio.FloatBuffer)",
+		"glNamedProgramLocalParametersI4ivEXT(int,int,int,int,[I,int)",
+		"glNamedProgramLocalParametersI4ivEXT(int,int,int,int,java.nio.IntBuffer)",
+		"glNamedProgramLocalParametersI4uivEXT(int,int,int,int,[I,int)",
+		"glNamedProgramLocalParametersI4uivEXT(int,int,int,int,java.nio.IntBuffer)",
+		"glNamedProgramStringEXT(int,int,int,int,java.nio.Buffer)",
+		"glNamedRenderbufferStorageEXT(int,int,int,int)",
+		"glNamedRenderbufferStorageMultisampleCoverageEXT(int,int,int,int,int,int)",
+		"glNamedRenderbufferStorageMultisampleEXT(int,int,int,int,int)",
+		"glNewList(int,int)",
+		"glNormal3b(byte,byte,byte)",
+		"glNormal3bv([B,int)",
+		"glNormal3bv(java.nio.ByteBuffer)",
+		"glNormal3d(double,double,double)",
+		"glNormal3dv([D,int)",
+		"glNormal3dv(java.nio.DoubleBuffer)",
+		"glNormal3f(float,float,float)",
+		"glNormal3fv([F,int)",
+		"glNormal3fv(java.nio.FloatBuffer)",
+		"glNormal3h(short,short,short)",
+		"glNormal3hv([S,int)",
+		"glNormal3hv(java.nio.ShortBuffer)",
+		"glNormal3i(int,int,int)",
+		"glNormal3iv([I,int)",
+		"glNormal3iv(java.nio.IntBuffer)",
+		"glNormal3s(short,short,short)",
+		"glNormal3sv([S,int)",
+		"glNormal3sv(java.nio.ShortBuffer)",
+		"glNormalFormatNV(int,int)",
+		"glNormalPointer(com.jogamp.opengl.GLArrayData)",
+		"glNormalPointer(int,int,java.nio.Buffer)",
+		"glNormalPointer(int,int,long)",
+		"glObjectLabel(int,int,int,[B,int)",
+		"glObjectLabel(int,int,int,java.nio.ByteBuffer)",
+		"glObjectPtrLabel(java.nio.Buffer,int,[B,int)",
+		"glObjectPtrLabel(java.nio.Buffer,int,java.nio.ByteBuffer)",
+		"glObjectPurgeableAPPLE(int,int,int)",
+		"glObjectUnpurgeableAPPLE(int,int,int)",
+		"glOrtho(double,double,double,double,double,double)",
+		"glOrthof(float,float,float,float,float,float)",
+		"glPNTrianglesfATI(int,float)",
+		"glPNTrianglesiATI(int,int)",
+		"glPassThrough(float)",
+		"glPauseTransformFeedback()",
+		"glPauseTransformFeedbackNV()",
+		"glPixelDataRangeNV(int,int,java.nio.Buffer)",
+		"glPixelMapfv(int,int,[F,int)",
+		"glPixelMapfv(int,int,java.nio.FloatBuffer)",
+		"glPixelMapfv(int,int,long)",
+		"glPixelMapuiv(int,int,[I,int)",
+		"glPixelMapuiv(int,int,java.nio.IntBuffer)",
+		"glPixelMapuiv(int,int,long)",
+		"glPixelMapusv(int,int,[S,int)",
+		"glPixelMapusv(int,int,java.nio.ShortBuffer)",
+		"glPixelMapusv(int,int,long)",
+		"glPixelStoref(int,float)",
+		"glPixelStorei(int,int)",
+		"glPixelTransferf(int,float)",
+		"glPixelTransferi(int,int)",
+		"glPixelTransformParameterfEXT(int,int,float)",
+		"glPixelTransformParameterfvEXT(int,int,[F,int)",
+		"glPixelTransformParameterfvEXT(int,int,java.nio.FloatBuffer)",
+		"glPixelTransformParameteriEXT(int,int,int)",
+		"glPixelTransformParameterivEXT(int,int,[I,int)",
+		"glPixelTransformParameterivEXT(int,int,java.nio.IntBuffer)",
+		"glPixelZoom(float,float)",
+		"glPointParameterf(int,float)",
+		"glPointParameterfv(int,[F,int)",
+		"glPointParameterfv(int,java.nio.FloatBuffer)",
+		"glPointParameteri(int,int)",
+		"glPointParameteriv(int,[I,int)",
+		"glPointParameteriv(int,java.nio.IntBuffer)",
+		"glPointSize(float)",
+		"glPolygonMode(int,int)",
+		"glPolygonOffset(float,float)",
+		"glPolygonOffsetClampEXT(float,float,float)",
+		"glPolygonStipple([B,int)",
+		"glPolygonStipple(java.nio.ByteBuffer)",
+		"glPolygonStipple(long)",
+		"glPopAttrib()",
+		"glPopClientAttrib()",
+		"glPopDebugGroup()",
+		"glPopMatrix()",
+		"glPopName()",
+		"glPrimitiveRestartIndex(int)",
+		"glPrimitiveRestartIndexNV(int)",
+		"glPrimitiveRestartNV()",
+		"glPrioritizeTextures(int,[I,int,[F,int)",
+		"glPrioritizeTextures(int,java.nio.IntBuffer,java.nio.FloatBuffer)",
+		"glProgramBinary(int,int,java.nio.Buffer,int)",
+		"glProgramBufferParametersIivNV(int,int,int,int,[I,int)",
+		"glProgramBufferParametersIivNV(int,int,int,int,java.nio.IntBuffer)",
+		"glProgramBufferParametersIuivNV(int,int,int,int,[I,int)",
+		"glProgramBufferParametersIuivNV(int,int,int,int,java.nio.IntBuffer)",
+		"glProgramBufferParametersfvNV(int,int,int,int,[F,int)",
+		"glProgramBufferParametersfvNV(int,int,int,int,java.nio.FloatBuffer)",
+		"glProgramEnvParameter4dARB(int,int,double,double,double,double)",
+		"glProgramEnvParameter4dvARB(int,int,[D,int)",
+		"glProgramEnvParameter4dvARB(int,int,java.nio.DoubleBuffer)",
+		"glProgramEnvParameter4fARB(int,int,float,float,float,float)",
+		"glProgramEnvParameter4fvARB(int,int,[F,int)",
+		"glProgramEnvParameter4fvARB(int,int,java.nio.FloatBuffer)",
+		"glProgramEnvParameterI4iNV(int,int,int,int,int,int)",
+		"glProgramEnvParameterI4ivNV(int,int,[I,int)",
+		"glProgramEnvParameterI4ivNV(int,int,java.nio.IntBuffer)",
+		"glProgramEnvParameterI4uiNV(int,int,int,int,int,int)",
+		"glProgramEnvParameterI4uivNV(int,int,[I,int)",
+		"glProgramEnvParameterI4uivNV(int,int,java.nio.IntBuffer)",
+		"glProgramEnvParameters4fvEXT(int,int,int,[F,int)",
+		"glProgramEnvParameters4fvEXT(int,int,int,java.nio.FloatBuffer)",
+		"glProgramEnvParametersI4ivNV(int,int,int,[I,int)",
+		"glProgramEnvParametersI4ivNV(int,int,int,java.nio.IntBuffer)",
+		"glProgramEnvParametersI4uivNV(int,int,int,[I,int)",
+		"glProgramEnvParametersI4uivNV(int,int,int,java.nio.IntBuffer)",
+		"glProgramLocalParameter4dARB(int,int,double,double,double,double)",
+		"glProgramLocalParameter4dvARB(int,int,[D,int)",
+		"glProgramLocalParameter4dvARB(int,int,java.nio.DoubleBuffer)",
+		"glProgramLocalParameter4fARB(int,int,float,float,float,float)",
+		"glProgramLocalParameter4fvARB(int,int,[F,int)",
+		"glProgramLocalParameter4fvARB(int,int,java.nio.FloatBuffer)",
+		"glProgramLocalParameterI4iNV(int,int,int,int,int,int)",
+		"glProgramLocalParameterI4ivNV(int,int,[I,int)",
+		"glProgramLocalParameterI4ivNV(int,int,java.nio.IntBuffer)",
+		"glProgramLocalParameterI4uiNV(int,int,int,int,int,int)",
+		"glProgramLocalParameterI4uivNV(int,int,[I,int)",
+		"glProgramLocalParameterI4uivNV(int,int,java.nio.IntBuffer)",
+		"glProgramLocalParameters4fvEXT(int,int,int,[F,int)",
+		"glProgramLocalParameters4fvEXT(int,int,int,java.nio.FloatBuffer)",
+		"glProgramLocalParametersI4ivNV(int,int,int,[I,int)",
+		"glProgramLocalParametersI4ivNV(int,int,int,java.nio.IntBuffer)",
+		"glProgramLocalParametersI4uivNV(int,int,int,[I,int)",
+		"glProgramLocalParametersI4uivNV(int,int,int,java.nio.IntBuffer)",
+		"glProgramParameteri(int,int,int)",
+		"glProgramStringARB(int,int,int,java.lang.String)",
+		"glProgramSubroutineParametersuivNV(int,int,[I,int)",
+		"glProgramSubroutineParametersuivNV(int,int,java.nio.IntBuffer)",
+		"glProgramUniform1d(int,int,double)",
+		"glProgramUniform1dEXT(int,int,double)",
+		"glProgramUniform1dv(int,int,int,[D,int)",
+		"glProgramUniform1dv(int,int,int,java.nio.DoubleBuffer)",
+		"glProgramUniform1dvEXT(int,int,int,[D,int)",
+		"glProgramUniform1dvEXT(int,int,int,java.nio.DoubleBuffer)",
+		"glProgramUniform1f(int,int,float)",
+		"glProgramUniform1fv(int,int,int,[F,int)",
+		"glProgramUniform1fv(int,int,int,java.nio.FloatBuffer)",
+		"glProgramUniform1i(int,int,int)",
+		"glProgramUniform1i64NV(int,int,long)",
+		"glProgramUniform1i64vNV(int,int,int,[J,int)",
+		"glProgramUniform1i64vNV(int,int,int,java.nio.LongBuffer)",
+		"glProgramUniform1iv(int,int,int,[I,int)",
+		"glProgramUniform1iv(int,int,int,java.nio.IntBuffer)",
+		"glProgramUniform1ui(int,int,int)",
+		"glProgramUniform1ui64NV(int,int,long)",
+		"glProgramUniform1ui64vNV(int,int,int,[J,int)",
+		"glProgramUniform1ui64vNV(int,int,int,java.nio.LongBuffer)",
+		"glProgramUniform1uiv(int,int,int,[I,int)",
+		"glProgramUniform1uiv(int,int,int,java.nio.IntBuffer)",
+		"glProgramUniform2d(int,int,double,double)",
+		"glProgramUniform2dEXT(int,int,double,double)",
+		"glProgramUniform2dv(int,int,int,[D,int)",
+		"glProgramUniform2dv(int,int,int,java.nio.DoubleBuffer)",
+		"glProgramUniform2dvEXT(int,int,int,[D,int)",
+		"glProgramUniform2dvEXT(int,int,int,java.nio.DoubleBuffer)",
+		"glProgramUniform2f(int,int,float,float)",
+		"glProgramUniform2fv(int,int,int,[F,int)",
+		"glProgramUniform2fv(int,int,int,java.nio.FloatBuffer)",
+		"glProgramUniform2i(int,int,int,int)",
+		"glProgramUniform2i64NV(int,int,long,long)",
+		"glProgramUniform2i64vNV(int,int,int,[J,int)",
+		"glProgramUniform2i64vNV(int,int,int,java.nio.LongBuffer)",
+		"glProgramUniform2iv(int,int,int,[I,int)",
+		"glProgramUniform2iv(int,int,int,java.nio.IntBuffer)",
+		"glProgramUniform2ui(int,int,int,int)",
+		"glProgramUniform2ui64NV(int,int,long,long)",
+		"glProgramUniform2ui64vNV(int,int,int,[J,int)",
+		"glProgramUniform2ui64vNV(int,int,int,java.nio.LongBuffer)",
+		"glProgramUniform2uiv(int,int,int,[I,int)",
+		"glProgramUniform2uiv(int,int,int,java.nio.IntBuffer)",
+		"glProgramUniform3d(int,int,double,double,double)",
+		"glProgramUniform3dEXT(int,int,double,double,double)",
+		"glProgramUniform3dv(int,int,int,[D,int)",
+		"glProgramUniform3dv(int,int,int,java.nio.DoubleBuffer)",
+		"glProgramUniform3dvEXT(int,int,int,[D,int)",
+		"glProgramUniform3dvEXT(int,int,int,java.nio.DoubleBuffer)",
+		"glProgramUniform3f(int,int,float,float,float)",
+		"glProgramUniform3fv(int,int,int,[F,int)",
+		"glProgramUniform3fv(int,int,int,java.nio.FloatBuffer)",
+		"glProgramUniform3i(int,int,int,int,int)",
+		"glProgramUniform3i64NV(int,int,long,long,long)",
+		"glProgramUniform3i64vNV(int,int,int,[J,int)",
+		"glProgramUniform3i64vNV(int,int,int,java.nio.LongBuffer)",
+		"glProgramUniform3iv(int,int,int,[I,int)",
+		"glProgramUniform3iv(int,int,int,java.nio.IntBuffer)",
+		"glProgramUniform3ui(int,int,int,int,int)",
+		"glProgramUniform3ui64NV(int,int,long,long,long)",
+		"glProgramUniform3ui64vNV(int,int,int,[J,int)",
+		"glProgramUniform3ui64vNV(int,int,int,java.nio.LongBuffer)",
+		"glProgramUniform3uiv(int,int,int,[I,int)",
+		"glProgramUniform3uiv(int,int,int,java.nio.IntBuffer)",
+		"glProgramUniform4d(int,int,double,double,double,double)",
+		"glProgramUniform4dEXT(int,int,double,double,double,double)",
+		"glProgramUniform4dv(int,int,int,[D,int)",
+		"glProgramUniform4dv(int,int,int,java.nio.DoubleBuffer)",
+		"glProgramUniform4dvEXT(int,int,int,[D,int)",
+		"glProgramUniform4dvEXT(int,int,int,java.nio.DoubleBuffer)",
+		"glProgramUniform4f(int,int,float,float,float,float)",
+		"glProgramUniform4fv(int,int,int,[F,int)",
+		"glProgramUniform4fv(int,int,int,java.nio.FloatBuffer)",
+		"glProgramUniform4i(int,int,int,int,int,int)",
+		"glProgramUniform4i64NV(int,int,long,long,long,long)",
+		"glProgramUniform4i64vNV(int,int,int,[J,int)",
+		"glProgramUniform4i64vNV(int,int,int,java.nio.LongBuffer)",
+		"glProgramUniform4iv(int,int,int,[I,int)",
+		"glProgramUniform4iv(int,int,int,java.nio.IntBuffer)",
+		"glProgramUniform4ui(int,int,int,int,int,int)",
+		"glProgramUniform4ui64NV(int,int,long,long,long,long)",
+		"glProgramUniform4ui64vNV(int,int,int,[J,int)",
+		"glProgramUniform4ui64vNV(int,int,int,java.nio.LongBuffer)",
+		"glProgramUniform4uiv(int,int,int,[I,int)",
+		"glProgramUniform4uiv(int,int,int,java.nio.IntBuffer)",
+		"glProgramUniformMatrix2dv(int,int,int,boolean,[D,int)",
+		"glProgramUniformMatrix2dv(int,int,int,boolean,java.nio.DoubleBuffer)",
+		"glProgramUniformMatrix2dvEXT(int,int,int,boolean,[D,int)",
+		"glProgramUniformMatrix2dvEXT(int,int,int,boolean,java.nio.DoubleBuffer)",
+		"glProgramUniformMatrix2fv(int,int,int,boolean,[F,int)",
+		"glProgramUniformMatrix2fv(int,int,int,boolean,java.nio.FloatBuffer)",
+		"glProgramUniformMatrix2x3dv(int,int,int,boolean,[D,int)",
+		"glProgramUniformMatrix2x3dv(int,int,int,boolean,java.nio.DoubleBuffer)",
+		"glProgramUniformMatrix2x3dvEXT(int,int,int,boolean,[D,int)",
+		"glProgramUniformMatrix2x3dvEXT(int,int,int,boolean,java.nio.DoubleBuffer)",
+		"glProgramUniformMatrix2x3fv(int,int,int,boolean,[F,int)",
+		"glProgramUniformMatrix2x3fv(int,int,int,boolean,java.nio.FloatBuffer)",
+		"glProgramUniformMatrix2x4dv(int,int,int,boolean,[D,int)",
+		"glProgramUniformMatrix2x4dv(int,int,int,boolean,java.nio.DoubleBuffer)",
+		"glProgramUniformMatrix2x4dvEXT(int,int,int,boolean,[D,int)",
+		"glProgramUniformMatrix2x4dvEXT(int,int,int,boolean,java.nio.DoubleBuffer)",
+		"glProgramUniformMatrix2x4fv(int,int,int,boolean,[F,int)",
+		"glProgramUniformMatrix2x4fv(int,int,int,boolean,java.nio.FloatBuffer)",
+		"glProgramUniformMatrix3dv(int,int,int,boolean,[D,int)",
+		"glProgramUniformMatrix3dv(int,int,int,boolean,java.nio.DoubleBuffer)",
+		"glProgramUniformMatrix3dvEXT(int,int,int,boolean,[D,int)",
+		"glProgramUniformMatrix3dvEXT(int,int,int,boolean,java.nio.DoubleBuffer)",
+		"glProgramUniformMatrix3fv(int,int,int,boolean,[F,int)",
+		"glProgramUniformMatrix3fv(int,int,int,boolean,java.nio.FloatBuffer)",
+		"glProgramUniformMatrix3x2dv(int,int,int,boolean,[D,int)",
+		"glProgramUniformMatrix3x2dv(int,int,int,boolean,java.nio.DoubleBuffer)",
+		"glProgramUniformMatrix3x2dvEXT(int,int,int,boolean,[D,int)",
+		"glProgramUniformMatrix3x2dvEXT(int,int,int,boolean,java.nio.DoubleBuffer)",
+		"glProgramUniformMatrix3x2fv(int,int,int,boolean,[F,int)",
+		"glProgramUniformMatrix3x2fv(int,int,int,boolean,java.nio.FloatBuffer)",
+		"glProgramUniformMatrix3x4dv(int,int,int,boolean,[D,int)",
+		"glProgramUniformMatrix3x4dv(int,int,int,boolean,java.nio.DoubleBuffer)",
+		"glProgramUniformMatrix3x4dvEXT(int,int,int,boolean,[D,int)",
+		"glProgramUniformMatrix3x4dvEXT(int,int,int,boolean,java.nio.DoubleBuffer)",
+		"glProgramUniformMatrix3x4fv(int,int,int,boolean,[F,int)",
+		"glProgramUniformMatrix3x4fv(int,int,int,boolean,java.nio.FloatBuffer)",
+		"glProgramUniformMatrix4dv(int,int,int,boolean,[D,int)",
+		"glProgramUniformMatrix4dv(int,int,int,boolean,java.nio.DoubleBuffer)",
+		"glProgramUniformMatrix4dvEXT(int,int,int,boolean,[D,int)",
+		"glProgramUniformMatrix4dvEXT(int,int,int,boolean,java.nio.DoubleBuffer)",
+		"glProgramUniformMatrix4fv(int,int,int,boolean,[F,int)",
+		"glProgramUniformMatrix4fv(int,int,int,boolean,java.nio.FloatBuffer)",
+		"glProgramUniformMatrix4x2dv(int,int,int,boolean,[D,int)",
+		"glProgramUniformMatrix4x2dv(int,int,int,boolean,java.nio.DoubleBuffer)",
+		"glProgramUniformMatrix4x2dvEXT(int,int,int,boolean,[D,int)",
+		"glProgramUniformMatrix4x2dvEXT(int,int,int,boolean,java.nio.DoubleBuffer)",
+		"glProgramUniformMatrix4x2fv(int,int,int,boolean,[F,int)",
+		"glProgramUniformMatrix4x2fv(int,int,int,boolean,java.nio.FloatBuffer)",
+		"glProgramUniformMatrix4x3dv(int,int,int,boolean,[D,int)",
+		"glProgramUniformMatrix4x3dv(int,int,int,boolean,java.nio.DoubleBuffer)",
+		"glProgramUniformMatrix4x3dvEXT(int,int,int,boolean,[D,int)",
+		"glProgramUniformMatrix4x3dvEXT(int,int,int,boolean,java.nio.DoubleBuffer)",
+		"glProgramUniformMatrix4x3fv(int,int,int,boolean,[F,int)",
+		"glProgramUniformMatrix4x3fv(int,int,int,boolean,java.nio.FloatBuffer)",
+		"glProgramUniformui64NV(int,int,long)",
+		"glProgramUniformui64vNV(int,int,int,[J,int)",
+		"glProgramUniformui64vNV(int,int,int,java.nio.LongBuffer)",
+		"glProgramVertexLimitNV(int,int)",
+		"glProvokingVertex(int)",
+		"glProvokingVertexEXT(int)",
+		"glPushAttrib(int)",
+		"glPushClientAttrib(int)",
+		"glPushClientAttribDefaultEXT(int)",
+		"glPushDebugGroup(int,int,int,[B,int)",
+		"glPushDebugGroup(int,int,int,java.nio.ByteBuffer)",
+		"glPushMatrix()",
+		"glPushName(int)",
+		"glQueryCounter(int,int)",
+		"glQueryMatrixxOES([I,int,[I,int)",
+		"glQueryMatrixxOES(java.nio.IntBuffer,java.nio.IntBuffer)",
+		"glQueryObjectParameteruiAMD(int,int,int,int)",
+		"glRasterPos2d(double,double)",
+		"glRasterPos2dv([D,int)",
+		"glRasterPos2dv(java.nio.DoubleBuffer)",
+		"glRasterPos2f(float,float)",
+		"glRasterPos2fv([F,int)",
+		"glRasterPos2fv(java.nio.FloatBuffer)",
+		"glRasterPos2i(int,int)",
+		"glRasterPos2iv([I,int)",
+		"glRasterPos2iv(java.nio.IntBuffer)",
+		"glRasterPos2s(short,short)",
+		"glRasterPos2sv([S,int)",
+		"glRasterPos2sv(java.nio.ShortBuffer)",
+		"glRasterPos3d(double,double,double)",
+		"glRasterPos3dv([D,int)",
+		"glRasterPos3dv(java.nio.DoubleBuffer)",
+		"glRasterPos3f(float,float,float)",
+		"glRasterPos3fv([F,int)",
+		"glRasterPos3fv(java.nio.FloatBuffer)",
+		"glRasterPos3i(int,int,int)",
+		"glRasterPos3iv([I,int)",
+		"glRasterPos3iv(java.nio.IntBuffer)",
+		"glRasterPos3s(short,short,short)",
+		"glRasterPos3sv([S,int)",
+		"glRasterPos3sv(java.nio.ShortBuffer)",
+		"glRasterPos4d(double,double,double,double)",
+		"glRasterPos4dv([D,int)",
+		"glRasterPos4dv(java.nio.DoubleBuffer)",
+		"glRasterPos4f(float,float,float,float)",
+		"glRasterPos4fv([F,int)",
+		"glRasterPos4fv(java.nio.FloatBuffer)",
+		"glRasterPos4i(int,int,int,int)",
+		"glRasterPos4iv([I,int)",
+		"glRasterPos4iv(java.nio.IntBuffer)",
+		"glRasterPos4s(short,short,short,short)",
+		"glRasterPos4sv([S,int)",
+		"glRasterPos4sv(java.nio.ShortBuffer)",
+		"glRasterSamplesEXT(int,boolean)",
+		"glReadBuffer(int)",
+		"glReadPixels(int,int,int,int,int,int,java.nio.Buffer)",
+		"glReadPixels(int,int,int,int,int,int,long)",
+		"glReadnPixels(int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glRectd(double,double,double,double)",
+		"glRectdv([D,int,[D,int)",
+		"glRectdv(java.nio.DoubleBuffer,java.nio.DoubleBuffer)",
+		"glRectf(float,float,float,float)",
+		"glRectfv([F,int,[F,int)",
+		"glRectfv(java.nio.FloatBuffer,java.nio.FloatBuffer)",
+		"glRecti(int,int,int,int)",
+		"glRectiv([I,int,[I,int)",
+		"glRectiv(java.nio.IntBuffer,java.nio.IntBuffer)",
+		"glRects(short,short,short,short)",
+		"glRectsv([S,int,[S,int)",
+		"glRectsv(java.nio.ShortBuffer,java.nio.ShortBuffer)",
+		"glReleaseShaderCompiler()",
+		"glRenderMode(int)",
+		"glRenderbufferStorage(int,int,int,int)",
+		"glRenderbufferStorageMultisample(int,int,int,int,int)",
+		"glRenderbufferStorageMultisampleCoverageNV(int,int,int,int,int,int)",
+		"glResetHistogram(int)",
+		"glResetMinmax(int)",
+		"glResolveDepthValuesNV()",
+		"glResumeTransformFeedback()",
+		"glResumeTransformFeedbackNV()",
+		"glRotated(double,double,double,double)",
+		"glRotatef(float,float,float,float)",
+		"glSampleCoverage(float,boolean)",
+		"glSampleMaskIndexedNV(int,int)",
+		"glSampleMaski(int,int)",
+		"glSamplerParameterIiv(int,int,[I,int)",
+		"glSamplerParameterIiv(int,int,java.nio.IntBuffer)",
+		"glSamplerParameterIuiv(int,int,[I,int)",
+		"glSamplerParameterIuiv(int,int,java.nio.IntBuffer)",
+		"glScaled(double,double,double)",
+		"glScalef(float,float,float)",
+		"glScissor(int,int,int,int)",
+		"glSecondaryColor3b(byte,byte,byte)",
+		"glSecondaryColor3bv([B,int)",
+		"glSecondaryColor3bv(java.nio.ByteBuffer)",
+		"glSecondaryColor3d(double,double,double)",
+		"glSecondaryColor3dv([D,int)",
+		"glSecondaryColor3dv(java.nio.DoubleBuffer)",
+		"glSecondaryColor3f(float,float,float)",
+		"glSecondaryColor3fv([F,int)",
+		"glSecondaryColor3fv(java.nio.FloatBuffer)",
+		"glSecondaryColor3h(short,short,short)",
+		"glSecondaryColor3hv([S,int)",
+		"glSecondaryColor3hv(java.nio.ShortBuffer)",
+		"glSecondaryColor3i(int,int,int)",
+		"glSecondaryColor3iv([I,int)",
+		"glSecondaryColor3iv(java.nio.IntBuffer)",
+		"glSecondaryColor3s(short,short,short)",
+		"glSecondaryColor3sv([S,int)",
+		"glSecondaryColor3sv(java.nio.ShortBuffer)",
+		"glSecondaryColor3ub(byte,byte,byte)",
+		"glSecondaryColor3ubv([B,int)",
+		"glSecondaryColor3ubv(java.nio.ByteBuffer)",
+		"glSecondaryColor3ui(int,int,int)",
+		"glSecondaryColor3uiv([I,int)",
+		"glSecondaryColor3uiv(java.nio.IntBuffer)",
+		"glSecondaryColor3us(short,short,short)",
+		"glSecondaryColor3usv([S,int)",
+		"glSecondaryColor3usv(java.nio.ShortBuffer)",
+		"glSecondaryColorFormatNV(int,int,int)",
+		"glSecondaryColorPointer(int,int,int,java.nio.Buffer)",
+		"glSecondaryColorPointer(int,int,int,long)",
+		"glSelectBuffer(int,java.nio.IntBuffer)",
+		"glSelectPerfMonitorCountersAMD(int,boolean,int,int,[I,int)",
+		"glSelectPerfMonitorCountersAMD(int,boolean,int,int,java.nio.IntBuffer)",
+		"glSeparableFilter2D(int,int,int,int,int,int,java.nio.Buffer,java.nio.Buffer)",
+		"glSeparableFilter2D(int,int,int,int,int,int,long,long)",
+		"glSetInvariantEXT(int,int,java.nio.Buffer)",
+		"glSetLocalConstantEXT(int,int,java.nio.Buffer)",
+		"glSetMultisamplefvAMD(int,int,[F,int)",
+		"glSetMultisamplefvAMD(int,int,java.nio.FloatBuffer)",
+		"glShadeModel(int)",
+		"glShaderBinary(int,[I,int,int,java.nio.Buffer,int)",
+		"glShaderBinary(int,java.nio.IntBuffer,int,java.nio.Buffer,int)",
+		"glShaderOp1EXT(int,int,int)",
+		"glShaderOp2EXT(int,int,int,int)",
+		"glShaderOp3EXT(int,int,int,int,int)",
+		"glShaderSource(int,int,[Ljava.lang.String;,[I,int)",
+		"glShaderSource(int,int,[Ljava.lang.String;,java.nio.IntBuffer)",
+		"glShaderSourceARB(long,int,[Ljava.lang.String;,[I,int)",
+		"glShaderSourceARB(long,int,[Ljava.lang.String;,java.nio.IntBuffer)",
+		"glStateCaptureNV(int,int)",
+		"glStencilClearTagEXT(int,int)",
+		"glStencilFunc(int,int,int)",
+		"glStencilFuncSeparate(int,int,int,int)",
+		"glStencilMask(int)",
+		"glStencilMaskSeparate(int,int)",
+		"glStencilOp(int,int,int)",
+		"glStencilOpSeparate(int,int,int,int)",
+		"glStencilOpValueAMD(int,int)",
+		"glStringMarkerGREMEDY(int,java.nio.Buffer)",
+		"glSubpixelPrecisionBiasNV(int,int)",
+		"glSwizzleEXT(int,int,int,int,int,int)",
+		"glSyncTextureINTEL(int)",
+		"glTessellationFactorAMD(float)",
+		"glTessellationModeAMD(int)",
+		"glTexBuffer(int,int,int)",
+		"glTexCoord1bOES(byte)",
+		"glTexCoord1bvOES([B,int)",
+		"glTexCoord1bvOES(java.nio.ByteBuffer)",
+		"glTexCoord1d(double)",
+		"glTexCoord1dv([D,int)",
+		"glTexCoord1dv(java.nio.DoubleBuffer)",
+		"glTexCoord1f(float)",
+		"glTexCoord1fv([F,int)",
+		"glTexCoord1fv(java.nio.FloatBuffer)",
+		"glTexCoord1h(short)",
+		"glTexCoord1hv([S,int)",
+		"glTexCoord1hv(java.nio.ShortBuffer)",
+		"glTexCoord1i(int)",
+		"glTexCoord1iv([I,int)",
+		"glTexCoord1iv(java.nio.IntBuffer)",
+		"glTexCoord1s(short)",
+		"glTexCoord1sv([S,int)",
+		"glTexCoord1sv(java.nio.ShortBuffer)",
+		"glTexCoord2bOES(byte,byte)",
+		"glTexCoord2bvOES([B,int)",
+		"glTexCoord2bvOES(java.nio.ByteBuffer)",
+		"glTexCoord2d(double,double)",
+		"glTexCoord2dv([D,int)",
+		"glTexCoord2dv(java.nio.DoubleBuffer)",
+		"glTexCoord2f(float,float)",
+		"glTexCoord2fv([F,int)",
+		"glTexCoord2fv(java.nio.FloatBuffer)",
+		"glTexCoord2h(short,short)",
+		"glTexCoord2hv([S,int)",
+		"glTexCoord2hv(java.nio.ShortBuffer)",
+		"glTexCoord2i(int,int)",
+		"glTexCoord2iv([I,int)",
+		"glTexCoord2iv(java.nio.IntBuffer)",
+		"glTexCoord2s(short,short)",
+		"glTexCoord2sv([S,int)",
+		"glTexCoord2sv(java.nio.ShortBuffer)",
+		"glTexCoord3bOES(byte,byte,byte)",
+		"glTexCoord3bvOES([B,int)",
+		"glTexCoord3bvOES(java.nio.ByteBuffer)",
+		"glTexCoord3d(double,double,double)",
+		"glTexCoord3dv([D,int)",
+		"glTexCoord3dv(java.nio.DoubleBuffer)",
+		"glTexCoord3f(float,float,float)",
+		"glTexCoord3fv([F,int)",
+		"glTexCoord3fv(java.nio.FloatBuffer)",
+		"glTexCoord3h(short,short,short)",
+		"glTexCoord3hv([S,int)",
+		"glTexCoord3hv(java.nio.ShortBuffer)",
+		"glTexCoord3i(int,int,int)",
+		"glTexCoord3iv([I,int)",
+		"glTexCoord3iv(java.nio.IntBuffer)",
+		"glTexCoord3s(short,short,short)",
+		"glTexCoord3sv([S,int)",
+		"glTexCoord3sv(java.nio.ShortBuffer)",
+		"glTexCoord4bOES(byte,byte,byte,byte)",
+		"glTexCoord4bvOES([B,int)",
+		"glTexCoord4bvOES(java.nio.ByteBuffer)",
+		"glTexCoord4d(double,double,double,double)",
+		"glTexCoord4dv([D,int)",
+		"glTexCoord4dv(java.nio.DoubleBuffer)",
+		"glTexCoord4f(float,float,float,float)",
+		"glTexCoord4fv([F,int)",
+		"glTexCoord4fv(java.nio.FloatBuffer)",
+		"glTexCoord4h(short,short,short,short)",
+		"glTexCoord4hv([S,int)",
+		"glTexCoord4hv(java.nio.ShortBuffer)",
+		"glTexCoord4i(int,int,int,int)",
+		"glTexCoord4iv([I,int)",
+		"glTexCoord4iv(java.nio.IntBuffer)",
+		"glTexCoord4s(short,short,short,short)",
+		"glTexCoord4sv([S,int)",
+		"glTexCoord4sv(java.nio.ShortBuffer)",
+		"glTexCoordFormatNV(int,int,int)",
+		"glTexCoordPointer(com.jogamp.opengl.GLArrayData)",
+		"glTexCoordPointer(int,int,int,java.nio.Buffer)",
+		"glTexCoordPointer(int,int,int,long)",
+		"glTexEnvf(int,int,float)",
+		"glTexEnvfv(int,int,[F,int)",
+		"glTexEnvfv(int,int,java.nio.FloatBuffer)",
+		"glTexEnvi(int,int,int)",
+		"glTexEnviv(int,int,[I,int)",
+		"glTexEnviv(int,int,java.nio.IntBuffer)",
+		"glTexGend(int,int,double)",
+		"glTexGendv(int,int,[D,int)",
+		"glTexGendv(int,int,java.nio.DoubleBuffer)",
+		"glTexGenf(int,int,float)",
+		"glTexGenfv(int,int,[F,int)",
+		"glTexGenfv(int,int,java.nio.FloatBuffer)",
+		"glTexGeni(int,int,int)",
+		"glTexGeniv(int,int,[I,int)",
+		"glTexGeniv(int,int,java.nio.IntBuffer)",
+		"glTexImage1D(int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glTexImage1D(int,int,int,int,int,int,int,long)",
+		"glTexImage2D(int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glTexImage2D(int,int,int,int,int,int,int,int,long)",
+		"glTexImage2DMultisample(int,int,int,int,int,boolean)",
+		"glTexImage2DMultisampleCoverageNV(int,int,int,int,int,int,boolean)",
+		"glTexImage3D(int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glTexImage3D(int,int,int,int,int,int,int,int,int,long)",
+		"glTexImage3DMultisample(int,int,int,int,int,int,boolean)",
+		"glTexImage3DMultisampleCoverageNV(int,int,int,int,int,int,int,boolean)",
+		"glTexPageCommitmentARB(int,int,int,int,int,int,int,int,boolean)",
+		"glTexParameterIiv(int,int,[I,int)",
+		"glTexParameterIiv(int,int,java.nio.IntBuffer)",
+		"glTexParameterIuiv(int,int,[I,int)",
+		"glTexParameterIuiv(int,int,java.nio.IntBuffer)",
+		"glTexParameterf(int,int,float)",
+		"glTexParameterfv(int,int,[F,int)",
+		"glTexParameterfv(int,int,java.nio.FloatBuffer)",
+		"glTexParameteri(int,int,int)",
+		"glTexParameteriv(int,int,[I,int)",
+		"glTexParameteriv(int,int,java.nio.IntBuffer)",
+		"glTexRenderbufferNV(int,int)",
+		"glTexStorage1D(int,int,int,int)",
+		"glTexStorage2D(int,int,int,int,int)",
+		"glTexStorage2DMultisample(int,int,int,int,int,boolean)",
+		"glTexStorage3D(int,int,int,int,int,int)",
+		"glTexStorage3DMultisample(int,int,int,int,int,int,boolean)",
+		"glTexStorageSparseAMD(int,int,int,int,int,int,int)",
+		"glTexSubImage1D(int,int,int,int,int,int,java.nio.Buffer)",
+		"glTexSubImage1D(int,int,int,int,int,int,long)",
+		"glTexSubImage2D(int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glTexSubImage2D(int,int,int,int,int,int,int,int,long)",
+		"glTexSubImage3D(int,int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glTexSubImage3D(int,int,int,int,int,int,int,int,int,int,long)",
+		"glTextureBarrierNV()",
+		"glTextureBufferEXT(int,int,int,int)",
+		"glTextureBufferRangeEXT(int,int,int,int,long,long)",
+		"glTextureImage1DEXT(int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glTextureImage1DEXT(int,int,int,int,int,int,int,int,long)",
+		"glTextureImage2DEXT(int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glTextureImage2DEXT(int,int,int,int,int,int,int,int,int,long)",
+		"glTextureImage2DMultisampleCoverageNV(int,int,int,int,int,int,int,boolean)",
+		"glTextureImage2DMultisampleNV(int,int,int,int,int,int,boolean)",
+		"glTextureImage3DEXT(int,int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glTextureImage3DEXT(int,int,int,int,int,int,int,int,int,int,long)",
+		"glTextureImage3DMultisampleCoverageNV(int,int,int,int,int,int,int,int,boolean)",
+		"glTextureImage3DMultisampleNV(int,int,int,int,int,int,int,boolean)",
+		"glTextureLightEXT(int)",
+		"glTextureMaterialEXT(int,int)",
+		"glTextureNormalEXT(int)",
+		"glTexturePageCommitmentEXT(int,int,int,int,int,int,int,int,boolean)",
+		"glTextureParameterIivEXT(int,int,int,[I,int)",
+		"glTextureParameterIivEXT(int,int,int,java.nio.IntBuffer)",
+		"glTextureParameterIuivEXT(int,int,int,[I,int)",
+		"glTextureParameterIuivEXT(int,int,int,java.nio.IntBuffer)",
+		"glTextureParameterfEXT(int,int,int,float)",
+		"glTextureParameterfvEXT(int,int,int,[F,int)",
+		"glTextureParameterfvEXT(int,int,int,java.nio.FloatBuffer)",
+		"glTextureParameteriEXT(int,int,int,int)",
+		"glTextureParameterivEXT(int,int,int,[I,int)",
+		"glTextureParameterivEXT(int,int,int,java.nio.IntBuffer)",
+		"glTextureRangeAPPLE(int,int,java.nio.Buffer)",
+		"glTextureRenderbufferEXT(int,int,int)",
+		"glTextureStorage1DEXT(int,int,int,int,int)",
+		"glTextureStorage2DEXT(int,int,int,int,int,int)",
+		"glTextureStorage2DMultisampleEXT(int,int,int,int,int,int,boolean)",
+		"glTextureStorage3DEXT(int,int,int,int,int,int,int)",
+		"glTextureStorage3DMultisampleEXT(int,int,int,int,int,int,int,boolean)",
+		"glTextureStorageSparseAMD(int,int,int,int,int,int,int,int)",
+		"glTextureSubImage1DEXT(int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glTextureSubImage1DEXT(int,int,int,int,int,int,int,long)",
+		"glTextureSubImage2DEXT(int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glTextureSubImage2DEXT(int,int,int,int,int,int,int,int,int,long)",
+		"glTextureSubImage3DEXT(int,int,int,int,int,int,int,int,int,int,int,java.nio.Buffer)",
+		"glTextureSubImage3DEXT(int,int,int,int,int,int,int,int,int,int,int,long)",
+		"glTransformFeedbackVaryings(int,int,[Ljava.lang.String;,int)",
+		"glTranslated(double,double,double)",
+		"glTranslatef(float,float,float)",
+		"glUniform(com.jogamp.opengl.GLUniformData)",
+		"glUniform1f(int,float)",
+		"glUniform1fARB(int,float)",
+		"glUniform1fv(int,int,[F,int)",
+		"glUniform1fv(int,int,java.nio.FloatBuffer)",
+		"glUniform1fvARB(int,int,[F,int)",
+		"glUniform1fvARB(int,int,java.nio.FloatBuffer)",
+		"glUniform1i(int,int)",
+		"glUniform1i64NV(int,long)",
+		"glUniform1i64vNV(int,int,[J,int)",
+		"glUniform1i64vNV(int,int,java.nio.LongBuffer)",
+		"glUniform1iARB(int,int)",
+		"glUniform1iv(int,int,[I,int)",
+		"glUniform1iv(int,int,java.nio.IntBuffer)",
+		"glUniform1ivARB(int,int,[I,int)",
+		"glUniform1ivARB(int,int,java.nio.IntBuffer)",
+		"glUniform1ui(int,int)",
+		"glUniform1ui64NV(int,long)",
+		"glUniform1ui64vNV(int,int,[J,int)",
+		"glUniform1ui64vNV(int,int,java.nio.LongBuffer)",
+		"glUniform1uiv(int,int,[I,int)",
+		"glUniform1uiv(int,int,java.nio.IntBuffer)",
+		"glUniform2f(int,float,float)",
+		"glUniform2fARB(int,float,float)",
+		"glUniform2fv(int,int,[F,int)",
+		"glUniform2fv(int,int,java.nio.FloatBuffer)",
+		"glUniform2fvARB(int,int,[F,int)",
+		"glUniform2fvARB(int,int,java.nio.FloatBuffer)",
+		"glUniform2i(int,int,int)",
+		"glUniform2i64NV(int,long,long)",
+		"glUniform2i64vNV(int,int,[J,int)",
+		"glUniform2i64vNV(int,int,java.nio.LongBuffer)",
+		"glUniform2iARB(int,int,int)",
+		"glUniform2iv(int,int,[I,int)",
+		"glUniform2iv(int,int,java.nio.IntBuffer)",
+		"glUniform2ivARB(int,int,[I,int)",
+		"glUniform2ivARB(int,int,java.nio.IntBuffer)",
+		"glUniform2ui(int,int,int)",
+		"glUniform2ui64NV(int,long,long)",
+		"glUniform2ui64vNV(int,int,[J,int)",
+		"glUniform2ui64vNV(int,int,java.nio.LongBuffer)",
+		"glUniform2uiv(int,int,[I,int)",
+		"glUniform2uiv(int,int,java.nio.IntBuffer)",
+		"glUniform3f(int,float,float,float)",
+		"glUniform3fARB(int,float,float,float)",
+		"glUniform3fv(int,int,[F,int)",
+		"glUniform3fv(int,int,java.nio.FloatBuffer)",
+		"glUniform3fvARB(int,int,[F,int)",
+		"glUniform3fvARB(int,int,java.nio.FloatBuffer)",
+		"glUniform3i(int,int,int,int)",
+		"glUniform3i64NV(int,long,long,long)",
+		"glUniform3i64vNV(int,int,[J,int)",
+		"glUniform3i64vNV(int,int,java.nio.LongBuffer)",
+		"glUniform3iARB(int,int,int,int)",
+		"glUniform3iv(int,int,[I,int)",
+		"glUniform3iv(int,int,java.nio.IntBuffer)",
+		"glUniform3ivARB(int,int,[I,int)",
+		"glUniform3ivARB(int,int,java.nio.IntBuffer)",
+		"glUniform3ui(int,int,int,int)",
+		"glUniform3ui64NV(int,long,long,long)",
+		"glUniform3ui64vNV(int,int,[J,int)",
+		"glUniform3ui64vNV(int,int,java.nio.LongBuffer)",
+		"glUniform3uiv(int,int,[I,int)",
+		"glUniform3uiv(int,int,java.nio.IntBuffer)",
+		"glUniform4f(int,float,float,float,float)",
+		"glUniform4fARB(int,float,float,float,float)",
+		"glUniform4fv(int,int,[F,int)",
+		"glUniform4fv(int,int,java.nio.FloatBuffer)",
+		"glUniform4fvARB(int,int,[F,int)",
+		"glUniform4fvARB(int,int,java.nio.FloatBuffer)",
+		"glUniform4i(int,int,int,int,int)",
+		"glUniform4i64NV(int,long,long,long,long)",
+		"glUniform4i64vNV(int,int,[J,int)",
+		"glUniform4i64vNV(int,int,java.nio.LongBuffer)",
+		"glUniform4iARB(int,int,int,int,int)",
+		"glUniform4iv(int,int,[I,int)",
+		"glUniform4iv(int,int,java.nio.IntBuffer)",
+		"glUniform4ivARB(int,int,[I,int)",
+		"glUniform4ivARB(int,int,java.nio.IntBuffer)",
+		"glUniform4ui(int,int,int,int,int)",
+		"glUniform4ui64NV(int,long,long,long,long)",
+		"glUniform4ui64vNV(int,int,[J,int)",
+		"glUniform4ui64vNV(int,int,java.nio.LongBuffer)",
+		"glUniform4uiv(int,int,[I,int)",
+		"glUniform4uiv(int,int,java.nio.IntBuffer)",
+		"glUniformBlockBinding(int,int,int)",
+		"glUniformBufferEXT(int,int,int)",
+		"glUniformMatrix2fv(int,int,boolean,[F,int)",
+		"glUniformMatrix2fv(int,int,boolean,java.nio.FloatBuffer)",
+		"glUniformMatrix2fvARB(int,int,boolean,[F,int)",
+		"glUniformMatrix2fvARB(int,int,boolean,java.nio.FloatBuffer)",
+		"glUniformMatrix2x3fv(int,int,boolean,[F,int)",
+		"glUniformMatrix2x3fv(int,int,boolean,java.nio.FloatBuffer)",
+		"glUniformMatrix2x4fv(int,int,boolean,[F,int)",
+		"glUniformMatrix2x4fv(int,int,boolean,java.nio.FloatBuffer)",
+		"glUniformMatrix3fv(int,int,boolean,[F,int)",
+		"glUniformMatrix3fv(int,int,boolean,java.nio.FloatBuffer)",
+		"glUniformMatrix3fvARB(int,int,boolean,[F,int)",
+		"glUniformMatrix3fvARB(int,int,boolean,java.nio.FloatBuffer)",
+		"glUniformMatrix3x2fv(int,int,boolean,[F,int)",
+		"glUniformMatrix3x2fv(int,int,boolean,java.nio.FloatBuffer)",
+		"glUniformMatrix3x4fv(int,int,boolean,[F,int)",
+		"glUniformMatrix3x4fv(int,int,boolean,java.nio.FloatBuffer)",
+		"glUniformMatrix4fv(int,int,boolean,[F,int)",
+		"glUniformMatrix4fv(int,int,boolean,java.nio.FloatBuffer)",
+		"glUniformMatrix4fvARB(int,int,boolean,[F,int)",
+		"glUniformMatrix4fvARB(int,int,boolean,java.nio.FloatBuffer)",
+		"glUniformMatrix4x2fv(int,int,boolean,[F,int)",
+		"glUniformMatrix4x2fv(int,int,boolean,java.nio.FloatBuffer)",
+		"glUniformMatrix4x3fv(int,int,boolean,[F,int)",
+		"glUniformMatrix4x3fv(int,int,boolean,java.nio.FloatBuffer)",
+		"glUniformui64NV(int,long)",
+		"glUniformui64vNV(int,int,[J,int)",
+		"glUniformui64vNV(int,int,java.nio.LongBuffer)",
+		"glUnlockArraysEXT()",
+		"glUnmapBuffer(int)",
+		"glUnmapNamedBufferEXT(int)",
+		"glUnmapTexture2DINTEL(int,int)",
+		"glUseProgram(int)",
+		"glUseProgramObjectARB(long)",
+		"glUseProgramStages(int,int,int)",
+		"glVDPAUFiniNV()",
+		"glVDPAUGetSurfaceivNV(long,int,int,[I,int,[I,int)",
+		"glVDPAUGetSurfaceivNV(long,int,int,java.nio.IntBuffer,java.nio.IntBuffer)",
+		"glVDPAUInitNV(java.nio.Buffer,java.nio.Buffer)",
+		"glVDPAUIsSurfaceNV(long)",
+		"glVDPAUMapSurfacesNV(int,com.jogamp.common.nio.PointerBuffer)",
+		"glVDPAURegisterOutputSurfaceNV(java.nio.Buffer,int,int,[I,int)",
+		"glVDPAURegisterOutputSurfaceNV(java.nio.Buffer,int,int,java.nio.IntBuffer)",
+		"glVDPAURegisterVideoSurfaceNV(java.nio.Buffer,int,int,[I,int)",
+		"glVDPAURegisterVideoSurfaceNV(java.nio.Buffer,int,int,java.nio.IntBuffer)",
+		"glVDPAUSurfaceAccessNV(long,int)",
+		"glVDPAUUnmapSurfacesNV(int,com.jogamp.common.nio.PointerBuffer)",
+		"glVDPAUUnregisterSurfaceNV(long)",
+		"glValidateProgram(int)",
+		"glValidateProgramARB(long)",
+		"glValidateProgramPipeline(int)",
+		"glVariantPointerEXT(int,int,int,java.nio.Buffer)",
+		"glVariantPointerEXT(int,int,int,long)",
+		"glVariantbvEXT(int,[B,int)",
+		"glVariantbvEXT(int,java.nio.ByteBuffer)",
+		"glVariantdvEXT(int,[D,int)",
+		"glVariantdvEXT(int,java.nio.DoubleBuffer)",
+		"glVariantfvEXT(int,[F,int)",
+		"glVariantfvEXT(int,java.nio.FloatBuffer)",
+		"glVariantivEXT(int,[I,int)",
+		"glVariantivEXT(int,java.nio.IntBuffer)",
+		"glVariantsvEXT(int,[S,int)",
+		"glVariantsvEXT(int,java.nio.ShortBuffer)",
+		"glVariantubvEXT(int,[B,int)",
+		"glVariantubvEXT(int,java.nio.ByteBuffer)",
+		"glVariantuivEXT(int,[I,int)",
+		"glVariantuivEXT(int,java.nio.IntBuffer)",
+		"glVariantusvEXT(int,[S,int)",
+		"glVariantusvEXT(int,java.nio.ShortBuffer)",
+		"glVertex2bOES(byte,byte)",
+		"glVertex2bvOES([B,int)",
+		"glVertex2bvOES(java.nio.ByteBuffer)",
+		"glVertex2d(double,double)",
+		"glVertex2dv([D,int)",
+		"glVertex2dv(java.nio.DoubleBuffer)",
+		"glVertex2f(float,float)",
+		"glVertex2fv([F,int)",
+		"glVertex2fv(java.nio.FloatBuffer)",
+		"glVertex2h(short,short)",
+		"glVertex2hv([S,int)",
+		"glVertex2hv(java.nio.ShortBuffer)",
+		"glVertex2i(int,int)",
+		"glVertex2iv([I,int)",
+		"glVertex2iv(java.nio.IntBuffer)",
+		"glVertex2s(short,short)",
+		"glVertex2sv([S,int)",
+		"glVertex2sv(java.nio.ShortBuffer)",
+		"glVertex3bOES(byte,byte,byte)",
+		"glVertex3bvOES([B,int)",
+		"glVertex3bvOES(java.nio.ByteBuffer)",
+		"glVertex3d(double,double,double)",
+		"glVertex3dv([D,int)",
+		"glVertex3dv(java.nio.DoubleBuffer)",
+		"glVertex3f(float,float,float)",
+		"glVertex3fv([F,int)",
+		"glVertex3fv(java.nio.FloatBuffer)",
+		"glVertex3h(short,short,short)",
+		"glVertex3hv([S,int)",
+		"glVertex3hv(java.nio.ShortBuffer)",
+		"glVertex3i(int,int,int)",
+		"glVertex3iv([I,int)",
+		"glVertex3iv(java.nio.IntBuffer)",
+		"glVertex3s(short,short,short)",
+		"glVertex3sv([S,int)",
+		"glVertex3sv(java.nio.ShortBuffer)",
+		"glVertex4bOES(byte,byte,byte,byte)",
+		"glVertex4bvOES([B,int)",
+		"glVertex4bvOES(java.nio.ByteBuffer)",
+		"glVertex4d(double,double,double,double)",
+		"glVertex4dv([D,int)",
+		"glVertex4dv(java.nio.DoubleBuffer)",
+		"glVertex4f(float,float,float,float)",
+		"glVertex4fv([F,int)",
+		"glVertex4fv(java.nio.FloatBuffer)",
+		"glVertex4h(short,short,short,short)",
+		"glVertex4hv([S,int)",
+		"glVertex4hv(java.nio.ShortBuffer)",
+		"glVertex4i(int,int,int,int)",
+		"glVertex4iv([I,int)",
+		"glVertex4iv(java.nio.IntBuffer)",
+		"glVertex4s(short,short,short,short)",
+		"glVertex4sv([S,int)",
+		"glVertex4sv(java.nio.ShortBuffer)",
+		"glVertexArrayBindVertexBufferEXT(int,int,int,long,int)",
+		"glVertexArrayColorOffsetEXT(int,int,int,int,int,long)",
+		"glVertexArrayEdgeFlagOffsetEXT(int,int,int,long)",
+		"glVertexArrayFogCoordOffsetEXT(int,int,int,int,long)",
+		"glVertexArrayIndexOffsetEXT(int,int,int,int,long)",
+		"glVertexArrayMultiTexCoordOffsetEXT(int,int,int,int,int,int,long)",
+		"glVertexArrayNormalOffsetEXT(int,int,int,int,long)",
+		"glVertexArrayParameteriAPPLE(int,int)",
+		"glVertexArrayRangeAPPLE(int,java.nio.Buffer)",
+		"glVertexArraySecondaryColorOffsetEXT(int,int,int,int,int,long)",
+		"glVertexArrayTexCoordOffsetEXT(int,int,int,int,int,long)",
+		"glVertexArrayVertexAttribBindingEXT(int,int,int)",
+		"glVertexArrayVertexAttribDivisorEXT(int,int,int)",
+		"glVertexArrayVertexAttribFormatEXT(int,int,int,int,boolean,int)",
+		"glVertexArrayVertexAttribIFormatEXT(int,int,int,int,int)",
+		"glVertexArrayVertexAttribIOffsetEXT(int,int,int,int,int,int,long)",
+		"glVertexArrayVertexAttribLFormatEXT(int,int,int,int,int)",
+		"glVertexArrayVertexAttribLOffsetEXT(int,int,int,int,int,int,long)",
+		"glVertexArrayVertexAttribOffsetEXT(int,int,int,int,int,boolean,int,long)",
+		"glVertexArrayVertexBindingDivisorEXT(int,int,int)",
+		"glVertexArrayVertexOffsetEXT(int,int,int,int,int,long)",
+		"glVertexAttrib1d(int,double)",
+		"glVertexAttrib1dARB(int,double)",
+		"glVertexAttrib1dv(int,[D,int)",
+		"glVertexAttrib1dv(int,java.nio.DoubleBuffer)",
+		"glVertexAttrib1dvARB(int,[D,int)",
+		"glVertexAttrib1dvARB(int,java.nio.DoubleBuffer)",
+		"glVertexAttrib1f(int,float)",
+		"glVertexAttrib1fARB(int,float)",
+		"glVertexAttrib1fv(int,[F,int)",
+		"glVertexAttrib1fv(int,java.nio.FloatBuffer)",
+		"glVertexAttrib1fvARB(int,[F,int)",
+		"glVertexAttrib1fvARB(int,java.nio.FloatBuffer)",
+		"glVertexAttrib1h(int,short)",
+		"glVertexAttrib1hv(int,[S,int)",
+		"glVertexAttrib1hv(int,java.nio.ShortBuffer)",
+		"glVertexAttrib1s(int,short)",
+		"glVertexAttrib1sARB(int,short)",
+		"glVertexAttrib1sv(int,[S,int)",
+		"glVertexAttrib1sv(int,java.nio.ShortBuffer)",
+		"glVertexAttrib1svARB(int,[S,int)",
+		"glVertexAttrib1svARB(int,java.nio.ShortBuffer)",
+		"glVertexAttrib2d(int,double,double)",
+		"glVertexAttrib2dARB(int,double,double)",
+		"glVertexAttrib2dv(int,[D,int)",
+		"glVertexAttrib2dv(int,java.nio.DoubleBuffer)",
+		"glVertexAttrib2dvARB(int,[D,int)",
+		"glVertexAttrib2dvARB(int,java.nio.DoubleBuffer)",
+		"glVertexAttrib2f(int,float,float)",
+		"glVertexAttrib2fARB(int,float,float)",
+		"glVertexAttrib2fv(int,[F,int)",
+		"glVertexAttrib2fv(int,java.nio.FloatBuffer)",
+		"glVertexAttrib2fvARB(int,[F,int)",
+		"glVertexAttrib2fvARB(int,java.nio.FloatBuffer)",
+		"glVertexAttrib2h(int,short,short)",
+		"glVertexAttrib2hv(int,[S,int)",
+		"glVertexAttrib2hv(int,java.nio.ShortBuffer)",
+		"glVertexAttrib2s(int,short,short)",
+		"glVertexAttrib2sARB(int,short,short)",
+		"glVertexAttrib2sv(int,[S,int)",
+		"glVertexAttrib2sv(int,java.nio.ShortBuffer)",
+		"glVertexAttrib2svARB(int,[S,int)",
+		"glVertexAttrib2svARB(int,java.nio.ShortBuffer)",
+		"glVertexAttrib3d(int,double,double,double)",
+		"glVertexAttrib3dARB(int,double,double,double)",
+		"glVertexAttrib3dv(int,[D,int)",
+		"glVertexAttrib3dv(int,java.nio.DoubleBuffer)",
+		"glVertexAttrib3dvARB(int,[D,int)",
+		"glVertexAttrib3dvARB(int,java.nio.DoubleBuffer)",
+		"glVertexAttrib3f(int,float,float,float)",
+		"glVertexAttrib3fARB(int,float,float,float)",
+		"glVertexAttrib3fv(int,[F,int)",
+		"glVertexAttrib3fv(int,java.nio.FloatBuffer)",
+		"glVertexAttrib3fvARB(int,[F,int)",
+		"glVertexAttrib3fvARB(int,java.nio.FloatBuffer)",
+		"glVertexAttrib3h(int,short,short,short)",
+		"glVertexAttrib3hv(int,[S,int)",
+		"glVertexAttrib3hv(int,java.nio.ShortBuffer)",
+		"glVertexAttrib3s(int,short,short,short)",
+		"glVertexAttrib3sARB(int,short,short,short)",
+		"glVertexAttrib3sv(int,[S,int)",
+		"glVertexAttrib3sv(int,java.nio.ShortBuffer)",
+		"glVertexAttrib3svARB(int,[S,int)",
+		"glVertexAttrib3svARB(int,java.nio.ShortBuffer)",
+		"glVertexAttrib4Nbv(int,[B,int)",
+		"glVertexAttrib4Nbv(int,java.nio.ByteBuffer)",
+		"glVertexAttrib4NbvARB(int,[B,int)",
+		"glVertexAttrib4NbvARB(int,java.nio.ByteBuffer)",
+		"glVertexAttrib4Niv(int,[I,int)",
+		"glVertexAttrib4Niv(int,java.nio.IntBuffer)",
+		"glVertexAttrib4NivARB(int,[I,int)",
+		"glVertexAttrib4NivARB(int,java.nio.IntBuffer)",
+		"glVertexAttrib4Nsv(int,[S,int)",
+		"glVertexAttrib4Nsv(int,java.nio.ShortBuffer)",
+		"glVertexAttrib4NsvARB(int,[S,int)",
+		"glVertexAttrib4NsvARB(int,java.nio.ShortBuffer)",
+		"glVertexAttrib4Nub(int,byte,byte,byte,byte)",
+		"glVertexAttrib4NubARB(int,byte,byte,byte,byte)",
+		"glVertexAttrib4Nubv(int,[B,int)",
+		"glVertexAttrib4Nubv(int,java.nio.ByteBuffer)",
+		"glVertexAttrib4NubvARB(int,[B,int)",
+		"glVertexAttrib4NubvARB(int,java.nio.ByteBuffer)",
+		"glVertexAttrib4Nuiv(int,[I,int)",
+		"glVertexAttrib4Nuiv(int,java.nio.IntBuffer)",
+		"glVertexAttrib4NuivARB(int,[I,int)",
+		"glVertexAttrib4NuivARB(int,java.nio.IntBuffer)",
+		"glVertexAttrib4Nusv(int,[S,int)",
+		"glVertexAttrib4Nusv(int,java.nio.ShortBuffer)",
+		"glVertexAttrib4NusvARB(int,[S,int)",
+		"glVertexAttrib4NusvARB(int,java.nio.ShortBuffer)",
+		"glVertexAttrib4bv(int,[B,int)",
+		"glVertexAttrib4bv(int,java.nio.ByteBuffer)",
+		"glVertexAttrib4bvARB(int,[B,int)",
+		"glVertexAttrib4bvARB(int,java.nio.ByteBuffer)",
+		"glVertexAttrib4d(int,double,double,double,double)",
+		"glVertexAttrib4dARB(int,double,double,double,double)",
+		"glVertexAttrib4dv(int,[D,int)",
+		"glVertexAttrib4dv(int,java.nio.DoubleBuffer)",
+		"glVertexAttrib4dvARB(int,[D,int)",
+		"glVertexAttrib4dvARB(int,java.nio.DoubleBuffer)",
+		"glVertexAttrib4f(int,float,float,float,float)",
+		"glVertexAttrib4fARB(int,float,float,float,float)",
+		"glVertexAttrib4fv(int,[F,int)",
+		"glVertexAttrib4fv(int,java.nio.FloatBuffer)",
+		"glVertexAttrib4fvARB(int,[F,int)",
+		"glVertexAttrib4fvARB(int,java.nio.FloatBuffer)",
+		"glVertexAttrib4h(int,short,short,short,short)",
+		"glVertexAttrib4hv(int,[S,int)",
+		"glVertexAttrib4hv(int,java.nio.ShortBuffer)",
+		"glVertexAttrib4iv(int,[I,int)",
+		"glVertexAttrib4iv(int,java.nio.IntBuffer)",
+		"glVertexAttrib4ivARB(int,[I,int)",
+		"glVertexAttrib4ivARB(int,java.nio.IntBuffer)",
+		"glVertexAttrib4s(int,short,short,short,short)",
+		"glVertexAttrib4sARB(int,short,short,short,short)",
+		"glVertexAttrib4sv(int,[S,int)",
+		"glVertexAttrib4sv(int,java.nio.ShortBuffer)",
+		"glVertexAttrib4svARB(int,[S,int)",
+		"glVertexAttrib4svARB(int,java.nio.ShortBuffer)",
+		"glVertexAttrib4ubv(int,[B,int)",
+		"glVertexAttrib4ubv(int,java.nio.ByteBuffer)",
+		"glVertexAttrib4ubvARB(int,[B,int)",
+		"glVertexAttrib4ubvARB(int,java.nio.ByteBuffer)",
+		"glVertexAttrib4uiv(int,[I,int)",
+		"glVertexAttrib4uiv(int,java.nio.IntBuffer)",
+		"glVertexAttrib4uivARB(int,[I,int)",
+		"glVertexAttrib4uivARB(int,java.nio.IntBuffer)",
+		"glVertexAttrib4usv(int,[S,int)",
+		"glVertexAttrib4usv(int,java.nio.ShortBuffer)",
+		"glVertexAttrib4usvARB(int,[S,int)",
+		"glVertexAttrib4usvARB(int,java.nio.ShortBuffer)",
+		"glVertexAttribDivisor(int,int)",
+		"glVertexAttribFormatNV(int,int,int,boolean,int)",
+		"glVertexAttribI1i(int,int)",
+		"glVertexAttribI1iEXT(int,int)",
+		"glVertexAttribI1iv(int,[I,int)",
+		"glVertexAttribI1iv(int,java.nio.IntBuffer)",
+		"glVertexAttribI1ivEXT(int,[I,int)",
+		"glVertexAttribI1ivEXT(int,java.nio.IntBuffer)",
+		"glVertexAttribI1ui(int,int)",
+		"glVertexAttribI1uiEXT(int,int)",
+		"glVertexAttribI1uiv(int,[I,int)",
+		"glVertexAttribI1uiv(int,java.nio.IntBuffer)",
+		"glVertexAttribI1uivEXT(int,[I,int)",
+		"glVertexAttribI1uivEXT(int,java.nio.IntBuffer)",
+		"glVertexAttribI2i(int,int,int)",
+		"glVertexAttribI2iEXT(int,int,int)",
+		"glVertexAttribI2iv(int,[I,int)",
+		"glVertexAttribI2iv(int,java.nio.IntBuffer)",
+		"glVertexAttribI2ivEXT(int,[I,int)",
+		"glVertexAttribI2ivEXT(int,java.nio.IntBuffer)",
+		"glVertexAttribI2ui(int,int,int)",
+		"glVertexAttribI2uiEXT(int,int,int)",
+		"glVertexAttribI2uiv(int,[I,int)",
+		"glVertexAttribI2uiv(int,java.nio.IntBuffer)",
+		"glVertexAttribI2uivEXT(int,[I,int)",
+		"glVertexAttribI2uivEXT(int,java.nio.IntBuffer)",
+		"glVertexAttribI3i(int,int,int,int)",
+		"glVertexAttribI3iEXT(int,int,int,int)",
+		"glVertexAttribI3iv(int,[I,int)",
+		"glVertexAttribI3iv(int,java.nio.IntBuffer)",
+		"glVertexAttribI3ivEXT(int,[I,int)",
+		"glVertexAttribI3ivEXT(int,java.nio.IntBuffer)",
+		"glVertexAttribI3ui(int,int,int,int)",
+		"glVertexAttribI3uiEXT(int,int,int,int)",
+		"glVertexAttribI3uiv(int,[I,int)",
+		"glVertexAttribI3uiv(int,java.nio.IntBuffer)",
+		"glVertexAttribI3uivEXT(int,[I,int)",
+		"glVertexAttribI3uivEXT(int,java.nio.IntBuffer)",
+		"glVertexAttribI4bv(int,[B,int)",
+		"glVertexAttribI4bv(int,java.nio.ByteBuffer)",
+		"glVertexAttribI4bvEXT(int,[B,int)",
+		"glVertexAttribI4bvEXT(int,java.nio.ByteBuffer)",
+		"glVertexAttribI4i(int,int,int,int,int)",
+		"glVertexAttribI4iEXT(int,int,int,int,int)",
+		"glVertexAttribI4iv(int,[I,int)",
+		"glVertexAttribI4iv(int,java.nio.IntBuffer)",
+		"glVertexAttribI4ivEXT(int,[I,int)",
+		"glVertexAttribI4ivEXT(int,java.nio.IntBuffer)",
+		"glVertexAttribI4sv(int,[S,int)",
+		"glVertexAttribI4sv(int,java.nio.ShortBuffer)",
+		"glVertexAttribI4svEXT(int,[S,int)",
+		"glVertexAttribI4svEXT(int,java.nio.ShortBuffer)",
+		"glVertexAttribI4ubv(int,[B,int)",
+		"glVertexAttribI4ubv(int,java.nio.ByteBuffer)",
+		"glVertexAttribI4ubvEXT(int,[B,int)",
+		"glVertexAttribI4ubvEXT(int,java.nio.ByteBuffer)",
+		"glVertexAttribI4ui(int,int,int,int,int)",
+		"glVertexAttribI4uiEXT(int,int,int,int,int)",
+		"glVertexAttribI4uiv(int,[I,int)",
+		"glVertexAttribI4uiv(int,java.nio.IntBuffer)",
+		"glVertexAttribI4uivEXT(int,[I,int)",
+		"glVertexAttribI4uivEXT(int,java.nio.IntBuffer)",
+		"glVertexAttribI4usv(int,[S,int)",
+		"glVertexAttribI4usv(int,java.nio.ShortBuffer)",
+		"glVertexAttribI4usvEXT(int,[S,int)",
+		"glVertexAttribI4usvEXT(int,java.nio.ShortBuffer)",
+		"glVertexAttribIFormatNV(int,int,int,int)",
+		"glVertexAttribIPointer(int,int,int,int,java.nio.Buffer)",
+		"glVertexAttribIPointer(int,int,int,int,long)",
+		"glVertexAttribIPointerEXT(int,int,int,int,java.nio.Buffer)",
+		"glVertexAttribL1d(int,double)",
+		"glVertexAttribL1dv(int,[D,int)",
+		"glVertexAttribL1dv(int,java.nio.DoubleBuffer)",
+		"glVertexAttribL1i64NV(int,long)",
+		"glVertexAttribL1i64vNV(int,[J,int)",
+		"glVertexAttribL1i64vNV(int,java.nio.LongBuffer)",
+		"glVertexAttribL1ui64NV(int,long)",
+		"glVertexAttribL1ui64vNV(int,[J,int)",
+		"glVertexAttribL1ui64vNV(int,java.nio.LongBuffer)",
+		"glVertexAttribL2d(int,double,double)",
+		"glVertexAttribL2dv(int,[D,int)",
+		"glVertexAttribL2dv(int,java.nio.DoubleBuffer)",
+		"glVertexAttribL2i64NV(int,long,long)",
+		"glVertexAttribL2i64vNV(int,[J,int)",
+		"glVertexAttribL2i64vNV(int,java.nio.LongBuffer)",
+		"glVertexAttribL2ui64NV(int,long,long)",
+		"glVertexAttribL2ui64vNV(int,[J,int)",
+		"glVertexAttribL2ui64vNV(int,java.nio.LongBuffer)",
+		"glVertexAttribL3d(int,double,double,double)",
+		"glVertexAttribL3dv(int,[D,int)",
+		"glVertexAttribL3dv(int,java.nio.DoubleBuffer)",
+		"glVertexAttribL3i64NV(int,long,long,long)",
+		"glVertexAttribL3i64vNV(int,[J,int)",
+		"glVertexAttribL3i64vNV(int,java.nio.LongBuffer)",
+		"glVertexAttribL3ui64NV(int,long,long,long)",
+		"glVertexAttribL3ui64vNV(int,[J,int)",
+		"glVertexAttribL3ui64vNV(int,java.nio.LongBuffer)",
+		"glVertexAttribL4d(int,double,double,double,double)",
+		"glVertexAttribL4dv(int,[D,int)",
+		"glVertexAttribL4dv(int,java.nio.DoubleBuffer)",
+		"glVertexAttribL4i64NV(int,long,long,long,long)",
+		"glVertexAttribL4i64vNV(int,[J,int)",
+		"glVertexAttribL4i64vNV(int,java.nio.LongBuffer)",
+		"glVertexAttribL4ui64NV(int,long,long,long,long)",
+		"glVertexAttribL4ui64vNV(int,[J,int)",
+		"glVertexAttribL4ui64vNV(int,java.nio.LongBuffer)",
+		"glVertexAttribLFormatNV(int,int,int,int)",
+		"glVertexAttribLPointer(int,int,int,int,long)",
+		"glVertexAttribParameteriAMD(int,int,int)",
+		"glVertexAttribPointer(com.jogamp.opengl.GLArrayData)",
+		"glVertexAttribPointer(int,int,int,boolean,int,java.nio.Buffer)",
+		"glVertexAttribPointer(int,int,int,boolean,int,long)",
+		"glVertexAttribPointerARB(int,int,int,boolean,int,java.nio.Buffer)",
+		"glVertexAttribPointerARB(int,int,int,boolean,int,long)",
+		"glVertexAttribs1hv(int,int,[S,int)",
+		"glVertexAttribs1hv(int,int,java.nio.ShortBuffer)",
+		"glVertexAttribs2hv(int,int,[S,int)",
+		"glVertexAttribs2hv(int,int,java.nio.ShortBuffer)",
+		"glVertexAttribs3hv(int,int,[S,int)",
+		"glVertexAttribs3hv(int,int,java.nio.ShortBuffer)",
+		"glVertexAttribs4hv(int,int,[S,int)",
+		"glVertexAttribs4hv(int,int,java.nio.ShortBuffer)",
+		"glVertexBlendARB(int)",
+		"glVertexFormatNV(int,int,int)",
+		"glVertexPointer(com.jogamp.opengl.GLArrayData)",
+		"glVertexPointer(int,int,int,java.nio.Buffer)",
+		"glVertexPointer(int,int,int,long)",
+		"glVertexWeightPointerEXT(int,int,int,java.nio.Buffer)",
+		"glVertexWeightPointerEXT(int,int,int,long)",
+		"glVertexWeightfEXT(float)",
+		"glVertexWeightfvEXT([F,int)",
+		"glVertexWeightfvEXT(java.nio.FloatBuffer)",
+		"glVertexWeighth(short)",
+		"glVertexWeighthv([S,int)",
+		"glVertexWeighthv(java.nio.ShortBuffer)",
+		"glVideoCaptureNV(int,[I,int,[J,int)",
+		"glVideoCaptureNV(int,java.nio.IntBuffer,java.nio.LongBuffer)",
+		"glVideoCaptureStreamParameterdvNV(int,int,int,[D,int)",
+		"glVideoCaptureStreamParameterdvNV(int,int,int,java.nio.DoubleBuffer)",
+		"glVideoCaptureStreamParameterfvNV(int,int,int,[F,int)",
+		"glVideoCaptureStreamParameterfvNV(int,int,int,java.nio.FloatBuffer)",
+		"glVideoCaptureStreamParameterivNV(int,int,int,[I,int)",
+		"glVideoCaptureStreamParameterivNV(int,int,int,java.nio.IntBuffer)",
+		"glViewport(int,int,int,int)",
+		"glWeightPointerARB(int,int,int,java.nio.Buffer)",
+		"glWeightPointerARB(int,int,int,long)",
+		"glWeightbvARB(int,[B,int)",
+		"glWeightbvARB(int,java.nio.ByteBuffer)",
+		"glWeightdvARB(int,[D,int)",
+		"glWeightdvARB(int,java.nio.DoubleBuffer)",
+		"glWeightfvARB(int,[F,int)",
+		"glWeightfvARB(int,java.nio.FloatBuffer)",
+		"glWeightivARB(int,[I,int)",
+		"glWeightivARB(int,java.nio.IntBuffer)",
+		"glWeightsvARB(int,[S,int)",
+		"glWeightsvARB(int,java.nio.ShortBuffer)",
+		"glWeightubvARB(int,[B,int)",
+		"glWeightubvARB(int,java.nio.ByteBuffer)",
+		"glWeightuivARB(int,[I,int)",
+		"glWeightuivARB(int,java.nio.IntBuffer)",
+		"glWeightusvARB(int,[S,int)",
+		"glWeightusvARB(int,java.nio.ShortBuffer)",
+		"glWindowPos2d(double,double)",
+		"glWindowPos2dv([D,int)",
+		"glWindowPos2dv(java.nio.DoubleBuffer)",
+		"glWindowPos2f(float,float)",
+		"glWindowPos2fv([F,int)",
+		"glWindowPos2fv(java.nio.FloatBuffer)",
+		"glWindowPos2i(int,int)",
+		"glWindowPos2iv([I,int)",
+		"glWindowPos2iv(java.nio.IntBuffer)",
+		"glWindowPos2s(short,short)",
+		"glWindowPos2sv([S,int)",
+		"glWindowPos2sv(java.nio.ShortBuffer)",
+		"glWindowPos3d(double,double,double)",
+		"glWindowPos3dv([D,int)",
+		"glWindowPos3dv(java.nio.DoubleBuffer)",
+		"glWindowPos3f(float,float,float)",
+		"glWindowPos3fv([F,int)",
+		"glWindowPos3fv(java.nio.FloatBuffer)",
+		"glWindowPos3i(int,int,int)",
+		"glWindowPos3iv([I,int)",
+		"glWindowPos3iv(java.nio.IntBuffer)",
+		"glWindowPos3s(short,short,short)",
+		"glWindowPos3sv([S,int)",
+		"glWindowPos3sv(java.nio.ShortBuffer)",
+		"glWriteMaskEXT(int,int,int,int,int,int)",
+		"hasBasicFBOSupport()",
+		"hasFullFBOSupport()",
+		"hasGLSL()",
+		"isExtensionAvailable(java.lang.String)",
+		"isFunctionAvailable(java.lang.String)",
+		"isGL()",
+		"isGL2()",
+		"isGL2ES1()",
+		"isGL2ES2()",
+		"isGL2ES3()",
+		"isGL2GL3()",
+		"isGL3()",
+		"isGL3ES3()",
+		"isGL3bc()",
+		"isGL3core()",
+		"isGL4()",
+		"isGL4ES3()",
+		"isGL4bc()",
+		"isGL4core()",
+		"isGLES()",
+		"isGLES1()",
+		"isGLES2()",
+		"isGLES2Compatible()",
+		"isGLES3()",
+		"isGLES31Compatible()",
+		"isGLES32Compatible()",
+		"isGLES3Compatible()",
+		"isGLcore()",
+		"isNPOTTextureAvailable()",
+		"isPBOPackBound()",
+		"isPBOUnpackBound()",
+		"isTextureFormatBGRA8888Available()",
+		"isVBOArrayBound()",
+		"isVBOElementArrayBound()",
+		"mapBuffer(int,int)",
+		"mapBufferRange(int,long,long,int)",
+		"mapNamedBufferEXT(int,int)",
+		"mapNamedBufferRangeEXT(int,long,long,int)",
+		"setSwapInterval(int)",
+	};
+
+	// Name and parameter types of method id.
+	public static String	getSignature(int id)
+	{
+		return SIGNATURES[id];
+	}
+
+	// Called first by every method. Return true to have invoke() called.
+	protected boolean	call(int id)
+	{
+		return false;
+	}
+
+	// Called with the boxed arguments (null if none) when call() is true.
+	protected Object	invoke(int id, Object[] args)
+	{
+		return null;
+	}
+
+	public int getBoundBuffer(int a0)
+	{ return (call(0) ? ((Number)invoke(0, new Object[] { a0 })).intValue() : 0); }
+	public int getBoundFramebuffer(int a0)
+	{ return (call(1) ? ((Number)invoke(1, new Object[] { a0 })).intValue() : 0); }
+	public com.jogamp.opengl.GLBufferStorage getBufferStorage(int a0)
+	{ return (call(2) ? (com.jogamp.opengl.GLBufferStorage)invoke(2, new Object[] { a0 }) : null); }
+	public com.jogamp.opengl.GLContext getContext()
+	{ return (call(3) ? (com.jogamp.opengl.GLContext)invoke(3, null) : null); }
+	public int getDefaultDrawFramebuffer()
+	{ return (call(4) ? ((Number)invoke(4, null)).intValue() : 0); }
+	public int getDefaultReadBuffer()
+	{ return (call(5) ? ((Number)invoke(5, null)).intValue() : 0); }
+	public int getDefaultReadFramebuffer()
+	{ return (call(6) ? ((Number)invoke(6, null)).intValue() : 0); }
+	public com.jogamp.opengl.GL getDownstreamGL()
+	{ return (call(7) ? (com.jogamp.opengl.GL)invoke(7, null) : this); }
+	public java.lang.Object getExtension(java.lang.String a0)
+	{ return (call(8) ? invoke(8, new Object[] { a0 }) : this); }
+	public com.jogamp.opengl.GL getGL()
+	{ return (call(9) ? (com.jogamp.opengl.GL)invoke(9, null) : this); }
+	public com.jogamp.opengl.GL2 getGL2()
+	{ return (call(10) ? (com.jogamp.opengl.GL2)invoke(10, null) : this); }
+	public com.jogamp.opengl.GL2ES1 getGL2ES1()
+	{ return (call(11) ? (com.jogamp.opengl.GL2ES1)invoke(11, null) : this); }
+	public com.jogamp.opengl.GL2ES2 getGL2ES2()
+	{ return (call(12) ? (com.jogamp.opengl.GL2ES2)invoke(12, null) : this); }
+	public com.jogamp.opengl.GL2ES3 getGL2ES3()
+	{ return (call(13) ? (com.jogamp.opengl.GL2ES3)invoke(13, null) : this); }
+	public com.jogamp.opengl.GL2GL3 getGL2GL3()
+	{ return (call(14) ? (com.jogamp.opengl.GL2GL3)invoke(14, null) : this); }
+	public com.jogamp.opengl.GL3 getGL3()
+	{ return (call(15) ? (com.jogamp.opengl.GL3)invoke(15, null) : null); }
+	public com.jogamp.opengl.GL3ES3 getGL3ES3()
+	{ return (call(16) ? (com.jogamp.opengl.GL3ES3)invoke(16, null) : null); }
+	public com.jogamp.opengl.GL3bc getGL3bc()
+	{ return (call(17) ? (com.jogamp.opengl.GL3bc)invoke(17, null) : null); }
+	public com.jogamp.opengl.GL4 getGL4()
+	{ return (call(18) ? (com.jogamp.opengl.GL4)invoke(18, null) : null); }
+	public com.jogamp.opengl.GL4ES3 getGL4ES3()
+	{ return (call(19) ? (com.jogamp.opengl.GL4ES3)invoke(19, null) : null); }
+	public com.jogamp.opengl.GL4bc getGL4bc()
+	{ return (call(20) ? (com.jogamp.opengl.GL4bc)invoke(20, null) : null); }
+	public com.jogamp.opengl.GLES1 getGLES1()
+	{ return (call(21) ? (com.jogamp.opengl.GLES1)invoke(21, null) : null); }
+	public com.jogamp.opengl.GLES2 getGLES2()
+	{ return (call(22) ? (com.jogamp.opengl.GLES2)invoke(22, null) : null); }
+	public com.jogamp.opengl.GLES3 getGLES3()
+	{ return (call(23) ? (com.jogamp.opengl.GLES3)invoke(23, null) : null); }
+	public com.jogamp.opengl.GLProfile getGLProfile()
+	{ return (call(24) ? (com.jogamp.opengl.GLProfile)invoke(24, null) : null); }
+	public int getMaxRenderbufferSamples()
+	{ return (call(25) ? ((Number)invoke(25, null)).intValue() : 0); }
+	public java.lang.Object getPlatformGLExtensions()
+	{ return (call(26) ? invoke(26, null) : this); }
+	public com.jogamp.opengl.GL getRootGL()
+	{ return (call(27) ? (com.jogamp.opengl.GL)invoke(27, null) : this); }
+	public int getSwapInterval()
+	{ return (call(28) ? ((Number)invoke(28, null)).intValue() : 0); }
+	public void glAccum(int a0, float a1)
+	{ if (call(29)) invoke(29, new Object[] { a0, a1 }); }
+	public void glActiveShaderProgram(int a0, int a1)
+	{ if (call(30)) invoke(30, new Object[] { a0, a1 }); }
+	public void glActiveStencilFaceEXT(int a0)
+	{ if (call(31)) invoke(31, new Object[] { a0 }); }
+	public void glActiveTexture(int a0)
+	{ if (call(32)) invoke(32, new Object[] { a0 }); }
+	public void glAlphaFunc(int a0, float a1)
+	{ if (call(33)) invoke(33, new Object[] { a0, a1 }); }
+	public void glApplyFramebufferAttachmentCMAAINTEL()
+	{ if (call(34)) invoke(34, null); }
+	public void glApplyTextureEXT(int a0)
+	{ if (call(35)) invoke(35, new Object[] { a0 }); }
+	public boolean glAreTexturesResident(int a0, int[] a1, int a2, byte[] a3, int a4)
+	{ return (call(36) ? Boolean.TRUE.equals(invoke(36, new Object[] { a0, a1, a2, a3, a4 })) : false); }
+	public boolean glAreTexturesResident(int a0, java.nio.IntBuffer a1, java.nio.ByteBuffer a2)
+	{ return (call(37) ? Boolean.TRUE.equals(invoke(37, new Object[] { a0, a1, a2 })) : false); }
+	public void glArrayElement(int a0)
+	{ if (call(38)) invoke(38, new Object[] { a0 }); }
+	public void glAttachObjectARB(long a0, long a1)
+	{ if (call(39)) invoke(39, new Object[] { a0, a1 }); }
+	public void glAttachShader(int a0, int a1)
+	{ if (call(40)) invoke(40, new Object[] { a0, a1 }); }
+	public void glBegin(int a0)
+	{ if (call(41)) invoke(41, new Object[] { a0 }); }
+	public void glBeginConditionalRender(int a0, int a1)
+	{ if (call(42)) invoke(42, new Object[] { a0, a1 }); }
+	public void glBeginConditionalRenderNVX(int a0)
+	{ if (call(43)) invoke(43, new Object[] { a0 }); }
+	public void glBeginOcclusionQueryNV(int a0)
+	{ if (call(44)) invoke(44, new Object[] { a0 }); }
+	public void glBeginPerfMonitorAMD(int a0)
+	{ if (call(45)) invoke(45, new Object[] { a0 }); }
+	public void glBeginPerfQueryINTEL(int a0)
+	{ if (call(46)) invoke(46, new Object[] { a0 }); }
+	public void glBeginQuery(int a0, int a1)
+	{ if (call(47)) invoke(47, new Object[] { a0, a1 }); }
+	public void glBeginQueryIndexed(int a0, int a1, int a2)
+	{ if (call(48)) invoke(48, new Object[] { a0, a1, a2 }); }
+	public void glBeginTransformFeedback(int a0)
+	{ if (call(49)) invoke(49, new Object[] { a0 }); }
+	public void glBeginVertexShaderEXT()
+	{ if (call(50)) invoke(50, null); }
+	public void glBeginVideoCaptureNV(int a0)
+	{ if (call(51)) invoke(51, new Object[] { a0 }); }
+	public void glBindAttribLocation(int a0, int a1, java.lang.String a2)
+	{ if (call(52)) invoke(52, new Object[] { a0, a1, a2 }); }
+	public void glBindBuffer(int a0, int a1)
+	{ if (call(53)) invoke(53, new Object[] { a0, a1 }); }
+	public void glBindBufferBase(int a0, int a1, int a2)
+	{ if (call(54)) invoke(54, new Object[] { a0, a1, a2 }); }
+	public void glBindBufferRange(int a0, int a1, int a2, long a3, long a4)
+	{ if (call(55)) invoke(55, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glBindFragDataLocation(int a0, int a1, java.lang.String a2)
+	{ if (call(56)) invoke(56, new Object[] { a0, a1, a2 }); }
+	public void glBindFramebuffer(int a0, int a1)
+	{ if (call(57)) invoke(57, new Object[] { a0, a1 }); }
+	public void glBindImageTexture(int a0, int a1, int a2, boolean a3, int a4, int a5, int a6)
+	{ if (call(58)) invoke(58, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public int glBindLightParameterEXT(int a0, int a1)
+	{ return (call(59) ? ((Number)invoke(59, new Object[] { a0, a1 })).intValue() : 0); }
+	public int glBindMaterialParameterEXT(int a0, int a1)
+	{ return (call(60) ? ((Number)invoke(60, new Object[] { a0, a1 })).intValue() : 0); }
+	public void glBindMultiTextureEXT(int a0, int a1, int a2)
+	{ if (call(61)) invoke(61, new Object[] { a0, a1, a2 }); }
+	public int glBindParameterEXT(int a0)
+	{ return (call(62) ? ((Number)invoke(62, new Object[] { a0 })).intValue() : 0); }
+	public void glBindProgramARB(int a0, int a1)
+	{ if (call(63)) invoke(63, new Object[] { a0, a1 }); }
+	public void glBindProgramPipeline(int a0)
+	{ if (call(64)) invoke(64, new Object[] { a0 }); }
+	public void glBindRenderbuffer(int a0, int a1)
+	{ if (call(65)) invoke(65, new Object[] { a0, a1 }); }
+	public int glBindTexGenParameterEXT(int a0, int a1, int a2)
+	{ return (call(66) ? ((Number)invoke(66, new Object[] { a0, a1, a2 })).intValue() : 0); }
+	public void glBindTexture(int a0, int a1)
+	{ if (call(67)) invoke(67, new Object[] { a0, a1 }); }
+	public int glBindTextureUnitParameterEXT(int a0, int a1)
+	{ return (call(68) ? ((Number)invoke(68, new Object[] { a0, a1 })).intValue() : 0); }
+	public void glBindTransformFeedback(int a0, int a1)
+	{ if (call(69)) invoke(69, new Object[] { a0, a1 }); }
+	public void glBindTransformFeedbackNV(int a0, int a1)
+	{ if (call(70)) invoke(70, new Object[] { a0, a1 }); }
+	public void glBindVertexArray(int a0)
+	{ if (call(71)) invoke(71, new Object[] { a0 }); }
+	public void glBindVertexShaderEXT(int a0)
+	{ if (call(72)) invoke(72, new Object[] { a0 }); }
+	public void glBindVideoCaptureStreamBufferNV(int a0, int a1, int a2, long a3)
+	{ if (call(73)) invoke(73, new Object[] { a0, a1, a2, a3 }); }
+	public void glBindVideoCaptureStreamTextureNV(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(74)) invoke(74, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glBitmap(int a0, int a1, float a2, float a3, float a4, float a5, byte[] a6, int a7)
+	{ if (call(75)) invoke(75, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glBitmap(int a0, int a1, float a2, float a3, float a4, float a5, java.nio.ByteBuffer a6)
+	{ if (call(76)) invoke(76, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glBitmap(int a0, int a1, float a2, float a3, float a4, float a5, long a6)
+	{ if (call(77)) invoke(77, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glBlendBarrier()
+	{ if (call(78)) invoke(78, null); }
+	public void glBlendColor(float a0, float a1, float a2, float a3)
+	{ if (call(79)) invoke(79, new Object[] { a0, a1, a2, a3 }); }
+	public void glBlendEquation(int a0)
+	{ if (call(80)) invoke(80, new Object[] { a0 }); }
+	public void glBlendEquationIndexedAMD(int a0, int a1)
+	{ if (call(81)) invoke(81, new Object[] { a0, a1 }); }
+	public void glBlendEquationSeparate(int a0, int a1)
+	{ if (call(82)) invoke(82, new Object[] { a0, a1 }); }
+	public void glBlendEquationSeparateIndexedAMD(int a0, int a1, int a2)
+	{ if (call(83)) invoke(83, new Object[] { a0, a1, a2 }); }
+	public void glBlendEquationSeparatei(int a0, int a1, int a2)
+	{ if (call(84)) invoke(84, new Object[] { a0, a1, a2 }); }
+	public void glBlendEquationi(int a0, int a1)
+	{ if (call(85)) invoke(85, new Object[] { a0, a1 }); }
+	public void glBlendFunc(int a0, int a1)
+	{ if (call(86)) invoke(86, new Object[] { a0, a1 }); }
+	public void glBlendFuncIndexedAMD(int a0, int a1, int a2)
+	{ if (call(87)) invoke(87, new Object[] { a0, a1, a2 }); }
+	public void glBlendFuncSeparate(int a0, int a1, int a2, int a3)
+	{ if (call(88)) invoke(88, new Object[] { a0, a1, a2, a3 }); }
+	public void glBlendFuncSeparateIndexedAMD(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(89)) invoke(89, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glBlendFuncSeparatei(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(90)) invoke(90, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glBlendFunci(int a0, int a1, int a2)
+	{ if (call(91)) invoke(91, new Object[] { a0, a1, a2 }); }
+	public void glBlitFramebuffer(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9)
+	{ if (call(92)) invoke(92, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9 }); }
+	public void glBufferAddressRangeNV(int a0, int a1, long a2, long a3)
+	{ if (call(93)) invoke(93, new Object[] { a0, a1, a2, a3 }); }
+	public void glBufferData(int a0, long a1, java.nio.Buffer a2, int a3)
+	{ if (call(94)) invoke(94, new Object[] { a0, a1, a2, a3 }); }
+	public void glBufferPageCommitmentARB(int a0, long a1, long a2, boolean a3)
+	{ if (call(95)) invoke(95, new Object[] { a0, a1, a2, a3 }); }
+	public void glBufferParameteri(int a0, int a1, int a2)
+	{ if (call(96)) invoke(96, new Object[] { a0, a1, a2 }); }
+	public void glBufferSubData(int a0, long a1, long a2, java.nio.Buffer a3)
+	{ if (call(97)) invoke(97, new Object[] { a0, a1, a2, a3 }); }
+	public void glCallCommandListNV(int a0)
+	{ if (call(98)) invoke(98, new Object[] { a0 }); }
+	public void glCallList(int a0)
+	{ if (call(99)) invoke(99, new Object[] { a0 }); }
+	public void glCallLists(int a0, int a1, java.nio.Buffer a2)
+	{ if (call(100)) invoke(100, new Object[] { a0, a1, a2 }); }
+	public int glCheckFramebufferStatus(int a0)
+	{ return (call(101) ? ((Number)invoke(101, new Object[] { a0 })).intValue() : 0); }
+	public int glCheckNamedFramebufferStatusEXT(int a0, int a1)
+	{ return (call(102) ? ((Number)invoke(102, new Object[] { a0, a1 })).intValue() : 0); }
+	public void glClampColor(int a0, int a1)
+	{ if (call(103)) invoke(103, new Object[] { a0, a1 }); }
+	public void glClear(int a0)
+	{ if (call(104)) invoke(104, new Object[] { a0 }); }
+	public void glClearAccum(float a0, float a1, float a2, float a3)
+	{ if (call(105)) invoke(105, new Object[] { a0, a1, a2, a3 }); }
+	public void glClearBufferData(int a0, int a1, int a2, int a3, java.nio.Buffer a4)
+	{ if (call(106)) invoke(106, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glClearBufferSubData(int a0, int a1, long a2, long a3, int a4, int a5, java.nio.Buffer a6)
+	{ if (call(107)) invoke(107, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glClearBufferfi(int a0, int a1, float a2, int a3)
+	{ if (call(108)) invoke(108, new Object[] { a0, a1, a2, a3 }); }
+	public void glClearBufferfv(int a0, int a1, float[] a2, int a3)
+	{ if (call(109)) invoke(109, new Object[] { a0, a1, a2, a3 }); }
+	public void glClearBufferfv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(110)) invoke(110, new Object[] { a0, a1, a2 }); }
+	public void glClearBufferiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(111)) invoke(111, new Object[] { a0, a1, a2, a3 }); }
+	public void glClearBufferiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(112)) invoke(112, new Object[] { a0, a1, a2 }); }
+	public void glClearBufferuiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(113)) invoke(113, new Object[] { a0, a1, a2, a3 }); }
+	public void glClearBufferuiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(114)) invoke(114, new Object[] { a0, a1, a2 }); }
+	public void glClearColor(float a0, float a1, float a2, float a3)
+	{ if (call(115)) invoke(115, new Object[] { a0, a1, a2, a3 }); }
+	public void glClearColorIi(int a0, int a1, int a2, int a3)
+	{ if (call(116)) invoke(116, new Object[] { a0, a1, a2, a3 }); }
+	public void glClearColorIui(int a0, int a1, int a2, int a3)
+	{ if (call(117)) invoke(117, new Object[] { a0, a1, a2, a3 }); }
+	public void glClearDepth(double a0)
+	{ if (call(118)) invoke(118, new Object[] { a0 }); }
+	public void glClearDepthf(float a0)
+	{ if (call(119)) invoke(119, new Object[] { a0 }); }
+	public void glClearIndex(float a0)
+	{ if (call(120)) invoke(120, new Object[] { a0 }); }
+	public void glClearNamedBufferData(int a0, int a1, int a2, int a3, java.nio.Buffer a4)
+	{ if (call(121)) invoke(121, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glClearNamedBufferSubData(int a0, int a1, long a2, long a3, int a4, int a5, java.nio.Buffer a6)
+	{ if (call(122)) invoke(122, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glClearStencil(int a0)
+	{ if (call(123)) invoke(123, new Object[] { a0 }); }
+	public void glClientActiveTexture(int a0)
+	{ if (call(124)) invoke(124, new Object[] { a0 }); }
+	public void glClientAttribDefaultEXT(int a0)
+	{ if (call(125)) invoke(125, new Object[] { a0 }); }
+	public void glClipPlane(int a0, double[] a1, int a2)
+	{ if (call(126)) invoke(126, new Object[] { a0, a1, a2 }); }
+	public void glClipPlane(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(127)) invoke(127, new Object[] { a0, a1 }); }
+	public void glClipPlanef(int a0, float[] a1, int a2)
+	{ if (call(128)) invoke(128, new Object[] { a0, a1, a2 }); }
+	public void glClipPlanef(int a0, java.nio.FloatBuffer a1)
+	{ if (call(129)) invoke(129, new Object[] { a0, a1 }); }
+	public void glColor3b(byte a0, byte a1, byte a2)
+	{ if (call(130)) invoke(130, new Object[] { a0, a1, a2 }); }
+	public void glColor3bv(byte[] a0, int a1)
+	{ if (call(131)) invoke(131, new Object[] { a0, a1 }); }
+	public void glColor3bv(java.nio.ByteBuffer a0)
+	{ if (call(132)) invoke(132, new Object[] { a0 }); }
+	public void glColor3d(double a0, double a1, double a2)
+	{ if (call(133)) invoke(133, new Object[] { a0, a1, a2 }); }
+	public void glColor3dv(double[] a0, int a1)
+	{ if (call(134)) invoke(134, new Object[] { a0, a1 }); }
+	public void glColor3dv(java.nio.DoubleBuffer a0)
+	{ if (call(135)) invoke(135, new Object[] { a0 }); }
+	public void glColor3f(float a0, float a1, float a2)
+	{ if (call(136)) invoke(136, new Object[] { a0, a1, a2 }); }
+	public void glColor3fv(float[] a0, int a1)
+	{ if (call(137)) invoke(137, new Object[] { a0, a1 }); }
+	public void glColor3fv(java.nio.FloatBuffer a0)
+	{ if (call(138)) invoke(138, new Object[] { a0 }); }
+	public void glColor3h(short a0, short a1, short a2)
+	{ if (call(139)) invoke(139, new Object[] { a0, a1, a2 }); }
+	public void glColor3hv(short[] a0, int a1)
+	{ if (call(140)) invoke(140, new Object[] { a0, a1 }); }
+	public void glColor3hv(java.nio.ShortBuffer a0)
+	{ if (call(141)) invoke(141, new Object[] { a0 }); }
+	public void glColor3i(int a0, int a1, int a2)
+	{ if (call(142)) invoke(142, new Object[] { a0, a1, a2 }); }
+	public void glColor3iv(int[] a0, int a1)
+	{ if (call(143)) invoke(143, new Object[] { a0, a1 }); }
+	public void glColor3iv(java.nio.IntBuffer a0)
+	{ if (call(144)) invoke(144, new Object[] { a0 }); }
+	public void glColor3s(short a0, short a1, short a2)
+	{ if (call(145)) invoke(145, new Object[] { a0, a1, a2 }); }
+	public void glColor3sv(short[] a0, int a1)
+	{ if (call(146)) invoke(146, new Object[] { a0, a1 }); }
+	public void glColor3sv(java.nio.ShortBuffer a0)
+	{ if (call(147)) invoke(147, new Object[] { a0 }); }
+	public void glColor3ub(byte a0, byte a1, byte a2)
+	{ if (call(148)) invoke(148, new Object[] { a0, a1, a2 }); }
+	public void glColor3ubv(byte[] a0, int a1)
+	{ if (call(149)) invoke(149, new Object[] { a0, a1 }); }
+	public void glColor3ubv(java.nio.ByteBuffer a0)
+	{ if (call(150)) invoke(150, new Object[] { a0 }); }
+	public void glColor3ui(int a0, int a1, int a2)
+	{ if (call(151)) invoke(151, new Object[] { a0, a1, a2 }); }
+	public void glColor3uiv(int[] a0, int a1)
+	{ if (call(152)) invoke(152, new Object[] { a0, a1 }); }
+	public void glColor3uiv(java.nio.IntBuffer a0)
+	{ if (call(153)) invoke(153, new Object[] { a0 }); }
+	public void glColor3us(short a0, short a1, short a2)
+	{ if (call(154)) invoke(154, new Object[] { a0, a1, a2 }); }
+	public void glColor3usv(short[] a0, int a1)
+	{ if (call(155)) invoke(155, new Object[] { a0, a1 }); }
+	public void glColor3usv(java.nio.ShortBuffer a0)
+	{ if (call(156)) invoke(156, new Object[] { a0 }); }
+	public void glColor4b(byte a0, byte a1, byte a2, byte a3)
+	{ if (call(157)) invoke(157, new Object[] { a0, a1, a2, a3 }); }
+	public void glColor4bv(byte[] a0, int a1)
+	{ if (call(158)) invoke(158, new Object[] { a0, a1 }); }
+	public void glColor4bv(java.nio.ByteBuffer a0)
+	{ if (call(159)) invoke(159, new Object[] { a0 }); }
+	public void glColor4d(double a0, double a1, double a2, double a3)
+	{ if (call(160)) invoke(160, new Object[] { a0, a1, a2, a3 }); }
+	public void glColor4dv(double[] a0, int a1)
+	{ if (call(161)) invoke(161, new Object[] { a0, a1 }); }
+	public void glColor4dv(java.nio.DoubleBuffer a0)
+	{ if (call(162)) invoke(162, new Object[] { a0 }); }
+	public void glColor4f(float a0, float a1, float a2, float a3)
+	{ if (call(163)) invoke(163, new Object[] { a0, a1, a2, a3 }); }
+	public void glColor4fv(float[] a0, int a1)
+	{ if (call(164)) invoke(164, new Object[] { a0, a1 }); }
+	public void glColor4fv(java.nio.FloatBuffer a0)
+	{ if (call(165)) invoke(165, new Object[] { a0 }); }
+	public void glColor4h(short a0, short a1, short a2, short a3)
+	{ if (call(166)) invoke(166, new Object[] { a0, a1, a2, a3 }); }
+	public void glColor4hv(short[] a0, int a1)
+	{ if (call(167)) invoke(167, new Object[] { a0, a1 }); }
+	public void glColor4hv(java.nio.ShortBuffer a0)
+	{ if (call(168)) invoke(168, new Object[] { a0 }); }
+	public void glColor4i(int a0, int a1, int a2, int a3)
+	{ if (call(169)) invoke(169, new Object[] { a0, a1, a2, a3 }); }
+	public void glColor4iv(int[] a0, int a1)
+	{ if (call(170)) invoke(170, new Object[] { a0, a1 }); }
+	public void glColor4iv(java.nio.IntBuffer a0)
+	{ if (call(171)) invoke(171, new Object[] { a0 }); }
+	public void glColor4s(short a0, short a1, short a2, short a3)
+	{ if (call(172)) invoke(172, new Object[] { a0, a1, a2, a3 }); }
+	public void glColor4sv(short[] a0, int a1)
+	{ if (call(173)) invoke(173, new Object[] { a0, a1 }); }
+	public void glColor4sv(java.nio.ShortBuffer a0)
+	{ if (call(174)) invoke(174, new Object[] { a0 }); }
+	public void glColor4ub(byte a0, byte a1, byte a2, byte a3)
+	{ if (call(175)) invoke(175, new Object[] { a0, a1, a2, a3 }); }
+	public void glColor4ubv(byte[] a0, int a1)
+	{ if (call(176)) invoke(176, new Object[] { a0, a1 }); }
+	public void glColor4ubv(java.nio.ByteBuffer a0)
+	{ if (call(177)) invoke(177, new Object[] { a0 }); }
+	public void glColor4ui(int a0, int a1, int a2, int a3)
+	{ if (call(178)) invoke(178, new Object[] { a0, a1, a2, a3 }); }
+	public void glColor4uiv(int[] a0, int a1)
+	{ if (call(179)) invoke(179, new Object[] { a0, a1 }); }
+	public void glColor4uiv(java.nio.IntBuffer a0)
+	{ if (call(180)) invoke(180, new Object[] { a0 }); }
+	public void glColor4us(short a0, short a1, short a2, short a3)
+	{ if (call(181)) invoke(181, new Object[] { a0, a1, a2, a3 }); }
+	public void glColor4usv(short[] a0, int a1)
+	{ if (call(182)) invoke(182, new Object[] { a0, a1 }); }
+	public void glColor4usv(java.nio.ShortBuffer a0)
+	{ if (call(183)) invoke(183, new Object[] { a0 }); }
+	public void glColorFormatNV(int a0, int a1, int a2)
+	{ if (call(184)) invoke(184, new Object[] { a0, a1, a2 }); }
+	public void glColorMask(boolean a0, boolean a1, boolean a2, boolean a3)
+	{ if (call(185)) invoke(185, new Object[] { a0, a1, a2, a3 }); }
+	public void glColorMaskIndexed(int a0, boolean a1, boolean a2, boolean a3, boolean a4)
+	{ if (call(186)) invoke(186, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glColorMaski(int a0, boolean a1, boolean a2, boolean a3, boolean a4)
+	{ if (call(187)) invoke(187, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glColorMaterial(int a0, int a1)
+	{ if (call(188)) invoke(188, new Object[] { a0, a1 }); }
+	public void glColorPointer(com.jogamp.opengl.GLArrayData a0)
+	{ if (call(189)) invoke(189, new Object[] { a0 }); }
+	public void glColorPointer(int a0, int a1, int a2, java.nio.Buffer a3)
+	{ if (call(190)) invoke(190, new Object[] { a0, a1, a2, a3 }); }
+	public void glColorPointer(int a0, int a1, int a2, long a3)
+	{ if (call(191)) invoke(191, new Object[] { a0, a1, a2, a3 }); }
+	public void glColorSubTable(int a0, int a1, int a2, int a3, int a4, java.nio.Buffer a5)
+	{ if (call(192)) invoke(192, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glColorSubTable(int a0, int a1, int a2, int a3, int a4, long a5)
+	{ if (call(193)) invoke(193, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glColorTable(int a0, int a1, int a2, int a3, int a4, java.nio.Buffer a5)
+	{ if (call(194)) invoke(194, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glColorTable(int a0, int a1, int a2, int a3, int a4, long a5)
+	{ if (call(195)) invoke(195, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glColorTableParameterfv(int a0, int a1, float[] a2, int a3)
+	{ if (call(196)) invoke(196, new Object[] { a0, a1, a2, a3 }); }
+	public void glColorTableParameterfv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(197)) invoke(197, new Object[] { a0, a1, a2 }); }
+	public void glColorTableParameteriv(int a0, int a1, int[] a2, int a3)
+	{ if (call(198)) invoke(198, new Object[] { a0, a1, a2, a3 }); }
+	public void glColorTableParameteriv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(199)) invoke(199, new Object[] { a0, a1, a2 }); }
+	public void glCommandListSegmentsNV(int a0, int a1)
+	{ if (call(200)) invoke(200, new Object[] { a0, a1 }); }
+	public void glCompileCommandListNV(int a0)
+	{ if (call(201)) invoke(201, new Object[] { a0 }); }
+	public void glCompileShader(int a0)
+	{ if (call(202)) invoke(202, new Object[] { a0 }); }
+	public void glCompileShaderARB(long a0)
+	{ if (call(203)) invoke(203, new Object[] { a0 }); }
+	public void glCompressedMultiTexImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, java.nio.Buffer a7)
+	{ if (call(204)) invoke(204, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glCompressedMultiTexImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, java.nio.Buffer a8)
+	{ if (call(205)) invoke(205, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glCompressedMultiTexImage3DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, java.nio.Buffer a9)
+	{ if (call(206)) invoke(206, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9 }); }
+	public void glCompressedMultiTexSubImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, java.nio.Buffer a7)
+	{ if (call(207)) invoke(207, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glCompressedMultiTexSubImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, java.nio.Buffer a9)
+	{ if (call(208)) invoke(208, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9 }); }
+	public void glCompressedMultiTexSubImage3DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, int a10, java.nio.Buffer a11)
+	{ if (call(209)) invoke(209, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11 }); }
+	public void glCompressedTexImage1D(int a0, int a1, int a2, int a3, int a4, int a5, java.nio.Buffer a6)
+	{ if (call(210)) invoke(210, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glCompressedTexImage1D(int a0, int a1, int a2, int a3, int a4, int a5, long a6)
+	{ if (call(211)) invoke(211, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glCompressedTexImage2D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, java.nio.Buffer a7)
+	{ if (call(212)) invoke(212, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glCompressedTexImage2D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, long a7)
+	{ if (call(213)) invoke(213, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glCompressedTexImage3D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, java.nio.Buffer a8)
+	{ if (call(214)) invoke(214, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glCompressedTexImage3D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, long a8)
+	{ if (call(215)) invoke(215, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glCompressedTexSubImage1D(int a0, int a1, int a2, int a3, int a4, int a5, java.nio.Buffer a6)
+	{ if (call(216)) invoke(216, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glCompressedTexSubImage1D(int a0, int a1, int a2, int a3, int a4, int a5, long a6)
+	{ if (call(217)) invoke(217, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glCompressedTexSubImage2D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, java.nio.Buffer a8)
+	{ if (call(218)) invoke(218, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glCompressedTexSubImage2D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, long a8)
+	{ if (call(219)) invoke(219, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glCompressedTexSubImage3D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, java.nio.Buffer a10)
+	{ if (call(220)) invoke(220, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10 }); }
+	public void glCompressedTexSubImage3D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, long a10)
+	{ if (call(221)) invoke(221, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10 }); }
+	public void glCompressedTextureImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, java.nio.Buffer a7)
+	{ if (call(222)) invoke(222, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glCompressedTextureImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, java.nio.Buffer a8)
+	{ if (call(223)) invoke(223, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glCompressedTextureImage3DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, java.nio.Buffer a9)
+	{ if (call(224)) invoke(224, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9 }); }
+	public void glCompressedTextureSubImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, java.nio.Buffer a7)
+	{ if (call(225)) invoke(225, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glCompressedTextureSubImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, java.nio.Buffer a9)
+	{ if (call(226)) invoke(226, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9 }); }
+	public void glCompressedTextureSubImage3DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, int a10, java.nio.Buffer a11)
+	{ if (call(227)) invoke(227, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11 }); }
+	public void glConservativeRasterParameterfNV(int a0, float a1)
+	{ if (call(228)) invoke(228, new Object[] { a0, a1 }); }
+	public void glConvolutionFilter1D(int a0, int a1, int a2, int a3, int a4, java.nio.Buffer a5)
+	{ if (call(229)) invoke(229, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glConvolutionFilter1D(int a0, int a1, int a2, int a3, int a4, long a5)
+	{ if (call(230)) invoke(230, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glConvolutionFilter2D(int a0, int a1, int a2, int a3, int a4, int a5, java.nio.Buffer a6)
+	{ if (call(231)) invoke(231, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glConvolutionFilter2D(int a0, int a1, int a2, int a3, int a4, int a5, long a6)
+	{ if (call(232)) invoke(232, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glConvolutionParameterf(int a0, int a1, float a2)
+	{ if (call(233)) invoke(233, new Object[] { a0, a1, a2 }); }
+	public void glConvolutionParameterfv(int a0, int a1, float[] a2, int a3)
+	{ if (call(234)) invoke(234, new Object[] { a0, a1, a2, a3 }); }
+	public void glConvolutionParameterfv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(235)) invoke(235, new Object[] { a0, a1, a2 }); }
+	public void glConvolutionParameteri(int a0, int a1, int a2)
+	{ if (call(236)) invoke(236, new Object[] { a0, a1, a2 }); }
+	public void glConvolutionParameteriv(int a0, int a1, int[] a2, int a3)
+	{ if (call(237)) invoke(237, new Object[] { a0, a1, a2, a3 }); }
+	public void glConvolutionParameteriv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(238)) invoke(238, new Object[] { a0, a1, a2 }); }
+	public void glCopyBufferSubData(int a0, int a1, long a2, long a3, long a4)
+	{ if (call(239)) invoke(239, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glCopyColorSubTable(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(240)) invoke(240, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glCopyColorTable(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(241)) invoke(241, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glCopyConvolutionFilter1D(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(242)) invoke(242, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glCopyConvolutionFilter2D(int a0, int a1, int a2, int a3, int a4, int a5)
+	{ if (call(243)) invoke(243, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glCopyImageSubData(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, int a10, int a11, int a12, int a13, int a14)
+	{ if (call(244)) invoke(244, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14 }); }
+	public void glCopyImageSubDataNV(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, int a10, int a11, int a12, int a13, int a14)
+	{ if (call(245)) invoke(245, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14 }); }
+	public void glCopyMultiTexImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7)
+	{ if (call(246)) invoke(246, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glCopyMultiTexImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8)
+	{ if (call(247)) invoke(247, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glCopyMultiTexSubImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6)
+	{ if (call(248)) invoke(248, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glCopyMultiTexSubImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8)
+	{ if (call(249)) invoke(249, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glCopyMultiTexSubImage3DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9)
+	{ if (call(250)) invoke(250, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9 }); }
+	public void glCopyPixels(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(251)) invoke(251, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glCopyTexImage1D(int a0, int a1, int a2, int a3, int a4, int a5, int a6)
+	{ if (call(252)) invoke(252, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glCopyTexImage2D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7)
+	{ if (call(253)) invoke(253, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glCopyTexSubImage1D(int a0, int a1, int a2, int a3, int a4, int a5)
+	{ if (call(254)) invoke(254, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glCopyTexSubImage2D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7)
+	{ if (call(255)) invoke(255, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glCopyTexSubImage3D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8)
+	{ if (call(256)) invoke(256, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glCopyTextureImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7)
+	{ if (call(257)) invoke(257, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glCopyTextureImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8)
+	{ if (call(258)) invoke(258, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glCopyTextureSubImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6)
+	{ if (call(259)) invoke(259, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glCopyTextureSubImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8)
+	{ if (call(260)) invoke(260, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glCopyTextureSubImage3DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9)
+	{ if (call(261)) invoke(261, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9 }); }
+	public void glCoverageModulationNV(int a0)
+	{ if (call(262)) invoke(262, new Object[] { a0 }); }
+	public void glCoverageModulationTableNV(int a0, float[] a1, int a2)
+	{ if (call(263)) invoke(263, new Object[] { a0, a1, a2 }); }
+	public void glCoverageModulationTableNV(int a0, java.nio.FloatBuffer a1)
+	{ if (call(264)) invoke(264, new Object[] { a0, a1 }); }
+	public void glCreateCommandListsNV(int a0, int[] a1, int a2)
+	{ if (call(265)) invoke(265, new Object[] { a0, a1, a2 }); }
+	public void glCreateCommandListsNV(int a0, java.nio.IntBuffer a1)
+	{ if (call(266)) invoke(266, new Object[] { a0, a1 }); }
+	public void glCreatePerfQueryINTEL(int a0, int[] a1, int a2)
+	{ if (call(267)) invoke(267, new Object[] { a0, a1, a2 }); }
+	public void glCreatePerfQueryINTEL(int a0, java.nio.IntBuffer a1)
+	{ if (call(268)) invoke(268, new Object[] { a0, a1 }); }
+	public int glCreateProgram()
+	{ return (call(269) ? ((Number)invoke(269, null)).intValue() : 0); }
+	public long glCreateProgramObjectARB()
+	{ return (call(270) ? ((Number)invoke(270, null)).longValue() : 0L); }
+	public int glCreateShader(int a0)
+	{ return (call(271) ? ((Number)invoke(271, new Object[] { a0 })).intValue() : 0); }
+	public long glCreateShaderObjectARB(int a0)
+	{ return (call(272) ? ((Number)invoke(272, new Object[] { a0 })).longValue() : 0L); }
+	public int glCreateShaderProgramv(int a0, int a1, java.lang.String[] a2)
+	{ return (call(273) ? ((Number)invoke(273, new Object[] { a0, a1, a2 })).intValue() : 0); }
+	public void glCreateStatesNV(int a0, int[] a1, int a2)
+	{ if (call(274)) invoke(274, new Object[] { a0, a1, a2 }); }
+	public void glCreateStatesNV(int a0, java.nio.IntBuffer a1)
+	{ if (call(275)) invoke(275, new Object[] { a0, a1 }); }
+	public void glCullFace(int a0)
+	{ if (call(276)) invoke(276, new Object[] { a0 }); }
+	public void glCullParameterdvEXT(int a0, double[] a1, int a2)
+	{ if (call(277)) invoke(277, new Object[] { a0, a1, a2 }); }
+	public void glCullParameterdvEXT(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(278)) invoke(278, new Object[] { a0, a1 }); }
+	public void glCullParameterfvEXT(int a0, float[] a1, int a2)
+	{ if (call(279)) invoke(279, new Object[] { a0, a1, a2 }); }
+	public void glCullParameterfvEXT(int a0, java.nio.FloatBuffer a1)
+	{ if (call(280)) invoke(280, new Object[] { a0, a1 }); }
+	public void glCurrentPaletteMatrixARB(int a0)
+	{ if (call(281)) invoke(281, new Object[] { a0 }); }
+	public void glDebugMessageControl(int a0, int a1, int a2, int a3, int[] a4, int a5, boolean a6)
+	{ if (call(282)) invoke(282, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glDebugMessageControl(int a0, int a1, int a2, int a3, java.nio.IntBuffer a4, boolean a5)
+	{ if (call(283)) invoke(283, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glDebugMessageEnableAMD(int a0, int a1, int a2, int[] a3, int a4, boolean a5)
+	{ if (call(284)) invoke(284, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glDebugMessageEnableAMD(int a0, int a1, int a2, java.nio.IntBuffer a3, boolean a4)
+	{ if (call(285)) invoke(285, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glDebugMessageInsert(int a0, int a1, int a2, int a3, int a4, java.lang.String a5)
+	{ if (call(286)) invoke(286, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glDebugMessageInsertAMD(int a0, int a1, int a2, int a3, java.lang.String a4)
+	{ if (call(287)) invoke(287, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glDeleteBuffers(int a0, int[] a1, int a2)
+	{ if (call(288)) invoke(288, new Object[] { a0, a1, a2 }); }
+	public void glDeleteBuffers(int a0, java.nio.IntBuffer a1)
+	{ if (call(289)) invoke(289, new Object[] { a0, a1 }); }
+	public void glDeleteCommandListsNV(int a0, int[] a1, int a2)
+	{ if (call(290)) invoke(290, new Object[] { a0, a1, a2 }); }
+	public void glDeleteCommandListsNV(int a0, java.nio.IntBuffer a1)
+	{ if (call(291)) invoke(291, new Object[] { a0, a1 }); }
+	public void glDeleteFramebuffers(int a0, int[] a1, int a2)
+	{ if (call(292)) invoke(292, new Object[] { a0, a1, a2 }); }
+	public void glDeleteFramebuffers(int a0, java.nio.IntBuffer a1)
+	{ if (call(293)) invoke(293, new Object[] { a0, a1 }); }
+	public void glDeleteLists(int a0, int a1)
+	{ if (call(294)) invoke(294, new Object[] { a0, a1 }); }
+	public void glDeleteNamesAMD(int a0, int a1, int[] a2, int a3)
+	{ if (call(295)) invoke(295, new Object[] { a0, a1, a2, a3 }); }
+	public void glDeleteNamesAMD(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(296)) invoke(296, new Object[] { a0, a1, a2 }); }
+	public void glDeleteObjectARB(long a0)
+	{ if (call(297)) invoke(297, new Object[] { a0 }); }
+	public void glDeleteOcclusionQueriesNV(int a0, int[] a1, int a2)
+	{ if (call(298)) invoke(298, new Object[] { a0, a1, a2 }); }
+	public void glDeleteOcclusionQueriesNV(int a0, java.nio.IntBuffer a1)
+	{ if (call(299)) invoke(299, new Object[] { a0, a1 }); }
+	public void glDeletePerfMonitorsAMD(int a0, int[] a1, int a2)
+	{ if (call(300)) invoke(300, new Object[] { a0, a1, a2 }); }
+	public void glDeletePerfMonitorsAMD(int a0, java.nio.IntBuffer a1)
+	{ if (call(301)) invoke(301, new Object[] { a0, a1 }); }
+	public void glDeletePerfQueryINTEL(int a0)
+	{ if (call(302)) invoke(302, new Object[] { a0 }); }
+	public void glDeleteProgram(int a0)
+	{ if (call(303)) invoke(303, new Object[] { a0 }); }
+	public void glDeleteProgramPipelines(int a0, int[] a1, int a2)
+	{ if (call(304)) invoke(304, new Object[] { a0, a1, a2 }); }
+	public void glDeleteProgramPipelines(int a0, java.nio.IntBuffer a1)
+	{ if (call(305)) invoke(305, new Object[] { a0, a1 }); }
+	public void glDeleteProgramsARB(int a0, int[] a1, int a2)
+	{ if (call(306)) invoke(306, new Object[] { a0, a1, a2 }); }
+	public void glDeleteProgramsARB(int a0, java.nio.IntBuffer a1)
+	{ if (call(307)) invoke(307, new Object[] { a0, a1 }); }
+	public void glDeleteQueries(int a0, int[] a1, int a2)
+	{ if (call(308)) invoke(308, new Object[] { a0, a1, a2 }); }
+	public void glDeleteQueries(int a0, java.nio.IntBuffer a1)
+	{ if (call(309)) invoke(309, new Object[] { a0, a1 }); }
+	public void glDeleteRenderbuffers(int a0, int[] a1, int a2)
+	{ if (call(310)) invoke(310, new Object[] { a0, a1, a2 }); }
+	public void glDeleteRenderbuffers(int a0, java.nio.IntBuffer a1)
+	{ if (call(311)) invoke(311, new Object[] { a0, a1 }); }
+	public void glDeleteShader(int a0)
+	{ if (call(312)) invoke(312, new Object[] { a0 }); }
+	public void glDeleteStatesNV(int a0, int[] a1, int a2)
+	{ if (call(313)) invoke(313, new Object[] { a0, a1, a2 }); }
+	public void glDeleteStatesNV(int a0, java.nio.IntBuffer a1)
+	{ if (call(314)) invoke(314, new Object[] { a0, a1 }); }
+	public void glDeleteTextures(int a0, int[] a1, int a2)
+	{ if (call(315)) invoke(315, new Object[] { a0, a1, a2 }); }
+	public void glDeleteTextures(int a0, java.nio.IntBuffer a1)
+	{ if (call(316)) invoke(316, new Object[] { a0, a1 }); }
+	public void glDeleteTransformFeedbacks(int a0, int[] a1, int a2)
+	{ if (call(317)) invoke(317, new Object[] { a0, a1, a2 }); }
+	public void glDeleteTransformFeedbacks(int a0, java.nio.IntBuffer a1)
+	{ if (call(318)) invoke(318, new Object[] { a0, a1 }); }
+	public void glDeleteTransformFeedbacksNV(int a0, int[] a1, int a2)
+	{ if (call(319)) invoke(319, new Object[] { a0, a1, a2 }); }
+	public void glDeleteTransformFeedbacksNV(int a0, java.nio.IntBuffer a1)
+	{ if (call(320)) invoke(320, new Object[] { a0, a1 }); }
+	public void glDeleteVertexArrays(int a0, int[] a1, int a2)
+	{ if (call(321)) invoke(321, new Object[] { a0, a1, a2 }); }
+	public void glDeleteVertexArrays(int a0, java.nio.IntBuffer a1)
+	{ if (call(322)) invoke(322, new Object[] { a0, a1 }); }
+	public void glDeleteVertexShaderEXT(int a0)
+	{ if (call(323)) invoke(323, new Object[] { a0 }); }
+	public void glDepthBoundsEXT(double a0, double a1)
+	{ if (call(324)) invoke(324, new Object[] { a0, a1 }); }
+	public void glDepthFunc(int a0)
+	{ if (call(325)) invoke(325, new Object[] { a0 }); }
+	public void glDepthMask(boolean a0)
+	{ if (call(326)) invoke(326, new Object[] { a0 }); }
+	public void glDepthRange(double a0, double a1)
+	{ if (call(327)) invoke(327, new Object[] { a0, a1 }); }
+	public void glDepthRangef(float a0, float a1)
+	{ if (call(328)) invoke(328, new Object[] { a0, a1 }); }
+	public void glDetachObjectARB(long a0, long a1)
+	{ if (call(329)) invoke(329, new Object[] { a0, a1 }); }
+	public void glDetachShader(int a0, int a1)
+	{ if (call(330)) invoke(330, new Object[] { a0, a1 }); }
+	public void glDisable(int a0)
+	{ if (call(331)) invoke(331, new Object[] { a0 }); }
+	public void glDisableClientState(int a0)
+	{ if (call(332)) invoke(332, new Object[] { a0 }); }
+	public void glDisableClientStateIndexedEXT(int a0, int a1)
+	{ if (call(333)) invoke(333, new Object[] { a0, a1 }); }
+	public void glDisableClientStateiEXT(int a0, int a1)
+	{ if (call(334)) invoke(334, new Object[] { a0, a1 }); }
+	public void glDisableIndexed(int a0, int a1)
+	{ if (call(335)) invoke(335, new Object[] { a0, a1 }); }
+	public void glDisableVariantClientStateEXT(int a0)
+	{ if (call(336)) invoke(336, new Object[] { a0 }); }
+	public void glDisableVertexArrayAttribEXT(int a0, int a1)
+	{ if (call(337)) invoke(337, new Object[] { a0, a1 }); }
+	public void glDisableVertexArrayEXT(int a0, int a1)
+	{ if (call(338)) invoke(338, new Object[] { a0, a1 }); }
+	public void glDisableVertexAttribAPPLE(int a0, int a1)
+	{ if (call(339)) invoke(339, new Object[] { a0, a1 }); }
+	public void glDisableVertexAttribArray(int a0)
+	{ if (call(340)) invoke(340, new Object[] { a0 }); }
+	public void glDisableVertexAttribArrayARB(int a0)
+	{ if (call(341)) invoke(341, new Object[] { a0 }); }
+	public void glDisablei(int a0, int a1)
+	{ if (call(342)) invoke(342, new Object[] { a0, a1 }); }
+	public void glDrawArrays(int a0, int a1, int a2)
+	{ if (call(343)) invoke(343, new Object[] { a0, a1, a2 }); }
+	public void glDrawArraysInstanced(int a0, int a1, int a2, int a3)
+	{ if (call(344)) invoke(344, new Object[] { a0, a1, a2, a3 }); }
+	public void glDrawArraysInstancedBaseInstance(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(345)) invoke(345, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glDrawBuffer(int a0)
+	{ if (call(346)) invoke(346, new Object[] { a0 }); }
+	public void glDrawBuffers(int a0, int[] a1, int a2)
+	{ if (call(347)) invoke(347, new Object[] { a0, a1, a2 }); }
+	public void glDrawBuffers(int a0, java.nio.IntBuffer a1)
+	{ if (call(348)) invoke(348, new Object[] { a0, a1 }); }
+	public void glDrawBuffersATI(int a0, int[] a1, int a2)
+	{ if (call(349)) invoke(349, new Object[] { a0, a1, a2 }); }
+	public void glDrawBuffersATI(int a0, java.nio.IntBuffer a1)
+	{ if (call(350)) invoke(350, new Object[] { a0, a1 }); }
+	public void glDrawCommandsAddressNV(int a0, long[] a1, int a2, int[] a3, int a4, int a5)
+	{ if (call(351)) invoke(351, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glDrawCommandsAddressNV(int a0, java.nio.LongBuffer a1, java.nio.IntBuffer a2, int a3)
+	{ if (call(352)) invoke(352, new Object[] { a0, a1, a2, a3 }); }
+	public void glDrawCommandsNV(int a0, int a1, com.jogamp.common.nio.PointerBuffer a2, int[] a3, int a4, int a5)
+	{ if (call(353)) invoke(353, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glDrawCommandsNV(int a0, int a1, com.jogamp.common.nio.PointerBuffer a2, java.nio.IntBuffer a3, int a4)
+	{ if (call(354)) invoke(354, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glDrawCommandsStatesAddressNV(long[] a0, int a1, int[] a2, int a3, int[] a4, int a5, int[] a6, int a7, int a8)
+	{ if (call(355)) invoke(355, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glDrawCommandsStatesAddressNV(java.nio.LongBuffer a0, java.nio.IntBuffer a1, java.nio.IntBuffer a2, java.nio.IntBuffer a3, int a4)
+	{ if (call(356)) invoke(356, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glDrawCommandsStatesNV(int a0, com.jogamp.common.nio.PointerBuffer a1, int[] a2, int a3, int[] a4, int a5, int[] a6, int a7, int a8)
+	{ if (call(357)) invoke(357, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glDrawCommandsStatesNV(int a0, com.jogamp.common.nio.PointerBuffer a1, java.nio.IntBuffer a2, java.nio.IntBuffer a3, java.nio.IntBuffer a4, int a5)
+	{ if (call(358)) invoke(358, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glDrawElements(int a0, int a1, int a2, java.nio.Buffer a3)
+	{ if (call(359)) invoke(359, new Object[] { a0, a1, a2, a3 }); }
+	public void glDrawElements(int a0, int a1, int a2, long a3)
+	{ if (call(360)) invoke(360, new Object[] { a0, a1, a2, a3 }); }
+	public void glDrawElementsInstanced(int a0, int a1, int a2, java.nio.Buffer a3, int a4)
+	{ if (call(361)) invoke(361, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glDrawElementsInstanced(int a0, int a1, int a2, long a3, int a4)
+	{ if (call(362)) invoke(362, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glDrawElementsInstancedBaseInstance(int a0, int a1, int a2, long a3, int a4, int a5)
+	{ if (call(363)) invoke(363, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glDrawElementsInstancedBaseVertexBaseInstance(int a0, int a1, int a2, long a3, int a4, int a5, int a6)
+	{ if (call(364)) invoke(364, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glDrawPixels(int a0, int a1, int a2, int a3, java.nio.Buffer a4)
+	{ if (call(365)) invoke(365, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glDrawPixels(int a0, int a1, int a2, int a3, long a4)
+	{ if (call(366)) invoke(366, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glDrawRangeElements(int a0, int a1, int a2, int a3, int a4, java.nio.Buffer a5)
+	{ if (call(367)) invoke(367, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glDrawRangeElements(int a0, int a1, int a2, int a3, int a4, long a5)
+	{ if (call(368)) invoke(368, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glDrawTextureNV(int a0, int a1, float a2, float a3, float a4, float a5, float a6, float a7, float a8, float a9, float a10)
+	{ if (call(369)) invoke(369, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10 }); }
+	public void glDrawTransformFeedback(int a0, int a1)
+	{ if (call(370)) invoke(370, new Object[] { a0, a1 }); }
+	public void glDrawTransformFeedbackNV(int a0, int a1)
+	{ if (call(371)) invoke(371, new Object[] { a0, a1 }); }
+	public void glDrawTransformFeedbackStream(int a0, int a1, int a2)
+	{ if (call(372)) invoke(372, new Object[] { a0, a1, a2 }); }
+	public void glEdgeFlag(boolean a0)
+	{ if (call(373)) invoke(373, new Object[] { a0 }); }
+	public void glEdgeFlagFormatNV(int a0)
+	{ if (call(374)) invoke(374, new Object[] { a0 }); }
+	public void glEdgeFlagPointer(int a0, java.nio.Buffer a1)
+	{ if (call(375)) invoke(375, new Object[] { a0, a1 }); }
+	public void glEdgeFlagPointer(int a0, long a1)
+	{ if (call(376)) invoke(376, new Object[] { a0, a1 }); }
+	public void glEdgeFlagv(byte[] a0, int a1)
+	{ if (call(377)) invoke(377, new Object[] { a0, a1 }); }
+	public void glEdgeFlagv(java.nio.ByteBuffer a0)
+	{ if (call(378)) invoke(378, new Object[] { a0 }); }
+	public void glEnable(int a0)
+	{ if (call(379)) invoke(379, new Object[] { a0 }); }
+	public void glEnableClientState(int a0)
+	{ if (call(380)) invoke(380, new Object[] { a0 }); }
+	public void glEnableClientStateIndexedEXT(int a0, int a1)
+	{ if (call(381)) invoke(381, new Object[] { a0, a1 }); }
+	public void glEnableClientStateiEXT(int a0, int a1)
+	{ if (call(382)) invoke(382, new Object[] { a0, a1 }); }
+	public void glEnableIndexed(int a0, int a1)
+	{ if (call(383)) invoke(383, new Object[] { a0, a1 }); }
+	public void glEnableVariantClientStateEXT(int a0)
+	{ if (call(384)) invoke(384, new Object[] { a0 }); }
+	public void glEnableVertexArrayAttribEXT(int a0, int a1)
+	{ if (call(385)) invoke(385, new Object[] { a0, a1 }); }
+	public void glEnableVertexArrayEXT(int a0, int a1)
+	{ if (call(386)) invoke(386, new Object[] { a0, a1 }); }
+	public void glEnableVertexAttribAPPLE(int a0, int a1)
+	{ if (call(387)) invoke(387, new Object[] { a0, a1 }); }
+	public void glEnableVertexAttribArray(int a0)
+	{ if (call(388)) invoke(388, new Object[] { a0 }); }
+	public void glEnableVertexAttribArrayARB(int a0)
+	{ if (call(389)) invoke(389, new Object[] { a0 }); }
+	public void glEnablei(int a0, int a1)
+	{ if (call(390)) invoke(390, new Object[] { a0, a1 }); }
+	public void glEnd()
+	{ if (call(391)) invoke(391, null); }
+	public void glEndConditionalRender()
+	{ if (call(392)) invoke(392, null); }
+	public void glEndConditionalRenderNVX()
+	{ if (call(393)) invoke(393, null); }
+	public void glEndList()
+	{ if (call(394)) invoke(394, null); }
+	public void glEndOcclusionQueryNV()
+	{ if (call(395)) invoke(395, null); }
+	public void glEndPerfMonitorAMD(int a0)
+	{ if (call(396)) invoke(396, new Object[] { a0 }); }
+	public void glEndPerfQueryINTEL(int a0)
+	{ if (call(397)) invoke(397, new Object[] { a0 }); }
+	public void glEndQuery(int a0)
+	{ if (call(398)) invoke(398, new Object[] { a0 }); }
+	public void glEndQueryIndexed(int a0, int a1)
+	{ if (call(399)) invoke(399, new Object[] { a0, a1 }); }
+	public void glEndTransformFeedback()
+	{ if (call(400)) invoke(400, null); }
+	public void glEndVertexShaderEXT()
+	{ if (call(401)) invoke(401, null); }
+	public void glEndVideoCaptureNV(int a0)
+	{ if (call(402)) invoke(402, new Object[] { a0 }); }
+	public void glEvalCoord1d(double a0)
+	{ if (call(403)) invoke(403, new Object[] { a0 }); }
+	public void glEvalCoord1dv(double[] a0, int a1)
+	{ if (call(404)) invoke(404, new Object[] { a0, a1 }); }
+	public void glEvalCoord1dv(java.nio.DoubleBuffer a0)
+	{ if (call(405)) invoke(405, new Object[] { a0 }); }
+	public void glEvalCoord1f(float a0)
+	{ if (call(406)) invoke(406, new Object[] { a0 }); }
+	public void glEvalCoord1fv(float[] a0, int a1)
+	{ if (call(407)) invoke(407, new Object[] { a0, a1 }); }
+	public void glEvalCoord1fv(java.nio.FloatBuffer a0)
+	{ if (call(408)) invoke(408, new Object[] { a0 }); }
+	public void glEvalCoord2d(double a0, double a1)
+	{ if (call(409)) invoke(409, new Object[] { a0, a1 }); }
+	public void glEvalCoord2dv(double[] a0, int a1)
+	{ if (call(410)) invoke(410, new Object[] { a0, a1 }); }
+	public void glEvalCoord2dv(java.nio.DoubleBuffer a0)
+	{ if (call(411)) invoke(411, new Object[] { a0 }); }
+	public void glEvalCoord2f(float a0, float a1)
+	{ if (call(412)) invoke(412, new Object[] { a0, a1 }); }
+	public void glEvalCoord2fv(float[] a0, int a1)
+	{ if (call(413)) invoke(413, new Object[] { a0, a1 }); }
+	public void glEvalCoord2fv(java.nio.FloatBuffer a0)
+	{ if (call(414)) invoke(414, new Object[] { a0 }); }
+	public void glEvalMapsNV(int a0, int a1)
+	{ if (call(415)) invoke(415, new Object[] { a0, a1 }); }
+	public void glEvalMesh1(int a0, int a1, int a2)
+	{ if (call(416)) invoke(416, new Object[] { a0, a1, a2 }); }
+	public void glEvalMesh2(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(417)) invoke(417, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glEvalPoint1(int a0)
+	{ if (call(418)) invoke(418, new Object[] { a0 }); }
+	public void glEvalPoint2(int a0, int a1)
+	{ if (call(419)) invoke(419, new Object[] { a0, a1 }); }
+	public void glExtractComponentEXT(int a0, int a1, int a2)
+	{ if (call(420)) invoke(420, new Object[] { a0, a1, a2 }); }
+	public void glFeedbackBuffer(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(421)) invoke(421, new Object[] { a0, a1, a2 }); }
+	public void glFinish()
+	{ if (call(422)) invoke(422, null); }
+	public void glFinishTextureSUNX()
+	{ if (call(423)) invoke(423, null); }
+	public void glFlush()
+	{ if (call(424)) invoke(424, null); }
+	public void glFlushMappedBufferRange(int a0, long a1, long a2)
+	{ if (call(425)) invoke(425, new Object[] { a0, a1, a2 }); }
+	public void glFlushMappedNamedBufferRangeEXT(int a0, long a1, long a2)
+	{ if (call(426)) invoke(426, new Object[] { a0, a1, a2 }); }
+	public void glFlushPixelDataRangeNV(int a0)
+	{ if (call(427)) invoke(427, new Object[] { a0 }); }
+	public void glFlushVertexArrayRangeAPPLE(int a0, java.nio.Buffer a1)
+	{ if (call(428)) invoke(428, new Object[] { a0, a1 }); }
+	public void glFogCoordFormatNV(int a0, int a1)
+	{ if (call(429)) invoke(429, new Object[] { a0, a1 }); }
+	public void glFogCoordPointer(int a0, int a1, java.nio.Buffer a2)
+	{ if (call(430)) invoke(430, new Object[] { a0, a1, a2 }); }
+	public void glFogCoordPointer(int a0, int a1, long a2)
+	{ if (call(431)) invoke(431, new Object[] { a0, a1, a2 }); }
+	public void glFogCoordd(double a0)
+	{ if (call(432)) invoke(432, new Object[] { a0 }); }
+	public void glFogCoorddv(double[] a0, int a1)
+	{ if (call(433)) invoke(433, new Object[] { a0, a1 }); }
+	public void glFogCoorddv(java.nio.DoubleBuffer a0)
+	{ if (call(434)) invoke(434, new Object[] { a0 }); }
+	public void glFogCoordf(float a0)
+	{ if (call(435)) invoke(435, new Object[] { a0 }); }
+	public void glFogCoordfv(float[] a0, int a1)
+	{ if (call(436)) invoke(436, new Object[] { a0, a1 }); }
+	public void glFogCoordfv(java.nio.FloatBuffer a0)
+	{ if (call(437)) invoke(437, new Object[] { a0 }); }
+	public void glFogCoordh(short a0)
+	{ if (call(438)) invoke(438, new Object[] { a0 }); }
+	public void glFogCoordhv(short[] a0, int a1)
+	{ if (call(439)) invoke(439, new Object[] { a0, a1 }); }
+	public void glFogCoordhv(java.nio.ShortBuffer a0)
+	{ if (call(440)) invoke(440, new Object[] { a0 }); }
+	public void glFogf(int a0, float a1)
+	{ if (call(441)) invoke(441, new Object[] { a0, a1 }); }
+	public void glFogfv(int a0, float[] a1, int a2)
+	{ if (call(442)) invoke(442, new Object[] { a0, a1, a2 }); }
+	public void glFogfv(int a0, java.nio.FloatBuffer a1)
+	{ if (call(443)) invoke(443, new Object[] { a0, a1 }); }
+	public void glFogi(int a0, int a1)
+	{ if (call(444)) invoke(444, new Object[] { a0, a1 }); }
+	public void glFogiv(int a0, int[] a1, int a2)
+	{ if (call(445)) invoke(445, new Object[] { a0, a1, a2 }); }
+	public void glFogiv(int a0, java.nio.IntBuffer a1)
+	{ if (call(446)) invoke(446, new Object[] { a0, a1 }); }
+	public void glFragmentCoverageColorNV(int a0)
+	{ if (call(447)) invoke(447, new Object[] { a0 }); }
+	public void glFrameTerminatorGREMEDY()
+	{ if (call(448)) invoke(448, null); }
+	public void glFramebufferDrawBufferEXT(int a0, int a1)
+	{ if (call(449)) invoke(449, new Object[] { a0, a1 }); }
+	public void glFramebufferDrawBuffersEXT(int a0, int a1, int[] a2, int a3)
+	{ if (call(450)) invoke(450, new Object[] { a0, a1, a2, a3 }); }
+	public void glFramebufferDrawBuffersEXT(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(451)) invoke(451, new Object[] { a0, a1, a2 }); }
+	public void glFramebufferParameteri(int a0, int a1, int a2)
+	{ if (call(452)) invoke(452, new Object[] { a0, a1, a2 }); }
+	public void glFramebufferReadBufferEXT(int a0, int a1)
+	{ if (call(453)) invoke(453, new Object[] { a0, a1 }); }
+	public void glFramebufferRenderbuffer(int a0, int a1, int a2, int a3)
+	{ if (call(454)) invoke(454, new Object[] { a0, a1, a2, a3 }); }
+	public void glFramebufferSampleLocationsfvNV(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(455)) invoke(455, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glFramebufferSampleLocationsfvNV(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(456)) invoke(456, new Object[] { a0, a1, a2, a3 }); }
+	public void glFramebufferTexture1D(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(457)) invoke(457, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glFramebufferTexture2D(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(458)) invoke(458, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glFramebufferTexture3D(int a0, int a1, int a2, int a3, int a4, int a5)
+	{ if (call(459)) invoke(459, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glFramebufferTextureEXT(int a0, int a1, int a2, int a3)
+	{ if (call(460)) invoke(460, new Object[] { a0, a1, a2, a3 }); }
+	public void glFramebufferTextureFaceEXT(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(461)) invoke(461, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glFramebufferTextureLayer(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(462)) invoke(462, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glFramebufferTextureMultiviewOVR(int a0, int a1, int a2, int a3, int a4, int a5)
+	{ if (call(463)) invoke(463, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glFrontFace(int a0)
+	{ if (call(464)) invoke(464, new Object[] { a0 }); }
+	public void glFrustum(double a0, double a1, double a2, double a3, double a4, double a5)
+	{ if (call(465)) invoke(465, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glFrustumf(float a0, float a1, float a2, float a3, float a4, float a5)
+	{ if (call(466)) invoke(466, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGenBuffers(int a0, int[] a1, int a2)
+	{ if (call(467)) invoke(467, new Object[] { a0, a1, a2 }); }
+	public void glGenBuffers(int a0, java.nio.IntBuffer a1)
+	{ if (call(468)) invoke(468, new Object[] { a0, a1 }); }
+	public void glGenFramebuffers(int a0, int[] a1, int a2)
+	{ if (call(469)) invoke(469, new Object[] { a0, a1, a2 }); }
+	public void glGenFramebuffers(int a0, java.nio.IntBuffer a1)
+	{ if (call(470)) invoke(470, new Object[] { a0, a1 }); }
+	public int glGenLists(int a0)
+	{ return (call(471) ? ((Number)invoke(471, new Object[] { a0 })).intValue() : 0); }
+	public void glGenNamesAMD(int a0, int a1, int[] a2, int a3)
+	{ if (call(472)) invoke(472, new Object[] { a0, a1, a2, a3 }); }
+	public void glGenNamesAMD(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(473)) invoke(473, new Object[] { a0, a1, a2 }); }
+	public void glGenOcclusionQueriesNV(int a0, int[] a1, int a2)
+	{ if (call(474)) invoke(474, new Object[] { a0, a1, a2 }); }
+	public void glGenOcclusionQueriesNV(int a0, java.nio.IntBuffer a1)
+	{ if (call(475)) invoke(475, new Object[] { a0, a1 }); }
+	public void glGenPerfMonitorsAMD(int a0, int[] a1, int a2)
+	{ if (call(476)) invoke(476, new Object[] { a0, a1, a2 }); }
+	public void glGenPerfMonitorsAMD(int a0, java.nio.IntBuffer a1)
+	{ if (call(477)) invoke(477, new Object[] { a0, a1 }); }
+	public void glGenProgramPipelines(int a0, int[] a1, int a2)
+	{ if (call(478)) invoke(478, new Object[] { a0, a1, a2 }); }
+	public void glGenProgramPipelines(int a0, java.nio.IntBuffer a1)
+	{ if (call(479)) invoke(479, new Object[] { a0, a1 }); }
+	public void glGenProgramsARB(int a0, int[] a1, int a2)
+	{ if (call(480)) invoke(480, new Object[] { a0, a1, a2 }); }
+	public void glGenProgramsARB(int a0, java.nio.IntBuffer a1)
+	{ if (call(481)) invoke(481, new Object[] { a0, a1 }); }
+	public void glGenQueries(int a0, int[] a1, int a2)
+	{ if (call(482)) invoke(482, new Object[] { a0, a1, a2 }); }
+	public void glGenQueries(int a0, java.nio.IntBuffer a1)
+	{ if (call(483)) invoke(483, new Object[] { a0, a1 }); }
+	public void glGenRenderbuffers(int a0, int[] a1, int a2)
+	{ if (call(484)) invoke(484, new Object[] { a0, a1, a2 }); }
+	public void glGenRenderbuffers(int a0, java.nio.IntBuffer a1)
+	{ if (call(485)) invoke(485, new Object[] { a0, a1 }); }
+	public int glGenSymbolsEXT(int a0, int a1, int a2, int a3)
+	{ return (call(486) ? ((Number)invoke(486, new Object[] { a0, a1, a2, a3 })).intValue() : 0); }
+	public void glGenTextures(int a0, int[] a1, int a2)
+	{ if (call(487)) invoke(487, new Object[] { a0, a1, a2 }); }
+	public void glGenTextures(int a0, java.nio.IntBuffer a1)
+	{ if (call(488)) invoke(488, new Object[] { a0, a1 }); }
+	public void glGenTransformFeedbacks(int a0, int[] a1, int a2)
+	{ if (call(489)) invoke(489, new Object[] { a0, a1, a2 }); }
+	public void glGenTransformFeedbacks(int a0, java.nio.IntBuffer a1)
+	{ if (call(490)) invoke(490, new Object[] { a0, a1 }); }
+	public void glGenTransformFeedbacksNV(int a0, int[] a1, int a2)
+	{ if (call(491)) invoke(491, new Object[] { a0, a1, a2 }); }
+	public void glGenTransformFeedbacksNV(int a0, java.nio.IntBuffer a1)
+	{ if (call(492)) invoke(492, new Object[] { a0, a1 }); }
+	public void glGenVertexArrays(int a0, int[] a1, int a2)
+	{ if (call(493)) invoke(493, new Object[] { a0, a1, a2 }); }
+	public void glGenVertexArrays(int a0, java.nio.IntBuffer a1)
+	{ if (call(494)) invoke(494, new Object[] { a0, a1 }); }
+	public int glGenVertexShadersEXT(int a0)
+	{ return (call(495) ? ((Number)invoke(495, new Object[] { a0 })).intValue() : 0); }
+	public void glGenerateMipmap(int a0)
+	{ if (call(496)) invoke(496, new Object[] { a0 }); }
+	public void glGenerateMultiTexMipmapEXT(int a0, int a1)
+	{ if (call(497)) invoke(497, new Object[] { a0, a1 }); }
+	public void glGenerateTextureMipmapEXT(int a0, int a1)
+	{ if (call(498)) invoke(498, new Object[] { a0, a1 }); }
+	public void glGetActiveAtomicCounterBufferiv(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(499)) invoke(499, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetActiveAtomicCounterBufferiv(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(500)) invoke(500, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetActiveAttrib(int a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6, int[] a7, int a8, byte[] a9, int a10)
+	{ if (call(501)) invoke(501, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10 }); }
+	public void glGetActiveAttrib(int a0, int a1, int a2, java.nio.IntBuffer a3, java.nio.IntBuffer a4, java.nio.IntBuffer a5, java.nio.ByteBuffer a6)
+	{ if (call(502)) invoke(502, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glGetActiveUniform(int a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6, int[] a7, int a8, byte[] a9, int a10)
+	{ if (call(503)) invoke(503, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10 }); }
+	public void glGetActiveUniform(int a0, int a1, int a2, java.nio.IntBuffer a3, java.nio.IntBuffer a4, java.nio.IntBuffer a5, java.nio.ByteBuffer a6)
+	{ if (call(504)) invoke(504, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glGetActiveUniformARB(long a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6, int[] a7, int a8, byte[] a9, int a10)
+	{ if (call(505)) invoke(505, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10 }); }
+	public void glGetActiveUniformARB(long a0, int a1, int a2, java.nio.IntBuffer a3, java.nio.IntBuffer a4, java.nio.IntBuffer a5, java.nio.ByteBuffer a6)
+	{ if (call(506)) invoke(506, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glGetActiveUniformBlockName(int a0, int a1, int a2, int[] a3, int a4, byte[] a5, int a6)
+	{ if (call(507)) invoke(507, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glGetActiveUniformBlockName(int a0, int a1, int a2, java.nio.IntBuffer a3, java.nio.ByteBuffer a4)
+	{ if (call(508)) invoke(508, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetActiveUniformBlockiv(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(509)) invoke(509, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetActiveUniformBlockiv(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(510)) invoke(510, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetActiveUniformName(int a0, int a1, int a2, int[] a3, int a4, byte[] a5, int a6)
+	{ if (call(511)) invoke(511, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glGetActiveUniformName(int a0, int a1, int a2, java.nio.IntBuffer a3, java.nio.ByteBuffer a4)
+	{ if (call(512)) invoke(512, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetActiveUniformsiv(int a0, int a1, int[] a2, int a3, int a4, int[] a5, int a6)
+	{ if (call(513)) invoke(513, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glGetActiveUniformsiv(int a0, int a1, java.nio.IntBuffer a2, int a3, java.nio.IntBuffer a4)
+	{ if (call(514)) invoke(514, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetAttachedObjectsARB(long a0, int a1, int[] a2, int a3, long[] a4, int a5)
+	{ if (call(515)) invoke(515, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetAttachedObjectsARB(long a0, int a1, java.nio.IntBuffer a2, java.nio.LongBuffer a3)
+	{ if (call(516)) invoke(516, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetAttachedShaders(int a0, int a1, int[] a2, int a3, int[] a4, int a5)
+	{ if (call(517)) invoke(517, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetAttachedShaders(int a0, int a1, java.nio.IntBuffer a2, java.nio.IntBuffer a3)
+	{ if (call(518)) invoke(518, new Object[] { a0, a1, a2, a3 }); }
+	public int glGetAttribLocation(int a0, java.lang.String a1)
+	{ return (call(519) ? ((Number)invoke(519, new Object[] { a0, a1 })).intValue() : 0); }
+	public void glGetBooleanIndexedv(int a0, int a1, byte[] a2, int a3)
+	{ if (call(520)) invoke(520, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetBooleanIndexedv(int a0, int a1, java.nio.ByteBuffer a2)
+	{ if (call(521)) invoke(521, new Object[] { a0, a1, a2 }); }
+	public void glGetBooleani_v(int a0, int a1, byte[] a2, int a3)
+	{ if (call(522)) invoke(522, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetBooleani_v(int a0, int a1, java.nio.ByteBuffer a2)
+	{ if (call(523)) invoke(523, new Object[] { a0, a1, a2 }); }
+	public void glGetBooleanv(int a0, byte[] a1, int a2)
+	{ if (call(524)) invoke(524, new Object[] { a0, a1, a2 }); }
+	public void glGetBooleanv(int a0, java.nio.ByteBuffer a1)
+	{ if (call(525)) invoke(525, new Object[] { a0, a1 }); }
+	public void glGetBufferParameteriv(int a0, int a1, int[] a2, int a3)
+	{ if (call(526)) invoke(526, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetBufferParameteriv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(527)) invoke(527, new Object[] { a0, a1, a2 }); }
+	public void glGetBufferParameterui64vNV(int a0, int a1, long[] a2, int a3)
+	{ if (call(528)) invoke(528, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetBufferParameterui64vNV(int a0, int a1, java.nio.LongBuffer a2)
+	{ if (call(529)) invoke(529, new Object[] { a0, a1, a2 }); }
+	public void glGetBufferSubData(int a0, long a1, long a2, java.nio.Buffer a3)
+	{ if (call(530)) invoke(530, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetClipPlane(int a0, double[] a1, int a2)
+	{ if (call(531)) invoke(531, new Object[] { a0, a1, a2 }); }
+	public void glGetClipPlane(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(532)) invoke(532, new Object[] { a0, a1 }); }
+	public void glGetClipPlanef(int a0, float[] a1, int a2)
+	{ if (call(533)) invoke(533, new Object[] { a0, a1, a2 }); }
+	public void glGetClipPlanef(int a0, java.nio.FloatBuffer a1)
+	{ if (call(534)) invoke(534, new Object[] { a0, a1 }); }
+	public void glGetColorTable(int a0, int a1, int a2, java.nio.Buffer a3)
+	{ if (call(535)) invoke(535, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetColorTable(int a0, int a1, int a2, long a3)
+	{ if (call(536)) invoke(536, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetColorTableParameterfv(int a0, int a1, float[] a2, int a3)
+	{ if (call(537)) invoke(537, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetColorTableParameterfv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(538)) invoke(538, new Object[] { a0, a1, a2 }); }
+	public void glGetColorTableParameteriv(int a0, int a1, int[] a2, int a3)
+	{ if (call(539)) invoke(539, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetColorTableParameteriv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(540)) invoke(540, new Object[] { a0, a1, a2 }); }
+	public int glGetCommandHeaderNV(int a0, int a1)
+	{ return (call(541) ? ((Number)invoke(541, new Object[] { a0, a1 })).intValue() : 0); }
+	public void glGetCompressedMultiTexImageEXT(int a0, int a1, int a2, java.nio.Buffer a3)
+	{ if (call(542)) invoke(542, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetCompressedTexImage(int a0, int a1, java.nio.Buffer a2)
+	{ if (call(543)) invoke(543, new Object[] { a0, a1, a2 }); }
+	public void glGetCompressedTexImage(int a0, int a1, long a2)
+	{ if (call(544)) invoke(544, new Object[] { a0, a1, a2 }); }
+	public void glGetCompressedTextureImageEXT(int a0, int a1, int a2, java.nio.Buffer a3)
+	{ if (call(545)) invoke(545, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetConvolutionFilter(int a0, int a1, int a2, java.nio.Buffer a3)
+	{ if (call(546)) invoke(546, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetConvolutionFilter(int a0, int a1, int a2, long a3)
+	{ if (call(547)) invoke(547, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetConvolutionParameterfv(int a0, int a1, float[] a2, int a3)
+	{ if (call(548)) invoke(548, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetConvolutionParameterfv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(549)) invoke(549, new Object[] { a0, a1, a2 }); }
+	public void glGetConvolutionParameteriv(int a0, int a1, int[] a2, int a3)
+	{ if (call(550)) invoke(550, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetConvolutionParameteriv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(551)) invoke(551, new Object[] { a0, a1, a2 }); }
+	public void glGetCoverageModulationTableNV(int a0, float[] a1, int a2)
+	{ if (call(552)) invoke(552, new Object[] { a0, a1, a2 }); }
+	public void glGetCoverageModulationTableNV(int a0, java.nio.FloatBuffer a1)
+	{ if (call(553)) invoke(553, new Object[] { a0, a1 }); }
+	public int glGetDebugMessageLog(int a0, int a1, int[] a2, int a3, int[] a4, int a5, int[] a6, int a7, int[] a8, int a9, int[] a10, int a11, byte[] a12, int a13)
+	{ return (call(554) ? ((Number)invoke(554, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13 })).intValue() : 0); }
+	public int glGetDebugMessageLog(int a0, int a1, java.nio.IntBuffer a2, java.nio.IntBuffer a3, java.nio.IntBuffer a4, java.nio.IntBuffer a5, java.nio.IntBuffer a6, java.nio.ByteBuffer a7)
+	{ return (call(555) ? ((Number)invoke(555, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 })).intValue() : 0); }
+	public int glGetDebugMessageLogAMD(int a0, int a1, int[] a2, int a3, int[] a4, int a5, int[] a6, int a7, int[] a8, int a9, byte[] a10, int a11)
+	{ return (call(556) ? ((Number)invoke(556, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11 })).intValue() : 0); }
+	public int glGetDebugMessageLogAMD(int a0, int a1, java.nio.IntBuffer a2, java.nio.IntBuffer a3, java.nio.IntBuffer a4, java.nio.IntBuffer a5, java.nio.ByteBuffer a6)
+	{ return (call(557) ? ((Number)invoke(557, new Object[] { a0, a1, a2, a3, a4, a5, a6 })).intValue() : 0); }
+	public void glGetDoubleIndexedvEXT(int a0, int a1, double[] a2, int a3)
+	{ if (call(558)) invoke(558, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetDoubleIndexedvEXT(int a0, int a1, java.nio.DoubleBuffer a2)
+	{ if (call(559)) invoke(559, new Object[] { a0, a1, a2 }); }
+	public void glGetDoublei_vEXT(int a0, int a1, double[] a2, int a3)
+	{ if (call(560)) invoke(560, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetDoublei_vEXT(int a0, int a1, java.nio.DoubleBuffer a2)
+	{ if (call(561)) invoke(561, new Object[] { a0, a1, a2 }); }
+	public void glGetDoublev(int a0, double[] a1, int a2)
+	{ if (call(562)) invoke(562, new Object[] { a0, a1, a2 }); }
+	public void glGetDoublev(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(563)) invoke(563, new Object[] { a0, a1 }); }
+	public int glGetError()
+	{ return (call(564) ? ((Number)invoke(564, null)).intValue() : 0); }
+	public void glGetFirstPerfQueryIdINTEL(int[] a0, int a1)
+	{ if (call(565)) invoke(565, new Object[] { a0, a1 }); }
+	public void glGetFirstPerfQueryIdINTEL(java.nio.IntBuffer a0)
+	{ if (call(566)) invoke(566, new Object[] { a0 }); }
+	public void glGetFloatIndexedvEXT(int a0, int a1, float[] a2, int a3)
+	{ if (call(567)) invoke(567, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetFloatIndexedvEXT(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(568)) invoke(568, new Object[] { a0, a1, a2 }); }
+	public void glGetFloati_vEXT(int a0, int a1, float[] a2, int a3)
+	{ if (call(569)) invoke(569, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetFloati_vEXT(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(570)) invoke(570, new Object[] { a0, a1, a2 }); }
+	public void glGetFloatv(int a0, float[] a1, int a2)
+	{ if (call(571)) invoke(571, new Object[] { a0, a1, a2 }); }
+	public void glGetFloatv(int a0, java.nio.FloatBuffer a1)
+	{ if (call(572)) invoke(572, new Object[] { a0, a1 }); }
+	public int glGetFragDataLocation(int a0, java.lang.String a1)
+	{ return (call(573) ? ((Number)invoke(573, new Object[] { a0, a1 })).intValue() : 0); }
+	public void glGetFramebufferAttachmentParameteriv(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(574)) invoke(574, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetFramebufferAttachmentParameteriv(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(575)) invoke(575, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetFramebufferParameteriv(int a0, int a1, int[] a2, int a3)
+	{ if (call(576)) invoke(576, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetFramebufferParameteriv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(577)) invoke(577, new Object[] { a0, a1, a2 }); }
+	public void glGetFramebufferParameterivEXT(int a0, int a1, int[] a2, int a3)
+	{ if (call(578)) invoke(578, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetFramebufferParameterivEXT(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(579)) invoke(579, new Object[] { a0, a1, a2 }); }
+	public int glGetGraphicsResetStatus()
+	{ return (call(580) ? ((Number)invoke(580, null)).intValue() : 0); }
+	public long glGetHandleARB(int a0)
+	{ return (call(581) ? ((Number)invoke(581, new Object[] { a0 })).longValue() : 0L); }
+	public void glGetHistogram(int a0, boolean a1, int a2, int a3, java.nio.Buffer a4)
+	{ if (call(582)) invoke(582, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetHistogram(int a0, boolean a1, int a2, int a3, long a4)
+	{ if (call(583)) invoke(583, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetHistogramParameterfv(int a0, int a1, float[] a2, int a3)
+	{ if (call(584)) invoke(584, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetHistogramParameterfv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(585)) invoke(585, new Object[] { a0, a1, a2 }); }
+	public void glGetHistogramParameteriv(int a0, int a1, int[] a2, int a3)
+	{ if (call(586)) invoke(586, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetHistogramParameteriv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(587)) invoke(587, new Object[] { a0, a1, a2 }); }
+	public void glGetInfoLogARB(long a0, int a1, int[] a2, int a3, byte[] a4, int a5)
+	{ if (call(588)) invoke(588, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetInfoLogARB(long a0, int a1, java.nio.IntBuffer a2, java.nio.ByteBuffer a3)
+	{ if (call(589)) invoke(589, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetIntegerIndexedv(int a0, int a1, int[] a2, int a3)
+	{ if (call(590)) invoke(590, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetIntegerIndexedv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(591)) invoke(591, new Object[] { a0, a1, a2 }); }
+	public void glGetIntegeri_v(int a0, int a1, int[] a2, int a3)
+	{ if (call(592)) invoke(592, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetIntegeri_v(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(593)) invoke(593, new Object[] { a0, a1, a2 }); }
+	public void glGetIntegerui64i_vNV(int a0, int a1, long[] a2, int a3)
+	{ if (call(594)) invoke(594, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetIntegerui64i_vNV(int a0, int a1, java.nio.LongBuffer a2)
+	{ if (call(595)) invoke(595, new Object[] { a0, a1, a2 }); }
+	public void glGetIntegerui64vNV(int a0, long[] a1, int a2)
+	{ if (call(596)) invoke(596, new Object[] { a0, a1, a2 }); }
+	public void glGetIntegerui64vNV(int a0, java.nio.LongBuffer a1)
+	{ if (call(597)) invoke(597, new Object[] { a0, a1 }); }
+	public void glGetIntegerv(int a0, int[] a1, int a2)
+	{ if (call(598)) invoke(598, new Object[] { a0, a1, a2 }); }
+	public void glGetIntegerv(int a0, java.nio.IntBuffer a1)
+	{ if (call(599)) invoke(599, new Object[] { a0, a1 }); }
+	public void glGetInternalformati64v(int a0, int a1, int a2, int a3, long[] a4, int a5)
+	{ if (call(600)) invoke(600, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetInternalformati64v(int a0, int a1, int a2, int a3, java.nio.LongBuffer a4)
+	{ if (call(601)) invoke(601, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetInternalformativ(int a0, int a1, int a2, int a3, int[] a4, int a5)
+	{ if (call(602)) invoke(602, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetInternalformativ(int a0, int a1, int a2, int a3, java.nio.IntBuffer a4)
+	{ if (call(603)) invoke(603, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetInvariantBooleanvEXT(int a0, int a1, byte[] a2, int a3)
+	{ if (call(604)) invoke(604, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetInvariantBooleanvEXT(int a0, int a1, java.nio.ByteBuffer a2)
+	{ if (call(605)) invoke(605, new Object[] { a0, a1, a2 }); }
+	public void glGetInvariantFloatvEXT(int a0, int a1, float[] a2, int a3)
+	{ if (call(606)) invoke(606, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetInvariantFloatvEXT(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(607)) invoke(607, new Object[] { a0, a1, a2 }); }
+	public void glGetInvariantIntegervEXT(int a0, int a1, int[] a2, int a3)
+	{ if (call(608)) invoke(608, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetInvariantIntegervEXT(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(609)) invoke(609, new Object[] { a0, a1, a2 }); }
+	public void glGetLightfv(int a0, int a1, float[] a2, int a3)
+	{ if (call(610)) invoke(610, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetLightfv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(611)) invoke(611, new Object[] { a0, a1, a2 }); }
+	public void glGetLightiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(612)) invoke(612, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetLightiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(613)) invoke(613, new Object[] { a0, a1, a2 }); }
+	public void glGetLocalConstantBooleanvEXT(int a0, int a1, byte[] a2, int a3)
+	{ if (call(614)) invoke(614, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetLocalConstantBooleanvEXT(int a0, int a1, java.nio.ByteBuffer a2)
+	{ if (call(615)) invoke(615, new Object[] { a0, a1, a2 }); }
+	public void glGetLocalConstantFloatvEXT(int a0, int a1, float[] a2, int a3)
+	{ if (call(616)) invoke(616, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetLocalConstantFloatvEXT(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(617)) invoke(617, new Object[] { a0, a1, a2 }); }
+	public void glGetLocalConstantIntegervEXT(int a0, int a1, int[] a2, int a3)
+	{ if (call(618)) invoke(618, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetLocalConstantIntegervEXT(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(619)) invoke(619, new Object[] { a0, a1, a2 }); }
+	public void glGetMapAttribParameterfvNV(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(620)) invoke(620, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetMapAttribParameterfvNV(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(621)) invoke(621, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetMapAttribParameterivNV(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(622)) invoke(622, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetMapAttribParameterivNV(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(623)) invoke(623, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetMapControlPointsNV(int a0, int a1, int a2, int a3, int a4, boolean a5, java.nio.Buffer a6)
+	{ if (call(624)) invoke(624, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glGetMapParameterfvNV(int a0, int a1, float[] a2, int a3)
+	{ if (call(625)) invoke(625, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetMapParameterfvNV(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(626)) invoke(626, new Object[] { a0, a1, a2 }); }
+	public void glGetMapParameterivNV(int a0, int a1, int[] a2, int a3)
+	{ if (call(627)) invoke(627, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetMapParameterivNV(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(628)) invoke(628, new Object[] { a0, a1, a2 }); }
+	public void glGetMapdv(int a0, int a1, double[] a2, int a3)
+	{ if (call(629)) invoke(629, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetMapdv(int a0, int a1, java.nio.DoubleBuffer a2)
+	{ if (call(630)) invoke(630, new Object[] { a0, a1, a2 }); }
+	public void glGetMapfv(int a0, int a1, float[] a2, int a3)
+	{ if (call(631)) invoke(631, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetMapfv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(632)) invoke(632, new Object[] { a0, a1, a2 }); }
+	public void glGetMapiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(633)) invoke(633, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetMapiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(634)) invoke(634, new Object[] { a0, a1, a2 }); }
+	public void glGetMaterialfv(int a0, int a1, float[] a2, int a3)
+	{ if (call(635)) invoke(635, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetMaterialfv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(636)) invoke(636, new Object[] { a0, a1, a2 }); }
+	public void glGetMaterialiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(637)) invoke(637, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetMaterialiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(638)) invoke(638, new Object[] { a0, a1, a2 }); }
+	public void glGetMinmax(int a0, boolean a1, int a2, int a3, java.nio.Buffer a4)
+	{ if (call(639)) invoke(639, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetMinmax(int a0, boolean a1, int a2, int a3, long a4)
+	{ if (call(640)) invoke(640, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetMinmaxParameterfv(int a0, int a1, float[] a2, int a3)
+	{ if (call(641)) invoke(641, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetMinmaxParameterfv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(642)) invoke(642, new Object[] { a0, a1, a2 }); }
+	public void glGetMinmaxParameteriv(int a0, int a1, int[] a2, int a3)
+	{ if (call(643)) invoke(643, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetMinmaxParameteriv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(644)) invoke(644, new Object[] { a0, a1, a2 }); }
+	public void glGetMultiTexEnvfvEXT(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(645)) invoke(645, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetMultiTexEnvfvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(646)) invoke(646, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetMultiTexEnvivEXT(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(647)) invoke(647, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetMultiTexEnvivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(648)) invoke(648, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetMultiTexGendvEXT(int a0, int a1, int a2, double[] a3, int a4)
+	{ if (call(649)) invoke(649, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetMultiTexGendvEXT(int a0, int a1, int a2, java.nio.DoubleBuffer a3)
+	{ if (call(650)) invoke(650, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetMultiTexGenfvEXT(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(651)) invoke(651, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetMultiTexGenfvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(652)) invoke(652, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetMultiTexGenivEXT(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(653)) invoke(653, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetMultiTexGenivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(654)) invoke(654, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetMultiTexImageEXT(int a0, int a1, int a2, int a3, int a4, java.nio.Buffer a5)
+	{ if (call(655)) invoke(655, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetMultiTexLevelParameterfvEXT(int a0, int a1, int a2, int a3, float[] a4, int a5)
+	{ if (call(656)) invoke(656, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetMultiTexLevelParameterfvEXT(int a0, int a1, int a2, int a3, java.nio.FloatBuffer a4)
+	{ if (call(657)) invoke(657, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetMultiTexLevelParameterivEXT(int a0, int a1, int a2, int a3, int[] a4, int a5)
+	{ if (call(658)) invoke(658, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetMultiTexLevelParameterivEXT(int a0, int a1, int a2, int a3, java.nio.IntBuffer a4)
+	{ if (call(659)) invoke(659, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetMultiTexParameterIivEXT(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(660)) invoke(660, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetMultiTexParameterIivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(661)) invoke(661, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetMultiTexParameterIuivEXT(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(662)) invoke(662, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetMultiTexParameterIuivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(663)) invoke(663, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetMultiTexParameterfvEXT(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(664)) invoke(664, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetMultiTexParameterfvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(665)) invoke(665, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetMultiTexParameterivEXT(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(666)) invoke(666, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetMultiTexParameterivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(667)) invoke(667, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetMultisamplefv(int a0, int a1, float[] a2, int a3)
+	{ if (call(668)) invoke(668, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetMultisamplefv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(669)) invoke(669, new Object[] { a0, a1, a2 }); }
+	public void glGetMultisamplefvNV(int a0, int a1, float[] a2, int a3)
+	{ if (call(670)) invoke(670, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetMultisamplefvNV(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(671)) invoke(671, new Object[] { a0, a1, a2 }); }
+	public void glGetNamedBufferParameterivEXT(int a0, int a1, int[] a2, int a3)
+	{ if (call(672)) invoke(672, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetNamedBufferParameterivEXT(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(673)) invoke(673, new Object[] { a0, a1, a2 }); }
+	public void glGetNamedBufferParameterui64vNV(int a0, int a1, long[] a2, int a3)
+	{ if (call(674)) invoke(674, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetNamedBufferParameterui64vNV(int a0, int a1, java.nio.LongBuffer a2)
+	{ if (call(675)) invoke(675, new Object[] { a0, a1, a2 }); }
+	public void glGetNamedBufferSubDataEXT(int a0, long a1, long a2, java.nio.Buffer a3)
+	{ if (call(676)) invoke(676, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetNamedFramebufferAttachmentParameterivEXT(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(677)) invoke(677, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetNamedFramebufferAttachmentParameterivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(678)) invoke(678, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetNamedFramebufferParameteriv(int a0, int a1, int[] a2, int a3)
+	{ if (call(679)) invoke(679, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetNamedFramebufferParameteriv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(680)) invoke(680, new Object[] { a0, a1, a2 }); }
+	public void glGetNamedProgramLocalParameterIivEXT(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(681)) invoke(681, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetNamedProgramLocalParameterIivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(682)) invoke(682, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetNamedProgramLocalParameterIuivEXT(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(683)) invoke(683, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetNamedProgramLocalParameterIuivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(684)) invoke(684, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetNamedProgramLocalParameterdvEXT(int a0, int a1, int a2, double[] a3, int a4)
+	{ if (call(685)) invoke(685, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetNamedProgramLocalParameterdvEXT(int a0, int a1, int a2, java.nio.DoubleBuffer a3)
+	{ if (call(686)) invoke(686, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetNamedProgramLocalParameterfvEXT(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(687)) invoke(687, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetNamedProgramLocalParameterfvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(688)) invoke(688, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetNamedProgramStringEXT(int a0, int a1, int a2, java.nio.Buffer a3)
+	{ if (call(689)) invoke(689, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetNamedProgramivEXT(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(690)) invoke(690, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetNamedProgramivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(691)) invoke(691, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetNamedRenderbufferParameterivEXT(int a0, int a1, int[] a2, int a3)
+	{ if (call(692)) invoke(692, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetNamedRenderbufferParameterivEXT(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(693)) invoke(693, new Object[] { a0, a1, a2 }); }
+	public void glGetNextPerfQueryIdINTEL(int a0, int[] a1, int a2)
+	{ if (call(694)) invoke(694, new Object[] { a0, a1, a2 }); }
+	public void glGetNextPerfQueryIdINTEL(int a0, java.nio.IntBuffer a1)
+	{ if (call(695)) invoke(695, new Object[] { a0, a1 }); }
+	public void glGetObjectLabel(int a0, int a1, int a2, int[] a3, int a4, byte[] a5, int a6)
+	{ if (call(696)) invoke(696, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glGetObjectLabel(int a0, int a1, int a2, java.nio.IntBuffer a3, java.nio.ByteBuffer a4)
+	{ if (call(697)) invoke(697, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetObjectParameterfvARB(long a0, int a1, float[] a2, int a3)
+	{ if (call(698)) invoke(698, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetObjectParameterfvARB(long a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(699)) invoke(699, new Object[] { a0, a1, a2 }); }
+	public void glGetObjectParameterivAPPLE(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(700)) invoke(700, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetObjectParameterivAPPLE(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(701)) invoke(701, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetObjectParameterivARB(long a0, int a1, int[] a2, int a3)
+	{ if (call(702)) invoke(702, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetObjectParameterivARB(long a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(703)) invoke(703, new Object[] { a0, a1, a2 }); }
+	public void glGetObjectPtrLabel(java.nio.Buffer a0, int a1, int[] a2, int a3, byte[] a4, int a5)
+	{ if (call(704)) invoke(704, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetObjectPtrLabel(java.nio.Buffer a0, int a1, java.nio.IntBuffer a2, java.nio.ByteBuffer a3)
+	{ if (call(705)) invoke(705, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetOcclusionQueryivNV(int a0, int a1, int[] a2, int a3)
+	{ if (call(706)) invoke(706, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetOcclusionQueryivNV(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(707)) invoke(707, new Object[] { a0, a1, a2 }); }
+	public void glGetOcclusionQueryuivNV(int a0, int a1, int[] a2, int a3)
+	{ if (call(708)) invoke(708, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetOcclusionQueryuivNV(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(709)) invoke(709, new Object[] { a0, a1, a2 }); }
+	public void glGetPerfCounterInfoINTEL(int a0, int a1, int a2, byte[] a3, int a4, int a5, byte[] a6, int a7, int[] a8, int a9, int[] a10, int a11, int[] a12, int a13, int[] a14, int a15, long[] a16, int a17)
+	{ if (call(710)) invoke(710, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11, a12, a13, a14, a15, a16, a17 }); }
+	public void glGetPerfCounterInfoINTEL(int a0, int a1, int a2, java.nio.ByteBuffer a3, int a4, java.nio.ByteBuffer a5, java.nio.IntBuffer a6, java.nio.IntBuffer a7, java.nio.IntBuffer a8, java.nio.IntBuffer a9, java.nio.LongBuffer a10)
+	{ if (call(711)) invoke(711, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10 }); }
+	public void glGetPerfMonitorCounterDataAMD(int a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6)
+	{ if (call(712)) invoke(712, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glGetPerfMonitorCounterDataAMD(int a0, int a1, int a2, java.nio.IntBuffer a3, java.nio.IntBuffer a4)
+	{ if (call(713)) invoke(713, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetPerfMonitorCounterInfoAMD(int a0, int a1, int a2, java.nio.Buffer a3)
+	{ if (call(714)) invoke(714, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetPerfMonitorCounterStringAMD(int a0, int a1, int a2, int[] a3, int a4, byte[] a5, int a6)
+	{ if (call(715)) invoke(715, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glGetPerfMonitorCounterStringAMD(int a0, int a1, int a2, java.nio.IntBuffer a3, java.nio.ByteBuffer a4)
+	{ if (call(716)) invoke(716, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetPerfMonitorCountersAMD(int a0, int[] a1, int a2, int[] a3, int a4, int a5, int[] a6, int a7)
+	{ if (call(717)) invoke(717, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glGetPerfMonitorCountersAMD(int a0, java.nio.IntBuffer a1, java.nio.IntBuffer a2, int a3, java.nio.IntBuffer a4)
+	{ if (call(718)) invoke(718, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetPerfMonitorGroupStringAMD(int a0, int a1, int[] a2, int a3, byte[] a4, int a5)
+	{ if (call(719)) invoke(719, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetPerfMonitorGroupStringAMD(int a0, int a1, java.nio.IntBuffer a2, java.nio.ByteBuffer a3)
+	{ if (call(720)) invoke(720, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetPerfMonitorGroupsAMD(int[] a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(721)) invoke(721, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetPerfMonitorGroupsAMD(java.nio.IntBuffer a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(722)) invoke(722, new Object[] { a0, a1, a2 }); }
+	public void glGetPerfQueryDataINTEL(int a0, int a1, int a2, java.nio.Buffer a3, int[] a4, int a5)
+	{ if (call(723)) invoke(723, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetPerfQueryDataINTEL(int a0, int a1, int a2, java.nio.Buffer a3, java.nio.IntBuffer a4)
+	{ if (call(724)) invoke(724, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetPerfQueryIdByNameINTEL(byte[] a0, int a1, int[] a2, int a3)
+	{ if (call(725)) invoke(725, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetPerfQueryIdByNameINTEL(java.nio.ByteBuffer a0, java.nio.IntBuffer a1)
+	{ if (call(726)) invoke(726, new Object[] { a0, a1 }); }
+	public void glGetPerfQueryInfoINTEL(int a0, int a1, byte[] a2, int a3, int[] a4, int a5, int[] a6, int a7, int[] a8, int a9, int[] a10, int a11)
+	{ if (call(727)) invoke(727, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11 }); }
+	public void glGetPerfQueryInfoINTEL(int a0, int a1, java.nio.ByteBuffer a2, java.nio.IntBuffer a3, java.nio.IntBuffer a4, java.nio.IntBuffer a5, java.nio.IntBuffer a6)
+	{ if (call(728)) invoke(728, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glGetPixelMapfv(int a0, float[] a1, int a2)
+	{ if (call(729)) invoke(729, new Object[] { a0, a1, a2 }); }
+	public void glGetPixelMapfv(int a0, java.nio.FloatBuffer a1)
+	{ if (call(730)) invoke(730, new Object[] { a0, a1 }); }
+	public void glGetPixelMapfv(int a0, long a1)
+	{ if (call(731)) invoke(731, new Object[] { a0, a1 }); }
+	public void glGetPixelMapuiv(int a0, int[] a1, int a2)
+	{ if (call(732)) invoke(732, new Object[] { a0, a1, a2 }); }
+	public void glGetPixelMapuiv(int a0, java.nio.IntBuffer a1)
+	{ if (call(733)) invoke(733, new Object[] { a0, a1 }); }
+	public void glGetPixelMapuiv(int a0, long a1)
+	{ if (call(734)) invoke(734, new Object[] { a0, a1 }); }
+	public void glGetPixelMapusv(int a0, short[] a1, int a2)
+	{ if (call(735)) invoke(735, new Object[] { a0, a1, a2 }); }
+	public void glGetPixelMapusv(int a0, java.nio.ShortBuffer a1)
+	{ if (call(736)) invoke(736, new Object[] { a0, a1 }); }
+	public void glGetPixelMapusv(int a0, long a1)
+	{ if (call(737)) invoke(737, new Object[] { a0, a1 }); }
+	public void glGetPixelTransformParameterfvEXT(int a0, int a1, float[] a2, int a3)
+	{ if (call(738)) invoke(738, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetPixelTransformParameterfvEXT(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(739)) invoke(739, new Object[] { a0, a1, a2 }); }
+	public void glGetPixelTransformParameterivEXT(int a0, int a1, int[] a2, int a3)
+	{ if (call(740)) invoke(740, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetPixelTransformParameterivEXT(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(741)) invoke(741, new Object[] { a0, a1, a2 }); }
+	public void glGetPointeri_vEXT(int a0, int a1, com.jogamp.common.nio.PointerBuffer a2)
+	{ if (call(742)) invoke(742, new Object[] { a0, a1, a2 }); }
+	public void glGetPolygonStipple(byte[] a0, int a1)
+	{ if (call(743)) invoke(743, new Object[] { a0, a1 }); }
+	public void glGetPolygonStipple(java.nio.ByteBuffer a0)
+	{ if (call(744)) invoke(744, new Object[] { a0 }); }
+	public void glGetPolygonStipple(long a0)
+	{ if (call(745)) invoke(745, new Object[] { a0 }); }
+	public void glGetProgramBinary(int a0, int a1, int[] a2, int a3, int[] a4, int a5, java.nio.Buffer a6)
+	{ if (call(746)) invoke(746, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glGetProgramBinary(int a0, int a1, java.nio.IntBuffer a2, java.nio.IntBuffer a3, java.nio.Buffer a4)
+	{ if (call(747)) invoke(747, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetProgramEnvParameterIivNV(int a0, int a1, int[] a2, int a3)
+	{ if (call(748)) invoke(748, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetProgramEnvParameterIivNV(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(749)) invoke(749, new Object[] { a0, a1, a2 }); }
+	public void glGetProgramEnvParameterIuivNV(int a0, int a1, int[] a2, int a3)
+	{ if (call(750)) invoke(750, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetProgramEnvParameterIuivNV(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(751)) invoke(751, new Object[] { a0, a1, a2 }); }
+	public void glGetProgramEnvParameterdvARB(int a0, int a1, double[] a2, int a3)
+	{ if (call(752)) invoke(752, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetProgramEnvParameterdvARB(int a0, int a1, java.nio.DoubleBuffer a2)
+	{ if (call(753)) invoke(753, new Object[] { a0, a1, a2 }); }
+	public void glGetProgramEnvParameterfvARB(int a0, int a1, float[] a2, int a3)
+	{ if (call(754)) invoke(754, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetProgramEnvParameterfvARB(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(755)) invoke(755, new Object[] { a0, a1, a2 }); }
+	public void glGetProgramInfoLog(int a0, int a1, int[] a2, int a3, byte[] a4, int a5)
+	{ if (call(756)) invoke(756, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetProgramInfoLog(int a0, int a1, java.nio.IntBuffer a2, java.nio.ByteBuffer a3)
+	{ if (call(757)) invoke(757, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetProgramLocalParameterIivNV(int a0, int a1, int[] a2, int a3)
+	{ if (call(758)) invoke(758, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetProgramLocalParameterIivNV(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(759)) invoke(759, new Object[] { a0, a1, a2 }); }
+	public void glGetProgramLocalParameterIuivNV(int a0, int a1, int[] a2, int a3)
+	{ if (call(760)) invoke(760, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetProgramLocalParameterIuivNV(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(761)) invoke(761, new Object[] { a0, a1, a2 }); }
+	public void glGetProgramLocalParameterdvARB(int a0, int a1, double[] a2, int a3)
+	{ if (call(762)) invoke(762, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetProgramLocalParameterdvARB(int a0, int a1, java.nio.DoubleBuffer a2)
+	{ if (call(763)) invoke(763, new Object[] { a0, a1, a2 }); }
+	public void glGetProgramLocalParameterfvARB(int a0, int a1, float[] a2, int a3)
+	{ if (call(764)) invoke(764, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetProgramLocalParameterfvARB(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(765)) invoke(765, new Object[] { a0, a1, a2 }); }
+	public void glGetProgramPipelineInfoLog(int a0, int a1, int[] a2, int a3, byte[] a4, int a5)
+	{ if (call(766)) invoke(766, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetProgramPipelineInfoLog(int a0, int a1, java.nio.IntBuffer a2, java.nio.ByteBuffer a3)
+	{ if (call(767)) invoke(767, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetProgramPipelineiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(768)) invoke(768, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetProgramPipelineiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(769)) invoke(769, new Object[] { a0, a1, a2 }); }
+	public void glGetProgramStringARB(int a0, int a1, java.nio.Buffer a2)
+	{ if (call(770)) invoke(770, new Object[] { a0, a1, a2 }); }
+	public void glGetProgramSubroutineParameteruivNV(int a0, int a1, int[] a2, int a3)
+	{ if (call(771)) invoke(771, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetProgramSubroutineParameteruivNV(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(772)) invoke(772, new Object[] { a0, a1, a2 }); }
+	public void glGetProgramiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(773)) invoke(773, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetProgramiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(774)) invoke(774, new Object[] { a0, a1, a2 }); }
+	public void glGetProgramivARB(int a0, int a1, int[] a2, int a3)
+	{ if (call(775)) invoke(775, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetProgramivARB(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(776)) invoke(776, new Object[] { a0, a1, a2 }); }
+	public void glGetQueryIndexediv(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(777)) invoke(777, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetQueryIndexediv(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(778)) invoke(778, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetQueryObjecti64v(int a0, int a1, long[] a2, int a3)
+	{ if (call(779)) invoke(779, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetQueryObjecti64v(int a0, int a1, java.nio.LongBuffer a2)
+	{ if (call(780)) invoke(780, new Object[] { a0, a1, a2 }); }
+	public void glGetQueryObjecti64vEXT(int a0, int a1, long[] a2, int a3)
+	{ if (call(781)) invoke(781, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetQueryObjecti64vEXT(int a0, int a1, java.nio.LongBuffer a2)
+	{ if (call(782)) invoke(782, new Object[] { a0, a1, a2 }); }
+	public void glGetQueryObjectiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(783)) invoke(783, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetQueryObjectiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(784)) invoke(784, new Object[] { a0, a1, a2 }); }
+	public void glGetQueryObjectui64v(int a0, int a1, long[] a2, int a3)
+	{ if (call(785)) invoke(785, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetQueryObjectui64v(int a0, int a1, java.nio.LongBuffer a2)
+	{ if (call(786)) invoke(786, new Object[] { a0, a1, a2 }); }
+	public void glGetQueryObjectui64vEXT(int a0, int a1, long[] a2, int a3)
+	{ if (call(787)) invoke(787, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetQueryObjectui64vEXT(int a0, int a1, java.nio.LongBuffer a2)
+	{ if (call(788)) invoke(788, new Object[] { a0, a1, a2 }); }
+	public void glGetQueryObjectuiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(789)) invoke(789, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetQueryObjectuiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(790)) invoke(790, new Object[] { a0, a1, a2 }); }
+	public void glGetQueryiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(791)) invoke(791, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetQueryiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(792)) invoke(792, new Object[] { a0, a1, a2 }); }
+	public void glGetRenderbufferParameteriv(int a0, int a1, int[] a2, int a3)
+	{ if (call(793)) invoke(793, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetRenderbufferParameteriv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(794)) invoke(794, new Object[] { a0, a1, a2 }); }
+	public void glGetSamplerParameterIiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(795)) invoke(795, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetSamplerParameterIiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(796)) invoke(796, new Object[] { a0, a1, a2 }); }
+	public void glGetSamplerParameterIuiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(797)) invoke(797, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetSamplerParameterIuiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(798)) invoke(798, new Object[] { a0, a1, a2 }); }
+	public void glGetSeparableFilter(int a0, int a1, int a2, java.nio.Buffer a3, java.nio.Buffer a4, java.nio.Buffer a5)
+	{ if (call(799)) invoke(799, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetSeparableFilter(int a0, int a1, int a2, long a3, long a4, long a5)
+	{ if (call(800)) invoke(800, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetShaderInfoLog(int a0, int a1, int[] a2, int a3, byte[] a4, int a5)
+	{ if (call(801)) invoke(801, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetShaderInfoLog(int a0, int a1, java.nio.IntBuffer a2, java.nio.ByteBuffer a3)
+	{ if (call(802)) invoke(802, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetShaderPrecisionFormat(int a0, int a1, int[] a2, int a3, int[] a4, int a5)
+	{ if (call(803)) invoke(803, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetShaderPrecisionFormat(int a0, int a1, java.nio.IntBuffer a2, java.nio.IntBuffer a3)
+	{ if (call(804)) invoke(804, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetShaderSource(int a0, int a1, int[] a2, int a3, byte[] a4, int a5)
+	{ if (call(805)) invoke(805, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetShaderSource(int a0, int a1, java.nio.IntBuffer a2, java.nio.ByteBuffer a3)
+	{ if (call(806)) invoke(806, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetShaderSourceARB(long a0, int a1, int[] a2, int a3, byte[] a4, int a5)
+	{ if (call(807)) invoke(807, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetShaderSourceARB(long a0, int a1, java.nio.IntBuffer a2, java.nio.ByteBuffer a3)
+	{ if (call(808)) invoke(808, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetShaderiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(809)) invoke(809, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetShaderiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(810)) invoke(810, new Object[] { a0, a1, a2 }); }
+	public short glGetStageIndexNV(int a0)
+	{ return (call(811) ? ((Number)invoke(811, new Object[] { a0 })).shortValue() : 0); }
+	public java.lang.String glGetString(int a0)
+	{ return (call(812) ? (java.lang.String)invoke(812, new Object[] { a0 }) : null); }
+	public java.lang.String glGetStringi(int a0, int a1)
+	{ return (call(813) ? (java.lang.String)invoke(813, new Object[] { a0, a1 }) : null); }
+	public void glGetTexEnvfv(int a0, int a1, float[] a2, int a3)
+	{ if (call(814)) invoke(814, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetTexEnvfv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(815)) invoke(815, new Object[] { a0, a1, a2 }); }
+	public void glGetTexEnviv(int a0, int a1, int[] a2, int a3)
+	{ if (call(816)) invoke(816, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetTexEnviv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(817)) invoke(817, new Object[] { a0, a1, a2 }); }
+	public void glGetTexGendv(int a0, int a1, double[] a2, int a3)
+	{ if (call(818)) invoke(818, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetTexGendv(int a0, int a1, java.nio.DoubleBuffer a2)
+	{ if (call(819)) invoke(819, new Object[] { a0, a1, a2 }); }
+	public void glGetTexGenfv(int a0, int a1, float[] a2, int a3)
+	{ if (call(820)) invoke(820, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetTexGenfv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(821)) invoke(821, new Object[] { a0, a1, a2 }); }
+	public void glGetTexGeniv(int a0, int a1, int[] a2, int a3)
+	{ if (call(822)) invoke(822, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetTexGeniv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(823)) invoke(823, new Object[] { a0, a1, a2 }); }
+	public void glGetTexImage(int a0, int a1, int a2, int a3, java.nio.Buffer a4)
+	{ if (call(824)) invoke(824, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetTexImage(int a0, int a1, int a2, int a3, long a4)
+	{ if (call(825)) invoke(825, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetTexLevelParameterfv(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(826)) invoke(826, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetTexLevelParameterfv(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(827)) invoke(827, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetTexLevelParameteriv(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(828)) invoke(828, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetTexLevelParameteriv(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(829)) invoke(829, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetTexParameterIiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(830)) invoke(830, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetTexParameterIiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(831)) invoke(831, new Object[] { a0, a1, a2 }); }
+	public void glGetTexParameterIuiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(832)) invoke(832, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetTexParameterIuiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(833)) invoke(833, new Object[] { a0, a1, a2 }); }
+	public void glGetTexParameterfv(int a0, int a1, float[] a2, int a3)
+	{ if (call(834)) invoke(834, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetTexParameterfv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(835)) invoke(835, new Object[] { a0, a1, a2 }); }
+	public void glGetTexParameteriv(int a0, int a1, int[] a2, int a3)
+	{ if (call(836)) invoke(836, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetTexParameteriv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(837)) invoke(837, new Object[] { a0, a1, a2 }); }
+	public void glGetTextureImageEXT(int a0, int a1, int a2, int a3, int a4, java.nio.Buffer a5)
+	{ if (call(838)) invoke(838, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetTextureLevelParameterfvEXT(int a0, int a1, int a2, int a3, float[] a4, int a5)
+	{ if (call(839)) invoke(839, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetTextureLevelParameterfvEXT(int a0, int a1, int a2, int a3, java.nio.FloatBuffer a4)
+	{ if (call(840)) invoke(840, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetTextureLevelParameterivEXT(int a0, int a1, int a2, int a3, int[] a4, int a5)
+	{ if (call(841)) invoke(841, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetTextureLevelParameterivEXT(int a0, int a1, int a2, int a3, java.nio.IntBuffer a4)
+	{ if (call(842)) invoke(842, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetTextureParameterIivEXT(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(843)) invoke(843, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetTextureParameterIivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(844)) invoke(844, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetTextureParameterIuivEXT(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(845)) invoke(845, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetTextureParameterIuivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(846)) invoke(846, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetTextureParameterfvEXT(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(847)) invoke(847, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetTextureParameterfvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(848)) invoke(848, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetTextureParameterivEXT(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(849)) invoke(849, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetTextureParameterivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(850)) invoke(850, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetTransformFeedbackVarying(int a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6, int[] a7, int a8, byte[] a9, int a10)
+	{ if (call(851)) invoke(851, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10 }); }
+	public void glGetTransformFeedbackVarying(int a0, int a1, int a2, java.nio.IntBuffer a3, java.nio.IntBuffer a4, java.nio.IntBuffer a5, java.nio.ByteBuffer a6)
+	{ if (call(852)) invoke(852, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public int glGetUniformBlockIndex(int a0, java.lang.String a1)
+	{ return (call(853) ? ((Number)invoke(853, new Object[] { a0, a1 })).intValue() : 0); }
+	public int glGetUniformBufferSizeEXT(int a0, int a1)
+	{ return (call(854) ? ((Number)invoke(854, new Object[] { a0, a1 })).intValue() : 0); }
+	public void glGetUniformIndices(int a0, int a1, java.lang.String[] a2, int[] a3, int a4)
+	{ if (call(855)) invoke(855, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetUniformIndices(int a0, int a1, java.lang.String[] a2, java.nio.IntBuffer a3)
+	{ if (call(856)) invoke(856, new Object[] { a0, a1, a2, a3 }); }
+	public int glGetUniformLocation(int a0, java.lang.String a1)
+	{ return (call(857) ? ((Number)invoke(857, new Object[] { a0, a1 })).intValue() : 0); }
+	public int glGetUniformLocationARB(long a0, java.lang.String a1)
+	{ return (call(858) ? ((Number)invoke(858, new Object[] { a0, a1 })).intValue() : 0); }
+	public long glGetUniformOffsetEXT(int a0, int a1)
+	{ return (call(859) ? ((Number)invoke(859, new Object[] { a0, a1 })).longValue() : 0L); }
+	public void glGetUniformfv(int a0, int a1, float[] a2, int a3)
+	{ if (call(860)) invoke(860, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetUniformfv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(861)) invoke(861, new Object[] { a0, a1, a2 }); }
+	public void glGetUniformfvARB(long a0, int a1, float[] a2, int a3)
+	{ if (call(862)) invoke(862, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetUniformfvARB(long a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(863)) invoke(863, new Object[] { a0, a1, a2 }); }
+	public void glGetUniformi64vNV(int a0, int a1, long[] a2, int a3)
+	{ if (call(864)) invoke(864, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetUniformi64vNV(int a0, int a1, java.nio.LongBuffer a2)
+	{ if (call(865)) invoke(865, new Object[] { a0, a1, a2 }); }
+	public void glGetUniformiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(866)) invoke(866, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetUniformiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(867)) invoke(867, new Object[] { a0, a1, a2 }); }
+	public void glGetUniformivARB(long a0, int a1, int[] a2, int a3)
+	{ if (call(868)) invoke(868, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetUniformivARB(long a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(869)) invoke(869, new Object[] { a0, a1, a2 }); }
+	public void glGetUniformui64vNV(int a0, int a1, long[] a2, int a3)
+	{ if (call(870)) invoke(870, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetUniformui64vNV(int a0, int a1, java.nio.LongBuffer a2)
+	{ if (call(871)) invoke(871, new Object[] { a0, a1, a2 }); }
+	public void glGetUniformuiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(872)) invoke(872, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetUniformuiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(873)) invoke(873, new Object[] { a0, a1, a2 }); }
+	public void glGetVariantBooleanvEXT(int a0, int a1, byte[] a2, int a3)
+	{ if (call(874)) invoke(874, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetVariantBooleanvEXT(int a0, int a1, java.nio.ByteBuffer a2)
+	{ if (call(875)) invoke(875, new Object[] { a0, a1, a2 }); }
+	public void glGetVariantFloatvEXT(int a0, int a1, float[] a2, int a3)
+	{ if (call(876)) invoke(876, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetVariantFloatvEXT(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(877)) invoke(877, new Object[] { a0, a1, a2 }); }
+	public void glGetVariantIntegervEXT(int a0, int a1, int[] a2, int a3)
+	{ if (call(878)) invoke(878, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetVariantIntegervEXT(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(879)) invoke(879, new Object[] { a0, a1, a2 }); }
+	public void glGetVertexArrayIntegeri_vEXT(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(880)) invoke(880, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetVertexArrayIntegeri_vEXT(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(881)) invoke(881, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetVertexArrayIntegervEXT(int a0, int a1, int[] a2, int a3)
+	{ if (call(882)) invoke(882, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetVertexArrayIntegervEXT(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(883)) invoke(883, new Object[] { a0, a1, a2 }); }
+	public void glGetVertexArrayPointeri_vEXT(int a0, int a1, int a2, com.jogamp.common.nio.PointerBuffer a3)
+	{ if (call(884)) invoke(884, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetVertexArrayPointervEXT(int a0, int a1, com.jogamp.common.nio.PointerBuffer a2)
+	{ if (call(885)) invoke(885, new Object[] { a0, a1, a2 }); }
+	public void glGetVertexAttribIiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(886)) invoke(886, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetVertexAttribIiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(887)) invoke(887, new Object[] { a0, a1, a2 }); }
+	public void glGetVertexAttribIivEXT(int a0, int a1, int[] a2, int a3)
+	{ if (call(888)) invoke(888, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetVertexAttribIivEXT(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(889)) invoke(889, new Object[] { a0, a1, a2 }); }
+	public void glGetVertexAttribIuiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(890)) invoke(890, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetVertexAttribIuiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(891)) invoke(891, new Object[] { a0, a1, a2 }); }
+	public void glGetVertexAttribIuivEXT(int a0, int a1, int[] a2, int a3)
+	{ if (call(892)) invoke(892, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetVertexAttribIuivEXT(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(893)) invoke(893, new Object[] { a0, a1, a2 }); }
+	public void glGetVertexAttribLdv(int a0, int a1, double[] a2, int a3)
+	{ if (call(894)) invoke(894, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetVertexAttribLdv(int a0, int a1, java.nio.DoubleBuffer a2)
+	{ if (call(895)) invoke(895, new Object[] { a0, a1, a2 }); }
+	public void glGetVertexAttribLi64vNV(int a0, int a1, long[] a2, int a3)
+	{ if (call(896)) invoke(896, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetVertexAttribLi64vNV(int a0, int a1, java.nio.LongBuffer a2)
+	{ if (call(897)) invoke(897, new Object[] { a0, a1, a2 }); }
+	public void glGetVertexAttribLui64vNV(int a0, int a1, long[] a2, int a3)
+	{ if (call(898)) invoke(898, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetVertexAttribLui64vNV(int a0, int a1, java.nio.LongBuffer a2)
+	{ if (call(899)) invoke(899, new Object[] { a0, a1, a2 }); }
+	public void glGetVertexAttribdv(int a0, int a1, double[] a2, int a3)
+	{ if (call(900)) invoke(900, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetVertexAttribdv(int a0, int a1, java.nio.DoubleBuffer a2)
+	{ if (call(901)) invoke(901, new Object[] { a0, a1, a2 }); }
+	public void glGetVertexAttribdvARB(int a0, int a1, double[] a2, int a3)
+	{ if (call(902)) invoke(902, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetVertexAttribdvARB(int a0, int a1, java.nio.DoubleBuffer a2)
+	{ if (call(903)) invoke(903, new Object[] { a0, a1, a2 }); }
+	public void glGetVertexAttribfv(int a0, int a1, float[] a2, int a3)
+	{ if (call(904)) invoke(904, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetVertexAttribfv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(905)) invoke(905, new Object[] { a0, a1, a2 }); }
+	public void glGetVertexAttribfvARB(int a0, int a1, float[] a2, int a3)
+	{ if (call(906)) invoke(906, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetVertexAttribfvARB(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(907)) invoke(907, new Object[] { a0, a1, a2 }); }
+	public void glGetVertexAttribiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(908)) invoke(908, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetVertexAttribiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(909)) invoke(909, new Object[] { a0, a1, a2 }); }
+	public void glGetVertexAttribivARB(int a0, int a1, int[] a2, int a3)
+	{ if (call(910)) invoke(910, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetVertexAttribivARB(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(911)) invoke(911, new Object[] { a0, a1, a2 }); }
+	public void glGetVideoCaptureStreamdvNV(int a0, int a1, int a2, double[] a3, int a4)
+	{ if (call(912)) invoke(912, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetVideoCaptureStreamdvNV(int a0, int a1, int a2, java.nio.DoubleBuffer a3)
+	{ if (call(913)) invoke(913, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetVideoCaptureStreamfvNV(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(914)) invoke(914, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetVideoCaptureStreamfvNV(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(915)) invoke(915, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetVideoCaptureStreamivNV(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(916)) invoke(916, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetVideoCaptureStreamivNV(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(917)) invoke(917, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetVideoCaptureivNV(int a0, int a1, int[] a2, int a3)
+	{ if (call(918)) invoke(918, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetVideoCaptureivNV(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(919)) invoke(919, new Object[] { a0, a1, a2 }); }
+	public void glGetnColorTable(int a0, int a1, int a2, int a3, java.nio.Buffer a4)
+	{ if (call(920)) invoke(920, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetnCompressedTexImage(int a0, int a1, int a2, java.nio.Buffer a3)
+	{ if (call(921)) invoke(921, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetnConvolutionFilter(int a0, int a1, int a2, int a3, java.nio.Buffer a4)
+	{ if (call(922)) invoke(922, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetnHistogram(int a0, boolean a1, int a2, int a3, int a4, java.nio.Buffer a5)
+	{ if (call(923)) invoke(923, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetnMapdv(int a0, int a1, int a2, double[] a3, int a4)
+	{ if (call(924)) invoke(924, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetnMapdv(int a0, int a1, int a2, java.nio.DoubleBuffer a3)
+	{ if (call(925)) invoke(925, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetnMapfv(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(926)) invoke(926, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetnMapfv(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(927)) invoke(927, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetnMapiv(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(928)) invoke(928, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetnMapiv(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(929)) invoke(929, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetnMinmax(int a0, boolean a1, int a2, int a3, int a4, java.nio.Buffer a5)
+	{ if (call(930)) invoke(930, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetnPixelMapfv(int a0, int a1, float[] a2, int a3)
+	{ if (call(931)) invoke(931, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetnPixelMapfv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(932)) invoke(932, new Object[] { a0, a1, a2 }); }
+	public void glGetnPixelMapuiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(933)) invoke(933, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetnPixelMapuiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(934)) invoke(934, new Object[] { a0, a1, a2 }); }
+	public void glGetnPixelMapusv(int a0, int a1, short[] a2, int a3)
+	{ if (call(935)) invoke(935, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetnPixelMapusv(int a0, int a1, java.nio.ShortBuffer a2)
+	{ if (call(936)) invoke(936, new Object[] { a0, a1, a2 }); }
+	public void glGetnPolygonStipple(int a0, byte[] a1, int a2)
+	{ if (call(937)) invoke(937, new Object[] { a0, a1, a2 }); }
+	public void glGetnPolygonStipple(int a0, java.nio.ByteBuffer a1)
+	{ if (call(938)) invoke(938, new Object[] { a0, a1 }); }
+	public void glGetnSeparableFilter(int a0, int a1, int a2, int a3, java.nio.Buffer a4, int a5, java.nio.Buffer a6, java.nio.Buffer a7)
+	{ if (call(939)) invoke(939, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glGetnTexImage(int a0, int a1, int a2, int a3, int a4, java.nio.Buffer a5)
+	{ if (call(940)) invoke(940, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glGetnUniformdv(int a0, int a1, int a2, double[] a3, int a4)
+	{ if (call(941)) invoke(941, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetnUniformdv(int a0, int a1, int a2, java.nio.DoubleBuffer a3)
+	{ if (call(942)) invoke(942, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetnUniformfv(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(943)) invoke(943, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetnUniformfv(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(944)) invoke(944, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetnUniformiv(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(945)) invoke(945, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetnUniformiv(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(946)) invoke(946, new Object[] { a0, a1, a2, a3 }); }
+	public void glGetnUniformuiv(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(947)) invoke(947, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glGetnUniformuiv(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(948)) invoke(948, new Object[] { a0, a1, a2, a3 }); }
+	public void glHint(int a0, int a1)
+	{ if (call(949)) invoke(949, new Object[] { a0, a1 }); }
+	public void glHistogram(int a0, int a1, int a2, boolean a3)
+	{ if (call(950)) invoke(950, new Object[] { a0, a1, a2, a3 }); }
+	public long glImportSyncEXT(int a0, long a1, int a2)
+	{ return (call(951) ? ((Number)invoke(951, new Object[] { a0, a1, a2 })).longValue() : 0L); }
+	public void glIndexFormatNV(int a0, int a1)
+	{ if (call(952)) invoke(952, new Object[] { a0, a1 }); }
+	public void glIndexFuncEXT(int a0, float a1)
+	{ if (call(953)) invoke(953, new Object[] { a0, a1 }); }
+	public void glIndexMask(int a0)
+	{ if (call(954)) invoke(954, new Object[] { a0 }); }
+	public void glIndexMaterialEXT(int a0, int a1)
+	{ if (call(955)) invoke(955, new Object[] { a0, a1 }); }
+	public void glIndexPointer(int a0, int a1, java.nio.Buffer a2)
+	{ if (call(956)) invoke(956, new Object[] { a0, a1, a2 }); }
+	public void glIndexd(double a0)
+	{ if (call(957)) invoke(957, new Object[] { a0 }); }
+	public void glIndexdv(double[] a0, int a1)
+	{ if (call(958)) invoke(958, new Object[] { a0, a1 }); }
+	public void glIndexdv(java.nio.DoubleBuffer a0)
+	{ if (call(959)) invoke(959, new Object[] { a0 }); }
+	public void glIndexf(float a0)
+	{ if (call(960)) invoke(960, new Object[] { a0 }); }
+	public void glIndexfv(float[] a0, int a1)
+	{ if (call(961)) invoke(961, new Object[] { a0, a1 }); }
+	public void glIndexfv(java.nio.FloatBuffer a0)
+	{ if (call(962)) invoke(962, new Object[] { a0 }); }
+	public void glIndexi(int a0)
+	{ if (call(963)) invoke(963, new Object[] { a0 }); }
+	public void glIndexiv(int[] a0, int a1)
+	{ if (call(964)) invoke(964, new Object[] { a0, a1 }); }
+	public void glIndexiv(java.nio.IntBuffer a0)
+	{ if (call(965)) invoke(965, new Object[] { a0 }); }
+	public void glIndexs(short a0)
+	{ if (call(966)) invoke(966, new Object[] { a0 }); }
+	public void glIndexsv(short[] a0, int a1)
+	{ if (call(967)) invoke(967, new Object[] { a0, a1 }); }
+	public void glIndexsv(java.nio.ShortBuffer a0)
+	{ if (call(968)) invoke(968, new Object[] { a0 }); }
+	public void glIndexub(byte a0)
+	{ if (call(969)) invoke(969, new Object[] { a0 }); }
+	public void glIndexubv(byte[] a0, int a1)
+	{ if (call(970)) invoke(970, new Object[] { a0, a1 }); }
+	public void glIndexubv(java.nio.ByteBuffer a0)
+	{ if (call(971)) invoke(971, new Object[] { a0 }); }
+	public void glInitNames()
+	{ if (call(972)) invoke(972, null); }
+	public void glInsertComponentEXT(int a0, int a1, int a2)
+	{ if (call(973)) invoke(973, new Object[] { a0, a1, a2 }); }
+	public void glInterleavedArrays(int a0, int a1, java.nio.Buffer a2)
+	{ if (call(974)) invoke(974, new Object[] { a0, a1, a2 }); }
+	public void glInterleavedArrays(int a0, int a1, long a2)
+	{ if (call(975)) invoke(975, new Object[] { a0, a1, a2 }); }
+	public void glInvalidateBufferData(int a0)
+	{ if (call(976)) invoke(976, new Object[] { a0 }); }
+	public void glInvalidateBufferSubData(int a0, long a1, long a2)
+	{ if (call(977)) invoke(977, new Object[] { a0, a1, a2 }); }
+	public void glInvalidateFramebuffer(int a0, int a1, int[] a2, int a3)
+	{ if (call(978)) invoke(978, new Object[] { a0, a1, a2, a3 }); }
+	public void glInvalidateFramebuffer(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(979)) invoke(979, new Object[] { a0, a1, a2 }); }
+	public void glInvalidateSubFramebuffer(int a0, int a1, int[] a2, int a3, int a4, int a5, int a6, int a7)
+	{ if (call(980)) invoke(980, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glInvalidateSubFramebuffer(int a0, int a1, java.nio.IntBuffer a2, int a3, int a4, int a5, int a6)
+	{ if (call(981)) invoke(981, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glInvalidateTexImage(int a0, int a1)
+	{ if (call(982)) invoke(982, new Object[] { a0, a1 }); }
+	public void glInvalidateTexSubImage(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7)
+	{ if (call(983)) invoke(983, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public boolean glIsBuffer(int a0)
+	{ return (call(984) ? Boolean.TRUE.equals(invoke(984, new Object[] { a0 })) : false); }
+	public boolean glIsBufferResidentNV(int a0)
+	{ return (call(985) ? Boolean.TRUE.equals(invoke(985, new Object[] { a0 })) : false); }
+	public boolean glIsCommandListNV(int a0)
+	{ return (call(986) ? Boolean.TRUE.equals(invoke(986, new Object[] { a0 })) : false); }
+	public boolean glIsEnabled(int a0)
+	{ return (call(987) ? Boolean.TRUE.equals(invoke(987, new Object[] { a0 })) : false); }
+	public boolean glIsEnabledIndexed(int a0, int a1)
+	{ return (call(988) ? Boolean.TRUE.equals(invoke(988, new Object[] { a0, a1 })) : false); }
+	public boolean glIsEnabledi(int a0, int a1)
+	{ return (call(989) ? Boolean.TRUE.equals(invoke(989, new Object[] { a0, a1 })) : false); }
+	public boolean glIsFramebuffer(int a0)
+	{ return (call(990) ? Boolean.TRUE.equals(invoke(990, new Object[] { a0 })) : false); }
+	public boolean glIsList(int a0)
+	{ return (call(991) ? Boolean.TRUE.equals(invoke(991, new Object[] { a0 })) : false); }
+	public boolean glIsNameAMD(int a0, int a1)
+	{ return (call(992) ? Boolean.TRUE.equals(invoke(992, new Object[] { a0, a1 })) : false); }
+	public boolean glIsNamedBufferResidentNV(int a0)
+	{ return (call(993) ? Boolean.TRUE.equals(invoke(993, new Object[] { a0 })) : false); }
+	public boolean glIsOcclusionQueryNV(int a0)
+	{ return (call(994) ? Boolean.TRUE.equals(invoke(994, new Object[] { a0 })) : false); }
+	public boolean glIsProgram(int a0)
+	{ return (call(995) ? Boolean.TRUE.equals(invoke(995, new Object[] { a0 })) : false); }
+	public boolean glIsProgramARB(int a0)
+	{ return (call(996) ? Boolean.TRUE.equals(invoke(996, new Object[] { a0 })) : false); }
+	public boolean glIsProgramPipeline(int a0)
+	{ return (call(997) ? Boolean.TRUE.equals(invoke(997, new Object[] { a0 })) : false); }
+	public boolean glIsQuery(int a0)
+	{ return (call(998) ? Boolean.TRUE.equals(invoke(998, new Object[] { a0 })) : false); }
+	public boolean glIsRenderbuffer(int a0)
+	{ return (call(999) ? Boolean.TRUE.equals(invoke(999, new Object[] { a0 })) : false); }
+	public boolean glIsShader(int a0)
+	{ return (call(1000) ? Boolean.TRUE.equals(invoke(1000, new Object[] { a0 })) : false); }
+	public boolean glIsStateNV(int a0)
+	{ return (call(1001) ? Boolean.TRUE.equals(invoke(1001, new Object[] { a0 })) : false); }
+	public boolean glIsTexture(int a0)
+	{ return (call(1002) ? Boolean.TRUE.equals(invoke(1002, new Object[] { a0 })) : false); }
+	public boolean glIsTransformFeedback(int a0)
+	{ return (call(1003) ? Boolean.TRUE.equals(invoke(1003, new Object[] { a0 })) : false); }
+	public boolean glIsTransformFeedbackNV(int a0)
+	{ return (call(1004) ? Boolean.TRUE.equals(invoke(1004, new Object[] { a0 })) : false); }
+	public boolean glIsVariantEnabledEXT(int a0, int a1)
+	{ return (call(1005) ? Boolean.TRUE.equals(invoke(1005, new Object[] { a0, a1 })) : false); }
+	public boolean glIsVertexArray(int a0)
+	{ return (call(1006) ? Boolean.TRUE.equals(invoke(1006, new Object[] { a0 })) : false); }
+	public boolean glIsVertexAttribEnabledAPPLE(int a0, int a1)
+	{ return (call(1007) ? Boolean.TRUE.equals(invoke(1007, new Object[] { a0, a1 })) : false); }
+	public void glLightModelf(int a0, float a1)
+	{ if (call(1008)) invoke(1008, new Object[] { a0, a1 }); }
+	public void glLightModelfv(int a0, float[] a1, int a2)
+	{ if (call(1009)) invoke(1009, new Object[] { a0, a1, a2 }); }
+	public void glLightModelfv(int a0, java.nio.FloatBuffer a1)
+	{ if (call(1010)) invoke(1010, new Object[] { a0, a1 }); }
+	public void glLightModeli(int a0, int a1)
+	{ if (call(1011)) invoke(1011, new Object[] { a0, a1 }); }
+	public void glLightModeliv(int a0, int[] a1, int a2)
+	{ if (call(1012)) invoke(1012, new Object[] { a0, a1, a2 }); }
+	public void glLightModeliv(int a0, java.nio.IntBuffer a1)
+	{ if (call(1013)) invoke(1013, new Object[] { a0, a1 }); }
+	public void glLightf(int a0, int a1, float a2)
+	{ if (call(1014)) invoke(1014, new Object[] { a0, a1, a2 }); }
+	public void glLightfv(int a0, int a1, float[] a2, int a3)
+	{ if (call(1015)) invoke(1015, new Object[] { a0, a1, a2, a3 }); }
+	public void glLightfv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(1016)) invoke(1016, new Object[] { a0, a1, a2 }); }
+	public void glLighti(int a0, int a1, int a2)
+	{ if (call(1017)) invoke(1017, new Object[] { a0, a1, a2 }); }
+	public void glLightiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(1018)) invoke(1018, new Object[] { a0, a1, a2, a3 }); }
+	public void glLightiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1019)) invoke(1019, new Object[] { a0, a1, a2 }); }
+	public void glLineStipple(int a0, short a1)
+	{ if (call(1020)) invoke(1020, new Object[] { a0, a1 }); }
+	public void glLineWidth(float a0)
+	{ if (call(1021)) invoke(1021, new Object[] { a0 }); }
+	public void glLinkProgram(int a0)
+	{ if (call(1022)) invoke(1022, new Object[] { a0 }); }
+	public void glLinkProgramARB(long a0)
+	{ if (call(1023)) invoke(1023, new Object[] { a0 }); }
+	public void glListBase(int a0)
+	{ if (call(1024)) invoke(1024, new Object[] { a0 }); }
+	public void glListDrawCommandsStatesClientNV(int a0, int a1, com.jogamp.common.nio.PointerBuffer a2, int[] a3, int a4, int[] a5, int a6, int[] a7, int a8, int a9)
+	{ if (call(1025)) invoke(1025, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9 }); }
+	public void glListDrawCommandsStatesClientNV(int a0, int a1, com.jogamp.common.nio.PointerBuffer a2, java.nio.IntBuffer a3, java.nio.IntBuffer a4, java.nio.IntBuffer a5, int a6)
+	{ if (call(1026)) invoke(1026, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glLoadIdentity()
+	{ if (call(1027)) invoke(1027, null); }
+	public void glLoadMatrixd(double[] a0, int a1)
+	{ if (call(1028)) invoke(1028, new Object[] { a0, a1 }); }
+	public void glLoadMatrixd(java.nio.DoubleBuffer a0)
+	{ if (call(1029)) invoke(1029, new Object[] { a0 }); }
+	public void glLoadMatrixf(float[] a0, int a1)
+	{ if (call(1030)) invoke(1030, new Object[] { a0, a1 }); }
+	public void glLoadMatrixf(java.nio.FloatBuffer a0)
+	{ if (call(1031)) invoke(1031, new Object[] { a0 }); }
+	public void glLoadName(int a0)
+	{ if (call(1032)) invoke(1032, new Object[] { a0 }); }
+	public void glLoadTransposeMatrixd(double[] a0, int a1)
+	{ if (call(1033)) invoke(1033, new Object[] { a0, a1 }); }
+	public void glLoadTransposeMatrixd(java.nio.DoubleBuffer a0)
+	{ if (call(1034)) invoke(1034, new Object[] { a0 }); }
+	public void glLoadTransposeMatrixf(float[] a0, int a1)
+	{ if (call(1035)) invoke(1035, new Object[] { a0, a1 }); }
+	public void glLoadTransposeMatrixf(java.nio.FloatBuffer a0)
+	{ if (call(1036)) invoke(1036, new Object[] { a0 }); }
+	public void glLockArraysEXT(int a0, int a1)
+	{ if (call(1037)) invoke(1037, new Object[] { a0, a1 }); }
+	public void glLogicOp(int a0)
+	{ if (call(1038)) invoke(1038, new Object[] { a0 }); }
+	public void glMakeBufferNonResidentNV(int a0)
+	{ if (call(1039)) invoke(1039, new Object[] { a0 }); }
+	public void glMakeBufferResidentNV(int a0, int a1)
+	{ if (call(1040)) invoke(1040, new Object[] { a0, a1 }); }
+	public void glMakeNamedBufferNonResidentNV(int a0)
+	{ if (call(1041)) invoke(1041, new Object[] { a0 }); }
+	public void glMakeNamedBufferResidentNV(int a0, int a1)
+	{ if (call(1042)) invoke(1042, new Object[] { a0, a1 }); }
+	public void glMap1d(int a0, double a1, double a2, int a3, int a4, double[] a5, int a6)
+	{ if (call(1043)) invoke(1043, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glMap1d(int a0, double a1, double a2, int a3, int a4, java.nio.DoubleBuffer a5)
+	{ if (call(1044)) invoke(1044, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glMap1f(int a0, float a1, float a2, int a3, int a4, float[] a5, int a6)
+	{ if (call(1045)) invoke(1045, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glMap1f(int a0, float a1, float a2, int a3, int a4, java.nio.FloatBuffer a5)
+	{ if (call(1046)) invoke(1046, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glMap2d(int a0, double a1, double a2, int a3, int a4, double a5, double a6, int a7, int a8, double[] a9, int a10)
+	{ if (call(1047)) invoke(1047, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10 }); }
+	public void glMap2d(int a0, double a1, double a2, int a3, int a4, double a5, double a6, int a7, int a8, java.nio.DoubleBuffer a9)
+	{ if (call(1048)) invoke(1048, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9 }); }
+	public void glMap2f(int a0, float a1, float a2, int a3, int a4, float a5, float a6, int a7, int a8, float[] a9, int a10)
+	{ if (call(1049)) invoke(1049, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10 }); }
+	public void glMap2f(int a0, float a1, float a2, int a3, int a4, float a5, float a6, int a7, int a8, java.nio.FloatBuffer a9)
+	{ if (call(1050)) invoke(1050, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9 }); }
+	public java.nio.ByteBuffer glMapBuffer(int a0, int a1)
+	{ return (call(1051) ? (java.nio.ByteBuffer)invoke(1051, new Object[] { a0, a1 }) : null); }
+	public java.nio.ByteBuffer glMapBufferRange(int a0, long a1, long a2, int a3)
+	{ return (call(1052) ? (java.nio.ByteBuffer)invoke(1052, new Object[] { a0, a1, a2, a3 }) : null); }
+	public void glMapControlPointsNV(int a0, int a1, int a2, int a3, int a4, int a5, int a6, boolean a7, java.nio.Buffer a8)
+	{ if (call(1053)) invoke(1053, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glMapGrid1d(int a0, double a1, double a2)
+	{ if (call(1054)) invoke(1054, new Object[] { a0, a1, a2 }); }
+	public void glMapGrid1f(int a0, float a1, float a2)
+	{ if (call(1055)) invoke(1055, new Object[] { a0, a1, a2 }); }
+	public void glMapGrid2d(int a0, double a1, double a2, int a3, double a4, double a5)
+	{ if (call(1056)) invoke(1056, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glMapGrid2f(int a0, float a1, float a2, int a3, float a4, float a5)
+	{ if (call(1057)) invoke(1057, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public java.nio.ByteBuffer glMapNamedBufferEXT(int a0, int a1)
+	{ return (call(1058) ? (java.nio.ByteBuffer)invoke(1058, new Object[] { a0, a1 }) : null); }
+	public java.nio.ByteBuffer glMapNamedBufferRangeEXT(int a0, long a1, long a2, int a3)
+	{ return (call(1059) ? (java.nio.ByteBuffer)invoke(1059, new Object[] { a0, a1, a2, a3 }) : null); }
+	public void glMapParameterfvNV(int a0, int a1, float[] a2, int a3)
+	{ if (call(1060)) invoke(1060, new Object[] { a0, a1, a2, a3 }); }
+	public void glMapParameterfvNV(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(1061)) invoke(1061, new Object[] { a0, a1, a2 }); }
+	public void glMapParameterivNV(int a0, int a1, int[] a2, int a3)
+	{ if (call(1062)) invoke(1062, new Object[] { a0, a1, a2, a3 }); }
+	public void glMapParameterivNV(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1063)) invoke(1063, new Object[] { a0, a1, a2 }); }
+	public java.nio.ByteBuffer glMapTexture2DINTEL(int a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6)
+	{ return (call(1064) ? (java.nio.ByteBuffer)invoke(1064, new Object[] { a0, a1, a2, a3, a4, a5, a6 }) : null); }
+	public java.nio.ByteBuffer glMapTexture2DINTEL(int a0, int a1, int a2, java.nio.IntBuffer a3, java.nio.IntBuffer a4)
+	{ return (call(1065) ? (java.nio.ByteBuffer)invoke(1065, new Object[] { a0, a1, a2, a3, a4 }) : null); }
+	public void glMapVertexAttrib1dAPPLE(int a0, int a1, double a2, double a3, int a4, int a5, double[] a6, int a7)
+	{ if (call(1066)) invoke(1066, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glMapVertexAttrib1dAPPLE(int a0, int a1, double a2, double a3, int a4, int a5, java.nio.DoubleBuffer a6)
+	{ if (call(1067)) invoke(1067, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glMapVertexAttrib1fAPPLE(int a0, int a1, float a2, float a3, int a4, int a5, float[] a6, int a7)
+	{ if (call(1068)) invoke(1068, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glMapVertexAttrib1fAPPLE(int a0, int a1, float a2, float a3, int a4, int a5, java.nio.FloatBuffer a6)
+	{ if (call(1069)) invoke(1069, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glMapVertexAttrib2dAPPLE(int a0, int a1, double a2, double a3, int a4, int a5, double a6, double a7, int a8, int a9, double[] a10, int a11)
+	{ if (call(1070)) invoke(1070, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11 }); }
+	public void glMapVertexAttrib2dAPPLE(int a0, int a1, double a2, double a3, int a4, int a5, double a6, double a7, int a8, int a9, java.nio.DoubleBuffer a10)
+	{ if (call(1071)) invoke(1071, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10 }); }
+	public void glMapVertexAttrib2fAPPLE(int a0, int a1, float a2, float a3, int a4, int a5, float a6, float a7, int a8, int a9, float[] a10, int a11)
+	{ if (call(1072)) invoke(1072, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11 }); }
+	public void glMapVertexAttrib2fAPPLE(int a0, int a1, float a2, float a3, int a4, int a5, float a6, float a7, int a8, int a9, java.nio.FloatBuffer a10)
+	{ if (call(1073)) invoke(1073, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10 }); }
+	public void glMaterialf(int a0, int a1, float a2)
+	{ if (call(1074)) invoke(1074, new Object[] { a0, a1, a2 }); }
+	public void glMaterialfv(int a0, int a1, float[] a2, int a3)
+	{ if (call(1075)) invoke(1075, new Object[] { a0, a1, a2, a3 }); }
+	public void glMaterialfv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(1076)) invoke(1076, new Object[] { a0, a1, a2 }); }
+	public void glMateriali(int a0, int a1, int a2)
+	{ if (call(1077)) invoke(1077, new Object[] { a0, a1, a2 }); }
+	public void glMaterialiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(1078)) invoke(1078, new Object[] { a0, a1, a2, a3 }); }
+	public void glMaterialiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1079)) invoke(1079, new Object[] { a0, a1, a2 }); }
+	public void glMatrixFrustumEXT(int a0, double a1, double a2, double a3, double a4, double a5, double a6)
+	{ if (call(1080)) invoke(1080, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glMatrixIndexPointerARB(int a0, int a1, int a2, java.nio.Buffer a3)
+	{ if (call(1081)) invoke(1081, new Object[] { a0, a1, a2, a3 }); }
+	public void glMatrixIndexPointerARB(int a0, int a1, int a2, long a3)
+	{ if (call(1082)) invoke(1082, new Object[] { a0, a1, a2, a3 }); }
+	public void glMatrixIndexubvARB(int a0, byte[] a1, int a2)
+	{ if (call(1083)) invoke(1083, new Object[] { a0, a1, a2 }); }
+	public void glMatrixIndexubvARB(int a0, java.nio.ByteBuffer a1)
+	{ if (call(1084)) invoke(1084, new Object[] { a0, a1 }); }
+	public void glMatrixIndexuivARB(int a0, int[] a1, int a2)
+	{ if (call(1085)) invoke(1085, new Object[] { a0, a1, a2 }); }
+	public void glMatrixIndexuivARB(int a0, java.nio.IntBuffer a1)
+	{ if (call(1086)) invoke(1086, new Object[] { a0, a1 }); }
+	public void glMatrixIndexusvARB(int a0, short[] a1, int a2)
+	{ if (call(1087)) invoke(1087, new Object[] { a0, a1, a2 }); }
+	public void glMatrixIndexusvARB(int a0, java.nio.ShortBuffer a1)
+	{ if (call(1088)) invoke(1088, new Object[] { a0, a1 }); }
+	public void glMatrixLoadIdentityEXT(int a0)
+	{ if (call(1089)) invoke(1089, new Object[] { a0 }); }
+	public void glMatrixLoadTransposedEXT(int a0, double[] a1, int a2)
+	{ if (call(1090)) invoke(1090, new Object[] { a0, a1, a2 }); }
+	public void glMatrixLoadTransposedEXT(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(1091)) invoke(1091, new Object[] { a0, a1 }); }
+	public void glMatrixLoadTransposefEXT(int a0, float[] a1, int a2)
+	{ if (call(1092)) invoke(1092, new Object[] { a0, a1, a2 }); }
+	public void glMatrixLoadTransposefEXT(int a0, java.nio.FloatBuffer a1)
+	{ if (call(1093)) invoke(1093, new Object[] { a0, a1 }); }
+	public void glMatrixLoaddEXT(int a0, double[] a1, int a2)
+	{ if (call(1094)) invoke(1094, new Object[] { a0, a1, a2 }); }
+	public void glMatrixLoaddEXT(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(1095)) invoke(1095, new Object[] { a0, a1 }); }
+	public void glMatrixLoadfEXT(int a0, float[] a1, int a2)
+	{ if (call(1096)) invoke(1096, new Object[] { a0, a1, a2 }); }
+	public void glMatrixLoadfEXT(int a0, java.nio.FloatBuffer a1)
+	{ if (call(1097)) invoke(1097, new Object[] { a0, a1 }); }
+	public void glMatrixMode(int a0)
+	{ if (call(1098)) invoke(1098, new Object[] { a0 }); }
+	public void glMatrixMultTransposedEXT(int a0, double[] a1, int a2)
+	{ if (call(1099)) invoke(1099, new Object[] { a0, a1, a2 }); }
+	public void glMatrixMultTransposedEXT(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(1100)) invoke(1100, new Object[] { a0, a1 }); }
+	public void glMatrixMultTransposefEXT(int a0, float[] a1, int a2)
+	{ if (call(1101)) invoke(1101, new Object[] { a0, a1, a2 }); }
+	public void glMatrixMultTransposefEXT(int a0, java.nio.FloatBuffer a1)
+	{ if (call(1102)) invoke(1102, new Object[] { a0, a1 }); }
+	public void glMatrixMultdEXT(int a0, double[] a1, int a2)
+	{ if (call(1103)) invoke(1103, new Object[] { a0, a1, a2 }); }
+	public void glMatrixMultdEXT(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(1104)) invoke(1104, new Object[] { a0, a1 }); }
+	public void glMatrixMultfEXT(int a0, float[] a1, int a2)
+	{ if (call(1105)) invoke(1105, new Object[] { a0, a1, a2 }); }
+	public void glMatrixMultfEXT(int a0, java.nio.FloatBuffer a1)
+	{ if (call(1106)) invoke(1106, new Object[] { a0, a1 }); }
+	public void glMatrixOrthoEXT(int a0, double a1, double a2, double a3, double a4, double a5, double a6)
+	{ if (call(1107)) invoke(1107, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glMatrixPopEXT(int a0)
+	{ if (call(1108)) invoke(1108, new Object[] { a0 }); }
+	public void glMatrixPushEXT(int a0)
+	{ if (call(1109)) invoke(1109, new Object[] { a0 }); }
+	public void glMatrixRotatedEXT(int a0, double a1, double a2, double a3, double a4)
+	{ if (call(1110)) invoke(1110, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glMatrixRotatefEXT(int a0, float a1, float a2, float a3, float a4)
+	{ if (call(1111)) invoke(1111, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glMatrixScaledEXT(int a0, double a1, double a2, double a3)
+	{ if (call(1112)) invoke(1112, new Object[] { a0, a1, a2, a3 }); }
+	public void glMatrixScalefEXT(int a0, float a1, float a2, float a3)
+	{ if (call(1113)) invoke(1113, new Object[] { a0, a1, a2, a3 }); }
+	public void glMatrixTranslatedEXT(int a0, double a1, double a2, double a3)
+	{ if (call(1114)) invoke(1114, new Object[] { a0, a1, a2, a3 }); }
+	public void glMatrixTranslatefEXT(int a0, float a1, float a2, float a3)
+	{ if (call(1115)) invoke(1115, new Object[] { a0, a1, a2, a3 }); }
+	public void glMemoryBarrier(int a0)
+	{ if (call(1116)) invoke(1116, new Object[] { a0 }); }
+	public void glMinSampleShading(float a0)
+	{ if (call(1117)) invoke(1117, new Object[] { a0 }); }
+	public void glMinmax(int a0, int a1, boolean a2)
+	{ if (call(1118)) invoke(1118, new Object[] { a0, a1, a2 }); }
+	public void glMultMatrixd(double[] a0, int a1)
+	{ if (call(1119)) invoke(1119, new Object[] { a0, a1 }); }
+	public void glMultMatrixd(java.nio.DoubleBuffer a0)
+	{ if (call(1120)) invoke(1120, new Object[] { a0 }); }
+	public void glMultMatrixf(float[] a0, int a1)
+	{ if (call(1121)) invoke(1121, new Object[] { a0, a1 }); }
+	public void glMultMatrixf(java.nio.FloatBuffer a0)
+	{ if (call(1122)) invoke(1122, new Object[] { a0 }); }
+	public void glMultTransposeMatrixd(double[] a0, int a1)
+	{ if (call(1123)) invoke(1123, new Object[] { a0, a1 }); }
+	public void glMultTransposeMatrixd(java.nio.DoubleBuffer a0)
+	{ if (call(1124)) invoke(1124, new Object[] { a0 }); }
+	public void glMultTransposeMatrixf(float[] a0, int a1)
+	{ if (call(1125)) invoke(1125, new Object[] { a0, a1 }); }
+	public void glMultTransposeMatrixf(java.nio.FloatBuffer a0)
+	{ if (call(1126)) invoke(1126, new Object[] { a0 }); }
+	public void glMultiDrawArrays(int a0, int[] a1, int a2, int[] a3, int a4, int a5)
+	{ if (call(1127)) invoke(1127, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glMultiDrawArrays(int a0, java.nio.IntBuffer a1, java.nio.IntBuffer a2, int a3)
+	{ if (call(1128)) invoke(1128, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiDrawArraysIndirectAMD(int a0, java.nio.Buffer a1, int a2, int a3)
+	{ if (call(1129)) invoke(1129, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiDrawArraysIndirectBindlessCountNV(int a0, java.nio.Buffer a1, int a2, int a3, int a4, int a5)
+	{ if (call(1130)) invoke(1130, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glMultiDrawArraysIndirectBindlessNV(int a0, java.nio.Buffer a1, int a2, int a3, int a4)
+	{ if (call(1131)) invoke(1131, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glMultiDrawElements(int a0, java.nio.IntBuffer a1, int a2, com.jogamp.common.nio.PointerBuffer a3, int a4)
+	{ if (call(1132)) invoke(1132, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glMultiDrawElementsIndirectAMD(int a0, int a1, java.nio.Buffer a2, int a3, int a4)
+	{ if (call(1133)) invoke(1133, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glMultiDrawElementsIndirectBindlessCountNV(int a0, int a1, java.nio.Buffer a2, int a3, int a4, int a5, int a6)
+	{ if (call(1134)) invoke(1134, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glMultiDrawElementsIndirectBindlessNV(int a0, int a1, java.nio.Buffer a2, int a3, int a4, int a5)
+	{ if (call(1135)) invoke(1135, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glMultiTexBufferEXT(int a0, int a1, int a2, int a3)
+	{ if (call(1136)) invoke(1136, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiTexCoord1bOES(int a0, byte a1)
+	{ if (call(1137)) invoke(1137, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord1bvOES(int a0, byte[] a1, int a2)
+	{ if (call(1138)) invoke(1138, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord1bvOES(int a0, java.nio.ByteBuffer a1)
+	{ if (call(1139)) invoke(1139, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord1d(int a0, double a1)
+	{ if (call(1140)) invoke(1140, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord1dv(int a0, double[] a1, int a2)
+	{ if (call(1141)) invoke(1141, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord1dv(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(1142)) invoke(1142, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord1f(int a0, float a1)
+	{ if (call(1143)) invoke(1143, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord1fv(int a0, float[] a1, int a2)
+	{ if (call(1144)) invoke(1144, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord1fv(int a0, java.nio.FloatBuffer a1)
+	{ if (call(1145)) invoke(1145, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord1h(int a0, short a1)
+	{ if (call(1146)) invoke(1146, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord1hv(int a0, short[] a1, int a2)
+	{ if (call(1147)) invoke(1147, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord1hv(int a0, java.nio.ShortBuffer a1)
+	{ if (call(1148)) invoke(1148, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord1i(int a0, int a1)
+	{ if (call(1149)) invoke(1149, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord1iv(int a0, int[] a1, int a2)
+	{ if (call(1150)) invoke(1150, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord1iv(int a0, java.nio.IntBuffer a1)
+	{ if (call(1151)) invoke(1151, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord1s(int a0, short a1)
+	{ if (call(1152)) invoke(1152, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord1sv(int a0, short[] a1, int a2)
+	{ if (call(1153)) invoke(1153, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord1sv(int a0, java.nio.ShortBuffer a1)
+	{ if (call(1154)) invoke(1154, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord2bOES(int a0, byte a1, byte a2)
+	{ if (call(1155)) invoke(1155, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord2bvOES(int a0, byte[] a1, int a2)
+	{ if (call(1156)) invoke(1156, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord2bvOES(int a0, java.nio.ByteBuffer a1)
+	{ if (call(1157)) invoke(1157, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord2d(int a0, double a1, double a2)
+	{ if (call(1158)) invoke(1158, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord2dv(int a0, double[] a1, int a2)
+	{ if (call(1159)) invoke(1159, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord2dv(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(1160)) invoke(1160, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord2f(int a0, float a1, float a2)
+	{ if (call(1161)) invoke(1161, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord2fv(int a0, float[] a1, int a2)
+	{ if (call(1162)) invoke(1162, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord2fv(int a0, java.nio.FloatBuffer a1)
+	{ if (call(1163)) invoke(1163, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord2h(int a0, short a1, short a2)
+	{ if (call(1164)) invoke(1164, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord2hv(int a0, short[] a1, int a2)
+	{ if (call(1165)) invoke(1165, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord2hv(int a0, java.nio.ShortBuffer a1)
+	{ if (call(1166)) invoke(1166, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord2i(int a0, int a1, int a2)
+	{ if (call(1167)) invoke(1167, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord2iv(int a0, int[] a1, int a2)
+	{ if (call(1168)) invoke(1168, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord2iv(int a0, java.nio.IntBuffer a1)
+	{ if (call(1169)) invoke(1169, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord2s(int a0, short a1, short a2)
+	{ if (call(1170)) invoke(1170, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord2sv(int a0, short[] a1, int a2)
+	{ if (call(1171)) invoke(1171, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord2sv(int a0, java.nio.ShortBuffer a1)
+	{ if (call(1172)) invoke(1172, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord3bOES(int a0, byte a1, byte a2, byte a3)
+	{ if (call(1173)) invoke(1173, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiTexCoord3bvOES(int a0, byte[] a1, int a2)
+	{ if (call(1174)) invoke(1174, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord3bvOES(int a0, java.nio.ByteBuffer a1)
+	{ if (call(1175)) invoke(1175, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord3d(int a0, double a1, double a2, double a3)
+	{ if (call(1176)) invoke(1176, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiTexCoord3dv(int a0, double[] a1, int a2)
+	{ if (call(1177)) invoke(1177, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord3dv(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(1178)) invoke(1178, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord3f(int a0, float a1, float a2, float a3)
+	{ if (call(1179)) invoke(1179, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiTexCoord3fv(int a0, float[] a1, int a2)
+	{ if (call(1180)) invoke(1180, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord3fv(int a0, java.nio.FloatBuffer a1)
+	{ if (call(1181)) invoke(1181, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord3h(int a0, short a1, short a2, short a3)
+	{ if (call(1182)) invoke(1182, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiTexCoord3hv(int a0, short[] a1, int a2)
+	{ if (call(1183)) invoke(1183, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord3hv(int a0, java.nio.ShortBuffer a1)
+	{ if (call(1184)) invoke(1184, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord3i(int a0, int a1, int a2, int a3)
+	{ if (call(1185)) invoke(1185, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiTexCoord3iv(int a0, int[] a1, int a2)
+	{ if (call(1186)) invoke(1186, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord3iv(int a0, java.nio.IntBuffer a1)
+	{ if (call(1187)) invoke(1187, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord3s(int a0, short a1, short a2, short a3)
+	{ if (call(1188)) invoke(1188, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiTexCoord3sv(int a0, short[] a1, int a2)
+	{ if (call(1189)) invoke(1189, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord3sv(int a0, java.nio.ShortBuffer a1)
+	{ if (call(1190)) invoke(1190, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord4bOES(int a0, byte a1, byte a2, byte a3, byte a4)
+	{ if (call(1191)) invoke(1191, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glMultiTexCoord4bvOES(int a0, byte[] a1, int a2)
+	{ if (call(1192)) invoke(1192, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord4bvOES(int a0, java.nio.ByteBuffer a1)
+	{ if (call(1193)) invoke(1193, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord4d(int a0, double a1, double a2, double a3, double a4)
+	{ if (call(1194)) invoke(1194, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glMultiTexCoord4dv(int a0, double[] a1, int a2)
+	{ if (call(1195)) invoke(1195, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord4dv(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(1196)) invoke(1196, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord4f(int a0, float a1, float a2, float a3, float a4)
+	{ if (call(1197)) invoke(1197, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glMultiTexCoord4fv(int a0, float[] a1, int a2)
+	{ if (call(1198)) invoke(1198, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord4fv(int a0, java.nio.FloatBuffer a1)
+	{ if (call(1199)) invoke(1199, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord4h(int a0, short a1, short a2, short a3, short a4)
+	{ if (call(1200)) invoke(1200, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glMultiTexCoord4hv(int a0, short[] a1, int a2)
+	{ if (call(1201)) invoke(1201, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord4hv(int a0, java.nio.ShortBuffer a1)
+	{ if (call(1202)) invoke(1202, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord4i(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(1203)) invoke(1203, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glMultiTexCoord4iv(int a0, int[] a1, int a2)
+	{ if (call(1204)) invoke(1204, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord4iv(int a0, java.nio.IntBuffer a1)
+	{ if (call(1205)) invoke(1205, new Object[] { a0, a1 }); }
+	public void glMultiTexCoord4s(int a0, short a1, short a2, short a3, short a4)
+	{ if (call(1206)) invoke(1206, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glMultiTexCoord4sv(int a0, short[] a1, int a2)
+	{ if (call(1207)) invoke(1207, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexCoord4sv(int a0, java.nio.ShortBuffer a1)
+	{ if (call(1208)) invoke(1208, new Object[] { a0, a1 }); }
+	public void glMultiTexCoordPointerEXT(int a0, int a1, int a2, int a3, java.nio.Buffer a4)
+	{ if (call(1209)) invoke(1209, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glMultiTexEnvfEXT(int a0, int a1, int a2, float a3)
+	{ if (call(1210)) invoke(1210, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiTexEnvfvEXT(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(1211)) invoke(1211, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glMultiTexEnvfvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(1212)) invoke(1212, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiTexEnviEXT(int a0, int a1, int a2, int a3)
+	{ if (call(1213)) invoke(1213, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiTexEnvivEXT(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(1214)) invoke(1214, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glMultiTexEnvivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(1215)) invoke(1215, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiTexGendEXT(int a0, int a1, int a2, double a3)
+	{ if (call(1216)) invoke(1216, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiTexGendvEXT(int a0, int a1, int a2, double[] a3, int a4)
+	{ if (call(1217)) invoke(1217, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glMultiTexGendvEXT(int a0, int a1, int a2, java.nio.DoubleBuffer a3)
+	{ if (call(1218)) invoke(1218, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiTexGenfEXT(int a0, int a1, int a2, float a3)
+	{ if (call(1219)) invoke(1219, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiTexGenfvEXT(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(1220)) invoke(1220, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glMultiTexGenfvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(1221)) invoke(1221, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiTexGeniEXT(int a0, int a1, int a2, int a3)
+	{ if (call(1222)) invoke(1222, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiTexGenivEXT(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(1223)) invoke(1223, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glMultiTexGenivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(1224)) invoke(1224, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiTexImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, java.nio.Buffer a8)
+	{ if (call(1225)) invoke(1225, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glMultiTexImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, java.nio.Buffer a9)
+	{ if (call(1226)) invoke(1226, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9 }); }
+	public void glMultiTexImage3DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, java.nio.Buffer a10)
+	{ if (call(1227)) invoke(1227, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10 }); }
+	public void glMultiTexParameterIivEXT(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(1228)) invoke(1228, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glMultiTexParameterIivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(1229)) invoke(1229, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiTexParameterIuivEXT(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(1230)) invoke(1230, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glMultiTexParameterIuivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(1231)) invoke(1231, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiTexParameterfEXT(int a0, int a1, int a2, float a3)
+	{ if (call(1232)) invoke(1232, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiTexParameterfvEXT(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(1233)) invoke(1233, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glMultiTexParameterfvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(1234)) invoke(1234, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiTexParameteriEXT(int a0, int a1, int a2, int a3)
+	{ if (call(1235)) invoke(1235, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiTexParameterivEXT(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(1236)) invoke(1236, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glMultiTexParameterivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(1237)) invoke(1237, new Object[] { a0, a1, a2, a3 }); }
+	public void glMultiTexRenderbufferEXT(int a0, int a1, int a2)
+	{ if (call(1238)) invoke(1238, new Object[] { a0, a1, a2 }); }
+	public void glMultiTexSubImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, java.nio.Buffer a7)
+	{ if (call(1239)) invoke(1239, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glMultiTexSubImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, java.nio.Buffer a9)
+	{ if (call(1240)) invoke(1240, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9 }); }
+	public void glMultiTexSubImage3DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, int a10, java.nio.Buffer a11)
+	{ if (call(1241)) invoke(1241, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11 }); }
+	public void glNamedBufferDataEXT(int a0, long a1, java.nio.Buffer a2, int a3)
+	{ if (call(1242)) invoke(1242, new Object[] { a0, a1, a2, a3 }); }
+	public void glNamedBufferPageCommitmentARB(int a0, long a1, long a2, boolean a3)
+	{ if (call(1243)) invoke(1243, new Object[] { a0, a1, a2, a3 }); }
+	public void glNamedBufferPageCommitmentEXT(int a0, long a1, long a2, boolean a3)
+	{ if (call(1244)) invoke(1244, new Object[] { a0, a1, a2, a3 }); }
+	public void glNamedBufferStorageEXT(int a0, long a1, java.nio.Buffer a2, int a3)
+	{ if (call(1245)) invoke(1245, new Object[] { a0, a1, a2, a3 }); }
+	public void glNamedBufferSubDataEXT(int a0, long a1, long a2, java.nio.Buffer a3)
+	{ if (call(1246)) invoke(1246, new Object[] { a0, a1, a2, a3 }); }
+	public void glNamedCopyBufferSubDataEXT(int a0, int a1, long a2, long a3, long a4)
+	{ if (call(1247)) invoke(1247, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glNamedFramebufferParameteri(int a0, int a1, int a2)
+	{ if (call(1248)) invoke(1248, new Object[] { a0, a1, a2 }); }
+	public void glNamedFramebufferRenderbufferEXT(int a0, int a1, int a2, int a3)
+	{ if (call(1249)) invoke(1249, new Object[] { a0, a1, a2, a3 }); }
+	public void glNamedFramebufferSampleLocationsfvNV(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(1250)) invoke(1250, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glNamedFramebufferSampleLocationsfvNV(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(1251)) invoke(1251, new Object[] { a0, a1, a2, a3 }); }
+	public void glNamedFramebufferTexture1DEXT(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(1252)) invoke(1252, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glNamedFramebufferTexture2DEXT(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(1253)) invoke(1253, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glNamedFramebufferTexture3DEXT(int a0, int a1, int a2, int a3, int a4, int a5)
+	{ if (call(1254)) invoke(1254, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glNamedFramebufferTextureEXT(int a0, int a1, int a2, int a3)
+	{ if (call(1255)) invoke(1255, new Object[] { a0, a1, a2, a3 }); }
+	public void glNamedFramebufferTextureFaceEXT(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(1256)) invoke(1256, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glNamedFramebufferTextureLayerEXT(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(1257)) invoke(1257, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glNamedProgramLocalParameter4dEXT(int a0, int a1, int a2, double a3, double a4, double a5, double a6)
+	{ if (call(1258)) invoke(1258, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glNamedProgramLocalParameter4dvEXT(int a0, int a1, int a2, double[] a3, int a4)
+	{ if (call(1259)) invoke(1259, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glNamedProgramLocalParameter4dvEXT(int a0, int a1, int a2, java.nio.DoubleBuffer a3)
+	{ if (call(1260)) invoke(1260, new Object[] { a0, a1, a2, a3 }); }
+	public void glNamedProgramLocalParameter4fEXT(int a0, int a1, int a2, float a3, float a4, float a5, float a6)
+	{ if (call(1261)) invoke(1261, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glNamedProgramLocalParameter4fvEXT(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(1262)) invoke(1262, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glNamedProgramLocalParameter4fvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(1263)) invoke(1263, new Object[] { a0, a1, a2, a3 }); }
+	public void glNamedProgramLocalParameterI4iEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6)
+	{ if (call(1264)) invoke(1264, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glNamedProgramLocalParameterI4ivEXT(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(1265)) invoke(1265, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glNamedProgramLocalParameterI4ivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(1266)) invoke(1266, new Object[] { a0, a1, a2, a3 }); }
+	public void glNamedProgramLocalParameterI4uiEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6)
+	{ if (call(1267)) invoke(1267, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glNamedProgramLocalParameterI4uivEXT(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(1268)) invoke(1268, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glNamedProgramLocalParameterI4uivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(1269)) invoke(1269, new Object[] { a0, a1, a2, a3 }); }
+	public void glNamedProgramLocalParameters4fvEXT(int a0, int a1, int a2, int a3, float[] a4, int a5)
+	{ if (call(1270)) invoke(1270, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glNamedProgramLocalParameters4fvEXT(int a0, int a1, int a2, int a3, java.nio.FloatBuffer a4)
+	{ if (call(1271)) invoke(1271, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glNamedProgramLocalParametersI4ivEXT(int a0, int a1, int a2, int a3, int[] a4, int a5)
+	{ if (call(1272)) invoke(1272, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glNamedProgramLocalParametersI4ivEXT(int a0, int a1, int a2, int a3, java.nio.IntBuffer a4)
+	{ if (call(1273)) invoke(1273, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glNamedProgramLocalParametersI4uivEXT(int a0, int a1, int a2, int a3, int[] a4, int a5)
+	{ if (call(1274)) invoke(1274, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glNamedProgramLocalParametersI4uivEXT(int a0, int a1, int a2, int a3, java.nio.IntBuffer a4)
+	{ if (call(1275)) invoke(1275, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glNamedProgramStringEXT(int a0, int a1, int a2, int a3, java.nio.Buffer a4)
+	{ if (call(1276)) invoke(1276, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glNamedRenderbufferStorageEXT(int a0, int a1, int a2, int a3)
+	{ if (call(1277)) invoke(1277, new Object[] { a0, a1, a2, a3 }); }
+	public void glNamedRenderbufferStorageMultisampleCoverageEXT(int a0, int a1, int a2, int a3, int a4, int a5)
+	{ if (call(1278)) invoke(1278, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glNamedRenderbufferStorageMultisampleEXT(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(1279)) invoke(1279, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glNewList(int a0, int a1)
+	{ if (call(1280)) invoke(1280, new Object[] { a0, a1 }); }
+	public void glNormal3b(byte a0, byte a1, byte a2)
+	{ if (call(1281)) invoke(1281, new Object[] { a0, a1, a2 }); }
+	public void glNormal3bv(byte[] a0, int a1)
+	{ if (call(1282)) invoke(1282, new Object[] { a0, a1 }); }
+	public void glNormal3bv(java.nio.ByteBuffer a0)
+	{ if (call(1283)) invoke(1283, new Object[] { a0 }); }
+	public void glNormal3d(double a0, double a1, double a2)
+	{ if (call(1284)) invoke(1284, new Object[] { a0, a1, a2 }); }
+	public void glNormal3dv(double[] a0, int a1)
+	{ if (call(1285)) invoke(1285, new Object[] { a0, a1 }); }
+	public void glNormal3dv(java.nio.DoubleBuffer a0)
+	{ if (call(1286)) invoke(1286, new Object[] { a0 }); }
+	public void glNormal3f(float a0, float a1, float a2)
+	{ if (call(1287)) invoke(1287, new Object[] { a0, a1, a2 }); }
+	public void glNormal3fv(float[] a0, int a1)
+	{ if (call(1288)) invoke(1288, new Object[] { a0, a1 }); }
+	public void glNormal3fv(java.nio.FloatBuffer a0)
+	{ if (call(1289)) invoke(1289, new Object[] { a0 }); }
+	public void glNormal3h(short a0, short a1, short a2)
+	{ if (call(1290)) invoke(1290, new Object[] { a0, a1, a2 }); }
+	public void glNormal3hv(short[] a0, int a1)
+	{ if (call(1291)) invoke(1291, new Object[] { a0, a1 }); }
+	public void glNormal3hv(java.nio.ShortBuffer a0)
+	{ if (call(1292)) invoke(1292, new Object[] { a0 }); }
+	public void glNormal3i(int a0, int a1, int a2)
+	{ if (call(1293)) invoke(1293, new Object[] { a0, a1, a2 }); }
+	public void glNormal3iv(int[] a0, int a1)
+	{ if (call(1294)) invoke(1294, new Object[] { a0, a1 }); }
+	public void glNormal3iv(java.nio.IntBuffer a0)
+	{ if (call(1295)) invoke(1295, new Object[] { a0 }); }
+	public void glNormal3s(short a0, short a1, short a2)
+	{ if (call(1296)) invoke(1296, new Object[] { a0, a1, a2 }); }
+	public void glNormal3sv(short[] a0, int a1)
+	{ if (call(1297)) invoke(1297, new Object[] { a0, a1 }); }
+	public void glNormal3sv(java.nio.ShortBuffer a0)
+	{ if (call(1298)) invoke(1298, new Object[] { a0 }); }
+	public void glNormalFormatNV(int a0, int a1)
+	{ if (call(1299)) invoke(1299, new Object[] { a0, a1 }); }
+	public void glNormalPointer(com.jogamp.opengl.GLArrayData a0)
+	{ if (call(1300)) invoke(1300, new Object[] { a0 }); }
+	public void glNormalPointer(int a0, int a1, java.nio.Buffer a2)
+	{ if (call(1301)) invoke(1301, new Object[] { a0, a1, a2 }); }
+	public void glNormalPointer(int a0, int a1, long a2)
+	{ if (call(1302)) invoke(1302, new Object[] { a0, a1, a2 }); }
+	public void glObjectLabel(int a0, int a1, int a2, byte[] a3, int a4)
+	{ if (call(1303)) invoke(1303, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glObjectLabel(int a0, int a1, int a2, java.nio.ByteBuffer a3)
+	{ if (call(1304)) invoke(1304, new Object[] { a0, a1, a2, a3 }); }
+	public void glObjectPtrLabel(java.nio.Buffer a0, int a1, byte[] a2, int a3)
+	{ if (call(1305)) invoke(1305, new Object[] { a0, a1, a2, a3 }); }
+	public void glObjectPtrLabel(java.nio.Buffer a0, int a1, java.nio.ByteBuffer a2)
+	{ if (call(1306)) invoke(1306, new Object[] { a0, a1, a2 }); }
+	public int glObjectPurgeableAPPLE(int a0, int a1, int a2)
+	{ return (call(1307) ? ((Number)invoke(1307, new Object[] { a0, a1, a2 })).intValue() : 0); }
+	public int glObjectUnpurgeableAPPLE(int a0, int a1, int a2)
+	{ return (call(1308) ? ((Number)invoke(1308, new Object[] { a0, a1, a2 })).intValue() : 0); }
+	public void glOrtho(double a0, double a1, double a2, double a3, double a4, double a5)
+	{ if (call(1309)) invoke(1309, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glOrthof(float a0, float a1, float a2, float a3, float a4, float a5)
+	{ if (call(1310)) invoke(1310, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glPNTrianglesfATI(int a0, float a1)
+	{ if (call(1311)) invoke(1311, new Object[] { a0, a1 }); }
+	public void glPNTrianglesiATI(int a0, int a1)
+	{ if (call(1312)) invoke(1312, new Object[] { a0, a1 }); }
+	public void glPassThrough(float a0)
+	{ if (call(1313)) invoke(1313, new Object[] { a0 }); }
+	public void glPauseTransformFeedback()
+	{ if (call(1314)) invoke(1314, null); }
+	public void glPauseTransformFeedbackNV()
+	{ if (call(1315)) invoke(1315, null); }
+	public void glPixelDataRangeNV(int a0, int a1, java.nio.Buffer a2)
+	{ if (call(1316)) invoke(1316, new Object[] { a0, a1, a2 }); }
+	public void glPixelMapfv(int a0, int a1, float[] a2, int a3)
+	{ if (call(1317)) invoke(1317, new Object[] { a0, a1, a2, a3 }); }
+	public void glPixelMapfv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(1318)) invoke(1318, new Object[] { a0, a1, a2 }); }
+	public void glPixelMapfv(int a0, int a1, long a2)
+	{ if (call(1319)) invoke(1319, new Object[] { a0, a1, a2 }); }
+	public void glPixelMapuiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(1320)) invoke(1320, new Object[] { a0, a1, a2, a3 }); }
+	public void glPixelMapuiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1321)) invoke(1321, new Object[] { a0, a1, a2 }); }
+	public void glPixelMapuiv(int a0, int a1, long a2)
+	{ if (call(1322)) invoke(1322, new Object[] { a0, a1, a2 }); }
+	public void glPixelMapusv(int a0, int a1, short[] a2, int a3)
+	{ if (call(1323)) invoke(1323, new Object[] { a0, a1, a2, a3 }); }
+	public void glPixelMapusv(int a0, int a1, java.nio.ShortBuffer a2)
+	{ if (call(1324)) invoke(1324, new Object[] { a0, a1, a2 }); }
+	public void glPixelMapusv(int a0, int a1, long a2)
+	{ if (call(1325)) invoke(1325, new Object[] { a0, a1, a2 }); }
+	public void glPixelStoref(int a0, float a1)
+	{ if (call(1326)) invoke(1326, new Object[] { a0, a1 }); }
+	public void glPixelStorei(int a0, int a1)
+	{ if (call(1327)) invoke(1327, new Object[] { a0, a1 }); }
+	public void glPixelTransferf(int a0, float a1)
+	{ if (call(1328)) invoke(1328, new Object[] { a0, a1 }); }
+	public void glPixelTransferi(int a0, int a1)
+	{ if (call(1329)) invoke(1329, new Object[] { a0, a1 }); }
+	public void glPixelTransformParameterfEXT(int a0, int a1, float a2)
+	{ if (call(1330)) invoke(1330, new Object[] { a0, a1, a2 }); }
+	public void glPixelTransformParameterfvEXT(int a0, int a1, float[] a2, int a3)
+	{ if (call(1331)) invoke(1331, new Object[] { a0, a1, a2, a3 }); }
+	public void glPixelTransformParameterfvEXT(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(1332)) invoke(1332, new Object[] { a0, a1, a2 }); }
+	public void glPixelTransformParameteriEXT(int a0, int a1, int a2)
+	{ if (call(1333)) invoke(1333, new Object[] { a0, a1, a2 }); }
+	public void glPixelTransformParameterivEXT(int a0, int a1, int[] a2, int a3)
+	{ if (call(1334)) invoke(1334, new Object[] { a0, a1, a2, a3 }); }
+	public void glPixelTransformParameterivEXT(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1335)) invoke(1335, new Object[] { a0, a1, a2 }); }
+	public void glPixelZoom(float a0, float a1)
+	{ if (call(1336)) invoke(1336, new Object[] { a0, a1 }); }
+	public void glPointParameterf(int a0, float a1)
+	{ if (call(1337)) invoke(1337, new Object[] { a0, a1 }); }
+	public void glPointParameterfv(int a0, float[] a1, int a2)
+	{ if (call(1338)) invoke(1338, new Object[] { a0, a1, a2 }); }
+	public void glPointParameterfv(int a0, java.nio.FloatBuffer a1)
+	{ if (call(1339)) invoke(1339, new Object[] { a0, a1 }); }
+	public void glPointParameteri(int a0, int a1)
+	{ if (call(1340)) invoke(1340, new Object[] { a0, a1 }); }
+	public void glPointParameteriv(int a0, int[] a1, int a2)
+	{ if (call(1341)) invoke(1341, new Object[] { a0, a1, a2 }); }
+	public void glPointParameteriv(int a0, java.nio.IntBuffer a1)
+	{ if (call(1342)) invoke(1342, new Object[] { a0, a1 }); }
+	public void glPointSize(float a0)
+	{ if (call(1343)) invoke(1343, new Object[] { a0 }); }
+	public void glPolygonMode(int a0, int a1)
+	{ if (call(1344)) invoke(1344, new Object[] { a0, a1 }); }
+	public void glPolygonOffset(float a0, float a1)
+	{ if (call(1345)) invoke(1345, new Object[] { a0, a1 }); }
+	public void glPolygonOffsetClampEXT(float a0, float a1, float a2)
+	{ if (call(1346)) invoke(1346, new Object[] { a0, a1, a2 }); }
+	public void glPolygonStipple(byte[] a0, int a1)
+	{ if (call(1347)) invoke(1347, new Object[] { a0, a1 }); }
+	public void glPolygonStipple(java.nio.ByteBuffer a0)
+	{ if (call(1348)) invoke(1348, new Object[] { a0 }); }
+	public void glPolygonStipple(long a0)
+	{ if (call(1349)) invoke(1349, new Object[] { a0 }); }
+	public void glPopAttrib()
+	{ if (call(1350)) invoke(1350, null); }
+	public void glPopClientAttrib()
+	{ if (call(1351)) invoke(1351, null); }
+	public void glPopDebugGroup()
+	{ if (call(1352)) invoke(1352, null); }
+	public void glPopMatrix()
+	{ if (call(1353)) invoke(1353, null); }
+	public void glPopName()
+	{ if (call(1354)) invoke(1354, null); }
+	public void glPrimitiveRestartIndex(int a0)
+	{ if (call(1355)) invoke(1355, new Object[] { a0 }); }
+	public void glPrimitiveRestartIndexNV(int a0)
+	{ if (call(1356)) invoke(1356, new Object[] { a0 }); }
+	public void glPrimitiveRestartNV()
+	{ if (call(1357)) invoke(1357, null); }
+	public void glPrioritizeTextures(int a0, int[] a1, int a2, float[] a3, int a4)
+	{ if (call(1358)) invoke(1358, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glPrioritizeTextures(int a0, java.nio.IntBuffer a1, java.nio.FloatBuffer a2)
+	{ if (call(1359)) invoke(1359, new Object[] { a0, a1, a2 }); }
+	public void glProgramBinary(int a0, int a1, java.nio.Buffer a2, int a3)
+	{ if (call(1360)) invoke(1360, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramBufferParametersIivNV(int a0, int a1, int a2, int a3, int[] a4, int a5)
+	{ if (call(1361)) invoke(1361, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramBufferParametersIivNV(int a0, int a1, int a2, int a3, java.nio.IntBuffer a4)
+	{ if (call(1362)) invoke(1362, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramBufferParametersIuivNV(int a0, int a1, int a2, int a3, int[] a4, int a5)
+	{ if (call(1363)) invoke(1363, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramBufferParametersIuivNV(int a0, int a1, int a2, int a3, java.nio.IntBuffer a4)
+	{ if (call(1364)) invoke(1364, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramBufferParametersfvNV(int a0, int a1, int a2, int a3, float[] a4, int a5)
+	{ if (call(1365)) invoke(1365, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramBufferParametersfvNV(int a0, int a1, int a2, int a3, java.nio.FloatBuffer a4)
+	{ if (call(1366)) invoke(1366, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramEnvParameter4dARB(int a0, int a1, double a2, double a3, double a4, double a5)
+	{ if (call(1367)) invoke(1367, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramEnvParameter4dvARB(int a0, int a1, double[] a2, int a3)
+	{ if (call(1368)) invoke(1368, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramEnvParameter4dvARB(int a0, int a1, java.nio.DoubleBuffer a2)
+	{ if (call(1369)) invoke(1369, new Object[] { a0, a1, a2 }); }
+	public void glProgramEnvParameter4fARB(int a0, int a1, float a2, float a3, float a4, float a5)
+	{ if (call(1370)) invoke(1370, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramEnvParameter4fvARB(int a0, int a1, float[] a2, int a3)
+	{ if (call(1371)) invoke(1371, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramEnvParameter4fvARB(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(1372)) invoke(1372, new Object[] { a0, a1, a2 }); }
+	public void glProgramEnvParameterI4iNV(int a0, int a1, int a2, int a3, int a4, int a5)
+	{ if (call(1373)) invoke(1373, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramEnvParameterI4ivNV(int a0, int a1, int[] a2, int a3)
+	{ if (call(1374)) invoke(1374, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramEnvParameterI4ivNV(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1375)) invoke(1375, new Object[] { a0, a1, a2 }); }
+	public void glProgramEnvParameterI4uiNV(int a0, int a1, int a2, int a3, int a4, int a5)
+	{ if (call(1376)) invoke(1376, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramEnvParameterI4uivNV(int a0, int a1, int[] a2, int a3)
+	{ if (call(1377)) invoke(1377, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramEnvParameterI4uivNV(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1378)) invoke(1378, new Object[] { a0, a1, a2 }); }
+	public void glProgramEnvParameters4fvEXT(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(1379)) invoke(1379, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramEnvParameters4fvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(1380)) invoke(1380, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramEnvParametersI4ivNV(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(1381)) invoke(1381, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramEnvParametersI4ivNV(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(1382)) invoke(1382, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramEnvParametersI4uivNV(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(1383)) invoke(1383, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramEnvParametersI4uivNV(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(1384)) invoke(1384, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramLocalParameter4dARB(int a0, int a1, double a2, double a3, double a4, double a5)
+	{ if (call(1385)) invoke(1385, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramLocalParameter4dvARB(int a0, int a1, double[] a2, int a3)
+	{ if (call(1386)) invoke(1386, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramLocalParameter4dvARB(int a0, int a1, java.nio.DoubleBuffer a2)
+	{ if (call(1387)) invoke(1387, new Object[] { a0, a1, a2 }); }
+	public void glProgramLocalParameter4fARB(int a0, int a1, float a2, float a3, float a4, float a5)
+	{ if (call(1388)) invoke(1388, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramLocalParameter4fvARB(int a0, int a1, float[] a2, int a3)
+	{ if (call(1389)) invoke(1389, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramLocalParameter4fvARB(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(1390)) invoke(1390, new Object[] { a0, a1, a2 }); }
+	public void glProgramLocalParameterI4iNV(int a0, int a1, int a2, int a3, int a4, int a5)
+	{ if (call(1391)) invoke(1391, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramLocalParameterI4ivNV(int a0, int a1, int[] a2, int a3)
+	{ if (call(1392)) invoke(1392, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramLocalParameterI4ivNV(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1393)) invoke(1393, new Object[] { a0, a1, a2 }); }
+	public void glProgramLocalParameterI4uiNV(int a0, int a1, int a2, int a3, int a4, int a5)
+	{ if (call(1394)) invoke(1394, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramLocalParameterI4uivNV(int a0, int a1, int[] a2, int a3)
+	{ if (call(1395)) invoke(1395, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramLocalParameterI4uivNV(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1396)) invoke(1396, new Object[] { a0, a1, a2 }); }
+	public void glProgramLocalParameters4fvEXT(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(1397)) invoke(1397, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramLocalParameters4fvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(1398)) invoke(1398, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramLocalParametersI4ivNV(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(1399)) invoke(1399, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramLocalParametersI4ivNV(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(1400)) invoke(1400, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramLocalParametersI4uivNV(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(1401)) invoke(1401, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramLocalParametersI4uivNV(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(1402)) invoke(1402, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramParameteri(int a0, int a1, int a2)
+	{ if (call(1403)) invoke(1403, new Object[] { a0, a1, a2 }); }
+	public void glProgramStringARB(int a0, int a1, int a2, java.lang.String a3)
+	{ if (call(1404)) invoke(1404, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramSubroutineParametersuivNV(int a0, int a1, int[] a2, int a3)
+	{ if (call(1405)) invoke(1405, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramSubroutineParametersuivNV(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1406)) invoke(1406, new Object[] { a0, a1, a2 }); }
+	public void glProgramUniform1d(int a0, int a1, double a2)
+	{ if (call(1407)) invoke(1407, new Object[] { a0, a1, a2 }); }
+	public void glProgramUniform1dEXT(int a0, int a1, double a2)
+	{ if (call(1408)) invoke(1408, new Object[] { a0, a1, a2 }); }
+	public void glProgramUniform1dv(int a0, int a1, int a2, double[] a3, int a4)
+	{ if (call(1409)) invoke(1409, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform1dv(int a0, int a1, int a2, java.nio.DoubleBuffer a3)
+	{ if (call(1410)) invoke(1410, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform1dvEXT(int a0, int a1, int a2, double[] a3, int a4)
+	{ if (call(1411)) invoke(1411, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform1dvEXT(int a0, int a1, int a2, java.nio.DoubleBuffer a3)
+	{ if (call(1412)) invoke(1412, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform1f(int a0, int a1, float a2)
+	{ if (call(1413)) invoke(1413, new Object[] { a0, a1, a2 }); }
+	public void glProgramUniform1fv(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(1414)) invoke(1414, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform1fv(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(1415)) invoke(1415, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform1i(int a0, int a1, int a2)
+	{ if (call(1416)) invoke(1416, new Object[] { a0, a1, a2 }); }
+	public void glProgramUniform1i64NV(int a0, int a1, long a2)
+	{ if (call(1417)) invoke(1417, new Object[] { a0, a1, a2 }); }
+	public void glProgramUniform1i64vNV(int a0, int a1, int a2, long[] a3, int a4)
+	{ if (call(1418)) invoke(1418, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform1i64vNV(int a0, int a1, int a2, java.nio.LongBuffer a3)
+	{ if (call(1419)) invoke(1419, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform1iv(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(1420)) invoke(1420, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform1iv(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(1421)) invoke(1421, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform1ui(int a0, int a1, int a2)
+	{ if (call(1422)) invoke(1422, new Object[] { a0, a1, a2 }); }
+	public void glProgramUniform1ui64NV(int a0, int a1, long a2)
+	{ if (call(1423)) invoke(1423, new Object[] { a0, a1, a2 }); }
+	public void glProgramUniform1ui64vNV(int a0, int a1, int a2, long[] a3, int a4)
+	{ if (call(1424)) invoke(1424, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform1ui64vNV(int a0, int a1, int a2, java.nio.LongBuffer a3)
+	{ if (call(1425)) invoke(1425, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform1uiv(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(1426)) invoke(1426, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform1uiv(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(1427)) invoke(1427, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform2d(int a0, int a1, double a2, double a3)
+	{ if (call(1428)) invoke(1428, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform2dEXT(int a0, int a1, double a2, double a3)
+	{ if (call(1429)) invoke(1429, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform2dv(int a0, int a1, int a2, double[] a3, int a4)
+	{ if (call(1430)) invoke(1430, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform2dv(int a0, int a1, int a2, java.nio.DoubleBuffer a3)
+	{ if (call(1431)) invoke(1431, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform2dvEXT(int a0, int a1, int a2, double[] a3, int a4)
+	{ if (call(1432)) invoke(1432, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform2dvEXT(int a0, int a1, int a2, java.nio.DoubleBuffer a3)
+	{ if (call(1433)) invoke(1433, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform2f(int a0, int a1, float a2, float a3)
+	{ if (call(1434)) invoke(1434, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform2fv(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(1435)) invoke(1435, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform2fv(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(1436)) invoke(1436, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform2i(int a0, int a1, int a2, int a3)
+	{ if (call(1437)) invoke(1437, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform2i64NV(int a0, int a1, long a2, long a3)
+	{ if (call(1438)) invoke(1438, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform2i64vNV(int a0, int a1, int a2, long[] a3, int a4)
+	{ if (call(1439)) invoke(1439, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform2i64vNV(int a0, int a1, int a2, java.nio.LongBuffer a3)
+	{ if (call(1440)) invoke(1440, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform2iv(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(1441)) invoke(1441, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform2iv(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(1442)) invoke(1442, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform2ui(int a0, int a1, int a2, int a3)
+	{ if (call(1443)) invoke(1443, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform2ui64NV(int a0, int a1, long a2, long a3)
+	{ if (call(1444)) invoke(1444, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform2ui64vNV(int a0, int a1, int a2, long[] a3, int a4)
+	{ if (call(1445)) invoke(1445, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform2ui64vNV(int a0, int a1, int a2, java.nio.LongBuffer a3)
+	{ if (call(1446)) invoke(1446, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform2uiv(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(1447)) invoke(1447, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform2uiv(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(1448)) invoke(1448, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform3d(int a0, int a1, double a2, double a3, double a4)
+	{ if (call(1449)) invoke(1449, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform3dEXT(int a0, int a1, double a2, double a3, double a4)
+	{ if (call(1450)) invoke(1450, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform3dv(int a0, int a1, int a2, double[] a3, int a4)
+	{ if (call(1451)) invoke(1451, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform3dv(int a0, int a1, int a2, java.nio.DoubleBuffer a3)
+	{ if (call(1452)) invoke(1452, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform3dvEXT(int a0, int a1, int a2, double[] a3, int a4)
+	{ if (call(1453)) invoke(1453, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform3dvEXT(int a0, int a1, int a2, java.nio.DoubleBuffer a3)
+	{ if (call(1454)) invoke(1454, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform3f(int a0, int a1, float a2, float a3, float a4)
+	{ if (call(1455)) invoke(1455, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform3fv(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(1456)) invoke(1456, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform3fv(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(1457)) invoke(1457, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform3i(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(1458)) invoke(1458, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform3i64NV(int a0, int a1, long a2, long a3, long a4)
+	{ if (call(1459)) invoke(1459, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform3i64vNV(int a0, int a1, int a2, long[] a3, int a4)
+	{ if (call(1460)) invoke(1460, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform3i64vNV(int a0, int a1, int a2, java.nio.LongBuffer a3)
+	{ if (call(1461)) invoke(1461, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform3iv(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(1462)) invoke(1462, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform3iv(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(1463)) invoke(1463, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform3ui(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(1464)) invoke(1464, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform3ui64NV(int a0, int a1, long a2, long a3, long a4)
+	{ if (call(1465)) invoke(1465, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform3ui64vNV(int a0, int a1, int a2, long[] a3, int a4)
+	{ if (call(1466)) invoke(1466, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform3ui64vNV(int a0, int a1, int a2, java.nio.LongBuffer a3)
+	{ if (call(1467)) invoke(1467, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform3uiv(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(1468)) invoke(1468, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform3uiv(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(1469)) invoke(1469, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform4d(int a0, int a1, double a2, double a3, double a4, double a5)
+	{ if (call(1470)) invoke(1470, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniform4dEXT(int a0, int a1, double a2, double a3, double a4, double a5)
+	{ if (call(1471)) invoke(1471, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniform4dv(int a0, int a1, int a2, double[] a3, int a4)
+	{ if (call(1472)) invoke(1472, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform4dv(int a0, int a1, int a2, java.nio.DoubleBuffer a3)
+	{ if (call(1473)) invoke(1473, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform4dvEXT(int a0, int a1, int a2, double[] a3, int a4)
+	{ if (call(1474)) invoke(1474, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform4dvEXT(int a0, int a1, int a2, java.nio.DoubleBuffer a3)
+	{ if (call(1475)) invoke(1475, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform4f(int a0, int a1, float a2, float a3, float a4, float a5)
+	{ if (call(1476)) invoke(1476, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniform4fv(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(1477)) invoke(1477, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform4fv(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(1478)) invoke(1478, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform4i(int a0, int a1, int a2, int a3, int a4, int a5)
+	{ if (call(1479)) invoke(1479, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniform4i64NV(int a0, int a1, long a2, long a3, long a4, long a5)
+	{ if (call(1480)) invoke(1480, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniform4i64vNV(int a0, int a1, int a2, long[] a3, int a4)
+	{ if (call(1481)) invoke(1481, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform4i64vNV(int a0, int a1, int a2, java.nio.LongBuffer a3)
+	{ if (call(1482)) invoke(1482, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform4iv(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(1483)) invoke(1483, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform4iv(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(1484)) invoke(1484, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform4ui(int a0, int a1, int a2, int a3, int a4, int a5)
+	{ if (call(1485)) invoke(1485, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniform4ui64NV(int a0, int a1, long a2, long a3, long a4, long a5)
+	{ if (call(1486)) invoke(1486, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniform4ui64vNV(int a0, int a1, int a2, long[] a3, int a4)
+	{ if (call(1487)) invoke(1487, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform4ui64vNV(int a0, int a1, int a2, java.nio.LongBuffer a3)
+	{ if (call(1488)) invoke(1488, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniform4uiv(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(1489)) invoke(1489, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniform4uiv(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(1490)) invoke(1490, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramUniformMatrix2dv(int a0, int a1, int a2, boolean a3, double[] a4, int a5)
+	{ if (call(1491)) invoke(1491, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix2dv(int a0, int a1, int a2, boolean a3, java.nio.DoubleBuffer a4)
+	{ if (call(1492)) invoke(1492, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix2dvEXT(int a0, int a1, int a2, boolean a3, double[] a4, int a5)
+	{ if (call(1493)) invoke(1493, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix2dvEXT(int a0, int a1, int a2, boolean a3, java.nio.DoubleBuffer a4)
+	{ if (call(1494)) invoke(1494, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix2fv(int a0, int a1, int a2, boolean a3, float[] a4, int a5)
+	{ if (call(1495)) invoke(1495, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix2fv(int a0, int a1, int a2, boolean a3, java.nio.FloatBuffer a4)
+	{ if (call(1496)) invoke(1496, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix2x3dv(int a0, int a1, int a2, boolean a3, double[] a4, int a5)
+	{ if (call(1497)) invoke(1497, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix2x3dv(int a0, int a1, int a2, boolean a3, java.nio.DoubleBuffer a4)
+	{ if (call(1498)) invoke(1498, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix2x3dvEXT(int a0, int a1, int a2, boolean a3, double[] a4, int a5)
+	{ if (call(1499)) invoke(1499, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix2x3dvEXT(int a0, int a1, int a2, boolean a3, java.nio.DoubleBuffer a4)
+	{ if (call(1500)) invoke(1500, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix2x3fv(int a0, int a1, int a2, boolean a3, float[] a4, int a5)
+	{ if (call(1501)) invoke(1501, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix2x3fv(int a0, int a1, int a2, boolean a3, java.nio.FloatBuffer a4)
+	{ if (call(1502)) invoke(1502, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix2x4dv(int a0, int a1, int a2, boolean a3, double[] a4, int a5)
+	{ if (call(1503)) invoke(1503, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix2x4dv(int a0, int a1, int a2, boolean a3, java.nio.DoubleBuffer a4)
+	{ if (call(1504)) invoke(1504, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix2x4dvEXT(int a0, int a1, int a2, boolean a3, double[] a4, int a5)
+	{ if (call(1505)) invoke(1505, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix2x4dvEXT(int a0, int a1, int a2, boolean a3, java.nio.DoubleBuffer a4)
+	{ if (call(1506)) invoke(1506, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix2x4fv(int a0, int a1, int a2, boolean a3, float[] a4, int a5)
+	{ if (call(1507)) invoke(1507, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix2x4fv(int a0, int a1, int a2, boolean a3, java.nio.FloatBuffer a4)
+	{ if (call(1508)) invoke(1508, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix3dv(int a0, int a1, int a2, boolean a3, double[] a4, int a5)
+	{ if (call(1509)) invoke(1509, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix3dv(int a0, int a1, int a2, boolean a3, java.nio.DoubleBuffer a4)
+	{ if (call(1510)) invoke(1510, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix3dvEXT(int a0, int a1, int a2, boolean a3, double[] a4, int a5)
+	{ if (call(1511)) invoke(1511, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix3dvEXT(int a0, int a1, int a2, boolean a3, java.nio.DoubleBuffer a4)
+	{ if (call(1512)) invoke(1512, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix3fv(int a0, int a1, int a2, boolean a3, float[] a4, int a5)
+	{ if (call(1513)) invoke(1513, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix3fv(int a0, int a1, int a2, boolean a3, java.nio.FloatBuffer a4)
+	{ if (call(1514)) invoke(1514, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix3x2dv(int a0, int a1, int a2, boolean a3, double[] a4, int a5)
+	{ if (call(1515)) invoke(1515, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix3x2dv(int a0, int a1, int a2, boolean a3, java.nio.DoubleBuffer a4)
+	{ if (call(1516)) invoke(1516, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix3x2dvEXT(int a0, int a1, int a2, boolean a3, double[] a4, int a5)
+	{ if (call(1517)) invoke(1517, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix3x2dvEXT(int a0, int a1, int a2, boolean a3, java.nio.DoubleBuffer a4)
+	{ if (call(1518)) invoke(1518, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix3x2fv(int a0, int a1, int a2, boolean a3, float[] a4, int a5)
+	{ if (call(1519)) invoke(1519, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix3x2fv(int a0, int a1, int a2, boolean a3, java.nio.FloatBuffer a4)
+	{ if (call(1520)) invoke(1520, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix3x4dv(int a0, int a1, int a2, boolean a3, double[] a4, int a5)
+	{ if (call(1521)) invoke(1521, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix3x4dv(int a0, int a1, int a2, boolean a3, java.nio.DoubleBuffer a4)
+	{ if (call(1522)) invoke(1522, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix3x4dvEXT(int a0, int a1, int a2, boolean a3, double[] a4, int a5)
+	{ if (call(1523)) invoke(1523, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix3x4dvEXT(int a0, int a1, int a2, boolean a3, java.nio.DoubleBuffer a4)
+	{ if (call(1524)) invoke(1524, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix3x4fv(int a0, int a1, int a2, boolean a3, float[] a4, int a5)
+	{ if (call(1525)) invoke(1525, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix3x4fv(int a0, int a1, int a2, boolean a3, java.nio.FloatBuffer a4)
+	{ if (call(1526)) invoke(1526, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix4dv(int a0, int a1, int a2, boolean a3, double[] a4, int a5)
+	{ if (call(1527)) invoke(1527, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix4dv(int a0, int a1, int a2, boolean a3, java.nio.DoubleBuffer a4)
+	{ if (call(1528)) invoke(1528, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix4dvEXT(int a0, int a1, int a2, boolean a3, double[] a4, int a5)
+	{ if (call(1529)) invoke(1529, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix4dvEXT(int a0, int a1, int a2, boolean a3, java.nio.DoubleBuffer a4)
+	{ if (call(1530)) invoke(1530, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix4fv(int a0, int a1, int a2, boolean a3, float[] a4, int a5)
+	{ if (call(1531)) invoke(1531, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix4fv(int a0, int a1, int a2, boolean a3, java.nio.FloatBuffer a4)
+	{ if (call(1532)) invoke(1532, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix4x2dv(int a0, int a1, int a2, boolean a3, double[] a4, int a5)
+	{ if (call(1533)) invoke(1533, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix4x2dv(int a0, int a1, int a2, boolean a3, java.nio.DoubleBuffer a4)
+	{ if (call(1534)) invoke(1534, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix4x2dvEXT(int a0, int a1, int a2, boolean a3, double[] a4, int a5)
+	{ if (call(1535)) invoke(1535, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix4x2dvEXT(int a0, int a1, int a2, boolean a3, java.nio.DoubleBuffer a4)
+	{ if (call(1536)) invoke(1536, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix4x2fv(int a0, int a1, int a2, boolean a3, float[] a4, int a5)
+	{ if (call(1537)) invoke(1537, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix4x2fv(int a0, int a1, int a2, boolean a3, java.nio.FloatBuffer a4)
+	{ if (call(1538)) invoke(1538, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix4x3dv(int a0, int a1, int a2, boolean a3, double[] a4, int a5)
+	{ if (call(1539)) invoke(1539, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix4x3dv(int a0, int a1, int a2, boolean a3, java.nio.DoubleBuffer a4)
+	{ if (call(1540)) invoke(1540, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix4x3dvEXT(int a0, int a1, int a2, boolean a3, double[] a4, int a5)
+	{ if (call(1541)) invoke(1541, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix4x3dvEXT(int a0, int a1, int a2, boolean a3, java.nio.DoubleBuffer a4)
+	{ if (call(1542)) invoke(1542, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformMatrix4x3fv(int a0, int a1, int a2, boolean a3, float[] a4, int a5)
+	{ if (call(1543)) invoke(1543, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glProgramUniformMatrix4x3fv(int a0, int a1, int a2, boolean a3, java.nio.FloatBuffer a4)
+	{ if (call(1544)) invoke(1544, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformui64NV(int a0, int a1, long a2)
+	{ if (call(1545)) invoke(1545, new Object[] { a0, a1, a2 }); }
+	public void glProgramUniformui64vNV(int a0, int a1, int a2, long[] a3, int a4)
+	{ if (call(1546)) invoke(1546, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glProgramUniformui64vNV(int a0, int a1, int a2, java.nio.LongBuffer a3)
+	{ if (call(1547)) invoke(1547, new Object[] { a0, a1, a2, a3 }); }
+	public void glProgramVertexLimitNV(int a0, int a1)
+	{ if (call(1548)) invoke(1548, new Object[] { a0, a1 }); }
+	public void glProvokingVertex(int a0)
+	{ if (call(1549)) invoke(1549, new Object[] { a0 }); }
+	public void glProvokingVertexEXT(int a0)
+	{ if (call(1550)) invoke(1550, new Object[] { a0 }); }
+	public void glPushAttrib(int a0)
+	{ if (call(1551)) invoke(1551, new Object[] { a0 }); }
+	public void glPushClientAttrib(int a0)
+	{ if (call(1552)) invoke(1552, new Object[] { a0 }); }
+	public void glPushClientAttribDefaultEXT(int a0)
+	{ if (call(1553)) invoke(1553, new Object[] { a0 }); }
+	public void glPushDebugGroup(int a0, int a1, int a2, byte[] a3, int a4)
+	{ if (call(1554)) invoke(1554, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glPushDebugGroup(int a0, int a1, int a2, java.nio.ByteBuffer a3)
+	{ if (call(1555)) invoke(1555, new Object[] { a0, a1, a2, a3 }); }
+	public void glPushMatrix()
+	{ if (call(1556)) invoke(1556, null); }
+	public void glPushName(int a0)
+	{ if (call(1557)) invoke(1557, new Object[] { a0 }); }
+	public void glQueryCounter(int a0, int a1)
+	{ if (call(1558)) invoke(1558, new Object[] { a0, a1 }); }
+	public int glQueryMatrixxOES(int[] a0, int a1, int[] a2, int a3)
+	{ return (call(1559) ? ((Number)invoke(1559, new Object[] { a0, a1, a2, a3 })).intValue() : 0); }
+	public int glQueryMatrixxOES(java.nio.IntBuffer a0, java.nio.IntBuffer a1)
+	{ return (call(1560) ? ((Number)invoke(1560, new Object[] { a0, a1 })).intValue() : 0); }
+	public void glQueryObjectParameteruiAMD(int a0, int a1, int a2, int a3)
+	{ if (call(1561)) invoke(1561, new Object[] { a0, a1, a2, a3 }); }
+	public void glRasterPos2d(double a0, double a1)
+	{ if (call(1562)) invoke(1562, new Object[] { a0, a1 }); }
+	public void glRasterPos2dv(double[] a0, int a1)
+	{ if (call(1563)) invoke(1563, new Object[] { a0, a1 }); }
+	public void glRasterPos2dv(java.nio.DoubleBuffer a0)
+	{ if (call(1564)) invoke(1564, new Object[] { a0 }); }
+	public void glRasterPos2f(float a0, float a1)
+	{ if (call(1565)) invoke(1565, new Object[] { a0, a1 }); }
+	public void glRasterPos2fv(float[] a0, int a1)
+	{ if (call(1566)) invoke(1566, new Object[] { a0, a1 }); }
+	public void glRasterPos2fv(java.nio.FloatBuffer a0)
+	{ if (call(1567)) invoke(1567, new Object[] { a0 }); }
+	public void glRasterPos2i(int a0, int a1)
+	{ if (call(1568)) invoke(1568, new Object[] { a0, a1 }); }
+	public void glRasterPos2iv(int[] a0, int a1)
+	{ if (call(1569)) invoke(1569, new Object[] { a0, a1 }); }
+	public void glRasterPos2iv(java.nio.IntBuffer a0)
+	{ if (call(1570)) invoke(1570, new Object[] { a0 }); }
+	public void glRasterPos2s(short a0, short a1)
+	{ if (call(1571)) invoke(1571, new Object[] { a0, a1 }); }
+	public void glRasterPos2sv(short[] a0, int a1)
+	{ if (call(1572)) invoke(1572, new Object[] { a0, a1 }); }
+	public void glRasterPos2sv(java.nio.ShortBuffer a0)
+	{ if (call(1573)) invoke(1573, new Object[] { a0 }); }
+	public void glRasterPos3d(double a0, double a1, double a2)
+	{ if (call(1574)) invoke(1574, new Object[] { a0, a1, a2 }); }
+	public void glRasterPos3dv(double[] a0, int a1)
+	{ if (call(1575)) invoke(1575, new Object[] { a0, a1 }); }
+	public void glRasterPos3dv(java.nio.DoubleBuffer a0)
+	{ if (call(1576)) invoke(1576, new Object[] { a0 }); }
+	public void glRasterPos3f(float a0, float a1, float a2)
+	{ if (call(1577)) invoke(1577, new Object[] { a0, a1, a2 }); }
+	public void glRasterPos3fv(float[] a0, int a1)
+	{ if (call(1578)) invoke(1578, new Object[] { a0, a1 }); }
+	public void glRasterPos3fv(java.nio.FloatBuffer a0)
+	{ if (call(1579)) invoke(1579, new Object[] { a0 }); }
+	public void glRasterPos3i(int a0, int a1, int a2)
+	{ if (call(1580)) invoke(1580, new Object[] { a0, a1, a2 }); }
+	public void glRasterPos3iv(int[] a0, int a1)
+	{ if (call(1581)) invoke(1581, new Object[] { a0, a1 }); }
+	public void glRasterPos3iv(java.nio.IntBuffer a0)
+	{ if (call(1582)) invoke(1582, new Object[] { a0 }); }
+	public void glRasterPos3s(short a0, short a1, short a2)
+	{ if (call(1583)) invoke(1583, new Object[] { a0, a1, a2 }); }
+	public void glRasterPos3sv(short[] a0, int a1)
+	{ if (call(1584)) invoke(1584, new Object[] { a0, a1 }); }
+	public void glRasterPos3sv(java.nio.ShortBuffer a0)
+	{ if (call(1585)) invoke(1585, new Object[] { a0 }); }
+	public void glRasterPos4d(double a0, double a1, double a2, double a3)
+	{ if (call(1586)) invoke(1586, new Object[] { a0, a1, a2, a3 }); }
+	public void glRasterPos4dv(double[] a0, int a1)
+	{ if (call(1587)) invoke(1587, new Object[] { a0, a1 }); }
+	public void glRasterPos4dv(java.nio.DoubleBuffer a0)
+	{ if (call(1588)) invoke(1588, new Object[] { a0 }); }
+	public void glRasterPos4f(float a0, float a1, float a2, float a3)
+	{ if (call(1589)) invoke(1589, new Object[] { a0, a1, a2, a3 }); }
+	public void glRasterPos4fv(float[] a0, int a1)
+	{ if (call(1590)) invoke(1590, new Object[] { a0, a1 }); }
+	public void glRasterPos4fv(java.nio.FloatBuffer a0)
+	{ if (call(1591)) invoke(1591, new Object[] { a0 }); }
+	public void glRasterPos4i(int a0, int a1, int a2, int a3)
+	{ if (call(1592)) invoke(1592, new Object[] { a0, a1, a2, a3 }); }
+	public void glRasterPos4iv(int[] a0, int a1)
+	{ if (call(1593)) invoke(1593, new Object[] { a0, a1 }); }
+	public void glRasterPos4iv(java.nio.IntBuffer a0)
+	{ if (call(1594)) invoke(1594, new Object[] { a0 }); }
+	public void glRasterPos4s(short a0, short a1, short a2, short a3)
+	{ if (call(1595)) invoke(1595, new Object[] { a0, a1, a2, a3 }); }
+	public void glRasterPos4sv(short[] a0, int a1)
+	{ if (call(1596)) invoke(1596, new Object[] { a0, a1 }); }
+	public void glRasterPos4sv(java.nio.ShortBuffer a0)
+	{ if (call(1597)) invoke(1597, new Object[] { a0 }); }
+	public void glRasterSamplesEXT(int a0, boolean a1)
+	{ if (call(1598)) invoke(1598, new Object[] { a0, a1 }); }
+	public void glReadBuffer(int a0)
+	{ if (call(1599)) invoke(1599, new Object[] { a0 }); }
+	public void glReadPixels(int a0, int a1, int a2, int a3, int a4, int a5, java.nio.Buffer a6)
+	{ if (call(1600)) invoke(1600, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glReadPixels(int a0, int a1, int a2, int a3, int a4, int a5, long a6)
+	{ if (call(1601)) invoke(1601, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glReadnPixels(int a0, int a1, int a2, int a3, int a4, int a5, int a6, java.nio.Buffer a7)
+	{ if (call(1602)) invoke(1602, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glRectd(double a0, double a1, double a2, double a3)
+	{ if (call(1603)) invoke(1603, new Object[] { a0, a1, a2, a3 }); }
+	public void glRectdv(double[] a0, int a1, double[] a2, int a3)
+	{ if (call(1604)) invoke(1604, new Object[] { a0, a1, a2, a3 }); }
+	public void glRectdv(java.nio.DoubleBuffer a0, java.nio.DoubleBuffer a1)
+	{ if (call(1605)) invoke(1605, new Object[] { a0, a1 }); }
+	public void glRectf(float a0, float a1, float a2, float a3)
+	{ if (call(1606)) invoke(1606, new Object[] { a0, a1, a2, a3 }); }
+	public void glRectfv(float[] a0, int a1, float[] a2, int a3)
+	{ if (call(1607)) invoke(1607, new Object[] { a0, a1, a2, a3 }); }
+	public void glRectfv(java.nio.FloatBuffer a0, java.nio.FloatBuffer a1)
+	{ if (call(1608)) invoke(1608, new Object[] { a0, a1 }); }
+	public void glRecti(int a0, int a1, int a2, int a3)
+	{ if (call(1609)) invoke(1609, new Object[] { a0, a1, a2, a3 }); }
+	public void glRectiv(int[] a0, int a1, int[] a2, int a3)
+	{ if (call(1610)) invoke(1610, new Object[] { a0, a1, a2, a3 }); }
+	public void glRectiv(java.nio.IntBuffer a0, java.nio.IntBuffer a1)
+	{ if (call(1611)) invoke(1611, new Object[] { a0, a1 }); }
+	public void glRects(short a0, short a1, short a2, short a3)
+	{ if (call(1612)) invoke(1612, new Object[] { a0, a1, a2, a3 }); }
+	public void glRectsv(short[] a0, int a1, short[] a2, int a3)
+	{ if (call(1613)) invoke(1613, new Object[] { a0, a1, a2, a3 }); }
+	public void glRectsv(java.nio.ShortBuffer a0, java.nio.ShortBuffer a1)
+	{ if (call(1614)) invoke(1614, new Object[] { a0, a1 }); }
+	public void glReleaseShaderCompiler()
+	{ if (call(1615)) invoke(1615, null); }
+	public int glRenderMode(int a0)
+	{ return (call(1616) ? ((Number)invoke(1616, new Object[] { a0 })).intValue() : 0); }
+	public void glRenderbufferStorage(int a0, int a1, int a2, int a3)
+	{ if (call(1617)) invoke(1617, new Object[] { a0, a1, a2, a3 }); }
+	public void glRenderbufferStorageMultisample(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(1618)) invoke(1618, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glRenderbufferStorageMultisampleCoverageNV(int a0, int a1, int a2, int a3, int a4, int a5)
+	{ if (call(1619)) invoke(1619, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glResetHistogram(int a0)
+	{ if (call(1620)) invoke(1620, new Object[] { a0 }); }
+	public void glResetMinmax(int a0)
+	{ if (call(1621)) invoke(1621, new Object[] { a0 }); }
+	public void glResolveDepthValuesNV()
+	{ if (call(1622)) invoke(1622, null); }
+	public void glResumeTransformFeedback()
+	{ if (call(1623)) invoke(1623, null); }
+	public void glResumeTransformFeedbackNV()
+	{ if (call(1624)) invoke(1624, null); }
+	public void glRotated(double a0, double a1, double a2, double a3)
+	{ if (call(1625)) invoke(1625, new Object[] { a0, a1, a2, a3 }); }
+	public void glRotatef(float a0, float a1, float a2, float a3)
+	{ if (call(1626)) invoke(1626, new Object[] { a0, a1, a2, a3 }); }
+	public void glSampleCoverage(float a0, boolean a1)
+	{ if (call(1627)) invoke(1627, new Object[] { a0, a1 }); }
+	public void glSampleMaskIndexedNV(int a0, int a1)
+	{ if (call(1628)) invoke(1628, new Object[] { a0, a1 }); }
+	public void glSampleMaski(int a0, int a1)
+	{ if (call(1629)) invoke(1629, new Object[] { a0, a1 }); }
+	public void glSamplerParameterIiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(1630)) invoke(1630, new Object[] { a0, a1, a2, a3 }); }
+	public void glSamplerParameterIiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1631)) invoke(1631, new Object[] { a0, a1, a2 }); }
+	public void glSamplerParameterIuiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(1632)) invoke(1632, new Object[] { a0, a1, a2, a3 }); }
+	public void glSamplerParameterIuiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1633)) invoke(1633, new Object[] { a0, a1, a2 }); }
+	public void glScaled(double a0, double a1, double a2)
+	{ if (call(1634)) invoke(1634, new Object[] { a0, a1, a2 }); }
+	public void glScalef(float a0, float a1, float a2)
+	{ if (call(1635)) invoke(1635, new Object[] { a0, a1, a2 }); }
+	public void glScissor(int a0, int a1, int a2, int a3)
+	{ if (call(1636)) invoke(1636, new Object[] { a0, a1, a2, a3 }); }
+	public void glSecondaryColor3b(byte a0, byte a1, byte a2)
+	{ if (call(1637)) invoke(1637, new Object[] { a0, a1, a2 }); }
+	public void glSecondaryColor3bv(byte[] a0, int a1)
+	{ if (call(1638)) invoke(1638, new Object[] { a0, a1 }); }
+	public void glSecondaryColor3bv(java.nio.ByteBuffer a0)
+	{ if (call(1639)) invoke(1639, new Object[] { a0 }); }
+	public void glSecondaryColor3d(double a0, double a1, double a2)
+	{ if (call(1640)) invoke(1640, new Object[] { a0, a1, a2 }); }
+	public void glSecondaryColor3dv(double[] a0, int a1)
+	{ if (call(1641)) invoke(1641, new Object[] { a0, a1 }); }
+	public void glSecondaryColor3dv(java.nio.DoubleBuffer a0)
+	{ if (call(1642)) invoke(1642, new Object[] { a0 }); }
+	public void glSecondaryColor3f(float a0, float a1, float a2)
+	{ if (call(1643)) invoke(1643, new Object[] { a0, a1, a2 }); }
+	public void glSecondaryColor3fv(float[] a0, int a1)
+	{ if (call(1644)) invoke(1644, new Object[] { a0, a1 }); }
+	public void glSecondaryColor3fv(java.nio.FloatBuffer a0)
+	{ if (call(1645)) invoke(1645, new Object[] { a0 }); }
+	public void glSecondaryColor3h(short a0, short a1, short a2)
+	{ if (call(1646)) invoke(1646, new Object[] { a0, a1, a2 }); }
+	public void glSecondaryColor3hv(short[] a0, int a1)
+	{ if (call(1647)) invoke(1647, new Object[] { a0, a1 }); }
+	public void glSecondaryColor3hv(java.nio.ShortBuffer a0)
+	{ if (call(1648)) invoke(1648, new Object[] { a0 }); }
+	public void glSecondaryColor3i(int a0, int a1, int a2)
+	{ if (call(1649)) invoke(1649, new Object[] { a0, a1, a2 }); }
+	public void glSecondaryColor3iv(int[] a0, int a1)
+	{ if (call(1650)) invoke(1650, new Object[] { a0, a1 }); }
+	public void glSecondaryColor3iv(java.nio.IntBuffer a0)
+	{ if (call(1651)) invoke(1651, new Object[] { a0 }); }
+	public void glSecondaryColor3s(short a0, short a1, short a2)
+	{ if (call(1652)) invoke(1652, new Object[] { a0, a1, a2 }); }
+	public void glSecondaryColor3sv(short[] a0, int a1)
+	{ if (call(1653)) invoke(1653, new Object[] { a0, a1 }); }
+	public void glSecondaryColor3sv(java.nio.ShortBuffer a0)
+	{ if (call(1654)) invoke(1654, new Object[] { a0 }); }
+	public void glSecondaryColor3ub(byte a0, byte a1, byte a2)
+	{ if (call(1655)) invoke(1655, new Object[] { a0, a1, a2 }); }
+	public void glSecondaryColor3ubv(byte[] a0, int a1)
+	{ if (call(1656)) invoke(1656, new Object[] { a0, a1 }); }
+	public void glSecondaryColor3ubv(java.nio.ByteBuffer a0)
+	{ if (call(1657)) invoke(1657, new Object[] { a0 }); }
+	public void glSecondaryColor3ui(int a0, int a1, int a2)
+	{ if (call(1658)) invoke(1658, new Object[] { a0, a1, a2 }); }
+	public void glSecondaryColor3uiv(int[] a0, int a1)
+	{ if (call(1659)) invoke(1659, new Object[] { a0, a1 }); }
+	public void glSecondaryColor3uiv(java.nio.IntBuffer a0)
+	{ if (call(1660)) invoke(1660, new Object[] { a0 }); }
+	public void glSecondaryColor3us(short a0, short a1, short a2)
+	{ if (call(1661)) invoke(1661, new Object[] { a0, a1, a2 }); }
+	public void glSecondaryColor3usv(short[] a0, int a1)
+	{ if (call(1662)) invoke(1662, new Object[] { a0, a1 }); }
+	public void glSecondaryColor3usv(java.nio.ShortBuffer a0)
+	{ if (call(1663)) invoke(1663, new Object[] { a0 }); }
+	public void glSecondaryColorFormatNV(int a0, int a1, int a2)
+	{ if (call(1664)) invoke(1664, new Object[] { a0, a1, a2 }); }
+	public void glSecondaryColorPointer(int a0, int a1, int a2, java.nio.Buffer a3)
+	{ if (call(1665)) invoke(1665, new Object[] { a0, a1, a2, a3 }); }
+	public void glSecondaryColorPointer(int a0, int a1, int a2, long a3)
+	{ if (call(1666)) invoke(1666, new Object[] { a0, a1, a2, a3 }); }
+	public void glSelectBuffer(int a0, java.nio.IntBuffer a1)
+	{ if (call(1667)) invoke(1667, new Object[] { a0, a1 }); }
+	public void glSelectPerfMonitorCountersAMD(int a0, boolean a1, int a2, int a3, int[] a4, int a5)
+	{ if (call(1668)) invoke(1668, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glSelectPerfMonitorCountersAMD(int a0, boolean a1, int a2, int a3, java.nio.IntBuffer a4)
+	{ if (call(1669)) invoke(1669, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glSeparableFilter2D(int a0, int a1, int a2, int a3, int a4, int a5, java.nio.Buffer a6, java.nio.Buffer a7)
+	{ if (call(1670)) invoke(1670, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glSeparableFilter2D(int a0, int a1, int a2, int a3, int a4, int a5, long a6, long a7)
+	{ if (call(1671)) invoke(1671, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glSetInvariantEXT(int a0, int a1, java.nio.Buffer a2)
+	{ if (call(1672)) invoke(1672, new Object[] { a0, a1, a2 }); }
+	public void glSetLocalConstantEXT(int a0, int a1, java.nio.Buffer a2)
+	{ if (call(1673)) invoke(1673, new Object[] { a0, a1, a2 }); }
+	public void glSetMultisamplefvAMD(int a0, int a1, float[] a2, int a3)
+	{ if (call(1674)) invoke(1674, new Object[] { a0, a1, a2, a3 }); }
+	public void glSetMultisamplefvAMD(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(1675)) invoke(1675, new Object[] { a0, a1, a2 }); }
+	public void glShadeModel(int a0)
+	{ if (call(1676)) invoke(1676, new Object[] { a0 }); }
+	public void glShaderBinary(int a0, int[] a1, int a2, int a3, java.nio.Buffer a4, int a5)
+	{ if (call(1677)) invoke(1677, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glShaderBinary(int a0, java.nio.IntBuffer a1, int a2, java.nio.Buffer a3, int a4)
+	{ if (call(1678)) invoke(1678, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glShaderOp1EXT(int a0, int a1, int a2)
+	{ if (call(1679)) invoke(1679, new Object[] { a0, a1, a2 }); }
+	public void glShaderOp2EXT(int a0, int a1, int a2, int a3)
+	{ if (call(1680)) invoke(1680, new Object[] { a0, a1, a2, a3 }); }
+	public void glShaderOp3EXT(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(1681)) invoke(1681, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glShaderSource(int a0, int a1, java.lang.String[] a2, int[] a3, int a4)
+	{ if (call(1682)) invoke(1682, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glShaderSource(int a0, int a1, java.lang.String[] a2, java.nio.IntBuffer a3)
+	{ if (call(1683)) invoke(1683, new Object[] { a0, a1, a2, a3 }); }
+	public void glShaderSourceARB(long a0, int a1, java.lang.String[] a2, int[] a3, int a4)
+	{ if (call(1684)) invoke(1684, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glShaderSourceARB(long a0, int a1, java.lang.String[] a2, java.nio.IntBuffer a3)
+	{ if (call(1685)) invoke(1685, new Object[] { a0, a1, a2, a3 }); }
+	public void glStateCaptureNV(int a0, int a1)
+	{ if (call(1686)) invoke(1686, new Object[] { a0, a1 }); }
+	public void glStencilClearTagEXT(int a0, int a1)
+	{ if (call(1687)) invoke(1687, new Object[] { a0, a1 }); }
+	public void glStencilFunc(int a0, int a1, int a2)
+	{ if (call(1688)) invoke(1688, new Object[] { a0, a1, a2 }); }
+	public void glStencilFuncSeparate(int a0, int a1, int a2, int a3)
+	{ if (call(1689)) invoke(1689, new Object[] { a0, a1, a2, a3 }); }
+	public void glStencilMask(int a0)
+	{ if (call(1690)) invoke(1690, new Object[] { a0 }); }
+	public void glStencilMaskSeparate(int a0, int a1)
+	{ if (call(1691)) invoke(1691, new Object[] { a0, a1 }); }
+	public void glStencilOp(int a0, int a1, int a2)
+	{ if (call(1692)) invoke(1692, new Object[] { a0, a1, a2 }); }
+	public void glStencilOpSeparate(int a0, int a1, int a2, int a3)
+	{ if (call(1693)) invoke(1693, new Object[] { a0, a1, a2, a3 }); }
+	public void glStencilOpValueAMD(int a0, int a1)
+	{ if (call(1694)) invoke(1694, new Object[] { a0, a1 }); }
+	public void glStringMarkerGREMEDY(int a0, java.nio.Buffer a1)
+	{ if (call(1695)) invoke(1695, new Object[] { a0, a1 }); }
+	public void glSubpixelPrecisionBiasNV(int a0, int a1)
+	{ if (call(1696)) invoke(1696, new Object[] { a0, a1 }); }
+	public void glSwizzleEXT(int a0, int a1, int a2, int a3, int a4, int a5)
+	{ if (call(1697)) invoke(1697, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glSyncTextureINTEL(int a0)
+	{ if (call(1698)) invoke(1698, new Object[] { a0 }); }
+	public void glTessellationFactorAMD(float a0)
+	{ if (call(1699)) invoke(1699, new Object[] { a0 }); }
+	public void glTessellationModeAMD(int a0)
+	{ if (call(1700)) invoke(1700, new Object[] { a0 }); }
+	public void glTexBuffer(int a0, int a1, int a2)
+	{ if (call(1701)) invoke(1701, new Object[] { a0, a1, a2 }); }
+	public void glTexCoord1bOES(byte a0)
+	{ if (call(1702)) invoke(1702, new Object[] { a0 }); }
+	public void glTexCoord1bvOES(byte[] a0, int a1)
+	{ if (call(1703)) invoke(1703, new Object[] { a0, a1 }); }
+	public void glTexCoord1bvOES(java.nio.ByteBuffer a0)
+	{ if (call(1704)) invoke(1704, new Object[] { a0 }); }
+	public void glTexCoord1d(double a0)
+	{ if (call(1705)) invoke(1705, new Object[] { a0 }); }
+	public void glTexCoord1dv(double[] a0, int a1)
+	{ if (call(1706)) invoke(1706, new Object[] { a0, a1 }); }
+	public void glTexCoord1dv(java.nio.DoubleBuffer a0)
+	{ if (call(1707)) invoke(1707, new Object[] { a0 }); }
+	public void glTexCoord1f(float a0)
+	{ if (call(1708)) invoke(1708, new Object[] { a0 }); }
+	public void glTexCoord1fv(float[] a0, int a1)
+	{ if (call(1709)) invoke(1709, new Object[] { a0, a1 }); }
+	public void glTexCoord1fv(java.nio.FloatBuffer a0)
+	{ if (call(1710)) invoke(1710, new Object[] { a0 }); }
+	public void glTexCoord1h(short a0)
+	{ if (call(1711)) invoke(1711, new Object[] { a0 }); }
+	public void glTexCoord1hv(short[] a0, int a1)
+	{ if (call(1712)) invoke(1712, new Object[] { a0, a1 }); }
+	public void glTexCoord1hv(java.nio.ShortBuffer a0)
+	{ if (call(1713)) invoke(1713, new Object[] { a0 }); }
+	public void glTexCoord1i(int a0)
+	{ if (call(1714)) invoke(1714, new Object[] { a0 }); }
+	public void glTexCoord1iv(int[] a0, int a1)
+	{ if (call(1715)) invoke(1715, new Object[] { a0, a1 }); }
+	public void glTexCoord1iv(java.nio.IntBuffer a0)
+	{ if (call(1716)) invoke(1716, new Object[] { a0 }); }
+	public void glTexCoord1s(short a0)
+	{ if (call(1717)) invoke(1717, new Object[] { a0 }); }
+	public void glTexCoord1sv(short[] a0, int a1)
+	{ if (call(1718)) invoke(1718, new Object[] { a0, a1 }); }
+	public void glTexCoord1sv(java.nio.ShortBuffer a0)
+	{ if (call(1719)) invoke(1719, new Object[] { a0 }); }
+	public void glTexCoord2bOES(byte a0, byte a1)
+	{ if (call(1720)) invoke(1720, new Object[] { a0, a1 }); }
+	public void glTexCoord2bvOES(byte[] a0, int a1)
+	{ if (call(1721)) invoke(1721, new Object[] { a0, a1 }); }
+	public void glTexCoord2bvOES(java.nio.ByteBuffer a0)
+	{ if (call(1722)) invoke(1722, new Object[] { a0 }); }
+	public void glTexCoord2d(double a0, double a1)
+	{ if (call(1723)) invoke(1723, new Object[] { a0, a1 }); }
+	public void glTexCoord2dv(double[] a0, int a1)
+	{ if (call(1724)) invoke(1724, new Object[] { a0, a1 }); }
+	public void glTexCoord2dv(java.nio.DoubleBuffer a0)
+	{ if (call(1725)) invoke(1725, new Object[] { a0 }); }
+	public void glTexCoord2f(float a0, float a1)
+	{ if (call(1726)) invoke(1726, new Object[] { a0, a1 }); }
+	public void glTexCoord2fv(float[] a0, int a1)
+	{ if (call(1727)) invoke(1727, new Object[] { a0, a1 }); }
+	public void glTexCoord2fv(java.nio.FloatBuffer a0)
+	{ if (call(1728)) invoke(1728, new Object[] { a0 }); }
+	public void glTexCoord2h(short a0, short a1)
+	{ if (call(1729)) invoke(1729, new Object[] { a0, a1 }); }
+	public void glTexCoord2hv(short[] a0, int a1)
+	{ if (call(1730)) invoke(1730, new Object[] { a0, a1 }); }
+	public void glTexCoord2hv(java.nio.ShortBuffer a0)
+	{ if (call(1731)) invoke(1731, new Object[] { a0 }); }
+	public void glTexCoord2i(int a0, int a1)
+	{ if (call(1732)) invoke(1732, new Object[] { a0, a1 }); }
+	public void glTexCoord2iv(int[] a0, int a1)
+	{ if (call(1733)) invoke(1733, new Object[] { a0, a1 }); }
+	public void glTexCoord2iv(java.nio.IntBuffer a0)
+	{ if (call(1734)) invoke(1734, new Object[] { a0 }); }
+	public void glTexCoord2s(short a0, short a1)
+	{ if (call(1735)) invoke(1735, new Object[] { a0, a1 }); }
+	public void glTexCoord2sv(short[] a0, int a1)
+	{ if (call(1736)) invoke(1736, new Object[] { a0, a1 }); }
+	public void glTexCoord2sv(java.nio.ShortBuffer a0)
+	{ if (call(1737)) invoke(1737, new Object[] { a0 }); }
+	public void glTexCoord3bOES(byte a0, byte a1, byte a2)
+	{ if (call(1738)) invoke(1738, new Object[] { a0, a1, a2 }); }
+	public void glTexCoord3bvOES(byte[] a0, int a1)
+	{ if (call(1739)) invoke(1739, new Object[] { a0, a1 }); }
+	public void glTexCoord3bvOES(java.nio.ByteBuffer a0)
+	{ if (call(1740)) invoke(1740, new Object[] { a0 }); }
+	public void glTexCoord3d(double a0, double a1, double a2)
+	{ if (call(1741)) invoke(1741, new Object[] { a0, a1, a2 }); }
+	public void glTexCoord3dv(double[] a0, int a1)
+	{ if (call(1742)) invoke(1742, new Object[] { a0, a1 }); }
+	public void glTexCoord3dv(java.nio.DoubleBuffer a0)
+	{ if (call(1743)) invoke(1743, new Object[] { a0 }); }
+	public void glTexCoord3f(float a0, float a1, float a2)
+	{ if (call(1744)) invoke(1744, new Object[] { a0, a1, a2 }); }
+	public void glTexCoord3fv(float[] a0, int a1)
+	{ if (call(1745)) invoke(1745, new Object[] { a0, a1 }); }
+	public void glTexCoord3fv(java.nio.FloatBuffer a0)
+	{ if (call(1746)) invoke(1746, new Object[] { a0 }); }
+	public void glTexCoord3h(short a0, short a1, short a2)
+	{ if (call(1747)) invoke(1747, new Object[] { a0, a1, a2 }); }
+	public void glTexCoord3hv(short[] a0, int a1)
+	{ if (call(1748)) invoke(1748, new Object[] { a0, a1 }); }
+	public void glTexCoord3hv(java.nio.ShortBuffer a0)
+	{ if (call(1749)) invoke(1749, new Object[] { a0 }); }
+	public void glTexCoord3i(int a0, int a1, int a2)
+	{ if (call(1750)) invoke(1750, new Object[] { a0, a1, a2 }); }
+	public void glTexCoord3iv(int[] a0, int a1)
+	{ if (call(1751)) invoke(1751, new Object[] { a0, a1 }); }
+	public void glTexCoord3iv(java.nio.IntBuffer a0)
+	{ if (call(1752)) invoke(1752, new Object[] { a0 }); }
+	public void glTexCoord3s(short a0, short a1, short a2)
+	{ if (call(1753)) invoke(1753, new Object[] { a0, a1, a2 }); }
+	public void glTexCoord3sv(short[] a0, int a1)
+	{ if (call(1754)) invoke(1754, new Object[] { a0, a1 }); }
+	public void glTexCoord3sv(java.nio.ShortBuffer a0)
+	{ if (call(1755)) invoke(1755, new Object[] { a0 }); }
+	public void glTexCoord4bOES(byte a0, byte a1, byte a2, byte a3)
+	{ if (call(1756)) invoke(1756, new Object[] { a0, a1, a2, a3 }); }
+	public void glTexCoord4bvOES(byte[] a0, int a1)
+	{ if (call(1757)) invoke(1757, new Object[] { a0, a1 }); }
+	public void glTexCoord4bvOES(java.nio.ByteBuffer a0)
+	{ if (call(1758)) invoke(1758, new Object[] { a0 }); }
+	public void glTexCoord4d(double a0, double a1, double a2, double a3)
+	{ if (call(1759)) invoke(1759, new Object[] { a0, a1, a2, a3 }); }
+	public void glTexCoord4dv(double[] a0, int a1)
+	{ if (call(1760)) invoke(1760, new Object[] { a0, a1 }); }
+	public void glTexCoord4dv(java.nio.DoubleBuffer a0)
+	{ if (call(1761)) invoke(1761, new Object[] { a0 }); }
+	public void glTexCoord4f(float a0, float a1, float a2, float a3)
+	{ if (call(1762)) invoke(1762, new Object[] { a0, a1, a2, a3 }); }
+	public void glTexCoord4fv(float[] a0, int a1)
+	{ if (call(1763)) invoke(1763, new Object[] { a0, a1 }); }
+	public void glTexCoord4fv(java.nio.FloatBuffer a0)
+	{ if (call(1764)) invoke(1764, new Object[] { a0 }); }
+	public void glTexCoord4h(short a0, short a1, short a2, short a3)
+	{ if (call(1765)) invoke(1765, new Object[] { a0, a1, a2, a3 }); }
+	public void glTexCoord4hv(short[] a0, int a1)
+	{ if (call(1766)) invoke(1766, new Object[] { a0, a1 }); }
+	public void glTexCoord4hv(java.nio.ShortBuffer a0)
+	{ if (call(1767)) invoke(1767, new Object[] { a0 }); }
+	public void glTexCoord4i(int a0, int a1, int a2, int a3)
+	{ if (call(1768)) invoke(1768, new Object[] { a0, a1, a2, a3 }); }
+	public void glTexCoord4iv(int[] a0, int a1)
+	{ if (call(1769)) invoke(1769, new Object[] { a0, a1 }); }
+	public void glTexCoord4iv(java.nio.IntBuffer a0)
+	{ if (call(1770)) invoke(1770, new Object[] { a0 }); }
+	public void glTexCoord4s(short a0, short a1, short a2, short a3)
+	{ if (call(1771)) invoke(1771, new Object[] { a0, a1, a2, a3 }); }
+	public void glTexCoord4sv(short[] a0, int a1)
+	{ if (call(1772)) invoke(1772, new Object[] { a0, a1 }); }
+	public void glTexCoord4sv(java.nio.ShortBuffer a0)
+	{ if (call(1773)) invoke(1773, new Object[] { a0 }); }
+	public void glTexCoordFormatNV(int a0, int a1, int a2)
+	{ if (call(1774)) invoke(1774, new Object[] { a0, a1, a2 }); }
+	public void glTexCoordPointer(com.jogamp.opengl.GLArrayData a0)
+	{ if (call(1775)) invoke(1775, new Object[] { a0 }); }
+	public void glTexCoordPointer(int a0, int a1, int a2, java.nio.Buffer a3)
+	{ if (call(1776)) invoke(1776, new Object[] { a0, a1, a2, a3 }); }
+	public void glTexCoordPointer(int a0, int a1, int a2, long a3)
+	{ if (call(1777)) invoke(1777, new Object[] { a0, a1, a2, a3 }); }
+	public void glTexEnvf(int a0, int a1, float a2)
+	{ if (call(1778)) invoke(1778, new Object[] { a0, a1, a2 }); }
+	public void glTexEnvfv(int a0, int a1, float[] a2, int a3)
+	{ if (call(1779)) invoke(1779, new Object[] { a0, a1, a2, a3 }); }
+	public void glTexEnvfv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(1780)) invoke(1780, new Object[] { a0, a1, a2 }); }
+	public void glTexEnvi(int a0, int a1, int a2)
+	{ if (call(1781)) invoke(1781, new Object[] { a0, a1, a2 }); }
+	public void glTexEnviv(int a0, int a1, int[] a2, int a3)
+	{ if (call(1782)) invoke(1782, new Object[] { a0, a1, a2, a3 }); }
+	public void glTexEnviv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1783)) invoke(1783, new Object[] { a0, a1, a2 }); }
+	public void glTexGend(int a0, int a1, double a2)
+	{ if (call(1784)) invoke(1784, new Object[] { a0, a1, a2 }); }
+	public void glTexGendv(int a0, int a1, double[] a2, int a3)
+	{ if (call(1785)) invoke(1785, new Object[] { a0, a1, a2, a3 }); }
+	public void glTexGendv(int a0, int a1, java.nio.DoubleBuffer a2)
+	{ if (call(1786)) invoke(1786, new Object[] { a0, a1, a2 }); }
+	public void glTexGenf(int a0, int a1, float a2)
+	{ if (call(1787)) invoke(1787, new Object[] { a0, a1, a2 }); }
+	public void glTexGenfv(int a0, int a1, float[] a2, int a3)
+	{ if (call(1788)) invoke(1788, new Object[] { a0, a1, a2, a3 }); }
+	public void glTexGenfv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(1789)) invoke(1789, new Object[] { a0, a1, a2 }); }
+	public void glTexGeni(int a0, int a1, int a2)
+	{ if (call(1790)) invoke(1790, new Object[] { a0, a1, a2 }); }
+	public void glTexGeniv(int a0, int a1, int[] a2, int a3)
+	{ if (call(1791)) invoke(1791, new Object[] { a0, a1, a2, a3 }); }
+	public void glTexGeniv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1792)) invoke(1792, new Object[] { a0, a1, a2 }); }
+	public void glTexImage1D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, java.nio.Buffer a7)
+	{ if (call(1793)) invoke(1793, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glTexImage1D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, long a7)
+	{ if (call(1794)) invoke(1794, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glTexImage2D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, java.nio.Buffer a8)
+	{ if (call(1795)) invoke(1795, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glTexImage2D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, long a8)
+	{ if (call(1796)) invoke(1796, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glTexImage2DMultisample(int a0, int a1, int a2, int a3, int a4, boolean a5)
+	{ if (call(1797)) invoke(1797, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glTexImage2DMultisampleCoverageNV(int a0, int a1, int a2, int a3, int a4, int a5, boolean a6)
+	{ if (call(1798)) invoke(1798, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glTexImage3D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, java.nio.Buffer a9)
+	{ if (call(1799)) invoke(1799, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9 }); }
+	public void glTexImage3D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, long a9)
+	{ if (call(1800)) invoke(1800, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9 }); }
+	public void glTexImage3DMultisample(int a0, int a1, int a2, int a3, int a4, int a5, boolean a6)
+	{ if (call(1801)) invoke(1801, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glTexImage3DMultisampleCoverageNV(int a0, int a1, int a2, int a3, int a4, int a5, int a6, boolean a7)
+	{ if (call(1802)) invoke(1802, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glTexPageCommitmentARB(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, boolean a8)
+	{ if (call(1803)) invoke(1803, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glTexParameterIiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(1804)) invoke(1804, new Object[] { a0, a1, a2, a3 }); }
+	public void glTexParameterIiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1805)) invoke(1805, new Object[] { a0, a1, a2 }); }
+	public void glTexParameterIuiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(1806)) invoke(1806, new Object[] { a0, a1, a2, a3 }); }
+	public void glTexParameterIuiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1807)) invoke(1807, new Object[] { a0, a1, a2 }); }
+	public void glTexParameterf(int a0, int a1, float a2)
+	{ if (call(1808)) invoke(1808, new Object[] { a0, a1, a2 }); }
+	public void glTexParameterfv(int a0, int a1, float[] a2, int a3)
+	{ if (call(1809)) invoke(1809, new Object[] { a0, a1, a2, a3 }); }
+	public void glTexParameterfv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(1810)) invoke(1810, new Object[] { a0, a1, a2 }); }
+	public void glTexParameteri(int a0, int a1, int a2)
+	{ if (call(1811)) invoke(1811, new Object[] { a0, a1, a2 }); }
+	public void glTexParameteriv(int a0, int a1, int[] a2, int a3)
+	{ if (call(1812)) invoke(1812, new Object[] { a0, a1, a2, a3 }); }
+	public void glTexParameteriv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1813)) invoke(1813, new Object[] { a0, a1, a2 }); }
+	public void glTexRenderbufferNV(int a0, int a1)
+	{ if (call(1814)) invoke(1814, new Object[] { a0, a1 }); }
+	public void glTexStorage1D(int a0, int a1, int a2, int a3)
+	{ if (call(1815)) invoke(1815, new Object[] { a0, a1, a2, a3 }); }
+	public void glTexStorage2D(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(1816)) invoke(1816, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glTexStorage2DMultisample(int a0, int a1, int a2, int a3, int a4, boolean a5)
+	{ if (call(1817)) invoke(1817, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glTexStorage3D(int a0, int a1, int a2, int a3, int a4, int a5)
+	{ if (call(1818)) invoke(1818, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glTexStorage3DMultisample(int a0, int a1, int a2, int a3, int a4, int a5, boolean a6)
+	{ if (call(1819)) invoke(1819, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glTexStorageSparseAMD(int a0, int a1, int a2, int a3, int a4, int a5, int a6)
+	{ if (call(1820)) invoke(1820, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glTexSubImage1D(int a0, int a1, int a2, int a3, int a4, int a5, java.nio.Buffer a6)
+	{ if (call(1821)) invoke(1821, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glTexSubImage1D(int a0, int a1, int a2, int a3, int a4, int a5, long a6)
+	{ if (call(1822)) invoke(1822, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glTexSubImage2D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, java.nio.Buffer a8)
+	{ if (call(1823)) invoke(1823, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glTexSubImage2D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, long a8)
+	{ if (call(1824)) invoke(1824, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glTexSubImage3D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, java.nio.Buffer a10)
+	{ if (call(1825)) invoke(1825, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10 }); }
+	public void glTexSubImage3D(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, long a10)
+	{ if (call(1826)) invoke(1826, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10 }); }
+	public void glTextureBarrierNV()
+	{ if (call(1827)) invoke(1827, null); }
+	public void glTextureBufferEXT(int a0, int a1, int a2, int a3)
+	{ if (call(1828)) invoke(1828, new Object[] { a0, a1, a2, a3 }); }
+	public void glTextureBufferRangeEXT(int a0, int a1, int a2, int a3, long a4, long a5)
+	{ if (call(1829)) invoke(1829, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glTextureImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, java.nio.Buffer a8)
+	{ if (call(1830)) invoke(1830, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glTextureImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, long a8)
+	{ if (call(1831)) invoke(1831, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glTextureImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, java.nio.Buffer a9)
+	{ if (call(1832)) invoke(1832, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9 }); }
+	public void glTextureImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, long a9)
+	{ if (call(1833)) invoke(1833, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9 }); }
+	public void glTextureImage2DMultisampleCoverageNV(int a0, int a1, int a2, int a3, int a4, int a5, int a6, boolean a7)
+	{ if (call(1834)) invoke(1834, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glTextureImage2DMultisampleNV(int a0, int a1, int a2, int a3, int a4, int a5, boolean a6)
+	{ if (call(1835)) invoke(1835, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glTextureImage3DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, java.nio.Buffer a10)
+	{ if (call(1836)) invoke(1836, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10 }); }
+	public void glTextureImage3DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, long a10)
+	{ if (call(1837)) invoke(1837, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10 }); }
+	public void glTextureImage3DMultisampleCoverageNV(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, boolean a8)
+	{ if (call(1838)) invoke(1838, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glTextureImage3DMultisampleNV(int a0, int a1, int a2, int a3, int a4, int a5, int a6, boolean a7)
+	{ if (call(1839)) invoke(1839, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glTextureLightEXT(int a0)
+	{ if (call(1840)) invoke(1840, new Object[] { a0 }); }
+	public void glTextureMaterialEXT(int a0, int a1)
+	{ if (call(1841)) invoke(1841, new Object[] { a0, a1 }); }
+	public void glTextureNormalEXT(int a0)
+	{ if (call(1842)) invoke(1842, new Object[] { a0 }); }
+	public void glTexturePageCommitmentEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, boolean a8)
+	{ if (call(1843)) invoke(1843, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8 }); }
+	public void glTextureParameterIivEXT(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(1844)) invoke(1844, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glTextureParameterIivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(1845)) invoke(1845, new Object[] { a0, a1, a2, a3 }); }
+	public void glTextureParameterIuivEXT(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(1846)) invoke(1846, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glTextureParameterIuivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(1847)) invoke(1847, new Object[] { a0, a1, a2, a3 }); }
+	public void glTextureParameterfEXT(int a0, int a1, int a2, float a3)
+	{ if (call(1848)) invoke(1848, new Object[] { a0, a1, a2, a3 }); }
+	public void glTextureParameterfvEXT(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(1849)) invoke(1849, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glTextureParameterfvEXT(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(1850)) invoke(1850, new Object[] { a0, a1, a2, a3 }); }
+	public void glTextureParameteriEXT(int a0, int a1, int a2, int a3)
+	{ if (call(1851)) invoke(1851, new Object[] { a0, a1, a2, a3 }); }
+	public void glTextureParameterivEXT(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(1852)) invoke(1852, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glTextureParameterivEXT(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(1853)) invoke(1853, new Object[] { a0, a1, a2, a3 }); }
+	public void glTextureRangeAPPLE(int a0, int a1, java.nio.Buffer a2)
+	{ if (call(1854)) invoke(1854, new Object[] { a0, a1, a2 }); }
+	public void glTextureRenderbufferEXT(int a0, int a1, int a2)
+	{ if (call(1855)) invoke(1855, new Object[] { a0, a1, a2 }); }
+	public void glTextureStorage1DEXT(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(1856)) invoke(1856, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glTextureStorage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5)
+	{ if (call(1857)) invoke(1857, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glTextureStorage2DMultisampleEXT(int a0, int a1, int a2, int a3, int a4, int a5, boolean a6)
+	{ if (call(1858)) invoke(1858, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glTextureStorage3DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6)
+	{ if (call(1859)) invoke(1859, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glTextureStorage3DMultisampleEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, boolean a7)
+	{ if (call(1860)) invoke(1860, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glTextureStorageSparseAMD(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7)
+	{ if (call(1861)) invoke(1861, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glTextureSubImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, java.nio.Buffer a7)
+	{ if (call(1862)) invoke(1862, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glTextureSubImage1DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, long a7)
+	{ if (call(1863)) invoke(1863, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glTextureSubImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, java.nio.Buffer a9)
+	{ if (call(1864)) invoke(1864, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9 }); }
+	public void glTextureSubImage2DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, long a9)
+	{ if (call(1865)) invoke(1865, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9 }); }
+	public void glTextureSubImage3DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, int a10, java.nio.Buffer a11)
+	{ if (call(1866)) invoke(1866, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11 }); }
+	public void glTextureSubImage3DEXT(int a0, int a1, int a2, int a3, int a4, int a5, int a6, int a7, int a8, int a9, int a10, long a11)
+	{ if (call(1867)) invoke(1867, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7, a8, a9, a10, a11 }); }
+	public void glTransformFeedbackVaryings(int a0, int a1, java.lang.String[] a2, int a3)
+	{ if (call(1868)) invoke(1868, new Object[] { a0, a1, a2, a3 }); }
+	public void glTranslated(double a0, double a1, double a2)
+	{ if (call(1869)) invoke(1869, new Object[] { a0, a1, a2 }); }
+	public void glTranslatef(float a0, float a1, float a2)
+	{ if (call(1870)) invoke(1870, new Object[] { a0, a1, a2 }); }
+	public void glUniform(com.jogamp.opengl.GLUniformData a0)
+	{ if (call(1871)) invoke(1871, new Object[] { a0 }); }
+	public void glUniform1f(int a0, float a1)
+	{ if (call(1872)) invoke(1872, new Object[] { a0, a1 }); }
+	public void glUniform1fARB(int a0, float a1)
+	{ if (call(1873)) invoke(1873, new Object[] { a0, a1 }); }
+	public void glUniform1fv(int a0, int a1, float[] a2, int a3)
+	{ if (call(1874)) invoke(1874, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform1fv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(1875)) invoke(1875, new Object[] { a0, a1, a2 }); }
+	public void glUniform1fvARB(int a0, int a1, float[] a2, int a3)
+	{ if (call(1876)) invoke(1876, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform1fvARB(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(1877)) invoke(1877, new Object[] { a0, a1, a2 }); }
+	public void glUniform1i(int a0, int a1)
+	{ if (call(1878)) invoke(1878, new Object[] { a0, a1 }); }
+	public void glUniform1i64NV(int a0, long a1)
+	{ if (call(1879)) invoke(1879, new Object[] { a0, a1 }); }
+	public void glUniform1i64vNV(int a0, int a1, long[] a2, int a3)
+	{ if (call(1880)) invoke(1880, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform1i64vNV(int a0, int a1, java.nio.LongBuffer a2)
+	{ if (call(1881)) invoke(1881, new Object[] { a0, a1, a2 }); }
+	public void glUniform1iARB(int a0, int a1)
+	{ if (call(1882)) invoke(1882, new Object[] { a0, a1 }); }
+	public void glUniform1iv(int a0, int a1, int[] a2, int a3)
+	{ if (call(1883)) invoke(1883, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform1iv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1884)) invoke(1884, new Object[] { a0, a1, a2 }); }
+	public void glUniform1ivARB(int a0, int a1, int[] a2, int a3)
+	{ if (call(1885)) invoke(1885, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform1ivARB(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1886)) invoke(1886, new Object[] { a0, a1, a2 }); }
+	public void glUniform1ui(int a0, int a1)
+	{ if (call(1887)) invoke(1887, new Object[] { a0, a1 }); }
+	public void glUniform1ui64NV(int a0, long a1)
+	{ if (call(1888)) invoke(1888, new Object[] { a0, a1 }); }
+	public void glUniform1ui64vNV(int a0, int a1, long[] a2, int a3)
+	{ if (call(1889)) invoke(1889, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform1ui64vNV(int a0, int a1, java.nio.LongBuffer a2)
+	{ if (call(1890)) invoke(1890, new Object[] { a0, a1, a2 }); }
+	public void glUniform1uiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(1891)) invoke(1891, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform1uiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1892)) invoke(1892, new Object[] { a0, a1, a2 }); }
+	public void glUniform2f(int a0, float a1, float a2)
+	{ if (call(1893)) invoke(1893, new Object[] { a0, a1, a2 }); }
+	public void glUniform2fARB(int a0, float a1, float a2)
+	{ if (call(1894)) invoke(1894, new Object[] { a0, a1, a2 }); }
+	public void glUniform2fv(int a0, int a1, float[] a2, int a3)
+	{ if (call(1895)) invoke(1895, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform2fv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(1896)) invoke(1896, new Object[] { a0, a1, a2 }); }
+	public void glUniform2fvARB(int a0, int a1, float[] a2, int a3)
+	{ if (call(1897)) invoke(1897, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform2fvARB(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(1898)) invoke(1898, new Object[] { a0, a1, a2 }); }
+	public void glUniform2i(int a0, int a1, int a2)
+	{ if (call(1899)) invoke(1899, new Object[] { a0, a1, a2 }); }
+	public void glUniform2i64NV(int a0, long a1, long a2)
+	{ if (call(1900)) invoke(1900, new Object[] { a0, a1, a2 }); }
+	public void glUniform2i64vNV(int a0, int a1, long[] a2, int a3)
+	{ if (call(1901)) invoke(1901, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform2i64vNV(int a0, int a1, java.nio.LongBuffer a2)
+	{ if (call(1902)) invoke(1902, new Object[] { a0, a1, a2 }); }
+	public void glUniform2iARB(int a0, int a1, int a2)
+	{ if (call(1903)) invoke(1903, new Object[] { a0, a1, a2 }); }
+	public void glUniform2iv(int a0, int a1, int[] a2, int a3)
+	{ if (call(1904)) invoke(1904, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform2iv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1905)) invoke(1905, new Object[] { a0, a1, a2 }); }
+	public void glUniform2ivARB(int a0, int a1, int[] a2, int a3)
+	{ if (call(1906)) invoke(1906, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform2ivARB(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1907)) invoke(1907, new Object[] { a0, a1, a2 }); }
+	public void glUniform2ui(int a0, int a1, int a2)
+	{ if (call(1908)) invoke(1908, new Object[] { a0, a1, a2 }); }
+	public void glUniform2ui64NV(int a0, long a1, long a2)
+	{ if (call(1909)) invoke(1909, new Object[] { a0, a1, a2 }); }
+	public void glUniform2ui64vNV(int a0, int a1, long[] a2, int a3)
+	{ if (call(1910)) invoke(1910, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform2ui64vNV(int a0, int a1, java.nio.LongBuffer a2)
+	{ if (call(1911)) invoke(1911, new Object[] { a0, a1, a2 }); }
+	public void glUniform2uiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(1912)) invoke(1912, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform2uiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1913)) invoke(1913, new Object[] { a0, a1, a2 }); }
+	public void glUniform3f(int a0, float a1, float a2, float a3)
+	{ if (call(1914)) invoke(1914, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform3fARB(int a0, float a1, float a2, float a3)
+	{ if (call(1915)) invoke(1915, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform3fv(int a0, int a1, float[] a2, int a3)
+	{ if (call(1916)) invoke(1916, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform3fv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(1917)) invoke(1917, new Object[] { a0, a1, a2 }); }
+	public void glUniform3fvARB(int a0, int a1, float[] a2, int a3)
+	{ if (call(1918)) invoke(1918, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform3fvARB(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(1919)) invoke(1919, new Object[] { a0, a1, a2 }); }
+	public void glUniform3i(int a0, int a1, int a2, int a3)
+	{ if (call(1920)) invoke(1920, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform3i64NV(int a0, long a1, long a2, long a3)
+	{ if (call(1921)) invoke(1921, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform3i64vNV(int a0, int a1, long[] a2, int a3)
+	{ if (call(1922)) invoke(1922, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform3i64vNV(int a0, int a1, java.nio.LongBuffer a2)
+	{ if (call(1923)) invoke(1923, new Object[] { a0, a1, a2 }); }
+	public void glUniform3iARB(int a0, int a1, int a2, int a3)
+	{ if (call(1924)) invoke(1924, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform3iv(int a0, int a1, int[] a2, int a3)
+	{ if (call(1925)) invoke(1925, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform3iv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1926)) invoke(1926, new Object[] { a0, a1, a2 }); }
+	public void glUniform3ivARB(int a0, int a1, int[] a2, int a3)
+	{ if (call(1927)) invoke(1927, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform3ivARB(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1928)) invoke(1928, new Object[] { a0, a1, a2 }); }
+	public void glUniform3ui(int a0, int a1, int a2, int a3)
+	{ if (call(1929)) invoke(1929, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform3ui64NV(int a0, long a1, long a2, long a3)
+	{ if (call(1930)) invoke(1930, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform3ui64vNV(int a0, int a1, long[] a2, int a3)
+	{ if (call(1931)) invoke(1931, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform3ui64vNV(int a0, int a1, java.nio.LongBuffer a2)
+	{ if (call(1932)) invoke(1932, new Object[] { a0, a1, a2 }); }
+	public void glUniform3uiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(1933)) invoke(1933, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform3uiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1934)) invoke(1934, new Object[] { a0, a1, a2 }); }
+	public void glUniform4f(int a0, float a1, float a2, float a3, float a4)
+	{ if (call(1935)) invoke(1935, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glUniform4fARB(int a0, float a1, float a2, float a3, float a4)
+	{ if (call(1936)) invoke(1936, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glUniform4fv(int a0, int a1, float[] a2, int a3)
+	{ if (call(1937)) invoke(1937, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform4fv(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(1938)) invoke(1938, new Object[] { a0, a1, a2 }); }
+	public void glUniform4fvARB(int a0, int a1, float[] a2, int a3)
+	{ if (call(1939)) invoke(1939, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform4fvARB(int a0, int a1, java.nio.FloatBuffer a2)
+	{ if (call(1940)) invoke(1940, new Object[] { a0, a1, a2 }); }
+	public void glUniform4i(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(1941)) invoke(1941, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glUniform4i64NV(int a0, long a1, long a2, long a3, long a4)
+	{ if (call(1942)) invoke(1942, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glUniform4i64vNV(int a0, int a1, long[] a2, int a3)
+	{ if (call(1943)) invoke(1943, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform4i64vNV(int a0, int a1, java.nio.LongBuffer a2)
+	{ if (call(1944)) invoke(1944, new Object[] { a0, a1, a2 }); }
+	public void glUniform4iARB(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(1945)) invoke(1945, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glUniform4iv(int a0, int a1, int[] a2, int a3)
+	{ if (call(1946)) invoke(1946, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform4iv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1947)) invoke(1947, new Object[] { a0, a1, a2 }); }
+	public void glUniform4ivARB(int a0, int a1, int[] a2, int a3)
+	{ if (call(1948)) invoke(1948, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform4ivARB(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1949)) invoke(1949, new Object[] { a0, a1, a2 }); }
+	public void glUniform4ui(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(1950)) invoke(1950, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glUniform4ui64NV(int a0, long a1, long a2, long a3, long a4)
+	{ if (call(1951)) invoke(1951, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glUniform4ui64vNV(int a0, int a1, long[] a2, int a3)
+	{ if (call(1952)) invoke(1952, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform4ui64vNV(int a0, int a1, java.nio.LongBuffer a2)
+	{ if (call(1953)) invoke(1953, new Object[] { a0, a1, a2 }); }
+	public void glUniform4uiv(int a0, int a1, int[] a2, int a3)
+	{ if (call(1954)) invoke(1954, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniform4uiv(int a0, int a1, java.nio.IntBuffer a2)
+	{ if (call(1955)) invoke(1955, new Object[] { a0, a1, a2 }); }
+	public void glUniformBlockBinding(int a0, int a1, int a2)
+	{ if (call(1956)) invoke(1956, new Object[] { a0, a1, a2 }); }
+	public void glUniformBufferEXT(int a0, int a1, int a2)
+	{ if (call(1957)) invoke(1957, new Object[] { a0, a1, a2 }); }
+	public void glUniformMatrix2fv(int a0, int a1, boolean a2, float[] a3, int a4)
+	{ if (call(1958)) invoke(1958, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glUniformMatrix2fv(int a0, int a1, boolean a2, java.nio.FloatBuffer a3)
+	{ if (call(1959)) invoke(1959, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniformMatrix2fvARB(int a0, int a1, boolean a2, float[] a3, int a4)
+	{ if (call(1960)) invoke(1960, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glUniformMatrix2fvARB(int a0, int a1, boolean a2, java.nio.FloatBuffer a3)
+	{ if (call(1961)) invoke(1961, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniformMatrix2x3fv(int a0, int a1, boolean a2, float[] a3, int a4)
+	{ if (call(1962)) invoke(1962, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glUniformMatrix2x3fv(int a0, int a1, boolean a2, java.nio.FloatBuffer a3)
+	{ if (call(1963)) invoke(1963, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniformMatrix2x4fv(int a0, int a1, boolean a2, float[] a3, int a4)
+	{ if (call(1964)) invoke(1964, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glUniformMatrix2x4fv(int a0, int a1, boolean a2, java.nio.FloatBuffer a3)
+	{ if (call(1965)) invoke(1965, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniformMatrix3fv(int a0, int a1, boolean a2, float[] a3, int a4)
+	{ if (call(1966)) invoke(1966, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glUniformMatrix3fv(int a0, int a1, boolean a2, java.nio.FloatBuffer a3)
+	{ if (call(1967)) invoke(1967, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniformMatrix3fvARB(int a0, int a1, boolean a2, float[] a3, int a4)
+	{ if (call(1968)) invoke(1968, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glUniformMatrix3fvARB(int a0, int a1, boolean a2, java.nio.FloatBuffer a3)
+	{ if (call(1969)) invoke(1969, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniformMatrix3x2fv(int a0, int a1, boolean a2, float[] a3, int a4)
+	{ if (call(1970)) invoke(1970, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glUniformMatrix3x2fv(int a0, int a1, boolean a2, java.nio.FloatBuffer a3)
+	{ if (call(1971)) invoke(1971, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniformMatrix3x4fv(int a0, int a1, boolean a2, float[] a3, int a4)
+	{ if (call(1972)) invoke(1972, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glUniformMatrix3x4fv(int a0, int a1, boolean a2, java.nio.FloatBuffer a3)
+	{ if (call(1973)) invoke(1973, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniformMatrix4fv(int a0, int a1, boolean a2, float[] a3, int a4)
+	{ if (call(1974)) invoke(1974, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glUniformMatrix4fv(int a0, int a1, boolean a2, java.nio.FloatBuffer a3)
+	{ if (call(1975)) invoke(1975, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniformMatrix4fvARB(int a0, int a1, boolean a2, float[] a3, int a4)
+	{ if (call(1976)) invoke(1976, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glUniformMatrix4fvARB(int a0, int a1, boolean a2, java.nio.FloatBuffer a3)
+	{ if (call(1977)) invoke(1977, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniformMatrix4x2fv(int a0, int a1, boolean a2, float[] a3, int a4)
+	{ if (call(1978)) invoke(1978, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glUniformMatrix4x2fv(int a0, int a1, boolean a2, java.nio.FloatBuffer a3)
+	{ if (call(1979)) invoke(1979, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniformMatrix4x3fv(int a0, int a1, boolean a2, float[] a3, int a4)
+	{ if (call(1980)) invoke(1980, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glUniformMatrix4x3fv(int a0, int a1, boolean a2, java.nio.FloatBuffer a3)
+	{ if (call(1981)) invoke(1981, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniformui64NV(int a0, long a1)
+	{ if (call(1982)) invoke(1982, new Object[] { a0, a1 }); }
+	public void glUniformui64vNV(int a0, int a1, long[] a2, int a3)
+	{ if (call(1983)) invoke(1983, new Object[] { a0, a1, a2, a3 }); }
+	public void glUniformui64vNV(int a0, int a1, java.nio.LongBuffer a2)
+	{ if (call(1984)) invoke(1984, new Object[] { a0, a1, a2 }); }
+	public void glUnlockArraysEXT()
+	{ if (call(1985)) invoke(1985, null); }
+	public boolean glUnmapBuffer(int a0)
+	{ return (call(1986) ? Boolean.TRUE.equals(invoke(1986, new Object[] { a0 })) : false); }
+	public boolean glUnmapNamedBufferEXT(int a0)
+	{ return (call(1987) ? Boolean.TRUE.equals(invoke(1987, new Object[] { a0 })) : false); }
+	public void glUnmapTexture2DINTEL(int a0, int a1)
+	{ if (call(1988)) invoke(1988, new Object[] { a0, a1 }); }
+	public void glUseProgram(int a0)
+	{ if (call(1989)) invoke(1989, new Object[] { a0 }); }
+	public void glUseProgramObjectARB(long a0)
+	{ if (call(1990)) invoke(1990, new Object[] { a0 }); }
+	public void glUseProgramStages(int a0, int a1, int a2)
+	{ if (call(1991)) invoke(1991, new Object[] { a0, a1, a2 }); }
+	public void glVDPAUFiniNV()
+	{ if (call(1992)) invoke(1992, null); }
+	public void glVDPAUGetSurfaceivNV(long a0, int a1, int a2, int[] a3, int a4, int[] a5, int a6)
+	{ if (call(1993)) invoke(1993, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glVDPAUGetSurfaceivNV(long a0, int a1, int a2, java.nio.IntBuffer a3, java.nio.IntBuffer a4)
+	{ if (call(1994)) invoke(1994, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVDPAUInitNV(java.nio.Buffer a0, java.nio.Buffer a1)
+	{ if (call(1995)) invoke(1995, new Object[] { a0, a1 }); }
+	public boolean glVDPAUIsSurfaceNV(long a0)
+	{ return (call(1996) ? Boolean.TRUE.equals(invoke(1996, new Object[] { a0 })) : false); }
+	public void glVDPAUMapSurfacesNV(int a0, com.jogamp.common.nio.PointerBuffer a1)
+	{ if (call(1997)) invoke(1997, new Object[] { a0, a1 }); }
+	public long glVDPAURegisterOutputSurfaceNV(java.nio.Buffer a0, int a1, int a2, int[] a3, int a4)
+	{ return (call(1998) ? ((Number)invoke(1998, new Object[] { a0, a1, a2, a3, a4 })).longValue() : 0L); }
+	public long glVDPAURegisterOutputSurfaceNV(java.nio.Buffer a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ return (call(1999) ? ((Number)invoke(1999, new Object[] { a0, a1, a2, a3 })).longValue() : 0L); }
+	public long glVDPAURegisterVideoSurfaceNV(java.nio.Buffer a0, int a1, int a2, int[] a3, int a4)
+	{ return (call(2000) ? ((Number)invoke(2000, new Object[] { a0, a1, a2, a3, a4 })).longValue() : 0L); }
+	public long glVDPAURegisterVideoSurfaceNV(java.nio.Buffer a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ return (call(2001) ? ((Number)invoke(2001, new Object[] { a0, a1, a2, a3 })).longValue() : 0L); }
+	public void glVDPAUSurfaceAccessNV(long a0, int a1)
+	{ if (call(2002)) invoke(2002, new Object[] { a0, a1 }); }
+	public void glVDPAUUnmapSurfacesNV(int a0, com.jogamp.common.nio.PointerBuffer a1)
+	{ if (call(2003)) invoke(2003, new Object[] { a0, a1 }); }
+	public void glVDPAUUnregisterSurfaceNV(long a0)
+	{ if (call(2004)) invoke(2004, new Object[] { a0 }); }
+	public void glValidateProgram(int a0)
+	{ if (call(2005)) invoke(2005, new Object[] { a0 }); }
+	public void glValidateProgramARB(long a0)
+	{ if (call(2006)) invoke(2006, new Object[] { a0 }); }
+	public void glValidateProgramPipeline(int a0)
+	{ if (call(2007)) invoke(2007, new Object[] { a0 }); }
+	public void glVariantPointerEXT(int a0, int a1, int a2, java.nio.Buffer a3)
+	{ if (call(2008)) invoke(2008, new Object[] { a0, a1, a2, a3 }); }
+	public void glVariantPointerEXT(int a0, int a1, int a2, long a3)
+	{ if (call(2009)) invoke(2009, new Object[] { a0, a1, a2, a3 }); }
+	public void glVariantbvEXT(int a0, byte[] a1, int a2)
+	{ if (call(2010)) invoke(2010, new Object[] { a0, a1, a2 }); }
+	public void glVariantbvEXT(int a0, java.nio.ByteBuffer a1)
+	{ if (call(2011)) invoke(2011, new Object[] { a0, a1 }); }
+	public void glVariantdvEXT(int a0, double[] a1, int a2)
+	{ if (call(2012)) invoke(2012, new Object[] { a0, a1, a2 }); }
+	public void glVariantdvEXT(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(2013)) invoke(2013, new Object[] { a0, a1 }); }
+	public void glVariantfvEXT(int a0, float[] a1, int a2)
+	{ if (call(2014)) invoke(2014, new Object[] { a0, a1, a2 }); }
+	public void glVariantfvEXT(int a0, java.nio.FloatBuffer a1)
+	{ if (call(2015)) invoke(2015, new Object[] { a0, a1 }); }
+	public void glVariantivEXT(int a0, int[] a1, int a2)
+	{ if (call(2016)) invoke(2016, new Object[] { a0, a1, a2 }); }
+	public void glVariantivEXT(int a0, java.nio.IntBuffer a1)
+	{ if (call(2017)) invoke(2017, new Object[] { a0, a1 }); }
+	public void glVariantsvEXT(int a0, short[] a1, int a2)
+	{ if (call(2018)) invoke(2018, new Object[] { a0, a1, a2 }); }
+	public void glVariantsvEXT(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2019)) invoke(2019, new Object[] { a0, a1 }); }
+	public void glVariantubvEXT(int a0, byte[] a1, int a2)
+	{ if (call(2020)) invoke(2020, new Object[] { a0, a1, a2 }); }
+	public void glVariantubvEXT(int a0, java.nio.ByteBuffer a1)
+	{ if (call(2021)) invoke(2021, new Object[] { a0, a1 }); }
+	public void glVariantuivEXT(int a0, int[] a1, int a2)
+	{ if (call(2022)) invoke(2022, new Object[] { a0, a1, a2 }); }
+	public void glVariantuivEXT(int a0, java.nio.IntBuffer a1)
+	{ if (call(2023)) invoke(2023, new Object[] { a0, a1 }); }
+	public void glVariantusvEXT(int a0, short[] a1, int a2)
+	{ if (call(2024)) invoke(2024, new Object[] { a0, a1, a2 }); }
+	public void glVariantusvEXT(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2025)) invoke(2025, new Object[] { a0, a1 }); }
+	public void glVertex2bOES(byte a0, byte a1)
+	{ if (call(2026)) invoke(2026, new Object[] { a0, a1 }); }
+	public void glVertex2bvOES(byte[] a0, int a1)
+	{ if (call(2027)) invoke(2027, new Object[] { a0, a1 }); }
+	public void glVertex2bvOES(java.nio.ByteBuffer a0)
+	{ if (call(2028)) invoke(2028, new Object[] { a0 }); }
+	public void glVertex2d(double a0, double a1)
+	{ if (call(2029)) invoke(2029, new Object[] { a0, a1 }); }
+	public void glVertex2dv(double[] a0, int a1)
+	{ if (call(2030)) invoke(2030, new Object[] { a0, a1 }); }
+	public void glVertex2dv(java.nio.DoubleBuffer a0)
+	{ if (call(2031)) invoke(2031, new Object[] { a0 }); }
+	public void glVertex2f(float a0, float a1)
+	{ if (call(2032)) invoke(2032, new Object[] { a0, a1 }); }
+	public void glVertex2fv(float[] a0, int a1)
+	{ if (call(2033)) invoke(2033, new Object[] { a0, a1 }); }
+	public void glVertex2fv(java.nio.FloatBuffer a0)
+	{ if (call(2034)) invoke(2034, new Object[] { a0 }); }
+	public void glVertex2h(short a0, short a1)
+	{ if (call(2035)) invoke(2035, new Object[] { a0, a1 }); }
+	public void glVertex2hv(short[] a0, int a1)
+	{ if (call(2036)) invoke(2036, new Object[] { a0, a1 }); }
+	public void glVertex2hv(java.nio.ShortBuffer a0)
+	{ if (call(2037)) invoke(2037, new Object[] { a0 }); }
+	public void glVertex2i(int a0, int a1)
+	{ if (call(2038)) invoke(2038, new Object[] { a0, a1 }); }
+	public void glVertex2iv(int[] a0, int a1)
+	{ if (call(2039)) invoke(2039, new Object[] { a0, a1 }); }
+	public void glVertex2iv(java.nio.IntBuffer a0)
+	{ if (call(2040)) invoke(2040, new Object[] { a0 }); }
+	public void glVertex2s(short a0, short a1)
+	{ if (call(2041)) invoke(2041, new Object[] { a0, a1 }); }
+	public void glVertex2sv(short[] a0, int a1)
+	{ if (call(2042)) invoke(2042, new Object[] { a0, a1 }); }
+	public void glVertex2sv(java.nio.ShortBuffer a0)
+	{ if (call(2043)) invoke(2043, new Object[] { a0 }); }
+	public void glVertex3bOES(byte a0, byte a1, byte a2)
+	{ if (call(2044)) invoke(2044, new Object[] { a0, a1, a2 }); }
+	public void glVertex3bvOES(byte[] a0, int a1)
+	{ if (call(2045)) invoke(2045, new Object[] { a0, a1 }); }
+	public void glVertex3bvOES(java.nio.ByteBuffer a0)
+	{ if (call(2046)) invoke(2046, new Object[] { a0 }); }
+	public void glVertex3d(double a0, double a1, double a2)
+	{ if (call(2047)) invoke(2047, new Object[] { a0, a1, a2 }); }
+	public void glVertex3dv(double[] a0, int a1)
+	{ if (call(2048)) invoke(2048, new Object[] { a0, a1 }); }
+	public void glVertex3dv(java.nio.DoubleBuffer a0)
+	{ if (call(2049)) invoke(2049, new Object[] { a0 }); }
+	public void glVertex3f(float a0, float a1, float a2)
+	{ if (call(2050)) invoke(2050, new Object[] { a0, a1, a2 }); }
+	public void glVertex3fv(float[] a0, int a1)
+	{ if (call(2051)) invoke(2051, new Object[] { a0, a1 }); }
+	public void glVertex3fv(java.nio.FloatBuffer a0)
+	{ if (call(2052)) invoke(2052, new Object[] { a0 }); }
+	public void glVertex3h(short a0, short a1, short a2)
+	{ if (call(2053)) invoke(2053, new Object[] { a0, a1, a2 }); }
+	public void glVertex3hv(short[] a0, int a1)
+	{ if (call(2054)) invoke(2054, new Object[] { a0, a1 }); }
+	public void glVertex3hv(java.nio.ShortBuffer a0)
+	{ if (call(2055)) invoke(2055, new Object[] { a0 }); }
+	public void glVertex3i(int a0, int a1, int a2)
+	{ if (call(2056)) invoke(2056, new Object[] { a0, a1, a2 }); }
+	public void glVertex3iv(int[] a0, int a1)
+	{ if (call(2057)) invoke(2057, new Object[] { a0, a1 }); }
+	public void glVertex3iv(java.nio.IntBuffer a0)
+	{ if (call(2058)) invoke(2058, new Object[] { a0 }); }
+	public void glVertex3s(short a0, short a1, short a2)
+	{ if (call(2059)) invoke(2059, new Object[] { a0, a1, a2 }); }
+	public void glVertex3sv(short[] a0, int a1)
+	{ if (call(2060)) invoke(2060, new Object[] { a0, a1 }); }
+	public void glVertex3sv(java.nio.ShortBuffer a0)
+	{ if (call(2061)) invoke(2061, new Object[] { a0 }); }
+	public void glVertex4bOES(byte a0, byte a1, byte a2, byte a3)
+	{ if (call(2062)) invoke(2062, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertex4bvOES(byte[] a0, int a1)
+	{ if (call(2063)) invoke(2063, new Object[] { a0, a1 }); }
+	public void glVertex4bvOES(java.nio.ByteBuffer a0)
+	{ if (call(2064)) invoke(2064, new Object[] { a0 }); }
+	public void glVertex4d(double a0, double a1, double a2, double a3)
+	{ if (call(2065)) invoke(2065, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertex4dv(double[] a0, int a1)
+	{ if (call(2066)) invoke(2066, new Object[] { a0, a1 }); }
+	public void glVertex4dv(java.nio.DoubleBuffer a0)
+	{ if (call(2067)) invoke(2067, new Object[] { a0 }); }
+	public void glVertex4f(float a0, float a1, float a2, float a3)
+	{ if (call(2068)) invoke(2068, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertex4fv(float[] a0, int a1)
+	{ if (call(2069)) invoke(2069, new Object[] { a0, a1 }); }
+	public void glVertex4fv(java.nio.FloatBuffer a0)
+	{ if (call(2070)) invoke(2070, new Object[] { a0 }); }
+	public void glVertex4h(short a0, short a1, short a2, short a3)
+	{ if (call(2071)) invoke(2071, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertex4hv(short[] a0, int a1)
+	{ if (call(2072)) invoke(2072, new Object[] { a0, a1 }); }
+	public void glVertex4hv(java.nio.ShortBuffer a0)
+	{ if (call(2073)) invoke(2073, new Object[] { a0 }); }
+	public void glVertex4i(int a0, int a1, int a2, int a3)
+	{ if (call(2074)) invoke(2074, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertex4iv(int[] a0, int a1)
+	{ if (call(2075)) invoke(2075, new Object[] { a0, a1 }); }
+	public void glVertex4iv(java.nio.IntBuffer a0)
+	{ if (call(2076)) invoke(2076, new Object[] { a0 }); }
+	public void glVertex4s(short a0, short a1, short a2, short a3)
+	{ if (call(2077)) invoke(2077, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertex4sv(short[] a0, int a1)
+	{ if (call(2078)) invoke(2078, new Object[] { a0, a1 }); }
+	public void glVertex4sv(java.nio.ShortBuffer a0)
+	{ if (call(2079)) invoke(2079, new Object[] { a0 }); }
+	public void glVertexArrayBindVertexBufferEXT(int a0, int a1, int a2, long a3, int a4)
+	{ if (call(2080)) invoke(2080, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexArrayColorOffsetEXT(int a0, int a1, int a2, int a3, int a4, long a5)
+	{ if (call(2081)) invoke(2081, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glVertexArrayEdgeFlagOffsetEXT(int a0, int a1, int a2, long a3)
+	{ if (call(2082)) invoke(2082, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexArrayFogCoordOffsetEXT(int a0, int a1, int a2, int a3, long a4)
+	{ if (call(2083)) invoke(2083, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexArrayIndexOffsetEXT(int a0, int a1, int a2, int a3, long a4)
+	{ if (call(2084)) invoke(2084, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexArrayMultiTexCoordOffsetEXT(int a0, int a1, int a2, int a3, int a4, int a5, long a6)
+	{ if (call(2085)) invoke(2085, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glVertexArrayNormalOffsetEXT(int a0, int a1, int a2, int a3, long a4)
+	{ if (call(2086)) invoke(2086, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexArrayParameteriAPPLE(int a0, int a1)
+	{ if (call(2087)) invoke(2087, new Object[] { a0, a1 }); }
+	public void glVertexArrayRangeAPPLE(int a0, java.nio.Buffer a1)
+	{ if (call(2088)) invoke(2088, new Object[] { a0, a1 }); }
+	public void glVertexArraySecondaryColorOffsetEXT(int a0, int a1, int a2, int a3, int a4, long a5)
+	{ if (call(2089)) invoke(2089, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glVertexArrayTexCoordOffsetEXT(int a0, int a1, int a2, int a3, int a4, long a5)
+	{ if (call(2090)) invoke(2090, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glVertexArrayVertexAttribBindingEXT(int a0, int a1, int a2)
+	{ if (call(2091)) invoke(2091, new Object[] { a0, a1, a2 }); }
+	public void glVertexArrayVertexAttribDivisorEXT(int a0, int a1, int a2)
+	{ if (call(2092)) invoke(2092, new Object[] { a0, a1, a2 }); }
+	public void glVertexArrayVertexAttribFormatEXT(int a0, int a1, int a2, int a3, boolean a4, int a5)
+	{ if (call(2093)) invoke(2093, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glVertexArrayVertexAttribIFormatEXT(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(2094)) invoke(2094, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexArrayVertexAttribIOffsetEXT(int a0, int a1, int a2, int a3, int a4, int a5, long a6)
+	{ if (call(2095)) invoke(2095, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glVertexArrayVertexAttribLFormatEXT(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(2096)) invoke(2096, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexArrayVertexAttribLOffsetEXT(int a0, int a1, int a2, int a3, int a4, int a5, long a6)
+	{ if (call(2097)) invoke(2097, new Object[] { a0, a1, a2, a3, a4, a5, a6 }); }
+	public void glVertexArrayVertexAttribOffsetEXT(int a0, int a1, int a2, int a3, int a4, boolean a5, int a6, long a7)
+	{ if (call(2098)) invoke(2098, new Object[] { a0, a1, a2, a3, a4, a5, a6, a7 }); }
+	public void glVertexArrayVertexBindingDivisorEXT(int a0, int a1, int a2)
+	{ if (call(2099)) invoke(2099, new Object[] { a0, a1, a2 }); }
+	public void glVertexArrayVertexOffsetEXT(int a0, int a1, int a2, int a3, int a4, long a5)
+	{ if (call(2100)) invoke(2100, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glVertexAttrib1d(int a0, double a1)
+	{ if (call(2101)) invoke(2101, new Object[] { a0, a1 }); }
+	public void glVertexAttrib1dARB(int a0, double a1)
+	{ if (call(2102)) invoke(2102, new Object[] { a0, a1 }); }
+	public void glVertexAttrib1dv(int a0, double[] a1, int a2)
+	{ if (call(2103)) invoke(2103, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib1dv(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(2104)) invoke(2104, new Object[] { a0, a1 }); }
+	public void glVertexAttrib1dvARB(int a0, double[] a1, int a2)
+	{ if (call(2105)) invoke(2105, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib1dvARB(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(2106)) invoke(2106, new Object[] { a0, a1 }); }
+	public void glVertexAttrib1f(int a0, float a1)
+	{ if (call(2107)) invoke(2107, new Object[] { a0, a1 }); }
+	public void glVertexAttrib1fARB(int a0, float a1)
+	{ if (call(2108)) invoke(2108, new Object[] { a0, a1 }); }
+	public void glVertexAttrib1fv(int a0, float[] a1, int a2)
+	{ if (call(2109)) invoke(2109, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib1fv(int a0, java.nio.FloatBuffer a1)
+	{ if (call(2110)) invoke(2110, new Object[] { a0, a1 }); }
+	public void glVertexAttrib1fvARB(int a0, float[] a1, int a2)
+	{ if (call(2111)) invoke(2111, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib1fvARB(int a0, java.nio.FloatBuffer a1)
+	{ if (call(2112)) invoke(2112, new Object[] { a0, a1 }); }
+	public void glVertexAttrib1h(int a0, short a1)
+	{ if (call(2113)) invoke(2113, new Object[] { a0, a1 }); }
+	public void glVertexAttrib1hv(int a0, short[] a1, int a2)
+	{ if (call(2114)) invoke(2114, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib1hv(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2115)) invoke(2115, new Object[] { a0, a1 }); }
+	public void glVertexAttrib1s(int a0, short a1)
+	{ if (call(2116)) invoke(2116, new Object[] { a0, a1 }); }
+	public void glVertexAttrib1sARB(int a0, short a1)
+	{ if (call(2117)) invoke(2117, new Object[] { a0, a1 }); }
+	public void glVertexAttrib1sv(int a0, short[] a1, int a2)
+	{ if (call(2118)) invoke(2118, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib1sv(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2119)) invoke(2119, new Object[] { a0, a1 }); }
+	public void glVertexAttrib1svARB(int a0, short[] a1, int a2)
+	{ if (call(2120)) invoke(2120, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib1svARB(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2121)) invoke(2121, new Object[] { a0, a1 }); }
+	public void glVertexAttrib2d(int a0, double a1, double a2)
+	{ if (call(2122)) invoke(2122, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib2dARB(int a0, double a1, double a2)
+	{ if (call(2123)) invoke(2123, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib2dv(int a0, double[] a1, int a2)
+	{ if (call(2124)) invoke(2124, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib2dv(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(2125)) invoke(2125, new Object[] { a0, a1 }); }
+	public void glVertexAttrib2dvARB(int a0, double[] a1, int a2)
+	{ if (call(2126)) invoke(2126, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib2dvARB(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(2127)) invoke(2127, new Object[] { a0, a1 }); }
+	public void glVertexAttrib2f(int a0, float a1, float a2)
+	{ if (call(2128)) invoke(2128, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib2fARB(int a0, float a1, float a2)
+	{ if (call(2129)) invoke(2129, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib2fv(int a0, float[] a1, int a2)
+	{ if (call(2130)) invoke(2130, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib2fv(int a0, java.nio.FloatBuffer a1)
+	{ if (call(2131)) invoke(2131, new Object[] { a0, a1 }); }
+	public void glVertexAttrib2fvARB(int a0, float[] a1, int a2)
+	{ if (call(2132)) invoke(2132, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib2fvARB(int a0, java.nio.FloatBuffer a1)
+	{ if (call(2133)) invoke(2133, new Object[] { a0, a1 }); }
+	public void glVertexAttrib2h(int a0, short a1, short a2)
+	{ if (call(2134)) invoke(2134, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib2hv(int a0, short[] a1, int a2)
+	{ if (call(2135)) invoke(2135, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib2hv(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2136)) invoke(2136, new Object[] { a0, a1 }); }
+	public void glVertexAttrib2s(int a0, short a1, short a2)
+	{ if (call(2137)) invoke(2137, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib2sARB(int a0, short a1, short a2)
+	{ if (call(2138)) invoke(2138, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib2sv(int a0, short[] a1, int a2)
+	{ if (call(2139)) invoke(2139, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib2sv(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2140)) invoke(2140, new Object[] { a0, a1 }); }
+	public void glVertexAttrib2svARB(int a0, short[] a1, int a2)
+	{ if (call(2141)) invoke(2141, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib2svARB(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2142)) invoke(2142, new Object[] { a0, a1 }); }
+	public void glVertexAttrib3d(int a0, double a1, double a2, double a3)
+	{ if (call(2143)) invoke(2143, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexAttrib3dARB(int a0, double a1, double a2, double a3)
+	{ if (call(2144)) invoke(2144, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexAttrib3dv(int a0, double[] a1, int a2)
+	{ if (call(2145)) invoke(2145, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib3dv(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(2146)) invoke(2146, new Object[] { a0, a1 }); }
+	public void glVertexAttrib3dvARB(int a0, double[] a1, int a2)
+	{ if (call(2147)) invoke(2147, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib3dvARB(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(2148)) invoke(2148, new Object[] { a0, a1 }); }
+	public void glVertexAttrib3f(int a0, float a1, float a2, float a3)
+	{ if (call(2149)) invoke(2149, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexAttrib3fARB(int a0, float a1, float a2, float a3)
+	{ if (call(2150)) invoke(2150, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexAttrib3fv(int a0, float[] a1, int a2)
+	{ if (call(2151)) invoke(2151, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib3fv(int a0, java.nio.FloatBuffer a1)
+	{ if (call(2152)) invoke(2152, new Object[] { a0, a1 }); }
+	public void glVertexAttrib3fvARB(int a0, float[] a1, int a2)
+	{ if (call(2153)) invoke(2153, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib3fvARB(int a0, java.nio.FloatBuffer a1)
+	{ if (call(2154)) invoke(2154, new Object[] { a0, a1 }); }
+	public void glVertexAttrib3h(int a0, short a1, short a2, short a3)
+	{ if (call(2155)) invoke(2155, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexAttrib3hv(int a0, short[] a1, int a2)
+	{ if (call(2156)) invoke(2156, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib3hv(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2157)) invoke(2157, new Object[] { a0, a1 }); }
+	public void glVertexAttrib3s(int a0, short a1, short a2, short a3)
+	{ if (call(2158)) invoke(2158, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexAttrib3sARB(int a0, short a1, short a2, short a3)
+	{ if (call(2159)) invoke(2159, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexAttrib3sv(int a0, short[] a1, int a2)
+	{ if (call(2160)) invoke(2160, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib3sv(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2161)) invoke(2161, new Object[] { a0, a1 }); }
+	public void glVertexAttrib3svARB(int a0, short[] a1, int a2)
+	{ if (call(2162)) invoke(2162, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib3svARB(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2163)) invoke(2163, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4Nbv(int a0, byte[] a1, int a2)
+	{ if (call(2164)) invoke(2164, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4Nbv(int a0, java.nio.ByteBuffer a1)
+	{ if (call(2165)) invoke(2165, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4NbvARB(int a0, byte[] a1, int a2)
+	{ if (call(2166)) invoke(2166, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4NbvARB(int a0, java.nio.ByteBuffer a1)
+	{ if (call(2167)) invoke(2167, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4Niv(int a0, int[] a1, int a2)
+	{ if (call(2168)) invoke(2168, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4Niv(int a0, java.nio.IntBuffer a1)
+	{ if (call(2169)) invoke(2169, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4NivARB(int a0, int[] a1, int a2)
+	{ if (call(2170)) invoke(2170, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4NivARB(int a0, java.nio.IntBuffer a1)
+	{ if (call(2171)) invoke(2171, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4Nsv(int a0, short[] a1, int a2)
+	{ if (call(2172)) invoke(2172, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4Nsv(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2173)) invoke(2173, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4NsvARB(int a0, short[] a1, int a2)
+	{ if (call(2174)) invoke(2174, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4NsvARB(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2175)) invoke(2175, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4Nub(int a0, byte a1, byte a2, byte a3, byte a4)
+	{ if (call(2176)) invoke(2176, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexAttrib4NubARB(int a0, byte a1, byte a2, byte a3, byte a4)
+	{ if (call(2177)) invoke(2177, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexAttrib4Nubv(int a0, byte[] a1, int a2)
+	{ if (call(2178)) invoke(2178, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4Nubv(int a0, java.nio.ByteBuffer a1)
+	{ if (call(2179)) invoke(2179, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4NubvARB(int a0, byte[] a1, int a2)
+	{ if (call(2180)) invoke(2180, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4NubvARB(int a0, java.nio.ByteBuffer a1)
+	{ if (call(2181)) invoke(2181, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4Nuiv(int a0, int[] a1, int a2)
+	{ if (call(2182)) invoke(2182, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4Nuiv(int a0, java.nio.IntBuffer a1)
+	{ if (call(2183)) invoke(2183, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4NuivARB(int a0, int[] a1, int a2)
+	{ if (call(2184)) invoke(2184, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4NuivARB(int a0, java.nio.IntBuffer a1)
+	{ if (call(2185)) invoke(2185, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4Nusv(int a0, short[] a1, int a2)
+	{ if (call(2186)) invoke(2186, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4Nusv(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2187)) invoke(2187, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4NusvARB(int a0, short[] a1, int a2)
+	{ if (call(2188)) invoke(2188, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4NusvARB(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2189)) invoke(2189, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4bv(int a0, byte[] a1, int a2)
+	{ if (call(2190)) invoke(2190, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4bv(int a0, java.nio.ByteBuffer a1)
+	{ if (call(2191)) invoke(2191, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4bvARB(int a0, byte[] a1, int a2)
+	{ if (call(2192)) invoke(2192, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4bvARB(int a0, java.nio.ByteBuffer a1)
+	{ if (call(2193)) invoke(2193, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4d(int a0, double a1, double a2, double a3, double a4)
+	{ if (call(2194)) invoke(2194, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexAttrib4dARB(int a0, double a1, double a2, double a3, double a4)
+	{ if (call(2195)) invoke(2195, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexAttrib4dv(int a0, double[] a1, int a2)
+	{ if (call(2196)) invoke(2196, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4dv(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(2197)) invoke(2197, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4dvARB(int a0, double[] a1, int a2)
+	{ if (call(2198)) invoke(2198, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4dvARB(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(2199)) invoke(2199, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4f(int a0, float a1, float a2, float a3, float a4)
+	{ if (call(2200)) invoke(2200, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexAttrib4fARB(int a0, float a1, float a2, float a3, float a4)
+	{ if (call(2201)) invoke(2201, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexAttrib4fv(int a0, float[] a1, int a2)
+	{ if (call(2202)) invoke(2202, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4fv(int a0, java.nio.FloatBuffer a1)
+	{ if (call(2203)) invoke(2203, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4fvARB(int a0, float[] a1, int a2)
+	{ if (call(2204)) invoke(2204, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4fvARB(int a0, java.nio.FloatBuffer a1)
+	{ if (call(2205)) invoke(2205, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4h(int a0, short a1, short a2, short a3, short a4)
+	{ if (call(2206)) invoke(2206, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexAttrib4hv(int a0, short[] a1, int a2)
+	{ if (call(2207)) invoke(2207, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4hv(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2208)) invoke(2208, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4iv(int a0, int[] a1, int a2)
+	{ if (call(2209)) invoke(2209, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4iv(int a0, java.nio.IntBuffer a1)
+	{ if (call(2210)) invoke(2210, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4ivARB(int a0, int[] a1, int a2)
+	{ if (call(2211)) invoke(2211, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4ivARB(int a0, java.nio.IntBuffer a1)
+	{ if (call(2212)) invoke(2212, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4s(int a0, short a1, short a2, short a3, short a4)
+	{ if (call(2213)) invoke(2213, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexAttrib4sARB(int a0, short a1, short a2, short a3, short a4)
+	{ if (call(2214)) invoke(2214, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexAttrib4sv(int a0, short[] a1, int a2)
+	{ if (call(2215)) invoke(2215, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4sv(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2216)) invoke(2216, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4svARB(int a0, short[] a1, int a2)
+	{ if (call(2217)) invoke(2217, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4svARB(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2218)) invoke(2218, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4ubv(int a0, byte[] a1, int a2)
+	{ if (call(2219)) invoke(2219, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4ubv(int a0, java.nio.ByteBuffer a1)
+	{ if (call(2220)) invoke(2220, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4ubvARB(int a0, byte[] a1, int a2)
+	{ if (call(2221)) invoke(2221, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4ubvARB(int a0, java.nio.ByteBuffer a1)
+	{ if (call(2222)) invoke(2222, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4uiv(int a0, int[] a1, int a2)
+	{ if (call(2223)) invoke(2223, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4uiv(int a0, java.nio.IntBuffer a1)
+	{ if (call(2224)) invoke(2224, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4uivARB(int a0, int[] a1, int a2)
+	{ if (call(2225)) invoke(2225, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4uivARB(int a0, java.nio.IntBuffer a1)
+	{ if (call(2226)) invoke(2226, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4usv(int a0, short[] a1, int a2)
+	{ if (call(2227)) invoke(2227, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4usv(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2228)) invoke(2228, new Object[] { a0, a1 }); }
+	public void glVertexAttrib4usvARB(int a0, short[] a1, int a2)
+	{ if (call(2229)) invoke(2229, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttrib4usvARB(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2230)) invoke(2230, new Object[] { a0, a1 }); }
+	public void glVertexAttribDivisor(int a0, int a1)
+	{ if (call(2231)) invoke(2231, new Object[] { a0, a1 }); }
+	public void glVertexAttribFormatNV(int a0, int a1, int a2, boolean a3, int a4)
+	{ if (call(2232)) invoke(2232, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexAttribI1i(int a0, int a1)
+	{ if (call(2233)) invoke(2233, new Object[] { a0, a1 }); }
+	public void glVertexAttribI1iEXT(int a0, int a1)
+	{ if (call(2234)) invoke(2234, new Object[] { a0, a1 }); }
+	public void glVertexAttribI1iv(int a0, int[] a1, int a2)
+	{ if (call(2235)) invoke(2235, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI1iv(int a0, java.nio.IntBuffer a1)
+	{ if (call(2236)) invoke(2236, new Object[] { a0, a1 }); }
+	public void glVertexAttribI1ivEXT(int a0, int[] a1, int a2)
+	{ if (call(2237)) invoke(2237, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI1ivEXT(int a0, java.nio.IntBuffer a1)
+	{ if (call(2238)) invoke(2238, new Object[] { a0, a1 }); }
+	public void glVertexAttribI1ui(int a0, int a1)
+	{ if (call(2239)) invoke(2239, new Object[] { a0, a1 }); }
+	public void glVertexAttribI1uiEXT(int a0, int a1)
+	{ if (call(2240)) invoke(2240, new Object[] { a0, a1 }); }
+	public void glVertexAttribI1uiv(int a0, int[] a1, int a2)
+	{ if (call(2241)) invoke(2241, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI1uiv(int a0, java.nio.IntBuffer a1)
+	{ if (call(2242)) invoke(2242, new Object[] { a0, a1 }); }
+	public void glVertexAttribI1uivEXT(int a0, int[] a1, int a2)
+	{ if (call(2243)) invoke(2243, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI1uivEXT(int a0, java.nio.IntBuffer a1)
+	{ if (call(2244)) invoke(2244, new Object[] { a0, a1 }); }
+	public void glVertexAttribI2i(int a0, int a1, int a2)
+	{ if (call(2245)) invoke(2245, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI2iEXT(int a0, int a1, int a2)
+	{ if (call(2246)) invoke(2246, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI2iv(int a0, int[] a1, int a2)
+	{ if (call(2247)) invoke(2247, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI2iv(int a0, java.nio.IntBuffer a1)
+	{ if (call(2248)) invoke(2248, new Object[] { a0, a1 }); }
+	public void glVertexAttribI2ivEXT(int a0, int[] a1, int a2)
+	{ if (call(2249)) invoke(2249, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI2ivEXT(int a0, java.nio.IntBuffer a1)
+	{ if (call(2250)) invoke(2250, new Object[] { a0, a1 }); }
+	public void glVertexAttribI2ui(int a0, int a1, int a2)
+	{ if (call(2251)) invoke(2251, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI2uiEXT(int a0, int a1, int a2)
+	{ if (call(2252)) invoke(2252, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI2uiv(int a0, int[] a1, int a2)
+	{ if (call(2253)) invoke(2253, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI2uiv(int a0, java.nio.IntBuffer a1)
+	{ if (call(2254)) invoke(2254, new Object[] { a0, a1 }); }
+	public void glVertexAttribI2uivEXT(int a0, int[] a1, int a2)
+	{ if (call(2255)) invoke(2255, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI2uivEXT(int a0, java.nio.IntBuffer a1)
+	{ if (call(2256)) invoke(2256, new Object[] { a0, a1 }); }
+	public void glVertexAttribI3i(int a0, int a1, int a2, int a3)
+	{ if (call(2257)) invoke(2257, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexAttribI3iEXT(int a0, int a1, int a2, int a3)
+	{ if (call(2258)) invoke(2258, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexAttribI3iv(int a0, int[] a1, int a2)
+	{ if (call(2259)) invoke(2259, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI3iv(int a0, java.nio.IntBuffer a1)
+	{ if (call(2260)) invoke(2260, new Object[] { a0, a1 }); }
+	public void glVertexAttribI3ivEXT(int a0, int[] a1, int a2)
+	{ if (call(2261)) invoke(2261, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI3ivEXT(int a0, java.nio.IntBuffer a1)
+	{ if (call(2262)) invoke(2262, new Object[] { a0, a1 }); }
+	public void glVertexAttribI3ui(int a0, int a1, int a2, int a3)
+	{ if (call(2263)) invoke(2263, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexAttribI3uiEXT(int a0, int a1, int a2, int a3)
+	{ if (call(2264)) invoke(2264, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexAttribI3uiv(int a0, int[] a1, int a2)
+	{ if (call(2265)) invoke(2265, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI3uiv(int a0, java.nio.IntBuffer a1)
+	{ if (call(2266)) invoke(2266, new Object[] { a0, a1 }); }
+	public void glVertexAttribI3uivEXT(int a0, int[] a1, int a2)
+	{ if (call(2267)) invoke(2267, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI3uivEXT(int a0, java.nio.IntBuffer a1)
+	{ if (call(2268)) invoke(2268, new Object[] { a0, a1 }); }
+	public void glVertexAttribI4bv(int a0, byte[] a1, int a2)
+	{ if (call(2269)) invoke(2269, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI4bv(int a0, java.nio.ByteBuffer a1)
+	{ if (call(2270)) invoke(2270, new Object[] { a0, a1 }); }
+	public void glVertexAttribI4bvEXT(int a0, byte[] a1, int a2)
+	{ if (call(2271)) invoke(2271, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI4bvEXT(int a0, java.nio.ByteBuffer a1)
+	{ if (call(2272)) invoke(2272, new Object[] { a0, a1 }); }
+	public void glVertexAttribI4i(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(2273)) invoke(2273, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexAttribI4iEXT(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(2274)) invoke(2274, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexAttribI4iv(int a0, int[] a1, int a2)
+	{ if (call(2275)) invoke(2275, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI4iv(int a0, java.nio.IntBuffer a1)
+	{ if (call(2276)) invoke(2276, new Object[] { a0, a1 }); }
+	public void glVertexAttribI4ivEXT(int a0, int[] a1, int a2)
+	{ if (call(2277)) invoke(2277, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI4ivEXT(int a0, java.nio.IntBuffer a1)
+	{ if (call(2278)) invoke(2278, new Object[] { a0, a1 }); }
+	public void glVertexAttribI4sv(int a0, short[] a1, int a2)
+	{ if (call(2279)) invoke(2279, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI4sv(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2280)) invoke(2280, new Object[] { a0, a1 }); }
+	public void glVertexAttribI4svEXT(int a0, short[] a1, int a2)
+	{ if (call(2281)) invoke(2281, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI4svEXT(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2282)) invoke(2282, new Object[] { a0, a1 }); }
+	public void glVertexAttribI4ubv(int a0, byte[] a1, int a2)
+	{ if (call(2283)) invoke(2283, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI4ubv(int a0, java.nio.ByteBuffer a1)
+	{ if (call(2284)) invoke(2284, new Object[] { a0, a1 }); }
+	public void glVertexAttribI4ubvEXT(int a0, byte[] a1, int a2)
+	{ if (call(2285)) invoke(2285, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI4ubvEXT(int a0, java.nio.ByteBuffer a1)
+	{ if (call(2286)) invoke(2286, new Object[] { a0, a1 }); }
+	public void glVertexAttribI4ui(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(2287)) invoke(2287, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexAttribI4uiEXT(int a0, int a1, int a2, int a3, int a4)
+	{ if (call(2288)) invoke(2288, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexAttribI4uiv(int a0, int[] a1, int a2)
+	{ if (call(2289)) invoke(2289, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI4uiv(int a0, java.nio.IntBuffer a1)
+	{ if (call(2290)) invoke(2290, new Object[] { a0, a1 }); }
+	public void glVertexAttribI4uivEXT(int a0, int[] a1, int a2)
+	{ if (call(2291)) invoke(2291, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI4uivEXT(int a0, java.nio.IntBuffer a1)
+	{ if (call(2292)) invoke(2292, new Object[] { a0, a1 }); }
+	public void glVertexAttribI4usv(int a0, short[] a1, int a2)
+	{ if (call(2293)) invoke(2293, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI4usv(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2294)) invoke(2294, new Object[] { a0, a1 }); }
+	public void glVertexAttribI4usvEXT(int a0, short[] a1, int a2)
+	{ if (call(2295)) invoke(2295, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribI4usvEXT(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2296)) invoke(2296, new Object[] { a0, a1 }); }
+	public void glVertexAttribIFormatNV(int a0, int a1, int a2, int a3)
+	{ if (call(2297)) invoke(2297, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexAttribIPointer(int a0, int a1, int a2, int a3, java.nio.Buffer a4)
+	{ if (call(2298)) invoke(2298, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexAttribIPointer(int a0, int a1, int a2, int a3, long a4)
+	{ if (call(2299)) invoke(2299, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexAttribIPointerEXT(int a0, int a1, int a2, int a3, java.nio.Buffer a4)
+	{ if (call(2300)) invoke(2300, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexAttribL1d(int a0, double a1)
+	{ if (call(2301)) invoke(2301, new Object[] { a0, a1 }); }
+	public void glVertexAttribL1dv(int a0, double[] a1, int a2)
+	{ if (call(2302)) invoke(2302, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribL1dv(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(2303)) invoke(2303, new Object[] { a0, a1 }); }
+	public void glVertexAttribL1i64NV(int a0, long a1)
+	{ if (call(2304)) invoke(2304, new Object[] { a0, a1 }); }
+	public void glVertexAttribL1i64vNV(int a0, long[] a1, int a2)
+	{ if (call(2305)) invoke(2305, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribL1i64vNV(int a0, java.nio.LongBuffer a1)
+	{ if (call(2306)) invoke(2306, new Object[] { a0, a1 }); }
+	public void glVertexAttribL1ui64NV(int a0, long a1)
+	{ if (call(2307)) invoke(2307, new Object[] { a0, a1 }); }
+	public void glVertexAttribL1ui64vNV(int a0, long[] a1, int a2)
+	{ if (call(2308)) invoke(2308, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribL1ui64vNV(int a0, java.nio.LongBuffer a1)
+	{ if (call(2309)) invoke(2309, new Object[] { a0, a1 }); }
+	public void glVertexAttribL2d(int a0, double a1, double a2)
+	{ if (call(2310)) invoke(2310, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribL2dv(int a0, double[] a1, int a2)
+	{ if (call(2311)) invoke(2311, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribL2dv(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(2312)) invoke(2312, new Object[] { a0, a1 }); }
+	public void glVertexAttribL2i64NV(int a0, long a1, long a2)
+	{ if (call(2313)) invoke(2313, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribL2i64vNV(int a0, long[] a1, int a2)
+	{ if (call(2314)) invoke(2314, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribL2i64vNV(int a0, java.nio.LongBuffer a1)
+	{ if (call(2315)) invoke(2315, new Object[] { a0, a1 }); }
+	public void glVertexAttribL2ui64NV(int a0, long a1, long a2)
+	{ if (call(2316)) invoke(2316, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribL2ui64vNV(int a0, long[] a1, int a2)
+	{ if (call(2317)) invoke(2317, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribL2ui64vNV(int a0, java.nio.LongBuffer a1)
+	{ if (call(2318)) invoke(2318, new Object[] { a0, a1 }); }
+	public void glVertexAttribL3d(int a0, double a1, double a2, double a3)
+	{ if (call(2319)) invoke(2319, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexAttribL3dv(int a0, double[] a1, int a2)
+	{ if (call(2320)) invoke(2320, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribL3dv(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(2321)) invoke(2321, new Object[] { a0, a1 }); }
+	public void glVertexAttribL3i64NV(int a0, long a1, long a2, long a3)
+	{ if (call(2322)) invoke(2322, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexAttribL3i64vNV(int a0, long[] a1, int a2)
+	{ if (call(2323)) invoke(2323, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribL3i64vNV(int a0, java.nio.LongBuffer a1)
+	{ if (call(2324)) invoke(2324, new Object[] { a0, a1 }); }
+	public void glVertexAttribL3ui64NV(int a0, long a1, long a2, long a3)
+	{ if (call(2325)) invoke(2325, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexAttribL3ui64vNV(int a0, long[] a1, int a2)
+	{ if (call(2326)) invoke(2326, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribL3ui64vNV(int a0, java.nio.LongBuffer a1)
+	{ if (call(2327)) invoke(2327, new Object[] { a0, a1 }); }
+	public void glVertexAttribL4d(int a0, double a1, double a2, double a3, double a4)
+	{ if (call(2328)) invoke(2328, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexAttribL4dv(int a0, double[] a1, int a2)
+	{ if (call(2329)) invoke(2329, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribL4dv(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(2330)) invoke(2330, new Object[] { a0, a1 }); }
+	public void glVertexAttribL4i64NV(int a0, long a1, long a2, long a3, long a4)
+	{ if (call(2331)) invoke(2331, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexAttribL4i64vNV(int a0, long[] a1, int a2)
+	{ if (call(2332)) invoke(2332, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribL4i64vNV(int a0, java.nio.LongBuffer a1)
+	{ if (call(2333)) invoke(2333, new Object[] { a0, a1 }); }
+	public void glVertexAttribL4ui64NV(int a0, long a1, long a2, long a3, long a4)
+	{ if (call(2334)) invoke(2334, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexAttribL4ui64vNV(int a0, long[] a1, int a2)
+	{ if (call(2335)) invoke(2335, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribL4ui64vNV(int a0, java.nio.LongBuffer a1)
+	{ if (call(2336)) invoke(2336, new Object[] { a0, a1 }); }
+	public void glVertexAttribLFormatNV(int a0, int a1, int a2, int a3)
+	{ if (call(2337)) invoke(2337, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexAttribLPointer(int a0, int a1, int a2, int a3, long a4)
+	{ if (call(2338)) invoke(2338, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVertexAttribParameteriAMD(int a0, int a1, int a2)
+	{ if (call(2339)) invoke(2339, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribPointer(com.jogamp.opengl.GLArrayData a0)
+	{ if (call(2340)) invoke(2340, new Object[] { a0 }); }
+	public void glVertexAttribPointer(int a0, int a1, int a2, boolean a3, int a4, java.nio.Buffer a5)
+	{ if (call(2341)) invoke(2341, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glVertexAttribPointer(int a0, int a1, int a2, boolean a3, int a4, long a5)
+	{ if (call(2342)) invoke(2342, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glVertexAttribPointerARB(int a0, int a1, int a2, boolean a3, int a4, java.nio.Buffer a5)
+	{ if (call(2343)) invoke(2343, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glVertexAttribPointerARB(int a0, int a1, int a2, boolean a3, int a4, long a5)
+	{ if (call(2344)) invoke(2344, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public void glVertexAttribs1hv(int a0, int a1, short[] a2, int a3)
+	{ if (call(2345)) invoke(2345, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexAttribs1hv(int a0, int a1, java.nio.ShortBuffer a2)
+	{ if (call(2346)) invoke(2346, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribs2hv(int a0, int a1, short[] a2, int a3)
+	{ if (call(2347)) invoke(2347, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexAttribs2hv(int a0, int a1, java.nio.ShortBuffer a2)
+	{ if (call(2348)) invoke(2348, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribs3hv(int a0, int a1, short[] a2, int a3)
+	{ if (call(2349)) invoke(2349, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexAttribs3hv(int a0, int a1, java.nio.ShortBuffer a2)
+	{ if (call(2350)) invoke(2350, new Object[] { a0, a1, a2 }); }
+	public void glVertexAttribs4hv(int a0, int a1, short[] a2, int a3)
+	{ if (call(2351)) invoke(2351, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexAttribs4hv(int a0, int a1, java.nio.ShortBuffer a2)
+	{ if (call(2352)) invoke(2352, new Object[] { a0, a1, a2 }); }
+	public void glVertexBlendARB(int a0)
+	{ if (call(2353)) invoke(2353, new Object[] { a0 }); }
+	public void glVertexFormatNV(int a0, int a1, int a2)
+	{ if (call(2354)) invoke(2354, new Object[] { a0, a1, a2 }); }
+	public void glVertexPointer(com.jogamp.opengl.GLArrayData a0)
+	{ if (call(2355)) invoke(2355, new Object[] { a0 }); }
+	public void glVertexPointer(int a0, int a1, int a2, java.nio.Buffer a3)
+	{ if (call(2356)) invoke(2356, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexPointer(int a0, int a1, int a2, long a3)
+	{ if (call(2357)) invoke(2357, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexWeightPointerEXT(int a0, int a1, int a2, java.nio.Buffer a3)
+	{ if (call(2358)) invoke(2358, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexWeightPointerEXT(int a0, int a1, int a2, long a3)
+	{ if (call(2359)) invoke(2359, new Object[] { a0, a1, a2, a3 }); }
+	public void glVertexWeightfEXT(float a0)
+	{ if (call(2360)) invoke(2360, new Object[] { a0 }); }
+	public void glVertexWeightfvEXT(float[] a0, int a1)
+	{ if (call(2361)) invoke(2361, new Object[] { a0, a1 }); }
+	public void glVertexWeightfvEXT(java.nio.FloatBuffer a0)
+	{ if (call(2362)) invoke(2362, new Object[] { a0 }); }
+	public void glVertexWeighth(short a0)
+	{ if (call(2363)) invoke(2363, new Object[] { a0 }); }
+	public void glVertexWeighthv(short[] a0, int a1)
+	{ if (call(2364)) invoke(2364, new Object[] { a0, a1 }); }
+	public void glVertexWeighthv(java.nio.ShortBuffer a0)
+	{ if (call(2365)) invoke(2365, new Object[] { a0 }); }
+	public int glVideoCaptureNV(int a0, int[] a1, int a2, long[] a3, int a4)
+	{ return (call(2366) ? ((Number)invoke(2366, new Object[] { a0, a1, a2, a3, a4 })).intValue() : 0); }
+	public int glVideoCaptureNV(int a0, java.nio.IntBuffer a1, java.nio.LongBuffer a2)
+	{ return (call(2367) ? ((Number)invoke(2367, new Object[] { a0, a1, a2 })).intValue() : 0); }
+	public void glVideoCaptureStreamParameterdvNV(int a0, int a1, int a2, double[] a3, int a4)
+	{ if (call(2368)) invoke(2368, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVideoCaptureStreamParameterdvNV(int a0, int a1, int a2, java.nio.DoubleBuffer a3)
+	{ if (call(2369)) invoke(2369, new Object[] { a0, a1, a2, a3 }); }
+	public void glVideoCaptureStreamParameterfvNV(int a0, int a1, int a2, float[] a3, int a4)
+	{ if (call(2370)) invoke(2370, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVideoCaptureStreamParameterfvNV(int a0, int a1, int a2, java.nio.FloatBuffer a3)
+	{ if (call(2371)) invoke(2371, new Object[] { a0, a1, a2, a3 }); }
+	public void glVideoCaptureStreamParameterivNV(int a0, int a1, int a2, int[] a3, int a4)
+	{ if (call(2372)) invoke(2372, new Object[] { a0, a1, a2, a3, a4 }); }
+	public void glVideoCaptureStreamParameterivNV(int a0, int a1, int a2, java.nio.IntBuffer a3)
+	{ if (call(2373)) invoke(2373, new Object[] { a0, a1, a2, a3 }); }
+	public void glViewport(int a0, int a1, int a2, int a3)
+	{ if (call(2374)) invoke(2374, new Object[] { a0, a1, a2, a3 }); }
+	public void glWeightPointerARB(int a0, int a1, int a2, java.nio.Buffer a3)
+	{ if (call(2375)) invoke(2375, new Object[] { a0, a1, a2, a3 }); }
+	public void glWeightPointerARB(int a0, int a1, int a2, long a3)
+	{ if (call(2376)) invoke(2376, new Object[] { a0, a1, a2, a3 }); }
+	public void glWeightbvARB(int a0, byte[] a1, int a2)
+	{ if (call(2377)) invoke(2377, new Object[] { a0, a1, a2 }); }
+	public void glWeightbvARB(int a0, java.nio.ByteBuffer a1)
+	{ if (call(2378)) invoke(2378, new Object[] { a0, a1 }); }
+	public void glWeightdvARB(int a0, double[] a1, int a2)
+	{ if (call(2379)) invoke(2379, new Object[] { a0, a1, a2 }); }
+	public void glWeightdvARB(int a0, java.nio.DoubleBuffer a1)
+	{ if (call(2380)) invoke(2380, new Object[] { a0, a1 }); }
+	public void glWeightfvARB(int a0, float[] a1, int a2)
+	{ if (call(2381)) invoke(2381, new Object[] { a0, a1, a2 }); }
+	public void glWeightfvARB(int a0, java.nio.FloatBuffer a1)
+	{ if (call(2382)) invoke(2382, new Object[] { a0, a1 }); }
+	public void glWeightivARB(int a0, int[] a1, int a2)
+	{ if (call(2383)) invoke(2383, new Object[] { a0, a1, a2 }); }
+	public void glWeightivARB(int a0, java.nio.IntBuffer a1)
+	{ if (call(2384)) invoke(2384, new Object[] { a0, a1 }); }
+	public void glWeightsvARB(int a0, short[] a1, int a2)
+	{ if (call(2385)) invoke(2385, new Object[] { a0, a1, a2 }); }
+	public void glWeightsvARB(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2386)) invoke(2386, new Object[] { a0, a1 }); }
+	public void glWeightubvARB(int a0, byte[] a1, int a2)
+	{ if (call(2387)) invoke(2387, new Object[] { a0, a1, a2 }); }
+	public void glWeightubvARB(int a0, java.nio.ByteBuffer a1)
+	{ if (call(2388)) invoke(2388, new Object[] { a0, a1 }); }
+	public void glWeightuivARB(int a0, int[] a1, int a2)
+	{ if (call(2389)) invoke(2389, new Object[] { a0, a1, a2 }); }
+	public void glWeightuivARB(int a0, java.nio.IntBuffer a1)
+	{ if (call(2390)) invoke(2390, new Object[] { a0, a1 }); }
+	public void glWeightusvARB(int a0, short[] a1, int a2)
+	{ if (call(2391)) invoke(2391, new Object[] { a0, a1, a2 }); }
+	public void glWeightusvARB(int a0, java.nio.ShortBuffer a1)
+	{ if (call(2392)) invoke(2392, new Object[] { a0, a1 }); }
+	public void glWindowPos2d(double a0, double a1)
+	{ if (call(2393)) invoke(2393, new Object[] { a0, a1 }); }
+	public void glWindowPos2dv(double[] a0, int a1)
+	{ if (call(2394)) invoke(2394, new Object[] { a0, a1 }); }
+	public void glWindowPos2dv(java.nio.DoubleBuffer a0)
+	{ if (call(2395)) invoke(2395, new Object[] { a0 }); }
+	public void glWindowPos2f(float a0, float a1)
+	{ if (call(2396)) invoke(2396, new Object[] { a0, a1 }); }
+	public void glWindowPos2fv(float[] a0, int a1)
+	{ if (call(2397)) invoke(2397, new Object[] { a0, a1 }); }
+	public void glWindowPos2fv(java.nio.FloatBuffer a0)
+	{ if (call(2398)) invoke(2398, new Object[] { a0 }); }
+	public void glWindowPos2i(int a0, int a1)
+	{ if (call(2399)) invoke(2399, new Object[] { a0, a1 }); }
+	public void glWindowPos2iv(int[] a0, int a1)
+	{ if (call(2400)) invoke(2400, new Object[] { a0, a1 }); }
+	public void glWindowPos2iv(java.nio.IntBuffer a0)
+	{ if (call(2401)) invoke(2401, new Object[] { a0 }); }
+	public void glWindowPos2s(short a0, short a1)
+	{ if (call(2402)) invoke(2402, new Object[] { a0, a1 }); }
+	public void glWindowPos2sv(short[] a0, int a1)
+	{ if (call(2403)) invoke(2403, new Object[] { a0, a1 }); }
+	public void glWindowPos2sv(java.nio.ShortBuffer a0)
+	{ if (call(2404)) invoke(2404, new Object[] { a0 }); }
+	public void glWindowPos3d(double a0, double a1, double a2)
+	{ if (call(2405)) invoke(2405, new Object[] { a0, a1, a2 }); }
+	public void glWindowPos3dv(double[] a0, int a1)
+	{ if (call(2406)) invoke(2406, new Object[] { a0, a1 }); }
+	public void glWindowPos3dv(java.nio.DoubleBuffer a0)
+	{ if (call(2407)) invoke(2407, new Object[] { a0 }); }
+	public void glWindowPos3f(float a0, float a1, float a2)
+	{ if (call(2408)) invoke(2408, new Object[] { a0, a1, a2 }); }
+	public void glWindowPos3fv(float[] a0, int a1)
+	{ if (call(2409)) invoke(2409, new Object[] { a0, a1 }); }
+	public void glWindowPos3fv(java.nio.FloatBuffer a0)
+	{ if (call(2410)) invoke(2410, new Object[] { a0 }); }
+	public void glWindowPos3i(int a0, int a1, int a2)
+	{ if (call(2411)) invoke(2411, new Object[] { a0, a1, a2 }); }
+	public void glWindowPos3iv(int[] a0, int a1)
+	{ if (call(2412)) invoke(2412, new Object[] { a0, a1 }); }
+	public void glWindowPos3iv(java.nio.IntBuffer a0)
+	{ if (call(2413)) invoke(2413, new Object[] { a0 }); }
+	public void glWindowPos3s(short a0, short a1, short a2)
+	{ if (call(2414)) invoke(2414, new Object[] { a0, a1, a2 }); }
+	public void glWindowPos3sv(short[] a0, int a1)
+	{ if (call(2415)) invoke(2415, new Object[] { a0, a1 }); }
+	public void glWindowPos3sv(java.nio.ShortBuffer a0)
+	{ if (call(2416)) invoke(2416, new Object[] { a0 }); }
+	public void glWriteMaskEXT(int a0, int a1, int a2, int a3, int a4, int a5)
+	{ if (call(2417)) invoke(2417, new Object[] { a0, a1, a2, a3, a4, a5 }); }
+	public boolean hasBasicFBOSupport()
+	{ return (call(2418) ? Boolean.TRUE.equals(invoke(2418, null)) : false); }
+	public boolean hasFullFBOSupport()
+	{ return (call(2419) ? Boolean.TRUE.equals(invoke(2419, null)) : false); }
+	public boolean hasGLSL()
+	{ return (call(2420) ? Boolean.TRUE.equals(invoke(2420, null)) : false); }
+	public boolean isExtensionAvailable(java.lang.String a0)
+	{ return (call(2421) ? Boolean.TRUE.equals(invoke(2421, new Object[] { a0 })) : false); }
+	public boolean isFunctionAvailable(java.lang.String a0)
+	{ return (call(2422) ? Boolean.TRUE.equals(invoke(2422, new Object[] { a0 })) : false); }
+	public boolean isGL()
+	{ return (call(2423) ? Boolean.TRUE.equals(invoke(2423, null)) : false); }
+	public boolean isGL2()
+	{ return (call(2424) ? Boolean.TRUE.equals(invoke(2424, null)) : false); }
+	public boolean isGL2ES1()
+	{ return (call(2425) ? Boolean.TRUE.equals(invoke(2425, null)) : false); }
+	public boolean isGL2ES2()
+	{ return (call(2426) ? Boolean.TRUE.equals(invoke(2426, null)) : false); }
+	public boolean isGL2ES3()
+	{ return (call(2427) ? Boolean.TRUE.equals(invoke(2427, null)) : false); }
+	public boolean isGL2GL3()
+	{ return (call(2428) ? Boolean.TRUE.equals(invoke(2428, null)) : false); }
+	public boolean isGL3()
+	{ return (call(2429) ? Boolean.TRUE.equals(invoke(2429, null)) : false); }
+	public boolean isGL3ES3()
+	{ return (call(2430) ? Boolean.TRUE.equals(invoke(2430, null)) : false); }
+	public boolean isGL3bc()
+	{ return (call(2431) ? Boolean.TRUE.equals(invoke(2431, null)) : false); }
+	public boolean isGL3core()
+	{ return (call(2432) ? Boolean.TRUE.equals(invoke(2432, null)) : false); }
+	public boolean isGL4()
+	{ return (call(2433) ? Boolean.TRUE.equals(invoke(2433, null)) : false); }
+	public boolean isGL4ES3()
+	{ return (call(2434) ? Boolean.TRUE.equals(invoke(2434, null)) : false); }
+	public boolean isGL4bc()
+	{ return (call(2435) ? Boolean.TRUE.equals(invoke(2435, null)) : false); }
+	public boolean isGL4core()
+	{ return (call(2436) ? Boolean.TRUE.equals(invoke(2436, null)) : false); }
+	public boolean isGLES()
+	{ return (call(2437) ? Boolean.TRUE.equals(invoke(2437, null)) : false); }
+	public boolean isGLES1()
+	{ return (call(2438) ? Boolean.TRUE.equals(invoke(2438, null)) : false); }
+	public boolean isGLES2()
+	{ return (call(2439) ? Boolean.TRUE.equals(invoke(2439, null)) : false); }
+	public boolean isGLES2Compatible()
+	{ return (call(2440) ? Boolean.TRUE.equals(invoke(2440, null)) : false); }
+	public boolean isGLES3()
+	{ return (call(2441) ? Boolean.TRUE.equals(invoke(2441, null)) : false); }
+	public boolean isGLES31Compatible()
+	{ return (call(2442) ? Boolean.TRUE.equals(invoke(2442, null)) : false); }
+	public boolean isGLES32Compatible()
+	{ return (call(2443) ? Boolean.TRUE.equals(invoke(2443, null)) : false); }
+	public boolean isGLES3Compatible()
+	{ return (call(2444) ? Boolean.TRUE.equals(invoke(2444, null)) : false); }
+	public boolean isGLcore()
+	{ return (call(2445) ? Boolean.TRUE.equals(invoke(2445, null)) : false); }
+	public boolean isNPOTTextureAvailable()
+	{ return (call(2446) ? Boolean.TRUE.equals(invoke(2446, null)) : false); }
+	public boolean isPBOPackBound()
+	{ return (call(2447) ? Boolean.TRUE.equals(invoke(2447, null)) : false); }
+	public boolean isPBOUnpackBound()
+	{ return (call(2448) ? Boolean.TRUE.equals(invoke(2448, null)) : false); }
+	public boolean isTextureFormatBGRA8888Available()
+	{ return (call(2449) ? Boolean.TRUE.equals(invoke(2449, null)) : false); }
+	public boolean isVBOArrayBound()
+	{ return (call(2450) ? Boolean.TRUE.equals(invoke(2450, null)) : false); }
+	public boolean isVBOElementArrayBound()
+	{ return (call(2451) ? Boolean.TRUE.equals(invoke(2451, null)) : false); }
+	public com.jogamp.opengl.GLBufferStorage mapBuffer(int a0, int a1)
+	{ return (call(2452) ? (com.jogamp.opengl.GLBufferStorage)invoke(2452, new Object[] { a0, a1 }) : null); }
+	public com.jogamp.opengl.GLBufferStorage mapBufferRange(int a0, long a1, long a2, int a3)
+	{ return (call(2453) ? (com.jogamp.opengl.GLBufferStorage)invoke(2453, new Object[] { a0, a1, a2, a3 }) : null); }
+	public com.jogamp.opengl.GLBufferStorage mapNamedBufferEXT(int a0, int a1)
+	{ return (call(2454) ? (com.jogamp.opengl.GLBufferStorage)invoke(2454, new Object[] { a0, a1 }) : null); }
+	public com.jogamp.opengl.GLBufferStorage mapNamedBufferRangeEXT(int a0, long a1, long a2, int a3)
+	{ return (call(2455) ? (com.jogamp.opengl.GLBufferStorage)invoke(2455, new Object[] { a0, a1, a2, a3 }) : null); }
+	public void setSwapInterval(int a0)
+	{ if (call(2456)) invoke(2456, new Object[] { a0 }); }
+}
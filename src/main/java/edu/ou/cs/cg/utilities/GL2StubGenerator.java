@@ -0,0 +1,218 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Writes GL2Stub.java, a class that implements every method of GL2 without an
+// OpenGL context. (GL2 has too many methods for java.lang.reflect.Proxy.) Run
+// it again after changing the JOGL version:
+//
+//   GL2StubGenerator src/main/java/edu/ou/cs/cg/utilities/GL2Stub.java
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
+import com.jogamp.opengl.GL2;
+
+//******************************************************************************
+
+/**
+ * The <CODE>GL2StubGenerator</CODE> class generates the source of GL2Stub.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class GL2StubGenerator
+{
+	//**********************************************************************
+	// Main
+	//**********************************************************************
+
+	public static void	main(String[] argv) throws IOException
+	{
+		PrintWriter	out = new PrintWriter(new FileWriter(argv[0]));
+
+		generate(out);
+		out.close();
+	}
+
+	//**********************************************************************
+	// Public Class Methods
+	//**********************************************************************
+
+	// Methods are numbered in order of their signatures, so the numbering
+	// only changes when the GL2 interface does. Methods inherited from more
+	// than one superinterface are only listed once.
+	public static List<Method>	getMethods()
+	{
+		Map<String, Method>	map = new TreeMap<String, Method>();
+
+		for (Method m : GL2.class.getMethods())
+			if (!m.isDefault() && !Modifier.isStatic(m.getModifiers()))
+				map.put(signature(m), m);
+
+		return new ArrayList<Method>(map.values());
+	}
+
+	// Name and parameter types, like "glVertex3f(float,float,float)".
+	public static String	signature(Method m)
+	{
+		StringBuilder	sb = new StringBuilder(m.getName());
+		Class<?>[]		p = m.getParameterTypes();
+
+		sb.append('(');
+
+		for (int i=0; i<p.length; i++)
+			sb.append((i > 0) ? "," : "").append(p[i].getName());
+
+		return sb.append(')').toString();
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static void	generate(PrintWriter out)
+	{
+		List<Method>	methods = getMethods();
+
+		out.println("//*****************************************************" +
+					"*************************");
+		out.println("// GENERATED by GL2StubGenerator. Do not edit.");
+		out.println("//*****************************************************" +
+					"*************************");
+		out.println();
+		out.println("package edu.ou.cs.cg.utilities;");
+		out.println();
+		out.println("import com.jogamp.opengl.*;");
+		out.println();
+		out.println("/**");
+		out.println(" * The <CODE>GL2Stub</CODE> class implements GL2 without" +
+					" an OpenGL context.");
+		out.println(" * Every method calls call(id). If that returns true," +
+					" the arguments are");
+		out.println(" * passed to invoke(id, args) and its result is" +
+					" returned. Otherwise the");
+		out.println(" * method returns zero, false, null, or this stub" +
+					" (for getGL2() and the");
+		out.println(" * like). The default call() returns false, so nothing" +
+					" is allocated.<P>");
+		out.println(" */");
+		out.println("@SuppressWarnings(\"deprecation\")");
+		out.println("public class GL2Stub");
+		out.println("\timplements GL2");
+		out.println("{");
+		out.println("\tpublic static final int\tMETHOD_COUNT = " +
+					methods.size() + ";");
+		out.println();
+		out.println("\tprivate static final String[]\tSIGNATURES =");
+		out.println("\t{");
+
+		for (Method m : methods)
+			out.println("\t\t\"" + signature(m) + "\",");
+
+		out.println("\t};");
+		out.println();
+		out.println("\t// Name and parameter types of method id.");
+		out.println("\tpublic static String\tgetSignature(int id)");
+		out.println("\t{");
+		out.println("\t\treturn SIGNATURES[id];");
+		out.println("\t}");
+		out.println();
+		out.println("\t// Called first by every method. Return true to have" +
+					" invoke() called.");
+		out.println("\tprotected boolean\tcall(int id)");
+		out.println("\t{");
+		out.println("\t\treturn false;");
+		out.println("\t}");
+		out.println();
+		out.println("\t// Called with the boxed arguments (null if none)" +
+					" when call() is true.");
+		out.println("\tprotected Object\tinvoke(int id, Object[] args)");
+		out.println("\t{");
+		out.println("\t\treturn null;");
+		out.println("\t}");
+		out.println();
+
+		for (int id=0; id<methods.size(); id++)
+			generateMethod(out, id, methods.get(id));
+
+		out.println("}");
+	}
+
+	private static void	generateMethod(PrintWriter out, int id, Method m)
+	{
+		Class<?>		r = m.getReturnType();
+		Class<?>[]		p = m.getParameterTypes();
+		StringBuilder	params = new StringBuilder();
+		StringBuilder	args = new StringBuilder();
+
+		for (int i=0; i<p.length; i++)
+		{
+			params.append((i > 0) ? ", " : "");
+			params.append(p[i].getCanonicalName()).append(" a").append(i);
+			args.append((i > 0) ? ", " : "").append("a").append(i);
+		}
+
+		String	boxed = ((p.length == 0) ? "null" :
+						 "new Object[] { " + args + " }");
+		String	invoke = "invoke(" + id + ", " + boxed + ")";
+
+		out.println("\tpublic " + r.getCanonicalName() + " " + m.getName() +
+					"(" + params + ")");
+
+		if (r == Void.TYPE)
+		{
+			out.println("\t{ if (call(" + id + ")) " + invoke + "; }");
+		}
+		else if (r.isPrimitive())
+		{
+			String	zero = getZero(r);
+			String	unbox = ((r == Boolean.TYPE) ?
+							 "Boolean.TRUE.equals(" + invoke + ")" :
+							 ((r == Character.TYPE) ?
+							  "(Character)" + invoke :
+							  "((Number)" + invoke + ")." + r.getName() +
+							  "Value()"));
+
+			out.println("\t{ return (call(" + id + ") ? " + unbox + " : " +
+						zero + "); }");
+		}
+		else
+		{
+			String	none = (r.isAssignableFrom(GL2.class) ? "this" : "null");
+			String	cast = ((r == Object.class) ? "" :
+							"(" + r.getCanonicalName() + ")");
+
+			out.println("\t{ return (call(" + id + ") ? " + cast + invoke +
+						" : " + none + "); }");
+		}
+	}
+
+	// A literal of primitive type r, or one that converts to it without a
+	// cast, so the generated code compiles without redundant cast warnings.
+	private static String	getZero(Class<?> r)
+	{
+		if (r == Boolean.TYPE)
+			return "false";
+		else if (r == Long.TYPE)
+			return "0L";
+		else if (r == Float.TYPE)
+			return "0.0f";
+		else if (r == Double.TYPE)
+			return "0.0";
+		else
+			return "0";
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,403 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Moves bodies inside a convex PackedPolygon from one wall impact to the
+// next, rather than in fixed steps. Each body keeps its position at the time
+// of its last impact, its velocity per unit time, and the time and side of
+// its next impact, calculated when it last reflected. Positions in between
+// are calculated when asked for. Advancing by any amount of time handles the
+// impacts due in that time in order, so the cost is proportional to the
+// number of bounces, not the number of frames they span.
+//
+// Bodies are kept in a binary heap by the time of their next impact, in
+// arrays of body numbers, so finding the next one is quick with many bodies
+// and nothing is allocated after reset(). Times are in the same units as the
+// velocities, so with velocities per frame, advance(1.0) is one frame.
+//
+// A body that reaches a side within EPS of either end, as a fraction of the
+// side's length, is at a corner. It is snapped to the vertex, so neither of
+// the two sides there counts as ahead of it, and its velocity is reflected
+// about the corner's bisector. If it is still heading out of either side, as
+// it can be when it arrives along one side, it is reflected off that side,
+// as in a wedge, until it heads into both. A body heading straight into a
+// corner comes straight back out, as in the fixed-step code.
+//
+// Not thread safe. Use it from one thread, such as the GL thread.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.util.Random;
+
+//******************************************************************************
+
+/**
+ * The <CODE>ImpactEngine</CODE> class moves bodies between wall impacts in
+ * a convex polygon.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class ImpactEngine
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final double	EPS = 1.0e-9;		// Corners, along sides
+	private static final int		MAX_WEDGE = 64;		// Reflections in one
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private PackedPolygon			polygon;
+	private int					count;
+	private double					time;		// Now
+
+	// Bodies, as of their last impact
+	private double[]				x0;
+	private double[]				y0;
+	private double[]				t0;
+	private double[]				vx;
+	private double[]				vy;
+
+	// Next impacts, and a heap of bodies by next impact time
+	private double[]				tn;			// Infinite if none
+	private int[]					sn;			// -1 if none
+	private int[]					heap;
+	private int[]					slot;		// Each body's place in heap
+
+	private long					bounces;	// Since reset()
+	private long					corners;
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	public ImpactEngine(PackedPolygon polygon)
+	{
+		this.polygon = polygon;
+
+		allocate(0);
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public int		getCount()
+	{
+		return count;
+	}
+
+	public double	getTime()
+	{
+		return time;
+	}
+
+	// Impacts handled since reset(), including corners.
+	public long	getBounces()
+	{
+		return bounces;
+	}
+
+	public long	getCorners()
+	{
+		return corners;
+	}
+
+	// Position of body i now.
+	public double	getX(int i)
+	{
+		return x0[i] + vx[i] * (time - t0[i]);
+	}
+
+	public double	getY(int i)
+	{
+		return y0[i] + vy[i] * (time - t0[i]);
+	}
+
+	public double	getDX(int i)
+	{
+		return vx[i];
+	}
+
+	public double	getDY(int i)
+	{
+		return vy[i];
+	}
+
+	public PackedPolygon	getPolygon()
+	{
+		return polygon;
+	}
+
+	// Switches polygons, keeping bodies where they are now. Bodies outside
+	// the new polygon won't hit its sides.
+	public void	setPolygon(PackedPolygon polygon)
+	{
+		this.polygon = polygon;
+
+		for (int i=0; i<count; i++)
+			place(i, getX(i), getY(i), vx[i], vy[i]);
+	}
+
+	// Places body i now, with its velocity per unit time.
+	public void	setBody(int i, double x, double y, double dx, double dy)
+	{
+		place(i, x, y, dx, dy);
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Scatters count bodies inside the polygon at the given speed, in random
+	// directions, and sets the time back to zero.
+	public void	reset(int count, long seed, double speed)
+	{
+		Random	random = new Random(seed);
+
+		if (count > heap.length)
+			allocate(count);
+
+		this.count = count;
+
+		time = 0.0;
+		bounces = 0;
+		corners = 0;
+
+		for (int i=0; i<count; i++)
+		{
+			heap[i] = i;
+			slot[i] = i;
+			tn[i] = 0.0;
+		}
+
+		for (int i=0; i<count; i++)
+		{
+			double	x;
+			double	y;
+
+			do
+			{
+				x = 2.0 * random.nextDouble() - 1.0;
+				y = 2.0 * random.nextDouble() - 1.0;
+			}
+			while (!polygon.contains(x, y));
+
+			double	theta = 2.0 * Math.PI * random.nextDouble();
+
+			place(i, x, y, speed * Math.cos(theta), speed * Math.sin(theta));
+		}
+	}
+
+	// Time of the next impact of any body, or infinity if none.
+	public double	getNextTime()
+	{
+		return ((count > 0) ? tn[heap[0]] : Double.POSITIVE_INFINITY);
+	}
+
+	// Moves time to the next impact and reflects the body that makes it.
+	// Returns its number, or -1 if no body will hit anything.
+	public int		next()
+	{
+		if ((count == 0) || (tn[heap[0]] == Double.POSITIVE_INFINITY))
+			return -1;
+
+		int	i = heap[0];
+
+		time = tn[i];
+		impact(i);
+		sift(i);
+
+		return i;
+	}
+
+	// Handles every impact up to the given time, then moves time to it.
+	public void	advanceTo(double t)
+	{
+		while ((count > 0) && (tn[heap[0]] <= t))
+			next();
+
+		time = Math.max(time, t);
+	}
+
+	public void	advance(double dt)
+	{
+		advanceTo(time + dt);
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	private void	allocate(int capacity)
+	{
+		x0 = new double[capacity];
+		y0 = new double[capacity];
+		t0 = new double[capacity];
+		vx = new double[capacity];
+		vy = new double[capacity];
+		tn = new double[capacity];
+		sn = new int[capacity];
+		heap = new int[capacity];
+		slot = new int[capacity];
+	}
+
+	// Starts body i from (x, y) now, and finds its next impact.
+	private void	place(int i, double x, double y, double dx, double dy)
+	{
+		x0[i] = x;
+		y0[i] = y;
+		t0[i] = time;
+		vx[i] = dx;
+		vy[i] = dy;
+
+		plan(i);
+		sift(i);
+	}
+
+	// The next side that body i will hit, from where it was last placed.
+	private void	plan(int i)
+	{
+		int	s = polygon.getFirstSide(x0[i], y0[i], vx[i], vy[i]);
+
+		sn[i] = s;
+		tn[i] = ((s < 0) ? Double.POSITIVE_INFINITY :
+				 t0[i] + polygon.getTime(s, x0[i], y0[i], vx[i], vy[i]));
+	}
+
+	// Moves body i to its impact, which is now, and reflects it.
+	private void	impact(int i)
+	{
+		int		n = polygon.size();
+		int		s = sn[i];
+		int		a = ((s > 0) ? s - 1 : n - 1);		// Vertex at side start
+		double	x = x0[i] + vx[i] * (time - t0[i]);
+		double	y = y0[i] + vy[i] * (time - t0[i]);
+
+		// How far along the side, from 0 at its start to 1 at its end
+		double	ex = polygon.getX(s) - polygon.getX(a);
+		double	ey = polygon.getY(s) - polygon.getY(a);
+		double	u = ((x - polygon.getX(a)) * ex + (y - polygon.getY(a)) * ey) /
+			(ex * ex + ey * ey);
+
+		if (u <= EPS)								// Corner with side a
+		{
+			x = polygon.getX(a);
+			y = polygon.getY(a);
+			reflect(i, s, a);
+		}
+		else if (u >= 1.0 - EPS)					// Corner with side s+1
+		{
+			x = polygon.getX(s);
+			y = polygon.getY(s);
+			reflect(i, s, ((s + 1 < n) ? s + 1 : 0));
+		}
+		else
+		{
+			reflect(i, s);
+		}
+
+		x0[i] = x;
+		y0[i] = y;
+		t0[i] = time;
+		bounces++;
+
+		plan(i);
+	}
+
+	// Reflects body i's velocity off side s.
+	private void	reflect(int i, int s)
+	{
+		double	nx = polygon.getNormalX(s);
+		double	ny = polygon.getNormalY(s);
+		double	dot = vx[i] * nx + vy[i] * ny;
+
+		vx[i] -= 2.0 * dot * nx;
+		vy[i] -= 2.0 * dot * ny;
+	}
+
+	// Reflects body i's velocity at the corner between sides s and c, about
+	// the bisector, then off either side until it heads into both.
+	private void	reflect(int i, int s, int c)
+	{
+		double	mx = polygon.getNormalX(s) + polygon.getNormalX(c);
+		double	my = polygon.getNormalY(s) + polygon.getNormalY(c);
+		double	mm = Math.sqrt(mx * mx + my * my);
+
+		if (mm > 0.0)
+		{
+			double	dot = (vx[i] * mx + vy[i] * my) / mm;
+
+			vx[i] -= 2.0 * dot * mx / mm;
+			vy[i] -= 2.0 * dot * my / mm;
+		}
+
+		for (int k=0; k<MAX_WEDGE; k++)
+		{
+			if (vx[i] * polygon.getNormalX(s) +
+				vy[i] * polygon.getNormalY(s) < 0.0)
+				reflect(i, s);
+			else if (vx[i] * polygon.getNormalX(c) +
+					 vy[i] * polygon.getNormalY(c) < 0.0)
+				reflect(i, c);
+			else
+				break;
+		}
+
+		corners++;
+	}
+
+	// Restores the heap after body i's next impact time changes.
+	private void	sift(int i)
+	{
+		int		k = slot[i];
+		double	t = tn[i];
+
+		while (k > 0)								// Up
+		{
+			int	p = (k - 1) >>> 1;
+
+			if (tn[heap[p]] <= t)
+				break;
+
+			heap[k] = heap[p];
+			slot[heap[k]] = k;
+			k = p;
+		}
+
+		while (true)								// Down
+		{
+			int	c = 2 * k + 1;
+
+			if (c >= count)
+				break;
+
+			if ((c + 1 < count) && (tn[heap[c + 1]] < tn[heap[c]]))
+				c++;
+
+			if (tn[heap[c]] >= t)
+				break;
+
+			heap[k] = heap[c];
+			slot[heap[k]] = k;
+			k = c;
+		}
+
+		heap[k] = i;
+		slot[i] = k;
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,577 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+// 20261017 [cg]:	Give back a cached cylinder when disposed.
+// 20261017 [cg]:	Don't allocate the attribute list on every draw.
+//
+//******************************************************************************
+// Notes:
+//
+// A node that draws many copies of one Cylinder, each with its own matrix
+// (relative to the node) and emission color, in place of a node per copy.
+// Copies share the cylinder's meshes and textures, like Logs that differ
+// only in placement and glow. Group copies by number of slices.
+//
+// The copies are packed into one vertex buffer, STRIDE floats each: the
+// matrix, the emission color, and the normal matrix (the inverse transpose
+// of the matrix's upper 3x3, so that scaled copies light correctly). When
+// the GL has glDrawElementsInstanced() and glVertexAttribDivisor(), each
+// part of the cylinder is drawn once for all copies, through a small GLSL
+// 1.20 program that reads the copies as per-instance attributes and does
+// the same per-vertex lighting as the fixed-function pipeline: the current
+// material, lights enabled with Lighting.setLight(), attenuation, spotlights,
+// and modulated texturing. Otherwise, or if the program won't compile, it
+// falls back to drawing the copies one after another.
+//
+// The node's bounds cover every copy. They only grow until clear(). Node's
+// dispose() deletes the vertex buffer, and gives the cylinder back to the
+// CylinderCache it came from, if any.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.nio.FloatBuffer;
+import java.util.*;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.*;
+import com.jogamp.opengl.util.texture.Texture;
+
+//******************************************************************************
+
+/**
+ * The <CODE>InstancedCylinders</CODE> class is a Node that draws many
+ * copies of a cylinder at once.<P>
+ *
+ * @version %I%, %G%
+ */
+public class InstancedCylinders extends Node
+{
+	//**********************************************************************
+	// Public Class Members
+	//**********************************************************************
+
+	public static final int		STRIDE = 32;		// Floats per copy
+
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int		BYTES = STRIDE * Buffers.SIZEOF_FLOAT;
+
+	// Offsets into each copy, in floats
+	private static final int		EMISSION = 16;
+	private static final int		NORMALS = 20;
+
+	// Attribute locations, clear of those NVIDIA aliases to the
+	// fixed-function arrays in use (0, 2, and 8 for vertex, normal, and
+	// texture coordinates)
+	private static final int		EMISSION_ATTRIB = 1;
+	private static final int		WORLD_ATTRIB = 4;		// 4 columns
+	private static final int		NORMALS_ATTRIB = 9;		// 3 columns
+
+	// Every attribute location used, for putting them back after drawing
+	private static final int[]		USED_ATTRIBS =
+	{
+		EMISSION_ATTRIB, WORLD_ATTRIB, WORLD_ATTRIB + 1, WORLD_ATTRIB + 2,
+		WORLD_ATTRIB + 3, NORMALS_ATTRIB, NORMALS_ATTRIB + 1,
+		NORMALS_ATTRIB + 2,
+	};
+
+	private static final String		VERTEX_SHADER =
+		"#version 120\n" +
+		"attribute vec4  emission;\n" +
+		"attribute mat4  world;\n" +
+		"attribute mat3  normals;\n" +
+		"uniform float   lit[8];\n" +
+		"varying vec4    color;\n" +
+		"void main()\n" +
+		"{\n" +
+		"  vec4  p = gl_ModelViewMatrix * (world * gl_Vertex);\n" +
+		"  vec3  n = normalize(gl_NormalMatrix * (normals * gl_Normal));\n" +
+		"  vec4  c = gl_FrontLightModelProduct.sceneColor + emission;\n" +
+		"  for (int i=0; i<8; i++)\n" +
+		"  {\n" +
+		"    if (lit[i] == 0.0) continue;\n" +
+		"    vec4   q = gl_LightSource[i].position;\n" +
+		"    vec3   l = normalize(q.xyz);\n" +
+		"    float  a = 1.0;\n" +
+		"    if (q.w != 0.0)\n" +
+		"    {\n" +
+		"      vec3   d = q.xyz / q.w - p.xyz / p.w;\n" +
+		"      float  r = length(d);\n" +
+		"      l = d / r;\n" +
+		"      a = 1.0 / (gl_LightSource[i].constantAttenuation +\n" +
+		"                 gl_LightSource[i].linearAttenuation * r +\n" +
+		"                 gl_LightSource[i].quadraticAttenuation * r * r);\n" +
+		"      if (gl_LightSource[i].spotCutoff <= 90.0)\n" +
+		"      {\n" +
+		"        float  s = dot(-l, normalize(\n" +
+		"                       gl_LightSource[i].spotDirection));\n" +
+		"        a *= ((s < gl_LightSource[i].spotCosCutoff) ? 0.0 :\n" +
+		"              pow(s, gl_LightSource[i].spotExponent));\n" +
+		"      }\n" +
+		"    }\n" +
+		"    float  nl = max(dot(n, l), 0.0);\n" +
+		"    vec4   t = gl_FrontLightProduct[i].ambient +\n" +
+		"               nl * gl_FrontLightProduct[i].diffuse;\n" +
+		"    if (nl > 0.0)\n" +
+		"      t += pow(max(dot(n, normalize(l + vec3(0.0, 0.0, 1.0))),\n" +
+		"                   0.0), gl_FrontMaterial.shininess) *\n" +
+		"           gl_FrontLightProduct[i].specular;\n" +
+		"    c += a * t;\n" +
+		"  }\n" +
+		"  color = vec4(clamp(c.rgb, 0.0, 1.0),\n" +
+		"               gl_FrontMaterial.diffuse.a);\n" +
+		"  gl_TexCoord[0] = gl_MultiTexCoord0;\n" +
+		"  gl_Position = gl_ProjectionMatrix * p;\n" +
+		"}\n";
+
+	private static final String		FRAGMENT_SHADER =
+		"#version 120\n" +
+		"uniform sampler2D  image;\n" +
+		"varying vec4       color;\n" +
+		"void main()\n" +
+		"{\n" +
+		"  gl_FragColor = color * texture2D(image, gl_TexCoord[0].st);\n" +
+		"}\n";
+
+	// Programs by GLContext, or null where they can't be built
+	private static final Map<Object, Program>	PROGRAMS =
+		new WeakHashMap<Object, Program>();
+
+	private static boolean				instancing = true;
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private final CylinderCache		cache;		// Cylinder's, or null
+	private final Cylinder			cylinder;	// Shared by all copies
+	private final int				around;		// Texture indices
+	private final int				bottom;
+	private final int				top;
+
+	private float[]				data;		// Copies, STRIDE floats each
+	private float[][]				emits;		// For the fallback
+	private int					count;		// Number of copies
+	private final float[]			box;		// Around every copy
+
+	// Vertex buffer of the copies, uploaded when changed
+	private FloatBuffer			stream;
+	private final int[]			ids;
+	private GLContext				context;	// Where ids[0] is valid
+	private boolean				uploaded;
+	private boolean				changed;
+
+	// Scratch
+	private final float[]			m;
+	private final float[]			temp;
+	private final float[]			inverse;
+	private final float[]			piece;
+	private final float[]			lit;
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// Copies of the cylinder, textured with textures[around] around the
+	// sides and textures[bottom] and textures[top] on the ends.
+	public InstancedCylinders(Texture[] textures, Cylinder cylinder,
+							  int around, int bottom, int top)
+	{
+		this(textures, null, cylinder, around, bottom, top);
+	}
+
+	// Copies of a cylinder acquired from the cache, which dispose() releases.
+	public InstancedCylinders(Texture[] textures, CylinderCache cache,
+							  Cylinder cylinder, int around, int bottom,
+							  int top)
+	{
+		super(textures);
+
+		this.cache = cache;
+		this.cylinder = cylinder;
+		this.around = around;
+		this.bottom = bottom;
+		this.top = top;
+
+		data = new float[16 * STRIDE];
+		emits = new float[16][];
+		box = new float[6];
+		ids = new int[1];
+		m = new float[16];
+		temp = new float[16];
+		inverse = new float[16];
+		piece = new float[6];
+		lit = new float[8];
+
+		clear();
+	}
+
+	//**********************************************************************
+	// Class Getters and Setters
+	//**********************************************************************
+
+	public static boolean	isInstancing()
+	{
+		return instancing;
+	}
+
+	// Turns instanced drawing off, to compare with the fallback.
+	public static void		setInstancing(boolean instancing)
+	{
+		InstancedCylinders.instancing = instancing;
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public int		getInstanceCount()
+	{
+		return count;
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Adds a copy with the transforms listed in the order they'd be pushed
+	// on a Node. Returns its index.
+	public int		add(float[] emit, Transform... pushed)
+	{
+		compose(pushed);
+
+		return add(m, emit);
+	}
+
+	// Adds a copy with the given matrix and emission color (null for none).
+	// Returns its index.
+	public int		add(float[] matrix, float[] emit)
+	{
+		if (count == emits.length)
+		{
+			data = Arrays.copyOf(data, 2 * count * STRIDE);
+			emits = Arrays.copyOf(emits, 2 * count);
+		}
+
+		set(count++, matrix, emit);
+
+		return count - 1;
+	}
+
+	// Changes a copy, with transforms as in add().
+	public void	set(int i, float[] emit, Transform... pushed)
+	{
+		compose(pushed);
+		set(i, m, emit);
+	}
+
+	// Changes a copy's matrix and emission color (null for none).
+	public void	set(int i, float[] matrix, float[] emit)
+	{
+		int	k = i * STRIDE;
+
+		if (emit == null)
+			emit = Lighting.DEFAULT_EMISSION;
+
+		System.arraycopy(matrix, 0, data, k, 16);
+		System.arraycopy(emit, 0, data, k + EMISSION, 4);
+
+		// Normal matrix, the transpose of the inverse's upper 3x3
+		if (!Matrix.invert(matrix, inverse))
+			Matrix.copy(matrix, inverse);
+
+		for (int c=0; c<3; c++)
+			for (int r=0; r<3; r++)
+				data[k + NORMALS + 3 * c + r] = inverse[4 * r + c];
+
+		if (emits[i] == null)
+			emits[i] = new float[4];
+
+		System.arraycopy(emit, 0, emits[i], 0, 4);
+
+		// Grow the bounds
+		cylinder.getBounds(piece);
+		Matrix.transformBounds(matrix, piece, piece);
+
+		for (int c=0; c<3; c++)
+		{
+			box[c] = Math.min(box[c], piece[c]);
+			box[3 + c] = Math.max(box[3 + c], piece[3 + c]);
+		}
+
+		setBounds(box);
+		changed = true;
+	}
+
+	// Removes every copy.
+	public void	clear()
+	{
+		count = 0;
+		box[0] = box[1] = box[2] = Float.POSITIVE_INFINITY;
+		box[3] = box[4] = box[5] = Float.NEGATIVE_INFINITY;
+		setEmptyBounds();
+		changed = true;
+	}
+
+	//**********************************************************************
+	// Override Methods (Node)
+	//**********************************************************************
+
+	// Release the vertex buffer, and the cylinder if it came from a cache.
+	// Only a node with its own cylinder can be drawn again afterward.
+	protected void	release(GL2 gl)
+	{
+		if (uploaded && (context == gl.getContext()))
+			gl.glDeleteBuffers(1, ids, 0);
+
+		context = null;
+		uploaded = false;
+
+		if (cache != null)
+			cache.release(gl, cylinder);
+	}
+
+	protected void	depict(GL2 gl)
+	{
+		if (count == 0)
+			return;
+
+		// Default material, with each copy's emission
+		Lighting.setMaterial(gl, null, null, null, null, null);
+
+		Program	program = (instancing ? getProgram(gl) : null);
+
+		LevelOfDetail.count((long)cylinder.getTriangleCount() * count);
+
+		if (program == null)
+			drawEach(gl);
+		else
+			drawInstanced(gl, program);
+	}
+
+	protected Texture	getTextureKey()
+	{
+		return getTexture(around);
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	// Set m to the product of the transforms in pushed order, as in Node.
+	private void	compose(Transform[] pushed)
+	{
+		Matrix.identity(m);
+
+		for (Transform t : pushed)
+		{
+			t.getForward(temp);
+			Matrix.multiply(temp, m, m);
+		}
+	}
+
+	private void	drawEach(GL2 gl)
+	{
+		Texture	a = getTexture(around);
+		Texture	b = getTexture(bottom);
+		Texture	c = getTexture(top);
+
+		for (int i=0; i<count; i++)
+		{
+			gl.glPushMatrix();
+			gl.glMultMatrixf(data, i * STRIDE);
+			Lighting.setMaterial(gl, null, null, null, null, emits[i]);
+			cylinder.fillAll(gl, a, b, c);
+			gl.glPopMatrix();
+		}
+	}
+
+	private void	drawInstanced(GL2 gl, Program program)
+	{
+		upload(gl);
+
+		gl.glUseProgram(program.id);
+
+		for (int i=0; i<8; i++)
+			lit[i] = (gl.glIsEnabled(GL2.GL_LIGHT0 + i) ? 1.0f : 0.0f);
+
+		gl.glUniform1fv(program.lit, 8, lit, 0);
+
+		gl.glBindBuffer(GL.GL_ARRAY_BUFFER, ids[0]);
+
+		attribute(gl, EMISSION_ATTRIB, 4, EMISSION);
+
+		for (int c=0; c<4; c++)
+			attribute(gl, WORLD_ATTRIB + c, 4, 4 * c);
+
+		for (int c=0; c<3; c++)
+			attribute(gl, NORMALS_ATTRIB + c, 3, NORMALS + 3 * c);
+
+		gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+
+		cylinder.fillInstanced(gl, getTexture(around), getTexture(bottom),
+							   getTexture(top), count);
+
+		// Divisors stick to the attribute locations, so put them back
+		for (int index : USED_ATTRIBS)
+		{
+			gl.glVertexAttribDivisor(index, 0);
+			gl.glDisableVertexAttribArray(index);
+		}
+
+		gl.glUseProgram(0);
+	}
+
+	private void	attribute(GL2 gl, int index, int size, int offset)
+	{
+		gl.glEnableVertexAttribArray(index);
+		gl.glVertexAttribPointer(index, size, GL.GL_FLOAT, false, BYTES,
+								 offset * Buffers.SIZEOF_FLOAT);
+		gl.glVertexAttribDivisor(index, 1);
+	}
+
+	private void	upload(GL2 gl)
+	{
+		if (!uploaded || (context != gl.getContext()))
+		{
+			gl.glGenBuffers(1, ids, 0);
+			context = gl.getContext();
+			uploaded = true;
+			changed = true;
+		}
+
+		if (!changed)
+			return;
+
+		if ((stream == null) || (stream.capacity() < count * STRIDE))
+			stream = Buffers.newDirectFloatBuffer(data.length);
+
+		stream.clear();
+		stream.put(data, 0, count * STRIDE);
+		stream.flip();
+
+		gl.glBindBuffer(GL.GL_ARRAY_BUFFER, ids[0]);
+		gl.glBufferData(GL.GL_ARRAY_BUFFER, (long)count * BYTES, stream,
+						GL.GL_STATIC_DRAW);
+		gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+
+		changed = false;
+	}
+
+	//**********************************************************************
+	// Private Class Methods (Program)
+	//**********************************************************************
+
+	// The program for the GL's context, built on first use. Null if the GL
+	// can't draw instances or the program doesn't build.
+	private static Program	getProgram(GL2 gl)
+	{
+		if (!Mesh.isAvailable(gl) ||
+			!gl.isFunctionAvailable("glDrawElementsInstanced") ||
+			!gl.isFunctionAvailable("glVertexAttribDivisor"))
+			return null;
+
+		GLContext	context = gl.getContext();
+		Object		key = ((context != null) ? context : gl);
+
+		synchronized (PROGRAMS)
+		{
+			if (!PROGRAMS.containsKey(key))
+				PROGRAMS.put(key, Program.build(gl));
+
+			return PROGRAMS.get(key);
+		}
+	}
+
+	//**********************************************************************
+	// Private Inner Classes
+	//**********************************************************************
+
+	// A linked program and its uniform locations.
+	private static final class Program
+	{
+		public final int	id;
+		public final int	lit;
+
+		private Program(int id, int lit)
+		{
+			this.id = id;
+			this.lit = lit;
+		}
+
+		public static Program	build(GL2 gl)
+		{
+			int	vs = compile(gl, GL2.GL_VERTEX_SHADER, VERTEX_SHADER);
+			int	fs = compile(gl, GL2.GL_FRAGMENT_SHADER, FRAGMENT_SHADER);
+
+			if ((vs == 0) || (fs == 0))
+				return null;
+
+			int	id = gl.glCreateProgram();
+
+			gl.glAttachShader(id, vs);
+			gl.glAttachShader(id, fs);
+			gl.glBindAttribLocation(id, EMISSION_ATTRIB, "emission");
+			gl.glBindAttribLocation(id, WORLD_ATTRIB, "world");
+			gl.glBindAttribLocation(id, NORMALS_ATTRIB, "normals");
+			gl.glLinkProgram(id);
+			gl.glDeleteShader(vs);					// Freed with program
+			gl.glDeleteShader(fs);
+
+			int[]	status = new int[1];
+
+			gl.glGetProgramiv(id, GL2.GL_LINK_STATUS, status, 0);
+
+			if (status[0] == GL.GL_FALSE)
+			{
+				System.err.println("InstancedCylinders: link failed, " +
+								   "drawing copies one at a time");
+				gl.glDeleteProgram(id);
+				return null;
+			}
+
+			gl.glUseProgram(id);
+			gl.glUniform1i(gl.glGetUniformLocation(id, "image"), 0);
+			gl.glUseProgram(0);
+
+			return new Program(id, gl.glGetUniformLocation(id, "lit"));
+		}
+
+		private static int	compile(GL2 gl, int type, String source)
+		{
+			int		shader = gl.glCreateShader(type);
+			int[]	status = new int[1];
+
+			gl.glShaderSource(shader, 1, new String[] { source },
+							  (int[])null, 0);
+			gl.glCompileShader(shader);
+			gl.glGetShaderiv(shader, GL2.GL_COMPILE_STATUS, status, 0);
+
+			if (status[0] != GL.GL_FALSE)
+				return shader;
+
+			int[]	length = new int[1];
+
+			gl.glGetShaderiv(shader, GL2.GL_INFO_LOG_LENGTH, length, 0);
+
+			byte[]	log = new byte[Math.max(1, length[0])];
+
+			gl.glGetShaderInfoLog(shader, log.length, length, 0, log, 0);
+			System.err.println("InstancedCylinders: compile failed, " +
+							   "drawing copies one at a time\n" +
+							   new String(log, 0, length[0]));
+			gl.glDeleteShader(shader);
+
+			return 0;
+		}
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,265 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Picks one of several tessellations of a round shape for a node, from finest
+// to coarsest, by the size of the node on screen. The size is the diameter in
+// pixels of the sphere around the node's own bounds, projected at the
+// distance of its center. A level with n slices is used until its slices
+// would be more than EDGE pixels apart around the middle, that is, up to a
+// size of n * EDGE / pi pixels.
+//
+// To keep nodes near a limit from switching back and forth every frame, a
+// node only goes to a finer level when it is HYSTERESIS larger than the limit
+// and only goes back when it is HYSTERESIS smaller.
+//
+// Selection needs the camera, so call setView() with the CPU copies of the
+// projection and camera matrices at the start of each frame. Until then,
+// nodes use their finest level. setView() also ends the previous frame's
+// triangle count, which nodes add to with count() as they draw. With a
+// budget set, the sizes used for selection are scaled down a little each
+// frame while the count is over the budget, and back up while it's well
+// under, so that large scenes coarsen as a whole rather than by draw order.
+//
+// Counts and camera are shared by all nodes, so use them from one thread.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>LevelOfDetail</CODE> class chooses tessellations by screen
+ * size.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class LevelOfDetail
+{
+	//**********************************************************************
+	// Public Class Members
+	//**********************************************************************
+
+	public static final float		EDGE = 6.0f;		// Pixels per slice
+	public static final float		HYSTERESIS = 0.15f;	// Fraction of limit
+	public static final int		MIN_SLICES = 8;		// For levels()
+
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final float		MIN_BIAS = 1.0f / 16.0f;
+	private static final float		STEP = 0.9f;		// Bias change/frame
+
+	private static final float[]	eye = new float[3];	// Camera in world
+	private static final float[]	inverse = new float[16];
+	private static float			scale;			// Pixels per unit/depth
+	private static boolean			viewing;		// setView() was called
+
+	private static long			triangles;		// This frame so far
+	private static long			total;			// Last frame
+	private static long			budget = Long.MAX_VALUE;
+	private static float			bias = 1.0f;	// Budget scale on sizes
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private final int[]			slices;		// Finest to coarsest
+	private final float[]			limits;		// Largest size per level
+	private int					level;		// Last selected
+
+	// Scratch
+	private final float[]			world;
+	private final float[]			box;
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// Selects among levels with the given numbers of slices, which must be
+	// in decreasing order.
+	public LevelOfDetail(int[] slices)
+	{
+		this.slices = slices.clone();
+
+		limits = new float[slices.length];
+
+		for (int i=0; i<slices.length; i++)
+			limits[i] = (float)(slices[i] * EDGE / Math.PI);
+
+		world = new float[16];
+		box = new float[6];
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public int		getCount()
+	{
+		return slices.length;
+	}
+
+	public int		getSlices(int level)
+	{
+		return slices[level];
+	}
+
+	// The level chosen by the last select().
+	public int		getLevel()
+	{
+		return level;
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Chooses a level for the node from its size on screen. Call as it's
+	// drawn, after the scene has been prepared for rendering.
+	public int		select(Node node)
+	{
+		if (!viewing || !node.getOwnBounds(box))
+			return (level = 0);
+
+		node.getWorldMatrix(world);
+
+		// Center and radius of the bounding sphere, in world coordinates
+		float	cx = 0.5f * (box[0] + box[3]);
+		float	cy = 0.5f * (box[1] + box[4]);
+		float	cz = 0.5f * (box[2] + box[5]);
+		float	wx = world[0] * cx + world[4] * cy + world[8] * cz + world[12];
+		float	wy = world[1] * cx + world[5] * cy + world[9] * cz + world[13];
+		float	wz = world[2] * cx + world[6] * cy + world[10] * cz + world[14];
+
+		float	dx = 0.5f * (box[3] - box[0]);
+		float	dy = 0.5f * (box[4] - box[1]);
+		float	dz = 0.5f * (box[5] - box[2]);
+		float	r = (float)Math.sqrt(dx * dx + dy * dy + dz * dz) *
+			getScale(world);
+
+		float	ex = wx - eye[0];
+		float	ey = wy - eye[1];
+		float	ez = wz - eye[2];
+		float	d = (float)Math.sqrt(ex * ex + ey * ey + ez * ez);
+
+		if (d <= r)									// Camera inside
+			return (level = 0);
+
+		float	size = 2.0f * r * scale * bias / d;
+
+		// Finer while well over the limit, coarser while well under
+		while ((level > 0) && (size > limits[level] * (1.0f + HYSTERESIS)))
+			level--;
+
+		while ((level < limits.length - 1) &&
+			   (size < limits[level + 1] * (1.0f - HYSTERESIS)))
+			level++;
+
+		return level;
+	}
+
+	//**********************************************************************
+	// Public Class Methods
+	//**********************************************************************
+
+	// Sets the camera for the frame about to be drawn, from the projection
+	// and camera (modelview) matrices and the viewport height in pixels, and
+	// ends the triangle count of the previous frame.
+	public static void	setView(float[] projection, float[] camera,
+									int height)
+	{
+		if (Matrix.invert(camera, inverse))
+		{
+			eye[0] = inverse[12];
+			eye[1] = inverse[13];
+			eye[2] = inverse[14];
+			scale = 0.5f * projection[5] * height;
+			viewing = true;
+		}
+
+		total = triangles;
+		triangles = 0;
+
+		if (total > budget)
+			bias = Math.max(MIN_BIAS, bias * STEP);
+		else if (total < budget * STEP * STEP)
+			bias = Math.min(1.0f, bias / STEP);
+	}
+
+	// Adds triangles drawn to the current frame's count.
+	public static void	count(long n)
+	{
+		triangles += n;
+	}
+
+	// Triangles drawn in the last whole frame.
+	public static long	getTriangleCount()
+	{
+		return total;
+	}
+
+	public static long	getBudget()
+	{
+		return budget;
+	}
+
+	// Limits the triangles per frame, or Long.MAX_VALUE for no limit.
+	public static void	setBudget(long budget)
+	{
+		LevelOfDetail.budget = budget;
+
+		if (budget == Long.MAX_VALUE)
+			bias = 1.0f;
+	}
+
+	// Current scale on sizes from the budget, 1 when within it.
+	public static float	getBias()
+	{
+		return bias;
+	}
+
+	// Slice counts from the given one, halving down to MIN_SLICES. Shapes
+	// with fewer slices than that keep them, since they're meant to look
+	// jagged.
+	public static int[]	levels(int slices)
+	{
+		int	n = 1;
+
+		for (int s=slices; s / 2 >= MIN_SLICES; s /= 2)
+			n++;
+
+		int[]	levels = new int[n];
+
+		for (int i=0; i<n; i++)
+			levels[i] = slices >> i;
+
+		return levels;
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	// Largest scale along any axis of the matrix.
+	private static float	getScale(float[] m)
+	{
+		float	sx = m[0] * m[0] + m[1] * m[1] + m[2] * m[2];
+		float	sy = m[4] * m[4] + m[5] * m[5] + m[6] * m[6];
+		float	sz = m[8] * m[8] + m[9] * m[9] + m[10] * m[10];
+
+		return (float)Math.sqrt(Math.max(sx, Math.max(sy, sz)));
+	}
+}
+
+//******************************************************************************
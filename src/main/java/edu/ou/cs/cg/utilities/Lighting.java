@@ -6,14 +6,26 @@
 // Major Modification History:
 //
 // 20200410 [weaver]:	Original file.
+// 20261017 [cg]:		Skip material and light calls that change nothing.
 //
 //******************************************************************************
+// Notes:
+//
+// The last values sent for each material and light parameter are shadowed
+// per OpenGL context, and calls that would send the same values again are
+// skipped. Light positions and spot directions are always sent, because
+// OpenGL transforms them by the modelview matrix at the time of the call.
+//
+// Code that calls glMaterialfv() or glLightfv() directly, or enables
+// GL_COLOR_MATERIAL, makes the shadow values stale. Call invalidate() after
+// doing that, or turn filtering off with setFiltering(false).
 //
 //******************************************************************************
 
 package edu.ou.cs.cg.utilities;
 
 //import java.lang.*;
+import java.util.*;
 import com.jogamp.opengl.*;
 
 //******************************************************************************
@@ -39,6 +51,58 @@ public final class Lighting
 	public static final float[]	DEFAULT_EMISSION =
 		new float[] { 0.0f, 0.0f, 0.0f, 1.0f };
 
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	// Material parameters in the order of the shadow arrays
+	private static final int[]		MATERIAL = new int[]
+	{
+		GL2.GL_AMBIENT, GL2.GL_DIFFUSE, GL2.GL_SPECULAR,
+		GL2.GL_SHININESS, GL2.GL_EMISSION,
+	};
+
+	// Shadow state by GLContext (or by GL2, if it has no context)
+	private static final Map<Object, State>	STATES =
+		new WeakHashMap<Object, State>();
+
+	private static boolean		filtering = true;
+	private static long		issued;		// Parameter calls sent
+	private static long		skipped;	// Parameter calls not sent
+
+	//**********************************************************************
+	// Public Class Methods (Filtering)
+	//**********************************************************************
+
+	public static void		setFiltering(boolean filtering)
+	{
+		Lighting.filtering = filtering;
+	}
+
+	// Forget the values last sent in gl's context, so all are sent next time.
+	public static void		invalidate(GL2 gl)
+	{
+		STATES.remove(getKey(gl));
+	}
+
+	// Number of glMaterialfv() and glLightfv() calls sent.
+	public static long		getIssuedCount()
+	{
+		return issued;
+	}
+
+	// Number of glMaterialfv() and glLightfv() calls skipped as redundant.
+	public static long		getSkippedCount()
+	{
+		return skipped;
+	}
+
+	public static void		resetCounts()
+	{
+		issued = 0;
+		skipped = 0;
+	}
+
 	//**********************************************************************
 	// Public Class Methods
 	//**********************************************************************
@@ -50,20 +114,24 @@ public final class Lighting
 	{
 		gl.glEnable(light);
 
+		int		i = light - GL2.GL_LIGHT0;
+		float[][]	shadow = (((i >= 0) && (i < 8)) ?
+							  getState(gl).lights[i] : null);
+
 		if (lp != null)
-			gl.glLightfv(light, GL2.GL_POSITION, lp, 0);
+			issue(gl, light, GL2.GL_POSITION, lp);
 
 		if (li != null)
-			gl.glLightfv(light, GL2.GL_DIFFUSE, li, 0);
+			light(gl, shadow, 0, light, GL2.GL_DIFFUSE, li);
 
 		if (ld != null)
-			gl.glLightfv(light, GL2.GL_SPOT_DIRECTION, ld, 0);
+			issue(gl, light, GL2.GL_SPOT_DIRECTION, ld);
 
 		if (lc != null)
-			gl.glLightfv(light, GL2.GL_SPOT_CUTOFF, lc, 0);
+			light(gl, shadow, 1, light, GL2.GL_SPOT_CUTOFF, lc);
 
 		if (le != null)
-			gl.glLightfv(light, GL2.GL_SPOT_EXPONENT, le, 0);
+			light(gl, shadow, 2, light, GL2.GL_SPOT_EXPONENT, le);
 	}
 
 	// Convenience method for setting all five material parameters.
@@ -71,20 +139,102 @@ public final class Lighting
 	public static void	setMaterial(GL2 gl, float[] ambi, float[] diff,
 									float[] spec, float[] shin, float[] emit)
 	{
-		gl.glMaterialfv(GL.GL_FRONT_AND_BACK, GL2.GL_AMBIENT,
-						((ambi == null) ? DEFAULT_AMBIENT : ambi), 0);
+		float[][]	shadow = getState(gl).material;
 
-		gl.glMaterialfv(GL.GL_FRONT_AND_BACK, GL2.GL_DIFFUSE,
-						((diff == null) ? DEFAULT_DIFFUSE : diff), 0);
+		material(gl, shadow, 0, ((ambi == null) ? DEFAULT_AMBIENT : ambi));
+		material(gl, shadow, 1, ((diff == null) ? DEFAULT_DIFFUSE : diff));
+		material(gl, shadow, 2, ((spec == null) ? DEFAULT_SPECULAR : spec));
+		material(gl, shadow, 3, ((shin == null) ? DEFAULT_SHININESS : shin));
+		material(gl, shadow, 4, ((emit == null) ? DEFAULT_EMISSION : emit));
+	}
 
-		gl.glMaterialfv(GL.GL_FRONT_AND_BACK, GL2.GL_SPECULAR,
-						((spec == null) ? DEFAULT_SPECULAR : spec), 0);
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
 
-		gl.glMaterialfv(GL.GL_FRONT_AND_BACK, GL2.GL_SHININESS,
-						((shin == null) ? DEFAULT_SHININESS : shin), 0);
+	private static Object	getKey(GL2 gl)
+	{
+		GLContext	context = gl.getContext();
+
+		return ((context != null) ? context : gl);
+	}
+
+	private static State	getState(GL2 gl)
+	{
+		Object	key = getKey(gl);
+		State	state = STATES.get(key);
+
+		if (state == null)
+			STATES.put(key, state = new State());
+
+		return state;
+	}
+
+	private static void	material(GL2 gl, float[][] shadow, int i, float[] v)
+	{
+		if (filtering && !update(shadow, i, v))
+		{
+			skipped++;
+			return;
+		}
+
+		gl.glMaterialfv(GL.GL_FRONT_AND_BACK, MATERIAL[i], v, 0);
+		issued++;
+	}
+
+	private static void	light(GL2 gl, float[][] shadow, int i, int light,
+							  int pname, float[] v)
+	{
+		if (filtering && (shadow != null) && !update(shadow, i, v))
+		{
+			skipped++;
+			return;
+		}
+
+		issue(gl, light, pname, v);
+	}
 
-		gl.glMaterialfv(GL.GL_FRONT_AND_BACK, GL2.GL_EMISSION,
-						((emit == null) ? DEFAULT_EMISSION : emit), 0);
+	private static void	issue(GL2 gl, int light, int pname, float[] v)
+	{
+		gl.glLightfv(light, pname, v, 0);
+		issued++;
+	}
+
+	// Copy v into shadow[i] if they differ. Returns true if they did.
+	private static boolean	update(float[][] shadow, int i, float[] v)
+	{
+		float[]	s = shadow[i];
+
+		if ((s != null) && (s.length == v.length))
+		{
+			boolean	same = true;
+
+			for (int k=0; k<v.length; k++)
+				if (Float.floatToIntBits(s[k]) != Float.floatToIntBits(v[k]))
+					same = false;
+
+			if (same)
+				return false;
+		}
+		else
+		{
+			s = shadow[i] = new float[v.length];
+		}
+
+		System.arraycopy(v, 0, s, 0, v.length);
+
+		return true;
+	}
+
+	//**********************************************************************
+	// Private Inner Classes
+	//**********************************************************************
+
+	// The values last sent in one context. Null means unknown.
+	private static final class State
+	{
+		private final float[][]	material = new float[5][];
+		private final float[][][]	lights = new float[8][3][];	// li, lc, le
 	}
 }
 
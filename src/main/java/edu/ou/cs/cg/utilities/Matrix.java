@@ -0,0 +1,329 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+// 20261017 [cg]:	Added perspective, lookAt, and transformBounds.
+// 20261017 [cg]:	Added unproject.
+//
+//******************************************************************************
+// Notes:
+//
+// Matrices are float[16] arrays in column-major order, the same layout that
+// glLoadMatrixf() and glMultMatrixf() expect. Element (row r, column c) is at
+// index c * 4 + r. None of the methods allocate, so they are safe to call
+// every frame.
+//
+// Bounds are float[6] arrays holding an axis-aligned box as xmin, ymin,
+// zmin, xmax, ymax, zmax. A box with any min greater than its max is empty.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.util.Arrays;
+
+//******************************************************************************
+
+/**
+ * The <CODE>Matrix</CODE> class provides CPU-side 4x4 matrix math for the
+ * scene graph. It is a collection of static methods that read and write
+ * caller-supplied arrays.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class Matrix
+{
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	private Matrix()
+	{
+	}
+
+	//**********************************************************************
+	// Public Class Methods (Construction)
+	//**********************************************************************
+
+	// Set m to the identity matrix.
+	public static void	identity(float[] m)
+	{
+		m[0] = 1.0f;	m[4] = 0.0f;	m[8]  = 0.0f;	m[12] = 0.0f;
+		m[1] = 0.0f;	m[5] = 1.0f;	m[9]  = 0.0f;	m[13] = 0.0f;
+		m[2] = 0.0f;	m[6] = 0.0f;	m[10] = 1.0f;	m[14] = 0.0f;
+		m[3] = 0.0f;	m[7] = 0.0f;	m[11] = 0.0f;	m[15] = 1.0f;
+	}
+
+	// Copy src into dst.
+	public static void	copy(float[] src, float[] dst)
+	{
+		System.arraycopy(src, 0, dst, 0, 16);
+	}
+
+	// Set m to the matrix that glTranslatef(dx, dy, dz) would multiply by.
+	public static void	translation(float[] m, float dx, float dy, float dz)
+	{
+		identity(m);
+
+		m[12] = dx;
+		m[13] = dy;
+		m[14] = dz;
+	}
+
+	// Set m to the matrix that glScalef(sx, sy, sz) would multiply by.
+	public static void	scaling(float[] m, float sx, float sy, float sz)
+	{
+		identity(m);
+
+		m[0] = sx;
+		m[5] = sy;
+		m[10] = sz;
+	}
+
+	// Set m to the matrix that glRotatef(beta, ux, uy, uz) would multiply by.
+	// The angle is in degrees. The axis doesn't need to be normalized.
+	// www.khronos.org/registry/OpenGL-Refpages/gl2.1/xhtml/glRotate.xml
+	public static void	rotation(float[] m, float beta,
+								 float ux, float uy, float uz)
+	{
+		identity(m);
+
+		float	len = (float)Math.sqrt(ux * ux + uy * uy + uz * uz);
+
+		if (len == 0.0f)
+			return;
+
+		float	x = ux / len;
+		float	y = uy / len;
+		float	z = uz / len;
+
+		double	a = Math.toRadians(beta);
+		float	c = (float)Math.cos(a);
+		float	s = (float)Math.sin(a);
+		float	t = 1.0f - c;
+
+		m[0] = x * x * t + c;		// Column 0
+		m[1] = y * x * t + z * s;
+		m[2] = x * z * t - y * s;
+
+		m[4] = x * y * t - z * s;	// Column 1
+		m[5] = y * y * t + c;
+		m[6] = y * z * t + x * s;
+
+		m[8] = x * z * t + y * s;	// Column 2
+		m[9] = y * z * t - x * s;
+		m[10] = z * z * t + c;
+	}
+
+	// Set m to the matrix that gluPerspective(fovy, aspect, near, far) would
+	// multiply by. The field of view is in degrees.
+	public static void	perspective(float[] m, float fovy, float aspect,
+									float near, float far)
+	{
+		float	f = (float)(1.0 / Math.tan(Math.toRadians(fovy) / 2.0));
+
+		Arrays.fill(m, 0.0f);
+
+		m[0] = f / aspect;
+		m[5] = f;
+		m[10] = (far + near) / (near - far);
+		m[11] = -1.0f;
+		m[14] = (2.0f * far * near) / (near - far);
+	}
+
+	// Set m to the matrix that gluLookAt() would multiply by for an eye at e
+	// looking at c with up direction u.
+	public static void	lookAt(float[] m, float ex, float ey, float ez,
+							   float cx, float cy, float cz,
+							   float ux, float uy, float uz)
+	{
+		float	fx = cx - ex, fy = cy - ey, fz = cz - ez;
+		float	fn = (float)Math.sqrt(fx * fx + fy * fy + fz * fz);
+
+		fx /= fn;
+		fy /= fn;
+		fz /= fn;
+
+		float	sx = fy * uz - fz * uy;				// s = f x u
+		float	sy = fz * ux - fx * uz;
+		float	sz = fx * uy - fy * ux;
+		float	sn = (float)Math.sqrt(sx * sx + sy * sy + sz * sz);
+
+		sx /= sn;
+		sy /= sn;
+		sz /= sn;
+
+		float	vx = sy * fz - sz * fy;				// v = s x f
+		float	vy = sz * fx - sx * fz;
+		float	vz = sx * fy - sy * fx;
+
+		m[0] = sx;	m[4] = sy;	m[8]  = sz;
+		m[1] = vx;	m[5] = vy;	m[9]  = vz;
+		m[2] = -fx;	m[6] = -fy;	m[10] = -fz;
+		m[3] = 0.0f;	m[7] = 0.0f;	m[11] = 0.0f;
+
+		m[12] = -(sx * ex + sy * ey + sz * ez);
+		m[13] = -(vx * ex + vy * ey + vz * ez);
+		m[14] = (fx * ex + fy * ey + fz * ez);
+		m[15] = 1.0f;
+	}
+
+	//**********************************************************************
+	// Public Class Methods (Arithmetic)
+	//**********************************************************************
+
+	// Set out to a * b. The output array may be the same as either input.
+	public static void	multiply(float[] a, float[] b, float[] out)
+	{
+		float	a00 = a[0], a01 = a[4], a02 = a[8],  a03 = a[12];
+		float	a10 = a[1], a11 = a[5], a12 = a[9],  a13 = a[13];
+		float	a20 = a[2], a21 = a[6], a22 = a[10], a23 = a[14];
+		float	a30 = a[3], a31 = a[7], a32 = a[11], a33 = a[15];
+
+		for (int c=0; c<4; c++)
+		{
+			int		k = c * 4;
+			float	b0 = b[k], b1 = b[k + 1], b2 = b[k + 2], b3 = b[k + 3];
+
+			out[k]     = a00 * b0 + a01 * b1 + a02 * b2 + a03 * b3;
+			out[k + 1] = a10 * b0 + a11 * b1 + a12 * b2 + a13 * b3;
+			out[k + 2] = a20 * b0 + a21 * b1 + a22 * b2 + a23 * b3;
+			out[k + 3] = a30 * b0 + a31 * b1 + a32 * b2 + a33 * b3;
+		}
+	}
+
+	// Set out to the inverse of m, by cofactor expansion using 2x2 minors.
+	// The output array may be the same as the input. Returns false, leaving
+	// out unchanged, if m is singular.
+	public static boolean	invert(float[] m, float[] out)
+	{
+		float	a00 = m[0], a01 = m[4], a02 = m[8],  a03 = m[12];
+		float	a10 = m[1], a11 = m[5], a12 = m[9],  a13 = m[13];
+		float	a20 = m[2], a21 = m[6], a22 = m[10], a23 = m[14];
+		float	a30 = m[3], a31 = m[7], a32 = m[11], a33 = m[15];
+
+		// Minors of the top two rows
+		float	s0 = a00 * a11 - a10 * a01;
+		float	s1 = a00 * a12 - a10 * a02;
+		float	s2 = a00 * a13 - a10 * a03;
+		float	s3 = a01 * a12 - a11 * a02;
+		float	s4 = a01 * a13 - a11 * a03;
+		float	s5 = a02 * a13 - a12 * a03;
+
+		// Minors of the bottom two rows
+		float	c0 = a20 * a31 - a30 * a21;
+		float	c1 = a20 * a32 - a30 * a22;
+		float	c2 = a20 * a33 - a30 * a23;
+		float	c3 = a21 * a32 - a31 * a22;
+		float	c4 = a21 * a33 - a31 * a23;
+		float	c5 = a22 * a33 - a32 * a23;
+
+		float	det = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+
+		if (det == 0.0f)
+			return false;
+
+		float	inv = 1.0f / det;
+
+		out[0]  = ( a11 * c5 - a12 * c4 + a13 * c3) * inv;
+		out[4]  = (-a01 * c5 + a02 * c4 - a03 * c3) * inv;
+		out[8]  = ( a31 * s5 - a32 * s4 + a33 * s3) * inv;
+		out[12] = (-a21 * s5 + a22 * s4 - a23 * s3) * inv;
+
+		out[1]  = (-a10 * c5 + a12 * c2 - a13 * c1) * inv;
+		out[5]  = ( a00 * c5 - a02 * c2 + a03 * c1) * inv;
+		out[9]  = (-a30 * s5 + a32 * s2 - a33 * s1) * inv;
+		out[13] = ( a20 * s5 - a22 * s2 + a23 * s1) * inv;
+
+		out[2]  = ( a10 * c4 - a11 * c2 + a13 * c0) * inv;
+		out[6]  = (-a00 * c4 + a01 * c2 - a03 * c0) * inv;
+		out[10] = ( a30 * s4 - a31 * s2 + a33 * s0) * inv;
+		out[14] = (-a20 * s4 + a21 * s2 - a23 * s0) * inv;
+
+		out[3]  = (-a10 * c3 + a11 * c1 - a12 * c0) * inv;
+		out[7]  = ( a00 * c3 - a01 * c1 + a02 * c0) * inv;
+		out[11] = (-a30 * s3 + a31 * s1 - a32 * s0) * inv;
+		out[15] = ( a20 * s3 - a21 * s1 + a22 * s0) * inv;
+
+		return true;
+	}
+
+	//**********************************************************************
+	// Public Class Methods (Application)
+	//**********************************************************************
+
+	// Set out to m * (p[0], p[1], p[2], 1), divided through by w unless w is
+	// zero. The output array may be the same as the input.
+	public static void	transformPoint(float[] m, float[] p, float[] out)
+	{
+		float	x = p[0], y = p[1], z = p[2];
+		float	w = m[3] * x + m[7] * y + m[11] * z + m[15];
+
+		if (w == 0.0f)
+			w = 1.0f;
+
+		out[0] = (m[0] * x + m[4] * y + m[8]  * z + m[12]) / w;
+		out[1] = (m[1] * x + m[5] * y + m[9]  * z + m[13]) / w;
+		out[2] = (m[2] * x + m[6] * y + m[10] * z + m[14]) / w;
+	}
+
+	// Set out to m * (v[0], v[1], v[2], 0), which ignores translation. The
+	// output array may be the same as the input.
+	public static void	transformVector(float[] m, float[] v, float[] out)
+	{
+		float	x = v[0], y = v[1], z = v[2];
+
+		out[0] = m[0] * x + m[4] * y + m[8]  * z;
+		out[1] = m[1] * x + m[5] * y + m[9]  * z;
+		out[2] = m[2] * x + m[6] * y + m[10] * z;
+	}
+
+	// Set out to the point that window coordinates (x, y, z) came from, like
+	// gluUnProject(), given the inverse of projection * modelview and the
+	// viewport (x, y, width, height). Depth z is 0 at the near plane and 1 at
+	// the far plane.
+	public static void	unproject(float[] inverse, int[] viewport,
+								  float x, float y, float z, float[] out)
+	{
+		out[0] = 2.0f * (x - viewport[0]) / viewport[2] - 1.0f;
+		out[1] = 2.0f * (y - viewport[1]) / viewport[3] - 1.0f;
+		out[2] = 2.0f * z - 1.0f;
+
+		transformPoint(inverse, out, out);
+	}
+
+	// Set out to the smallest box around the affine transform by m of box.
+	// An empty box stays empty. The output array may be the same as the input.
+	public static void	transformBounds(float[] m, float[] box, float[] out)
+	{
+		if ((box[0] > box[3]) || (box[1] > box[4]) || (box[2] > box[5]))
+		{
+			if (out != box)
+				System.arraycopy(box, 0, out, 0, 6);
+
+			return;
+		}
+
+		float	cx = 0.5f * (box[0] + box[3]);			// Center
+		float	cy = 0.5f * (box[1] + box[4]);
+		float	cz = 0.5f * (box[2] + box[5]);
+		float	hx = 0.5f * (box[3] - box[0]);			// Half extents
+		float	hy = 0.5f * (box[4] - box[1]);
+		float	hz = 0.5f * (box[5] - box[2]);
+
+		for (int i=0; i<3; i++)
+		{
+			float	c = m[i] * cx + m[4 + i] * cy + m[8 + i] * cz + m[12 + i];
+			float	h = Math.abs(m[i]) * hx + Math.abs(m[4 + i]) * hy +
+						Math.abs(m[8 + i]) * hz;
+
+			out[i] = c - h;
+			out[3 + i] = c + h;
+		}
+	}
+}
+
+//******************************************************************************
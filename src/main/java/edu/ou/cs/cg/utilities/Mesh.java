@@ -0,0 +1,221 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+// 20261017 [cg]:	Added drawInstanced().
+//
+//******************************************************************************
+// Notes:
+//
+// Vertices are interleaved as x, y, z, nx, ny, nz, s, t (STRIDE floats). They
+// are copied into a direct FloatBuffer once, uploaded into a vertex buffer
+// object on first draw, and drawn with glDrawElements() from then on. The
+// buffers belong to the GLContext they were uploaded in; drawing in another
+// context uploads them again.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.nio.*;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.*;
+import com.jogamp.opengl.util.texture.TextureCoords;
+
+//******************************************************************************
+
+/**
+ * The <CODE>Mesh</CODE> class holds indexed vertex data in a vertex buffer
+ * object. Use isAvailable() to decide between it and immediate mode.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class Mesh
+{
+	//**********************************************************************
+	// Public Class Members
+	//**********************************************************************
+
+	public static final int		STRIDE = 8;			// Floats per vertex
+
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int		BYTES = STRIDE * Buffers.SIZEOF_FLOAT;
+
+	private static boolean			buffered = true;	// Use VBOs if possible
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private final int				mode;		// GL_TRIANGLES, GL_LINES, ...
+	private final FloatBuffer		vertices;	// Interleaved vertex data
+	private final IntBuffer		indices;	// Vertex indices
+	private final TextureCoords	coords;		// Built for, or null
+
+	private final int[]			ids;		// Vertex, index buffer ids
+	private GLContext				context;	// Where ids are valid
+	private boolean				uploaded;
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// The coords are those of the texture, if any, that the vertex texture
+	// coordinates were calculated for. See matches().
+	public Mesh(int mode, float[] vertices, int[] indices, TextureCoords coords)
+	{
+		this.mode = mode;
+		this.vertices = Buffers.newDirectFloatBuffer(vertices);
+		this.indices = Buffers.newDirectIntBuffer(indices);
+		this.coords = coords;
+
+		ids = new int[2];
+	}
+
+	//**********************************************************************
+	// Public Class Methods
+	//**********************************************************************
+
+	// Turn vertex buffer objects off to force the immediate mode fallback.
+	public static void	setBuffered(boolean buffered)
+	{
+		Mesh.buffered = buffered;
+	}
+
+	// True if meshes can be drawn with vertex buffer objects in gl.
+	public static boolean	isAvailable(GL2 gl)
+	{
+		return (buffered && gl.isFunctionAvailable("glGenBuffers"));
+	}
+
+	// Store vertex i's position, normal, and texture coordinates in data.
+	public static void	put(float[] data, int i, float x, float y, float z,
+							float nx, float ny, float nz, float s, float t)
+	{
+		int	k = i * STRIDE;
+
+		data[k + 0] = x;
+		data[k + 1] = y;
+		data[k + 2] = z;
+		data[k + 3] = nx;
+		data[k + 4] = ny;
+		data[k + 5] = nz;
+		data[k + 6] = s;
+		data[k + 7] = t;
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public int		getVertexCount()
+	{
+		return vertices.capacity() / STRIDE;
+	}
+
+	public int		getIndexCount()
+	{
+		return indices.capacity();
+	}
+
+	// True if the mesh was built for a texture with the given coordinates.
+	public boolean	matches(TextureCoords c)
+	{
+		if ((coords == null) || (c == null))
+			return (coords == c);
+
+		return ((coords.left() == c.left()) &&
+				(coords.right() == c.right()) &&
+				(coords.bottom() == c.bottom()) &&
+				(coords.top() == c.top()));
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	public void	draw(GL2 gl)
+	{
+		draw(gl, -1);
+	}
+
+	// Draws count instances with glDrawElementsInstanced(). Per-instance
+	// attributes and a program that reads them are up to the caller.
+	public void	drawInstanced(GL2 gl, int count)
+	{
+		draw(gl, count);
+	}
+
+	// Release the buffers. The mesh uploads them again if drawn later.
+	public void	dispose(GL2 gl)
+	{
+		if (uploaded && (context == gl.getContext()))
+			gl.glDeleteBuffers(2, ids, 0);
+
+		uploaded = false;
+		context = null;
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	// Draws once if count is negative, else count instances.
+	private void	draw(GL2 gl, int count)
+	{
+		if (!uploaded || (context != gl.getContext()))
+			upload(gl);
+
+		gl.glBindBuffer(GL.GL_ARRAY_BUFFER, ids[0]);
+		gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, ids[1]);
+
+		gl.glEnableClientState(GL2.GL_VERTEX_ARRAY);
+		gl.glEnableClientState(GL2.GL_NORMAL_ARRAY);
+		gl.glEnableClientState(GL2.GL_TEXTURE_COORD_ARRAY);
+
+		gl.glVertexPointer(3, GL.GL_FLOAT, BYTES, 0);
+		gl.glNormalPointer(GL.GL_FLOAT, BYTES, 3 * Buffers.SIZEOF_FLOAT);
+		gl.glTexCoordPointer(2, GL.GL_FLOAT, BYTES, 6 * Buffers.SIZEOF_FLOAT);
+
+		if (count < 0)
+			gl.glDrawElements(mode, indices.capacity(), GL.GL_UNSIGNED_INT, 0);
+		else
+			gl.glDrawElementsInstanced(mode, indices.capacity(),
+									   GL.GL_UNSIGNED_INT, 0, count);
+
+		gl.glDisableClientState(GL2.GL_TEXTURE_COORD_ARRAY);
+		gl.glDisableClientState(GL2.GL_NORMAL_ARRAY);
+		gl.glDisableClientState(GL2.GL_VERTEX_ARRAY);
+
+		gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, 0);
+		gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+	}
+
+	private void	upload(GL2 gl)
+	{
+		gl.glGenBuffers(2, ids, 0);
+
+		gl.glBindBuffer(GL.GL_ARRAY_BUFFER, ids[0]);
+		gl.glBufferData(GL.GL_ARRAY_BUFFER,
+						vertices.capacity() * Buffers.SIZEOF_FLOAT,
+						vertices, GL.GL_STATIC_DRAW);
+		gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+
+		gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, ids[1]);
+		gl.glBufferData(GL.GL_ELEMENT_ARRAY_BUFFER,
+						indices.capacity() * Buffers.SIZEOF_INT,
+						indices, GL.GL_STATIC_DRAW);
+		gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, 0);
+
+		context = gl.getContext();
+		uploaded = true;
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,357 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Turns image files into TextureData with a full chain of mipmap levels,
+// down to 1x1, each made from the one above with a 2x2 box filter (the last
+// row or column is repeated when a size is odd). Mipmaps keep minified
+// textures, like the skycan walls seen from afar, from aliasing, and let the
+// GPU sample small levels instead of the full image.
+//
+// The chain is saved as a cache file next to the image file (the name with
+// ".mip" added) when the image is a writable file. Later loads memory-map
+// the cache file and hand its levels straight to the TextureData, skipping
+// both the image decode and the filtering. A cache file is rebuilt when the
+// image file's length or modification time no longer match it.
+//
+// Cache file layout, big-endian ints then raw unsigned bytes:
+//
+//   magic, version, source length (long), source modified (long),
+//   width, height, internal format, pixel format, flipped (0 or 1), levels,
+//   then the pixels of each level in turn, rows tightly packed.
+//
+// Only unsigned byte pixels with 1 to 4 components are filtered. Anything
+// else is returned as decoded, without mipmaps.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.io.*;
+import java.net.URL;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.*;
+import com.jogamp.opengl.util.texture.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>MipmapCache</CODE> class loads images as mipmapped textures,
+ * caching the mipmaps on disk.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class MipmapCache
+{
+	//**********************************************************************
+	// Public Class Members
+	//**********************************************************************
+
+	public static final String		SUFFIX = ".mip";
+
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int		MAGIC = 0x4D49504D;		// "MIPM"
+	private static final int		VERSION = 1;
+	private static final int		HEADER = 12 * 4;			// Bytes
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	private MipmapCache()
+	{
+	}
+
+	//**********************************************************************
+	// Public Class Methods
+	//**********************************************************************
+
+	// Returns the image at the URL with mipmaps, from its cache file if it
+	// has a current one. Otherwise decodes the image, builds the mipmaps,
+	// and tries to write the cache file. The suffix is a TextureIO file
+	// type. A null profile assumes RGB images, which suits JPEGs.
+	public static TextureData	load(GLProfile profile, URL url, String suffix)
+		throws IOException
+	{
+		File	source = getFile(url);
+		File	cache = ((source != null) ?
+						 new File(source.getPath() + SUFFIX) : null);
+
+		if ((cache != null) && cache.isFile())
+		{
+			TextureData	data = read(profile, source, cache);
+
+			if (data != null)
+				return data;
+		}
+
+		TextureData	image;
+
+		if (profile != null)
+			image = TextureIO.newTextureData(profile, url, false, suffix);
+		else
+			image = TextureIO.newTextureData(null, url, GL.GL_RGB, GL.GL_RGB,
+											 false, suffix);
+
+		TextureData	data = build(image);
+
+		if ((cache != null) && (data != image))
+		{
+			try
+			{
+				write(source, cache, data);
+			}
+			catch (IOException ex)
+			{
+				// Read-only location; the mipmaps still work uncached
+			}
+		}
+
+		return data;
+	}
+
+	// Returns the image with a full chain of box-filtered mipmaps, or the
+	// image itself if its pixels can't be filtered.
+	public static TextureData	build(TextureData image)
+	{
+		int	bpp = getComponents(image.getPixelFormat(),
+								image.getPixelType());
+
+		int	w = image.getWidth();
+		int	h = image.getHeight();
+
+		if ((bpp == 0) || (image.getMipmapData() != null) ||
+			image.isDataCompressed() || (image.getBorder() != 0) ||
+			((w * bpp) % image.getAlignment() != 0))		// Padded rows
+			return image;
+
+		Buffer[]	levels = new Buffer[getLevels(w, h)];
+		ByteBuffer	src = ((ByteBuffer)image.getBuffer()).duplicate();
+
+		src.rewind();
+		levels[0] = src;
+
+		for (int i=1; i<levels.length; i++)
+		{
+			int			w2 = Math.max(1, w / 2);
+			int			h2 = Math.max(1, h / 2);
+			ByteBuffer	dst = Buffers.newDirectByteBuffer(w2 * h2 * bpp);
+
+			reduce(src, w, h, dst, w2, h2, bpp);
+
+			levels[i] = dst;
+			src = dst;
+			w = w2;
+			h = h2;
+		}
+
+		return new TextureData(image.getGLProfile(),
+							   image.getInternalFormat(),
+							   image.getWidth(), image.getHeight(), 0,
+							   image.getPixelFormat(), image.getPixelType(),
+							   false, image.getMustFlipVertically(),
+							   levels, null);
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static File	getFile(URL url)
+	{
+		if (!"file".equals(url.getProtocol()))
+			return null;
+
+		try
+		{
+			return new File(url.toURI());
+		}
+		catch (Exception ex)
+		{
+			return null;
+		}
+	}
+
+	// Bytes per pixel, or 0 if not unsigned bytes with a known format.
+	private static int	getComponents(int format, int type)
+	{
+		if (type != GL.GL_UNSIGNED_BYTE)
+			return 0;
+
+		switch (format)
+		{
+			case GL.GL_LUMINANCE:		return 1;
+			case GL.GL_ALPHA:			return 1;
+			case GL.GL_LUMINANCE_ALPHA:	return 2;
+			case GL.GL_RGB:			return 3;
+			case GL.GL_RGBA:			return 4;
+			case GL.GL_BGRA:			return 4;
+			case GL2.GL_BGR:			return 3;
+			default:					return 0;
+		}
+	}
+
+	// Levels down to 1x1, counting the full size level.
+	private static int	getLevels(int w, int h)
+	{
+		int	n = 1;
+
+		while ((w > 1) || (h > 1))
+		{
+			w = Math.max(1, w / 2);
+			h = Math.max(1, h / 2);
+			n++;
+		}
+
+		return n;
+	}
+
+	// Averages 2x2 blocks of src into dst, component by component.
+	private static void	reduce(ByteBuffer src, int w, int h,
+								   ByteBuffer dst, int w2, int h2, int bpp)
+	{
+		for (int y=0; y<h2; y++)
+		{
+			int	r0 = Math.min(2 * y, h - 1) * w;
+			int	r1 = Math.min(2 * y + 1, h - 1) * w;
+
+			for (int x=0; x<w2; x++)
+			{
+				int	c0 = Math.min(2 * x, w - 1);
+				int	c1 = Math.min(2 * x + 1, w - 1);
+				int	a = (r0 + c0) * bpp;
+				int	b = (r0 + c1) * bpp;
+				int	c = (r1 + c0) * bpp;
+				int	d = (r1 + c1) * bpp;
+
+				for (int k=0; k<bpp; k++)
+				{
+					int	sum = (src.get(a + k) & 0xFF) +
+							  (src.get(b + k) & 0xFF) +
+							  (src.get(c + k) & 0xFF) +
+							  (src.get(d + k) & 0xFF);
+
+					dst.put((y * w2 + x) * bpp + k, (byte)((sum + 2) >> 2));
+				}
+			}
+		}
+	}
+
+	// Maps the cache file. Returns null if it's stale or not a cache file.
+	private static TextureData	read(GLProfile profile, File source,
+									  File cache) throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(cache.toPath(),
+													StandardOpenOption.READ))
+		{
+			if (channel.size() < HEADER)
+				return null;
+
+			MappedByteBuffer	map = channel.map(FileChannel.MapMode.READ_ONLY,
+												  0, channel.size());
+
+			if ((map.getInt() != MAGIC) || (map.getInt() != VERSION) ||
+				(map.getLong() != source.length()) ||
+				(map.getLong() != source.lastModified()))
+				return null;
+
+			int	w = map.getInt();
+			int	h = map.getInt();
+			int	internal = map.getInt();
+			int	format = map.getInt();
+			int	flip = map.getInt();
+			int	n = map.getInt();
+
+			int	bpp = getComponents(format, GL.GL_UNSIGNED_BYTE);
+
+			if ((bpp == 0) || (n != getLevels(w, h)))
+				return null;
+
+			Buffer[]	levels = new Buffer[n];
+			int			offset = HEADER;
+			int			width = w;
+			int			height = h;
+
+			for (int i=0; i<n; i++)
+			{
+				int	bytes = w * h * bpp;
+
+				if (offset + bytes > map.capacity())
+					return null;
+
+				map.limit(offset + bytes).position(offset);
+				levels[i] = map.slice();
+				map.limit(map.capacity());
+
+				offset += bytes;
+				w = Math.max(1, w / 2);
+				h = Math.max(1, h / 2);
+			}
+
+			// The mapping stays valid after the channel is closed
+			return new TextureData(profile, internal, width, height, 0,
+								   format, GL.GL_UNSIGNED_BYTE, false,
+								   (flip != 0), levels, null);
+		}
+	}
+
+	// Writes to a temporary file first, so a reader never maps a partial
+	// cache file and loads of the same image on other threads don't clash.
+	private static void	write(File source, File cache, TextureData data)
+		throws IOException
+	{
+		Buffer[]	levels = data.getMipmapData();
+		ByteBuffer	header = ByteBuffer.allocate(HEADER);
+
+		header.putInt(MAGIC).putInt(VERSION);
+		header.putLong(source.length()).putLong(source.lastModified());
+		header.putInt(data.getWidth()).putInt(data.getHeight());
+		header.putInt(data.getInternalFormat()).putInt(data.getPixelFormat());
+		header.putInt(data.getMustFlipVertically() ? 1 : 0);
+		header.putInt(levels.length);
+		header.flip();
+
+		File	temp = File.createTempFile(cache.getName(), ".tmp",
+										   cache.getParentFile());
+
+		try (FileChannel channel = FileChannel.open(temp.toPath(),
+													StandardOpenOption.WRITE))
+		{
+			while (header.hasRemaining())
+				channel.write(header);
+
+			for (Buffer level : levels)
+			{
+				ByteBuffer	bytes = ((ByteBuffer)level).duplicate();
+
+				bytes.rewind();
+
+				while (bytes.hasRemaining())
+					channel.write(bytes);
+			}
+		}
+		catch (IOException ex)
+		{
+			temp.delete();
+			throw ex;
+		}
+
+		Files.move(temp.toPath(), cache.toPath(),
+				   StandardCopyOption.REPLACE_EXISTING);
+	}
+}
+
+//******************************************************************************
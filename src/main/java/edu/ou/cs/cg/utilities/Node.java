@@ -8,6 +8,13 @@
 // 20200410 [weaver]:	Original file.
 // 20220416 [weaver]:	Replaced fixed transform trio with full transform stack.
 // 20220416 [weaver]:	Made access to texture array read-only.
+// 20261017 [cg]:		Cached local and world matrices for rendering.
+// 20261017 [cg]:		Added texture and material keys for RenderQueue.
+// 20261017 [cg]:		Added bounds and view-frustum culling.
+// 20261017 [cg]:		Added world versions and own bounds for BoundsHierarchy.
+// 20261017 [cg]:		Removed per-frame allocation from updates and lights.
+// 20261017 [cg]:		Added dispose() to release what nodes hold.
+// 20261017 [cg]:		Track whether the world matrix has been calculated.
 //
 //******************************************************************************
 // Notes:
@@ -40,6 +47,12 @@ import edu.ou.cs.cg.utilities.Lighting;
  */
 public class Node
 {
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static boolean			culling = true;	// Skip offscreen nodes
+
 	//**********************************************************************
 	// Private Members
 	//**********************************************************************
@@ -50,11 +63,32 @@ public class Node
 	// Transformation parameters
 	private final Deque<Transform>	xforms;	// Transform sequence
 
+	// Cached matrices (see Matrix for layout)
+	private final float[]			local;	// Product of the xforms
+	private final float[]			world;	// Product of ancestor locals
+	private final float[]			temp;	// Scratch for products
+	private float[]				view;	// Camera, if rendered as root
+	private boolean				dirty;	// Local needs recalculation
+	private int						version;	// Times world recalculated
+	private boolean				placed;	// World calculated at least once
+
+	// Bounds (see Matrix for layout)
+	private final float[]			bounds;	// Own geometry, local coords
+	private final float[]			extent;	// Subtree, world coords
+	private boolean				unbounded;	// Own geometry is unknown
+	private boolean				open;	// Subtree has unknown geometry
+	private boolean				stale;	// Extent needs recalculation
+	private int						size;	// Nodes in subtree
+	private int						visible;	// Drawn in last render()
+	private Frustum				frustum;	// Camera, if rendered as root
+
 	// Textures (reference copied from View)
 	protected Texture[]				textures;
 
 	// Lighting
 	private int						light;	// -1 or GL2.GL_LIGHT#, #=[0,7]
+	private float[]				lp;		// Diffuse light position
+	private float[]				li;		// Diffuse light intensity
 
 	//**********************************************************************
 	// Constructors and Finalizer
@@ -67,6 +101,19 @@ public class Node
 
 		this.nodes = new ArrayList<Node>();
 		this.xforms = new ArrayDeque<Transform>();
+
+		this.local = new float[16];
+		this.world = new float[16];
+		this.temp = new float[16];
+		this.dirty = true;
+
+		// Subclasses may draw, so don't cull them until they set bounds.
+		this.bounds = new float[6];
+		this.extent = new float[6];
+		this.unbounded = (getClass() != Node.class);
+		this.stale = true;
+
+		empty(bounds);
 	}
 
 	public Node(Texture[] textures)
@@ -84,6 +131,21 @@ public class Node
 		this(null, -1);
 	}
 
+	//**********************************************************************
+	// Public Class Methods
+	//**********************************************************************
+
+	public static boolean	isCulling()
+	{
+		return culling;
+	}
+
+	// Turn culling off to draw every node regardless of bounds.
+	public static void		setCulling(boolean culling)
+	{
+		Node.culling = culling;
+	}
+
 	//**********************************************************************
 	// Getters and Setters
 	//**********************************************************************
@@ -92,14 +154,96 @@ public class Node
 	public void		pushTransform(Transform t)
 	{
 		xforms.push(t);
+		dirty = true;
 	}
 
 	// Remove and return the transform from the end of the transform list.
 	public Transform	popTransform()
 	{
+		dirty = true;
+
 		return xforms.pop();
 	}
 
+	// Call after changing the parameters of a pushed transform in place.
+	public final void	transformChanged()
+	{
+		dirty = true;
+	}
+
+	// Copy the node's world matrix, as of the last render(), into m. The world
+	// matrix is relative to the coordinate system render() was called in.
+	public final void	getWorldMatrix(float[] m)
+	{
+		Matrix.copy(world, m);
+	}
+
+	// Set the box, in the node's local coordinates, around what depict()
+	// draws. A copy is kept. See Matrix for the box layout.
+	public final void	setBounds(float[] box)
+	{
+		System.arraycopy(box, 0, bounds, 0, 6);
+		unbounded = false;
+		stale = true;
+		version++;
+	}
+
+	// For nodes that draw nothing themselves. This is the default for
+	// instances of Node itself.
+	public final void	setEmptyBounds()
+	{
+		empty(bounds);
+		unbounded = false;
+		stale = true;
+		version++;
+	}
+
+	// For nodes that draw something unknown, which is never culled. This is
+	// the default for instances of subclasses until they set bounds.
+	public final void	setUnbounded()
+	{
+		unbounded = true;
+		stale = true;
+		version++;
+	}
+
+	// Copy the world box around what depict() draws, as of the last render(),
+	// into box. Returns false, leaving box unchanged, if the node is unbounded
+	// or draws nothing.
+	public final boolean	getOwnBounds(float[] box)
+	{
+		if (unbounded || (bounds[0] > bounds[3]))
+			return false;
+
+		Matrix.transformBounds(world, bounds, box);
+
+		return true;
+	}
+
+	// Copy the world box around the subtree, as of the last render(), into
+	// box. Returns false, leaving box unchanged, if the subtree is unbounded.
+	public final boolean	getBounds(float[] box)
+	{
+		if (open)
+			return false;
+
+		System.arraycopy(extent, 0, box, 0, 6);
+
+		return true;
+	}
+
+	// Number of nodes in the subtree drawn by the last render() from here.
+	public final int		getVisibleCount()
+	{
+		return visible;
+	}
+
+	// Number of nodes in the subtree culled by the last render() from here.
+	public final int		getCulledCount()
+	{
+		return size - visible;
+	}
+
 	//**********************************************************************
 	// Public Methods (Textures)
 	//**********************************************************************
@@ -128,12 +272,20 @@ public class Node
 	public final void	add(Node node)
 	{
 		if (!nodes.contains(node))
+		{
 			nodes.add(node);
+			node.dirty = true;		// World changes with the new parent
+		}
 	}
 
 	public final boolean	remove(Node node)
 	{
-		return nodes.remove(node);
+		boolean	removed = nodes.remove(node);
+
+		if (removed)
+			stale = true;		// Extent no longer includes the node
+
+		return removed;
 	}
 
 	public final Node	get(int index)
@@ -141,6 +293,11 @@ public class Node
 		return nodes.get(index);
 	}
 
+	public final int		getChildCount()
+	{
+		return nodes.size();
+	}
+
 	//**********************************************************************
 	// Public Methods (Updating)
 	//**********************************************************************
@@ -158,11 +315,65 @@ public class Node
 	{
 	}
 
+	//**********************************************************************
+	// Public Methods (Disposing)
+	//**********************************************************************
+
+	// Releases what the nodes in the subtree hold, such as shared Cylinders
+	// and vertex buffers, children first. Call it when done with the subtree.
+	public final void	dispose(GL2 gl)
+	{
+		for (Node node : nodes)
+			node.dispose(gl);
+
+		release(gl);
+	}
+
+	// TODO: Override this method in subclasses that acquire resources.
+	protected void	release(GL2 gl)
+	{
+	}
+
 	//**********************************************************************
 	// Public Methods (Rendering)
 	//**********************************************************************
 
+	// Draws the subtree with one glLoadMatrixf() per node. Local and world
+	// matrices are only recalculated when a transform has been pushed or
+	// popped on the node or one of its ancestors since the last render. Each
+	// node has a single world matrix, so add a node to only one parent.
+	// Subtrees whose bounds are outside the current view frustum are skipped.
 	public final void	render(GL2 gl)
+	{
+		if (frustum == null)
+			frustum = new Frustum();
+
+		if (culling)
+			frustum.set(gl);
+
+		render(gl, (culling ? frustum : null));
+	}
+
+	// Draws the subtree like render(), but culls against the given frustum,
+	// in the coordinate system render() is called in, or none if null.
+	public final void	render(GL2 gl, Frustum frustum)
+	{
+		if (view == null)
+			view = new float[16];
+
+		prepare(null, false);
+
+		gl.glGetFloatv(GL2.GL_MODELVIEW_MATRIX, view, 0);
+		gl.glPushMatrix();
+
+		visible = renderCached(gl, view, frustum, false);
+
+		gl.glPopMatrix();
+	}
+
+	// Draws the subtree by replaying every transform through the matrix stack.
+	// Kept for comparison with render() and for nodes shared between parents.
+	public final void	renderDirect(GL2 gl)
 	{
 		gl.glPushMatrix();
 
@@ -172,16 +383,204 @@ public class Node
 		depict(gl);
 
 		for (Node node : nodes)
-			node.render(gl);
+			node.renderDirect(gl);
 
 		gl.glPopMatrix();
 	}
 
+	// Draws the subtree unless culled. Returns the number of nodes drawn.
+	private int	renderCached(GL2 gl, float[] view, Frustum frustum,
+								 boolean inside)
+	{
+		if (!inside && !open && (frustum != null))
+		{
+			int	c = frustum.classify(extent);
+
+			if (c == Frustum.OUTSIDE)
+				return 0;
+
+			inside = (c == Frustum.INSIDE);		// Children are too
+		}
+
+		load(gl, view);
+		depict(gl);
+
+		int	n = 1;
+
+		for (Node node : nodes)
+			n += node.renderCached(gl, view, frustum, inside);
+
+		return n;
+	}
+
+	// Adds the subtree to the queue in depth-first order, skipping subtrees
+	// outside the frustum (if any) like render() does. Call prepare() first.
+	final void	collect(RenderQueue queue, Frustum frustum, boolean inside)
+	{
+		if (!inside && !open && (frustum != null))
+		{
+			int	c = frustum.classify(extent);
+
+			if (c == Frustum.OUTSIDE)
+				return;
+
+			inside = (c == Frustum.INSIDE);
+		}
+
+		queue.add(this);
+
+		for (Node node : nodes)
+			node.collect(queue, frustum, inside);
+	}
+
+	// Recalculates cached matrices and extents in the subtree where needed.
+	// Returns true if the extent changed, so the parent's needs updating.
+	final boolean	prepare(float[] parent, boolean changed)
+	{
+		changed = validate(parent, changed);
+
+		boolean	grown = changed;		// Own world box moved
+		int		n = 1;
+
+		for (Node node : nodes)
+		{
+			if (node.prepare(world, changed))
+				grown = true;
+
+			n += node.size;
+		}
+
+		if (n != size)
+			grown = true;
+
+		size = n;
+
+		if (grown || stale)
+		{
+			calcExtent();
+			stale = false;
+			grown = true;
+		}
+
+		return grown;
+	}
+
+	// Number of nodes in the subtree as of the last prepare().
+	final int	getSize()
+	{
+		return size;
+	}
+
+	// Changes whenever prepare() recalculates the world matrix or own bounds.
+	final int	getVersion()
+	{
+		return version;
+	}
+
+	// True once prepare() has calculated the world matrix. Until then it's
+	// all zeros.
+	final boolean	isPlaced()
+	{
+		return placed;
+	}
+
+	// Loads view * world onto the modelview matrix stack.
+	final void	load(GL2 gl, float[] view)
+	{
+		Matrix.multiply(view, world, temp);
+		gl.glLoadMatrixf(temp, 0);
+	}
+
+	// Recalculates the cached matrices if needed. Returns true if the world
+	// matrix changed, so the children's world matrices need recalculating.
+	private boolean	validate(float[] parent, boolean changed)
+	{
+		if (dirty)
+		{
+			calcLocal();
+			dirty = false;
+			changed = true;
+		}
+
+		if (changed)
+		{
+			if (parent == null)
+				Matrix.copy(local, world);
+			else
+				Matrix.multiply(parent, local, world);
+
+			version++;
+			placed = true;
+		}
+
+		return changed;
+	}
+
+	// The first transform in the deque is the last one pushed, and is the
+	// first one multiplied onto the matrix stack in renderDirect().
+	private void	calcLocal()
+	{
+		Transform.composeForward(xforms, local, temp);
+	}
+
+	// The extent is the world box around own geometry and child extents.
+	private void	calcExtent()
+	{
+		open = unbounded;
+		Matrix.transformBounds(world, bounds, extent);
+
+		for (Node node : nodes)
+		{
+			if (node.open)
+			{
+				open = true;
+				continue;
+			}
+
+			float[]	e = node.extent;
+
+			if (e[0] > e[3])					// Empty
+				continue;
+
+			for (int i=0; i<3; i++)
+			{
+				extent[i] = Math.min(extent[i], e[i]);
+				extent[3 + i] = Math.max(extent[3 + i], e[3 + i]);
+			}
+		}
+	}
+
+	private static void	empty(float[] box)
+	{
+		box[0] = box[1] = box[2] = Float.POSITIVE_INFINITY;
+		box[3] = box[4] = box[5] = Float.NEGATIVE_INFINITY;
+	}
+
 	// TODO: Override this method in subclasses that do actual drawing.
 	protected void	depict(GL2 gl)
 	{
 	}
 
+	//**********************************************************************
+	// Public Methods (Render Queue)
+	//**********************************************************************
+
+	// A RenderQueue draws nodes with the same texture key, then the same
+	// material key, one after another. Override these in subclasses to return
+	// the main texture and material that depict() uses, or null for none.
+	// The queue copies each distinct material the first frame it sees it,
+	// so return null for materials that change every frame.
+
+	protected Texture	getTextureKey()
+	{
+		return null;
+	}
+
+	protected float[]	getMaterialKey()
+	{
+		return null;
+	}
+
 	//**********************************************************************
 	// Public Methods (Lighting)
 	//**********************************************************************
@@ -247,10 +646,16 @@ public class Node
 
 		gl.glEnable(light);
 
-		float[]	lp0 = new float[] { lpx, lpy, lpz, 0.0f };
-		float[]	li0 = new float[] { rgb[0], rgb[1], rgb[2], 1.0f };
+		if (lp == null)
+		{
+			lp = new float[4];
+			li = new float[4];
+		}
+
+		lp[0] = lpx;	lp[1] = lpy;	lp[2] = lpz;	lp[3] = 0.0f;
+		li[0] = rgb[0];	li[1] = rgb[1];	li[2] = rgb[2];	li[3] = 1.0f;
 
-		Lighting.setLight(gl, light, lp0, li0, null, null, null);
+		Lighting.setLight(gl, light, lp, li, null, null, null);
 	}
 
 	public final void	disableLightDiffuse(GL2 gl)
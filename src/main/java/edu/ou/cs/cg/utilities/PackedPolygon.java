@@ -0,0 +1,213 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// A convex polygon with vertices in counterclockwise order, packed into
+// parallel arrays, for the containment and reflection code in the reflect
+// apps. Each side's vector, inward unit normal, and length are calculated
+// once when it is made. Nothing changes after that, so threads can share a
+// polygon, and testing it doesn't allocate.
+//
+// Side i runs from vertex i-1 to vertex i, so side 0 runs from the last
+// vertex to the first. This is the order the apps visited sides in when
+// they kept vertices in a Deque, and the calculations are done the same
+// way, so results are the same to the bit.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.awt.geom.Point2D;
+
+//******************************************************************************
+
+/**
+ * The <CODE>PackedPolygon</CODE> class is an immutable convex polygon.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class PackedPolygon
+{
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private final double[]		xs;			// Vertices
+	private final double[]		ys;
+	private final double[]		ex;			// Side vectors, to vertex i
+	private final double[]		ey;
+	private final double[]		nx;			// Inward unit normals
+	private final double[]		ny;
+	private final double[]		lengths;	// Side lengths
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// Copies the vertices, which must be in counterclockwise order.
+	public PackedPolygon(double[] xs, double[] ys)
+	{
+		if ((xs.length != ys.length) || (xs.length < 3))
+			throw new IllegalArgumentException("Need 3 or more vertices");
+
+		int	n = xs.length;
+
+		this.xs = xs.clone();
+		this.ys = ys.clone();
+
+		ex = new double[n];
+		ey = new double[n];
+		nx = new double[n];
+		ny = new double[n];
+		lengths = new double[n];
+
+		for (int i=0; i<n; i++)
+		{
+			int		j = ((i > 0) ? i - 1 : n - 1);
+			double	vdx = xs[i] - xs[j];
+			double	vdy = ys[i] - ys[j];
+			double	nn = Math.sqrt(vdy * vdy + vdx * vdx);
+
+			ex[i] = vdx;
+			ey[i] = vdy;
+			nx[i] = -vdy / nn;					// Perp: negate y and swap
+			ny[i] = vdx / nn;
+			lengths[i] = nn;
+		}
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	// Number of vertices, which is also the number of sides.
+	public int		size()
+	{
+		return xs.length;
+	}
+
+	public double	getX(int i)
+	{
+		return xs[i];
+	}
+
+	public double	getY(int i)
+	{
+		return ys[i];
+	}
+
+	// Inward unit normal of side i.
+	public double	getNormalX(int i)
+	{
+		return nx[i];
+	}
+
+	public double	getNormalY(int i)
+	{
+		return ny[i];
+	}
+
+	public double	getLength(int i)
+	{
+		return lengths[i];
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Whether (x, y) is exactly a vertex.
+	public boolean	isVertex(double x, double y)
+	{
+		for (int i=0; i<xs.length; i++)
+			if ((xs[i] == x) && (ys[i] == y))
+				return true;
+
+		return false;
+	}
+
+	// Whether (x, y) is strictly inside. Points exactly on a side aren't.
+	public boolean	contains(double x, double y)
+	{
+		int	n = xs.length;
+
+		for (int i=0; i<n; i++)
+		{
+			int		j = ((i > 0) ? i - 1 : n - 1);
+			double	wdx = x - xs[j];			// From start of side to q
+			double	wdy = y - ys[j];
+
+			if (!(wdx * -ey[i] + wdy * ex[i] > 0.0))
+				return false;
+		}
+
+		return true;
+	}
+
+	public boolean	contains(Point2D.Double q)
+	{
+		return contains(q.x, q.y);
+	}
+
+	// The side that a point at (x, y) moving by (vx, vy) per unit time
+	// reaches first, at a positive time, or -1 if none. The time may be over
+	// 1.0. Sides the point isn't strictly inside of are skipped, which guards
+	// against roundoff putting it just past the side it last reflected off.
+	public int		getFirstSide(double x, double y, double vx, double vy)
+	{
+		int		n = xs.length;
+		int		side = -1;
+		double	tmin = Double.MAX_VALUE;
+
+		for (int i=0; i<n; i++)
+		{
+			int		j = ((i > 0) ? i - 1 : n - 1);
+			double	dnw = getDistance(i, j, x, y);
+
+			if (dnw < 0.0)
+			{
+				double	dnv = -ey[i] * vx + ex[i] * vy;
+				double	thit = ((dnv != 0.0) ? (dnw / dnv) : 0.0);
+
+				if ((0.0 < thit) && (thit < tmin))
+				{
+					side = i;
+					tmin = thit;
+				}
+			}
+		}
+
+		return side;
+	}
+
+	// The time at which a point at (x, y) moving by (vx, vy) per unit time
+	// reaches the line through side i.
+	public double	getTime(int i, double x, double y, double vx, double vy)
+	{
+		int		j = ((i > 0) ? i - 1 : xs.length - 1);
+		double	dnv = -ey[i] * vx + ex[i] * vy;
+
+		return ((dnv != 0.0) ? (getDistance(i, j, x, y) / dnv) : 0.0);
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	// Dot product of side i's unnormalized inward normal with the vector
+	// from (x, y) to the side's start, vertex j. Negative when strictly
+	// inside.
+	private double	getDistance(int i, int j, double x, double y)
+	{
+		return -ey[i] * (xs[j] - x) + ex[i] * (ys[j] - y);
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,357 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Particles are stored as parallel float arrays (structure of arrays) with a
+// fixed capacity, so there are no per-particle objects and nothing is
+// allocated after construction. Live particles are kept packed at the front;
+// a dying particle is replaced by the last live one.
+//
+// Each frame the live particles are packed into one direct FloatBuffer as
+// x, y, z, r, g, b, a and streamed into a vertex buffer object, which is
+// orphaned first so the driver doesn't wait for the last frame's draw. They
+// are drawn as additive, smoothed (round) points in one glDrawArrays() call,
+// after opaque geometry, with depth testing on and depth writes off.
+//
+// Particles are in the coordinate system draw() is called in. Emitter nodes
+// spawn them at their world positions, so draw the system with the same
+// modelview matrix that the scene graph was rendered with.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.nio.FloatBuffer;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>ParticleSystem</CODE> class simulates and draws a pool of
+ * point particles.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class ParticleSystem
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int		STRIDE = 7;			// x, y, z, r, g, b, a
+	private static final int		BYTES = STRIDE * Buffers.SIZEOF_FLOAT;
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private final int				capacity;
+	private int					count;		// Live particles
+
+	// Particle state, one element per particle
+	private final float[]			px;
+	private final float[]			py;
+	private final float[]			pz;
+	private final float[]			vx;
+	private final float[]			vy;
+	private final float[]			vz;
+	private final float[]			life;		// Seconds left
+	private final float[]			span;		// Seconds at birth
+	private final float[]			cr;
+	private final float[]			cg;
+	private final float[]			cb;
+
+	// Simulation parameters
+	private float					dt;			// Seconds per step()
+	private float					buoyancy;	// Upward acceleration
+	private float					drag;		// Fraction of velocity lost/s
+	private float					jitter;		// Random acceleration
+	private float					size;		// Point size in pixels
+	private int					seed;		// Xorshift state
+
+	// Streaming
+	private final FloatBuffer		stream;		// Packed vertices
+	private final int[]			ids;		// Vertex buffer id
+	private GLContext				context;	// Where ids[0] is valid
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	public ParticleSystem(int capacity)
+	{
+		this.capacity = capacity;
+
+		px = new float[capacity];
+		py = new float[capacity];
+		pz = new float[capacity];
+		vx = new float[capacity];
+		vy = new float[capacity];
+		vz = new float[capacity];
+		life = new float[capacity];
+		span = new float[capacity];
+		cr = new float[capacity];
+		cg = new float[capacity];
+		cb = new float[capacity];
+
+		dt = 1.0f / 60.0f;
+		buoyancy = 0.4f;
+		drag = 0.8f;
+		jitter = 0.6f;
+		size = 3.0f;
+		seed = 0x2545F491;
+
+		stream = Buffers.newDirectFloatBuffer(capacity * STRIDE);
+		ids = new int[1];
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public int		getCapacity()
+	{
+		return capacity;
+	}
+
+	public int		getCount()
+	{
+		return count;
+	}
+
+	public float	getTimeStep()
+	{
+		return dt;
+	}
+
+	public void	setTimeStep(float dt)
+	{
+		this.dt = dt;
+	}
+
+	// Upward acceleration, in units/s^2. Negative values fall.
+	public void	setBuoyancy(float buoyancy)
+	{
+		this.buoyancy = buoyancy;
+	}
+
+	// Fraction of velocity lost per second.
+	public void	setDrag(float drag)
+	{
+		this.drag = drag;
+	}
+
+	// Largest random horizontal acceleration, in units/s^2.
+	public void	setJitter(float jitter)
+	{
+		this.jitter = jitter;
+	}
+
+	public void	setPointSize(float size)
+	{
+		this.size = size;
+	}
+
+	//**********************************************************************
+	// Public Methods (Simulation)
+	//**********************************************************************
+
+	// Adds a particle. Returns false, doing nothing, if the pool is full.
+	public boolean	emit(float x, float y, float z,
+						 float dx, float dy, float dz,
+						 float seconds, float r, float g, float b)
+	{
+		if (count == capacity)
+			return false;
+
+		int	i = count++;
+
+		px[i] = x;	py[i] = y;	pz[i] = z;
+		vx[i] = dx;	vy[i] = dy;	vz[i] = dz;
+		cr[i] = r;	cg[i] = g;	cb[i] = b;
+		life[i] = seconds;
+		span[i] = seconds;
+
+		return true;
+	}
+
+	// Advances every particle by one time step and removes the dead ones.
+	public void	step()
+	{
+		float	keep = Math.max(0.0f, 1.0f - drag * dt);
+		float	lift = buoyancy * dt;
+		float	kick = 2.0f * jitter * dt;
+
+		for (int i=0; i<count; i++)
+		{
+			float	t = life[i] - dt;
+
+			if (t <= 0.0f)
+			{
+				kill(i--);
+				continue;
+			}
+
+			life[i] = t;
+
+			float	ax = kick * (random() - 0.5f);
+			float	az = kick * (random() - 0.5f);
+
+			vx[i] = (vx[i] + ax) * keep;
+			vy[i] = (vy[i] + lift) * keep;
+			vz[i] = (vz[i] + az) * keep;
+
+			px[i] += vx[i] * dt;
+			py[i] += vy[i] * dt;
+			pz[i] += vz[i] * dt;
+		}
+	}
+
+	// Removes every particle.
+	public void	clear()
+	{
+		count = 0;
+	}
+
+	// Uniform random number in [0, 1), from the system's own generator.
+	public float	random()
+	{
+		int	x = seed;
+
+		x ^= x << 13;
+		x ^= x >>> 17;
+		x ^= x << 5;
+		seed = x;
+
+		return (x >>> 8) * (1.0f / (1 << 24));
+	}
+
+	//**********************************************************************
+	// Public Methods (Rendering)
+	//**********************************************************************
+
+	// Packs the live particles into the stream buffer. Alpha fades with age.
+	// Returns the number of vertices packed. Called by draw().
+	public int	pack()
+	{
+		stream.clear();
+
+		for (int i=0; i<count; i++)
+		{
+			stream.put(px[i]).put(py[i]).put(pz[i]);
+			stream.put(cr[i]).put(cg[i]).put(cb[i]);
+			stream.put(life[i] / span[i]);
+		}
+
+		stream.flip();
+
+		return count;
+	}
+
+	// Draws the live particles as additive round points.
+	public void	draw(GL2 gl)
+	{
+		int	n = pack();
+
+		if (n == 0)
+			return;
+
+		gl.glPushAttrib(GL2.GL_ENABLE_BIT | GL2.GL_COLOR_BUFFER_BIT |
+						GL2.GL_DEPTH_BUFFER_BIT | GL2.GL_POINT_BIT);
+
+		gl.glDisable(GL2.GL_LIGHTING);
+		gl.glDisable(GL.GL_TEXTURE_2D);
+		gl.glEnable(GL.GL_BLEND);
+		gl.glBlendFunc(GL.GL_SRC_ALPHA, GL.GL_ONE);	// Additive glow
+		gl.glDepthMask(false);
+		gl.glEnable(GL2.GL_POINT_SMOOTH);			// Round sprites
+		gl.glPointSize(size);
+
+		if (Mesh.isAvailable(gl))
+			drawBuffered(gl, n);
+		else
+			drawImmediate(gl, n);
+
+		gl.glPopAttrib();
+	}
+
+	// Release the vertex buffer. It is created again if drawn later.
+	public void	dispose(GL2 gl)
+	{
+		if ((context != null) && (context == gl.getContext()))
+			gl.glDeleteBuffers(1, ids, 0);
+
+		context = null;
+		ids[0] = 0;
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	private void	kill(int i)
+	{
+		int	j = --count;
+
+		px[i] = px[j];	py[i] = py[j];	pz[i] = pz[j];
+		vx[i] = vx[j];	vy[i] = vy[j];	vz[i] = vz[j];
+		cr[i] = cr[j];	cg[i] = cg[j];	cb[i] = cb[j];
+		life[i] = life[j];
+		span[i] = span[j];
+	}
+
+	private void	drawBuffered(GL2 gl, int n)
+	{
+		if ((ids[0] == 0) || (context != gl.getContext()))
+		{
+			gl.glGenBuffers(1, ids, 0);
+			context = gl.getContext();
+		}
+
+		long	bytes = (long)n * BYTES;
+
+		gl.glBindBuffer(GL.GL_ARRAY_BUFFER, ids[0]);
+		gl.glBufferData(GL.GL_ARRAY_BUFFER, (long)capacity * BYTES, null,
+						GL2.GL_STREAM_DRAW);				// Orphan
+		gl.glBufferSubData(GL.GL_ARRAY_BUFFER, 0, bytes, stream);
+
+		gl.glEnableClientState(GL2.GL_VERTEX_ARRAY);
+		gl.glEnableClientState(GL2.GL_COLOR_ARRAY);
+
+		gl.glVertexPointer(3, GL.GL_FLOAT, BYTES, 0);
+		gl.glColorPointer(4, GL.GL_FLOAT, BYTES, 3 * Buffers.SIZEOF_FLOAT);
+
+		gl.glDrawArrays(GL.GL_POINTS, 0, n);
+
+		gl.glDisableClientState(GL2.GL_COLOR_ARRAY);
+		gl.glDisableClientState(GL2.GL_VERTEX_ARRAY);
+
+		gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+	}
+
+	private void	drawImmediate(GL2 gl, int n)
+	{
+		gl.glBegin(GL.GL_POINTS);
+
+		for (int i=0; i<n; i++)
+		{
+			int	k = i * STRIDE;
+
+			gl.glColor4f(stream.get(k + 3), stream.get(k + 4),
+						 stream.get(k + 5), stream.get(k + 6));
+			gl.glVertex3f(stream.get(k), stream.get(k + 1), stream.get(k + 2));
+		}
+
+		gl.glEnd();
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,758 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Draws points, lines, and triangles in window coordinates into an int[]
+// framebuffer of ARGB pixels with a float[] depth buffer, for SoftwareGL.
+// Rows go from the bottom of the window up, as in OpenGL.
+//
+// Drawing is deferred. Clears and primitives are recorded in order, with the
+// State they're drawn in, and each is binned into the TILE x TILE squares of
+// the framebuffer its bounding box overlaps. finish() then draws the tiles
+// in parallel, each on a single thread replaying its own bin in order, so
+// the result is the same for any number of threads and needs no locking.
+//
+// Vertices are STRIDE floats: window x, y, and depth (0 to 1), 1/w, then
+// r, g, b, a, s, t, each divided by w for perspective-correct interpolation.
+// Triangles are sampled at pixel centers with a top-left fill rule. Lines
+// step one pixel at a time along their major axis, widened along the minor
+// axis, and omit their last pixel. Points are squares, or discs if smooth.
+// Fragments outside the depth range are dropped, which clips at the far
+// plane. Texturing samples the base level only, nearest or bilinear.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import com.jogamp.opengl.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>Rasterizer</CODE> class draws primitives into a framebuffer on
+ * the CPU, in parallel tiles.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class Rasterizer
+{
+	//**********************************************************************
+	// Public Class Members
+	//**********************************************************************
+
+	public static final int		TILE = 64;			// Pixels per tile side
+	public static final int		STRIDE = 10;		// Floats per vertex
+
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	// Command kinds
+	private static final int		CLEAR = 0;
+	private static final int		POINT = 1;
+	private static final int		LINE = 2;
+	private static final int		TRIANGLE = 3;
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private final int				width;
+	private final int				height;
+	private final int[]			pixels;		// ARGB, bottom row first
+	private final float[]			depth;
+	private final ForkJoinPool		pool;		// Null to draw serially
+
+	// Tiles and the commands overlapping each
+	private final int				across;
+	private final int[][]			bins;
+	private final int[]			sizes;
+
+	// Commands in order: kind, offset into data (or color), state, mask
+	private int[]					commands;
+	private int					count;
+	private float[]				data;
+	private int					used;
+	private final List<State>		states;
+	private int					batch;		// Times finish() has drawn
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// Creates a framebuffer of the given size, drawn with the given number
+	// of threads.
+	public Rasterizer(int width, int height, int threads)
+	{
+		this.width = Math.max(1, width);
+		this.height = Math.max(1, height);
+
+		pixels = new int[this.width * this.height];
+		depth = new float[this.width * this.height];
+		pool = ((threads > 1) ? new ForkJoinPool(threads) : null);
+
+		across = (this.width + TILE - 1) / TILE;
+		bins = new int[across * ((this.height + TILE - 1) / TILE)][16];
+		sizes = new int[bins.length];
+
+		commands = new int[1024];
+		data = new float[16384];
+		states = new ArrayList<State>();
+
+		Arrays.fill(depth, 1.0f);
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public int		getWidth()
+	{
+		return width;
+	}
+
+	public int		getHeight()
+	{
+		return height;
+	}
+
+	public int		getThreads()
+	{
+		return ((pool != null) ? pool.getParallelism() : 1);
+	}
+
+	// The framebuffer itself, ARGB, bottom row first. Call finish() first.
+	public int[]	getPixels()
+	{
+		return pixels;
+	}
+
+	// Commands recorded since the last finish().
+	public int		getPending()
+	{
+		return count;
+	}
+
+	// True if a command waiting to be drawn samples the texels.
+	public boolean	isPending(Texels texels)
+	{
+		return ((count > 0) && (texels.batch == batch));
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Clears the buffers in mask (GL_COLOR_BUFFER_BIT, GL_DEPTH_BUFFER_BIT).
+	public void	clear(int mask, int argb, float z)
+	{
+		int	c = command(CLEAR, argb, 0, mask);
+
+		data = ensure(data, used + 1);
+		data[used++] = z;
+		commands[4 * c + 2] = used - 1;
+
+		for (int i=0; i<bins.length; i++)
+			bin(i, c);
+	}
+
+	// Draws a point at vertex 0 of v.
+	public void	point(float[] v, State state)
+	{
+		float	r = 0.5f * Math.max(1.0f, state.pointSize);
+
+		add(POINT, v, 1, state, v[0] - r, v[1] - r, v[0] + r, v[1] + r);
+	}
+
+	// Draws a line between vertices 0 and 1 of v.
+	public void	line(float[] v, State state)
+	{
+		float	r = 0.5f * Math.max(1.0f, state.lineWidth) + 1.0f;
+
+		add(LINE, v, 2, state,
+			Math.min(v[0], v[STRIDE]) - r, Math.min(v[1], v[STRIDE + 1]) - r,
+			Math.max(v[0], v[STRIDE]) + r, Math.max(v[1], v[STRIDE + 1]) + r);
+	}
+
+	// Draws the triangle of vertices 0, 1, and 2 of v.
+	public void	triangle(float[] v, State state)
+	{
+		float	x0 = Math.min(v[0], Math.min(v[STRIDE], v[2 * STRIDE]));
+		float	y0 = Math.min(v[1], Math.min(v[STRIDE + 1], v[2 * STRIDE + 1]));
+		float	x1 = Math.max(v[0], Math.max(v[STRIDE], v[2 * STRIDE]));
+		float	y1 = Math.max(v[1], Math.max(v[STRIDE + 1], v[2 * STRIDE + 1]));
+
+		add(TRIANGLE, v, 3, state, x0, y0, x1, y1);
+	}
+
+	// Draws everything recorded, in parallel tiles, and starts over.
+	public void	finish()
+	{
+		if (count == 0)
+			return;
+
+		if (pool != null)
+			pool.invoke(new Tiles(0, bins.length));
+		else
+			for (int i=0; i<bins.length; i++)
+				draw(i);
+
+		Arrays.fill(sizes, 0);
+		count = 0;
+		used = 0;
+		states.clear();
+		batch++;
+	}
+
+	// Stops the threads.
+	public void	dispose()
+	{
+		if (pool != null)
+			pool.shutdown();
+	}
+
+	//**********************************************************************
+	// Private Methods (Recording)
+	//**********************************************************************
+
+	private int	command(int kind, int a, int b, int c)
+	{
+		commands = ensure(commands, 4 * count + 4);
+		commands[4 * count] = kind;
+		commands[4 * count + 1] = a;
+		commands[4 * count + 2] = b;
+		commands[4 * count + 3] = c;
+
+		return count++;
+	}
+
+	private void	add(int kind, float[] v, int n, State state,
+						float x0, float y0, float x1, float y1)
+	{
+		// Skip anything entirely off the framebuffer
+		if ((x1 < 0.0f) || (y1 < 0.0f) || (x0 >= width) || (y0 >= height) ||
+			Float.isNaN(x0 + y0 + x1 + y1))
+			return;
+
+		if (states.isEmpty() || (states.get(states.size() - 1) != state))
+		{
+			states.add(state);
+
+			if (state.texels != null)
+				state.texels.batch = batch;
+		}
+
+		data = ensure(data, used + n * STRIDE);
+		System.arraycopy(v, 0, data, used, n * STRIDE);
+
+		int	c = command(kind, used, states.size() - 1, 0);
+
+		used += n * STRIDE;
+
+		int	tx0 = Math.max(0, (int)x0 / TILE);
+		int	ty0 = Math.max(0, (int)y0 / TILE);
+		int	tx1 = Math.min(across - 1, (int)Math.min(x1, width - 1) / TILE);
+		int	ty1 = Math.min(bins.length / across - 1,
+						   (int)Math.min(y1, height - 1) / TILE);
+
+		for (int ty=ty0; ty<=ty1; ty++)
+			for (int tx=tx0; tx<=tx1; tx++)
+				bin(ty * across + tx, c);
+	}
+
+	private void	bin(int tile, int c)
+	{
+		if (sizes[tile] == bins[tile].length)
+			bins[tile] = Arrays.copyOf(bins[tile], 2 * sizes[tile]);
+
+		bins[tile][sizes[tile]++] = c;
+	}
+
+	private static int[]	ensure(int[] a, int n)
+	{
+		return ((n <= a.length) ? a : Arrays.copyOf(a, Math.max(n, 2 * a.length)));
+	}
+
+	private static float[]	ensure(float[] a, int n)
+	{
+		return ((n <= a.length) ? a : Arrays.copyOf(a, Math.max(n, 2 * a.length)));
+	}
+
+	//**********************************************************************
+	// Private Methods (Drawing)
+	//**********************************************************************
+
+	// Replays a tile's commands, clipped to the tile.
+	private void	draw(int tile)
+	{
+		int		x0 = (tile % across) * TILE;
+		int		y0 = (tile / across) * TILE;
+		int		x1 = Math.min(x0 + TILE, width);
+		int		y1 = Math.min(y0 + TILE, height);
+		int[]	bin = bins[tile];
+
+		for (int k=0; k<sizes[tile]; k++)
+		{
+			int	c = 4 * bin[k];
+
+			switch (commands[c])
+			{
+				case CLEAR:
+					fill(x0, y0, x1, y1, commands[c + 1], data[commands[c + 2]],
+						 commands[c + 3]);
+					break;
+
+				case POINT:
+					drawPoint(commands[c + 1], states.get(commands[c + 2]),
+							  x0, y0, x1, y1);
+					break;
+
+				case LINE:
+					drawLine(commands[c + 1], states.get(commands[c + 2]),
+							 x0, y0, x1, y1);
+					break;
+
+				case TRIANGLE:
+					drawTriangle(commands[c + 1], states.get(commands[c + 2]),
+								 x0, y0, x1, y1);
+					break;
+			}
+		}
+	}
+
+	private void	fill(int x0, int y0, int x1, int y1, int argb, float z,
+						 int mask)
+	{
+		for (int y=y0; y<y1; y++)
+		{
+			int	i = y * width;
+
+			if ((mask & GL.GL_COLOR_BUFFER_BIT) != 0)
+				Arrays.fill(pixels, i + x0, i + x1, argb);
+
+			if ((mask & GL.GL_DEPTH_BUFFER_BIT) != 0)
+				Arrays.fill(depth, i + x0, i + x1, z);
+		}
+	}
+
+	private void	drawPoint(int o, State s, int x0, int y0, int x1, int y1)
+	{
+		float	x = data[o];
+		float	y = data[o + 1];
+		float	z = data[o + 2];
+		float	w = 1.0f / data[o + 3];
+		float	r = 0.5f * Math.max(1.0f, s.pointSize);
+
+		if ((z < 0.0f) || (z > 1.0f))
+			return;
+
+		int	px0 = Math.max(x0, (int)Math.floor(x - r));
+		int	py0 = Math.max(y0, (int)Math.floor(y - r));
+		int	px1 = Math.min(x1 - 1, (int)Math.floor(x + r));
+		int	py1 = Math.min(y1 - 1, (int)Math.floor(y + r));
+
+		for (int py=py0; py<=py1; py++)
+		{
+			for (int px=px0; px<=px1; px++)
+			{
+				float	dx = px + 0.5f - x;
+				float	dy = py + 0.5f - y;
+
+				if (s.pointSmooth ? (dx * dx + dy * dy > r * r) :
+					((Math.abs(dx) > r) || (Math.abs(dy) > r)))
+					continue;
+
+				shade(px, py, z, data[o + 4] * w, data[o + 5] * w,
+					  data[o + 6] * w, data[o + 7] * w, data[o + 8] * w,
+					  data[o + 9] * w, s);
+			}
+		}
+	}
+
+	private void	drawLine(int o, State s, int x0, int y0, int x1, int y1)
+	{
+		int		p = o + STRIDE;
+		float	dx = data[p] - data[o];
+		float	dy = data[p + 1] - data[o + 1];
+		boolean	xmajor = (Math.abs(dx) >= Math.abs(dy));
+		int		n = (int)Math.ceil(Math.max(Math.abs(dx), Math.abs(dy)));
+		int		wide = Math.max(1, Math.round(s.lineWidth));
+
+		for (int i=0; i<n; i++)
+		{
+			float	t = (i + 0.5f) / n;
+			int		px = (int)Math.floor(data[o] + dx * t);
+			int		py = (int)Math.floor(data[o + 1] + dy * t);
+
+			float	z = lerp(data[o + 2], data[p + 2], t);
+
+			if ((z < 0.0f) || (z > 1.0f))
+				continue;
+
+			float	w = 1.0f / lerp(data[o + 3], data[p + 3], t);
+
+			for (int k=0; k<wide; k++)
+			{
+				int	off = k - (wide - 1) / 2;
+				int	qx = (xmajor ? px : px + off);
+				int	qy = (xmajor ? py + off : py);
+
+				if ((qx < x0) || (qx >= x1) || (qy < y0) || (qy >= y1))
+					continue;
+
+				shade(qx, qy, z,
+					  lerp(data[o + 4], data[p + 4], t) * w,
+					  lerp(data[o + 5], data[p + 5], t) * w,
+					  lerp(data[o + 6], data[p + 6], t) * w,
+					  lerp(data[o + 7], data[p + 7], t) * w,
+					  lerp(data[o + 8], data[p + 8], t) * w,
+					  lerp(data[o + 9], data[p + 9], t) * w, s);
+			}
+		}
+	}
+
+	private void	drawTriangle(int o, State s, int x0, int y0, int x1, int y1)
+	{
+		int		a = o;
+		int		b = o + STRIDE;
+		int		c = o + 2 * STRIDE;
+
+		float	area = (data[b] - data[a]) * (data[c + 1] - data[a + 1]) -
+					   (data[c] - data[a]) * (data[b + 1] - data[a + 1]);
+
+		if ((area == 0.0f) || Float.isNaN(area))
+			return;
+
+		if (area < 0.0f)							// Make counterclockwise
+		{
+			int	t = b;
+
+			b = c;
+			c = t;
+			area = -area;
+		}
+
+		float	ax = data[a], ay = data[a + 1];
+		float	bx = data[b], by = data[b + 1];
+		float	cx = data[c], cy = data[c + 1];
+
+		int	px0 = Math.max(x0, (int)Math.floor(Math.min(ax, Math.min(bx, cx))));
+		int	py0 = Math.max(y0, (int)Math.floor(Math.min(ay, Math.min(by, cy))));
+		int	px1 = Math.min(x1 - 1,
+						   (int)Math.floor(Math.max(ax, Math.max(bx, cx))));
+		int	py1 = Math.min(y1 - 1,
+						   (int)Math.floor(Math.max(ay, Math.max(by, cy))));
+
+		if ((px0 > px1) || (py0 > py1))
+			return;
+
+		// Edges opposite each vertex, and whether they own pixels on them
+		boolean	ta = isTopLeft(bx, by, cx, cy);
+		boolean	tb = isTopLeft(cx, cy, ax, ay);
+		boolean	tc = isTopLeft(ax, ay, bx, by);
+		float	inv = 1.0f / area;
+
+		for (int py=py0; py<=py1; py++)
+		{
+			float	y = py + 0.5f;
+			float	x = px0 + 0.5f;
+			float	wa = (cx - bx) * (y - by) - (cy - by) * (x - bx);
+			float	wb = (ax - cx) * (y - cy) - (ay - cy) * (x - cx);
+			float	wc = (bx - ax) * (y - ay) - (by - ay) * (x - ax);
+
+			for (int px=px0; px<=px1; px++,
+					 wa -= (cy - by), wb -= (ay - cy), wc -= (by - ay))
+			{
+				if (((wa < 0.0f) || ((wa == 0.0f) && !ta)) ||
+					((wb < 0.0f) || ((wb == 0.0f) && !tb)) ||
+					((wc < 0.0f) || ((wc == 0.0f) && !tc)))
+					continue;
+
+				float	ba = wa * inv;
+				float	bb = wb * inv;
+				float	bc = wc * inv;
+				float	z = ba * data[a + 2] + bb * data[b + 2] +
+							bc * data[c + 2];
+
+				if ((z < 0.0f) || (z > 1.0f))
+					continue;
+
+				if (s.depthTest && !pass(s.depthFunc, z, depth[py * width + px]))
+					continue;
+
+				float	w = 1.0f / (ba * data[a + 3] + bb * data[b + 3] +
+									bc * data[c + 3]);
+
+				shade(px, py, z,
+					  (ba * data[a + 4] + bb * data[b + 4] + bc * data[c + 4]) * w,
+					  (ba * data[a + 5] + bb * data[b + 5] + bc * data[c + 5]) * w,
+					  (ba * data[a + 6] + bb * data[b + 6] + bc * data[c + 6]) * w,
+					  (ba * data[a + 7] + bb * data[b + 7] + bc * data[c + 7]) * w,
+					  (ba * data[a + 8] + bb * data[b + 8] + bc * data[c + 8]) * w,
+					  (ba * data[a + 9] + bb * data[b + 9] + bc * data[c + 9]) * w,
+					  s);
+			}
+		}
+	}
+
+	// Textures, tests, blends, and writes one fragment.
+	private void	shade(int x, int y, float z, float r, float g, float b,
+						  float a, float s, float t, State state)
+	{
+		int	i = y * width + x;
+
+		if (state.depthTest && !pass(state.depthFunc, z, depth[i]))
+			return;
+
+		Texels	texels = state.texels;
+
+		if (texels != null)
+		{
+			int	texel = texels.sample(s, t);
+			float	tr = ((texel >> 16) & 0xFF) / 255.0f;
+			float	tg = ((texel >> 8) & 0xFF) / 255.0f;
+			float	tb = (texel & 0xFF) / 255.0f;
+			float	ta = (texel >>> 24) / 255.0f;
+
+			switch (state.envMode)
+			{
+				case GL2.GL_REPLACE:
+					r = tr;		g = tg;		b = tb;		a = ta;
+					break;
+
+				case GL2.GL_DECAL:
+					r += (tr - r) * ta;
+					g += (tg - g) * ta;
+					b += (tb - b) * ta;
+					break;
+
+				default:								// GL_MODULATE
+					r *= tr;	g *= tg;	b *= tb;	a *= ta;
+					break;
+			}
+		}
+
+		if (state.blend)
+		{
+			int		d = pixels[i];
+			float	dr = ((d >> 16) & 0xFF) / 255.0f;
+			float	dg = ((d >> 8) & 0xFF) / 255.0f;
+			float	db = (d & 0xFF) / 255.0f;
+			float	da = (d >>> 24) / 255.0f;
+			float	sf = factor(state.srcFactor, a, da);
+			float	df = factor(state.dstFactor, a, da);
+
+			r = r * sf + dr * df;
+			g = g * sf + dg * df;
+			b = b * sf + db * df;
+			a = a * sf + da * df;
+		}
+
+		pixels[i] = (toByte(a) << 24) | (toByte(r) << 16) |
+					(toByte(g) << 8) | toByte(b);
+
+		if (state.depthTest && state.depthWrite)
+			depth[i] = z;
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static float	lerp(float a, float b, float t)
+	{
+		return a + (b - a) * t;
+	}
+
+	// For a counterclockwise triangle with y up, an edge from (x0, y0) to
+	// (x1, y1) is a top edge if it's horizontal going left, and a left edge
+	// if it goes down.
+	private static boolean	isTopLeft(float x0, float y0, float x1, float y1)
+	{
+		return (((y0 == y1) && (x1 < x0)) || (y1 < y0));
+	}
+
+	private static boolean	pass(int func, float z, float d)
+	{
+		switch (func)
+		{
+			case GL.GL_NEVER:		return false;
+			case GL.GL_LESS:		return (z < d);
+			case GL.GL_EQUAL:		return (z == d);
+			case GL.GL_LEQUAL:		return (z <= d);
+			case GL.GL_GREATER:	return (z > d);
+			case GL.GL_NOTEQUAL:	return (z != d);
+			case GL.GL_GEQUAL:		return (z >= d);
+			default:				return true;		// GL_ALWAYS
+		}
+	}
+
+	// Blend factor, the same for each color component. Factors that use
+	// source or destination colors aren't supported and count as 1.
+	private static float	factor(int f, float sa, float da)
+	{
+		switch (f)
+		{
+			case GL.GL_ZERO:					return 0.0f;
+			case GL.GL_SRC_ALPHA:				return sa;
+			case GL.GL_ONE_MINUS_SRC_ALPHA:	return 1.0f - sa;
+			case GL.GL_DST_ALPHA:				return da;
+			case GL.GL_ONE_MINUS_DST_ALPHA:	return 1.0f - da;
+			default:							return 1.0f;	// GL_ONE
+		}
+	}
+
+	private static int	toByte(float c)
+	{
+		return ((c <= 0.0f) ? 0 : ((c >= 1.0f) ? 255 : (int)(c * 255.0f + 0.5f)));
+	}
+
+	//**********************************************************************
+	// Public Inner Classes
+	//**********************************************************************
+
+	// Settings that apply to a primitive. Don't change one after passing it
+	// to the rasterizer; make a new one.
+	public static final class State
+	{
+		public boolean		depthTest;
+		public int			depthFunc = GL.GL_LESS;
+		public boolean		depthWrite = true;
+		public boolean		blend;
+		public int			srcFactor = GL.GL_ONE;
+		public int			dstFactor = GL.GL_ZERO;
+		public Texels		texels;				// Null if not texturing
+		public int			envMode = GL2.GL_MODULATE;
+		public float		pointSize = 1.0f;
+		public boolean		pointSmooth;
+		public float		lineWidth = 1.0f;
+
+		public State	copy()
+		{
+			State	s = new State();
+
+			s.depthTest = depthTest;
+			s.depthFunc = depthFunc;
+			s.depthWrite = depthWrite;
+			s.blend = blend;
+			s.srcFactor = srcFactor;
+			s.dstFactor = dstFactor;
+			s.texels = texels;
+			s.envMode = envMode;
+			s.pointSize = pointSize;
+			s.pointSmooth = pointSmooth;
+			s.lineWidth = lineWidth;
+
+			return s;
+		}
+	}
+
+	// The base level of a texture, ARGB, bottom row (t = 0) first. Finish
+	// drawing before changing one that isPending().
+	public static final class Texels
+	{
+		public int			width;
+		public int			height;
+		public int[]		argb = new int[1];
+		public boolean		repeatS = true;
+		public boolean		repeatT = true;
+		public boolean		linear = true;
+		private int		batch = -1;			// Last drawn in
+
+		// Texel at (s, t), filtered.
+		public int		sample(float s, float t)
+		{
+			if ((width == 0) || (height == 0))
+				return 0xFFFFFFFF;
+
+			float	u = s * width;
+			float	v = t * height;
+
+			if (!linear)
+				return argb[wrap((int)Math.floor(v), height, repeatT) * width +
+							wrap((int)Math.floor(u), width, repeatS)];
+
+			u -= 0.5f;
+			v -= 0.5f;
+
+			int		i0 = (int)Math.floor(u);
+			int		j0 = (int)Math.floor(v);
+			float	fu = u - i0;
+			float	fv = v - j0;
+			int		x0 = wrap(i0, width, repeatS);
+			int		x1 = wrap(i0 + 1, width, repeatS);
+			int		y0 = wrap(j0, height, repeatT) * width;
+			int		y1 = wrap(j0 + 1, height, repeatT) * width;
+
+			int	c00 = argb[y0 + x0], c10 = argb[y0 + x1];
+			int	c01 = argb[y1 + x0], c11 = argb[y1 + x1];
+			int	out = 0;
+
+			for (int shift=0; shift<32; shift+=8)
+			{
+				float	c = (((c00 >>> shift) & 0xFF) * (1.0f - fu) +
+							 ((c10 >>> shift) & 0xFF) * fu) * (1.0f - fv) +
+							(((c01 >>> shift) & 0xFF) * (1.0f - fu) +
+							 ((c11 >>> shift) & 0xFF) * fu) * fv;
+
+				out |= ((int)(c + 0.5f) & 0xFF) << shift;
+			}
+
+			return out;
+		}
+
+		private static int	wrap(int i, int n, boolean repeat)
+		{
+			if (repeat)
+				return (((i % n) + n) % n);
+
+			return ((i < 0) ? 0 : ((i >= n) ? n - 1 : i));
+		}
+	}
+
+	//**********************************************************************
+	// Private Inner Classes
+	//**********************************************************************
+
+	// Draws a range of tiles, split in half until small.
+	private final class Tiles extends RecursiveAction
+	{
+		private static final long	serialVersionUID = 1L;
+
+		private final int	lo;
+		private final int	hi;
+
+		public Tiles(int lo, int hi)
+		{
+			this.lo = lo;
+			this.hi = hi;
+		}
+
+		protected void	compute()
+		{
+			if (hi - lo <= 2)
+			{
+				for (int i=lo; i<hi; i++)
+					draw(i);
+			}
+			else
+			{
+				int	mid = (lo + hi) >>> 1;
+
+				invokeAll(new Tiles(lo, mid), new Tiles(mid, hi));
+			}
+		}
+	}
+}
+
+//******************************************************************************
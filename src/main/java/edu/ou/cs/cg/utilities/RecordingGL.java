@@ -0,0 +1,342 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+// 20261017 [cg]:	Track the matrix stacks to answer matrix queries.
+//
+//******************************************************************************
+// Notes:
+//
+// A stand-in for GL2 that doesn't need an OpenGL context. It records the
+// calls made on it into a CommandBuffer, to replay into a real GL2 later or
+// to count. Calls the buffer doesn't record, such as queries, return zero,
+// false, or null, and are only counted. Recording boxes the arguments of
+// each call, so it allocates, unlike replaying.
+//
+// The modelview, projection, and texture matrix stacks are tracked as calls
+// are made, as in SoftwareGL, so glGetFloatv() and glGetDoublev() can give
+// the current matrices. Node.render() and RenderQueue.render() read the
+// modelview matrix back before loading each node's, so without them a
+// recording would load zero matrices. The buffer variants of the matrix
+// calls other than glLoadMatrixf() and glMultMatrixf() aren't tracked.
+//
+// Lighting and other filters that remember what they last sent to a GL
+// remember it per GL, so a recording starts with every value sent.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import com.jogamp.opengl.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>RecordingGL</CODE> class records the calls made on it.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class RecordingGL extends GL2Stub
+{
+	//**********************************************************************
+	// Public Class Members
+	//**********************************************************************
+
+	public static final int		STACK_DEPTH = 32;	// Matrices per stack
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private final CommandBuffer	buffer;		// Recorded calls
+	private long					skipped;	// Calls not recorded
+
+	// Matrices
+	private final float[][][]		stacks;		// Modelview, proj, texture
+	private final int[]			depths;
+	private int					mode;		// Index into stacks
+	private final float[]			temp;
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	public RecordingGL()
+	{
+		this(new CommandBuffer());
+	}
+
+	// Appends to the given buffer.
+	public RecordingGL(CommandBuffer buffer)
+	{
+		this.buffer = buffer;
+
+		stacks = new float[3][STACK_DEPTH][16];
+		depths = new int[3];
+		temp = new float[16];
+
+		for (float[][] stack : stacks)
+			Matrix.identity(stack[0]);
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public CommandBuffer	getBuffer()
+	{
+		return buffer;
+	}
+
+	// Number of calls made that weren't recorded.
+	public long	getSkippedCount()
+	{
+		return skipped;
+	}
+
+	//**********************************************************************
+	// Override Methods (GL, matrices)
+	//**********************************************************************
+
+	public void	glMatrixMode(int mode)
+	{
+		switch (mode)
+		{
+			case GL2.GL_MODELVIEW:		this.mode = 0;	break;
+			case GL2.GL_PROJECTION:	this.mode = 1;	break;
+			case GL.GL_TEXTURE:		this.mode = 2;	break;
+		}
+
+		super.glMatrixMode(mode);
+	}
+
+	public void	glPushMatrix()
+	{
+		if (depths[mode] + 1 < STACK_DEPTH)
+		{
+			Matrix.copy(top(), stacks[mode][depths[mode] + 1]);
+			depths[mode]++;
+		}
+
+		super.glPushMatrix();
+	}
+
+	public void	glPopMatrix()
+	{
+		if (depths[mode] > 0)
+			depths[mode]--;
+
+		super.glPopMatrix();
+	}
+
+	public void	glLoadIdentity()
+	{
+		Matrix.identity(top());
+		super.glLoadIdentity();
+	}
+
+	public void	glLoadMatrixf(float[] m, int offset)
+	{
+		System.arraycopy(m, offset, top(), 0, 16);
+		super.glLoadMatrixf(m, offset);
+	}
+
+	public void	glLoadMatrixf(FloatBuffer m)
+	{
+		m.duplicate().get(top(), 0, 16);
+		super.glLoadMatrixf(m);
+	}
+
+	public void	glLoadMatrixd(double[] m, int offset)
+	{
+		float[]	t = top();
+
+		for (int i=0; i<16; i++)
+			t[i] = (float)m[offset + i];
+
+		super.glLoadMatrixd(m, offset);
+	}
+
+	public void	glMultMatrixf(float[] m, int offset)
+	{
+		System.arraycopy(m, offset, temp, 0, 16);
+		multiply(temp);
+		super.glMultMatrixf(m, offset);
+	}
+
+	public void	glMultMatrixf(FloatBuffer m)
+	{
+		m.duplicate().get(temp, 0, 16);
+		multiply(temp);
+		super.glMultMatrixf(m);
+	}
+
+	public void	glMultMatrixd(double[] m, int offset)
+	{
+		for (int i=0; i<16; i++)
+			temp[i] = (float)m[offset + i];
+
+		multiply(temp);
+		super.glMultMatrixd(m, offset);
+	}
+
+	public void	glTranslatef(float x, float y, float z)
+	{
+		Matrix.translation(temp, x, y, z);
+		multiply(temp);
+		super.glTranslatef(x, y, z);
+	}
+
+	public void	glTranslated(double x, double y, double z)
+	{
+		Matrix.translation(temp, (float)x, (float)y, (float)z);
+		multiply(temp);
+		super.glTranslated(x, y, z);
+	}
+
+	public void	glScalef(float x, float y, float z)
+	{
+		Matrix.scaling(temp, x, y, z);
+		multiply(temp);
+		super.glScalef(x, y, z);
+	}
+
+	public void	glScaled(double x, double y, double z)
+	{
+		Matrix.scaling(temp, (float)x, (float)y, (float)z);
+		multiply(temp);
+		super.glScaled(x, y, z);
+	}
+
+	public void	glRotatef(float angle, float x, float y, float z)
+	{
+		Matrix.rotation(temp, angle, x, y, z);
+		multiply(temp);
+		super.glRotatef(angle, x, y, z);
+	}
+
+	public void	glRotated(double angle, double x, double y, double z)
+	{
+		Matrix.rotation(temp, (float)angle, (float)x, (float)y, (float)z);
+		multiply(temp);
+		super.glRotated(angle, x, y, z);
+	}
+
+	public void	glOrtho(double l, double r, double b, double t,
+						double n, double f)
+	{
+		Matrix.identity(temp);
+		temp[0] = (float)(2.0 / (r - l));
+		temp[5] = (float)(2.0 / (t - b));
+		temp[10] = (float)(-2.0 / (f - n));
+		temp[12] = (float)(-(r + l) / (r - l));
+		temp[13] = (float)(-(t + b) / (t - b));
+		temp[14] = (float)(-(f + n) / (f - n));
+		multiply(temp);
+		super.glOrtho(l, r, b, t, n, f);
+	}
+
+	public void	glFrustum(double l, double r, double b, double t,
+						  double n, double f)
+	{
+		Arrays.fill(temp, 0.0f);
+		temp[0] = (float)(2.0 * n / (r - l));
+		temp[5] = (float)(2.0 * n / (t - b));
+		temp[8] = (float)((r + l) / (r - l));
+		temp[9] = (float)((t + b) / (t - b));
+		temp[10] = (float)(-(f + n) / (f - n));
+		temp[11] = -1.0f;
+		temp[14] = (float)(-2.0 * f * n / (f - n));
+		multiply(temp);
+		super.glFrustum(l, r, b, t, n, f);
+	}
+
+	//**********************************************************************
+	// Override Methods (GL, queries)
+	//**********************************************************************
+
+	// Gives the current matrices. Other queries leave params unchanged.
+	public void	glGetFloatv(int pname, float[] params, int offset)
+	{
+		float[]	m = getMatrix(pname);
+
+		if (m != null)
+			System.arraycopy(m, 0, params, offset, 16);
+
+		super.glGetFloatv(pname, params, offset);
+	}
+
+	public void	glGetDoublev(int pname, double[] params, int offset)
+	{
+		float[]	m = getMatrix(pname);
+
+		if (m != null)
+			for (int i=0; i<16; i++)
+				params[offset + i] = m[i];
+
+		super.glGetDoublev(pname, params, offset);
+	}
+
+	//**********************************************************************
+	// Override Methods (GL2Stub)
+	//**********************************************************************
+
+	protected boolean	call(int id)
+	{
+		if (CommandBuffer.isRecordable(id))
+			return true;
+
+		skipped++;
+
+		return false;
+	}
+
+	protected Object	invoke(int id, Object[] args)
+	{
+		buffer.add(id, args);
+
+		return null;
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	private float[]	top()
+	{
+		return stacks[mode][depths[mode]];
+	}
+
+	private void	multiply(float[] m)
+	{
+		float[]	t = top();
+
+		Matrix.multiply(t, m, t);
+	}
+
+	// The top of the stack that pname asks for, or null if not a matrix.
+	private float[]	getMatrix(int pname)
+	{
+		switch (pname)
+		{
+			case GL2.GL_MODELVIEW_MATRIX:
+				return stacks[0][depths[0]];
+
+			case GL2.GL_PROJECTION_MATRIX:
+				return stacks[1][depths[1]];
+
+			case GL2.GL_TEXTURE_MATRIX:
+				return stacks[2][depths[2]];
+
+			default:
+				return null;
+		}
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,811 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+// 20261017 [cg]:	Added elastic collisions between bodies as discs.
+// 20261017 [cg]:	Let start() make the thread pool again after dispose().
+//
+//******************************************************************************
+// Notes:
+//
+// Many points bouncing independently inside a PackedPolygon, with the
+// t_hit and reflection math of updatePointWithReflection() in the reflect
+// apps. Positions and reference vectors are kept in parallel double arrays
+// (structure of arrays). Each step() advances every body by its reference
+// vector times the speed factor, reflecting off as many sides as it reaches.
+//
+// Bodies don't interact, so large counts are split into spans that a
+// ForkJoinPool steps in parallel. Each body's path depends only on its own
+// state, so results are the same to the bit for any number of threads, and
+// reset() with the same seed gives the same run.
+//
+// Each body also keeps its room, a lower bound on how far it can go in its
+// direction of motion before it reaches a side. The direction only changes
+// when it reflects, since the speed factor just scales steps. While a step
+// is shorter than the room, the body moves without testing the sides, and
+// its room shrinks by the step's length. Otherwise the sides are tested, as
+// they would be every step, and the room is found again from the time to hit
+// the side the body will reach next. So sides are tested about once per
+// reflection, and the result is the same as testing them every step.
+//
+// Bodies can also be discs of a given radius that collide elastically with
+// each other. After moving, step() sorts the bodies into a uniform grid of
+// cells at least a diameter wide, so each disc only needs testing against
+// discs in its own and the eight cells around it. The sort reuses its arrays
+// from step to step, so it allocates nothing. Finding the overlapping pairs
+// is split across threads, with each body listing the higher numbered bodies
+// it overlaps, in order. The pairs are then resolved on one thread in order
+// of body numbers, which doesn't depend on the grid or threads, exchanging
+// the normal parts of the velocities of each pair that is approaching, so
+// energy and momentum are conserved even with many contacts at once. Centers
+// still reflect off the sides. A body whose velocity changes has its room
+// reset, so it tests the sides next step.
+//
+// After each step the positions are published as a snapshot of x, y float
+// pairs in a direct buffer, ready for glVertexPointer(). Snapshots are triple
+// buffered, so start() can step on its own thread at a fixed rate while the
+// animator's thread draws whichever snapshot is newest, without waiting.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.LockSupport;
+import com.jogamp.common.nio.Buffers;
+
+//******************************************************************************
+
+/**
+ * The <CODE>ReflectionEngine</CODE> class simulates points reflecting around
+ * inside a convex polygon.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class ReflectionEngine
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int		GRAIN = 8192;		// Bodies per task
+	private static final double	SAFE = 1.0 - 1.0e-9;	// Room margins, for
+	private static final double	SLOP = 1.0e-9;		// roundoff in steps
+	private static final int		MAX_CELLS = 1024;	// Across the grid
+	private static final int		MAX_TOUCH = 8;		// Overlaps per body
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private final int				threads;
+	private ForkJoinPool			pool;		// Null to step serially
+
+	// Body state, one element per body, changed while holding this engine
+	private volatile int			count;
+	private double[]				px;
+	private double[]				py;
+	private double[]				vx;			// Reference vectors
+	private double[]				vy;
+	private double[]				room;		// To the next side
+
+	// Simulation parameters
+	private volatile PackedPolygon	polygon;
+	private volatile double		factor;		// Speed multiplier
+	private long					seed;		// Of the last reset()
+	private double					speed;
+	private long					ticks;		// Steps since reset()
+
+	// Discs, and the grid of cells over [-1, 1] x [-1, 1] that holds them
+	private volatile double		radius;		// 0 for points
+	private int					across;		// Cells per row and column
+	private double					size;		// Cell width
+	private int[]					cells;		// Each body's cell
+	private int[]					order;		// Bodies sorted by cell
+	private int[]					starts;		// Into order, by cell, +1
+	private int[]					touches;	// Each body's overlaps
+	private int[]					touching;	// MAX_TOUCH bodies each
+	private long					contacts;	// In the last step
+
+	// Snapshots, swapped while holding exchange
+	private final Object			exchange = new Object();
+	private Snapshot				back;		// Being written
+	private Snapshot				ready;		// Newest written
+	private Snapshot				front;		// Being drawn
+	private boolean				fresh;		// Ready is newer than front
+
+	// Stepping on a thread of its own
+	private volatile Thread		runner;
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// Creates an engine without bodies that steps with the given number of
+	// threads.
+	public ReflectionEngine(PackedPolygon polygon, int threads)
+	{
+		this.threads = threads;
+
+		pool = ((threads > 1) ? new ForkJoinPool(threads) : null);
+		factor = 1.0;
+		starts = new int[2];
+
+		allocate(0);
+		setPolygon(polygon);
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public int		getCount()
+	{
+		return count;
+	}
+
+	public int		getThreads()
+	{
+		return Math.max(threads, 1);
+	}
+
+	public synchronized long	getTicks()
+	{
+		return ticks;
+	}
+
+	public synchronized double	getX(int i)
+	{
+		return px[i];
+	}
+
+	public synchronized double	getY(int i)
+	{
+		return py[i];
+	}
+
+	public PackedPolygon	getPolygon()
+	{
+		return polygon;
+	}
+
+	// Changes the container. Bodies are scattered again, with the same seed,
+	// since some may be outside of it.
+	public synchronized void	setPolygon(PackedPolygon polygon)
+	{
+		if (polygon == this.polygon)
+			return;
+
+		this.polygon = polygon;
+		reset(count, seed, speed);
+	}
+
+	public double	getFactor()
+	{
+		return factor;
+	}
+
+	// Takes effect from the next step.
+	public void	setFactor(double factor)
+	{
+		this.factor = factor;
+	}
+
+	public double	getRadius()
+	{
+		return radius;
+	}
+
+	// Makes bodies discs that collide, or points that don't if 0.
+	public synchronized void	setRadius(double radius)
+	{
+		this.radius = radius;
+
+		across = ((radius > 0.0) ?
+				  Math.max(1, Math.min(MAX_CELLS, (int)(1.0 / radius))) : 1);
+		size = 2.0 / across;
+		starts = new int[across * across + 1];
+	}
+
+	// Pairs of discs that touched and were approaching in the last step.
+	public synchronized long	getContacts()
+	{
+		return contacts;
+	}
+
+	public synchronized double	getDX(int i)
+	{
+		return vx[i];
+	}
+
+	public synchronized double	getDY(int i)
+	{
+		return vy[i];
+	}
+
+	// Places one body, with its reference vector per step.
+	public synchronized void	setBody(int i, double x, double y,
+										double dx, double dy)
+	{
+		px[i] = x;
+		py[i] = y;
+		vx[i] = dx;
+		vy[i] = dy;
+		room[i] = measure(x, y, dx, dy);
+	}
+
+	//**********************************************************************
+	// Public Methods (Simulation)
+	//**********************************************************************
+
+	// Scatters count bodies uniformly inside the polygon, heading in uniform
+	// directions with reference vectors of the given length. The same seed
+	// gives the same bodies.
+	public synchronized void	reset(int count, long seed, double speed)
+	{
+		Random	random = new Random(seed);
+
+		if (count > px.length)
+			allocate(count);
+
+		this.count = count;
+		this.seed = seed;
+		this.speed = speed;
+
+		for (int i=0; i<count; i++)
+		{
+			double	x;
+			double	y;
+
+			do
+			{
+				x = 2.0 * random.nextDouble() - 1.0;
+				y = 2.0 * random.nextDouble() - 1.0;
+			}
+			while (!polygon.contains(x, y));
+
+			double	theta = 2.0 * Math.PI * random.nextDouble();
+
+			px[i] = x;
+			py[i] = y;
+			vx[i] = speed * Math.cos(theta);
+			vy[i] = speed * Math.sin(theta);
+			room[i] = measure(x, y, vx[i], vy[i]);
+		}
+
+		ticks = 0;
+		publish(0, count);
+		swap();
+	}
+
+	// Advances every body by one step, resolves contacts between discs, and
+	// publishes a snapshot.
+	public synchronized void	step()
+	{
+		double	factor = this.factor;			// The same for all spans
+
+		if ((pool != null) && (count > GRAIN))
+			pool.invoke(new Span(0, count, factor));
+		else
+			advance(0, count, factor);
+
+		collide();
+
+		ticks++;
+		swap();
+	}
+
+	// Changes the velocities of discs that overlap and are approaching, as
+	// in elastic collisions between equal masses, without moving them.
+	public synchronized void	collide()
+	{
+		contacts = 0;
+
+		if ((radius <= 0.0) || (count < 2))
+			return;
+
+		sort();
+
+		if ((pool != null) && (count > GRAIN))
+			pool.invoke(new Contacts(0, count));
+		else
+			find(0, count);
+
+		contacts = resolve();
+	}
+
+	// Steps on a thread of its own, hz times a second, until stop(). Steps
+	// are dropped rather than bunched up if it falls behind. Makes the pool
+	// again if dispose() shut it down.
+	public void	start(double hz)
+	{
+		if (runner != null)
+			return;
+
+		synchronized (this)
+		{
+			if (runner != null)
+				return;
+
+			if ((pool == null) && (threads > 1))
+				pool = new ForkJoinPool(threads);
+
+			startRunner((long)(1.0e9 / hz));
+		}
+	}
+
+	// Stops stepping on the thread, if started. Doesn't wait for it.
+	public void	stop()
+	{
+		runner = null;
+	}
+
+	// Stops the threads. Steps after this are serial until start().
+	public void	dispose()
+	{
+		stop();
+
+		synchronized (this)
+		{
+			if (pool != null)
+				pool.shutdown();
+
+			pool = null;
+		}
+	}
+
+	//**********************************************************************
+	// Public Methods (Rendering)
+	//**********************************************************************
+
+	// The newest snapshot. Call from one thread only, such as the animator's.
+	// The snapshot stays unchanged until the next call.
+	public Snapshot	getSnapshot()
+	{
+		synchronized (exchange)
+		{
+			if (fresh)
+			{
+				Snapshot	s = front;
+
+				front = ready;
+				ready = s;
+				fresh = false;
+			}
+
+			return front;
+		}
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	private void	allocate(int capacity)
+	{
+		double[]	x = new double[capacity];
+		double[]	y = new double[capacity];
+		double[]	dx = new double[capacity];
+		double[]	dy = new double[capacity];
+		double[]	d = new double[capacity];
+
+		cells = new int[capacity];
+		order = new int[capacity];
+		touches = new int[capacity];
+		touching = new int[capacity * MAX_TOUCH];
+
+		if (px != null)
+		{
+			System.arraycopy(px, 0, x, 0, count);
+			System.arraycopy(py, 0, y, 0, count);
+			System.arraycopy(vx, 0, dx, 0, count);
+			System.arraycopy(vy, 0, dy, 0, count);
+			System.arraycopy(room, 0, d, 0, count);
+		}
+
+		px = x;
+		py = y;
+		vx = dx;
+		vy = dy;
+		room = d;
+
+		synchronized (exchange)
+		{
+			back = new Snapshot(capacity);
+			ready = new Snapshot(capacity);
+			front = new Snapshot(capacity);
+			fresh = false;
+		}
+	}
+
+	// Steps every period ns on a new thread, until it's no longer the runner.
+	private void	startRunner(final long period)
+	{
+		Thread	thread = new Thread(new Runnable()
+			{
+				public void	run()
+				{
+					long	next = System.nanoTime();
+
+					while (runner == Thread.currentThread())
+					{
+						step();
+
+						next += period;
+
+						long	wait = next - System.nanoTime();
+
+						if (wait > 0L)
+							LockSupport.parkNanos(wait);
+						else
+							next = System.nanoTime();
+					}
+				}
+			}, "ReflectionEngine");
+
+		thread.setDaemon(true);
+		runner = thread;
+		thread.start();
+	}
+
+	// Steps bodies lo to hi-1, and writes them into the back snapshot.
+	private void	advance(int lo, int hi, double factor)
+	{
+		PackedPolygon	polygon = this.polygon;
+		double[]		px = this.px;
+		double[]		py = this.py;
+		double[]		vx = this.vx;
+		double[]		vy = this.vy;
+		double[]		room = this.room;
+
+		for (int i=lo; i<hi; i++)
+		{
+			double	ddx = factor * vx[i];
+			double	ddy = factor * vy[i];
+			double	left = room[i] - Math.sqrt(ddx * ddx + ddy * ddy);
+
+			if (left > 0.0)
+			{
+				px[i] += ddx;
+				py[i] += ddy;
+				room[i] = left;
+			}
+			else
+			{
+				room[i] = reflect(polygon, i, ddx, ddy);
+			}
+		}
+
+		publish(lo, hi);
+	}
+
+	// updatePointWithReflection() for body i, moving by (ddx, ddy). Returns
+	// the body's room afterward.
+	private double	reflect(PackedPolygon polygon, int i,
+							double ddx, double ddy)
+	{
+		double	x = px[i];
+		double	y = py[i];
+		double	dx = vx[i];
+		double	dy = vy[i];
+
+		while (true)
+		{
+			// Reverse instead of reflect exactly on a corner.
+			if (polygon.isVertex(x, y))
+			{
+				dx = -dx;
+				dy = -dy;
+				ddx = -ddx;
+				ddy = -ddy;
+			}
+
+			int		side = polygon.getFirstSide(x, y, ddx, ddy);
+			double	tmin = ((side < 0) ? Double.MAX_VALUE :
+							polygon.getTime(side, x, y, ddx, ddy));
+
+			if (tmin > 1.0)
+			{
+				px[i] = x + ddx;
+				py[i] = y + ddy;
+				vx[i] = dx;
+				vy[i] = dy;
+
+				if (side < 0)
+					return 0.0;			// Test the sides every step
+
+				return (tmin - 1.0) * Math.sqrt(ddx * ddx + ddy * ddy) * SAFE -
+					SLOP;
+			}
+
+			x += ddx * tmin;
+			y += ddy * tmin;
+
+			double	ndx = polygon.getNormalX(side);
+			double	ndy = polygon.getNormalY(side);
+			double	dot = ddx * ndx + ddy * ndy;
+			double	vreflectedx = ddx - 2.0 * dot * ndx;
+			double	vreflectedy = ddy - 2.0 * dot * ndy;
+
+			ddx = vreflectedx * (1.0 - tmin);
+			ddy = vreflectedy * (1.0 - tmin);
+
+			double	dot2 = dx * ndx + dy * ndy;
+
+			dx -= 2.0 * dot2 * ndx;
+			dy -= 2.0 * dot2 * ndy;
+		}
+	}
+
+	// Sorts the bodies by cell, with a counting sort.
+	private void	sort()
+	{
+		int	n = starts.length - 1;
+
+		Arrays.fill(starts, 0);
+
+		for (int i=0; i<count; i++)
+		{
+			int	cx = Math.min(Math.max((int)((px[i] + 1.0) / size), 0),
+								  across - 1);
+			int	cy = Math.min(Math.max((int)((py[i] + 1.0) / size), 0),
+								  across - 1);
+			int	c = cy * across + cx;
+
+			cells[i] = c;
+			starts[c + 1]++;
+		}
+
+		for (int c=0; c<n; c++)
+			starts[c + 1] += starts[c];
+
+		for (int i=0; i<count; i++)				// Shifts starts down a cell
+			order[starts[cells[i]]++] = i;
+
+		for (int c=n; c>0; c--)
+			starts[c] = starts[c - 1];
+
+		starts[0] = 0;
+	}
+
+	// Lists the higher numbered bodies that each of bodies lo to hi-1
+	// overlaps, in order. Only the lowest MAX_TOUCH are kept, which is more
+	// than equal discs can touch without overlapping a lot.
+	private void	find(int lo, int hi)
+	{
+		double	d2 = 4.0 * radius * radius;
+
+		for (int i=lo; i<hi; i++)
+		{
+			double	x = px[i];
+			double	y = py[i];
+			int		cx = cells[i] % across;
+			int		cy = cells[i] / across;
+			int		n = 0;
+
+			for (int gy=Math.max(0, cy-1); gy<=Math.min(across-1, cy+1); gy++)
+			{
+				for (int gx=Math.max(0, cx-1); gx<=Math.min(across-1, cx+1); gx++)
+				{
+					int	g = gy * across + gx;
+
+					for (int k=starts[g]; k<starts[g + 1]; k++)
+					{
+						int		j = order[k];
+						double	ex = px[j] - x;
+						double	ey = py[j] - y;
+
+						if ((j > i) && (ex * ex + ey * ey < d2))
+							n = insert(i * MAX_TOUCH, n, j);
+					}
+				}
+			}
+
+			touches[i] = n;
+		}
+	}
+
+	// Inserts j in order into a list of n bodies at base. Returns the new
+	// length.
+	private int	insert(int base, int n, int j)
+	{
+		if ((n == MAX_TOUCH) && (touching[base + n - 1] < j))
+			return n;
+
+		int	k = ((n < MAX_TOUCH) ? n : n - 1);
+
+		while ((k > 0) && (touching[base + k - 1] > j))
+		{
+			touching[base + k] = touching[base + k - 1];
+			k--;
+		}
+
+		touching[base + k] = j;
+
+		return Math.min(n + 1, MAX_TOUCH);
+	}
+
+	// Exchanges the normal parts of the velocities of each listed pair that
+	// is approaching, in order. Returns how many were.
+	private long	resolve()
+	{
+		long	n = 0L;
+
+		for (int i=0; i<count; i++)
+		{
+			for (int k=0; k<touches[i]; k++)
+			{
+				int		j = touching[i * MAX_TOUCH + k];
+				double	ex = px[j] - px[i];
+				double	ey = py[j] - py[i];
+				double	e = Math.sqrt(ex * ex + ey * ey);
+
+				if (e == 0.0)					// No normal to use
+					continue;
+
+				double	nx = ex / e;
+				double	ny = ey / e;
+				double	a = (vx[i] - vx[j]) * nx + (vy[i] - vy[j]) * ny;
+
+				if (a > 0.0)
+				{
+					vx[i] -= a * nx;
+					vy[i] -= a * ny;
+					vx[j] += a * nx;
+					vy[j] += a * ny;
+					room[i] = 0.0;				// Test the sides next step
+					room[j] = 0.0;
+					n++;
+				}
+			}
+		}
+
+		return n;
+	}
+
+	// The room of a body at (x, y) moving in the direction of (dx, dy).
+	private double	measure(double x, double y, double dx, double dy)
+	{
+		int	side = polygon.getFirstSide(x, y, dx, dy);
+
+		if (side < 0)
+			return 0.0;					// Test the sides every step
+
+		return polygon.getTime(side, x, y, dx, dy) *
+			Math.sqrt(dx * dx + dy * dy) * SAFE - SLOP;
+	}
+
+	private void	publish(int lo, int hi)
+	{
+		FloatBuffer	xy = back.xy;
+
+		for (int i=lo; i<hi; i++)
+		{
+			xy.put(2 * i, (float)px[i]);
+			xy.put(2 * i + 1, (float)py[i]);
+		}
+	}
+
+	// Makes the back snapshot the newest, and starts writing the next one.
+	private void	swap()
+	{
+		back.count = count;
+		back.tick = ticks;
+
+		synchronized (exchange)
+		{
+			Snapshot	s = ready;
+
+			ready = back;
+			back = s;
+			fresh = true;
+		}
+	}
+
+	//**********************************************************************
+	// Public Inner Classes
+	//**********************************************************************
+
+	// Body positions after one step.
+	public static final class Snapshot
+	{
+		private final FloatBuffer	xy;
+		private int				count;
+		private long				tick;
+
+		private Snapshot(int capacity)
+		{
+			xy = Buffers.newDirectFloatBuffer(Math.max(2, 2 * capacity));
+		}
+
+		// Positions as x, y pairs, from index 0.
+		public FloatBuffer	getBuffer()
+		{
+			return xy;
+		}
+
+		public int			getCount()
+		{
+			return count;
+		}
+
+		public long		getTick()
+		{
+			return tick;
+		}
+	}
+
+	//**********************************************************************
+	// Private Inner Classes
+	//**********************************************************************
+
+	// Finds overlaps for a span of bodies, splitting it in half until it is
+	// small.
+	private final class Contacts extends RecursiveAction
+	{
+		private static final long	serialVersionUID = 1L;
+
+		private final int	lo;
+		private final int	hi;
+
+		public Contacts(int lo, int hi)
+		{
+			this.lo = lo;
+			this.hi = hi;
+		}
+
+		protected void	compute()
+		{
+			if (hi - lo <= GRAIN)
+			{
+				find(lo, hi);
+			}
+			else
+			{
+				int	mid = (lo + hi) >>> 1;
+
+				invokeAll(new Contacts(lo, mid), new Contacts(mid, hi));
+			}
+		}
+	}
+
+	// Steps a span of bodies, splitting it in half until it is small.
+	private final class Span extends RecursiveAction
+	{
+		private static final long	serialVersionUID = 1L;
+
+		private final int		lo;
+		private final int		hi;
+		private final double	factor;
+
+		public Span(int lo, int hi, double factor)
+		{
+			this.lo = lo;
+			this.hi = hi;
+			this.factor = factor;
+		}
+
+		protected void	compute()
+		{
+			if (hi - lo <= GRAIN)
+			{
+				advance(lo, hi, factor);
+			}
+			else
+			{
+				int	mid = (lo + hi) >>> 1;
+
+				invokeAll(new Span(lo, mid, factor), new Span(mid, hi, factor));
+			}
+		}
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,372 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+// 20261017 [cg]:	Cull subtrees outside the view frustum while collecting.
+// 20261017 [cg]:	Give regions of a TextureAtlas the atlas's texture key.
+// 20261017 [cg]:	Forget keys that go unused for a frame.
+// 20261017 [cg]:	Skip binds of the texture already bound while drawing.
+//
+//******************************************************************************
+// Notes:
+//
+// An alternative to Node.render() for scenes where siblings alternate
+// between textures and materials. The graph is traversed once to bring the
+// cached world matrices and bounds up to date, then again to collect every
+// node in the view frustum, skipping culled subtrees like Node.render(). The
+// nodes are then sorted by texture key, then material key, then traversal
+// order, and each one is drawn with its own world matrix. Only use it for
+// opaque geometry, since blending depends on drawing order.
+//
+// Keys are numbered in the order they are first seen, and the numbers are
+// kept between frames, so sorting is stable from frame to frame. Materials
+// with the same values get the same number even if they're different arrays.
+// Regions of a TextureAtlas are numbered as the atlas, since they share it.
+// Keys that no node returned in a frame are forgotten at the end of it, so
+// the queue doesn't hold on to replaced textures or old material values.
+// When every key is still in use, nothing is forgotten or allocated.
+//
+// The sorted nodes are drawn in a TextureBinding pass, so shapes drawn by
+// nodes in a row with the same texture don't bind it again. The binds that
+// were actually sent are counted, along with the key changes.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.util.*;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.util.texture.Texture;
+
+//******************************************************************************
+
+/**
+ * The <CODE>RenderQueue</CODE> class draws a scene graph sorted by state.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class RenderQueue
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	// Sort keys pack texture, material, and node index numbers into the 19,
+	// 20, and 24 bits below the sign bit of a long.
+	private static final int		INDEX_BITS = 24;
+	private static final int		MATERIAL_BITS = 20;
+	private static final int		TEXTURE_SHIFT = INDEX_BITS + MATERIAL_BITS;
+
+	private static final int		MAX_NODES = 1 << INDEX_BITS;
+	private static final int		MAX_MATERIALS = 1 << MATERIAL_BITS;
+	private static final int		MAX_TEXTURES = 1 << 19;
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	// Key numbering, kept between frames. Number 0 means no key. Each value
+	// is the key's number, then the last frame it was seen in.
+	private final Map<Texture, int[]>		textures;
+	private final Map<MaterialKey, int[]>	materials;
+	private final MaterialKey				probe;
+	private int							textureNumbers;	// Given out
+	private int							materialNumbers;
+	private int							texturesSeen;	// This frame
+	private int							materialsSeen;
+	private int							frame;
+
+	// Items collected this frame
+	private Node[]						items;
+	private long[]						order;	// Sort keys
+	private int							count;
+	private final float[]				view;
+	private final Frustum				frustum;
+
+	// Statistics for the last frame
+	private int							textureChanges;
+	private int							binds;
+	private int							materialChanges;
+	private int							unsortedTextureChanges;
+	private int							unsortedMaterialChanges;
+	private int							culled;
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	public RenderQueue()
+	{
+		textures = new IdentityHashMap<Texture, int[]>();
+		materials = new HashMap<MaterialKey, int[]>();
+		probe = new MaterialKey(null);
+
+		items = new Node[64];
+		order = new long[64];
+		view = new float[16];
+		frustum = new Frustum();
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	// Number of nodes drawn in the last frame.
+	public int		getCount()
+	{
+		return count;
+	}
+
+	// Number of nodes culled in the last frame.
+	public int		getCulledCount()
+	{
+		return culled;
+	}
+
+	// Times the texture key changed between consecutive nodes last frame.
+	public int		getTextureChanges()
+	{
+		return textureChanges;
+	}
+
+	// Texture binds sent through TextureBinding while drawing last frame.
+	public int		getBindCount()
+	{
+		return binds;
+	}
+
+	// Times the material key changed between consecutive nodes last frame.
+	public int		getMaterialChanges()
+	{
+		return materialChanges;
+	}
+
+	// Texture key changes there would have been in traversal order.
+	public int		getUnsortedTextureChanges()
+	{
+		return unsortedTextureChanges;
+	}
+
+	// Material key changes there would have been in traversal order.
+	public int		getUnsortedMaterialChanges()
+	{
+		return unsortedMaterialChanges;
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Draws the graph under root. Like Node.render(), world matrices are
+	// relative to the modelview matrix at the time of the call.
+	public void	render(GL2 gl, Node root)
+	{
+		if (!Node.isCulling())
+		{
+			render(gl, root, null);
+			return;
+		}
+
+		frustum.set(gl);
+		render(gl, root, frustum);
+	}
+
+	// Draws the graph under root, culling against the given frustum (in the
+	// coordinate system of the call) or none if null.
+	public void	render(GL2 gl, Node root, Frustum frustum)
+	{
+		root.prepare(null, false);
+
+		count = 0;
+		frame++;
+		texturesSeen = 0;
+		materialsSeen = 0;
+		root.collect(this, frustum, false);
+		culled = root.getSize() - count;
+
+		if (texturesSeen < textures.size())
+			forget(textures);
+
+		if (materialsSeen < materials.size())
+			forget(materials);
+
+		unsortedTextureChanges = 0;
+		unsortedMaterialChanges = 0;
+
+		for (int i=1; i<count; i++)
+		{
+			if (textureOf(order[i]) != textureOf(order[i - 1]))
+				unsortedTextureChanges++;
+
+			if (materialOf(order[i]) != materialOf(order[i - 1]))
+				unsortedMaterialChanges++;
+		}
+
+		Arrays.sort(order, 0, count);
+
+		textureChanges = 0;
+		materialChanges = 0;
+
+		long	issued = TextureBinding.getIssuedCount();
+
+		gl.glGetFloatv(GL2.GL_MODELVIEW_MATRIX, view, 0);
+		gl.glPushMatrix();
+		TextureBinding.begin(gl);
+
+		try
+		{
+			for (int i=0; i<count; i++)
+			{
+				long	key = order[i];
+				Node	node = items[(int)(key & (MAX_NODES - 1))];
+
+				if (i > 0)
+				{
+					if (textureOf(key) != textureOf(order[i - 1]))
+						textureChanges++;
+
+					if (materialOf(key) != materialOf(order[i - 1]))
+						materialChanges++;
+				}
+
+				node.load(gl, view);
+				node.depict(gl);
+			}
+		}
+		finally
+		{
+			TextureBinding.end(gl);		// Don't filter other binds
+		}
+
+		gl.glPopMatrix();
+
+		binds = (int)(TextureBinding.getIssuedCount() - issued);
+
+		Arrays.fill(items, 0, count, null);		// Don't hold on to nodes
+	}
+
+	//**********************************************************************
+	// Package Methods
+	//**********************************************************************
+
+	// Called by Node.collect() for each node in traversal order.
+	void	add(Node node)
+	{
+		if (count == MAX_NODES)
+			throw new IllegalStateException("Too many nodes for RenderQueue");
+
+		if (count == items.length)
+		{
+			items = Arrays.copyOf(items, count * 2);
+			order = Arrays.copyOf(order, count * 2);
+		}
+
+		long	t = numberTexture(node.getTextureKey());
+		long	m = numberMaterial(node.getMaterialKey());
+
+		items[count] = node;
+		order[count] = (t << TEXTURE_SHIFT) | (m << INDEX_BITS) | count;
+		count++;
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	private int	numberTexture(Texture texture)
+	{
+		if (texture == null)
+			return 0;
+
+		if (texture instanceof TextureAtlas.Region)
+			texture = ((TextureAtlas.Region)texture).getAtlas();
+
+		int[]	n = textures.get(texture);
+
+		if (n == null)
+			textures.put(texture, n = new int[] { ++textureNumbers, 0 });
+
+		if (n[1] != frame)
+		{
+			n[1] = frame;
+			texturesSeen++;
+		}
+
+		return (n[0] % MAX_TEXTURES);
+	}
+
+	private int	numberMaterial(float[] material)
+	{
+		if (material == null)
+			return 0;
+
+		probe.values = material;
+
+		int[]	n = materials.get(probe);
+
+		if (n == null)
+			materials.put(new MaterialKey(material.clone()),
+						  n = new int[] { ++materialNumbers, 0 });
+
+		if (n[1] != frame)
+		{
+			n[1] = frame;
+			materialsSeen++;
+		}
+
+		probe.values = null;
+
+		return (n[0] % MAX_MATERIALS);
+	}
+
+	// Removes the keys not seen this frame.
+	private void	forget(Map<?, int[]> map)
+	{
+		Iterator<int[]>	it = map.values().iterator();
+
+		while (it.hasNext())
+			if (it.next()[1] != frame)
+				it.remove();
+	}
+
+	private static long	textureOf(long key)
+	{
+		return (key >>> TEXTURE_SHIFT);
+	}
+
+	private static long	materialOf(long key)
+	{
+		return ((key >>> INDEX_BITS) & (MAX_MATERIALS - 1));
+	}
+
+	//**********************************************************************
+	// Private Inner Classes
+	//**********************************************************************
+
+	// Compares material arrays by value.
+	private static final class MaterialKey
+	{
+		private float[]	values;
+
+		public MaterialKey(float[] values)
+		{
+			this.values = values;
+		}
+
+		public boolean	equals(Object o)
+		{
+			return ((o instanceof MaterialKey) &&
+					Arrays.equals(values, ((MaterialKey)o).values));
+		}
+
+		public int		hashCode()
+		{
+			return Arrays.hashCode(values);
+		}
+	}
+}
+
+//******************************************************************************
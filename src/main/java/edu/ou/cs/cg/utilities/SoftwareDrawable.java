@@ -0,0 +1,598 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// A GLAutoDrawable without a window, for running a GLEventListener (like a
+// View) on a SoftwareGL. Each display() makes its context current, calls
+// init() and reshape() on listeners that haven't been initialized, calls
+// display() on all of them, runs any queued GLRunnables, and then finishes
+// drawing, so the image is ready afterward. Everything happens on the calling
+// thread.
+//
+// Making the context current lets the GLU and GLUT calls in the listeners
+// find the GL, since they look it up from the current context.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.awt.image.BufferedImage;
+import java.nio.IntBuffer;
+import java.util.*;
+import com.jogamp.common.util.locks.LockFactory;
+import com.jogamp.common.util.locks.RecursiveLock;
+import com.jogamp.nativewindow.NativeSurface;
+import com.jogamp.opengl.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>SoftwareDrawable</CODE> class drives GLEventListeners on a
+ * SoftwareGL without a window.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class SoftwareDrawable implements GLAutoDrawable
+{
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private final SoftwareGL				gl;
+	private final Context					context;
+	private final RecursiveLock			lock;
+
+	private final List<GLEventListener>	listeners;
+	private final Set<GLEventListener>		initialized;
+	private final List<GLRunnable>			runnables;
+	private boolean						resized;
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// Draws into a width x height image with the given number of threads.
+	public SoftwareDrawable(int width, int height, int threads)
+	{
+		gl = new SoftwareGL(width, height, threads);
+		context = new Context(this);
+		lock = LockFactory.createRecursiveLock();
+
+		listeners = new ArrayList<GLEventListener>();
+		initialized = new HashSet<GLEventListener>();
+		runnables = new ArrayList<GLRunnable>();
+
+		gl.setContext(context);
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public SoftwareGL	getSoftwareGL()
+	{
+		return gl;
+	}
+
+	// The last frame drawn, top row first.
+	public BufferedImage	getImage()
+	{
+		return gl.getImage();
+	}
+
+	// Resizes the image. Listeners get reshape() on the next display().
+	public void	setSize(int width, int height)
+	{
+		gl.setSize(width, height);
+		resized = true;
+	}
+
+	//**********************************************************************
+	// Override Methods (GLAutoDrawable)
+	//**********************************************************************
+
+	public void	display()
+	{
+		context.makeCurrent();
+
+		try
+		{
+			int	w = gl.getWidth();
+			int	h = gl.getHeight();
+
+			for (GLEventListener listener : listeners)
+			{
+				if (initialized.add(listener))
+				{
+					gl.glViewport(0, 0, w, h);
+					listener.init(this);
+					listener.reshape(this, 0, 0, w, h);
+				}
+				else if (resized)
+				{
+					gl.glViewport(0, 0, w, h);
+					listener.reshape(this, 0, 0, w, h);
+				}
+			}
+
+			resized = false;
+
+			for (GLEventListener listener : listeners)
+				listener.display(this);
+
+			flushGLRunnables();
+			gl.glFinish();
+		}
+		finally
+		{
+			context.release();
+		}
+	}
+
+	public void	destroy()
+	{
+		context.makeCurrent();
+
+		try
+		{
+			for (GLEventListener listener : listeners)
+				if (initialized.remove(listener))
+					listener.dispose(this);
+
+			gl.dispose();
+		}
+		finally
+		{
+			context.release();
+		}
+	}
+
+	public void	addGLEventListener(GLEventListener listener)
+	{
+		listeners.add(listener);
+	}
+
+	public void	addGLEventListener(int index, GLEventListener listener)
+	{
+		listeners.add(((index < 0) ? listeners.size() : index), listener);
+	}
+
+	public int		getGLEventListenerCount()
+	{
+		return listeners.size();
+	}
+
+	public boolean	areAllGLEventListenerInitialized()
+	{
+		return initialized.containsAll(listeners);
+	}
+
+	public GLEventListener	getGLEventListener(int index)
+	{
+		return listeners.get(((index < 0) ? listeners.size() - 1 : index));
+	}
+
+	public boolean	getGLEventListenerInitState(GLEventListener listener)
+	{
+		return initialized.contains(listener);
+	}
+
+	public void	setGLEventListenerInitState(GLEventListener listener,
+												boolean initialized)
+	{
+		if (initialized)
+			this.initialized.add(listener);
+		else
+			this.initialized.remove(listener);
+	}
+
+	public GLEventListener	disposeGLEventListener(GLEventListener listener,
+												   boolean remove)
+	{
+		if (initialized.remove(listener))
+		{
+			context.makeCurrent();
+
+			try
+			{
+				listener.dispose(this);
+			}
+			finally
+			{
+				context.release();
+			}
+		}
+
+		if (remove)
+			listeners.remove(listener);
+
+		return listener;
+	}
+
+	public GLEventListener	removeGLEventListener(GLEventListener listener)
+	{
+		initialized.remove(listener);
+		listeners.remove(listener);
+
+		return listener;
+	}
+
+	public boolean	invoke(boolean wait, GLRunnable runnable)
+	{
+		runnables.add(runnable);
+
+		return true;
+	}
+
+	public boolean	invoke(boolean wait, List<GLRunnable> runnables)
+	{
+		this.runnables.addAll(runnables);
+
+		return true;
+	}
+
+	// Runs queued GLRunnables. Call with the context current.
+	public void	flushGLRunnables()
+	{
+		while (!runnables.isEmpty())
+			runnables.remove(0).run(this);
+	}
+
+	public GLContext	getContext()
+	{
+		return context;
+	}
+
+	public GLContext	setContext(GLContext newCtx, boolean destroyPrevCtx)
+	{
+		return context;								// Fixed
+	}
+
+	public GLContext	createContext(GLContext shareWith)
+	{
+		return context;
+	}
+
+	public GL		getGL()
+	{
+		return gl;
+	}
+
+	public GL		setGL(GL gl)
+	{
+		return this.gl;								// Fixed
+	}
+
+	public GLDrawable	getDelegatedDrawable()
+	{
+		return this;
+	}
+
+	public void	setAnimator(GLAnimatorControl animator)
+	{
+	}
+
+	public GLAnimatorControl	getAnimator()
+	{
+		return null;
+	}
+
+	public Thread	setExclusiveContextThread(Thread t)
+	{
+		return null;
+	}
+
+	public Thread	getExclusiveContextThread()
+	{
+		return null;
+	}
+
+	public void	setAutoSwapBufferMode(boolean enable)
+	{
+	}
+
+	public boolean	getAutoSwapBufferMode()
+	{
+		return false;
+	}
+
+	public void	setContextCreationFlags(int flags)
+	{
+	}
+
+	public int		getContextCreationFlags()
+	{
+		return 0;
+	}
+
+	public Object	getUpstreamWidget()
+	{
+		return null;
+	}
+
+	public RecursiveLock	getUpstreamLock()
+	{
+		return lock;
+	}
+
+	public boolean	isThreadGLCapable()
+	{
+		return true;
+	}
+
+	//**********************************************************************
+	// Override Methods (GLDrawable)
+	//**********************************************************************
+
+	public void	setRealized(boolean realized)
+	{
+	}
+
+	public boolean	isRealized()
+	{
+		return true;
+	}
+
+	public int		getSurfaceWidth()
+	{
+		return gl.getWidth();
+	}
+
+	public int		getSurfaceHeight()
+	{
+		return gl.getHeight();
+	}
+
+	public boolean	isGLOriented()
+	{
+		return true;
+	}
+
+	public void	swapBuffers()
+	{
+		gl.glFinish();
+	}
+
+	public GLCapabilitiesImmutable	getChosenGLCapabilities()
+	{
+		return null;
+	}
+
+	public GLCapabilitiesImmutable	getRequestedGLCapabilities()
+	{
+		return null;
+	}
+
+	public GLProfile	getGLProfile()
+	{
+		return null;
+	}
+
+	public NativeSurface	getNativeSurface()
+	{
+		return null;
+	}
+
+	public long	getHandle()
+	{
+		return 0L;
+	}
+
+	public GLDrawableFactory	getFactory()
+	{
+		return null;
+	}
+
+	public String	toString()
+	{
+		return "SoftwareDrawable[" + gl.getWidth() + "x" + gl.getHeight() +
+			"]";
+	}
+
+	//**********************************************************************
+	// Private Inner Classes
+	//**********************************************************************
+
+	// A context that only knows how to become current, for GLU and GLUT.
+	private static final class Context extends GLContext
+	{
+		private final SoftwareDrawable	drawable;
+
+		public Context(SoftwareDrawable drawable)
+		{
+			this.drawable = drawable;
+		}
+
+		public int		makeCurrent()
+		{
+			setCurrent(this);
+
+			return CONTEXT_CURRENT;
+		}
+
+		public void	release()
+		{
+			setCurrent(null);
+		}
+
+		public GL		getGL()
+		{
+			return drawable.gl;
+		}
+
+		public GL		getRootGL()
+		{
+			return drawable.gl;
+		}
+
+		public GL		setGL(GL gl)
+		{
+			return drawable.gl;
+		}
+
+		public GLDrawable	getGLDrawable()
+		{
+			return drawable;
+		}
+
+		public GLDrawable	setGLDrawable(GLDrawable readWrite,
+										  boolean setWriteOnly)
+		{
+			return drawable;
+		}
+
+		public boolean	isGLReadDrawableAvailable()
+		{
+			return false;
+		}
+
+		public GLDrawable	getGLReadDrawable()
+		{
+			return drawable;
+		}
+
+		public GLDrawable	setGLReadDrawable(GLDrawable read)
+		{
+			return drawable;
+		}
+
+		public void	copy(GLContext source, int mask)
+		{
+		}
+
+		public void	destroy()
+		{
+		}
+
+		public boolean	isFunctionAvailable(String name)
+		{
+			return false;
+		}
+
+		public boolean	isExtensionAvailable(String name)
+		{
+			return false;
+		}
+
+		public int		getPlatformExtensionCount()
+		{
+			return 0;
+		}
+
+		public String	getPlatformExtensionsString()
+		{
+			return "";
+		}
+
+		public int		getGLExtensionCount()
+		{
+			return 0;
+		}
+
+		public String	getGLExtensionsString()
+		{
+			return "";
+		}
+
+		public int		getContextCreationFlags()
+		{
+			return 0;
+		}
+
+		public void	setContextCreationFlags(int flags)
+		{
+		}
+
+		public int		getDefaultVAO()
+		{
+			return 0;
+		}
+
+		public int		getBoundFramebuffer(int target)
+		{
+			return 0;
+		}
+
+		public int		getDefaultDrawFramebuffer()
+		{
+			return 0;
+		}
+
+		public int		getDefaultReadFramebuffer()
+		{
+			return 0;
+		}
+
+		public int		getDefaultReadBuffer()
+		{
+			return GL.GL_BACK;
+		}
+
+		public int		getDefaultPixelDataType()
+		{
+			return GL.GL_UNSIGNED_BYTE;
+		}
+
+		public int		getDefaultPixelDataFormat()
+		{
+			return GL.GL_RGBA;
+		}
+
+		public String	getGLDebugMessageExtension()
+		{
+			return null;
+		}
+
+		public boolean	isGLDebugSynchronous()
+		{
+			return false;
+		}
+
+		public void	setGLDebugSynchronous(boolean synchronous)
+		{
+		}
+
+		public boolean	isGLDebugMessageEnabled()
+		{
+			return false;
+		}
+
+		public void	enableGLDebugMessage(boolean enable)
+		{
+		}
+
+		public void	addGLDebugListener(GLDebugListener listener)
+		{
+		}
+
+		public void	removeGLDebugListener(GLDebugListener listener)
+		{
+		}
+
+		public void	glDebugMessageControl(int source, int type, int severity,
+										  int count, IntBuffer ids,
+										  boolean enabled)
+		{
+		}
+
+		public void	glDebugMessageControl(int source, int type, int severity,
+										  int count, int[] ids, int offset,
+										  boolean enabled)
+		{
+		}
+
+		public void	glDebugMessageInsert(int source, int type, int id,
+										 int severity, String buf)
+		{
+		}
+	}
+}
+
+//******************************************************************************
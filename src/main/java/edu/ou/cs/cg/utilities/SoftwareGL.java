@@ -0,0 +1,1938 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// A GL2 that draws on the CPU into a Rasterizer, for machines without a GPU.
+// It implements the part of the fixed-function pipeline that the course apps
+// use, in immediate mode:
+//
+//   - the modelview, projection, and texture matrix stacks, glOrtho(),
+//     glFrustum(), and the GLU calls built on them, and glViewport();
+//   - glBegin()/glEnd() for every primitive type, with flat or smooth
+//     shading, face culling, and clipping at the near plane;
+//   - per-vertex lighting with 8 lights (attenuation, spotlights, global
+//     ambient, a non-local viewer), front materials, glColorMaterial(),
+//     and GL_NORMALIZE;
+//   - 2D textures (base level, nearest or bilinear, repeat or clamp) with
+//     the MODULATE, REPLACE, and DECAL environments;
+//   - depth testing, blending with alpha factors, point size and smoothing,
+//     line width, and glPushAttrib()/glPopAttrib() for those groups;
+//   - glGet*() for matrices, the viewport, and a few limits, and
+//     glReadPixels() in the common formats.
+//
+// Everything else is ignored, as in GL2Stub. No functions or extensions are
+// reported as available, so Mesh, ParticleSystem, and the like take their
+// immediate mode paths. Drawing is deferred until glFlush(), glFinish(), or
+// getImage(), then done in parallel tiles.
+//
+// Vertices are transformed and lit as they're given, so that state changes
+// between glBegin() and glEnd() (like glColor() and glNormal()) apply per
+// vertex. Only the lit color and texture coordinates travel to the
+// Rasterizer. The texture matrix is tracked for glGet*() but not applied.
+//
+// Drive it with a SoftwareDrawable, which makes a context current so that
+// GLU calls find this GL.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.awt.image.BufferedImage;
+import java.nio.*;
+import java.util.*;
+import com.jogamp.opengl.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>SoftwareGL</CODE> class implements the immediate mode subset of
+ * GL2 used by the course apps on the CPU.<P>
+ *
+ * @version %I%, %G%
+ */
+public class SoftwareGL extends GL2Stub
+{
+	//**********************************************************************
+	// Public Class Members
+	//**********************************************************************
+
+	public static final int		MAX_TEXTURE_SIZE = 8192;
+	public static final int		STACK_DEPTH = 32;	// Matrices per stack
+
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int		S = Rasterizer.STRIDE;
+	private static final int		LIGHTS = 8;
+
+	// Floats per vertex between glBegin() and glEnd(): clip x, y, z, w,
+	// then r, g, b, a, s, t
+	private static final int		V = 10;
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private final int				threads;
+	private Rasterizer				rasterizer;
+	private GLContext				context;
+
+	// Matrices
+	private final float[][][]		stacks;		// Modelview, proj, texture
+	private final int[]			depths;
+	private int					mode;		// Index into stacks
+	private final float[]			normal;		// Inverse transpose of mv
+	private boolean				normalValid;
+	private final float[]			temp;
+
+	// State, grouped as glPushAttrib() saves it
+	private Settings				settings;
+	private final Deque<Settings>	attribs;
+	private Rasterizer.State		state;		// Snapshot for rasterizer
+	private boolean				stale;		// Settings changed since
+
+	// Textures by name
+	private final Map<Integer, Rasterizer.Texels>	textures;
+	private int					names;
+	private int					alignment;	// Unpack pixel storage
+	private int					packAlignment;
+	private int					rowLength;
+	private int					skipPixels;
+	private int					skipRows;
+
+	// Primitive being specified
+	private int					primitive;	// -1 outside glBegin()
+	private float[]				vertices;
+	private int					count;
+
+	// Scratch for clipping and window coordinates
+	private final float[]			poly;
+	private final float[]			clipped;
+	private final float[]			window;
+	private final float[]			color;
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// Draws into a framebuffer of the given size with the given number of
+	// threads.
+	public SoftwareGL(int width, int height, int threads)
+	{
+		this.threads = threads;
+
+		rasterizer = new Rasterizer(width, height, threads);
+
+		stacks = new float[3][STACK_DEPTH][16];
+		depths = new int[3];
+		normal = new float[16];
+		temp = new float[16];
+
+		for (float[][] stack : stacks)
+			Matrix.identity(stack[0]);
+
+		settings = new Settings();
+		settings.viewport[2] = rasterizer.getWidth();
+		settings.viewport[3] = rasterizer.getHeight();
+		attribs = new ArrayDeque<Settings>();
+		stale = true;
+
+		textures = new HashMap<Integer, Rasterizer.Texels>();
+		textures.put(0, new Rasterizer.Texels());
+		alignment = 4;
+		packAlignment = 4;
+
+		primitive = -1;
+		vertices = new float[64 * V];
+
+		poly = new float[8 * V];
+		clipped = new float[8 * V];
+		window = new float[3 * S];
+		color = new float[4];
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public Rasterizer	getRasterizer()
+	{
+		return rasterizer;
+	}
+
+	public int		getWidth()
+	{
+		return rasterizer.getWidth();
+	}
+
+	public int		getHeight()
+	{
+		return rasterizer.getHeight();
+	}
+
+	// Replaces the framebuffer with a cleared one of the given size.
+	public void	setSize(int width, int height)
+	{
+		rasterizer.finish();
+		rasterizer.dispose();
+		rasterizer = new Rasterizer(width, height, threads);
+	}
+
+	public void	setContext(GLContext context)
+	{
+		this.context = context;
+	}
+
+	// Finishes drawing and returns a copy of the framebuffer, top row first.
+	public BufferedImage	getImage()
+	{
+		rasterizer.finish();
+
+		int				w = rasterizer.getWidth();
+		int				h = rasterizer.getHeight();
+		int[]			pixels = rasterizer.getPixels();
+		BufferedImage	image = new BufferedImage(w, h,
+												  BufferedImage.TYPE_INT_RGB);
+
+		for (int y=0; y<h; y++)
+			image.setRGB(0, h - 1 - y, w, 1, pixels, y * w, w);
+
+		return image;
+	}
+
+	// Finishes drawing, stops the rasterizer's threads, and drops textures.
+	public void	dispose()
+	{
+		rasterizer.finish();
+		rasterizer.dispose();
+		textures.clear();
+		textures.put(0, new Rasterizer.Texels());
+	}
+
+	//**********************************************************************
+	// Override Methods (GL, general)
+	//**********************************************************************
+
+	public GLContext	getContext()
+	{
+		return context;
+	}
+
+	public boolean	isGL2()
+	{
+		return true;
+	}
+
+	public boolean	isGL2ES1()
+	{
+		return true;
+	}
+
+	public boolean	isGL2GL3()
+	{
+		return true;
+	}
+
+	public boolean	isGLcore()
+	{
+		return false;
+	}
+
+	public int		glGetError()
+	{
+		return GL.GL_NO_ERROR;
+	}
+
+	public void	glFlush()
+	{
+		rasterizer.finish();
+	}
+
+	public void	glFinish()
+	{
+		rasterizer.finish();
+	}
+
+	//**********************************************************************
+	// Override Methods (GL, capabilities)
+	//**********************************************************************
+
+	public void	glEnable(int cap)
+	{
+		setEnabled(cap, true);
+	}
+
+	public void	glDisable(int cap)
+	{
+		setEnabled(cap, false);
+	}
+
+	public boolean	glIsEnabled(int cap)
+	{
+		return ((cap >= 0) && (cap < 0x10000) && settings.enabled.get(cap));
+	}
+
+	public void	glPushAttrib(int mask)
+	{
+		Settings	saved = settings.copy();
+
+		saved.mask = mask;
+		attribs.push(saved);
+	}
+
+	public void	glPopAttrib()
+	{
+		if (attribs.isEmpty())
+			return;
+
+		settings.restore(attribs.pop());
+		stale = true;
+	}
+
+	//**********************************************************************
+	// Override Methods (GL, framebuffer)
+	//**********************************************************************
+
+	public void	glViewport(int x, int y, int width, int height)
+	{
+		settings.viewport[0] = x;
+		settings.viewport[1] = y;
+		settings.viewport[2] = width;
+		settings.viewport[3] = height;
+	}
+
+	public void	glClearColor(float r, float g, float b, float a)
+	{
+		settings.clearColor[0] = r;
+		settings.clearColor[1] = g;
+		settings.clearColor[2] = b;
+		settings.clearColor[3] = a;
+	}
+
+	public void	glClearDepth(double depth)
+	{
+		settings.clearDepth = (float)Math.max(0.0, Math.min(depth, 1.0));
+	}
+
+	public void	glClear(int mask)
+	{
+		float[]	c = settings.clearColor;
+
+		rasterizer.clear(mask, toARGB(c[0], c[1], c[2], c[3]),
+						 settings.clearDepth);
+	}
+
+	public void	glDepthFunc(int func)
+	{
+		settings.depthFunc = func;
+		stale = true;
+	}
+
+	public void	glDepthMask(boolean flag)
+	{
+		settings.depthMask = flag;
+		stale = true;
+	}
+
+	public void	glBlendFunc(int sfactor, int dfactor)
+	{
+		settings.srcFactor = sfactor;
+		settings.dstFactor = dfactor;
+		stale = true;
+	}
+
+	public void	glPointSize(float size)
+	{
+		settings.pointSize = size;
+		stale = true;
+	}
+
+	public void	glLineWidth(float width)
+	{
+		settings.lineWidth = width;
+		stale = true;
+	}
+
+	public void	glShadeModel(int mode)
+	{
+		settings.shadeModel = mode;
+	}
+
+	public void	glCullFace(int mode)
+	{
+		settings.cullFace = mode;
+	}
+
+	public void	glFrontFace(int mode)
+	{
+		settings.frontFace = mode;
+	}
+
+	//**********************************************************************
+	// Override Methods (GL, matrices)
+	//**********************************************************************
+
+	public void	glMatrixMode(int mode)
+	{
+		switch (mode)
+		{
+			case GL2.GL_MODELVIEW:		this.mode = 0;	break;
+			case GL2.GL_PROJECTION:	this.mode = 1;	break;
+			case GL.GL_TEXTURE:		this.mode = 2;	break;
+		}
+	}
+
+	public void	glPushMatrix()
+	{
+		if (depths[mode] + 1 < STACK_DEPTH)
+		{
+			Matrix.copy(top(), stacks[mode][depths[mode] + 1]);
+			depths[mode]++;
+		}
+	}
+
+	public void	glPopMatrix()
+	{
+		if (depths[mode] > 0)
+		{
+			depths[mode]--;
+			changed();
+		}
+	}
+
+	public void	glLoadIdentity()
+	{
+		Matrix.identity(top());
+		changed();
+	}
+
+	public void	glLoadMatrixf(float[] m, int offset)
+	{
+		System.arraycopy(m, offset, top(), 0, 16);
+		changed();
+	}
+
+	public void	glLoadMatrixf(FloatBuffer m)
+	{
+		m.duplicate().get(top(), 0, 16);
+		changed();
+	}
+
+	public void	glLoadMatrixd(double[] m, int offset)
+	{
+		float[]	t = top();
+
+		for (int i=0; i<16; i++)
+			t[i] = (float)m[offset + i];
+
+		changed();
+	}
+
+	public void	glMultMatrixf(float[] m, int offset)
+	{
+		System.arraycopy(m, offset, temp, 0, 16);
+		multiply(temp);
+	}
+
+	public void	glMultMatrixf(FloatBuffer m)
+	{
+		m.duplicate().get(temp, 0, 16);
+		multiply(temp);
+	}
+
+	public void	glMultMatrixd(double[] m, int offset)
+	{
+		for (int i=0; i<16; i++)
+			temp[i] = (float)m[offset + i];
+
+		multiply(temp);
+	}
+
+	public void	glMultMatrixd(DoubleBuffer m)			// For GLU
+	{
+		DoubleBuffer	d = m.duplicate();
+
+		for (int i=0; i<16; i++)
+			temp[i] = (float)d.get(d.position() + i);
+
+		multiply(temp);
+	}
+
+	public void	glTranslatef(float x, float y, float z)
+	{
+		Matrix.translation(temp, x, y, z);
+		multiply(temp);
+	}
+
+	public void	glTranslated(double x, double y, double z)
+	{
+		glTranslatef((float)x, (float)y, (float)z);
+	}
+
+	public void	glScalef(float x, float y, float z)
+	{
+		Matrix.scaling(temp, x, y, z);
+		multiply(temp);
+	}
+
+	public void	glScaled(double x, double y, double z)
+	{
+		glScalef((float)x, (float)y, (float)z);
+	}
+
+	public void	glRotatef(float angle, float x, float y, float z)
+	{
+		Matrix.rotation(temp, angle, x, y, z);
+		multiply(temp);
+	}
+
+	public void	glRotated(double angle, double x, double y, double z)
+	{
+		glRotatef((float)angle, (float)x, (float)y, (float)z);
+	}
+
+	public void	glOrtho(double l, double r, double b, double t,
+						double n, double f)
+	{
+		Matrix.identity(temp);
+		temp[0] = (float)(2.0 / (r - l));
+		temp[5] = (float)(2.0 / (t - b));
+		temp[10] = (float)(-2.0 / (f - n));
+		temp[12] = (float)(-(r + l) / (r - l));
+		temp[13] = (float)(-(t + b) / (t - b));
+		temp[14] = (float)(-(f + n) / (f - n));
+		multiply(temp);
+	}
+
+	public void	glFrustum(double l, double r, double b, double t,
+						  double n, double f)
+	{
+		Arrays.fill(temp, 0.0f);
+		temp[0] = (float)(2.0 * n / (r - l));
+		temp[5] = (float)(2.0 * n / (t - b));
+		temp[8] = (float)((r + l) / (r - l));
+		temp[9] = (float)((t + b) / (t - b));
+		temp[10] = (float)(-(f + n) / (f - n));
+		temp[11] = -1.0f;
+		temp[14] = (float)(-2.0 * f * n / (f - n));
+		multiply(temp);
+	}
+
+	//**********************************************************************
+	// Override Methods (GL, queries)
+	//**********************************************************************
+
+	// Reads as GL_BGRA with GL_UNSIGNED_INT_8_8_8_8_REV (ARGB ints) or as
+	// GL_RGBA or GL_RGB with GL_UNSIGNED_BYTE, bottom row first, tightly
+	// packed except for GL_PACK_ALIGNMENT.
+	public void	glReadPixels(int x, int y, int width, int height,
+							 int format, int type, Buffer pixels)
+	{
+		rasterizer.finish();
+
+		int[]	src = rasterizer.getPixels();
+		int		fw = rasterizer.getWidth();
+		int		x0 = Math.max(0, x), x1 = Math.min(x + width, fw);
+		int		y0 = Math.max(0, y);
+		int		y1 = Math.min(y + height, rasterizer.getHeight());
+
+		if ((x0 >= x1) || (y0 >= y1))
+			return;
+
+		if ((format == GL.GL_BGRA) && (type == GL2.GL_UNSIGNED_INT_8_8_8_8_REV))
+		{
+			IntBuffer	ints = ((pixels instanceof IntBuffer) ?
+								((IntBuffer)pixels).duplicate() :
+								((ByteBuffer)pixels).duplicate()
+								.order(ByteOrder.nativeOrder()).asIntBuffer());
+			int			base = ints.position();
+
+			for (int j=y0; j<y1; j++)
+			{
+				ints.position(base + (j - y) * width + (x0 - x));
+				ints.put(src, j * fw + x0, x1 - x0);
+			}
+
+			return;
+		}
+
+		int	components = ((format == GL.GL_RGBA) ? 4 :
+						  ((format == GL.GL_RGB) ? 3 : 0));
+
+		if ((type != GL.GL_UNSIGNED_BYTE) || (components == 0) ||
+			!(pixels instanceof ByteBuffer))
+			return;
+
+		ByteBuffer	bytes = (ByteBuffer)pixels;
+		int			base = bytes.position();
+		int			stride = (width * components + packAlignment - 1) /
+			packAlignment * packAlignment;
+
+		for (int j=y0; j<y1; j++)
+		{
+			int	dst = base + (j - y) * stride + (x0 - x) * components;
+
+			for (int i=x0; i<x1; i++, dst+=components)
+			{
+				int	p = src[j * fw + i];
+
+				bytes.put(dst, (byte)(p >> 16));
+				bytes.put(dst + 1, (byte)(p >> 8));
+				bytes.put(dst + 2, (byte)p);
+
+				if (components == 4)
+					bytes.put(dst + 3, (byte)(p >>> 24));
+			}
+		}
+	}
+
+	public void	glGetFloatv(int pname, float[] params, int offset)
+	{
+		switch (pname)
+		{
+			case GL2.GL_MODELVIEW_MATRIX:
+				System.arraycopy(stacks[0][depths[0]], 0, params, offset, 16);
+				break;
+
+			case GL2.GL_PROJECTION_MATRIX:
+				System.arraycopy(stacks[1][depths[1]], 0, params, offset, 16);
+				break;
+
+			case GL2.GL_TEXTURE_MATRIX:
+				System.arraycopy(stacks[2][depths[2]], 0, params, offset, 16);
+				break;
+
+			case GL2.GL_CURRENT_COLOR:
+				System.arraycopy(settings.color, 0, params, offset, 4);
+				break;
+
+			case GL.GL_COLOR_CLEAR_VALUE:
+				System.arraycopy(settings.clearColor, 0, params, offset, 4);
+				break;
+
+			default:
+			{
+				int[]	v = new int[16];
+
+				glGetIntegerv(pname, v, 0);
+
+				for (int i=0; i<getSize(pname); i++)
+					params[offset + i] = v[i];
+			}
+		}
+	}
+
+	public void	glGetFloatv(int pname, FloatBuffer params)
+	{
+		float[]	v = new float[16];
+
+		glGetFloatv(pname, v, 0);
+		params.duplicate().put(v, 0, getSize(pname));
+	}
+
+	public void	glGetDoublev(int pname, double[] params, int offset)
+	{
+		float[]	v = new float[16];
+
+		glGetFloatv(pname, v, 0);
+
+		for (int i=0; i<getSize(pname); i++)
+			params[offset + i] = v[i];
+	}
+
+	public void	glGetIntegerv(int pname, int[] params, int offset)
+	{
+		switch (pname)
+		{
+			case GL.GL_VIEWPORT:
+				System.arraycopy(settings.viewport, 0, params, offset, 4);
+				break;
+
+			case GL.GL_MAX_TEXTURE_SIZE:
+				params[offset] = MAX_TEXTURE_SIZE;
+				break;
+
+			case GL2.GL_MAX_LIGHTS:
+				params[offset] = LIGHTS;
+				break;
+
+			case GL2.GL_MAX_MODELVIEW_STACK_DEPTH:
+			case GL2.GL_MAX_PROJECTION_STACK_DEPTH:
+			case GL2.GL_MAX_TEXTURE_STACK_DEPTH:
+				params[offset] = STACK_DEPTH;
+				break;
+
+			case GL2.GL_MATRIX_MODE:
+				params[offset] = ((mode == 0) ? GL2.GL_MODELVIEW :
+								  ((mode == 1) ? GL2.GL_PROJECTION :
+								   GL.GL_TEXTURE));
+				break;
+
+			case GL.GL_TEXTURE_BINDING_2D:
+				params[offset] = settings.texture;
+				break;
+
+			case GL.GL_UNPACK_ALIGNMENT:
+				params[offset] = alignment;
+				break;
+
+			default:
+				params[offset] = 0;
+		}
+	}
+
+	public void	glGetIntegerv(int pname, IntBuffer params)
+	{
+		int[]	v = new int[16];
+
+		glGetIntegerv(pname, v, 0);
+		params.duplicate().put(v, 0, getSize(pname));
+	}
+
+	//**********************************************************************
+	// Override Methods (GL, vertices)
+	//**********************************************************************
+
+	public void	glBegin(int mode)
+	{
+		primitive = mode;
+		count = 0;
+	}
+
+	public void	glEnd()
+	{
+		if (primitive >= 0)
+			assemble();
+
+		primitive = -1;
+		count = 0;
+	}
+
+	public void	glVertex4f(float x, float y, float z, float w)
+	{
+		if (primitive < 0)
+			return;
+
+		if (stale)
+			snapshot();
+
+		vertices = ensure(vertices, (count + 1) * V);
+
+		float[]	m = stacks[0][depths[0]];
+		float[]	p = stacks[1][depths[1]];
+		int		k = count * V;
+
+		// Eye coordinates
+		float	ex = m[0] * x + m[4] * y + m[8] * z + m[12] * w;
+		float	ey = m[1] * x + m[5] * y + m[9] * z + m[13] * w;
+		float	ez = m[2] * x + m[6] * y + m[10] * z + m[14] * w;
+		float	ew = m[3] * x + m[7] * y + m[11] * z + m[15] * w;
+
+		// Clip coordinates
+		vertices[k] = p[0] * ex + p[4] * ey + p[8] * ez + p[12] * ew;
+		vertices[k + 1] = p[1] * ex + p[5] * ey + p[9] * ez + p[13] * ew;
+		vertices[k + 2] = p[2] * ex + p[6] * ey + p[10] * ez + p[14] * ew;
+		vertices[k + 3] = p[3] * ex + p[7] * ey + p[11] * ez + p[15] * ew;
+
+		if (settings.enabled.get(GL2.GL_LIGHTING))
+		{
+			float	iw = ((ew != 0.0f) ? 1.0f / ew : 1.0f);
+
+			light(ex * iw, ey * iw, ez * iw, color);
+			System.arraycopy(color, 0, vertices, k + 4, 4);
+		}
+		else
+		{
+			for (int i=0; i<4; i++)
+				vertices[k + 4 + i] = clamp(settings.color[i]);
+		}
+
+		vertices[k + 8] = settings.texCoord[0];
+		vertices[k + 9] = settings.texCoord[1];
+		count++;
+	}
+
+	public void	glVertex2f(float x, float y)
+	{
+		glVertex4f(x, y, 0.0f, 1.0f);
+	}
+
+	public void	glVertex2d(double x, double y)
+	{
+		glVertex4f((float)x, (float)y, 0.0f, 1.0f);
+	}
+
+	public void	glVertex2i(int x, int y)
+	{
+		glVertex4f(x, y, 0.0f, 1.0f);
+	}
+
+	public void	glVertex3f(float x, float y, float z)
+	{
+		glVertex4f(x, y, z, 1.0f);
+	}
+
+	public void	glVertex3d(double x, double y, double z)
+	{
+		glVertex4f((float)x, (float)y, (float)z, 1.0f);
+	}
+
+	public void	glVertex3i(int x, int y, int z)
+	{
+		glVertex4f(x, y, z, 1.0f);
+	}
+
+	public void	glVertex4d(double x, double y, double z, double w)
+	{
+		glVertex4f((float)x, (float)y, (float)z, (float)w);
+	}
+
+	public void	glVertex3fv(float[] v, int offset)
+	{
+		glVertex4f(v[offset], v[offset + 1], v[offset + 2], 1.0f);
+	}
+
+	public void	glVertex3dv(double[] v, int offset)
+	{
+		glVertex3d(v[offset], v[offset + 1], v[offset + 2]);
+	}
+
+	public void	glColor4f(float r, float g, float b, float a)
+	{
+		float[]	c = settings.color;
+
+		c[0] = r;
+		c[1] = g;
+		c[2] = b;
+		c[3] = a;
+
+		if (settings.enabled.get(GL2.GL_COLOR_MATERIAL))
+			colorMaterial();
+	}
+
+	public void	glColor3f(float r, float g, float b)
+	{
+		glColor4f(r, g, b, 1.0f);
+	}
+
+	public void	glColor3d(double r, double g, double b)
+	{
+		glColor4f((float)r, (float)g, (float)b, 1.0f);
+	}
+
+	public void	glColor4d(double r, double g, double b, double a)
+	{
+		glColor4f((float)r, (float)g, (float)b, (float)a);
+	}
+
+	public void	glColor3ub(byte r, byte g, byte b)
+	{
+		glColor4f((r & 0xFF) / 255.0f, (g & 0xFF) / 255.0f,
+				  (b & 0xFF) / 255.0f, 1.0f);
+	}
+
+	public void	glColor4ub(byte r, byte g, byte b, byte a)
+	{
+		glColor4f((r & 0xFF) / 255.0f, (g & 0xFF) / 255.0f,
+				  (b & 0xFF) / 255.0f, (a & 0xFF) / 255.0f);
+	}
+
+	public void	glColor3fv(float[] v, int offset)
+	{
+		glColor4f(v[offset], v[offset + 1], v[offset + 2], 1.0f);
+	}
+
+	public void	glColor4fv(float[] v, int offset)
+	{
+		glColor4f(v[offset], v[offset + 1], v[offset + 2], v[offset + 3]);
+	}
+
+	public void	glNormal3f(float x, float y, float z)
+	{
+		settings.normal[0] = x;
+		settings.normal[1] = y;
+		settings.normal[2] = z;
+	}
+
+	public void	glNormal3d(double x, double y, double z)
+	{
+		glNormal3f((float)x, (float)y, (float)z);
+	}
+
+	public void	glNormal3fv(float[] v, int offset)
+	{
+		glNormal3f(v[offset], v[offset + 1], v[offset + 2]);
+	}
+
+	public void	glNormal3dv(double[] v, int offset)
+	{
+		glNormal3f((float)v[offset], (float)v[offset + 1],
+				   (float)v[offset + 2]);
+	}
+
+	public void	glTexCoord2f(float s, float t)
+	{
+		settings.texCoord[0] = s;
+		settings.texCoord[1] = t;
+	}
+
+	public void	glTexCoord2d(double s, double t)
+	{
+		glTexCoord2f((float)s, (float)t);
+	}
+
+	//**********************************************************************
+	// Override Methods (GL, lighting)
+	//**********************************************************************
+
+	public void	glLightfv(int light, int pname, float[] params, int offset)
+	{
+		int	i = light - GL2.GL_LIGHT0;
+
+		if ((i < 0) || (i >= LIGHTS))
+			return;
+
+		float[]	l = settings.lights[i];
+		float[]	m = stacks[0][depths[0]];
+
+		switch (pname)
+		{
+			case GL2.GL_AMBIENT:
+				System.arraycopy(params, offset, l, AMBIENT, 4);
+				break;
+
+			case GL2.GL_DIFFUSE:
+				System.arraycopy(params, offset, l, DIFFUSE, 4);
+				break;
+
+			case GL2.GL_SPECULAR:
+				System.arraycopy(params, offset, l, SPECULAR, 4);
+				break;
+
+			case GL2.GL_POSITION:					// Stored in eye coords
+			{
+				float	x = params[offset], y = params[offset + 1];
+				float	z = params[offset + 2], w = params[offset + 3];
+
+				for (int r=0; r<4; r++)
+					l[POSITION + r] = m[r] * x + m[4 + r] * y +
+									  m[8 + r] * z + m[12 + r] * w;
+				break;
+			}
+
+			case GL2.GL_SPOT_DIRECTION:				// Stored in eye coords
+			{
+				float	x = params[offset], y = params[offset + 1];
+				float	z = params[offset + 2];
+
+				for (int r=0; r<3; r++)
+					l[DIRECTION + r] = m[r] * x + m[4 + r] * y + m[8 + r] * z;
+				break;
+			}
+
+			default:
+				glLightf(light, pname, params[offset]);
+		}
+	}
+
+	public void	glLightf(int light, int pname, float param)
+	{
+		int	i = light - GL2.GL_LIGHT0;
+
+		if ((i < 0) || (i >= LIGHTS))
+			return;
+
+		float[]	l = settings.lights[i];
+
+		switch (pname)
+		{
+			case GL2.GL_SPOT_EXPONENT:				l[EXPONENT] = param;	break;
+			case GL2.GL_SPOT_CUTOFF:				l[CUTOFF] = param;		break;
+			case GL2.GL_CONSTANT_ATTENUATION:		l[CONSTANT] = param;	break;
+			case GL2.GL_LINEAR_ATTENUATION:		l[LINEAR] = param;		break;
+			case GL2.GL_QUADRATIC_ATTENUATION:		l[QUADRATIC] = param;	break;
+		}
+	}
+
+	public void	glLightModelfv(int pname, float[] params, int offset)
+	{
+		if (pname == GL2.GL_LIGHT_MODEL_AMBIENT)
+			System.arraycopy(params, offset, settings.sceneAmbient, 0, 4);
+	}
+
+	public void	glMaterialfv(int face, int pname, float[] params, int offset)
+	{
+		if (face == GL.GL_BACK)						// Front faces only
+			return;
+
+		float[]	m = settings.material;
+
+		switch (pname)
+		{
+			case GL2.GL_AMBIENT:
+				System.arraycopy(params, offset, m, AMBIENT, 4);
+				break;
+
+			case GL2.GL_DIFFUSE:
+				System.arraycopy(params, offset, m, DIFFUSE, 4);
+				break;
+
+			case GL2.GL_AMBIENT_AND_DIFFUSE:
+				System.arraycopy(params, offset, m, AMBIENT, 4);
+				System.arraycopy(params, offset, m, DIFFUSE, 4);
+				break;
+
+			case GL2.GL_SPECULAR:
+				System.arraycopy(params, offset, m, SPECULAR, 4);
+				break;
+
+			case GL2.GL_EMISSION:
+				System.arraycopy(params, offset, m, EMISSION, 4);
+				break;
+
+			case GL2.GL_SHININESS:
+				m[SHININESS] = params[offset];
+				break;
+		}
+	}
+
+	public void	glMaterialf(int face, int pname, float param)
+	{
+		if ((face != GL.GL_BACK) && (pname == GL2.GL_SHININESS))
+			settings.material[SHININESS] = param;
+	}
+
+	public void	glColorMaterial(int face, int mode)
+	{
+		settings.colorMaterial = mode;
+	}
+
+	//**********************************************************************
+	// Override Methods (GL, textures)
+	//**********************************************************************
+
+	public void	glGenTextures(int n, int[] textures, int offset)
+	{
+		for (int i=0; i<n; i++)
+		{
+			textures[offset + i] = ++names;
+			this.textures.put(names, new Rasterizer.Texels());
+		}
+	}
+
+	public void	glGenTextures(int n, IntBuffer textures)
+	{
+		int[]	v = new int[n];
+
+		glGenTextures(n, v, 0);
+		textures.duplicate().put(v);
+	}
+
+	public void	glDeleteTextures(int n, int[] textures, int offset)
+	{
+		for (int i=0; i<n; i++)
+		{
+			if (textures[offset + i] != 0)
+				this.textures.remove(textures[offset + i]);
+
+			if (textures[offset + i] == settings.texture)
+				glBindTexture(GL.GL_TEXTURE_2D, 0);
+		}
+	}
+
+	public void	glBindTexture(int target, int texture)
+	{
+		if (target != GL.GL_TEXTURE_2D)
+			return;
+
+		if (!textures.containsKey(texture))
+			textures.put(texture, new Rasterizer.Texels());
+
+		settings.texture = texture;
+		stale = true;
+	}
+
+	public void	glTexParameteri(int target, int pname, int param)
+	{
+		Rasterizer.Texels	t = getBound(target);
+
+		if (t == null)
+			return;
+
+		switch (pname)
+		{
+			case GL.GL_TEXTURE_WRAP_S:
+				t.repeatS = (param == GL.GL_REPEAT);
+				break;
+
+			case GL.GL_TEXTURE_WRAP_T:
+				t.repeatT = (param == GL.GL_REPEAT);
+				break;
+
+			case GL.GL_TEXTURE_MAG_FILTER:
+				t.linear = (param == GL.GL_LINEAR);
+				break;
+		}
+	}
+
+	public void	glTexParameterf(int target, int pname, float param)
+	{
+		glTexParameteri(target, pname, (int)param);
+	}
+
+	public void	glTexEnvi(int target, int pname, int param)
+	{
+		if (pname == GL2.GL_TEXTURE_ENV_MODE)
+		{
+			settings.envMode = param;
+			stale = true;
+		}
+	}
+
+	public void	glTexEnvf(int target, int pname, float param)
+	{
+		glTexEnvi(target, pname, (int)param);
+	}
+
+	public void	glPixelStorei(int pname, int param)
+	{
+		switch (pname)
+		{
+			case GL.GL_UNPACK_ALIGNMENT:		alignment = param;		break;
+			case GL.GL_PACK_ALIGNMENT:			packAlignment = param;	break;
+			case GL2.GL_UNPACK_ROW_LENGTH:		rowLength = param;		break;
+			case GL2.GL_UNPACK_SKIP_PIXELS:	skipPixels = param;		break;
+			case GL2.GL_UNPACK_SKIP_ROWS:		skipRows = param;		break;
+		}
+	}
+
+	public void	glTexImage2D(int target, int level, int internalFormat,
+							 int width, int height, int border, int format,
+							 int type, Buffer pixels)
+	{
+		Rasterizer.Texels	t = getBound(target);
+
+		if ((t == null) || (level != 0))			// Base level only
+			return;
+
+		t.width = width;
+		t.height = height;
+		t.argb = new int[Math.max(1, width * height)];
+
+		Arrays.fill(t.argb, 0xFFFFFFFF);
+
+		if (pixels != null)
+			unpack(t, 0, 0, width, height, format, type, pixels);
+	}
+
+	public void	glTexSubImage2D(int target, int level, int xoffset,
+								int yoffset, int width, int height,
+								int format, int type, Buffer pixels)
+	{
+		Rasterizer.Texels	t = getBound(target);
+
+		if ((t == null) || (level != 0) || (pixels == null))
+			return;
+
+		unpack(t, xoffset, yoffset, width, height, format, type, pixels);
+	}
+
+	//**********************************************************************
+	// Private Methods (State)
+	//**********************************************************************
+
+	private void	setEnabled(int cap, boolean on)
+	{
+		if ((cap >= 0) && (cap < 0x10000))
+		{
+			settings.enabled.set(cap, on);
+			stale = true;
+		}
+	}
+
+	// Takes a new rasterizer state from the settings.
+	private void	snapshot()
+	{
+		Settings			s = settings;
+		Rasterizer.State	r = new Rasterizer.State();
+		Rasterizer.Texels	t = textures.get(s.texture);
+
+		r.depthTest = s.enabled.get(GL.GL_DEPTH_TEST);
+		r.depthFunc = s.depthFunc;
+		r.depthWrite = s.depthMask;
+		r.blend = s.enabled.get(GL.GL_BLEND);
+		r.srcFactor = s.srcFactor;
+		r.dstFactor = s.dstFactor;
+		r.texels = ((s.enabled.get(GL.GL_TEXTURE_2D) && (t != null) &&
+					 (t.width > 0)) ? t : null);
+		r.envMode = s.envMode;
+		r.pointSize = s.pointSize;
+		r.pointSmooth = s.enabled.get(GL2.GL_POINT_SMOOTH);
+		r.lineWidth = s.lineWidth;
+
+		state = r;
+		stale = false;
+	}
+
+	// Applies the current color to the materials glColorMaterial() chose.
+	private void	colorMaterial()
+	{
+		float[]	c = settings.color;
+		float[]	m = settings.material;
+
+		switch (settings.colorMaterial)
+		{
+			case GL2.GL_AMBIENT:
+				System.arraycopy(c, 0, m, AMBIENT, 4);
+				break;
+
+			case GL2.GL_DIFFUSE:
+				System.arraycopy(c, 0, m, DIFFUSE, 4);
+				break;
+
+			case GL2.GL_SPECULAR:
+				System.arraycopy(c, 0, m, SPECULAR, 4);
+				break;
+
+			case GL2.GL_EMISSION:
+				System.arraycopy(c, 0, m, EMISSION, 4);
+				break;
+
+			default:								// GL_AMBIENT_AND_DIFFUSE
+				System.arraycopy(c, 0, m, AMBIENT, 4);
+				System.arraycopy(c, 0, m, DIFFUSE, 4);
+		}
+	}
+
+	private Rasterizer.Texels	getBound(int target)
+	{
+		if (target != GL.GL_TEXTURE_2D)
+			return null;
+
+		Rasterizer.Texels	t = textures.get(settings.texture);
+
+		if ((t != null) && rasterizer.isPending(t))	// Drawn from before
+			rasterizer.finish();
+
+		stale = true;								// Size may change
+
+		return t;
+	}
+
+	// Number of values glGet*() returns for pname.
+	private static int	getSize(int pname)
+	{
+		switch (pname)
+		{
+			case GL2.GL_MODELVIEW_MATRIX:
+			case GL2.GL_PROJECTION_MATRIX:
+			case GL2.GL_TEXTURE_MATRIX:
+				return 16;
+
+			case GL.GL_VIEWPORT:
+			case GL2.GL_CURRENT_COLOR:
+			case GL.GL_COLOR_CLEAR_VALUE:
+				return 4;
+
+			default:
+				return 1;
+		}
+	}
+
+	//**********************************************************************
+	// Private Methods (Matrices)
+	//**********************************************************************
+
+	private float[]	top()
+	{
+		return stacks[mode][depths[mode]];
+	}
+
+	private void	multiply(float[] m)
+	{
+		float[]	t = top();
+
+		Matrix.multiply(t, m, t);
+		changed();
+	}
+
+	private void	changed()
+	{
+		if (mode == 0)
+			normalValid = false;
+	}
+
+	// Sets normal to the inverse transpose of the modelview matrix.
+	private void	validateNormal()
+	{
+		if (normalValid)
+			return;
+
+		if (!Matrix.invert(stacks[0][depths[0]], temp))
+			Matrix.identity(temp);
+
+		for (int r=0; r<4; r++)
+			for (int c=0; c<4; c++)
+				normal[4 * c + r] = temp[4 * r + c];
+
+		normalValid = true;
+	}
+
+	//**********************************************************************
+	// Private Methods (Lighting)
+	//**********************************************************************
+
+	// Sets out to the lit color of a vertex at eye position (ex, ey, ez)
+	// with the current normal, as in the fixed-function pipeline.
+	private void	light(float ex, float ey, float ez, float[] out)
+	{
+		validateNormal();
+
+		float[]	n = settings.normal;
+		float	nx = normal[0] * n[0] + normal[4] * n[1] + normal[8] * n[2];
+		float	ny = normal[1] * n[0] + normal[5] * n[1] + normal[9] * n[2];
+		float	nz = normal[2] * n[0] + normal[6] * n[1] + normal[10] * n[2];
+
+		if (settings.enabled.get(GL2.GL_NORMALIZE) ||
+			settings.enabled.get(GL2.GL_RESCALE_NORMAL))
+		{
+			float	len = (float)Math.sqrt(nx * nx + ny * ny + nz * nz);
+
+			if (len > 0.0f)
+			{
+				nx /= len;
+				ny /= len;
+				nz /= len;
+			}
+		}
+
+		float[]	m = settings.material;
+		float[]	a = settings.sceneAmbient;
+
+		for (int i=0; i<3; i++)
+			out[i] = m[EMISSION + i] + m[AMBIENT + i] * a[i];
+
+		for (int i=0; i<LIGHTS; i++)
+		{
+			if (!settings.enabled.get(GL2.GL_LIGHT0 + i))
+				continue;
+
+			float[]	l = settings.lights[i];
+			float	lx = l[POSITION], ly = l[POSITION + 1];
+			float	lz = l[POSITION + 2], lw = l[POSITION + 3];
+			float	att = 1.0f;
+
+			if (lw != 0.0f)							// Positional
+			{
+				lx = lx / lw - ex;
+				ly = ly / lw - ey;
+				lz = lz / lw - ez;
+
+				float	d = (float)Math.sqrt(lx * lx + ly * ly + lz * lz);
+
+				if (d > 0.0f)
+				{
+					lx /= d;
+					ly /= d;
+					lz /= d;
+				}
+
+				att = 1.0f / (l[CONSTANT] + l[LINEAR] * d +
+							  l[QUADRATIC] * d * d);
+
+				if (l[CUTOFF] != 180.0f)			// Spotlight
+				{
+					float	sx = l[DIRECTION], sy = l[DIRECTION + 1];
+					float	sz = l[DIRECTION + 2];
+					float	sl = (float)Math.sqrt(sx * sx + sy * sy + sz * sz);
+					float	cos = ((sl > 0.0f) ?
+								   -(lx * sx + ly * sy + lz * sz) / sl : 0.0f);
+
+					if (cos < (float)Math.cos(Math.toRadians(l[CUTOFF])))
+						att = 0.0f;
+					else
+						att *= (float)Math.pow(cos, l[EXPONENT]);
+				}
+			}
+			else									// Directional
+			{
+				float	d = (float)Math.sqrt(lx * lx + ly * ly + lz * lz);
+
+				if (d > 0.0f)
+				{
+					lx /= d;
+					ly /= d;
+					lz /= d;
+				}
+			}
+
+			if (att == 0.0f)
+				continue;
+
+			float	nl = Math.max(0.0f, nx * lx + ny * ly + nz * lz);
+			float	spec = 0.0f;
+
+			if (nl > 0.0f)							// Non-local viewer
+			{
+				float	hx = lx, hy = ly, hz = lz + 1.0f;
+				float	hl = (float)Math.sqrt(hx * hx + hy * hy + hz * hz);
+				float	nh = ((hl > 0.0f) ?
+							  Math.max(0.0f, (nx * hx + ny * hy + nz * hz) / hl) :
+							  0.0f);
+
+				spec = (float)Math.pow(nh, m[SHININESS]);
+			}
+
+			for (int c=0; c<3; c++)
+				out[c] += att * (l[AMBIENT + c] * m[AMBIENT + c] +
+								 nl * l[DIFFUSE + c] * m[DIFFUSE + c] +
+								 spec * l[SPECULAR + c] * m[SPECULAR + c]);
+		}
+
+		for (int c=0; c<3; c++)
+			out[c] = clamp(out[c]);
+
+		out[3] = clamp(m[DIFFUSE + 3]);
+	}
+
+	//**********************************************************************
+	// Private Methods (Primitives)
+	//**********************************************************************
+
+	// Breaks the vertices since glBegin() into points, lines, and triangles.
+	private void	assemble()
+	{
+		int	n = count;
+
+		switch (primitive)
+		{
+			case GL.GL_POINTS:
+				for (int i=0; i<n; i++)
+					point(i);
+				break;
+
+			case GL.GL_LINES:
+				for (int i=0; i+1<n; i+=2)
+					line(i, i + 1, i + 1);
+				break;
+
+			case GL.GL_LINE_STRIP:
+				for (int i=0; i+1<n; i++)
+					line(i, i + 1, i + 1);
+				break;
+
+			case GL.GL_LINE_LOOP:
+				for (int i=0; i+1<n; i++)
+					line(i, i + 1, i + 1);
+
+				if (n > 2)
+					line(n - 1, 0, 0);
+				break;
+
+			case GL.GL_TRIANGLES:
+				for (int i=0; i+2<n; i+=3)
+					triangle(i, i + 1, i + 2, i + 2);
+				break;
+
+			case GL.GL_TRIANGLE_STRIP:
+				for (int i=0; i+2<n; i++)
+					if ((i & 1) == 0)
+						triangle(i, i + 1, i + 2, i + 2);
+					else
+						triangle(i + 1, i, i + 2, i + 2);
+				break;
+
+			case GL.GL_TRIANGLE_FAN:
+				for (int i=1; i+1<n; i++)
+					triangle(0, i, i + 1, i + 1);
+				break;
+
+			case GL2.GL_QUADS:
+				for (int i=0; i+3<n; i+=4)
+				{
+					triangle(i, i + 1, i + 2, i + 3);
+					triangle(i, i + 2, i + 3, i + 3);
+				}
+				break;
+
+			case GL2.GL_QUAD_STRIP:
+				for (int i=0; i+3<n; i+=2)
+				{
+					triangle(i, i + 1, i + 3, i + 3);
+					triangle(i, i + 3, i + 2, i + 3);
+				}
+				break;
+
+			case GL2.GL_POLYGON:
+				for (int i=1; i+1<n; i++)
+					triangle(0, i, i + 1, 0);
+				break;
+		}
+	}
+
+	private void	point(int i)
+	{
+		int	k = i * V;
+
+		if (vertices[k + 2] < -vertices[k + 3])		// In front of near
+			return;
+
+		project(vertices, k, window, 0, -1);
+		rasterizer.point(window, state);
+	}
+
+	private void	line(int i, int j, int provoking)
+	{
+		int	a = i * V;
+		int	b = j * V;
+		float	da = vertices[a + 2] + vertices[a + 3];	// Distance past near
+		float	db = vertices[b + 2] + vertices[b + 3];
+
+		if ((da < 0.0f) && (db < 0.0f))
+			return;
+
+		System.arraycopy(vertices, a, poly, 0, V);
+		System.arraycopy(vertices, b, poly, V, V);
+
+		if (da < 0.0f)
+			mix(poly, 0, poly, V, da / (da - db), poly, 0);
+		else if (db < 0.0f)
+			mix(poly, V, poly, 0, db / (db - da), poly, V);
+
+		int	flat = (isFlat() ? provoking * V : -1);
+
+		project(poly, 0, window, 0, flat);
+		project(poly, V, window, S, flat);
+		rasterizer.line(window, state);
+	}
+
+	private void	triangle(int i, int j, int k, int provoking)
+	{
+		System.arraycopy(vertices, i * V, poly, 0, V);
+		System.arraycopy(vertices, j * V, poly, V, V);
+		System.arraycopy(vertices, k * V, poly, 2 * V, V);
+
+		int	n = clip(3);
+
+		if (n < 3)
+			return;
+
+		int	flat = (isFlat() ? provoking * V : -1);
+
+		// Fan out the clipped polygon, culling by its winding on screen
+		project(clipped, 0, window, 0, flat);
+
+		for (int v=1; v+1<n; v++)
+		{
+			project(clipped, v * V, window, S, flat);
+			project(clipped, (v + 1) * V, window, 2 * S, flat);
+
+			if (!isCulled())
+				rasterizer.triangle(window, state);
+		}
+	}
+
+	private boolean	isFlat()
+	{
+		return (settings.shadeModel == GL2.GL_FLAT);
+	}
+
+	private boolean	isCulled()
+	{
+		if (!settings.enabled.get(GL.GL_CULL_FACE))
+			return false;
+
+		float	area = (window[S] - window[0]) * (window[2 * S + 1] - window[1]) -
+					   (window[2 * S] - window[0]) * (window[S + 1] - window[1]);
+		boolean	front = ((area > 0.0f) == (settings.frontFace == GL.GL_CCW));
+
+		switch (settings.cullFace)
+		{
+			case GL.GL_FRONT:			return front;
+			case GL.GL_FRONT_AND_BACK:	return true;
+			default:					return !front;	// GL_BACK
+		}
+	}
+
+	// Clips the polygon of n vertices in poly against the near plane into
+	// clipped. Returns the number of vertices left.
+	private int	clip(int n)
+	{
+		int	m = 0;
+
+		for (int i=0; i<n; i++)
+		{
+			int		a = i * V;
+			int		b = ((i + 1) % n) * V;
+			float	da = poly[a + 2] + poly[a + 3];
+			float	db = poly[b + 2] + poly[b + 3];
+
+			if (da >= 0.0f)
+			{
+				System.arraycopy(poly, a, clipped, m * V, V);
+				m++;
+			}
+
+			if ((da >= 0.0f) != (db >= 0.0f))
+			{
+				mix(poly, a, poly, b, da / (da - db), clipped, m * V);
+				m++;
+			}
+		}
+
+		return m;
+	}
+
+	// Sets out to a + t * (b - a) for a vertex.
+	private static void	mix(float[] a, int ai, float[] b, int bi, float t,
+							float[] out, int oi)
+	{
+		for (int i=0; i<V; i++)
+			out[oi + i] = a[ai + i] + t * (b[bi + i] - a[ai + i]);
+	}
+
+	// Converts a clip space vertex to a rasterizer vertex in window
+	// coordinates, taking its color from vertices[flat] if not negative.
+	private void	project(float[] in, int i, float[] out, int o, int flat)
+	{
+		int[]	vp = settings.viewport;
+		float	w = in[i + 3];
+		float	iw = ((w != 0.0f) ? 1.0f / w : 1.0f);
+
+		out[o] = vp[0] + (in[i] * iw + 1.0f) * 0.5f * vp[2];
+		out[o + 1] = vp[1] + (in[i + 1] * iw + 1.0f) * 0.5f * vp[3];
+		out[o + 2] = (in[i + 2] * iw + 1.0f) * 0.5f;
+		out[o + 3] = iw;
+
+		float[]	c = ((flat < 0) ? in : vertices);
+		int		k = ((flat < 0) ? i : flat);
+
+		for (int j=0; j<4; j++)
+			out[o + 4 + j] = c[k + 4 + j] * iw;
+
+		out[o + 8] = in[i + 8] * iw;
+		out[o + 9] = in[i + 9] * iw;
+	}
+
+	//**********************************************************************
+	// Private Methods (Pixel Transfer)
+	//**********************************************************************
+
+	// Copies pixels into a w x h region of the texels at (x, y), as ARGB.
+	private void	unpack(Rasterizer.Texels t, int x, int y, int w, int h,
+						   int format, int type, Buffer pixels)
+	{
+		int	components = getComponents(format);
+		int	row = ((rowLength > 0) ? rowLength : w);
+
+		if (type == GL2.GL_UNSIGNED_INT_8_8_8_8_REV)
+		{
+			IntBuffer	ints = ((pixels instanceof IntBuffer) ?
+								(IntBuffer)pixels :
+								((ByteBuffer)pixels).duplicate()
+								.order(ByteOrder.nativeOrder()).asIntBuffer());
+			int			base = ints.position();
+
+			for (int j=0; j<h; j++)
+				for (int i=0; i<w; i++)
+				{
+					int	p = ints.get(base + (skipRows + j) * row + skipPixels + i);
+
+					t.argb[(y + j) * t.width + x + i] =
+						((format == GL2.GL_BGRA) ? p :
+						 ((p & 0xFF00FF00) | ((p >> 16) & 0xFF) |
+						  ((p & 0xFF) << 16)));
+				}
+
+			return;
+		}
+
+		if ((type != GL.GL_UNSIGNED_BYTE) || (components == 0) ||
+			!(pixels instanceof ByteBuffer))
+			return;
+
+		ByteBuffer	bytes = (ByteBuffer)pixels;
+		int			base = bytes.position();
+		int			stride = row * components;
+
+		stride = (stride + alignment - 1) / alignment * alignment;
+
+		for (int j=0; j<h; j++)
+		{
+			int	src = base + (skipRows + j) * stride + skipPixels * components;
+
+			for (int i=0; i<w; i++, src+=components)
+			{
+				int	c0 = bytes.get(src) & 0xFF;
+				int	c1 = ((components > 1) ? bytes.get(src + 1) & 0xFF : 0);
+				int	c2 = ((components > 2) ? bytes.get(src + 2) & 0xFF : 0);
+				int	c3 = ((components > 3) ? bytes.get(src + 3) & 0xFF : 255);
+				int	argb;
+
+				switch (format)
+				{
+					case GL.GL_RGB:
+					case GL.GL_RGBA:
+						argb = (c3 << 24) | (c0 << 16) | (c1 << 8) | c2;
+						break;
+
+					case GL2.GL_BGR:
+					case GL.GL_BGRA:
+						argb = (c3 << 24) | (c2 << 16) | (c1 << 8) | c0;
+						break;
+
+					case GL.GL_LUMINANCE:
+						argb = 0xFF000000 | (c0 << 16) | (c0 << 8) | c0;
+						break;
+
+					case GL.GL_LUMINANCE_ALPHA:
+						argb = (c1 << 24) | (c0 << 16) | (c0 << 8) | c0;
+						break;
+
+					default:								// GL_ALPHA
+						argb = (c0 << 24) | 0x00FFFFFF;
+				}
+
+				t.argb[(y + j) * t.width + x + i] = argb;
+			}
+		}
+	}
+
+	private static int	getComponents(int format)
+	{
+		switch (format)
+		{
+			case GL.GL_ALPHA:
+			case GL.GL_LUMINANCE:			return 1;
+			case GL.GL_LUMINANCE_ALPHA:	return 2;
+			case GL.GL_RGB:
+			case GL2.GL_BGR:				return 3;
+			case GL.GL_RGBA:
+			case GL.GL_BGRA:				return 4;
+			default:						return 0;
+		}
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static float	clamp(float c)
+	{
+		return ((c < 0.0f) ? 0.0f : ((c > 1.0f) ? 1.0f : c));
+	}
+
+	private static int	toARGB(float r, float g, float b, float a)
+	{
+		return ((int)(clamp(a) * 255.0f + 0.5f) << 24) |
+			   ((int)(clamp(r) * 255.0f + 0.5f) << 16) |
+			   ((int)(clamp(g) * 255.0f + 0.5f) << 8) |
+			   (int)(clamp(b) * 255.0f + 0.5f);
+	}
+
+	private static float[]	ensure(float[] a, int n)
+	{
+		return ((n <= a.length) ? a : Arrays.copyOf(a, Math.max(n, 2 * a.length)));
+	}
+
+	//**********************************************************************
+	// Private Class Members (Settings Layout)
+	//**********************************************************************
+
+	// Offsets into the light and material arrays
+	private static final int		AMBIENT = 0;
+	private static final int		DIFFUSE = 4;
+	private static final int		SPECULAR = 8;
+	private static final int		POSITION = 12;		// Lights
+	private static final int		DIRECTION = 16;
+	private static final int		EXPONENT = 19;
+	private static final int		CUTOFF = 20;
+	private static final int		CONSTANT = 21;
+	private static final int		LINEAR = 22;
+	private static final int		QUADRATIC = 23;
+	private static final int		EMISSION = 12;		// Materials
+	private static final int		SHININESS = 16;
+
+	//**********************************************************************
+	// Private Inner Classes
+	//**********************************************************************
+
+	// The state glPushAttrib() can save, with the OpenGL defaults. When
+	// saved, mask says which groups glPopAttrib() restores.
+	private static final class Settings
+	{
+		public int			mask;
+
+		// GL_ENABLE_BIT, plus the enables of the other groups
+		public BitSet		enabled = new BitSet(0x10000);
+
+		// GL_COLOR_BUFFER_BIT
+		public float[]		clearColor = new float[4];
+		public int			srcFactor = GL.GL_ONE;
+		public int			dstFactor = GL.GL_ZERO;
+
+		// GL_DEPTH_BUFFER_BIT
+		public float		clearDepth = 1.0f;
+		public int			depthFunc = GL.GL_LESS;
+		public boolean		depthMask = true;
+
+		// GL_POINT_BIT, GL_LINE_BIT, GL_POLYGON_BIT
+		public float		pointSize = 1.0f;
+		public float		lineWidth = 1.0f;
+		public int			cullFace = GL.GL_BACK;
+		public int			frontFace = GL.GL_CCW;
+
+		// GL_LIGHTING_BIT
+		public int			shadeModel = GL2.GL_SMOOTH;
+		public int			colorMaterial = GL2.GL_AMBIENT_AND_DIFFUSE;
+		public float[]		sceneAmbient = { 0.2f, 0.2f, 0.2f, 1.0f };
+		public float[]		material = new float[17];
+		public float[][]	lights = new float[LIGHTS][24];
+
+		// GL_CURRENT_BIT
+		public float[]		color = { 1.0f, 1.0f, 1.0f, 1.0f };
+		public float[]		normal = { 0.0f, 0.0f, 1.0f };
+		public float[]		texCoord = { 0.0f, 0.0f };
+
+		// GL_TEXTURE_BIT
+		public int			texture;
+		public int			envMode = GL2.GL_MODULATE;
+
+		// GL_VIEWPORT_BIT
+		public int[]		viewport = new int[4];
+
+		public Settings()
+		{
+			enabled.set(GL.GL_DITHER);
+
+			float[]	m = material;
+
+			m[AMBIENT] = m[AMBIENT + 1] = m[AMBIENT + 2] = 0.2f;
+			m[DIFFUSE] = m[DIFFUSE + 1] = m[DIFFUSE + 2] = 0.8f;
+			m[AMBIENT + 3] = m[DIFFUSE + 3] = 1.0f;
+			m[SPECULAR + 3] = m[EMISSION + 3] = 1.0f;
+
+			for (int i=0; i<LIGHTS; i++)
+			{
+				float[]	l = lights[i];
+				float	c = ((i == 0) ? 1.0f : 0.0f);
+
+				l[AMBIENT + 3] = 1.0f;
+				l[DIFFUSE] = l[DIFFUSE + 1] = l[DIFFUSE + 2] = c;
+				l[SPECULAR] = l[SPECULAR + 1] = l[SPECULAR + 2] = c;
+				l[DIFFUSE + 3] = l[SPECULAR + 3] = 1.0f;
+				l[POSITION + 2] = 1.0f;
+				l[DIRECTION + 2] = -1.0f;
+				l[CUTOFF] = 180.0f;
+				l[CONSTANT] = 1.0f;
+			}
+		}
+
+		public Settings	copy()
+		{
+			Settings	s = new Settings();
+
+			s.restore(this, ~0);
+
+			return s;
+		}
+
+		// Restores the groups in the saved settings' mask.
+		public void	restore(Settings saved)
+		{
+			restore(saved, saved.mask);
+		}
+
+		private void	restore(Settings s, int mask)
+		{
+			if ((mask & GL2.GL_ENABLE_BIT) != 0)
+			{
+				enabled.clear();
+				enabled.or(s.enabled);
+			}
+
+			if ((mask & GL2.GL_COLOR_BUFFER_BIT) != 0)
+			{
+				System.arraycopy(s.clearColor, 0, clearColor, 0, 4);
+				srcFactor = s.srcFactor;
+				dstFactor = s.dstFactor;
+				enabled.set(GL.GL_BLEND, s.enabled.get(GL.GL_BLEND));
+			}
+
+			if ((mask & GL2.GL_DEPTH_BUFFER_BIT) != 0)
+			{
+				clearDepth = s.clearDepth;
+				depthFunc = s.depthFunc;
+				depthMask = s.depthMask;
+				enabled.set(GL.GL_DEPTH_TEST, s.enabled.get(GL.GL_DEPTH_TEST));
+			}
+
+			if ((mask & GL2.GL_POINT_BIT) != 0)
+			{
+				pointSize = s.pointSize;
+				enabled.set(GL2.GL_POINT_SMOOTH,
+							s.enabled.get(GL2.GL_POINT_SMOOTH));
+			}
+
+			if ((mask & GL2.GL_LINE_BIT) != 0)
+				lineWidth = s.lineWidth;
+
+			if ((mask & GL2.GL_POLYGON_BIT) != 0)
+			{
+				cullFace = s.cullFace;
+				frontFace = s.frontFace;
+				enabled.set(GL.GL_CULL_FACE, s.enabled.get(GL.GL_CULL_FACE));
+			}
+
+			if ((mask & GL2.GL_LIGHTING_BIT) != 0)
+			{
+				shadeModel = s.shadeModel;
+				colorMaterial = s.colorMaterial;
+				System.arraycopy(s.sceneAmbient, 0, sceneAmbient, 0, 4);
+				System.arraycopy(s.material, 0, material, 0, material.length);
+
+				for (int i=0; i<LIGHTS; i++)
+				{
+					System.arraycopy(s.lights[i], 0, lights[i], 0,
+									 lights[i].length);
+					enabled.set(GL2.GL_LIGHT0 + i,
+								s.enabled.get(GL2.GL_LIGHT0 + i));
+				}
+
+				enabled.set(GL2.GL_LIGHTING, s.enabled.get(GL2.GL_LIGHTING));
+				enabled.set(GL2.GL_COLOR_MATERIAL,
+							s.enabled.get(GL2.GL_COLOR_MATERIAL));
+			}
+
+			if ((mask & GL2.GL_CURRENT_BIT) != 0)
+			{
+				System.arraycopy(s.color, 0, color, 0, 4);
+				System.arraycopy(s.normal, 0, normal, 0, 3);
+				System.arraycopy(s.texCoord, 0, texCoord, 0, 2);
+			}
+
+			if ((mask & GL2.GL_TEXTURE_BIT) != 0)
+			{
+				texture = s.texture;
+				envMode = s.envMode;
+				enabled.set(GL.GL_TEXTURE_2D, s.enabled.get(GL.GL_TEXTURE_2D));
+			}
+
+			if ((mask & GL2.GL_VIEWPORT_BIT) != 0)
+				System.arraycopy(s.viewport, 0, viewport, 0, 4);
+
+			if ((mask & GL2.GL_TRANSFORM_BIT) != 0)
+				enabled.set(GL2.GL_NORMALIZE, s.enabled.get(GL2.GL_NORMALIZE));
+		}
+	}
+}
+
+//******************************************************************************
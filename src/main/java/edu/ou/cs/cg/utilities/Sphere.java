@@ -0,0 +1,185 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// A stand-in for glutSolidSphere() that doesn't go through a GLU quadric, so
+// it needs no current context to build and draws from a vertex buffer object
+// when one is available. Slices go around the z axis and stacks go along it,
+// as in gluSphere().
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import com.jogamp.opengl.GL2;
+
+//******************************************************************************
+
+/**
+ * The <CODE>Sphere</CODE> class provides a mesh of a unit sphere, with
+ * parameters to set the number of slices and stacks.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class Sphere
+{
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private final int				slices;	// Number of sides around z
+	private final int				stacks;	// Number of bands along z
+
+	private final float[]			data;		// Interleaved, see Mesh
+	private final int[]			indices;	// Triangles
+
+	private Mesh					solid;		// Built on first use
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	public Sphere(int slices, int stacks)
+	{
+		this.slices = slices;
+		this.stacks = stacks;
+
+		data = new float[(slices + 1) * (stacks + 1) * Mesh.STRIDE];
+		indices = new int[slices * stacks * 6];
+
+		calc();
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public int		getSlices()
+	{
+		return slices;
+	}
+
+	public int		getStacks()
+	{
+		return stacks;
+	}
+
+	// Set box to the bounds of the sphere (see Matrix for the layout).
+	public void	getBounds(float[] box)
+	{
+		box[0] = box[1] = box[2] = -1.0f;
+		box[3] = box[4] = box[5] = 1.0f;
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Fills the sphere scaled to the given radius, like glutSolidSphere().
+	public void	fill(GL2 gl, float radius)
+	{
+		boolean	scaled = (radius != 1.0f);
+
+		if (scaled)
+		{
+			gl.glPushMatrix();
+			gl.glScalef(radius, radius, radius);
+		}
+
+		if (!Mesh.isAvailable(gl))
+		{
+			fillImmediate(gl);
+		}
+		else
+		{
+			if (solid == null)
+				solid = new Mesh(GL2.GL_TRIANGLES, data, indices, null);
+
+			solid.draw(gl);
+		}
+
+		if (scaled)
+			gl.glPopMatrix();
+	}
+
+	// Release the buffered mesh, if any.
+	public void	dispose(GL2 gl)
+	{
+		if (solid != null)
+			solid.dispose(gl);
+
+		solid = null;
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	// A grid of (slices + 1) * (stacks + 1) vertices, from the -z pole to the
+	// +z pole. The seam and pole vertices are repeated for the texture
+	// coordinates. Normals are the same as positions on a unit sphere.
+	private void	calc()
+	{
+		int	v = 0;
+
+		for (int j=0; j<=stacks; j++)
+		{
+			double	phi = Math.PI * j / stacks;
+			float	z = (float)-Math.cos(phi);
+			float	r = (float)Math.sin(phi);
+
+			for (int i=0; i<=slices; i++)
+			{
+				double	theta = 2.0 * Math.PI * i / slices;
+				float	x = r * (float)Math.cos(theta);
+				float	y = r * (float)Math.sin(theta);
+
+				Mesh.put(data, v++, x, y, z, x, y, z,
+						 (float)i / slices, (float)j / stacks);
+			}
+		}
+
+		int	k = 0;
+
+		for (int j=0; j<stacks; j++)
+		{
+			for (int i=0; i<slices; i++)
+			{
+				int	a = j * (slices + 1) + i;	// Lower left
+				int	b = a + slices + 1;			// Upper left
+
+				indices[k++] = a;
+				indices[k++] = a + 1;
+				indices[k++] = b + 1;
+
+				indices[k++] = a;
+				indices[k++] = b + 1;
+				indices[k++] = b;
+			}
+		}
+	}
+
+	private void	fillImmediate(GL2 gl)
+	{
+		gl.glBegin(GL2.GL_TRIANGLES);
+
+		for (int k=0; k<indices.length; k++)
+		{
+			int	d = indices[k] * Mesh.STRIDE;
+
+			gl.glNormal3f(data[d + 3], data[d + 4], data[d + 5]);
+			gl.glVertex3f(data[d + 0], data[d + 1], data[d + 2]);
+		}
+
+		gl.glEnd();
+	}
+}
+
+//******************************************************************************
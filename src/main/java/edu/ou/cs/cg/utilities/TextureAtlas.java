@@ -0,0 +1,439 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Packs several images into one texture, so that nodes drawing with any of
+// them can share a single bind. Each image becomes a Region, a Texture that
+// binds the atlas but reports the image's part of it from
+// getImageTexCoords(), which is what Cylinder and Cube map their texture
+// coordinates to. Regions can be handed to nodes in place of the textures.
+//
+// Images are placed with the skyline bottom-left heuristic, tallest first.
+// The width is tried at each power of two from the widest image up to
+// MAX_SIZE, keeping the layout with the least area. Each image is surrounded
+// by PADDING pixels copied from its edges, so that linear filtering and the
+// first few mipmap levels don't blend in neighbors. Smaller mipmap levels
+// still do a little, which is hardly visible at those distances.
+//
+// Until pack() and update() are called, regions cover the whole texture, so
+// they show whatever placeholder it holds. pack() may be called on any
+// thread. The atlas is RGB; images must be RGB or luminance.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.nio.*;
+import java.util.*;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.*;
+import com.jogamp.opengl.util.texture.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>TextureAtlas</CODE> class packs images into one texture.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class TextureAtlas
+{
+	//**********************************************************************
+	// Public Class Members
+	//**********************************************************************
+
+	public static final int		PADDING = 4;		// Pixels around images
+	public static final int		MAX_SIZE = 8192;	// Largest atlas side
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private final Texture			texture;		// Holds the atlas image
+	private final Region[]			regions;
+
+	// Layout from the last pack(), applied to the regions by update()
+	private final int[]			x;
+	private final int[]			y;
+	private final int[]			w;
+	private final int[]			h;
+	private final boolean[]		flip;
+	private int					width;
+	private int					height;
+	private long					used;			// Pixels in images
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// Creates count regions of the texture, which will hold the atlas.
+	public TextureAtlas(Texture texture, int count)
+	{
+		this.texture = texture;
+
+		regions = new Region[count];
+		x = new int[count];
+		y = new int[count];
+		w = new int[count];
+		h = new int[count];
+		flip = new boolean[count];
+
+		for (int i=0; i<count; i++)
+			regions[i] = new Region(texture);
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public Texture	getTexture()
+	{
+		return texture;
+	}
+
+	public int		getCount()
+	{
+		return regions.length;
+	}
+
+	public Texture	getRegion(int i)
+	{
+		return regions[i];
+	}
+
+	// The regions, in the order of the images passed to pack().
+	public Texture[]	getRegions()
+	{
+		return regions.clone();
+	}
+
+	public int		getWidth()
+	{
+		return width;
+	}
+
+	public int		getHeight()
+	{
+		return height;
+	}
+
+	// Fraction of the atlas covered by images, not padding or gaps.
+	public float	getEfficiency()
+	{
+		return ((width * height > 0) ? used / (float)(width * height) : 0.0f);
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Lays out the images, one per region, and returns the atlas image with
+	// mipmaps. Images with mipmaps contribute their full size level.
+	public TextureData	pack(TextureData[] images)
+	{
+		if (images.length != regions.length)
+			throw new IllegalArgumentException("Need one image per region");
+
+		layout(images);
+
+		ByteBuffer	atlas = Buffers.newDirectByteBuffer(width * height * 3);
+
+		used = 0;
+
+		for (int i=0; i<images.length; i++)
+		{
+			copy(images[i], atlas, x[i], y[i]);
+			flip[i] = images[i].getMustFlipVertically();
+			used += (long)w[i] * h[i];
+		}
+
+		TextureData	data = new TextureData(images[0].getGLProfile(),
+										   GL.GL_RGB, width, height, 0,
+										   GL.GL_RGB, GL.GL_UNSIGNED_BYTE,
+										   false, false, false, atlas, null);
+
+		return MipmapCache.build(data);
+	}
+
+	// Puts the atlas image from pack() in the texture and points the regions
+	// at their images. Call on the GL thread.
+	public void	update(GL2 gl, TextureData data)
+	{
+		texture.updateImage(gl, data);
+
+		for (int i=0; i<regions.length; i++)
+		{
+			float	l = (x[i] + PADDING) / (float)width;
+			float	r = (x[i] + PADDING + w[i]) / (float)width;
+			float	b = (y[i] + PADDING) / (float)height;
+			float	t = (y[i] + PADDING + h[i]) / (float)height;
+
+			if (flip[i])
+				regions[i].set(w[i], h[i], new TextureCoords(l, t, r, b));
+			else
+				regions[i].set(w[i], h[i], new TextureCoords(l, b, r, t));
+		}
+	}
+
+	//**********************************************************************
+	// Private Methods (Packing)
+	//**********************************************************************
+
+	// Sets x, y, width, and height to the smallest skyline layout found.
+	private void	layout(TextureData[] images)
+	{
+		int		n = images.length;
+		int[]	pw = new int[n];
+		int[]	ph = new int[n];
+		int		widest = 1;
+
+		for (int i=0; i<n; i++)
+		{
+			w[i] = images[i].getWidth();
+			h[i] = images[i].getHeight();
+			pw[i] = w[i] + 2 * PADDING;
+			ph[i] = h[i] + 2 * PADDING;
+			widest = Math.max(widest, pw[i]);
+		}
+
+		// Tallest first, then widest
+		Integer[]	order = new Integer[n];
+
+		for (int i=0; i<n; i++)
+			order[i] = i;
+
+		Arrays.sort(order, new Comparator<Integer>()
+			{
+				public int	compare(Integer a, Integer b)
+				{
+					if (ph[a] != ph[b])
+						return Integer.compare(ph[b], ph[a]);
+
+					return Integer.compare(pw[b], pw[a]);
+				}
+			});
+
+		int[]	bx = new int[n];
+		int[]	by = new int[n];
+		long	best = Long.MAX_VALUE;
+
+		for (int side=Integer.highestOneBit(widest - 1) << 1;
+			 side <= MAX_SIZE; side <<= 1)
+		{
+			int	top = skyline(order, pw, ph, side, bx, by);
+
+			if ((top <= MAX_SIZE) && ((long)side * top < best))
+			{
+				best = (long)side * top;
+				width = side;
+				height = top;
+				System.arraycopy(bx, 0, x, 0, n);
+				System.arraycopy(by, 0, y, 0, n);
+			}
+		}
+
+		if (best == Long.MAX_VALUE)
+			throw new IllegalArgumentException("Images don't fit in atlas");
+	}
+
+	// Places rectangles in the given order along a skyline of segments
+	// (x, y, width), each at the lowest spot where it fits, leftmost on ties.
+	// Returns the height used.
+	private static int	skyline(Integer[] order, int[] pw, int[] ph,
+									int side, int[] bx, int[] by)
+	{
+		List<int[]>	sky = new ArrayList<int[]>();
+		int			top = 0;
+
+		sky.add(new int[] { 0, 0, side });
+
+		for (int i : order)
+		{
+			int	bestY = Integer.MAX_VALUE;
+			int	bestJ = -1;
+
+			for (int j=0; j<sky.size(); j++)
+			{
+				int	sx = sky.get(j)[0];
+
+				if (sx + pw[i] > side)
+					break;
+
+				// Rest on the highest segment under the rectangle
+				int	sy = 0;
+
+				for (int k=j; (k < sky.size()) && (sky.get(k)[0] < sx + pw[i]);
+					 k++)
+					sy = Math.max(sy, sky.get(k)[1]);
+
+				if (sy < bestY)
+				{
+					bestY = sy;
+					bestJ = j;
+				}
+			}
+
+			if (bestJ < 0)
+				return Integer.MAX_VALUE;				// Wider than the atlas
+
+			int	sx = sky.get(bestJ)[0];
+
+			bx[i] = sx;
+			by[i] = bestY;
+			top = Math.max(top, bestY + ph[i]);
+
+			// Replace the covered part of the skyline with the new top
+			int	end = sx + pw[i];
+
+			while ((bestJ < sky.size()) && (sky.get(bestJ)[0] < end))
+			{
+				int[]	s = sky.remove(bestJ);
+
+				if (s[0] + s[2] > end)					// Keep the overhang
+				{
+					sky.add(bestJ, new int[] { end, s[1], s[0] + s[2] - end });
+					break;
+				}
+			}
+
+			sky.add(bestJ, new int[] { sx, bestY + ph[i], pw[i] });
+
+			// Merge neighbors at the same height
+			for (int j=sky.size()-1; j>0; j--)
+			{
+				int[]	a = sky.get(j - 1);
+				int[]	b = sky.get(j);
+
+				if (a[1] == b[1])
+				{
+					a[2] += b[2];
+					sky.remove(j);
+				}
+			}
+		}
+
+		return top;
+	}
+
+	// Copies the image into the atlas with its padded corner at (px, py),
+	// repeating its edge pixels out into the padding.
+	private void	copy(TextureData image, ByteBuffer atlas, int px, int py)
+	{
+		int			iw = image.getWidth();
+		int			ih = image.getHeight();
+		int			bpp;
+		ByteBuffer	src;
+
+		if (image.getMipmapData() != null)
+			src = (ByteBuffer)image.getMipmapData()[0];
+		else
+			src = (ByteBuffer)image.getBuffer();
+
+		if (image.getPixelType() != GL.GL_UNSIGNED_BYTE)
+			bpp = 0;
+		else if (image.getPixelFormat() == GL.GL_RGB)
+			bpp = 3;
+		else if (image.getPixelFormat() == GL.GL_LUMINANCE)
+			bpp = 1;
+		else
+			bpp = 0;
+
+		if ((bpp == 0) || ((iw * bpp) % image.getAlignment() != 0))
+			throw new IllegalArgumentException("Atlas images must be " +
+											   "unpadded RGB or luminance");
+
+		int	base = src.position();
+
+		for (int ay=0; ay<ih + 2 * PADDING; ay++)
+		{
+			int	sy = Math.min(Math.max(ay - PADDING, 0), ih - 1);
+			int	row = ((py + ay) * width + px) * 3;
+
+			for (int ax=0; ax<iw + 2 * PADDING; ax++)
+			{
+				int	sx = Math.min(Math.max(ax - PADDING, 0), iw - 1);
+				int	s = base + (sy * iw + sx) * bpp;
+				int	d = row + ax * 3;
+
+				if (bpp == 3)
+				{
+					atlas.put(d, src.get(s));
+					atlas.put(d + 1, src.get(s + 1));
+					atlas.put(d + 2, src.get(s + 2));
+				}
+				else
+				{
+					atlas.put(d, src.get(s));
+					atlas.put(d + 1, src.get(s));
+					atlas.put(d + 2, src.get(s));
+				}
+			}
+		}
+	}
+
+	//**********************************************************************
+	// Public Inner Classes
+	//**********************************************************************
+
+	// A part of an atlas that stands in for one of the packed images. It
+	// binds the whole atlas. Destroying it does nothing; the atlas owns the
+	// OpenGL texture.
+	public static final class Region extends Texture
+	{
+		private final Texture			atlas;
+		private volatile TextureCoords	coords;
+		private int					imageWidth;
+		private int					imageHeight;
+
+		private Region(Texture atlas)
+		{
+			super(atlas.getTextureObject(), atlas.getTarget(), 1, 1, 1, 1,
+				  false);
+
+			this.atlas = atlas;
+			this.coords = new TextureCoords(0.0f, 0.0f, 1.0f, 1.0f);
+			imageWidth = 1;
+			imageHeight = 1;
+		}
+
+		public Texture			getAtlas()
+		{
+			return atlas;
+		}
+
+		public TextureCoords	getImageTexCoords()
+		{
+			return coords;
+		}
+
+		public int				getImageWidth()
+		{
+			return imageWidth;
+		}
+
+		public int				getImageHeight()
+		{
+			return imageHeight;
+		}
+
+		public void			destroy(GL gl)
+		{
+		}
+
+		private void			set(int w, int h, TextureCoords coords)
+		{
+			imageWidth = w;
+			imageHeight = h;
+			this.coords = coords;
+		}
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,142 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// Binds textures, skipping binds of the texture that is already bound while
+// a pass is open. RenderQueue opens a pass around drawing its sorted nodes,
+// so nodes in a row with the same texture key bind it only once. The shapes
+// (Cylinder and Cube) bind through here.
+//
+// Outside a pass every bind is sent, since other code binds textures
+// directly and the last one bound isn't known. Code that binds directly
+// during a pass, such as in a node's depict(), should call invalidate()
+// afterward. The state is kept per thread, since each GL context is used
+// from the thread it's current on, and so are the bind counts.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import com.jogamp.opengl.*;
+import com.jogamp.opengl.util.texture.Texture;
+
+//******************************************************************************
+
+/**
+ * The <CODE>TextureBinding</CODE> class skips redundant texture binds.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class TextureBinding
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final ThreadLocal<State>	STATES =
+		new ThreadLocal<State>()
+		{
+			protected State	initialValue()
+			{
+				return new State();
+			}
+		};
+
+	//**********************************************************************
+	// Public Class Methods (Passes)
+	//**********************************************************************
+
+	// Opens a pass in gl's context, with nothing known to be bound.
+	public static void		begin(GL2 gl)
+	{
+		State	state = STATES.get();
+
+		state.context = getKey(gl);
+		state.name = -1;
+	}
+
+	// Closes the pass. Binds are all sent again.
+	public static void		end(GL2 gl)
+	{
+		STATES.get().context = null;
+	}
+
+	// Forgets the texture bound in the pass, so the next bind is sent.
+	public static void		invalidate(GL2 gl)
+	{
+		STATES.get().name = -1;
+	}
+
+	// Number of binds sent from this thread.
+	public static long		getIssuedCount()
+	{
+		return STATES.get().issued;
+	}
+
+	// Number of binds skipped as redundant on this thread.
+	public static long		getSkippedCount()
+	{
+		return STATES.get().skipped;
+	}
+
+	//**********************************************************************
+	// Public Class Methods
+	//**********************************************************************
+
+	// Binds the texture, unless a pass is open in gl's context and it's
+	// already bound.
+	public static void		bind(GL2 gl, Texture texture)
+	{
+		State	state = STATES.get();
+		int		target = texture.getTarget();
+		int		name = texture.getTextureObject();
+
+		if ((state.context != null) && (state.context == getKey(gl)))
+		{
+			if ((state.name == name) && (state.target == target))
+			{
+				state.skipped++;
+				return;
+			}
+
+			state.target = target;
+			state.name = name;
+		}
+
+		texture.bind(gl);
+		state.issued++;
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static Object	getKey(GL2 gl)
+	{
+		GLContext	context = gl.getContext();
+
+		return ((context != null) ? context : gl);
+	}
+
+	//**********************************************************************
+	// Private Inner Classes
+	//**********************************************************************
+
+	private static final class State
+	{
+		private Object	context;	// Of the open pass, or null
+		private int	target;		// Last bound in the pass
+		private int	name;		// Or -1 if unknown
+		private long	issued;		// Binds sent
+		private long	skipped;	// Binds not sent
+	}
+}
+
+//******************************************************************************
@@ -0,0 +1,337 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+// 20261017 [cg]:	Added finish() to wait for every load.
+//
+//******************************************************************************
+// Notes:
+//
+// Loads image files into textures without holding up the GL thread. load()
+// immediately returns a texture holding a 1x1 gray placeholder image, and
+// hands the file to a pool of worker threads that decode it into TextureData
+// in parallel. Decoded images wait in a queue until upload() replaces each
+// placeholder image with its real one, on the GL thread. Since the Texture
+// object stays the same, nodes that already hold it draw the real image as
+// soon as it arrives.
+//
+// loadAtlas() does the same for a set of images packed into a TextureAtlas,
+// returning its regions. The images are decoded in parallel, and the last
+// one to finish packs the atlas.
+//
+// With a drawable, the loader schedules upload() itself with invoke(), which
+// runs it before the drawable's next display(). Without one, call upload()
+// once per frame until isDone(), or finish() to wait for all of them.
+//
+// Images go through a MipmapCache, so they arrive with mipmaps and are
+// decoded only the first time. Decoding uses the GLProfile of the GL passed
+// to load(). Stand-ins for GL without a profile (such as a GL2Stub) get RGB
+// textures, which suits JPEGs.
+//
+// Uploaded textures use trilinear filtering when they have mipmaps, linear
+// otherwise, and clamp to edge at both ends. A file that fails to decode
+// prints a stack trace and keeps its placeholder.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.jogamp.opengl.*;
+import com.jogamp.opengl.util.texture.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>TextureLoader</CODE> class decodes image files into textures
+ * in the background.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class TextureLoader
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final byte		GRAY = (byte)128;	// Placeholder color
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private final GLAutoDrawable	drawable;	// Runs upload(), or null
+	private final ExecutorService	pool;		// Decoding workers
+
+	private final Queue<Load>		decoded;	// Waiting for upload()
+	private final AtomicInteger	pending;	// Loads not yet uploaded
+	private final GLRunnable		uploader;	// Calls upload() for invoke()
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	// Decodes on one thread per processor.
+	public TextureLoader(GLAutoDrawable drawable)
+	{
+		this(drawable, Runtime.getRuntime().availableProcessors());
+	}
+
+	public TextureLoader(GLAutoDrawable drawable, int threads)
+	{
+		this.drawable = drawable;
+
+		pool = Executors.newFixedThreadPool(Math.max(1, threads),
+											new ThreadFactory()
+			{
+				public Thread	newThread(Runnable r)
+				{
+					Thread	thread = new Thread(r, "TextureLoader");
+
+					thread.setDaemon(true);		// Don't keep the VM alive
+
+					return thread;
+				}
+			});
+
+		decoded = new ConcurrentLinkedQueue<Load>();
+		pending = new AtomicInteger();
+
+		uploader = new GLRunnable()
+			{
+				public boolean	run(GLAutoDrawable d)
+				{
+					upload(d.getGL().getGL2());
+
+					return true;
+				}
+			};
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	// Number of loads not yet uploaded, including failed ones until
+	// upload() notices them.
+	public int		getPending()
+	{
+		return pending.get();
+	}
+
+	public boolean	isDone()
+	{
+		return (pending.get() == 0);
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Returns a placeholder texture and starts decoding the file at the URL
+	// into it. The suffix is a TextureIO file type, such as TextureIO.JPG.
+	// Call on the GL thread.
+	public Texture	load(GL2 gl, URL url, String suffix)
+	{
+		Texture	texture = createPlaceholder(gl);
+		Load	load = new Load(texture, null, gl.getGLProfile(),
+								new URL[] { url }, suffix);
+
+		pending.incrementAndGet();
+		pool.execute(load.part(0));
+
+		return texture;
+	}
+
+	// Like load(), for files to pack into one atlas. Returns its regions,
+	// in the same order as the URLs.
+	public Texture[]	loadAtlas(GL2 gl, URL[] urls, String suffix)
+	{
+		Texture			texture = createPlaceholder(gl);
+		TextureAtlas	atlas = new TextureAtlas(texture, urls.length);
+		Load			load = new Load(texture, atlas, gl.getGLProfile(),
+										urls.clone(), suffix);
+
+		pending.incrementAndGet();
+
+		for (int i=0; i<urls.length; i++)
+			pool.execute(load.part(i));
+
+		return atlas.getRegions();
+	}
+
+	// Uploads every image decoded so far into its texture. Returns the
+	// number uploaded. Call on the GL thread.
+	public int		upload(GL2 gl)
+	{
+		int	n = 0;
+
+		for (Load load = decoded.poll(); load != null; load = decoded.poll())
+		{
+			pending.decrementAndGet();
+
+			if (load.data == null)				// Failed to decode
+				continue;
+
+			if (load.atlas != null)
+				load.atlas.update(gl, load.data);
+			else
+				load.texture.updateImage(gl, load.data);
+
+			setParameters(gl, load.texture,
+						  (load.data.getMipmapData() != null));
+			load.data.flush();
+			n++;
+		}
+
+		return n;
+	}
+
+	// Waits for every load so far to decode and uploads them, for when the
+	// first frame must have real images, as when recording. Call on the GL
+	// thread.
+	public void	finish(GL2 gl)
+	{
+		while (!isDone())
+		{
+			if (upload(gl) > 0)
+				continue;
+
+			try
+			{
+				Thread.sleep(1);
+			}
+			catch (InterruptedException ex)
+			{
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	// Stops the workers. Loads still decoding are dropped.
+	public void	dispose()
+	{
+		pool.shutdownNow();
+	}
+
+	//**********************************************************************
+	// Private Class Methods
+	//**********************************************************************
+
+	private static Texture	createPlaceholder(GL2 gl)
+	{
+		ByteBuffer	pixel = ByteBuffer.allocateDirect(3);
+
+		pixel.put(GRAY).put(GRAY).put(GRAY).flip();
+
+		TextureData	data = new TextureData(gl.getGLProfile(), GL.GL_RGB,
+										   1, 1, 0, GL.GL_RGB,
+										   GL.GL_UNSIGNED_BYTE, false,
+										   false, false, pixel, null);
+		Texture		texture = new Texture(gl, data);
+
+		setParameters(gl, texture, false);
+
+		return texture;
+	}
+
+	private static void	setParameters(GL2 gl, Texture texture,
+										  boolean mipmapped)
+	{
+		texture.setTexParameteri(gl, GL2.GL_TEXTURE_MIN_FILTER,
+								 (mipmapped ? GL2.GL_LINEAR_MIPMAP_LINEAR :
+								  GL2.GL_LINEAR));
+		texture.setTexParameteri(gl, GL2.GL_TEXTURE_MAG_FILTER, GL2.GL_LINEAR);
+		texture.setTexParameteri(gl, GL2.GL_TEXTURE_WRAP_S,
+								 GL2.GL_CLAMP_TO_EDGE);
+		texture.setTexParameteri(gl, GL2.GL_TEXTURE_WRAP_T,
+								 GL2.GL_CLAMP_TO_EDGE);
+	}
+
+	//**********************************************************************
+	// Private Inner Classes
+	//**********************************************************************
+
+	// Decodes one or more files on workers, one part() each. The last part
+	// to finish packs the atlas, if any, then waits in the queue for
+	// upload().
+	private final class Load
+	{
+		private final Texture			texture;
+		private final TextureAtlas		atlas;		// Null for one file
+		private final GLProfile		profile;
+		private final URL[]			urls;
+		private final String			suffix;
+		private final TextureData[]	images;		// Null if failed
+		private final AtomicInteger	remaining;	// Parts to decode
+		private TextureData			data;		// Null if failed
+
+		public Load(Texture texture, TextureAtlas atlas, GLProfile profile,
+					URL[] urls, String suffix)
+		{
+			this.texture = texture;
+			this.atlas = atlas;
+			this.profile = profile;
+			this.urls = urls;
+			this.suffix = suffix;
+
+			images = new TextureData[urls.length];
+			remaining = new AtomicInteger(urls.length);
+		}
+
+		public Runnable	part(final int i)
+		{
+			return new Runnable()
+				{
+					public void	run()
+					{
+						decode(i);
+					}
+				};
+		}
+
+		private void	decode(int i)
+		{
+			try
+			{
+				images[i] = MipmapCache.load(profile, urls[i], suffix);
+			}
+			catch (Exception ex)
+			{
+				ex.printStackTrace();
+			}
+
+			// The decrement publishes images[i] to the last part
+			if (remaining.decrementAndGet() > 0)
+				return;
+
+			try
+			{
+				if (atlas == null)
+					data = images[0];
+				else if (!Arrays.asList(images).contains(null))
+					data = atlas.pack(images);
+			}
+			catch (Exception ex)
+			{
+				ex.printStackTrace();
+			}
+
+			decoded.add(this);
+
+			if (drawable != null)
+				drawable.invoke(false, uploader);
+		}
+	}
+}
+
+//******************************************************************************
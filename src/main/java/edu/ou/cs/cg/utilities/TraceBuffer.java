@@ -0,0 +1,246 @@
+//******************************************************************************
+// Copyright (C) 2026 University of Oklahoma Board of Trustees.
+//******************************************************************************
+// Major Modification History:
+//
+// 20261017 [cg]:	Original file.
+//
+//******************************************************************************
+// Notes:
+//
+// The points a moving object has passed through, oldest first, for drawing
+// its trail. Points are kept in a ring of parallel double arrays with a fixed
+// capacity, so adding one doesn't allocate, and once the ring is full each
+// new point replaces the oldest. Dropping old points only shortens the ring.
+//
+// Each frame the points are packed into one direct FloatBuffer as x, y, r, g,
+// b and streamed into a vertex buffer object, which is orphaned first so the
+// driver doesn't wait for the last frame's draw. They are drawn as one line
+// strip in one glDrawArrays() call, unlit, with colors per vertex. Faded
+// trails ramp from black at the oldest point to full color at the newest.
+//
+// Without vertex buffer objects the packed points are drawn in immediate
+// mode instead, as in ParticleSystem.
+//
+//******************************************************************************
+
+package edu.ou.cs.cg.utilities;
+
+//import java.lang.*;
+import java.nio.FloatBuffer;
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.*;
+
+//******************************************************************************
+
+/**
+ * The <CODE>TraceBuffer</CODE> class is a fixed-capacity ring of points
+ * that draws as a line strip.<P>
+ *
+ * @version %I%, %G%
+ */
+public final class TraceBuffer
+{
+	//**********************************************************************
+	// Private Class Members
+	//**********************************************************************
+
+	private static final int		STRIDE = 5;			// x, y, r, g, b
+	private static final int		BYTES = STRIDE * Buffers.SIZEOF_FLOAT;
+
+	//**********************************************************************
+	// Private Members
+	//**********************************************************************
+
+	private final int				capacity;
+	private final double[]			xs;
+	private final double[]			ys;
+	private int					head;		// Where the next point goes
+	private int					count;		// Points, back from head
+
+	// Streaming
+	private final FloatBuffer		stream;		// Packed vertices
+	private final int[]			ids;		// Vertex buffer id
+	private GLContext				context;	// Where ids[0] is valid
+
+	//**********************************************************************
+	// Constructors and Finalizer
+	//**********************************************************************
+
+	public TraceBuffer(int capacity)
+	{
+		if (capacity < 1)
+			throw new IllegalArgumentException("Need room for a point");
+
+		this.capacity = capacity;
+
+		xs = new double[capacity];
+		ys = new double[capacity];
+
+		stream = Buffers.newDirectFloatBuffer(capacity * STRIDE);
+		ids = new int[1];
+	}
+
+	//**********************************************************************
+	// Getters and Setters
+	//**********************************************************************
+
+	public int		getCapacity()
+	{
+		return capacity;
+	}
+
+	public int		size()
+	{
+		return count;
+	}
+
+	// Point i, counting from the oldest.
+	public double	getX(int i)
+	{
+		return xs[getIndex(i)];
+	}
+
+	public double	getY(int i)
+	{
+		return ys[getIndex(i)];
+	}
+
+	//**********************************************************************
+	// Public Methods
+	//**********************************************************************
+
+	// Adds a point as the newest, replacing the oldest if full.
+	public void	add(double x, double y)
+	{
+		xs[head] = x;
+		ys[head] = y;
+
+		head = ((head + 1 < capacity) ? head + 1 : 0);
+		count = Math.min(count + 1, capacity);
+	}
+
+	// Drops the oldest points until at most limit are left.
+	public void	trim(int limit)
+	{
+		count = Math.min(count, Math.max(limit, 0));
+	}
+
+	public void	clear()
+	{
+		head = 0;
+		count = 0;
+	}
+
+	// Packs the points into the stream buffer, oldest first, in the given
+	// color, faded toward black with age if fade is true. Returns the number
+	// of vertices packed. Called by draw().
+	public int	pack(float r, float g, float b, boolean fade)
+	{
+		int		k = getIndex(0);
+		float	d = ((fade && (count > 1)) ? 1.0f / (count - 1) : 0.0f);
+
+		stream.clear();
+
+		for (int i=0; i<count; i++)
+		{
+			float	f = (fade ? Math.min(i * d, 1.0f) : 1.0f);
+
+			stream.put((float)xs[k]).put((float)ys[k]);
+			stream.put(r * f).put(g * f).put(b * f);
+
+			k = ((k + 1 < capacity) ? k + 1 : 0);
+		}
+
+		stream.flip();
+
+		return count;
+	}
+
+	// Draws the points as one unlit line strip, at z = 0.
+	public void	draw(GL2 gl, float r, float g, float b, boolean fade)
+	{
+		int	n = pack(r, g, b, fade);
+
+		if (n < 2)
+			return;
+
+		gl.glPushAttrib(GL2.GL_ENABLE_BIT | GL2.GL_CURRENT_BIT);
+		gl.glDisable(GL2.GL_LIGHTING);
+
+		if (Mesh.isAvailable(gl))
+			drawBuffered(gl, n);
+		else
+			drawImmediate(gl, n);
+
+		gl.glPopAttrib();
+	}
+
+	// Release the vertex buffer. It is created again if drawn later.
+	public void	dispose(GL2 gl)
+	{
+		if ((context != null) && (context == gl.getContext()))
+			gl.glDeleteBuffers(1, ids, 0);
+
+		context = null;
+		ids[0] = 0;
+	}
+
+	//**********************************************************************
+	// Private Methods
+	//**********************************************************************
+
+	private int	getIndex(int i)
+	{
+		int	k = head - count + i;
+
+		return ((k < 0) ? k + capacity : k);
+	}
+
+	private void	drawBuffered(GL2 gl, int n)
+	{
+		if ((ids[0] == 0) || (context != gl.getContext()))
+		{
+			gl.glGenBuffers(1, ids, 0);
+			context = gl.getContext();
+		}
+
+		long	bytes = (long)n * BYTES;
+
+		gl.glBindBuffer(GL.GL_ARRAY_BUFFER, ids[0]);
+		gl.glBufferData(GL.GL_ARRAY_BUFFER, (long)capacity * BYTES, null,
+						GL2.GL_STREAM_DRAW);				// Orphan
+		gl.glBufferSubData(GL.GL_ARRAY_BUFFER, 0, bytes, stream);
+
+		gl.glEnableClientState(GL2.GL_VERTEX_ARRAY);
+		gl.glEnableClientState(GL2.GL_COLOR_ARRAY);
+
+		gl.glVertexPointer(2, GL.GL_FLOAT, BYTES, 0);
+		gl.glColorPointer(3, GL.GL_FLOAT, BYTES, 2 * Buffers.SIZEOF_FLOAT);
+
+		gl.glDrawArrays(GL.GL_LINE_STRIP, 0, n);
+
+		gl.glDisableClientState(GL2.GL_COLOR_ARRAY);
+		gl.glDisableClientState(GL2.GL_VERTEX_ARRAY);
+
+		gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+	}
+
+	private void	drawImmediate(GL2 gl, int n)
+	{
+		gl.glBegin(GL.GL_LINE_STRIP);
+
+		for (int i=0; i<n; i++)
+		{
+			int	k = i * STRIDE;
+
+			gl.glColor3f(stream.get(k + 2), stream.get(k + 3),
+						 stream.get(k + 4));
+			gl.glVertex2f(stream.get(k), stream.get(k + 1));
+		}
+
+		gl.glEnd();
+	}
+}
+
+//******************************************************************************
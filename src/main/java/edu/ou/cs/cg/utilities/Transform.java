@@ -6,6 +6,8 @@
 // Major Modification History:
 //
 // 20220416 [weaver]:	Original file.
+// 20261017 [cg]:		Added CPU-side forward and inverse matrices.
+// 20261017 [cg]:		Made Translate, Scale, and Rotate settable for reuse.
 //
 //******************************************************************************
 // Notes:
@@ -14,11 +16,17 @@
 // mode vertex attribute specification, for sake of easier classroom learning.
 // See www.khronos.org/opengl/wiki/Legacy_OpenGL
 //
+// Translate, Scale, and Rotate can be changed in place with set() so that
+// animation doesn't allocate a new transform every frame. Nodes cache the
+// product of their transforms, so call Node.transformChanged() after changing
+// a transform that has been pushed onto a node.
+//
 //******************************************************************************
 
 package edu.ou.cs.cg.utilities;
 
 //import java.lang.*;
+import java.util.Arrays;
 import com.jogamp.opengl.GL2;
 
 //******************************************************************************
@@ -50,6 +58,45 @@ public abstract class Transform
 	// Applies the inverse transform.
 	public abstract void	applyInverse(GL2 gl);
 
+	// Writes the forward transform matrix into m (column-major float[16]).
+	public abstract void	getForward(float[] m);
+
+	// Writes the inverse transform matrix into m (column-major float[16]).
+	public abstract void	getInverse(float[] m);
+
+	//**********************************************************************
+	// Public Class Methods
+	//**********************************************************************
+
+	// Writes the product of the forward matrices into m, in the same order
+	// that applying them one after another to the matrix stack would. Uses
+	// temp as scratch space.
+	public static void	composeForward(Iterable<Transform> ts, float[] m,
+									   float[] temp)
+	{
+		Matrix.identity(m);
+
+		for (Transform t : ts)
+		{
+			t.getForward(temp);
+			Matrix.multiply(m, temp, m);
+		}
+	}
+
+	// Writes the inverse of composeForward() into m, which is the product of
+	// the inverse matrices in reverse order. Uses temp as scratch space.
+	public static void	composeInverse(Iterable<Transform> ts, float[] m,
+									   float[] temp)
+	{
+		Matrix.identity(m);
+
+		for (Transform t : ts)
+		{
+			t.getInverse(temp);
+			Matrix.multiply(temp, m, m);
+		}
+	}
+
 	//**********************************************************************
 	// Inner Classes
 	//**********************************************************************
@@ -60,15 +107,24 @@ public abstract class Transform
 		// Private Members
 		//**************************************************************
 
-		private final float		dx;
-		private final float		dy;
-		private final float		dz;
+		private float		dx;
+		private float		dy;
+		private float		dz;
 
 		//**************************************************************
 		// Constructors and Finalizer
 		//**************************************************************
 
 		public Translate(float dx, float dy, float dz)
+		{
+			set(dx, dy, dz);
+		}
+
+		//**************************************************************
+		// Getters and Setters
+		//**************************************************************
+
+		public void		set(float dx, float dy, float dz)
 		{
 			this.dx = dx;
 			this.dy = dy;
@@ -88,6 +144,16 @@ public abstract class Transform
 		{
 			gl.glTranslatef(-dx, -dy, -dz);
 		}
+
+		public void		getForward(float[] m)
+		{
+			Matrix.translation(m, dx, dy, dz);
+		}
+
+		public void		getInverse(float[] m)
+		{
+			Matrix.translation(m, -dx, -dy, -dz);
+		}
 	}
 
 	public static final class Scale extends Transform
@@ -96,15 +162,24 @@ public abstract class Transform
 		// Private Members
 		//**************************************************************
 
-		private final float		sx;
-		private final float		sy;
-		private final float		sz;
+		private float		sx;
+		private float		sy;
+		private float		sz;
 
 		//**************************************************************
 		// Constructors and Finalizer
 		//**************************************************************
 
 		public Scale(float sx, float sy, float sz)
+		{
+			set(sx, sy, sz);
+		}
+
+		//**************************************************************
+		// Getters and Setters
+		//**************************************************************
+
+		public void		set(float sx, float sy, float sz)
 		{
 			this.sx = sx;
 			this.sy = sy;
@@ -124,6 +199,16 @@ public abstract class Transform
 		{
 			gl.glScalef(1.0f / sx, 1.0f / sy, 1.0f / sz);
 		}
+
+		public void		getForward(float[] m)
+		{
+			Matrix.scaling(m, sx, sy, sz);
+		}
+
+		public void		getInverse(float[] m)
+		{
+			Matrix.scaling(m, 1.0f / sx, 1.0f / sy, 1.0f / sz);
+		}
 	}
 
 	public static final class Rotate extends Transform
@@ -132,16 +217,25 @@ public abstract class Transform
 		// Private Members
 		//**************************************************************
 
-		private final float		ux;
-		private final float		uy;
-		private final float		uz;
-		private final float		beta;
+		private float		ux;
+		private float		uy;
+		private float		uz;
+		private float		beta;
 
 		//**************************************************************
 		// Constructors and Finalizer
 		//**************************************************************
 
 		public Rotate(float ux, float uy, float uz, float beta)
+		{
+			set(ux, uy, uz, beta);
+		}
+
+		//**************************************************************
+		// Getters and Setters
+		//**************************************************************
+
+		public void		set(float ux, float uy, float uz, float beta)
 		{
 			this.ux = ux;
 			this.uy = uy;
@@ -162,6 +256,16 @@ public abstract class Transform
 		{
 			gl.glRotatef(-beta, ux, uy, uz);
 		}
+
+		public void		getForward(float[] m)
+		{
+			Matrix.rotation(m, beta, ux, uy, uz);
+		}
+
+		public void		getInverse(float[] m)
+		{
+			Matrix.rotation(m, -beta, ux, uy, uz);
+		}
 	}
 
 	public static final class Shear extends Transform
@@ -178,7 +282,7 @@ public abstract class Transform
 		private final float		k_zy;
 
 		private final float[]	kforward;
-		//private final float[]	kinverse;
+		private final float[]	kinverse;
 
 		//**************************************************************
 		// Constructors and Finalizer
@@ -202,13 +306,12 @@ public abstract class Transform
 	   			0.0f, 0.0f, 0.0f, 1.0f,
 			};
 
-			//kinverse = new float[16]
-			//{
-	   		//	****, ****, ****, 0.0f,
-	   		//	****, ****, ****, 0.0f,
-	   		//	****, ****, ****, 0.0f,
-	   		//	0.0f, 0.0f, 0.0f, 1.0f,
-			//};
+			kinverse = new float[16];
+
+			// A singular shear has no inverse. Like a Scale by zero, its
+			// inverse then isn't finite.
+			if (!Matrix.invert(kforward, kinverse))
+				Arrays.fill(kinverse, Float.NaN);
 		}
 
 		//**************************************************************
@@ -220,11 +323,21 @@ public abstract class Transform
 			gl.glMultMatrixf(kforward, 0);
 		}
 
-		// Not implemented. (Need to code up 4x4 matrix inverse calculation;
-		// see for instance https://semath.info/src/inverse-cofactor-ex4.html.)
+		// See https://semath.info/src/inverse-cofactor-ex4.html and
+		// Matrix.invert() for the 4x4 matrix inverse calculation.
 		public void		applyInverse(GL2 gl)
 		{
-			//gl.glMultMatrixf(kinverse, 0);
+			gl.glMultMatrixf(kinverse, 0);
+		}
+
+		public void		getForward(float[] m)
+		{
+			Matrix.copy(kforward, m);
+		}
+
+		public void		getInverse(float[] m)
+		{
+			Matrix.copy(kinverse, m);
 		}
 	}
 }